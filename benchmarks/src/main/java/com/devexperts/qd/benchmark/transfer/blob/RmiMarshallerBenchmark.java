@@ -0,0 +1,203 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.devexperts.qd.benchmark.transfer.blob;
+
+import com.devexperts.io.Marshalled;
+import com.devexperts.io.Marshaller;
+import com.devexperts.qd.qtp.socket.ServerSocketTestHelper;
+import com.devexperts.rmi.RMIEndpoint;
+import com.devexperts.rmi.RMIOperation;
+import com.devexperts.rmi.RMIRequest;
+import com.devexperts.rmi.RMIServiceInterface;
+import com.dxfeed.event.market.Quote;
+import com.dxfeed.promise.Promise;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link Marshaller#SERIALIZATION Java serialization} with
+ * {@link Marshaller#binaryForClass(Class) binary typed marshaller} for RMI arguments and results:
+ * a list of small DTOs (maps of primitive values, strings and arrays) and a list of {@link Quote} events.
+ *
+ * <p>{@link #marshal} and {@link #unmarshal} measure the cost of marshalling alone,
+ * {@link #roundTrip} measures latency of an RMI request that echoes the payload through a local connection
+ * with operations that use typed (serialization-based) or binary marshalling.
+ * Run {@link #main} to get the bytes on the wire of every payload and bytes allocated per operation
+ * as {@code gc.alloc.rate.norm} from the GC profiler.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class RmiMarshallerBenchmark {
+    private static final int PAYLOAD_SIZE = 100;
+    private static final long TIMEOUT_MS = 10_000;
+
+    @Param({"dto", "events"})
+    public String payload;
+
+    @Param({"serialization", "binary"})
+    public String marshalling;
+
+    private List<Object> value;
+    private Marshaller<List<Object>> marshaller;
+    private byte[] bytes;
+
+    private RMIEndpoint server;
+    private RMIEndpoint client;
+    private RMIOperation<List<Object>> operation;
+
+    @Setup
+    public void setup() {
+        value = createPayload(payload);
+        marshaller = createMarshaller(marshalling);
+        bytes = Marshalled.forObject(value, marshaller).getBytes();
+    }
+
+    @Setup(Level.Trial)
+    public void connect() throws InterruptedException {
+        server = RMIEndpoint.newBuilder()
+            .withProperties(System.getProperties())
+            .withName("server")
+            .withSide(RMIEndpoint.Side.SERVER)
+            .build();
+        server.getServer().export(list -> list, EchoService.class);
+        String name = UUID.randomUUID().toString();
+        Promise<Integer> portPromise = ServerSocketTestHelper.createPortPromise(name);
+        server.connect(":0[name=" + name + "]");
+        int port = portPromise.await(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+
+        client = RMIEndpoint.newBuilder()
+            .withProperties(System.getProperties())
+            .withName("client")
+            .withSide(RMIEndpoint.Side.CLIENT)
+            .build();
+        CountDownLatch latch = new CountDownLatch(1);
+        client.addEndpointListener(e -> {
+            if (e.isConnected())
+                latch.countDown();
+        });
+        client.connect("localhost:" + port);
+        latch.await();
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        RMIOperation<List<Object>> echo = (RMIOperation) RMIOperation.valueOf("Echo", List.class, "echo", List.class);
+        operation = marshalling.equals("binary") ? echo.withBinaryMarshalling() : echo;
+    }
+
+    @TearDown(Level.Trial)
+    public void disconnect() {
+        client.close();
+        server.close();
+    }
+
+    @Benchmark
+    public byte[] marshal() {
+        return Marshalled.forObject(value, marshaller).getBytes();
+    }
+
+    @Benchmark
+    public List<Object> unmarshal() {
+        return Marshalled.forBytes(bytes, marshaller).getObject();
+    }
+
+    @Benchmark
+    public List<Object> roundTrip() {
+        RMIRequest<List<Object>> request = client.getClient().createRequest(null, operation, value);
+        request.send();
+        return request.getPromise().await(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+    }
+
+    @RMIServiceInterface(name = "Echo")
+    public interface EchoService {
+        public List<Object> echo(List<Object> list);
+    }
+
+    static List<Object> createPayload(String payload) {
+        List<Object> result = new ArrayList<>();
+        for (int i = 0; i < PAYLOAD_SIZE; i++) {
+            switch (payload) {
+            case "dto":
+                Map<String, Object> dto = new LinkedHashMap<>();
+                dto.put("id", (long) i);
+                dto.put("symbol", i % 2 == 0 ? "IBM" : "MSFT");
+                dto.put("price", 100 + i / 4.0);
+                dto.put("active", i % 3 == 0);
+                dto.put("sizes", new int[] {i, i + 1, i + 2});
+                result.add(dto);
+                break;
+            case "events":
+                Quote quote = new Quote(i % 2 == 0 ? "IBM" : "MSFT");
+                quote.setBidPrice(100 + i / 4.0);
+                quote.setAskPrice(100.5 + i / 4.0);
+                quote.setBidSize(i);
+                quote.setAskSize(i + 1);
+                quote.setBidTime(1_700_000_000_000L + i * 1000L);
+                result.add(quote);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown payload " + payload);
+            }
+        }
+        return result;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static Marshaller<List<Object>> createMarshaller(String marshalling) {
+        switch (marshalling) {
+        case "serialization":
+            return (Marshaller) Marshaller.SERIALIZATION;
+        case "binary":
+            return (Marshaller) Marshaller.binaryForClass(List.class);
+        default:
+            throw new IllegalArgumentException("Unknown marshalling " + marshalling);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (String payload : new String[] {"dto", "events"}) {
+            for (String marshalling : new String[] {"serialization", "binary"}) {
+                int size = Marshalled.forObject(createPayload(payload), createMarshaller(marshalling)).getBytes().length;
+                System.out.printf("%-6s %-13s %7d bytes%n", payload, marshalling, size);
+            }
+        }
+        new Runner(new OptionsBuilder()
+            .include(RmiMarshallerBenchmark.class.getSimpleName())
+            .addProfiler("gc")
+            .build()
+        ).run();
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.devexperts.qd.benchmark.transfer.blob;
+
+import com.devexperts.qd.qtp.socket.ServerSocketTestHelper;
+import com.devexperts.rmi.RMIEndpoint;
+import com.devexperts.rmi.RMIException;
+import com.devexperts.rmi.RMIOperation;
+import com.devexperts.rmi.RMIRequest;
+import com.devexperts.rmi.RMIServiceInterface;
+import com.devexperts.rmi.task.RMIContinuation;
+import com.devexperts.rmi.task.RMIStreamReceiver;
+import com.devexperts.rmi.task.RMIStreamSender;
+import com.devexperts.rmi.task.RMITask;
+import com.dxfeed.promise.Promise;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A benchmark for measuring speed of transferring a large result over RMI either as a single response
+ * or as a stream of chunks with {@link RMIStreamSender} and {@link RMIStreamReceiver}.
+ * Peak heap usage of client and server (that run in the same JVM) is printed after each iteration.
+ */
+@BenchmarkMode(value = Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class RmiStreamBenchmark {
+    private static final int ROW_SIZE = 8; // longs per row
+    private static final int WINDOW = 8;
+    private static final long TIMEOUT_MS = 60_000;
+
+    private static final RMIOperation<Long> STREAM_OPERATION =
+        RMIOperation.valueOf(RowService.class, long.class, "streamRows", int.class, int.class);
+
+    @Param({"100000", "1000000"})
+    public int rows;
+
+    // 0 stands for a single response with all rows
+    @Param({"0", "1000", "10000"})
+    public int chunkRows;
+
+    private RMIEndpoint server;
+    private RMIEndpoint client;
+    private RowService service;
+
+    @Setup
+    public void setup() throws InterruptedException {
+        server = RMIEndpoint.newBuilder()
+            .withProperties(System.getProperties())
+            .withName("server")
+            .withSide(RMIEndpoint.Side.SERVER)
+            .build();
+        server.getServer().export(new RowServiceImpl(), RowService.class);
+        String name = UUID.randomUUID().toString();
+        Promise<Integer> portPromise = ServerSocketTestHelper.createPortPromise(name);
+        server.connect(":0[name=" + name + "]");
+        int port = portPromise.await(10_000, TimeUnit.MILLISECONDS);
+
+        client = RMIEndpoint.newBuilder()
+            .withProperties(System.getProperties())
+            .withName("client")
+            .withSide(RMIEndpoint.Side.CLIENT)
+            .build();
+        CountDownLatch latch = new CountDownLatch(1);
+        client.addEndpointListener(e -> {
+            if (e.isConnected())
+                latch.countDown();
+        });
+        client.connect("localhost:" + port);
+        latch.await();
+        service = client.getClient().getProxy(RowService.class);
+    }
+
+    @TearDown
+    public void stop() {
+        client.close();
+        server.close();
+    }
+
+    @Setup(Level.Iteration)
+    public void resetPeakHeap() {
+        System.gc();
+        ManagementFactory.getMemoryPoolMXBeans().forEach(MemoryPoolMXBean::resetPeakUsage);
+    }
+
+    @TearDown(Level.Iteration)
+    public void printPeakHeap() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP)
+                peak += pool.getPeakUsage().getUsed();
+        }
+        System.out.printf("%n[rows=%d, chunkRows=%d] peak heap: %d MB%n", rows, chunkRows, peak >> 20);
+    }
+
+    @Benchmark
+    public long receiveRows() throws RMIException, InterruptedException {
+        if (chunkRows == 0)
+            return service.getRows(rows).length;
+        RMIRequest<Long> request = client.getClient().createRequest(null, STREAM_OPERATION, rows, chunkRows);
+        RMIStreamReceiver<long[]> receiver = RMIStreamReceiver.open(request, long[].class);
+        request.send();
+        long count = 0;
+        for (long[] chunk; (chunk = receiver.poll(TIMEOUT_MS, TimeUnit.MILLISECONDS)) != null;) {
+            count += chunk.length;
+        }
+        request.getBlocking(); // rethrows errors
+        return count;
+    }
+
+    @RMIServiceInterface(name = "Rows")
+    public interface RowService {
+        public long[] getRows(int rows);
+
+        public long streamRows(int rows, int chunkRows);
+    }
+
+    private static class RowServiceImpl implements RowService {
+        @Override
+        public long[] getRows(int rows) {
+            return createRows(0, rows);
+        }
+
+        @Override
+        public long streamRows(int rows, int chunkRows) {
+            RMITask<Long> task = RMITask.current(long.class);
+            RMIStreamSender<long[]> sender = RMIStreamSender.open(long[].class, WINDOW, false);
+            return sendRows(task, sender, 0, rows, chunkRows);
+        }
+
+        // execution thread is released while waiting for credits
+        private static long sendRows(RMITask<Long> task, RMIStreamSender<long[]> sender, int from, int rows,
+            int chunkRows)
+        {
+            for (int i = from; i < rows; i += chunkRows) {
+                if (sender.getCredits() == 0) {
+                    int next = i;
+                    RMIContinuation<Long> continuation = task.suspend(t -> {});
+                    sender.whenCredited().whenDone(p ->
+                        continuation.resume(() -> sendRows(task, sender, next, rows, chunkRows)));
+                    return 0;
+                }
+                sender.trySend(createRows(i, Math.min(chunkRows, rows - i)));
+            }
+            task.completePromise(sender.whenConsumed((long) rows));
+            return 0;
+        }
+
+        private static long[] createRows(int from, int count) {
+            long[] result = new long[count * ROW_SIZE];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = from * ROW_SIZE + i;
+            }
+            return result;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0)
+            args = new String[] { RmiStreamBenchmark.class.getName() };
+        Main.main(args);
+    }
+}
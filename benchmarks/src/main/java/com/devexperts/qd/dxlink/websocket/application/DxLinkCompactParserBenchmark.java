@@ -0,0 +1,183 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.devexperts.qd.dxlink.websocket.application;
+
+import com.devexperts.qd.ng.RecordBuffer;
+import com.dxfeed.api.impl.DXFeedScheme;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing throughput of dxLink FEED_DATA messages in COMPACT format with Quote, Trade or Order events.
+ * Compares parsing directly from frame bytes with {@link DxLinkCompactReader} with decoding of frames into strings
+ * and parsing them with Jackson.
+ *
+ * <p>The score is in events per microsecond. Run {@link #main} to get bytes allocated per event
+ * as {@code gc.alloc.rate.norm} from the GC profiler.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class DxLinkCompactParserBenchmark {
+
+    private static final int EVENT_COUNT = 1000;
+    private static final int SYMBOL_COUNT = 100;
+    private static final int CHANNEL = 1;
+
+    private static final String QUOTE_FIELDS = "[\"eventSymbol\",\"eventTime\",\"sequence\",\"timeNanoPart\"," +
+        "\"bidTime\",\"bidExchangeCode\",\"bidPrice\",\"bidSize\",\"askTime\",\"askExchangeCode\",\"askPrice\"," +
+        "\"askSize\"]";
+    private static final String TRADE_FIELDS = "[\"eventSymbol\",\"eventTime\",\"time\",\"timeNanoPart\"," +
+        "\"sequence\",\"exchangeCode\",\"price\",\"change\",\"size\",\"dayId\",\"dayVolume\",\"dayTurnover\"," +
+        "\"tickDirection\",\"extendedTradingHours\"]";
+    private static final String ORDER_FIELDS = "[\"eventSymbol\",\"eventTime\",\"eventFlags\",\"index\",\"time\"," +
+        "\"sequence\",\"source\",\"price\",\"size\",\"count\",\"side\",\"scope\",\"exchangeCode\",\"marketMaker\"]";
+
+    @Param({"Quote", "Trade", "Order"})
+    private String eventType;
+
+    @Param({"direct", "jackson"})
+    private String parser;
+
+    private ByteBuf message;
+    private DxLinkJsonMessageParser messageParser;
+    private RecordBuffer buffer;
+
+    @Setup
+    public void setup() throws IOException {
+        String contract = eventType.equals("Order") ? "HISTORY" : "TICKER";
+        String fields = eventType.equals("Quote") ? QUOTE_FIELDS : eventType.equals("Trade") ? TRADE_FIELDS :
+            ORDER_FIELDS;
+        buffer = new RecordBuffer();
+        messageParser = new DxLinkJsonMessageParser(new Receiver(), new Delegates(DXFeedScheme.getInstance()));
+        messageParser.read("{\"type\":\"CHANNEL_OPENED\",\"channel\":" + CHANNEL + ",\"service\":\"FEED\"," +
+            "\"parameters\":{\"contract\":\"" + contract + "\"}}");
+        messageParser.read("{\"type\":\"FEED_CONFIG\",\"channel\":" + CHANNEL + ",\"dataFormat\":\"COMPACT\"," +
+            "\"eventFields\":{\"" + eventType + "\":" + fields + "}}");
+        message = Unpooled.wrappedBuffer(generateMessage().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENT_COUNT)
+    public int parse() throws IOException {
+        buffer.clear();
+        if (parser.equals("direct")) {
+            messageParser.read(message);
+        } else {
+            // frames were decoded into strings and parsed with Jackson
+            messageParser.read(message.toString(StandardCharsets.UTF_8));
+        }
+        return buffer.size();
+    }
+
+    private String generateMessage() {
+        Random rnd = new Random(1);
+        StringBuilder sb = new StringBuilder();
+        sb.append("{\"type\":\"FEED_DATA\",\"channel\":").append(CHANNEL).append(",\"data\":[\"")
+            .append(eventType).append("\",[");
+        long time = 1_700_000_000_000L;
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            if (i > 0)
+                sb.append(',');
+            String symbol = "\"SYM" + rnd.nextInt(SYMBOL_COUNT) + "\"";
+            double price = 10 + rnd.nextInt(100_000) / 100.0;
+            time += rnd.nextInt(1000);
+            switch (eventType) {
+            case "Quote":
+                sb.append(symbol).append(",0,").append(i).append(",0,").append(time).append(",\"Q\",")
+                    .append(price).append(',').append(rnd.nextInt(1000)).append(',').append(time).append(",\"Z\",")
+                    .append((Math.round(price * 100) + 1) / 100.0).append(',')
+                    .append(rnd.nextBoolean() ? "\"NaN\"" : "100");
+                break;
+            case "Trade":
+                sb.append(symbol).append(",0,").append(time).append(",0,").append(i).append(",\"Q\",")
+                    .append(price).append(",0.05,").append(rnd.nextInt(1000)).append(",19675,")
+                    .append(rnd.nextInt(1_000_000)).append(',').append(Math.round(price * 100) * 10.0)
+                    .append(",\"UP\",false");
+                break;
+            default:
+                sb.append(symbol).append(",0,0,").append(i + 1).append(',').append(time).append(',').append(i)
+                    .append(",\"NTV\",").append(price).append(',').append(rnd.nextInt(1000) + 1).append(",1,")
+                    .append(rnd.nextBoolean() ? "\"BUY\"" : "\"SELL\"").append(",\"ORDER\",\"Q\",null");
+            }
+        }
+        return sb.append("]]}").toString();
+    }
+
+    private class Receiver implements DxLinkClientReceiver {
+        @Override
+        public void receiveSetup(String version, Long keepaliveTimeout, Long acceptKeepaliveTimeout) {}
+
+        @Override
+        public void receiveError(int channel, String error, String message) {}
+
+        @Override
+        public void receiveAuthState(int channel, String state) {}
+
+        @Override
+        public void receiveKeepalive(int channel) {}
+
+        @Override
+        public void receiveChannelOpened(int channel, String service, String contract) {
+            messageParser.createChannelParser(channel, contract);
+        }
+
+        @Override
+        public void receiveFeedConfig(int channel, Long aggregationPeriod, String dataFormat,
+            Map<String, List<String>> eventFields)
+        {
+            messageParser.updateConfigChannelParser(channel, dataFormat, eventFields);
+        }
+
+        @Override
+        public void receiveFeedData(EventsParser eventsParser) {
+            try {
+                eventsParser.parse(buffer);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(DxLinkCompactParserBenchmark.class.getSimpleName())
+            .addProfiler("gc")
+            .build()
+        ).run();
+    }
+}
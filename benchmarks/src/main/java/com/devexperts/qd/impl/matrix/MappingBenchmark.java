@@ -0,0 +1,117 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.devexperts.qd.impl.matrix;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures lookup of symbol keys in {@link Mapping} of a collector with a large universe of option symbols
+ * like ".AAPL240621C190", as it is done for every incoming record with a non-encodable symbol.
+ * Symbols are looked up by fresh string instances and by chars, as they come from parsers.
+ *
+ * <p>The score is in lookups per microsecond.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class MappingBenchmark {
+
+    private static final int LOOKUP_COUNT = 10_000;
+
+    private static final String[] UNDERLYINGS = {"AAPL", "MSFT", "AMZN", "GOOG", "META", "TSLA", "NVDA", "SPY", "QQQ", "IWM"};
+
+    @Param({"2000000"})
+    private int symbolCount;
+
+    private Mapping mapping;
+    private String[] lookupStrings;
+    private char[][] lookupChars;
+
+    @Setup
+    public void setup() {
+        Mapper mapper = new Mapper(this);
+        String[] symbols = new String[symbolCount];
+        for (int i = 0; i < symbolCount; i++) {
+            symbols[i] = optionSymbol(i);
+            mapper.incMaxCounter(1);
+            mapper.incCounter(mapper.addKey(symbols[i]));
+        }
+        mapping = mapper.getMapping();
+        Random rnd = new Random(1);
+        lookupStrings = new String[LOOKUP_COUNT];
+        lookupChars = new char[LOOKUP_COUNT][];
+        for (int i = 0; i < LOOKUP_COUNT; i++) {
+            String symbol = symbols[rnd.nextInt(symbolCount)];
+            lookupStrings[i] = new String(symbol.toCharArray()); // not the same instance as in mapping
+            lookupChars[i] = symbol.toCharArray();
+        }
+    }
+
+    // e.g. ".AAPL240621C190", unique for each index
+    private static String optionSymbol(int i) {
+        String underlying = UNDERLYINGS[i % UNDERLYINGS.length];
+        i /= UNDERLYINGS.length;
+        int strike = i % 1000;
+        i /= 1000;
+        char type = (i & 1) == 0 ? 'C' : 'P';
+        i >>= 1;
+        int day = 240101 + (i / 28) * 100 + i % 28;
+        return "." + underlying + day + type + strike;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUP_COUNT)
+    public int getKeyByString() {
+        int sum = 0;
+        for (String symbol : lookupStrings) {
+            sum += mapping.getKey(symbol);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUP_COUNT)
+    public int getKeyByChars() {
+        int sum = 0;
+        for (char[] chars : lookupChars) {
+            sum += mapping.getKey(chars, 0, chars.length);
+        }
+        return sum;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(MappingBenchmark.class.getSimpleName())
+            .build()
+        ).run();
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.devexperts.qd.impl.matrix;
+
+import com.devexperts.qd.DataIntField;
+import com.devexperts.qd.DataObjField;
+import com.devexperts.qd.DataRecord;
+import com.devexperts.qd.DataScheme;
+import com.devexperts.qd.QDAgent;
+import com.devexperts.qd.QDCollector;
+import com.devexperts.qd.QDDistributor;
+import com.devexperts.qd.QDTicker;
+import com.devexperts.qd.impl.stripe.StripedFactory;
+import com.devexperts.qd.kit.CompactIntField;
+import com.devexperts.qd.kit.DefaultRecord;
+import com.devexperts.qd.kit.DefaultScheme;
+import com.devexperts.qd.kit.PentaCodec;
+import com.devexperts.qd.ng.RecordBuffer;
+import com.devexperts.qd.ng.RecordCursor;
+import com.devexperts.qd.ng.RecordMode;
+import com.devexperts.qd.ng.RecordSink;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Measures data distribution throughput of a ticker with many subscribed agents when it is published
+ * from multiple threads concurrently. Compares a plain matrix ticker, where all publishers contend on
+ * a single global lock, with a matrix ticker that has built-in
+ * {@link QDCollector.Builder#withLockStripes lock stripes} and with {@link StripedFactory striped} tickers,
+ * where each stripe is a separate ticker. Every published record carries a new value, so that every
+ * update actually changes the storage and is distributed to agents.
+ *
+ * <p>Run {@link #main} to get results for 1 to 32 publisher threads.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class TickerStripingBenchmark {
+
+    private static final int SYMBOLS_PER_THREAD = 1000;
+    private static final int MAX_THREADS = 32;
+    private static final int BATCH_SIZE = 100;
+
+    private static final DataRecord RECORD = new DefaultRecord(0, "Bench_Record", false,
+        new DataIntField[] {
+            new CompactIntField(0, "Bench_Record.Int0"),
+            new CompactIntField(1, "Bench_Record.Int1"),
+            new CompactIntField(2, "Bench_Record.Int2")},
+        new DataObjField[0]
+    );
+
+    private static final DataScheme SCHEME = new DefaultScheme(PentaCodec.INSTANCE, RECORD);
+
+    /**
+     * Ticker implementation: {@code global} is a plain matrix ticker with a single global lock,
+     * {@code segments:N} is a matrix ticker with N lock stripes, {@code striped:N} is a striped ticker
+     * with N stripes.
+     */
+    @Param({"global", "segments:4", "segments:16", "striped:4", "striped:16"})
+    private String ticker;
+
+    @Param({"10", "1000"})
+    private int agents;
+
+    private QDTicker qdTicker;
+    private QDAgent[] agentArray;
+    private Thread consumer;
+    private volatile boolean stopped;
+    private final AtomicInteger threadIndex = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        int stripes = ticker.indexOf(':') < 0 ? 1 : Integer.parseInt(ticker.substring(ticker.indexOf(':') + 1));
+        if (ticker.startsWith("striped")) {
+            // striped factory uses hash striper with the specified number of stripes
+            qdTicker = new StripedFactory(stripes).tickerBuilder().withScheme(SCHEME).build();
+        } else {
+            qdTicker = new MatrixFactory().tickerBuilder().withScheme(SCHEME).withLockStripes(stripes).build();
+        }
+        RecordBuffer sub = RecordBuffer.getInstance(RecordMode.SUBSCRIPTION);
+        for (int i = 0; i < SYMBOLS_PER_THREAD * MAX_THREADS; i++) {
+            sub.add(RECORD, 0, symbol(i));
+        }
+        agentArray = new QDAgent[agents];
+        for (int i = 0; i < agents; i++) {
+            agentArray[i] = qdTicker.agentBuilder().build();
+            sub.rewind();
+            agentArray[i].setSubscription(sub);
+        }
+        sub.release();
+        // single consumer keeps agent queues moving, as connections do in a real multiplexor
+        consumer = new Thread(() -> {
+            while (!stopped) {
+                for (QDAgent agent : agentArray) {
+                    agent.retrieve(RecordSink.VOID);
+                }
+            }
+        }, "Consumer");
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        stopped = true;
+        consumer.join();
+        for (QDAgent agent : agentArray) {
+            agent.close();
+        }
+        qdTicker.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Publisher {
+        private QDDistributor distributor;
+        private RecordBuffer[] batches;
+        private int next;
+        private int value;
+
+        @Setup(Level.Trial)
+        public void setup(TickerStripingBenchmark bench) {
+            distributor = bench.qdTicker.distributorBuilder().build();
+            // each publisher thread owns its own set of symbols
+            int base = (bench.threadIndex.getAndIncrement() % MAX_THREADS) * SYMBOLS_PER_THREAD;
+            batches = new RecordBuffer[SYMBOLS_PER_THREAD / BATCH_SIZE];
+            for (int i = 0; i < batches.length; i++) {
+                RecordBuffer buf = new RecordBuffer();
+                for (int j = 0; j < BATCH_SIZE; j++) {
+                    RecordCursor cur = buf.add(RECORD, 0, symbol(base + i * BATCH_SIZE + j));
+                    cur.setInt(0, i);
+                    cur.setInt(1, j);
+                }
+                batches[i] = buf;
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            distributor.close();
+        }
+
+        RecordBuffer nextBatch() {
+            RecordBuffer buf = batches[next];
+            next = (next + 1) % batches.length;
+            // change value of each record, otherwise ticker ignores repeated updates
+            value++;
+            buf.rewind();
+            for (RecordCursor cur; (cur = buf.writeNext()) != null;) {
+                cur.setInt(2, value);
+            }
+            buf.rewind();
+            return buf;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void distribute(Publisher publisher) {
+        publisher.distributor.process(publisher.nextBatch());
+    }
+
+    private static String symbol(int i) {
+        return "SYMBOL_" + i;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (int threads = 1; threads <= MAX_THREADS; threads <<= 1) {
+            new Runner(new OptionsBuilder()
+                .include(TickerStripingBenchmark.class.getSimpleName())
+                .threads(threads)
+                .build()
+            ).run();
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.devexperts.qd.qtp;
+
+import com.devexperts.io.Chunk;
+import com.devexperts.io.ChunkList;
+import com.devexperts.io.ChunkPool;
+import com.devexperts.io.ChunkedInput;
+import com.devexperts.io.ChunkedOutput;
+import com.devexperts.qd.DataIterator;
+import com.devexperts.qd.DataRecord;
+import com.devexperts.qd.DataScheme;
+import com.devexperts.qd.QDFactory;
+import com.devexperts.qd.ng.RecordBuffer;
+import com.devexperts.qd.ng.RecordCursor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing throughput of binary QTP data messages with Quote, Trade and Order records
+ * from pooled chunks, as they are parsed in socket connections. Compares decoding of CompactInt fields
+ * directly from chunk bytes with decoding via {@link com.devexperts.io.BufferedInput BufferedInput} methods.
+ *
+ * <p>The score is in records per microsecond. Run {@link #main} to get bytes allocated per record
+ * as {@code gc.alloc.rate.norm} from the GC profiler.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class BinaryQTPParserBenchmark {
+
+    private static final int RECORD_COUNT = 10_000;
+    private static final int SYMBOL_COUNT = 1000;
+
+    @Param({"Quote", "Trade", "Order"})
+    private String recordName;
+
+    @Param({"true", "false"})
+    private boolean directDecode;
+
+    private byte[] bytes;
+    private BinaryQTPParser parser;
+    private ChunkedInput input;
+    private CountingConsumer consumer;
+
+    @Setup
+    public void setup() {
+        DataScheme scheme = QDFactory.getDefaultScheme();
+        DataRecord record = scheme.findRecordByName(recordName);
+        if (record == null)
+            throw new IllegalArgumentException("Record " + recordName + " is not found");
+        bytes = compose(scheme, generateData(record));
+        parser = new BinaryQTPParser(scheme);
+        parser.setDirectDecode(directDecode);
+        input = new ChunkedInput();
+        parser.setInput(input);
+        consumer = new CountingConsumer();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORD_COUNT)
+    public int parse() {
+        consumer.count = 0;
+        // bytes are copied into pooled chunks as socket reader does
+        input.addAllToInput(ChunkPool.DEFAULT.copyToChunkList(bytes, 0, bytes.length, this), this);
+        parser.parse(consumer);
+        return consumer.count;
+    }
+
+    private static RecordBuffer generateData(DataRecord record) {
+        Random rnd = new Random(1);
+        RecordBuffer buf = new RecordBuffer();
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            RecordCursor cur = buf.add(record, 0, "SYM" + rnd.nextInt(SYMBOL_COUNT));
+            for (int j = 0; j < record.getIntFieldCount(); j++) {
+                // mix of small and large values
+                cur.setInt(j, rnd.nextBoolean() ? rnd.nextInt(1000) : rnd.nextInt());
+            }
+        }
+        return buf;
+    }
+
+    private static byte[] compose(DataScheme scheme, RecordBuffer data) {
+        BinaryQTPComposer composer = new BinaryQTPComposer(scheme, true);
+        ChunkedOutput output = new ChunkedOutput();
+        composer.setOutput(output);
+        while (composer.visitData(data, MessageType.TICKER_DATA)) {
+            // compose all data
+        }
+        ChunkList chunks = output.getOutput(BinaryQTPParserBenchmark.class);
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        for (Chunk chunk : chunks) {
+            result.write(chunk.getBytes(), chunk.getOffset(), chunk.getLength());
+        }
+        chunks.recycle(BinaryQTPParserBenchmark.class);
+        return result.toByteArray();
+    }
+
+    private static class CountingConsumer extends MessageConsumerAdapter {
+        int count;
+
+        @Override
+        public void processTickerData(DataIterator iterator) {
+            count += ((RecordBuffer) iterator).size(); // parser passes RecordBuffer
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(BinaryQTPParserBenchmark.class.getSimpleName())
+            .addProfiler("gc")
+            .build()
+        ).run();
+    }
+}
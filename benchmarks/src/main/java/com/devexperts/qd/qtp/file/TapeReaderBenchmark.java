@@ -0,0 +1,147 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.devexperts.qd.qtp.file;
+
+import com.devexperts.qd.DataIterator;
+import com.devexperts.qd.DataRecord;
+import com.devexperts.qd.DataScheme;
+import com.devexperts.qd.QDFactory;
+import com.devexperts.qd.ng.RecordBuffer;
+import com.devexperts.qd.ng.RecordCursor;
+import com.devexperts.qd.ng.RecordSource;
+import com.devexperts.qd.qtp.HeartbeatPayload;
+import com.devexperts.qd.qtp.MessageConsumerAdapter;
+import com.devexperts.qd.qtp.MessageType;
+import com.devexperts.transport.stats.ConnectionStats;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures replay throughput of a synthetic tape file at max speed in records per second with pipelined reading,
+ * where the file is read ahead and messages are delivered in a separate thread, and without it,
+ * where everything is done in a single thread.
+ */
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(TapeReaderBenchmark.RECORD_COUNT)
+@State(Scope.Benchmark)
+public class TapeReaderBenchmark {
+
+    static final int RECORD_COUNT = 2_000_000;
+
+    private static final int SYMBOL_COUNT = 10_000;
+    private static final int RECORDS_PER_SECOND = 100;
+    private static final long TIME0 = 1767277800000L; // 2026-01-01 14:30:00 GMT
+
+    @Param({".qds", ".qds.gz"})
+    private String extension;
+
+    private final DataScheme scheme = QDFactory.getDefaultScheme();
+    private final DataRecord record = scheme.findRecordByName("Quote");
+
+    private File dir;
+    private File file;
+
+    @Setup
+    public void setup() throws IOException {
+        dir = Files.createTempDirectory("tape").toFile();
+        file = new File(dir, "tape" + extension);
+        FileWriterParams.Default params = new FileWriterParams.Default();
+        params.setFormat(FileFormat.BINARY);
+        params.setTime(TimestampsType.MESSAGE);
+        FileWriterImpl writer = new FileWriterImpl(file.getPath(), scheme, params).open();
+        writer.addSendMessageType(MessageType.STREAM_DATA);
+        HeartbeatPayload heartbeat = new HeartbeatPayload();
+        RecordBuffer buf = new RecordBuffer();
+        Random rnd = new Random(1);
+        for (int i = 0; i < RECORD_COUNT / RECORDS_PER_SECOND; i++) {
+            heartbeat.setTimeMillis(TIME0 + i * 1000L);
+            writer.visitHeartbeat(heartbeat);
+            buf.clear();
+            for (int j = 0; j < RECORDS_PER_SECOND; j++) {
+                RecordCursor cursor = buf.add(record, 0, "SYM" + rnd.nextInt(SYMBOL_COUNT));
+                for (int k = 0; k < record.getIntFieldCount(); k++) {
+                    cursor.setInt(k, rnd.nextInt(100_000));
+                }
+            }
+            writer.visitData(buf, MessageType.STREAM_DATA);
+        }
+        writer.close();
+    }
+
+    @TearDown
+    public void tearDown() {
+        file.delete();
+        dir.delete();
+    }
+
+    @Benchmark
+    public long pipelined() throws InterruptedException {
+        return read(true);
+    }
+
+    @Benchmark
+    public long sequential() throws InterruptedException {
+        return read(false);
+    }
+
+    private long read(boolean pipelined) throws InterruptedException {
+        FileReaderParams.Default params = new FileReaderParams.Default();
+        params.setSpeed(FileReaderParams.MAX_SPEED);
+        FileReader reader = new FileReader(file.getPath(), new ConnectionStats(), params);
+        reader.setScheme(scheme);
+        reader.setPipelined(pipelined);
+        long[] sum = new long[1];
+        reader.readInto(new MessageConsumerAdapter() {
+            @Override
+            protected void processData(DataIterator iterator, MessageType message) {
+                RecordSource source = (RecordSource) iterator;
+                for (RecordCursor cursor; (cursor = source.next()) != null; ) {
+                    for (int k = 0; k < record.getIntFieldCount(); k++) {
+                        sum[0] += cursor.getInt(k);
+                    }
+                }
+            }
+        });
+        return sum[0];
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(TapeReaderBenchmark.class.getSimpleName())
+            .build()
+        ).run();
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.devexperts.qd.qtp.file;
+
+import com.devexperts.qd.DataIterator;
+import com.devexperts.qd.DataRecord;
+import com.devexperts.qd.DataScheme;
+import com.devexperts.qd.QDAgent;
+import com.devexperts.qd.QDFactory;
+import com.devexperts.qd.QDStream;
+import com.devexperts.qd.ng.RecordBuffer;
+import com.devexperts.qd.ng.RecordCursor;
+import com.devexperts.qd.ng.RecordMode;
+import com.devexperts.qd.ng.RecordSource;
+import com.devexperts.qd.qtp.HeartbeatPayload;
+import com.devexperts.qd.qtp.MessageConsumerAdapter;
+import com.devexperts.qd.qtp.MessageType;
+import com.devexperts.transport.stats.ConnectionStats;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares extraction of a few symbols from a synthetic full-day tape file with and without its {@link SymbolIndex}.
+ * The tape has quotes for {@link #SYMBOL_COUNT} symbols during a 6.5 hours trading session with a heartbeat per second.
+ * The "indexed" benchmark gives subscription to the reader, so that it skips blocks without subscribed symbols.
+ */
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class TapeSymbolIndexBenchmark {
+
+    private static final int SYMBOL_COUNT = 10_000;
+    private static final int SESSION_SECONDS = 23_400;
+    private static final int RECORDS_PER_SECOND = 100;
+    private static final long BLOCK_SIZE = 64 << 10;
+    private static final long TIME0 = 1767277800000L; // 2026-01-01 14:30:00 GMT
+
+    @Param({".qds", ".qds.gz"})
+    private String extension;
+
+    @Param({"1", "10"})
+    private int subscribedSymbols;
+
+    private final DataScheme scheme = QDFactory.getDefaultScheme();
+    private final DataRecord record = scheme.findRecordByName("Quote");
+
+    private File dir;
+    private File file;
+
+    @Setup
+    public void setup() throws IOException {
+        dir = Files.createTempDirectory("tape").toFile();
+        file = new File(dir, "tape" + extension);
+        FileWriterParams.Default params = new FileWriterParams.Default();
+        params.setFormat(FileFormat.BINARY);
+        params.setTime(TimestampsType.MESSAGE);
+        params.setSymbolIndex(BLOCK_SIZE);
+        FileWriterImpl writer = new FileWriterImpl(file.getPath(), scheme, params).open();
+        writer.addSendMessageType(MessageType.STREAM_DATA);
+        HeartbeatPayload heartbeat = new HeartbeatPayload();
+        RecordBuffer buf = new RecordBuffer();
+        Random rnd = new Random(1);
+        for (int i = 0; i < SESSION_SECONDS; i++) {
+            heartbeat.setTimeMillis(TIME0 + i * 1000L);
+            writer.visitHeartbeat(heartbeat);
+            buf.clear();
+            for (int j = 0; j < RECORDS_PER_SECOND; j++) {
+                RecordCursor cursor = buf.add(record, 0, symbol(rnd.nextInt(SYMBOL_COUNT)));
+                for (int k = 0; k < record.getIntFieldCount(); k++) {
+                    cursor.setInt(k, rnd.nextInt(100_000));
+                }
+            }
+            writer.visitData(buf, MessageType.STREAM_DATA);
+        }
+        writer.close();
+    }
+
+    @TearDown
+    public void tearDown() {
+        SymbolIndex.getIndexFile(file.getPath()).delete();
+        file.delete();
+        dir.delete();
+    }
+
+    @Benchmark
+    public long full() throws InterruptedException {
+        return read(false);
+    }
+
+    @Benchmark
+    public long indexed() throws InterruptedException {
+        return read(true);
+    }
+
+    private long read(boolean useIndex) throws InterruptedException {
+        QDStream stream = QDFactory.getDefaultFactory().streamBuilder().withScheme(scheme).build();
+        QDAgent agent = stream.agentBuilder().build();
+        RecordBuffer sub = new RecordBuffer(RecordMode.SUBSCRIPTION);
+        for (int i = 0; i < subscribedSymbols; i++) {
+            sub.add(record, 0, symbol(i * (SYMBOL_COUNT / subscribedSymbols)));
+        }
+        agent.addSubscription(sub);
+        FileReaderParams.Default params = new FileReaderParams.Default();
+        params.setSpeed(FileReaderParams.MAX_SPEED);
+        FileReader reader = new FileReader(file.getPath(), new ConnectionStats(), params);
+        reader.setScheme(scheme);
+        if (useIndex)
+            reader.setSubscription(Collections.singletonList(stream));
+        long[] count = new long[1];
+        reader.readInto(new MessageConsumerAdapter() {
+            @Override
+            protected void processData(DataIterator iterator, MessageType message) {
+                RecordSource source = (RecordSource) iterator;
+                for (RecordCursor cursor; (cursor = source.next()) != null; ) {
+                    if (stream.isSubscribed(cursor.getRecord(), cursor.getCipher(), cursor.getSymbol(), 0))
+                        count[0]++;
+                }
+            }
+        });
+        agent.close();
+        stream.close();
+        return count[0];
+    }
+
+    private static String symbol(int i) {
+        return "SYM" + i;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(TapeSymbolIndexBenchmark.class.getSimpleName())
+            .build()
+        ).run();
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.devexperts.qd.stats;
+
+import com.devexperts.qd.DataScheme;
+import com.devexperts.qd.QDFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures throughput of IO stats updates when the same stats are updated from multiple threads,
+ * as it happens with connector stats that are updated by reader threads of all connections.
+ * Compares plain stats ({@code stripeCount=1}) with striped ones.
+ *
+ * <p>Run {@link #main} to get results for 1 to 64 threads.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class QDStatsStripingBenchmark {
+
+    private static final int MAX_THREADS = 64;
+    private static final int RECORDS_PER_MESSAGE = 10;
+
+    @Param({"1", "16", "64"})
+    private int stripeCount;
+
+    private QDStats stats;
+
+    @Setup
+    public void setup() {
+        DataScheme scheme = QDFactory.getDefaultScheme();
+        QDStats root = new QDStats();
+        root.initRoot(QDStats.SType.ANY, scheme, stripeCount);
+        stats = root.create(QDStats.SType.CONNECTIONS);
+    }
+
+    @State(Scope.Thread)
+    public static class Reader {
+        private int rid;
+    }
+
+    /**
+     * Accounts a message with several data records, as binary QTP parser does.
+     */
+    @Benchmark
+    @OperationsPerInvocation(RECORDS_PER_MESSAGE)
+    public void readMessage(Reader reader) {
+        int ridCount = stats.getRidCount();
+        for (int i = 0; i < RECORDS_PER_MESSAGE; i++) {
+            stats.updateIOReadRecordBytes(reader.rid, 20);
+            stats.updateIOReadDataRecord();
+            if (++reader.rid == ridCount)
+                reader.rid = 0;
+        }
+        stats.updateIOReadBytes(RECORDS_PER_MESSAGE * 20 + 5);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (int threads = 1; threads <= MAX_THREADS; threads <<= 1) {
+            new Runner(new OptionsBuilder()
+                .include(QDStatsStripingBenchmark.class.getSimpleName())
+                .threads(threads)
+                .build()
+            ).run();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.dxfeed.api;
+
+import com.dxfeed.event.market.Quote;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures delivery of quotes from publisher to {@link DXFeedSubscription} listener in a local hub endpoint.
+ * Compares regular {@link DXFeedEventListener} that receives new events with {@link DXFeedTransientEventListener}
+ * that receives reused events. Events are delivered in the publishing thread.
+ *
+ * <p>The score is in events per microsecond. Run {@link #main} to get bytes allocated per event
+ * as {@code gc.alloc.rate.norm} from the GC profiler. Both variants include the same cost of publishing.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class DXFeedSubscriptionBenchmark {
+
+    private static final int EVENT_COUNT = 1000;
+
+    @Param({"false", "true"})
+    private boolean transientEvents;
+
+    private DXEndpoint endpoint;
+    private DXFeedSubscription<Quote> subscription;
+    private DXPublisher publisher;
+    private List<Quote> quotes;
+    private double bidPriceSum;
+    private long iteration;
+
+    @Setup
+    public void setup() {
+        endpoint = DXEndpoint.create(DXEndpoint.Role.LOCAL_HUB);
+        endpoint.executor(Runnable::run);
+        publisher = endpoint.getPublisher();
+        subscription = new DXFeedSubscription<>(Quote.class);
+        if (transientEvents) {
+            subscription.addEventListener((DXFeedTransientEventListener<Quote>) this::eventsReceived);
+        } else {
+            subscription.addEventListener(this::eventsReceived);
+        }
+        subscription.attach(endpoint.getFeed());
+        quotes = new ArrayList<>();
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            String symbol = "SYM" + i;
+            subscription.addSymbols(symbol);
+            Quote quote = new Quote(symbol);
+            quote.setAskPrice(i);
+            quotes.add(quote);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        subscription.close();
+        endpoint.close();
+    }
+
+    private void eventsReceived(List<Quote> events) {
+        for (Quote quote : events) {
+            bidPriceSum += quote.getBidPrice();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENT_COUNT)
+    public double deliver() {
+        // ticker does not deliver unchanged quotes
+        double price = ++iteration;
+        for (Quote quote : quotes) {
+            quote.setBidPrice(price);
+        }
+        publisher.publishEvents(quotes);
+        return bidPriceSum;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(DXFeedSubscriptionBenchmark.class.getSimpleName())
+            .addProfiler("gc")
+            .build()
+        ).run();
+    }
+}
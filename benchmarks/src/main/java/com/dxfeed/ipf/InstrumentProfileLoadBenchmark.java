@@ -0,0 +1,178 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.dxfeed.ipf;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares loading of instrument profiles from ".ipf.gz" files with loading from binary ".ipfb" files
+ * either completely with {@link InstrumentProfileReader} or by memory mapping with {@link InstrumentProfileBinaryFile}.
+ * The "mapped" benchmark maps the file and reads symbols of all profiles through views.
+ *
+ * <p>Run {@link #main} to also print heap retained by loaded profiles for each format.
+ */
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class InstrumentProfileLoadBenchmark {
+
+    @Param({"100000", "1000000"})
+    private int size;
+
+    private File gzipFile;
+    private File binaryFile;
+
+    @Setup
+    public void setup() throws IOException {
+        List<InstrumentProfile> profiles = generateProfiles(size);
+        gzipFile = File.createTempFile("profiles", ".ipf.gz");
+        binaryFile = File.createTempFile("profiles", ".ipfb");
+        new InstrumentProfileWriter().writeToFile(gzipFile.getPath(), profiles);
+        new InstrumentProfileWriter().writeToFile(binaryFile.getPath(), profiles);
+    }
+
+    @TearDown
+    public void tearDown() {
+        gzipFile.delete();
+        binaryFile.delete();
+    }
+
+    @Benchmark
+    public List<InstrumentProfile> readGzip() throws IOException {
+        return new InstrumentProfileReader().readFromFile(gzipFile.getPath());
+    }
+
+    @Benchmark
+    public List<InstrumentProfile> readBinary() throws IOException {
+        return new InstrumentProfileReader().readFromFile(binaryFile.getPath());
+    }
+
+    @Benchmark
+    public int mapped() throws IOException {
+        InstrumentProfileBinaryFile file = InstrumentProfileBinaryFile.open(binaryFile.getPath());
+        int hash = 0;
+        for (InstrumentProfileView view : file.getViews()) {
+            hash += view.getSymbol().hashCode();
+        }
+        return hash;
+    }
+
+    static List<InstrumentProfile> generateProfiles(int size) {
+        Random rnd = new Random(1);
+        List<InstrumentProfile> profiles = new ArrayList<>(size);
+        int underlyingCount = Math.max(1, size / 1000);
+        for (int i = 0; i < size; i++) {
+            InstrumentProfile ip = new InstrumentProfile();
+            String underlying = "U" + rnd.nextInt(underlyingCount);
+            if (i < underlyingCount) {
+                ip.setType("STOCK");
+                ip.setSymbol("U" + i);
+                ip.setDescription("Stock number " + i);
+                ip.setCountry("US");
+                ip.setOPOL("XNAS");
+                ip.setExchanges("ARCX;BATS;XNAS;XNYS");
+                ip.setCurrency("USD");
+                ip.setCFI("ESXXXX");
+                ip.setICB(1000 + rnd.nextInt(9000));
+                ip.setSIC(100 + rnd.nextInt(9900));
+                ip.setTradingHours("NYSE()");
+            } else {
+                int expiration = 19000 + rnd.nextInt(1000);
+                double strike = 5 * rnd.nextInt(100);
+                boolean call = rnd.nextBoolean();
+                ip.setType("OPTION");
+                ip.setSymbol("." + underlying + expiration + (call ? "C" : "P") + strike);
+                ip.setDescription(underlying + " option " + (call ? "call" : "put") + " " + strike);
+                ip.setCountry("US");
+                ip.setOPOL("OPRA");
+                ip.setExchanges("AMEX;ARCA;BATS;CBOE;ISE;PHLX");
+                ip.setCurrency("USD");
+                ip.setCFI(call ? "OCASPS" : "OPASPS");
+                ip.setMultiplier(100);
+                ip.setUnderlying(underlying);
+                ip.setSPC(100);
+                ip.setMMY(String.valueOf(expiration));
+                ip.setExpiration(expiration);
+                ip.setLastTrade(expiration);
+                ip.setStrike(strike);
+                ip.setOptionType("STD");
+                ip.setExpirationStyle("Regular");
+                ip.setSettlementStyle("Close");
+                ip.setPriceIncrements("0.01 3; 0.05");
+                ip.setTradingHours("OPRA()");
+            }
+            profiles.add(ip);
+        }
+        return profiles;
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        Runtime rt = Runtime.getRuntime();
+        return rt.totalMemory() - rt.freeMemory();
+    }
+
+    private static void printRetainedHeap(String name, Callable<Object> loader) throws Exception {
+        long before = usedHeap();
+        Object result = loader.call();
+        long retained = usedHeap() - before;
+        System.out.printf("%-12s retains %,d bytes (%s)%n", name, retained, result.getClass().getSimpleName());
+    }
+
+    public static void main(String[] args) throws Exception {
+        InstrumentProfileLoadBenchmark benchmark = new InstrumentProfileLoadBenchmark();
+        benchmark.size = 1_000_000;
+        benchmark.setup();
+        try {
+            printRetainedHeap("ipf.gz", benchmark::readGzip);
+            printRetainedHeap("ipfb", benchmark::readBinary);
+            printRetainedHeap("ipfb mapped", () -> InstrumentProfileBinaryFile.open(benchmark.binaryFile.getPath()));
+        } finally {
+            benchmark.tearDown();
+        }
+        runBenchmark();
+    }
+
+    private static void runBenchmark() throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(InstrumentProfileLoadBenchmark.class.getSimpleName())
+            .build()
+        ).run();
+    }
+}
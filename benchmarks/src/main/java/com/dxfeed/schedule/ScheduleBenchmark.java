@@ -0,0 +1,81 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.dxfeed.schedule;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures throughput of {@link Schedule#getSessionByTime} from concurrent threads across
+ * {@link #SCHEDULE_COUNT} schedules of different venues. Lookups are made for random times within a week
+ * around current time, like order validation does.
+ *
+ * <p>Run {@link #main} to measure with 1, 4, 16 and 64 threads.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ScheduleBenchmark {
+
+    private static final int SCHEDULE_COUNT = 500;
+    private static final long TIME_RANGE = TimeUnit.DAYS.toMillis(7);
+
+    private static final String[] TIME_ZONES = {
+        "America/New_York", "America/Chicago", "Europe/London", "Europe/Berlin", "Asia/Tokyo", "Australia/Sydney"
+    };
+
+    private Schedule[] schedules;
+    private long startTime;
+
+    @Setup
+    public void setup() {
+        schedules = new Schedule[SCHEDULE_COUNT];
+        for (int i = 0; i < SCHEDULE_COUNT; i++) {
+            schedules[i] = Schedule.getInstance("(name=VENUE" + i + ";tz=" + TIME_ZONES[i % TIME_ZONES.length] +
+                ";hd=US;sd=US;td=12345;de=+0000;0=p04000930r09301600a16002000)");
+        }
+        startTime = System.currentTimeMillis() - TIME_RANGE / 2;
+    }
+
+    @Benchmark
+    public Session getSessionByTime() {
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+        return schedules[rnd.nextInt(SCHEDULE_COUNT)].getSessionByTime(startTime + rnd.nextLong(TIME_RANGE));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (int threads : new int[] {1, 4, 16, 64}) {
+            new Runner(new OptionsBuilder()
+                .include(ScheduleBenchmark.class.getSimpleName())
+                .threads(threads)
+                .build()
+            ).run();
+        }
+    }
+}
@@ -701,4 +701,61 @@ public abstract class DXFeed {
         subscription.processEvents(events, totalDroppedEvents, aggregationPeriodInfo);
     }
 
+    /**
+     * Returns {@code true} when all event listeners of the subscription are
+     * {@link DXFeedTransientEventListener} instances, so that events and their list that are passed to
+     * {@link #processEvents(DXFeedSubscription, List, long, TimePeriodInfo) processEvents} may be reused
+     * after it returns. This is a protected method for use by {@code DXFeed} implementation classes only.
+     *
+     * @param subscription the subscription.
+     * @return {@code true} when events of the subscription may be reused.
+     */
+    @Internal
+    protected static boolean isTransientEvents(DXFeedSubscription<?> subscription) {
+        return subscription.isTransientEvents();
+    }
+
+    /**
+     * Returns {@code true} when the subscription has installed {@link DXFeedEventListener} instances.
+     * This is a protected method for use by {@code DXFeed} implementation classes only.
+     *
+     * @param subscription the subscription.
+     * @return {@code true} when the subscription has event listeners.
+     */
+    @Internal
+    protected static boolean hasEventListeners(DXFeedSubscription<?> subscription) {
+        return subscription.hasEventListeners();
+    }
+
+    /**
+     * Returns {@code true} when the subscription has installed {@link DXFeedColumnarEventListener} instances.
+     * This is a protected method for use by {@code DXFeed} implementation classes only.
+     *
+     * @param subscription the subscription.
+     * @return {@code true} when the subscription has columnar event listeners.
+     */
+    @Internal
+    protected static boolean hasColumnarEventListeners(DXFeedSubscription<?> subscription) {
+        return subscription.hasColumnarEventListeners();
+    }
+
+    /**
+     * Processes received events in columnar form. This method invokes
+     * {@link DXFeedColumnarEventListener#eventsReceived} on all installed columnar event listeners.
+     * This is a protected method for use by {@code DXFeed} implementation classes only.
+     *
+     * @param <E> the type of events.
+     * @param subscription the subscription whose listeners receive the events.
+     * @param columns the list of received event columns.
+     * @param totalDroppedEvents the cumulative count of all events dropped since the subscription was created.
+     * @param aggregationPeriodInfo the effective aggregation period info to publish via
+     *        {@link DXFeedSubscription#getAggregationPeriodInfo()}; {@link TimePeriodInfo#UNKNOWN} when not available.
+     */
+    @Internal
+    protected static <E> void processEventColumns(DXFeedSubscription<E> subscription,
+        List<EventColumns<? extends E>> columns, long totalDroppedEvents, TimePeriodInfo aggregationPeriodInfo)
+    {
+        subscription.processEventColumns(columns, totalDroppedEvents, aggregationPeriodInfo);
+    }
+
 }
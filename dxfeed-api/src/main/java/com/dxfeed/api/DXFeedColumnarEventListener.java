@@ -0,0 +1,39 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.dxfeed.api;
+
+import java.util.List;
+
+/**
+ * The listener interface for receiving events of the specified type {@code E} in columnar form,
+ * where values of each event property come in a primitive array.
+ * It is installed with {@link DXFeedSubscription#addColumnarEventListener(DXFeedColumnarEventListener)
+ * DXFeedSubscription.addColumnarEventListener} method.
+ *
+ * <p>Columns are filled directly from received data without creation of event objects.
+ * They are reused by the feed and are valid only during the invocation of
+ * {@link #eventsReceived(List) eventsReceived} method, so the listener shall copy the data it needs afterwards.
+ *
+ * @param <E> the type of events.
+ */
+@FunctionalInterface
+public interface DXFeedColumnarEventListener<E> {
+    /**
+     * Invoked when events of type {@code E} are received.
+     * Events of each kind of data record come in a separate {@link EventColumns} instance,
+     * so there can be several instances for the same event type (e.g. for orders from different sources).
+     * The order of events is preserved within each instance.
+     *
+     * @param columns the list of received event columns that are valid only during the invocation of this method.
+     */
+    public void eventsReceived(List<EventColumns<? extends E>> columns);
+}
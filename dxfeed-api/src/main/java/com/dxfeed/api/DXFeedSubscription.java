@@ -187,6 +187,13 @@ import javax.annotation.Nullable;
  * notification completes. It guarantees that the order of events in a given instance of {@code DXFeedSubscription}
  * is preserved.
  *
+ * <p> When all installed event listeners are {@link DXFeedTransientEventListener} instances, then
+ * the feed reuses event objects between notifications, so that high-rate subscriptions can be processed
+ * without allocation of new events.
+ *
+ * <p> Installed {@link DXFeedColumnarEventListener} instances receive the same events in columnar form and
+ * are invoked in the same serial manner, right after event listeners.
+ *
  * <p> This requirement on ordering limits concurrency of event processing. Effectively, each
  * subscription can use at most one CPU core to process its events. If there is a need to simultaneously
  * process events on a large number of symbols and this event processing is so resource-consuming, that
@@ -264,6 +271,8 @@ public class DXFeedSubscription<E> implements Serializable, ObservableSubscripti
     private transient ObservableSubscriptionChangeListener changeListeners;
     private transient volatile Executor executor;
     private transient volatile DXFeedEventListener<E> eventListeners; // fires without synchronization
+    private transient volatile boolean transientEvents; // true when all event listeners accept transient events
+    private transient volatile DXFeedColumnarEventListener<E> columnarEventListeners; // fires without synchronization
 
     // initialized on first use
     private transient Set<?> undecoratedSymbols;
@@ -353,6 +362,8 @@ public class DXFeedSubscription<E> implements Serializable, ObservableSubscripti
             return;
         closed = true;
         eventListeners = null;
+        transientEvents = false;
+        columnarEventListeners = null;
         ObservableSubscriptionChangeListener notifyListeners = changeListeners;
         changeListeners = null;
         if (notifyListeners != null)
@@ -708,6 +719,7 @@ public class DXFeedSubscription<E> implements Serializable, ObservableSubscripti
         if (changeListeners != null && !symbols.isEmpty())
             throw new IllegalStateException("Cannot add event listener to non-empty attached subscription. Add event listeners first");
         eventListeners = addListener(eventListeners, listener, false, EventListeners::new);
+        transientEvents = isTransientEventListener(eventListeners);
     }
 
     /**
@@ -720,6 +732,41 @@ public class DXFeedSubscription<E> implements Serializable, ObservableSubscripti
         if (listener == null)
             throw new NullPointerException();
         eventListeners = removeListener(eventListeners, listener, EventListeners::new);
+        transientEvents = isTransientEventListener(eventListeners);
+    }
+
+    /**
+     * Adds listener for events in columnar form.
+     * Columnar event listener can be added only when subscription is not producing any events,
+     * the same as {@link #addEventListener(DXFeedEventListener) event listener}.
+     * Columnar event listeners are not serialized.
+     *
+     * This method does nothing if this subscription is closed.
+     *
+     * @param listener the columnar event listener.
+     * @throws NullPointerException if listener is null.
+     * @throws IllegalStateException if subscription is attached and is not empty.
+     */
+    public synchronized void addColumnarEventListener(DXFeedColumnarEventListener<E> listener) {
+        if (listener == null)
+            throw new NullPointerException();
+        if (closed)
+            return;
+        if (changeListeners != null && !symbols.isEmpty())
+            throw new IllegalStateException("Cannot add event listener to non-empty attached subscription. Add event listeners first");
+        columnarEventListeners = addListener(columnarEventListeners, listener, false, ColumnarEventListeners::new);
+    }
+
+    /**
+     * Removes listener for events in columnar form.
+     *
+     * @param listener the columnar event listener.
+     * @throws NullPointerException if listener is null.
+     */
+    public synchronized void removeColumnarEventListener(DXFeedColumnarEventListener<E> listener) {
+        if (listener == null)
+            throw new NullPointerException();
+        columnarEventListeners = removeListener(columnarEventListeners, listener, ColumnarEventListeners::new);
     }
 
     /**
@@ -775,6 +822,34 @@ public class DXFeedSubscription<E> implements Serializable, ObservableSubscripti
 
     //----------------------- package-private API for DXFeed -----------------------
 
+    /**
+     * Returns {@code true} when all installed event listeners are {@link DXFeedTransientEventListener} instances,
+     * so that events delivered to them may be reused. This is a package-private method for use by
+     * {@link DXFeed} class only.
+     */
+    @Internal
+    boolean isTransientEvents() {
+        return transientEvents;
+    }
+
+    /**
+     * Returns {@code true} when there are installed event listeners.
+     * This is a package-private method for use by {@link DXFeed} class only.
+     */
+    @Internal
+    boolean hasEventListeners() {
+        return eventListeners != null;
+    }
+
+    /**
+     * Returns {@code true} when there are installed columnar event listeners.
+     * This is a package-private method for use by {@link DXFeed} class only.
+     */
+    @Internal
+    boolean hasColumnarEventListeners() {
+        return columnarEventListeners != null;
+    }
+
     /**
      * Processes received events. This method invokes {@link DXFeedEventListener#eventsReceived} on all installed
      * event listeners. This is a package-private method for use by {@link DXFeed} class only.
@@ -793,6 +868,27 @@ public class DXFeedSubscription<E> implements Serializable, ObservableSubscripti
             eventListeners.eventsReceived(events);
     }
 
+    /**
+     * Processes received events in columnar form. This method invokes
+     * {@link DXFeedColumnarEventListener#eventsReceived} on all installed columnar event listeners.
+     * This is a package-private method for use by {@link DXFeed} class only.
+     *
+     * @param columns the list of received event columns.
+     * @param totalDroppedEvents the cumulative count of all events dropped since the subscription was created.
+     * @param aggregationPeriodInfo the effective aggregation period info to publish via
+     *        {@link #getAggregationPeriodInfo()}; {@link TimePeriodInfo#UNKNOWN} when not available.
+     */
+    @Internal
+    void processEventColumns(List<EventColumns<? extends E>> columns, long totalDroppedEvents,
+        TimePeriodInfo aggregationPeriodInfo)
+    {
+        this.aggregationPeriodInfo = aggregationPeriodInfo;
+        this.totalDroppedEvents = totalDroppedEvents;
+        DXFeedColumnarEventListener<E> columnarEventListeners = this.columnarEventListeners; // atomic volatile read
+        if (columnarEventListeners != null)
+            columnarEventListeners.eventsReceived(columns);
+    }
+
     //----------------------- protected API for subclasses -----------------------
 
     /**
@@ -961,6 +1057,7 @@ public class DXFeedSubscription<E> implements Serializable, ObservableSubscripti
         init(Arrays.copyOf(eventTypes, eventTypes.length, Class[].class));
         Collections.addAll(symbols, readCompactCollection(in));
         eventListeners = simplifyListener(readCompactCollection(in), EventListeners::new);
+        transientEvents = isTransientEventListener(eventListeners);
         changeListeners = simplifyListener(readCompactCollection(in), ChangeListeners::new);
     }
 
@@ -1030,6 +1127,16 @@ public class DXFeedSubscription<E> implements Serializable, ObservableSubscripti
         return Collections.emptyList();
     }
 
+    private static boolean isTransientEventListener(Object oneOrList) {
+        if (oneOrList instanceof ListenerList) {
+            for (Object o : ((ListenerList<?>) oneOrList).a)
+                if (!(o instanceof DXFeedTransientEventListener))
+                    return false;
+            return true;
+        }
+        return oneOrList instanceof DXFeedTransientEventListener;
+    }
+
     @SuppressWarnings("unchecked")
     private static <L> L simplifyListener(Object[] a, Function<Object[], L> listWrapper) {
         return a.length == 0 ? null : a.length == 1 ? (L) a[0] : listWrapper.apply(a);
@@ -1110,6 +1217,28 @@ public class DXFeedSubscription<E> implements Serializable, ObservableSubscripti
         }
     }
 
+    private static class ColumnarEventListeners<E> extends ListenerList<DXFeedColumnarEventListener<E>>
+        implements DXFeedColumnarEventListener<E>
+    {
+        ColumnarEventListeners(Object[] a) {
+            super(a);
+        }
+
+        @Override
+        @SuppressWarnings({"unchecked"})
+        public void eventsReceived(List<EventColumns<? extends E>> columns) {
+            Throwable error = null;
+            for (Object listener : a) {
+                try {
+                    ((DXFeedColumnarEventListener<E>) listener).eventsReceived(columns);
+                } catch (Throwable e) {
+                    error = e;
+                }
+            }
+            rethrow(error);
+        }
+    }
+
     private static class ChangeListeners extends ListenerList<ObservableSubscriptionChangeListener> implements ObservableSubscriptionChangeListener {
         ChangeListeners(Object[] a) {
             super(a);
@@ -0,0 +1,40 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.dxfeed.api;
+
+import java.util.List;
+
+/**
+ * The listener interface for receiving transient events of the specified type {@code E}
+ * with near-zero allocation rate.
+ *
+ * <p>Events in the list, as well as the list itself, are valid only during the invocation of
+ * {@link #eventsReceived(List) eventsReceived} method. They are pooled by the feed and refilled with new data
+ * for subsequent invocations, so the listener shall copy the data it needs afterwards and shall never keep
+ * references to the events or to the list.
+ *
+ * <p>Events are reused only when all event listeners of the {@link DXFeedSubscription subscription}
+ * are transient event listeners. Otherwise, a fresh list of fresh events is delivered to all of them
+ * like to regular {@link DXFeedEventListener} instances.
+ *
+ * @param <E> the type of events.
+ */
+@FunctionalInterface
+public interface DXFeedTransientEventListener<E> extends DXFeedEventListener<E> {
+    /**
+     * Invoked when events of type {@code E} are received.
+     *
+     * @param events the list of received events that are valid only during the invocation of this method.
+     */
+    @Override
+    public void eventsReceived(List<E> events);
+}
@@ -0,0 +1,232 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.dxfeed.api;
+
+import com.devexperts.annotation.Internal;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Batch of events of the same type in columnar form. Each event property that has a primitive type is
+ * represented by a column of {@code double}, {@code long} or {@code int} values, and event symbols are represented
+ * by a {@link #getSymbols() symbol column}. Values of each event are located at the same row index in all columns.
+ * Only first {@link #size() size} rows of each column are valid.
+ *
+ * <p>Columns are identified by names of the corresponding event properties, e.g. "BidPrice" for
+ * {@link com.dxfeed.event.market.Quote#getBidPrice() Quote.getBidPrice}. Properties of {@code float} type are
+ * represented as {@code double} columns, properties of {@code char}, {@code short}, {@code byte} and {@code boolean}
+ * types are represented as {@code int} columns.
+ *
+ * <p>Instances of this class are reused by the feed, they are valid only during the invocation of
+ * {@link DXFeedColumnarEventListener#eventsReceived DXFeedColumnarEventListener.eventsReceived} method.
+ *
+ * @param <E> the type of events.
+ */
+public final class EventColumns<E> {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Class<E> eventType;
+    private final List<String> doubleNames;
+    private final List<String> longNames;
+    private final List<String> intNames;
+
+    private int size;
+    private Object[] symbols;
+    private final double[][] doubles;
+    private final long[][] longs;
+    private final int[][] ints;
+
+    /**
+     * Creates empty columns for the specified event type. This constructor is used by feed implementations.
+     *
+     * @param eventType the type of events.
+     * @param doubleNames names of {@code double} columns.
+     * @param longNames names of {@code long} columns.
+     * @param intNames names of {@code int} columns.
+     */
+    @Internal
+    public EventColumns(Class<E> eventType, String[] doubleNames, String[] longNames, String[] intNames) {
+        this.eventType = eventType;
+        this.doubleNames = Collections.unmodifiableList(Arrays.asList(doubleNames.clone()));
+        this.longNames = Collections.unmodifiableList(Arrays.asList(longNames.clone()));
+        this.intNames = Collections.unmodifiableList(Arrays.asList(intNames.clone()));
+        symbols = new Object[INITIAL_CAPACITY];
+        doubles = new double[doubleNames.length][INITIAL_CAPACITY];
+        longs = new long[longNames.length][INITIAL_CAPACITY];
+        ints = new int[intNames.length][INITIAL_CAPACITY];
+    }
+
+    /**
+     * Returns the type of events.
+     * @return the type of events.
+     */
+    public Class<E> getEventType() {
+        return eventType;
+    }
+
+    /**
+     * Returns the number of events (rows) in this batch.
+     * @return the number of events in this batch.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the column of event symbols.
+     * @return the column of event symbols.
+     */
+    public Object[] getSymbols() {
+        return symbols;
+    }
+
+    /**
+     * Returns names of {@code double} columns in the order of their indices.
+     * @return names of {@code double} columns.
+     */
+    public List<String> getDoubleColumnNames() {
+        return doubleNames;
+    }
+
+    /**
+     * Returns names of {@code long} columns in the order of their indices.
+     * @return names of {@code long} columns.
+     */
+    public List<String> getLongColumnNames() {
+        return longNames;
+    }
+
+    /**
+     * Returns names of {@code int} columns in the order of their indices.
+     * @return names of {@code int} columns.
+     */
+    public List<String> getIntColumnNames() {
+        return intNames;
+    }
+
+    /**
+     * Returns {@code double} column by its index.
+     * @param index the index of the column.
+     * @return {@code double} column.
+     * @throws IndexOutOfBoundsException if there is no such column.
+     */
+    public double[] getDoubleColumn(int index) {
+        return doubles[index];
+    }
+
+    /**
+     * Returns {@code double} column by its name.
+     * @param name the name of the column.
+     * @return {@code double} column.
+     * @throws IllegalArgumentException if there is no such column.
+     */
+    public double[] getDoubleColumn(String name) {
+        return doubles[indexOf(doubleNames, name)];
+    }
+
+    /**
+     * Returns {@code long} column by its index.
+     * @param index the index of the column.
+     * @return {@code long} column.
+     * @throws IndexOutOfBoundsException if there is no such column.
+     */
+    public long[] getLongColumn(int index) {
+        return longs[index];
+    }
+
+    /**
+     * Returns {@code long} column by its name.
+     * @param name the name of the column.
+     * @return {@code long} column.
+     * @throws IllegalArgumentException if there is no such column.
+     */
+    public long[] getLongColumn(String name) {
+        return longs[indexOf(longNames, name)];
+    }
+
+    /**
+     * Returns {@code int} column by its index.
+     * @param index the index of the column.
+     * @return {@code int} column.
+     * @throws IndexOutOfBoundsException if there is no such column.
+     */
+    public int[] getIntColumn(int index) {
+        return ints[index];
+    }
+
+    /**
+     * Returns {@code int} column by its name.
+     * @param name the name of the column.
+     * @return {@code int} column.
+     * @throws IllegalArgumentException if there is no such column.
+     */
+    public int[] getIntColumn(String name) {
+        return ints[indexOf(intNames, name)];
+    }
+
+    /**
+     * Adds a row for event with the specified symbol and returns its index. Values of the row in all columns
+     * are undefined and shall be set by the caller. This method is used by feed implementations.
+     *
+     * @param symbol the event symbol.
+     * @return the index of the added row.
+     */
+    @Internal
+    public int addRow(Object symbol) {
+        if (size == symbols.length)
+            grow();
+        symbols[size] = symbol;
+        return size++;
+    }
+
+    /**
+     * Removes all rows. This method is used by feed implementations.
+     */
+    @Internal
+    public void clear() {
+        Arrays.fill(symbols, 0, size, null);
+        size = 0;
+    }
+
+    private void grow() {
+        int capacity = symbols.length * 2;
+        symbols = Arrays.copyOf(symbols, capacity);
+        for (int i = 0; i < doubles.length; i++) {
+            doubles[i] = Arrays.copyOf(doubles[i], capacity);
+        }
+        for (int i = 0; i < longs.length; i++) {
+            longs[i] = Arrays.copyOf(longs[i], capacity);
+        }
+        for (int i = 0; i < ints.length; i++) {
+            ints[i] = Arrays.copyOf(ints[i], capacity);
+        }
+    }
+
+    private int indexOf(List<String> names, String name) {
+        int index = names.indexOf(name);
+        if (index < 0)
+            throw new IllegalArgumentException("No column " + name + " in " + this);
+        return index;
+    }
+
+    @Override
+    public String toString() {
+        return "EventColumns{" + eventType.getSimpleName() +
+            ", size=" + size +
+            ", double=" + doubleNames +
+            ", long=" + longNames +
+            ", int=" + intNames +
+            "}";
+    }
+}
@@ -0,0 +1,286 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.dxfeed.ipf;
+
+import com.dxfeed.ipf.impl.InstrumentProfileBinaryFormat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Instrument profiles in binary Instrument Profile Format that are decoded on demand.
+ * Files in binary format are written by {@link InstrumentProfileWriter} when their name ends with ".ipfb".
+ *
+ * <p>Use {@link #open(String)} to map a file into memory. Opening a file reads only its header,
+ * profiles are accessed with {@link #getView(int) views} that decode requested fields directly from the mapped
+ * file, so no memory is retained for profiles that are not used. Strings are decoded once and shared by all profiles.
+ * Use {@link #getProfile(int)} or {@link #getProfiles()} to get regular instrument profiles.
+ *
+ * <p>This class is thread-safe.
+ */
+public final class InstrumentProfileBinaryFile {
+    private final ByteBuffer buffer;
+    private final int size;
+    private final String[] columnNames;
+    private final int[] columnTypes;
+    private final int[] columnPositions;
+    private final int[] standardColumns = new int[InstrumentProfileField.values().length];
+    private final Map<String, Integer> customColumns = new HashMap<>();
+    private final int stringCount;
+    private final int stringOffsetsPosition;
+    private final int stringBytesPosition;
+    private final String[] strings;
+
+    /**
+     * Maps the specified file in binary Instrument Profile Format into memory.
+     *
+     * @param file the file name
+     * @return instrument profiles of the file
+     * @throws InstrumentProfileFormatException if the file does not conform to binary Instrument Profile Format
+     * @throws IOException if an I/O error occurs
+     */
+    public static InstrumentProfileBinaryFile open(String file) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(file), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE)
+                throw new InstrumentProfileFormatException("Binary IPF is too large: " + file);
+            return wrap(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+        }
+    }
+
+    /**
+     * Wraps the specified buffer with instrument profiles in binary Instrument Profile Format.
+     * The data shall start at the position of the buffer, the buffer shall not be modified afterwards.
+     *
+     * @param buffer the buffer with the data
+     * @return instrument profiles of the buffer
+     * @throws InstrumentProfileFormatException if the data does not conform to binary Instrument Profile Format
+     */
+    public static InstrumentProfileBinaryFile wrap(ByteBuffer buffer) throws InstrumentProfileFormatException {
+        return new InstrumentProfileBinaryFile(buffer.slice().order(ByteOrder.BIG_ENDIAN));
+    }
+
+    /**
+     * Returns {@code true} if the specified header starts with the signature of binary Instrument Profile Format.
+     */
+    public static boolean isBinaryHeader(byte[] header, int length) {
+        return length >= 4 && ByteBuffer.wrap(header, 0, 4).getInt() == InstrumentProfileBinaryFormat.MAGIC;
+    }
+
+    private InstrumentProfileBinaryFile(ByteBuffer buffer) throws InstrumentProfileFormatException {
+        this.buffer = buffer;
+        if (buffer.limit() < InstrumentProfileBinaryFormat.HEADER_SIZE ||
+            buffer.getInt(0) != InstrumentProfileBinaryFormat.MAGIC)
+        {
+            throw new InstrumentProfileFormatException("Not a binary IPF");
+        }
+        int version = buffer.getInt(4);
+        if (version != InstrumentProfileBinaryFormat.VERSION)
+            throw new InstrumentProfileFormatException("Unsupported binary IPF version " + version);
+        size = buffer.getInt(8);
+        int columnCount = buffer.getInt(12);
+        stringCount = buffer.getInt(16);
+        int stringBytesLength = buffer.getInt(20);
+        if (size < 0 || columnCount < 0 || stringCount <= 0 || stringBytesLength < 0)
+            throw new InstrumentProfileFormatException("Corrupted binary IPF header");
+
+        long position = InstrumentProfileBinaryFormat.HEADER_SIZE;
+        long columnTablePosition = position;
+        position += 8L * columnCount;
+        stringOffsetsPosition = checkPosition(position);
+        position += 4L * (stringCount + 1);
+        stringBytesPosition = checkPosition(position);
+        position = InstrumentProfileBinaryFormat.align(position + stringBytesLength);
+        strings = new String[stringCount];
+
+        columnNames = new String[columnCount];
+        columnTypes = new int[columnCount];
+        columnPositions = new int[columnCount];
+        Arrays.fill(standardColumns, -1);
+        for (int i = 0; i < columnCount; i++) {
+            int nameIndex = buffer.getInt((int) columnTablePosition + 8 * i);
+            int type = buffer.getInt((int) columnTablePosition + 8 * i + 4);
+            if (nameIndex < 0 || nameIndex >= stringCount || type < InstrumentProfileBinaryFormat.STRING_COLUMN ||
+                type > InstrumentProfileBinaryFormat.DOUBLE_COLUMN)
+            {
+                throw new InstrumentProfileFormatException("Corrupted binary IPF column table");
+            }
+            columnNames[i] = getString(nameIndex);
+            columnTypes[i] = type;
+            columnPositions[i] = checkPosition(position);
+            position += (long) InstrumentProfileBinaryFormat.getValueSize(type) * size;
+            InstrumentProfileField field = InstrumentProfileField.find(columnNames[i]);
+            if (field != null) {
+                if (InstrumentProfileBinaryFormat.getColumnType(field) != type)
+                    throw new InstrumentProfileFormatException("Unexpected type of binary IPF column " + field);
+                standardColumns[field.ordinal()] = i;
+            } else {
+                if (type != InstrumentProfileBinaryFormat.STRING_COLUMN)
+                    throw new InstrumentProfileFormatException("Unexpected type of binary IPF column " + columnNames[i]);
+                customColumns.put(columnNames[i], i);
+            }
+        }
+        checkPosition(position);
+    }
+
+    private int checkPosition(long position) throws InstrumentProfileFormatException {
+        if (position > buffer.limit())
+            throw new InstrumentProfileFormatException("Binary IPF is truncated");
+        return (int) position;
+    }
+
+    /**
+     * Returns number of instrument profiles.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns names of all fields that are present in the file in the order of their columns.
+     */
+    public List<String> getFieldNames() {
+        return Collections.unmodifiableList(Arrays.asList(columnNames));
+    }
+
+    /**
+     * Returns view of the instrument profile with the specified index.
+     *
+     * @param index index of the profile
+     * @return view of the profile
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public InstrumentProfileView getView(int index) {
+        checkIndex(index);
+        return new InstrumentProfileView(this, index);
+    }
+
+    /**
+     * Returns views of all instrument profiles. Views are created on demand.
+     */
+    public List<InstrumentProfileView> getViews() {
+        return new AbstractList<InstrumentProfileView>() {
+            @Override
+            public InstrumentProfileView get(int index) {
+                return getView(index);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /**
+     * Decodes and returns new instrument profile with the specified index.
+     *
+     * @param index index of the profile
+     * @return decoded instrument profile
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public InstrumentProfile getProfile(int index) {
+        checkIndex(index);
+        InstrumentProfile ip = new InstrumentProfile();
+        for (int column = 0; column < columnNames.length; column++) {
+            InstrumentProfileField field = InstrumentProfileField.find(columnNames[column]);
+            switch (columnTypes[column]) {
+            case InstrumentProfileBinaryFormat.INT_COLUMN:
+                field.setNumericField(ip, getInt(column, index));
+                break;
+            case InstrumentProfileBinaryFormat.DOUBLE_COLUMN:
+                field.setNumericField(ip, getDouble(column, index));
+                break;
+            default:
+                String value = getString(column, index);
+                if (field != null)
+                    field.setField(ip, value);
+                else if (!value.isEmpty())
+                    ip.setField(columnNames[column], value);
+            }
+        }
+        return ip;
+    }
+
+    /**
+     * Decodes and returns all instrument profiles.
+     */
+    public List<InstrumentProfile> getProfiles() {
+        List<InstrumentProfile> profiles = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            profiles.add(getProfile(i));
+        }
+        return profiles;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("index=" + index + ", size=" + size);
+    }
+
+    // returns -1 if there is no such column
+    int getStandardColumn(InstrumentProfileField field) {
+        return standardColumns[field.ordinal()];
+    }
+
+    // returns -1 if there is no such column
+    int getCustomColumn(String name) {
+        Integer column = customColumns.get(name);
+        return column == null ? -1 : column;
+    }
+
+    int getColumnType(int column) {
+        return columnTypes[column];
+    }
+
+    int getInt(int column, int index) {
+        return buffer.getInt(columnPositions[column] + 4 * index);
+    }
+
+    double getDouble(int column, int index) {
+        return buffer.getDouble(columnPositions[column] + 8 * index);
+    }
+
+    String getString(int column, int index) {
+        int stringIndex = getInt(column, index);
+        if (stringIndex < 0 || stringIndex >= stringCount)
+            throw new IllegalStateException("Corrupted binary IPF string index " + stringIndex);
+        return getString(stringIndex);
+    }
+
+    private String getString(int stringIndex) {
+        String s = strings[stringIndex]; // Atomic read, strings are immutable and decoded idempotently
+        if (s == null) {
+            int from = buffer.getInt(stringOffsetsPosition + 4 * stringIndex);
+            int to = buffer.getInt(stringOffsetsPosition + 4 * stringIndex + 4);
+            byte[] bytes = new byte[to - from];
+            ByteBuffer dup = buffer.duplicate(); // buffer position is not shared between threads
+            dup.position(stringBytesPosition + from);
+            dup.get(bytes);
+            s = new String(bytes, StandardCharsets.UTF_8);
+            strings[stringIndex] = s;
+        }
+        return s;
+    }
+}
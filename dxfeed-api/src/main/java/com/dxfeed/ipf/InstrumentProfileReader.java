@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2024 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -21,9 +21,12 @@ import com.devexperts.util.SystemProperties;
 import com.dxfeed.ipf.impl.InstrumentProfileParser;
 import com.dxfeed.ipf.live.InstrumentProfileConnection;
 
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URLConnection;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -31,6 +34,8 @@ import java.util.List;
  * Reads instrument profiles from the stream using Instrument Profile Format (IPF).
  * Please see <b>Instrument Profile Format</b> documentation for complete description.
  * This reader automatically uses data formats as specified in the stream.
+ * Streams in binary Instrument Profile Format (see {@link InstrumentProfileBinaryFile}) are recognized by their
+ * header and are decoded completely.
  *
  * <p>This reader is intended for "one time only" usage: create new instances for new IPF reads.
  * <p>Use {@link InstrumentProfileConnection} if support for streaming updates of instrument profiles is needed.
@@ -194,7 +199,10 @@ public class InstrumentProfileReader {
         try (InputStream decompressed = StreamCompression.detectCompressionByHeaderAndDecompress(
             new UncloseableInputStream(in)))
         {
-            List<InstrumentProfile> profiles = read(decompressed);
+            InputStream data = decompressed.markSupported() ? decompressed : new BufferedInputStream(decompressed);
+            if (isBinary(data))
+                return readBinary(data);
+            List<InstrumentProfile> profiles = read(data);
             if (!wasComplete)
                 handleIncomplete(address);
             return profiles;
@@ -204,6 +212,29 @@ public class InstrumentProfileReader {
         }
     }
 
+    private static boolean isBinary(InputStream in) throws IOException {
+        byte[] header = new byte[4];
+        in.mark(header.length);
+        int length = 0;
+        int n;
+        while (length < header.length && (n = in.read(header, length, header.length - length)) > 0) {
+            length += n;
+        }
+        in.reset();
+        return InstrumentProfileBinaryFile.isBinaryHeader(header, length);
+    }
+
+    private List<InstrumentProfile> readBinary(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buf = new byte[64 * 1024];
+        int n;
+        while ((n = in.read(buf)) > 0) {
+            out.write(buf, 0, n);
+        }
+        // strings of binary format are already shared between profiles, so they are not interned
+        return InstrumentProfileBinaryFile.wrap(ByteBuffer.wrap(out.toByteArray())).getProfiles();
+    }
+
     /**
      * @throws InstrumentProfileFormatException if input stream does not conform to the Instrument Profile Format
      * @throws IOException If an I/O error occurs
@@ -0,0 +1,381 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.dxfeed.ipf;
+
+import com.dxfeed.ipf.impl.InstrumentProfileBinaryFormat;
+
+/**
+ * Read-only view of an instrument profile in {@link InstrumentProfileBinaryFile}.
+ * Fields are decoded from the file on each access, the view itself keeps only the index of the profile.
+ * Accessors have the same semantics as the corresponding accessors of {@link InstrumentProfile}:
+ * fields that are absent in the file are empty strings or zeros.
+ *
+ * <p>Use {@link #toInstrumentProfile()} to get a regular instrument profile.
+ */
+public final class InstrumentProfileView {
+    private final InstrumentProfileBinaryFile file;
+    private final int index;
+
+    InstrumentProfileView(InstrumentProfileBinaryFile file, int index) {
+        this.file = file;
+        this.index = index;
+    }
+
+    /**
+     * Returns index of this profile in its file.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns type of instrument.
+     * @see InstrumentProfile#getType()
+     */
+    public String getType() {
+        return getString(InstrumentProfileField.TYPE);
+    }
+
+    /**
+     * Returns identifier of instrument.
+     * @see InstrumentProfile#getSymbol()
+     */
+    public String getSymbol() {
+        return getString(InstrumentProfileField.SYMBOL);
+    }
+
+    /**
+     * Returns description of instrument.
+     * @see InstrumentProfile#getDescription()
+     */
+    public String getDescription() {
+        return getString(InstrumentProfileField.DESCRIPTION);
+    }
+
+    /**
+     * Returns identifier of instrument in national language.
+     * @see InstrumentProfile#getLocalSymbol()
+     */
+    public String getLocalSymbol() {
+        return getString(InstrumentProfileField.LOCAL_SYMBOL);
+    }
+
+    /**
+     * Returns description of instrument in national language.
+     * @see InstrumentProfile#getLocalDescription()
+     */
+    public String getLocalDescription() {
+        return getString(InstrumentProfileField.LOCAL_DESCRIPTION);
+    }
+
+    /**
+     * Returns country of origin.
+     * @see InstrumentProfile#getCountry()
+     */
+    public String getCountry() {
+        return getString(InstrumentProfileField.COUNTRY);
+    }
+
+    /**
+     * Returns official Place Of Listing.
+     * @see InstrumentProfile#getOPOL()
+     */
+    public String getOPOL() {
+        return getString(InstrumentProfileField.OPOL);
+    }
+
+    /**
+     * Returns exchange-specific data.
+     * @see InstrumentProfile#getExchangeData()
+     */
+    public String getExchangeData() {
+        return getString(InstrumentProfileField.EXCHANGE_DATA);
+    }
+
+    /**
+     * Returns list of exchanges where instrument is quoted or traded.
+     * @see InstrumentProfile#getExchanges()
+     */
+    public String getExchanges() {
+        return getString(InstrumentProfileField.EXCHANGES);
+    }
+
+    /**
+     * Returns currency of quotation, pricing and trading.
+     * @see InstrumentProfile#getCurrency()
+     */
+    public String getCurrency() {
+        return getString(InstrumentProfileField.CURRENCY);
+    }
+
+    /**
+     * Returns base currency of currency pair.
+     * @see InstrumentProfile#getBaseCurrency()
+     */
+    public String getBaseCurrency() {
+        return getString(InstrumentProfileField.BASE_CURRENCY);
+    }
+
+    /**
+     * Returns classification of Financial Instruments code.
+     * @see InstrumentProfile#getCFI()
+     */
+    public String getCFI() {
+        return getString(InstrumentProfileField.CFI);
+    }
+
+    /**
+     * Returns international Securities Identifying Number.
+     * @see InstrumentProfile#getISIN()
+     */
+    public String getISIN() {
+        return getString(InstrumentProfileField.ISIN);
+    }
+
+    /**
+     * Returns stock Exchange Daily Official List.
+     * @see InstrumentProfile#getSEDOL()
+     */
+    public String getSEDOL() {
+        return getString(InstrumentProfileField.SEDOL);
+    }
+
+    /**
+     * Returns code of Committee on Uniform Security Identification Procedures.
+     * @see InstrumentProfile#getCUSIP()
+     */
+    public String getCUSIP() {
+        return getString(InstrumentProfileField.CUSIP);
+    }
+
+    /**
+     * Returns industry Classification Benchmark.
+     * @see InstrumentProfile#getICB()
+     */
+    public int getICB() {
+        return getInt(InstrumentProfileField.ICB);
+    }
+
+    /**
+     * Returns standard Industrial Classification.
+     * @see InstrumentProfile#getSIC()
+     */
+    public int getSIC() {
+        return getInt(InstrumentProfileField.SIC);
+    }
+
+    /**
+     * Returns market value multiplier.
+     * @see InstrumentProfile#getMultiplier()
+     */
+    public double getMultiplier() {
+        return getDouble(InstrumentProfileField.MULTIPLIER);
+    }
+
+    /**
+     * Returns product for futures and options on futures.
+     * @see InstrumentProfile#getProduct()
+     */
+    public String getProduct() {
+        return getString(InstrumentProfileField.PRODUCT);
+    }
+
+    /**
+     * Returns primary underlying symbol for options.
+     * @see InstrumentProfile#getUnderlying()
+     */
+    public String getUnderlying() {
+        return getString(InstrumentProfileField.UNDERLYING);
+    }
+
+    /**
+     * Returns shares per contract for options.
+     * @see InstrumentProfile#getSPC()
+     */
+    public double getSPC() {
+        return getDouble(InstrumentProfileField.SPC);
+    }
+
+    /**
+     * Returns additional underlyings for options.
+     * @see InstrumentProfile#getAdditionalUnderlyings()
+     */
+    public String getAdditionalUnderlyings() {
+        return getString(InstrumentProfileField.ADDITIONAL_UNDERLYINGS);
+    }
+
+    /**
+     * Returns maturity month-year.
+     * @see InstrumentProfile#getMMY()
+     */
+    public String getMMY() {
+        return getString(InstrumentProfileField.MMY);
+    }
+
+    /**
+     * Returns day id of expiration.
+     * @see InstrumentProfile#getExpiration()
+     */
+    public int getExpiration() {
+        return getInt(InstrumentProfileField.EXPIRATION);
+    }
+
+    /**
+     * Returns day id of last trading day.
+     * @see InstrumentProfile#getLastTrade()
+     */
+    public int getLastTrade() {
+        return getInt(InstrumentProfileField.LAST_TRADE);
+    }
+
+    /**
+     * Returns strike price for options.
+     * @see InstrumentProfile#getStrike()
+     */
+    public double getStrike() {
+        return getDouble(InstrumentProfileField.STRIKE);
+    }
+
+    /**
+     * Returns type of option.
+     * @see InstrumentProfile#getOptionType()
+     */
+    public String getOptionType() {
+        return getString(InstrumentProfileField.OPTION_TYPE);
+    }
+
+    /**
+     * Returns expiration cycle style.
+     * @see InstrumentProfile#getExpirationStyle()
+     */
+    public String getExpirationStyle() {
+        return getString(InstrumentProfileField.EXPIRATION_STYLE);
+    }
+
+    /**
+     * Returns settlement price determination style.
+     * @see InstrumentProfile#getSettlementStyle()
+     */
+    public String getSettlementStyle() {
+        return getString(InstrumentProfileField.SETTLEMENT_STYLE);
+    }
+
+    /**
+     * Returns minimum allowed price increments.
+     * @see InstrumentProfile#getPriceIncrements()
+     */
+    public String getPriceIncrements() {
+        return getString(InstrumentProfileField.PRICE_INCREMENTS);
+    }
+
+    /**
+     * Returns trading hours specification.
+     * @see InstrumentProfile#getTradingHours()
+     */
+    public String getTradingHours() {
+        return getString(InstrumentProfileField.TRADING_HOURS);
+    }
+
+    /**
+     * Returns field value with a specified name.
+     * @param name name of field.
+     * @return field value.
+     * @see InstrumentProfile#getField(String)
+     */
+    public String getField(String name) {
+        InstrumentProfileField ipf = InstrumentProfileField.find(name);
+        if (ipf == null)
+            return getCustomField(name);
+        switch (InstrumentProfileBinaryFormat.getColumnType(ipf)) {
+        case InstrumentProfileBinaryFormat.INT_COLUMN:
+            return ipf == InstrumentProfileField.EXPIRATION || ipf == InstrumentProfileField.LAST_TRADE ?
+                InstrumentProfileField.formatDate(getInt(ipf)) : InstrumentProfileField.formatNumber(getInt(ipf));
+        case InstrumentProfileBinaryFormat.DOUBLE_COLUMN:
+            return InstrumentProfileField.formatNumber(getDouble(ipf));
+        default:
+            return getString(ipf);
+        }
+    }
+
+    /**
+     * Returns numeric field value with a specified name.
+     * @param name name of field.
+     * @return field value.
+     * @see InstrumentProfile#getNumericField(String)
+     */
+    public double getNumericField(String name) {
+        InstrumentProfileField ipf = InstrumentProfileField.find(name);
+        if (ipf == null) {
+            String value = getCustomField(name);
+            return value.isEmpty() ? 0 :
+                value.length() == 10 && value.charAt(4) == '-' && value.charAt(7) == '-' ?
+                    InstrumentProfileField.parseDate(value) : InstrumentProfileField.parseNumber(value);
+        }
+        switch (InstrumentProfileBinaryFormat.getColumnType(ipf)) {
+        case InstrumentProfileBinaryFormat.INT_COLUMN:
+            return getInt(ipf);
+        case InstrumentProfileBinaryFormat.DOUBLE_COLUMN:
+            return getDouble(ipf);
+        default:
+            throw new IllegalArgumentException("textual field " + ipf);
+        }
+    }
+
+    /**
+     * Returns day id value for a date field with a specified name.
+     * @param name name of field.
+     * @return day id value.
+     * @see InstrumentProfile#getDateField(String)
+     */
+    public int getDateField(String name) {
+        InstrumentProfileField ipf = InstrumentProfileField.find(name);
+        if (ipf != null)
+            return (int) getNumericField(name);
+        String value = getCustomField(name);
+        return value.isEmpty() ? 0 : InstrumentProfileField.parseDate(value);
+    }
+
+    /**
+     * Decodes and returns new instrument profile with all fields of this view.
+     */
+    public InstrumentProfile toInstrumentProfile() {
+        return file.getProfile(index);
+    }
+
+    /**
+     * Returns a string representation of the instrument profile.
+     * @return string representation of the instrument profile.
+     */
+    public String toString() {
+        return getType() + " " + getSymbol();
+    }
+
+    private String getCustomField(String name) {
+        int column = file.getCustomColumn(name);
+        return column < 0 ? "" : file.getString(column, index);
+    }
+
+    private String getString(InstrumentProfileField field) {
+        int column = file.getStandardColumn(field);
+        return column < 0 ? "" : file.getString(column, index);
+    }
+
+    private int getInt(InstrumentProfileField field) {
+        int column = file.getStandardColumn(field);
+        return column < 0 ? 0 : file.getInt(column, index);
+    }
+
+    private double getDouble(InstrumentProfileField field) {
+        int column = file.getStandardColumn(field);
+        return column < 0 ? 0 : file.getDouble(column, index);
+    }
+}
@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2022 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -12,6 +12,8 @@
 package com.dxfeed.ipf;
 
 import com.devexperts.io.UncloseableOutputStream;
+import com.dxfeed.ipf.impl.InstrumentProfileBinaryComposer;
+import com.dxfeed.ipf.impl.InstrumentProfileBinaryFormat;
 import com.dxfeed.ipf.impl.InstrumentProfileComposer;
 
 import java.io.FileOutputStream;
@@ -27,6 +29,9 @@ import java.util.zip.ZipOutputStream;
  * Please see <b>Instrument Profile Format</b> documentation for complete description.
  *
  * <p>This writer automatically derives data formats needed to write all meaningful fields.
+ *
+ * <p>Files with names ending with ".ipfb" (optionally followed by ".zip" or ".gz") are written in binary
+ * Instrument Profile Format. Uncompressed binary files can be memory-mapped with {@link InstrumentProfileBinaryFile}.
  */
 public class InstrumentProfileWriter {
     /**
@@ -40,6 +45,8 @@ public class InstrumentProfileWriter {
      * If file name ends with ".zip" then profiles will be written as a single compressed entry in a "zip" format.
      * If file name ends with ".gz" then profiles will be compressed and written using "gzip" format.
      * In other cases file will be considered uncompressed and profiles will be written as is.
+     * If file name (without compression suffix) ends with ".ipfb" then profiles will be written
+     * in binary Instrument Profile Format.
      *
      * @throws IOException  If an I/O error occurs
      */
@@ -55,6 +62,8 @@ public class InstrumentProfileWriter {
      * If file name ends with ".zip" then profiles will be written as a single compressed entry in a "zip" format.
      * If file name ends with ".gz" then profiles will be compressed and written using "gzip" format.
      * In other cases file will be considered uncompressed and profiles will be written as is.
+     * If name (without compression suffix) ends with ".ipfb" then profiles will be written
+     * in binary Instrument Profile Format.
      *
      * @throws IOException  If an I/O error occurs
      */
@@ -73,10 +82,14 @@ public class InstrumentProfileWriter {
         }
         if (name.toLowerCase().endsWith(".gz")) {
             try (GZIPOutputStream gzip = new GZIPOutputStream(new UncloseableOutputStream(out))) {
-                write(gzip, profiles);
+                write(gzip, name.substring(0, name.length() - ".gz".length()), profiles);
             }
             return;
         }
+        if (InstrumentProfileBinaryFormat.isBinaryName(name)) {
+            writeBinary(out, profiles);
+            return;
+        }
         write(out, profiles);
     }
 
@@ -90,4 +103,14 @@ public class InstrumentProfileWriter {
         composer.compose(profiles, false);
         composer.composeComplete();
     }
+
+    /**
+     * Writes specified instrument profiles into specified stream in binary Instrument Profile Format.
+     * Binary format contains all specified profiles and is always complete.
+     *
+     * @throws IOException  If an I/O error occurs
+     */
+    public void writeBinary(OutputStream out, List<InstrumentProfile> profiles) throws IOException {
+        new InstrumentProfileBinaryComposer(out).compose(profiles);
+    }
 }
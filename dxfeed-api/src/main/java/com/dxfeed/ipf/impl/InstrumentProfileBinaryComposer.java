@@ -0,0 +1,164 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.dxfeed.ipf.impl;
+
+import com.dxfeed.ipf.InstrumentProfile;
+import com.dxfeed.ipf.InstrumentProfileField;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import static com.dxfeed.ipf.impl.InstrumentProfileBinaryFormat.DOUBLE_COLUMN;
+import static com.dxfeed.ipf.impl.InstrumentProfileBinaryFormat.INT_COLUMN;
+import static com.dxfeed.ipf.impl.InstrumentProfileBinaryFormat.STRING_COLUMN;
+
+/**
+ * Composer for binary Instrument Profile Format.
+ * Strings are encoded with a dictionary and numeric fields are written as fixed-width columns,
+ * see {@link InstrumentProfileBinaryFormat} for the layout.
+ * Only fields that are non-empty in at least one profile are written.
+ */
+public class InstrumentProfileBinaryComposer {
+    private final OutputStream out;
+
+    /**
+     * Creates composer for the specified output stream.
+     * @param out output stream to which instrument profiles will be written
+     */
+    public InstrumentProfileBinaryComposer(OutputStream out) {
+        this.out = out;
+    }
+
+    /**
+     * Writes specified instrument profiles. The output stream is flushed but not closed.
+     * @param profiles instrument profiles to write
+     * @throws IOException if an I/O error occurs
+     */
+    public void compose(List<InstrumentProfile> profiles) throws IOException {
+        // Collect columns
+        List<InstrumentProfileField> fields = new ArrayList<>();
+        for (InstrumentProfileField field : InstrumentProfileField.values()) {
+            if (field == InstrumentProfileField.TYPE || field == InstrumentProfileField.SYMBOL || hasValues(field, profiles))
+                fields.add(field);
+        }
+        TreeSet<String> customFields = new TreeSet<>();
+        for (InstrumentProfile ip : profiles) {
+            ip.addNonEmptyCustomFieldNames(customFields);
+        }
+        List<String> names = new ArrayList<>();
+        for (InstrumentProfileField field : fields) {
+            names.add(field.name());
+        }
+        names.addAll(customFields);
+
+        // Build dictionary of column names and string values
+        Dictionary dictionary = new Dictionary();
+        for (String name : names) {
+            dictionary.add(name);
+        }
+        for (String name : names) {
+            InstrumentProfileField field = InstrumentProfileField.find(name);
+            if (field != null && InstrumentProfileBinaryFormat.getColumnType(field) != STRING_COLUMN)
+                continue;
+            for (InstrumentProfile ip : profiles) {
+                dictionary.add(field != null ? field.getField(ip) : ip.getField(name));
+            }
+        }
+
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out, 64 * 1024));
+        // Header
+        data.writeInt(InstrumentProfileBinaryFormat.MAGIC);
+        data.writeInt(InstrumentProfileBinaryFormat.VERSION);
+        data.writeInt(profiles.size());
+        data.writeInt(names.size());
+        data.writeInt(dictionary.strings.size());
+        data.writeInt(dictionary.length);
+        // Column table
+        for (String name : names) {
+            InstrumentProfileField field = InstrumentProfileField.find(name);
+            data.writeInt(dictionary.indexOf(name));
+            data.writeInt(field != null ? InstrumentProfileBinaryFormat.getColumnType(field) : STRING_COLUMN);
+        }
+        // String dictionary
+        int offset = 0;
+        for (byte[] bytes : dictionary.strings) {
+            data.writeInt(offset);
+            offset += bytes.length;
+        }
+        data.writeInt(offset);
+        for (byte[] bytes : dictionary.strings) {
+            data.write(bytes);
+        }
+        while (data.size() != InstrumentProfileBinaryFormat.align(data.size())) {
+            data.writeByte(0);
+        }
+        // Columns
+        for (String name : names) {
+            InstrumentProfileField field = InstrumentProfileField.find(name);
+            int type = field != null ? InstrumentProfileBinaryFormat.getColumnType(field) : STRING_COLUMN;
+            for (InstrumentProfile ip : profiles) {
+                switch (type) {
+                case INT_COLUMN:
+                    data.writeInt((int) field.getNumericField(ip));
+                    break;
+                case DOUBLE_COLUMN:
+                    data.writeDouble(field.getNumericField(ip));
+                    break;
+                default:
+                    data.writeInt(dictionary.indexOf(field != null ? field.getField(ip) : ip.getField(name)));
+                }
+            }
+        }
+        data.flush();
+    }
+
+    private static boolean hasValues(InstrumentProfileField field, List<InstrumentProfile> profiles) {
+        for (InstrumentProfile ip : profiles) {
+            if (field.isNumericField() ? field.getNumericField(ip) != 0 : !field.getField(ip).isEmpty())
+                return true;
+        }
+        return false;
+    }
+
+    private static class Dictionary {
+        final Map<String, Integer> indices = new HashMap<>();
+        final List<byte[]> strings = new ArrayList<>();
+        int length;
+
+        Dictionary() {
+            add("");
+        }
+
+        void add(String s) {
+            if (indices.containsKey(s))
+                return;
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            if (length + bytes.length < 0)
+                throw new IllegalArgumentException("Too many strings for binary Instrument Profile Format");
+            indices.put(s, strings.size());
+            strings.add(bytes);
+            length += bytes.length;
+        }
+
+        int indexOf(String s) {
+            return indices.get(s);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.dxfeed.ipf.impl;
+
+import com.dxfeed.ipf.InstrumentProfileField;
+
+/**
+ * Constants of the binary Instrument Profile Format.
+ *
+ * <p>All numbers are written in big-endian byte order. The file consists of
+ * <ul>
+ * <li>header: magic, version, profile count, column count, string count and length of string bytes (6 ints);</li>
+ * <li>column table: name string index and column type for each column (2 ints per column);</li>
+ * <li>string dictionary: offsets of strings (string count + 1 ints) followed by UTF-8 bytes of all strings,
+ *     the first string is always an empty one;</li>
+ * <li>padding to {@link #ALIGNMENT};</li>
+ * <li>columns: fixed-width values of each column for all profiles, columns follow in the order of column table.
+ *     {@link #STRING_COLUMN} and {@link #INT_COLUMN} values are ints (string index for strings),
+ *     {@link #DOUBLE_COLUMN} values are doubles.</li>
+ * </ul>
+ */
+public final class InstrumentProfileBinaryFormat {
+    private InstrumentProfileBinaryFormat() {} // do not create
+
+    public static final int MAGIC = 0x49504662; // "IPFb"
+    public static final int VERSION = 1;
+    public static final int HEADER_SIZE = 24;
+    public static final int ALIGNMENT = 8;
+
+    public static final int STRING_COLUMN = 0;
+    public static final int INT_COLUMN = 1;
+    public static final int DOUBLE_COLUMN = 2;
+
+    /**
+     * Name suffix of files in binary format.
+     */
+    public static final String EXTENSION = ".ipfb";
+
+    /**
+     * Returns type of the column for the specified standard field.
+     */
+    public static int getColumnType(InstrumentProfileField field) {
+        switch (field) {
+        case ICB:
+        case SIC:
+        case EXPIRATION:
+        case LAST_TRADE:
+            return INT_COLUMN;
+        case MULTIPLIER:
+        case SPC:
+        case STRIKE:
+            return DOUBLE_COLUMN;
+        default:
+            return STRING_COLUMN;
+        }
+    }
+
+    /**
+     * Returns size of a single value in the column of the specified type.
+     */
+    public static int getValueSize(int columnType) {
+        return columnType == DOUBLE_COLUMN ? 8 : 4;
+    }
+
+    /**
+     * Returns {@code true} if the specified name denotes a file in binary format (optionally compressed).
+     */
+    public static boolean isBinaryName(String name) {
+        String s = name.toLowerCase();
+        if (s.endsWith(".gz"))
+            s = s.substring(0, s.length() - ".gz".length());
+        else if (s.endsWith(".zip"))
+            s = s.substring(0, s.length() - ".zip".length());
+        return s.endsWith(EXTENSION);
+    }
+
+    /**
+     * Returns the specified position rounded up to {@link #ALIGNMENT}.
+     */
+    public static long align(long position) {
+        return (position + ALIGNMENT - 1) & -ALIGNMENT;
+    }
+}
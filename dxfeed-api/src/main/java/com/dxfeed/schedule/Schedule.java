@@ -64,6 +64,7 @@ public final class Schedule {
     private static final Logging log = Logging.getLogging(Schedule.class);
 
     private static final String CACHE_LIMIT_PROPERTY = "com.dxfeed.schedule.cache";
+    private static final String WINDOW_PROPERTY = "com.dxfeed.schedule.window";
     private static final String DOWNLOAD_PROPERTY = "com.dxfeed.schedule.download";
     private static final String DOWNLOAD_AUTO = "http://downloads.dxfeed.com/schedule/schedule.zip,1d";
 
@@ -260,7 +261,6 @@ public final class Schedule {
      */
     public Day getDayByTime(long time) {
         checkRange("time", time, MIN_TIME, MAX_TIME);
-        usageCounter.incrementAndGet();
         // Calculate approximate dayId and locate proper Day.
         Day d = getDay((int) MathUtil.div(time + rawOffset - dayOffset, DAY_LENGTH));
         while (d.getStartTime() > time)
@@ -282,7 +282,6 @@ public final class Schedule {
      */
     public Day getDayById(int dayId) {
         checkRange("dayId", dayId, MIN_ID, MAX_ID);
-        usageCounter.incrementAndGet();
         return getDay(dayId);
     }
 
@@ -305,12 +304,11 @@ public final class Schedule {
     @SuppressWarnings("UnusedDeclaration")
     public Day getDayByYearMonthDay(int yearMonthDay) {
         checkRange("yearMonthDay", yearMonthDay, MIN_YMD, MAX_YMD);
-        usageCounter.incrementAndGet();
 
         // Try direct approach - works for fully correct cached days.
         Day d = ymdCache.getByKey(yearMonthDay);
         if (d != null) {
-            d.usageCounter = usageCounter.get();
+            d.usageCounter = usageCounter.incrementAndGet();
             return d;
         }
 
@@ -332,7 +330,7 @@ public final class Schedule {
         // Try corrected date - works for partially correct cached days.
         d = ymdCache.getByKey(year * 10000 + month * 100 + day);
         if (d != null) {
-            d.usageCounter = usageCounter.get();
+            d.usageCounter = usageCounter.incrementAndGet();
             return d;
         }
 
@@ -435,6 +433,7 @@ public final class Schedule {
 
     private static final int CACHE_LIMIT = SystemProperties.getIntProperty(CACHE_LIMIT_PROPERTY, 25000, 100, 100000);
     private static final int CACHE_RETAIN = CACHE_LIMIT - CACHE_LIMIT / 4;
+    private static final int WINDOW_SIZE = SystemProperties.getIntProperty(WINDOW_PROPERTY, 32, 0, 1000);
     private static final long DAY_LENGTH = 24 * 3600 * 1000;
     private static final int MIN_YMD = 10103;
     private static final int MAX_YMD = 99991229;
@@ -460,6 +459,16 @@ public final class Schedule {
 
     private static final Comparator<Day> USAGE_COMPARATOR = (d1, d2) -> Long.compare(d1.usageCounter, d2.usageCounter);
 
+    private static final class DayWindow {
+        final int startDayId;
+        final Day[] days;
+
+        DayWindow(int startDayId, Day[] days) {
+            this.startDayId = startDayId;
+            this.days = days;
+        }
+    }
+
     private static final class TimeDef {
         final int day;
         final int hour;
@@ -702,6 +711,9 @@ public final class Schedule {
     private final AtomicLong creationCounter = new AtomicLong();
     private final AtomicLong usageCounter = new AtomicLong();
 
+    // Immutable days around current time that are looked up without locks and usage tracking.
+    private volatile DayWindow window;
+
     private Schedule(String def) {
         this(def, DEFAULTS); // Atomic volatile read.
     }
@@ -780,6 +792,7 @@ public final class Schedule {
 
             idCache.clear();
             ymdCache.clear();
+            window = null;
 
             checkEarlyClose();
         }
@@ -1049,6 +1062,19 @@ public final class Schedule {
     }
 
     private Day getDay(int dayId) {
+        DayWindow w = window; // Atomic volatile read.
+        if (w != null) {
+            int index = dayId - w.startDayId;
+            if (index >= 0 && index < w.days.length)
+                return w.days[index];
+        }
+        Day day = getCachedDay(dayId);
+        if (w == null || isWindowMoved(w, dayId))
+            updateWindow();
+        return day;
+    }
+
+    private Day getCachedDay(int dayId) {
         Day day = idCache.getByKey(dayId);
         if (day == null)
             synchronized (lock) {
@@ -1060,10 +1086,37 @@ public final class Schedule {
                     ymdCache.put(day);
                 }
             }
-        day.usageCounter = usageCounter.get();
+        day.usageCounter = usageCounter.incrementAndGet();
         return day;
     }
 
+    private int getWindowStartDayId() {
+        int currentDayId = (int) MathUtil.div(System.currentTimeMillis() + rawOffset - dayOffset, DAY_LENGTH);
+        return currentDayId - WINDOW_SIZE / 2;
+    }
+
+    // Returns true when the window shall be moved, because the specified day missed it near current time.
+    private boolean isWindowMoved(DayWindow w, int dayId) {
+        int startDayId = getWindowStartDayId();
+        return startDayId != w.startDayId && dayId >= startDayId && dayId < startDayId + WINDOW_SIZE;
+    }
+
+    private void updateWindow() {
+        if (WINDOW_SIZE == 0)
+            return;
+        synchronized (lock) {
+            int startDayId = getWindowStartDayId();
+            DayWindow w = window;
+            if (w != null && w.startDayId == startDayId)
+                return;
+            Day[] days = new Day[WINDOW_SIZE];
+            for (int i = 0; i < days.length; i++) {
+                days[i] = getCachedDay(startDayId + i);
+            }
+            window = new DayWindow(startDayId, days);
+        }
+    }
+
     // GuardedBy: lock
     private void checkCacheSize() {
         if (idCache.size() < CACHE_LIMIT)
@@ -0,0 +1,129 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.dxfeed.ipf.test;
+
+import com.dxfeed.ipf.InstrumentProfile;
+import com.dxfeed.ipf.InstrumentProfileBinaryFile;
+import com.dxfeed.ipf.InstrumentProfileFormatException;
+import com.dxfeed.ipf.InstrumentProfileReader;
+import com.dxfeed.ipf.InstrumentProfileView;
+import com.dxfeed.ipf.InstrumentProfileWriter;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Unit test for {@link InstrumentProfileBinaryFile} and binary format of {@link InstrumentProfileWriter}.
+ */
+public class InstrumentProfileBinaryFileTest {
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    @Test
+    public void testMappedFile() throws IOException {
+        List<InstrumentProfile> profiles = createProfiles();
+        File file = tempFolder.newFile("test.ipfb");
+        new InstrumentProfileWriter().writeToFile(file.getPath(), profiles);
+
+        InstrumentProfileBinaryFile binaryFile = InstrumentProfileBinaryFile.open(file.getPath());
+        assertEquals(profiles.size(), binaryFile.size());
+        assertEquals(profiles, binaryFile.getProfiles());
+        // only fields with values and custom fields are written
+        assertEquals(Arrays.asList("TYPE", "SYMBOL", "DESCRIPTION", "CURRENCY", "MULTIPLIER", "UNDERLYING",
+            "EXPIRATION", "STRIKE", "CUSTOM"), binaryFile.getFieldNames());
+
+        InstrumentProfileView view = binaryFile.getView(1);
+        assertEquals("OPTION", view.getType());
+        assertEquals(".IBM240119C150", view.getSymbol());
+        assertEquals("IBM", view.getUnderlying());
+        assertEquals(150.5, view.getStrike(), 0);
+        assertEquals(19741, view.getExpiration());
+        assertEquals("2024-01-19", view.getField("EXPIRATION"));
+        assertEquals(100, view.getNumericField("MULTIPLIER"), 0);
+        assertEquals("", view.getISIN());
+        assertEquals(0, view.getICB());
+        assertEquals("", view.getField("CUSTOM"));
+        assertEquals("", view.getField("UNKNOWN"));
+        assertEquals(profiles.get(1), view.toInstrumentProfile());
+        assertEquals("value", binaryFile.getView(0).getField("CUSTOM"));
+        assertEquals("Тест", binaryFile.getView(0).getDescription());
+    }
+
+    @Test
+    public void testReadCompressed() throws IOException {
+        List<InstrumentProfile> profiles = createProfiles();
+        for (String name : new String[] {"test.ipfb", "test.ipfb.gz", "test.ipfb.zip"}) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            new InstrumentProfileWriter().write(out, name, profiles);
+            InstrumentProfileReader reader = new InstrumentProfileReader();
+            assertEquals(name, profiles, reader.read(new ByteArrayInputStream(out.toByteArray()), name));
+            assertTrue(reader.wasComplete());
+        }
+    }
+
+    @Test
+    public void testEmpty() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new InstrumentProfileWriter().writeBinary(out, Collections.emptyList());
+        InstrumentProfileBinaryFile binaryFile = InstrumentProfileBinaryFile.wrap(ByteBuffer.wrap(out.toByteArray()));
+        assertEquals(0, binaryFile.size());
+        assertEquals(Arrays.asList("TYPE", "SYMBOL"), binaryFile.getFieldNames());
+    }
+
+    @Test
+    public void testTruncated() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new InstrumentProfileWriter().writeBinary(out, createProfiles());
+        byte[] bytes = out.toByteArray();
+        try {
+            InstrumentProfileBinaryFile.wrap(ByteBuffer.wrap(bytes, 0, bytes.length - 1));
+            fail();
+        } catch (InstrumentProfileFormatException expected) {
+            // expected
+        }
+    }
+
+    private static List<InstrumentProfile> createProfiles() {
+        List<InstrumentProfile> profiles = new ArrayList<>();
+        InstrumentProfile stock = new InstrumentProfile();
+        stock.setType("STOCK");
+        stock.setSymbol("IBM");
+        stock.setDescription("Тест");
+        stock.setCurrency("USD");
+        stock.setField("CUSTOM", "value");
+        profiles.add(stock);
+        InstrumentProfile option = new InstrumentProfile();
+        option.setType("OPTION");
+        option.setSymbol(".IBM240119C150");
+        option.setCurrency("USD");
+        option.setUnderlying("IBM");
+        option.setMultiplier(100);
+        option.setStrike(150.5);
+        option.setExpiration(19741);
+        profiles.add(option);
+        return profiles;
+    }
+}
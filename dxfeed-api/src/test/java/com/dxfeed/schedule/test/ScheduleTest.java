@@ -899,6 +899,26 @@ public class ScheduleTest {
         return zdt.toInstant().toEpochMilli();
     }
 
+    @Test
+    public void testDaysAroundCurrentTime() {
+        // Days near current time are looked up from a window, other days from the cache
+        Schedule schedule = Schedule.getInstance("(tz=America/New_York;hd=US;0=p04000930r09301600a16002000)");
+        long now = System.currentTimeMillis();
+        Day prev = null;
+        for (long time = now - 100 * DAY; time < now + 100 * DAY; time += HOUR) {
+            Day day = schedule.getDayByTime(time);
+            assertTrue(day.getStartTime() <= time && time < day.getEndTime());
+            assertEquals(day, schedule.getDayById(day.getDayId()));
+            assertEquals(day, schedule.getDayByYearMonthDay(day.getYearMonthDay()));
+            Session session = schedule.getSessionByTime(time);
+            assertEquals(day, session.getDay());
+            assertTrue(session.getStartTime() <= time && time < session.getEndTime());
+            if (prev != null && !prev.equals(day))
+                assertEquals(prev.getEndTime(), day.getStartTime());
+            prev = day;
+        }
+    }
+
     private void checkException(String def, String message) {
         try {
             Schedule.getInstance(def);
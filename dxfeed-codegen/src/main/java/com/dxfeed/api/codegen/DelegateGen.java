@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2021 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -16,6 +16,8 @@ import com.devexperts.qd.QDContract;
 import com.devexperts.qd.kit.AbstractDataField;
 import com.devexperts.qd.ng.RecordBuffer;
 import com.devexperts.qd.ng.RecordCursor;
+import com.devexperts.qd.util.TimeSequenceUtil;
+import com.dxfeed.api.EventColumns;
 import com.dxfeed.api.impl.EventDelegate;
 import com.dxfeed.api.impl.EventDelegateFlags;
 import com.dxfeed.api.impl.SchemeFieldTime;
@@ -28,8 +30,11 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.EnumMap;
 import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
 import static com.dxfeed.api.impl.SchemeFieldTime.COMMON_FIELD;
@@ -40,6 +45,8 @@ import static com.dxfeed.api.impl.SchemeFieldTime.SECOND_TIME_INT_FIELD;
  * Generates xxxDelegate classes for events.
  */
 class DelegateGen {
+    private static final Pattern EVENT_GETTER = Pattern.compile("event\\.(?:get|is)(\\w+)\\(\\)");
+
     private final ClassName className;
     private final CodeGenType eventClass;
     private final String eventName;
@@ -56,6 +63,7 @@ class DelegateGen {
     private String source;
     private QDContract subContract;
     private boolean publishable;
+    private boolean plainEventFlags;
 
     DelegateGen(ClassName delegateName, CodeGenType eventClass, RecordDesc record,
         FactoryImplGen factoryGen, MappingGen mappingGen, CodeGenEnvironment env)
@@ -288,6 +296,7 @@ class DelegateGen {
     }
 
     DelegateGen withPlainEventFlags() {
+        plainEventFlags = true;
         injectGetEventCode("event.setEventFlags(cursor.getEventFlags());");
         injectPutEventCode("cursor.setEventFlags(event.getEventFlags());");
         return this;
@@ -358,6 +367,7 @@ class DelegateGen {
         generateGetMappingCode(cg);
         generateCreateEventCode(cg);
         generateGetEventCode(cg);
+        generateColumnsCode(cg);
         if (publishable)
             generatePutEventCode(cg);
         if (source != null)
@@ -411,6 +421,101 @@ class DelegateGen {
         cg.code("}");
     }
 
+    private void generateColumnsCode(ClassGen cg) {
+        if (innerDelegateClassName != null)
+            return; // columns of inner delegate are not supported
+        Map<String, Column> columns = new LinkedHashMap<>();
+        // properties that are set by EventDelegate.getEvent go first, code generators may override them
+        cg.addImport(new ClassName(TimeSequenceUtil.class));
+        addColumn(columns, "EventTime", new JavaClassType(long.class),
+            "TimeSequenceUtil.getTimeMillisFromTimeSequence(cursor.getEventTimeSequence())");
+        if (plainEventFlags)
+            addColumn(columns, "EventFlags", new JavaClassType(int.class), "cursor.getEventFlags()");
+        for (GetPutEventCodeGenerator codeGenerator : codeGenerators) {
+            codeGenerator.collectColumns(columns);
+        }
+        List<List<String>> names = new ArrayList<>();
+        for (ColumnKind kind : ColumnKind.values()) {
+            names.add(new ArrayList<>());
+        }
+        for (Column column : columns.values()) {
+            List<String> kindNames = names.get(column.kind.ordinal());
+            column.index = kindNames.size();
+            kindNames.add(column.name);
+        }
+        cg.addImport(new ClassName(EventColumns.class));
+
+        cg.newLine();
+        cg.code("@Override");
+        cg.code("public EventColumns<" + eventName + "> createColumns() {");
+        cg.indent();
+        cg.code("return new EventColumns<>(" + eventName + ".class,");
+        cg.indent();
+        for (int i = 0; i < names.size(); i++) {
+            generateStringArray(cg, names.get(i), i == names.size() - 1 ? ");" : ",");
+        }
+        cg.unindent();
+        cg.unindent();
+        cg.code("}");
+
+        cg.newLine();
+        cg.code("@Override");
+        cg.code("public void getColumns(EventColumns<" + eventName + "> columns, int row, RecordCursor cursor) {");
+        cg.indent();
+        for (Column column : columns.values()) {
+            cg.code("columns.get" + column.kind.typeName + "Column(" + column.index + ")[row] = " +
+                column.value + ";");
+        }
+        cg.unindent();
+        cg.code("}");
+    }
+
+    private static void generateStringArray(ClassGen cg, List<String> strings, String end) {
+        if (strings.isEmpty()) {
+            cg.code("new String[0]" + end);
+            return;
+        }
+        StringBuilder sb = new StringBuilder("new String[] {");
+        for (int i = 0; i < strings.size(); i++) {
+            String item = "\"" + strings.get(i) + "\"" + (i == strings.size() - 1 ? "}" + end : ",");
+            if (sb.length() + item.length() > 100) {
+                cg.code(sb.toString());
+                sb.setLength(0);
+                sb.append("    ");
+            } else if (i > 0) {
+                sb.append(' ');
+            }
+            sb.append(item);
+        }
+        cg.code(sb.toString());
+    }
+
+    // replaces event.getXXX() with the value of the corresponding column, returns null if there is no such column
+    private static String resolveEventProperties(Map<String, Column> columns, String value) {
+        Matcher matcher = EVENT_GETTER.matcher(value);
+        StringBuffer sb = new StringBuffer();
+        while (matcher.find()) {
+            Column column = columns.get(matcher.group(1));
+            if (column == null)
+                return null;
+            matcher.appendReplacement(sb, Matcher.quoteReplacement(column.value));
+        }
+        matcher.appendTail(sb);
+        return sb.toString();
+    }
+
+    // later column with the same name overrides the earlier one as in getEvent
+    private static void addColumn(Map<String, Column> columns, String name, CodeGenType type, String value) {
+        ColumnKind kind = value == null ? null : ColumnKind.of(type);
+        if (kind == null) {
+            columns.remove(name);
+            return;
+        }
+        if (type.isSameType(boolean.class))
+            value = "(" + value + ") ? 1 : 0";
+        columns.put(name, new Column(name, kind, value));
+    }
+
     private void generateCreateEventCode(ClassGen cg) {
         cg.newLine();
         cg.code("@Override");
@@ -497,6 +602,42 @@ class DelegateGen {
         abstract void generateGetEventCodePiece(ClassGen cg);
 
         abstract void generatePutEventCodePiece(ClassGen cg);
+
+        void collectColumns(Map<String, Column> columns) {
+        }
+    }
+
+    private enum ColumnKind {
+        DOUBLE("Double"), LONG("Long"), INT("Int");
+
+        final String typeName;
+
+        ColumnKind(String typeName) {
+            this.typeName = typeName;
+        }
+
+        static ColumnKind of(CodeGenType type) {
+            if (type == null || !type.isPrimitive())
+                return null;
+            if (type.isSameType(double.class) || type.isSameType(float.class))
+                return DOUBLE;
+            if (type.isSameType(long.class))
+                return LONG;
+            return INT;
+        }
+    }
+
+    private static class Column {
+        final String name;
+        final ColumnKind kind;
+        final String value;
+        int index;
+
+        Column(String name, ColumnKind kind, String value) {
+            this.name = name;
+            this.kind = kind;
+            this.value = value;
+        }
     }
 
     private class GetEventCodeInjection extends GetPutEventCodeGenerator {
@@ -551,6 +692,15 @@ class DelegateGen {
             cg.code("event.set" + property + "(" + mksubst(value) + ");");
         }
 
+        @Override
+        void collectColumns(Map<String, Column> columns) {
+            CodeGenExecutable getter = eventClass.getMethod("get" + property);
+            if (getter == null)
+                getter = eventClass.getMethod("is" + property);
+            addColumn(columns, property, getter == null ? null : getter.getReturnType(),
+                resolveEventProperties(columns, mksubst(value)));
+        }
+
         @Override
         void generatePutEventCodePiece(ClassGen cg) {
         }
@@ -594,6 +744,15 @@ class DelegateGen {
             cg.code("event." + setterName + "(" + getter + ");");
         }
 
+        @Override
+        void collectColumns(Map<String, Column> columns) {
+            if (internal || eventPropertyType == null)
+                return;
+            String getter = field.fieldType.mapper.generateGetter(eventPropertyType,
+                "m.get" + field.propertyName + "%s(cursor)");
+            addColumn(columns, eventPropertyName, eventPropertyType, getter);
+        }
+
         @Override
         void generatePutEventCodePiece(ClassGen cg) {
             if (internal)
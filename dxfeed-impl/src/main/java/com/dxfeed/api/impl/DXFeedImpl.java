@@ -40,6 +40,7 @@ import com.devexperts.util.TimePeriodInfo;
 import com.dxfeed.api.DXEndpoint;
 import com.dxfeed.api.DXFeed;
 import com.dxfeed.api.DXFeedSubscription;
+import com.dxfeed.api.EventColumns;
 import com.dxfeed.api.osub.IndexedEventSubscriptionSymbol;
 import com.dxfeed.api.osub.ObservableSubscriptionChangeListener;
 import com.dxfeed.api.osub.TimeSeriesSubscriptionSymbol;
@@ -57,6 +58,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
@@ -802,6 +804,18 @@ public class DXFeedImpl extends DXFeed {
         long totalDroppedEvents;
         private TimePeriodInfo aggregationPeriodInfo;
 
+        // Reused list and events for subscriptions with transient event listeners only
+        private final List<E> transientEvents = new ArrayList<>();
+        private final IdentityHashMap<EventDelegate<?>, EventPool<E>> eventPools = new IdentityHashMap<>();
+        private boolean reuseEvents;
+        private int batchNumber;
+
+        // Reused columns for subscriptions with columnar event listeners, events are not created when not needed
+        private final IdentityHashMap<EventDelegate<?>, EventColumns<E>> columnsByDelegate = new IdentityHashMap<>();
+        private final List<EventColumns<? extends E>> columns = new ArrayList<>();
+        private boolean collectColumns;
+        private boolean collectEvents;
+
         EventProcessor(DXFeedSubscription<E> subscription) {
             this.subscription = subscription;
             TimePeriod timePeriod = subscription.getAggregationPeriod();
@@ -960,19 +974,34 @@ public class DXFeedImpl extends DXFeed {
 
         @SuppressWarnings("unchecked")
         protected void process(RecordSource source) {
-            events = new ArrayList<>();
+            collectColumns = hasColumnarEventListeners(subscription);
+            collectEvents = !collectColumns || hasEventListeners(subscription);
+            reuseEvents = isTransientEvents(subscription);
+            if (reuseEvents) {
+                batchNumber++;
+                events = transientEvents;
+            } else {
+                events = new ArrayList<>();
+            }
             try {
                 RecordCursor cursor;
                 while ((cursor = source.next()) != null)
                     EVENT_PROCESSOR_ATTACHMENT_STRATEGY.processEach(cursor, this); // will invoke processEvent
-                if (events.isEmpty())
-                    return;
                 // TODO: breaks when a subscription is attached to more than one DXEndpoint —
                 //  totalDroppedEvents and aggregationPeriodInfo from the last processing endpoint
                 //  overwrite the values from the others.
-                processEvents(subscription, events, totalDroppedEvents, aggregationPeriodInfo);
+                if (!events.isEmpty())
+                    processEvents(subscription, events, totalDroppedEvents, aggregationPeriodInfo);
+                if (!columns.isEmpty())
+                    processEventColumns(subscription, columns, totalDroppedEvents, aggregationPeriodInfo);
             } finally {
+                if (reuseEvents)
+                    transientEvents.clear();
                 events = null;
+                for (EventColumns<? extends E> c : columns) {
+                    c.clear();
+                }
+                columns.clear();
             }
         }
 
@@ -983,14 +1012,60 @@ public class DXFeedImpl extends DXFeed {
                 return;
             for (EventDelegate<?> delegate : delegates) {
                 if (subscription.containsEventType(delegate.getEventType())) {
-                    events.add((E) delegate.createEvent(cursor));
+                    if (collectEvents) {
+                        events.add(reuseEvents ?
+                            reuseEvent(cursor, delegate.getEventSymbolByCursor(cursor), (EventDelegate<E>) delegate) :
+                            (E) delegate.createEvent(cursor));
+                    }
+                    if (collectColumns)
+                        addColumnsRow(cursor, delegate.getEventSymbolByCursor(cursor), (EventDelegate<E>) delegate);
                 }
             }
         }
 
         void processEvent(RecordCursor cursor, T symbol, EventDelegate<E> delegate) {
-            events.add(delegate.createEvent(symbol, cursor));
+            if (collectEvents)
+                events.add(reuseEvents ? reuseEvent(cursor, symbol, delegate) : delegate.createEvent(symbol, cursor));
+            if (collectColumns)
+                addColumnsRow(cursor, symbol, delegate);
+        }
+
+        // Columns are kept by delegate, because each delegate knows its own set of columns
+        private void addColumnsRow(RecordCursor cursor, Object symbol, EventDelegate<E> delegate) {
+            EventColumns<E> c = columnsByDelegate.get(delegate);
+            if (c == null)
+                columnsByDelegate.put(delegate, c = delegate.createColumns());
+            if (c.size() == 0)
+                columns.add(c);
+            delegate.getColumns(c, c.addRow(symbol), cursor);
         }
+
+        // Events are pooled by delegate, so that reused event is refilled with all the same fields it was created with
+        @SuppressWarnings("unchecked")
+        private E reuseEvent(RecordCursor cursor, Object symbol, EventDelegate<E> delegate) {
+            EventPool<E> pool = eventPools.get(delegate);
+            if (pool == null)
+                eventPools.put(delegate, pool = new EventPool<>());
+            if (pool.batchNumber != batchNumber) {
+                pool.batchNumber = batchNumber;
+                pool.used = 0;
+            }
+            if (pool.used == pool.events.size()) {
+                E event = delegate.createEvent(symbol, cursor);
+                pool.events.add(event);
+                pool.used++;
+                return event;
+            }
+            E event = pool.events.get(pool.used++);
+            ((EventType<Object>) event).setEventSymbol(symbol);
+            return delegate.getEvent(event, cursor);
+        }
+    }
+
+    private static final class EventPool<E> {
+        final List<E> events = new ArrayList<>();
+        int batchNumber;
+        int used;
     }
 
     private static final class SymbolDelegate {
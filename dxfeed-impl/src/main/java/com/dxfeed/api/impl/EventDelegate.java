@@ -19,6 +19,7 @@ import com.devexperts.qd.ng.RecordCursor;
 import com.devexperts.qd.ng.RecordMapping;
 import com.devexperts.qd.util.TimeSequenceUtil;
 import com.devexperts.util.Timing;
+import com.dxfeed.api.EventColumns;
 import com.dxfeed.api.osub.TimeSeriesSubscriptionSymbol;
 import com.dxfeed.event.EventType;
 import com.dxfeed.event.LastingEvent;
@@ -27,6 +28,8 @@ import com.dxfeed.event.TimeSeriesEvent;
 import java.util.EnumSet;
 
 public abstract class EventDelegate<T extends EventType<?>> {
+    private static final String[] NO_COLUMNS = new String[0];
+
     protected final DataRecord record;
     protected final QDContract contract;
     protected final boolean sub;
@@ -134,7 +137,11 @@ public abstract class EventDelegate<T extends EventType<?>> {
     }
 
     public T createEvent(RecordCursor cursor) {
-        return createEvent(getEventSymbolByQDSymbol(codec.decode(cursor.getCipher(), cursor.getSymbol())), cursor);
+        return createEvent(getEventSymbolByCursor(cursor), cursor);
+    }
+
+    public Object getEventSymbolByCursor(RecordCursor cursor) {
+        return getEventSymbolByQDSymbol(codec.decode(cursor.getCipher(), cursor.getSymbol()));
     }
 
     //----------------------- must be implemented in subclasses -----------------------
@@ -149,6 +156,15 @@ public abstract class EventDelegate<T extends EventType<?>> {
         return event;
     }
 
+    // subclasses override
+    public EventColumns<T> createColumns() {
+        return new EventColumns<>(eventType, NO_COLUMNS, NO_COLUMNS, NO_COLUMNS);
+    }
+
+    // subclasses override, row is already added to columns
+    public void getColumns(EventColumns<T> columns, int row, RecordCursor cursor) {
+    }
+
     //----------------------- must be overridden in publishable subclasses -----------------------
 
     // subclasses override
@@ -0,0 +1,152 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.dxfeed.api.impl;
+
+import com.devexperts.io.BinaryCodec;
+import com.devexperts.io.BufferedInput;
+import com.devexperts.io.BufferedOutput;
+import com.devexperts.io.IOUtil;
+import com.devexperts.qd.DataRecord;
+import com.devexperts.qd.DataScheme;
+import com.devexperts.qd.ng.RecordBuffer;
+import com.devexperts.qd.ng.RecordCursor;
+import com.devexperts.qd.ng.RecordMode;
+import com.devexperts.services.ServiceProvider;
+import com.devexperts.services.Services;
+import com.dxfeed.event.EventType;
+
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Binary codec for {@link EventType} instances in RMI operations with binary marshalling.
+ * Events are converted to records of {@link DXFeedScheme} with their event delegates
+ * and record fields are written with their QTP binary encoding, so events are transferred with the same
+ * precision as in QTP data messages. Events without event delegates are written with Java Object Serialization.
+ *
+ * <p>Only event properties that are mapped to record fields of the scheme are transferred,
+ * with the precision of those fields (for example, time precision of the scheme), like in QTP data messages.
+ * Both sides shall use the same scheme, so the {@link DataScheme#getDigest() digest} of the scheme is written
+ * with events, and events written with a different scheme are rejected on reading.
+ */
+@SuppressWarnings("rawtypes")
+@ServiceProvider
+public class EventTypeBinaryCodec extends BinaryCodec<EventType> {
+    private static final RecordMode MODE = RecordMode.FLAGGED_DATA.withEventTimeSequence();
+    private static final String NO_RECORD = "";
+    private static final String NO_DIGEST = "";
+
+    private volatile Delegates delegates; // created on first use
+
+    @Override
+    public Class<EventType> getType() {
+        return EventType.class;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void writeObject(Output out, EventType event) throws IOException {
+        EventDelegateSet delegateSet = getDelegates().pubSetsByEventType.get(event.getClass());
+        List<EventDelegate<?>> pubDelegates = delegateSet == null ? null : delegateSet.getPubDelegatesByEvent(event);
+        out.writeName(event.getClass().getName());
+        if (pubDelegates == null || pubDelegates.isEmpty()) {
+            out.writeName(NO_RECORD);
+            IOUtil.writeByteArray(out.getOutput(), IOUtil.objectToBytes(event));
+            return;
+        }
+        RecordBuffer buf = RecordBuffer.getInstance(MODE);
+        try {
+            RecordCursor cursor = ((EventDelegate) pubDelegates.get(0)).putEvent(event, buf);
+            DataRecord record = cursor.getRecord();
+            BufferedOutput bout = out.getOutput();
+            out.writeName(record.getName());
+            out.writeName(getDelegates().digest); // written once per marshalled object
+            out.writeName(cursor.getDecodedSymbol());
+            bout.writeCompactInt(cursor.getEventFlags());
+            bout.writeCompactLong(cursor.getEventTimeSequence());
+            record.writeFields(bout, cursor);
+        } finally {
+            buf.release();
+        }
+    }
+
+    @Override
+    public EventType readObject(Input in) throws IOException {
+        String eventClassName = in.readName();
+        String recordName = in.readName();
+        if (recordName.equals(NO_RECORD))
+            return (EventType) IOUtil.bytesToObject(IOUtil.readByteArray(in.getInput()), in.getSerialClassContext());
+        Delegates delegates = getDelegates();
+        String digest = in.readName();
+        if (!digest.equals(delegates.digest))
+            throw new InvalidClassException(eventClassName, "Event is written with a different scheme, digest " +
+                digest + ", expected " + delegates.digest);
+        EventDelegate<?> delegate = delegates.subDelegatesByRecordAndEventType.get(recordName + ":" + eventClassName);
+        if (delegate == null)
+            throw new InvalidClassException(eventClassName, "No event delegate for record " + recordName);
+        DataRecord record = delegate.getRecord();
+        String symbol = in.readName();
+        BufferedInput bin = in.getInput();
+        RecordBuffer buf = RecordBuffer.getInstance(MODE);
+        try {
+            RecordCursor cursor = buf.add(record, record.getScheme().getCodec().encode(symbol), symbol);
+            cursor.setEventFlags(bin.readCompactInt());
+            cursor.setEventTimeSequence(bin.readCompactLong());
+            record.readFields(bin, cursor);
+            return delegate.createEvent(cursor);
+        } finally {
+            buf.release();
+        }
+    }
+
+    private Delegates getDelegates() {
+        Delegates delegates = this.delegates;
+        if (delegates == null)
+            this.delegates = delegates = new Delegates(DXFeedScheme.getInstance());
+        return delegates;
+    }
+
+    private static class Delegates {
+        final String digest;
+        final Map<Class<?>, EventDelegateSet> pubSetsByEventType = new HashMap<>();
+        final Map<String, EventDelegate<?>> subDelegatesByRecordAndEventType = new HashMap<>();
+
+        Delegates(DataScheme scheme) {
+            digest = scheme.getDigest() == null ? NO_DIGEST : scheme.getDigest();
+            for (EventDelegateFactory factory : Services.createServices(EventDelegateFactory.class, null)) {
+                for (int i = 0; i < scheme.getRecordCount(); i++) {
+                    DataRecord record = scheme.getRecord(i);
+                    Collection<EventDelegate<?>> delegates = factory.createDelegates(record);
+                    if (delegates == null)
+                        continue;
+                    for (EventDelegate<?> delegate : delegates) {
+                        if (delegate.isPub()) {
+                            pubSetsByEventType.computeIfAbsent(delegate.getEventType(), eventType ->
+                                delegate.createDelegateSet()).add(delegate);
+                        }
+                        if (delegate.isSub()) {
+                            subDelegatesByRecordAndEventType.putIfAbsent(
+                                record.getName() + ":" + delegate.getEventType().getName(), delegate);
+                        }
+                    }
+                }
+            }
+            for (EventDelegateSet delegateSet : pubSetsByEventType.values()) {
+                delegateSet.completeConstruction();
+            }
+        }
+    }
+}
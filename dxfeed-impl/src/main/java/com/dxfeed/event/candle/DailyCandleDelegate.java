@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2021 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -15,6 +15,8 @@ import com.devexperts.qd.DataRecord;
 import com.devexperts.qd.QDContract;
 import com.devexperts.qd.ng.RecordBuffer;
 import com.devexperts.qd.ng.RecordCursor;
+import com.devexperts.qd.util.TimeSequenceUtil;
+import com.dxfeed.api.EventColumns;
 import com.dxfeed.api.impl.EventDelegateFlags;
 import com.dxfeed.event.candle.impl.CandleMapping;
 
@@ -58,6 +60,33 @@ public final class DailyCandleDelegate extends CandleEventDelegateImpl<DailyCand
         return event;
     }
 
+    @Override
+    public EventColumns<DailyCandle> createColumns() {
+        return new EventColumns<>(DailyCandle.class,
+            new String[] {"Open", "High", "Low", "Close", "Volume", "VWAP", "BidVolume", "AskVolume",
+                "ImpVolatility", "OpenInterest"},
+            new String[] {"EventTime", "Index", "Count"},
+            new String[] {"EventFlags"});
+    }
+
+    @Override
+    public void getColumns(EventColumns<DailyCandle> columns, int row, RecordCursor cursor) {
+        columns.getLongColumn(0)[row] = TimeSequenceUtil.getTimeMillisFromTimeSequence(cursor.getEventTimeSequence());
+        columns.getIntColumn(0)[row] = cursor.getEventFlags();
+        columns.getLongColumn(1)[row] = (((long) m.getTimeSeconds(cursor)) << 32) | (m.getSequence(cursor) & 0xFFFFFFFFL);
+        columns.getLongColumn(2)[row] = m.getCount(cursor);
+        columns.getDoubleColumn(0)[row] = m.getOpen(cursor);
+        columns.getDoubleColumn(1)[row] = m.getHigh(cursor);
+        columns.getDoubleColumn(2)[row] = m.getLow(cursor);
+        columns.getDoubleColumn(3)[row] = m.getClose(cursor);
+        columns.getDoubleColumn(4)[row] = m.getVolumeDouble(cursor);
+        columns.getDoubleColumn(5)[row] = m.getVWAP(cursor);
+        columns.getDoubleColumn(6)[row] = m.getBidVolumeDouble(cursor);
+        columns.getDoubleColumn(7)[row] = m.getAskVolumeDouble(cursor);
+        columns.getDoubleColumn(8)[row] = m.getImpVolatility(cursor);
+        columns.getDoubleColumn(9)[row] = m.getOpenInterestDouble(cursor);
+    }
+
     @Override
     public RecordCursor putEvent(DailyCandle event, RecordBuffer buf) {
         RecordCursor cursor = super.putEvent(event, buf);
@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2025 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -15,6 +15,8 @@ import com.devexperts.qd.DataRecord;
 import com.devexperts.qd.QDContract;
 import com.devexperts.qd.ng.RecordBuffer;
 import com.devexperts.qd.ng.RecordCursor;
+import com.devexperts.qd.util.TimeSequenceUtil;
+import com.dxfeed.api.EventColumns;
 import com.dxfeed.api.impl.EventDelegateFlags;
 import com.dxfeed.event.IndexedEventSource;
 import com.dxfeed.event.custom.impl.NuamOrderMapping;
@@ -82,6 +84,52 @@ public final class NuamOrderDelegate extends OrderBaseDelegateImpl<NuamOrder> {
         return event;
     }
 
+    @Override
+    public EventColumns<NuamOrder> createColumns() {
+        return new EventColumns<>(NuamOrder.class,
+            new String[] {"Price", "Size", "ExecutedSize", "TradePrice", "TradeSize", "TriggerPrice",
+                "OrderQuantity", "DisplayQuantity", "RefreshQuantity", "LeavesQuantity", "MatchedQuantity"},
+            new String[] {"EventTime", "Index", "TimeSequence", "ActionTime", "OrderId", "AuxOrderId", "Count",
+                "TradeId"},
+            new String[] {"EventFlags", "TimeNanoPart", "Flags", "ActorId", "ParticipantId", "SubmitterId",
+                "OnBehalfOfSubmitterId", "TimeInForceData", "TriggerOrderBookId", "TriggerSessionType",
+                "NuamFlags"});
+    }
+
+    @Override
+    public void getColumns(EventColumns<NuamOrder> columns, int row, RecordCursor cursor) {
+        columns.getLongColumn(0)[row] = TimeSequenceUtil.getTimeMillisFromTimeSequence(cursor.getEventTimeSequence());
+        columns.getIntColumn(0)[row] = cursor.getEventFlags();
+        columns.getLongColumn(1)[row] = ((long) getSource().id() << 32) | (m.getIndex(cursor) & 0xFFFFFFFFL);
+        columns.getLongColumn(2)[row] = (((long) m.getTimeSeconds(cursor)) << 32) | (m.getSequence(cursor) & 0xFFFFFFFFL);
+        columns.getIntColumn(1)[row] = m.getTimeNanoPart(cursor);
+        columns.getLongColumn(3)[row] = m.getActionTimeMillis(cursor);
+        columns.getLongColumn(4)[row] = m.getOrderId(cursor);
+        columns.getLongColumn(5)[row] = m.getAuxOrderId(cursor);
+        columns.getDoubleColumn(0)[row] = m.getPrice(cursor);
+        columns.getDoubleColumn(1)[row] = m.getSizeDouble(cursor);
+        columns.getDoubleColumn(2)[row] = m.getExecutedSize(cursor);
+        columns.getLongColumn(6)[row] = m.getCount(cursor);
+        columns.getIntColumn(2)[row] = m.getFlags(cursor);
+        columns.getLongColumn(7)[row] = m.getTradeId(cursor);
+        columns.getDoubleColumn(3)[row] = m.getTradePrice(cursor);
+        columns.getDoubleColumn(4)[row] = m.getTradeSize(cursor);
+        columns.getIntColumn(3)[row] = m.getActorId(cursor);
+        columns.getIntColumn(4)[row] = m.getParticipantId(cursor);
+        columns.getIntColumn(5)[row] = m.getSubmitterId(cursor);
+        columns.getIntColumn(6)[row] = m.getOnBehalfOfSubmitterId(cursor);
+        columns.getIntColumn(7)[row] = m.getTimeInForceData(cursor);
+        columns.getIntColumn(8)[row] = m.getTriggerOrderBookId(cursor);
+        columns.getDoubleColumn(5)[row] = m.getTriggerPrice(cursor);
+        columns.getIntColumn(9)[row] = m.getTriggerSessionType(cursor);
+        columns.getDoubleColumn(6)[row] = m.getOrderQuantityDouble(cursor);
+        columns.getDoubleColumn(7)[row] = m.getDisplayQuantityDouble(cursor);
+        columns.getDoubleColumn(8)[row] = m.getRefreshQuantityDouble(cursor);
+        columns.getDoubleColumn(9)[row] = m.getLeavesQuantityDouble(cursor);
+        columns.getDoubleColumn(10)[row] = m.getMatchedQuantityDouble(cursor);
+        columns.getIntColumn(10)[row] = m.getNuamFlags(cursor);
+    }
+
     @Override
     public RecordCursor putEvent(NuamOrder event, RecordBuffer buf) {
         RecordCursor cursor = super.putEvent(event, buf);
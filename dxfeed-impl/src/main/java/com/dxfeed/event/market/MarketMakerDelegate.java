@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2024 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -15,6 +15,8 @@ import com.devexperts.qd.DataRecord;
 import com.devexperts.qd.QDContract;
 import com.devexperts.qd.ng.RecordBuffer;
 import com.devexperts.qd.ng.RecordCursor;
+import com.devexperts.qd.util.TimeSequenceUtil;
+import com.dxfeed.api.EventColumns;
 import com.dxfeed.api.impl.EventDelegate;
 import com.dxfeed.api.impl.EventDelegateFlags;
 import com.dxfeed.event.market.impl.MarketMakerMapping;
@@ -56,6 +58,29 @@ public final class MarketMakerDelegate extends EventDelegate<MarketMaker> {
         return event;
     }
 
+    @Override
+    public EventColumns<MarketMaker> createColumns() {
+        return new EventColumns<>(MarketMaker.class,
+            new String[] {"BidPrice", "BidSize", "AskPrice", "AskSize"},
+            new String[] {"EventTime", "Index", "BidTime", "BidCount", "AskTime", "AskCount"},
+            new String[] {"EventFlags"});
+    }
+
+    @Override
+    public void getColumns(EventColumns<MarketMaker> columns, int row, RecordCursor cursor) {
+        columns.getLongColumn(0)[row] = TimeSequenceUtil.getTimeMillisFromTimeSequence(cursor.getEventTimeSequence());
+        columns.getIntColumn(0)[row] = cursor.getEventFlags();
+        columns.getLongColumn(1)[row] = ((long) m.getExchangeCode(cursor) << 32) | (m.getMarketMaker(cursor) & 0xFFFFFFFFL);
+        columns.getLongColumn(2)[row] = m.getBidTimeMillis(cursor);
+        columns.getDoubleColumn(0)[row] = m.getBidPrice(cursor);
+        columns.getDoubleColumn(1)[row] = m.getBidSizeDouble(cursor);
+        columns.getLongColumn(3)[row] = m.getBidCount(cursor);
+        columns.getLongColumn(4)[row] = m.getAskTimeMillis(cursor);
+        columns.getDoubleColumn(2)[row] = m.getAskPrice(cursor);
+        columns.getDoubleColumn(3)[row] = m.getAskSizeDouble(cursor);
+        columns.getLongColumn(5)[row] = m.getAskCount(cursor);
+    }
+
     @Override
     public RecordCursor putEvent(MarketMaker event, RecordBuffer buf) {
         RecordCursor cursor = super.putEvent(event, buf);
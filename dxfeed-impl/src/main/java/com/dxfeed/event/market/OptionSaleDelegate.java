@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2022 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -15,6 +15,8 @@ import com.devexperts.qd.DataRecord;
 import com.devexperts.qd.QDContract;
 import com.devexperts.qd.ng.RecordBuffer;
 import com.devexperts.qd.ng.RecordCursor;
+import com.devexperts.qd.util.TimeSequenceUtil;
+import com.dxfeed.api.EventColumns;
 import com.dxfeed.api.impl.EventDelegateFlags;
 import com.dxfeed.event.market.impl.OptionSaleMapping;
 
@@ -60,6 +62,32 @@ public final class OptionSaleDelegate extends MarketEventDelegateImpl<OptionSale
         return event;
     }
 
+    @Override
+    public EventColumns<OptionSale> createColumns() {
+        return new EventColumns<>(OptionSale.class,
+            new String[] {"Price", "Size", "BidPrice", "AskPrice", "UnderlyingPrice", "Volatility", "Delta"},
+            new String[] {"EventTime", "Index", "TimeSequence"},
+            new String[] {"EventFlags", "TimeNanoPart", "ExchangeCode", "Flags"});
+    }
+
+    @Override
+    public void getColumns(EventColumns<OptionSale> columns, int row, RecordCursor cursor) {
+        columns.getLongColumn(0)[row] = TimeSequenceUtil.getTimeMillisFromTimeSequence(cursor.getEventTimeSequence());
+        columns.getIntColumn(0)[row] = cursor.getEventFlags();
+        columns.getLongColumn(1)[row] = ((long) m.getIndex(cursor));
+        columns.getLongColumn(2)[row] = (((long) m.getTimeSeconds(cursor)) << 32) | (m.getSequence(cursor) & 0xFFFFFFFFL);
+        columns.getIntColumn(1)[row] = m.getTimeNanoPart(cursor);
+        columns.getIntColumn(2)[row] = m.getExchangeCode(cursor);
+        columns.getDoubleColumn(0)[row] = m.getPrice(cursor);
+        columns.getDoubleColumn(1)[row] = m.getSizeDouble(cursor);
+        columns.getDoubleColumn(2)[row] = m.getBidPrice(cursor);
+        columns.getDoubleColumn(3)[row] = m.getAskPrice(cursor);
+        columns.getIntColumn(3)[row] = m.getFlags(cursor);
+        columns.getDoubleColumn(4)[row] = m.getUnderlyingPrice(cursor);
+        columns.getDoubleColumn(5)[row] = m.getVolatility(cursor);
+        columns.getDoubleColumn(6)[row] = m.getDelta(cursor);
+    }
+
     @Override
     public RecordCursor putEvent(OptionSale event, RecordBuffer buf) {
         RecordCursor cursor = super.putEvent(event, buf);
@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2021 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -14,6 +14,8 @@ package com.dxfeed.event.market;
 import com.devexperts.qd.DataRecord;
 import com.devexperts.qd.QDContract;
 import com.devexperts.qd.ng.RecordCursor;
+import com.devexperts.qd.util.TimeSequenceUtil;
+import com.dxfeed.api.EventColumns;
 import com.dxfeed.api.impl.EventDelegateFlags;
 import com.dxfeed.event.IndexedEventSource;
 import com.dxfeed.event.market.impl.MarketMakerMapping;
@@ -56,6 +58,27 @@ public final class OrderByMarketMakerBidDelegate extends OrderBaseDelegateImpl<O
         return event;
     }
 
+    @Override
+    public EventColumns<Order> createColumns() {
+        return new EventColumns<>(Order.class,
+            new String[] {"Price", "Size"},
+            new String[] {"EventTime", "Index", "Time", "Count"},
+            new String[] {"EventFlags", "ExchangeCode", "Sequence"});
+    }
+
+    @Override
+    public void getColumns(EventColumns<Order> columns, int row, RecordCursor cursor) {
+        columns.getLongColumn(0)[row] = TimeSequenceUtil.getTimeMillisFromTimeSequence(cursor.getEventTimeSequence());
+        columns.getIntColumn(0)[row] = cursor.getEventFlags();
+        columns.getLongColumn(1)[row] = ((long) getSource().id() << 48) | ((long) m.getExchangeCode(cursor) << 32) | (m.getMarketMaker(cursor) & 0xFFFFFFFFL);
+        columns.getIntColumn(1)[row] = m.getExchangeCode(cursor);
+        columns.getLongColumn(2)[row] = m.getBidTimeMillis(cursor);
+        columns.getIntColumn(2)[row] = 0;
+        columns.getDoubleColumn(0)[row] = m.getBidPrice(cursor);
+        columns.getDoubleColumn(1)[row] = m.getBidSizeDouble(cursor);
+        columns.getLongColumn(3)[row] = m.getBidCount(cursor);
+    }
+
     @Override
     public IndexedEventSource getSource() {
         return OrderSource.AGGREGATE_BID;
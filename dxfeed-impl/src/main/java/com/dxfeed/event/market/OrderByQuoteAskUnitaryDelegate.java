@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2024 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -14,6 +14,8 @@ package com.dxfeed.event.market;
 import com.devexperts.qd.DataRecord;
 import com.devexperts.qd.QDContract;
 import com.devexperts.qd.ng.RecordCursor;
+import com.devexperts.qd.util.TimeSequenceUtil;
+import com.dxfeed.api.EventColumns;
 import com.dxfeed.api.impl.EventDelegateFlags;
 import com.dxfeed.event.IndexedEventSource;
 import com.dxfeed.event.market.impl.QuoteMapping;
@@ -55,6 +57,25 @@ public final class OrderByQuoteAskUnitaryDelegate extends OrderBaseDelegateImpl<
         return event;
     }
 
+    @Override
+    public EventColumns<Order> createColumns() {
+        return new EventColumns<>(Order.class,
+            new String[] {"Price", "Size"},
+            new String[] {"EventTime", "Index", "Time"},
+            new String[] {"Sequence", "ExchangeCode"});
+    }
+
+    @Override
+    public void getColumns(EventColumns<Order> columns, int row, RecordCursor cursor) {
+        columns.getLongColumn(0)[row] = TimeSequenceUtil.getTimeMillisFromTimeSequence(cursor.getEventTimeSequence());
+        columns.getLongColumn(1)[row] = ((long) getSource().id() << 48) | 0L << 47 | ((long) (m.getRecordExchange() & 0x7FFF) << 32);
+        columns.getLongColumn(2)[row] = m.getAskTimeMillis(cursor);
+        columns.getIntColumn(0)[row] = 0;
+        columns.getDoubleColumn(0)[row] = m.getAskPrice(cursor);
+        columns.getDoubleColumn(1)[row] = m.getAskSizeDouble(cursor);
+        columns.getIntColumn(1)[row] = m.getRecordExchange() == 0 ? m.getAskExchangeCode(cursor) : m.getRecordExchange();
+    }
+
     @Override
     public IndexedEventSource getSource() {
         return m.getRecordExchange() == 0 ? OrderSource.COMPOSITE : OrderSource.REGIONAL;
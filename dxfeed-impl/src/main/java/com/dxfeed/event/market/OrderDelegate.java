@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2021 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -15,6 +15,8 @@ import com.devexperts.qd.DataRecord;
 import com.devexperts.qd.QDContract;
 import com.devexperts.qd.ng.RecordBuffer;
 import com.devexperts.qd.ng.RecordCursor;
+import com.devexperts.qd.util.TimeSequenceUtil;
+import com.dxfeed.api.EventColumns;
 import com.dxfeed.api.impl.EventDelegateFlags;
 import com.dxfeed.event.IndexedEventSource;
 import com.dxfeed.event.market.impl.OrderMapping;
@@ -62,6 +64,35 @@ public final class OrderDelegate extends OrderBaseDelegateImpl<Order> {
         return event;
     }
 
+    @Override
+    public EventColumns<Order> createColumns() {
+        return new EventColumns<>(Order.class,
+            new String[] {"Price", "Size", "ExecutedSize", "TradePrice", "TradeSize"},
+            new String[] {"EventTime", "Index", "TimeSequence", "ActionTime", "OrderId", "AuxOrderId", "Count",
+                "TradeId"},
+            new String[] {"EventFlags", "TimeNanoPart", "Flags"});
+    }
+
+    @Override
+    public void getColumns(EventColumns<Order> columns, int row, RecordCursor cursor) {
+        columns.getLongColumn(0)[row] = TimeSequenceUtil.getTimeMillisFromTimeSequence(cursor.getEventTimeSequence());
+        columns.getIntColumn(0)[row] = cursor.getEventFlags();
+        columns.getLongColumn(1)[row] = ((long) getSource().id() << 32) | (m.getIndex(cursor) & 0xFFFFFFFFL);
+        columns.getLongColumn(2)[row] = (((long) m.getTimeSeconds(cursor)) << 32) | (m.getSequence(cursor) & 0xFFFFFFFFL);
+        columns.getIntColumn(1)[row] = m.getTimeNanoPart(cursor);
+        columns.getLongColumn(3)[row] = m.getActionTimeMillis(cursor);
+        columns.getLongColumn(4)[row] = m.getOrderId(cursor);
+        columns.getLongColumn(5)[row] = m.getAuxOrderId(cursor);
+        columns.getDoubleColumn(0)[row] = m.getPrice(cursor);
+        columns.getDoubleColumn(1)[row] = m.getSizeDouble(cursor);
+        columns.getDoubleColumn(2)[row] = m.getExecutedSize(cursor);
+        columns.getLongColumn(6)[row] = m.getCount(cursor);
+        columns.getIntColumn(2)[row] = m.getFlags(cursor);
+        columns.getLongColumn(7)[row] = m.getTradeId(cursor);
+        columns.getDoubleColumn(3)[row] = m.getTradePrice(cursor);
+        columns.getDoubleColumn(4)[row] = m.getTradeSize(cursor);
+    }
+
     @Override
     public RecordCursor putEvent(Order event, RecordBuffer buf) {
         RecordCursor cursor = super.putEvent(event, buf);
@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2025 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -15,6 +15,8 @@ import com.devexperts.qd.DataRecord;
 import com.devexperts.qd.QDContract;
 import com.devexperts.qd.ng.RecordBuffer;
 import com.devexperts.qd.ng.RecordCursor;
+import com.devexperts.qd.util.TimeSequenceUtil;
+import com.dxfeed.api.EventColumns;
 import com.dxfeed.api.impl.EventDelegateFlags;
 import com.dxfeed.event.IndexedEventSource;
 import com.dxfeed.event.market.impl.OrderImbalanceMapping;
@@ -54,6 +56,26 @@ public final class OrderImbalanceDelegate extends OrderImbalanceDelegateImpl<Ord
         return event;
     }
 
+    @Override
+    public EventColumns<OrderImbalance> createColumns() {
+        return new EventColumns<>(OrderImbalance.class,
+            new String[] {"RefPrice", "PairedSize", "ImbalanceSize", "NearPrice", "FarPrice"},
+            new String[] {"EventTime", "TimeSequence"},
+            new String[] {"Flags"});
+    }
+
+    @Override
+    public void getColumns(EventColumns<OrderImbalance> columns, int row, RecordCursor cursor) {
+        columns.getLongColumn(0)[row] = TimeSequenceUtil.getTimeMillisFromTimeSequence(cursor.getEventTimeSequence());
+        columns.getLongColumn(1)[row] = (((long) m.getTimeSeconds(cursor)) << 32) | (m.getSequence(cursor) & 0xFFFFFFFFL);
+        columns.getDoubleColumn(0)[row] = m.getRefPrice(cursor);
+        columns.getDoubleColumn(1)[row] = m.getPairedSizeDouble(cursor);
+        columns.getDoubleColumn(2)[row] = m.getImbalanceSizeDouble(cursor);
+        columns.getDoubleColumn(3)[row] = m.getNearPrice(cursor);
+        columns.getDoubleColumn(4)[row] = m.getFarPrice(cursor);
+        columns.getIntColumn(0)[row] = m.getFlags(cursor);
+    }
+
     @Override
     public RecordCursor putEvent(OrderImbalance event, RecordBuffer buf) {
         RecordCursor cursor = super.putEvent(event, buf);
@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2022 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -15,6 +15,8 @@ import com.devexperts.qd.DataRecord;
 import com.devexperts.qd.QDContract;
 import com.devexperts.qd.ng.RecordBuffer;
 import com.devexperts.qd.ng.RecordCursor;
+import com.devexperts.qd.util.TimeSequenceUtil;
+import com.dxfeed.api.EventColumns;
 import com.dxfeed.api.impl.EventDelegateFlags;
 import com.dxfeed.event.market.impl.ProfileMapping;
 
@@ -61,6 +63,34 @@ public final class ProfileDelegate extends MarketEventDelegateImpl<Profile> {
         return event;
     }
 
+    @Override
+    public EventColumns<Profile> createColumns() {
+        return new EventColumns<>(Profile.class,
+            new String[] {"Beta", "EarningsPerShare", "DividendFrequency", "ExDividendAmount", "High52WeekPrice",
+                "Low52WeekPrice", "Shares", "FreeFloat", "HighLimitPrice", "LowLimitPrice"},
+            new String[] {"EventTime", "HaltStartTime", "HaltEndTime"},
+            new String[] {"ExDividendDayId", "Flags"});
+    }
+
+    @Override
+    public void getColumns(EventColumns<Profile> columns, int row, RecordCursor cursor) {
+        columns.getLongColumn(0)[row] = TimeSequenceUtil.getTimeMillisFromTimeSequence(cursor.getEventTimeSequence());
+        columns.getDoubleColumn(0)[row] = m.getBeta(cursor);
+        columns.getDoubleColumn(1)[row] = m.getEps(cursor);
+        columns.getDoubleColumn(2)[row] = m.getDivFreqDouble(cursor);
+        columns.getDoubleColumn(3)[row] = m.getExdDivAmount(cursor);
+        columns.getIntColumn(0)[row] = m.getExdDivDate(cursor);
+        columns.getDoubleColumn(4)[row] = m.getHighPrice52(cursor);
+        columns.getDoubleColumn(5)[row] = m.getLowPrice52(cursor);
+        columns.getDoubleColumn(6)[row] = m.getSharesDouble(cursor);
+        columns.getDoubleColumn(7)[row] = m.getFreeFloatDouble(cursor);
+        columns.getDoubleColumn(8)[row] = m.getHighLimitPrice(cursor);
+        columns.getDoubleColumn(9)[row] = m.getLowLimitPrice(cursor);
+        columns.getLongColumn(1)[row] = m.getHaltStartTimeMillis(cursor);
+        columns.getLongColumn(2)[row] = m.getHaltEndTimeMillis(cursor);
+        columns.getIntColumn(1)[row] = m.getFlags(cursor);
+    }
+
     @Override
     public RecordCursor putEvent(Profile event, RecordBuffer buf) {
         RecordCursor cursor = super.putEvent(event, buf);
@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2021 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -15,6 +15,8 @@ import com.devexperts.qd.DataRecord;
 import com.devexperts.qd.QDContract;
 import com.devexperts.qd.ng.RecordBuffer;
 import com.devexperts.qd.ng.RecordCursor;
+import com.devexperts.qd.util.TimeSequenceUtil;
+import com.dxfeed.api.EventColumns;
 import com.dxfeed.api.impl.EventDelegateFlags;
 import com.dxfeed.event.market.impl.QuoteMapping;
 
@@ -55,6 +57,29 @@ public class QuoteDelegate extends MarketEventDelegateImpl<Quote> {
         return event;
     }
 
+    @Override
+    public EventColumns<Quote> createColumns() {
+        return new EventColumns<>(Quote.class,
+            new String[] {"BidPrice", "BidSize", "AskPrice", "AskSize"},
+            new String[] {"EventTime", "BidTime", "AskTime"},
+            new String[] {"TimeNanoPart", "BidExchangeCode", "AskExchangeCode", "TimeMillisSequence"});
+    }
+
+    @Override
+    public void getColumns(EventColumns<Quote> columns, int row, RecordCursor cursor) {
+        columns.getLongColumn(0)[row] = TimeSequenceUtil.getTimeMillisFromTimeSequence(cursor.getEventTimeSequence());
+        columns.getIntColumn(0)[row] = m.getTimeNanoPart(cursor);
+        columns.getLongColumn(1)[row] = m.getBidTimeMillis(cursor);
+        columns.getIntColumn(1)[row] = m.getBidExchangeCode(cursor);
+        columns.getDoubleColumn(0)[row] = m.getBidPrice(cursor);
+        columns.getDoubleColumn(1)[row] = m.getBidSizeDouble(cursor);
+        columns.getLongColumn(2)[row] = m.getAskTimeMillis(cursor);
+        columns.getIntColumn(2)[row] = m.getAskExchangeCode(cursor);
+        columns.getDoubleColumn(2)[row] = m.getAskPrice(cursor);
+        columns.getDoubleColumn(3)[row] = m.getAskSizeDouble(cursor);
+        columns.getIntColumn(3)[row] = m.getSequence(cursor);
+    }
+
     @Override
     public RecordCursor putEvent(Quote event, RecordBuffer buf) {
         RecordCursor cursor = super.putEvent(event, buf);
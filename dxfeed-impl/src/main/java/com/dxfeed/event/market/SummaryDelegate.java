@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2021 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -15,6 +15,8 @@ import com.devexperts.qd.DataRecord;
 import com.devexperts.qd.QDContract;
 import com.devexperts.qd.ng.RecordBuffer;
 import com.devexperts.qd.ng.RecordCursor;
+import com.devexperts.qd.util.TimeSequenceUtil;
+import com.dxfeed.api.EventColumns;
 import com.dxfeed.api.impl.EventDelegateFlags;
 import com.dxfeed.event.market.impl.SummaryMapping;
 
@@ -55,6 +57,30 @@ public final class SummaryDelegate extends MarketEventDelegateImpl<Summary> {
         return event;
     }
 
+    @Override
+    public EventColumns<Summary> createColumns() {
+        return new EventColumns<>(Summary.class,
+            new String[] {"DayOpenPrice", "DayHighPrice", "DayLowPrice", "DayClosePrice", "PrevDayClosePrice",
+                "PrevDayVolume"},
+            new String[] {"EventTime", "OpenInterest"},
+            new String[] {"DayId", "PrevDayId", "Flags"});
+    }
+
+    @Override
+    public void getColumns(EventColumns<Summary> columns, int row, RecordCursor cursor) {
+        columns.getLongColumn(0)[row] = TimeSequenceUtil.getTimeMillisFromTimeSequence(cursor.getEventTimeSequence());
+        columns.getIntColumn(0)[row] = m.getDayId(cursor);
+        columns.getDoubleColumn(0)[row] = m.getDayOpenPrice(cursor);
+        columns.getDoubleColumn(1)[row] = m.getDayHighPrice(cursor);
+        columns.getDoubleColumn(2)[row] = m.getDayLowPrice(cursor);
+        columns.getDoubleColumn(3)[row] = m.getDayClosePrice(cursor);
+        columns.getIntColumn(1)[row] = m.getPrevDayId(cursor);
+        columns.getDoubleColumn(4)[row] = m.getPrevDayClosePrice(cursor);
+        columns.getDoubleColumn(5)[row] = m.getPrevDayVolumeDouble(cursor);
+        columns.getLongColumn(1)[row] = m.getOpenInterest(cursor);
+        columns.getIntColumn(2)[row] = m.getFlags(cursor);
+    }
+
     @Override
     public RecordCursor putEvent(Summary event, RecordBuffer buf) {
         RecordCursor cursor = super.putEvent(event, buf);
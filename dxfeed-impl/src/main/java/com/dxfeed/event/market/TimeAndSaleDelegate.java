@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2025 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -15,6 +15,8 @@ import com.devexperts.qd.DataRecord;
 import com.devexperts.qd.QDContract;
 import com.devexperts.qd.ng.RecordBuffer;
 import com.devexperts.qd.ng.RecordCursor;
+import com.devexperts.qd.util.TimeSequenceUtil;
+import com.dxfeed.api.EventColumns;
 import com.dxfeed.api.impl.EventDelegateFlags;
 import com.dxfeed.event.market.impl.TimeAndSaleMapping;
 
@@ -58,6 +60,29 @@ public final class TimeAndSaleDelegate extends MarketEventDelegateImpl<TimeAndSa
         return event;
     }
 
+    @Override
+    public EventColumns<TimeAndSale> createColumns() {
+        return new EventColumns<>(TimeAndSale.class,
+            new String[] {"Price", "Size", "BidPrice", "AskPrice"},
+            new String[] {"EventTime", "Index", "TradeId"},
+            new String[] {"EventFlags", "TimeNanoPart", "ExchangeCode", "Flags"});
+    }
+
+    @Override
+    public void getColumns(EventColumns<TimeAndSale> columns, int row, RecordCursor cursor) {
+        columns.getLongColumn(0)[row] = TimeSequenceUtil.getTimeMillisFromTimeSequence(cursor.getEventTimeSequence());
+        columns.getIntColumn(0)[row] = cursor.getEventFlags();
+        columns.getLongColumn(1)[row] = (((long) m.getTimeSeconds(cursor)) << 32) | (m.getSequence(cursor) & 0xFFFFFFFFL);
+        columns.getIntColumn(1)[row] = m.getTimeNanoPart(cursor);
+        columns.getIntColumn(2)[row] = m.getExchangeCode(cursor);
+        columns.getLongColumn(2)[row] = m.getTradeId(cursor);
+        columns.getDoubleColumn(0)[row] = m.getPrice(cursor);
+        columns.getDoubleColumn(1)[row] = m.getSizeDouble(cursor);
+        columns.getDoubleColumn(2)[row] = m.getBidPrice(cursor);
+        columns.getDoubleColumn(3)[row] = m.getAskPrice(cursor);
+        columns.getIntColumn(3)[row] = m.getFlags(cursor);
+    }
+
     @Override
     public RecordCursor putEvent(TimeAndSale event, RecordBuffer buf) {
         RecordCursor cursor = super.putEvent(event, buf);
@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2025 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -15,6 +15,8 @@ import com.devexperts.qd.DataRecord;
 import com.devexperts.qd.QDContract;
 import com.devexperts.qd.ng.RecordBuffer;
 import com.devexperts.qd.ng.RecordCursor;
+import com.devexperts.qd.util.TimeSequenceUtil;
+import com.dxfeed.api.EventColumns;
 import com.dxfeed.api.impl.EventDelegateFlags;
 import com.dxfeed.event.market.impl.TradeETHMapping;
 
@@ -56,6 +58,30 @@ public final class TradeETHDelegate extends MarketEventDelegateImpl<TradeETH> {
         return event;
     }
 
+    @Override
+    public EventColumns<TradeETH> createColumns() {
+        return new EventColumns<>(TradeETH.class,
+            new String[] {"Price", "Size", "Change", "DayVolume", "DayTurnover"},
+            new String[] {"EventTime", "TimeSequence", "TradeId"},
+            new String[] {"TimeNanoPart", "ExchangeCode", "DayId", "Flags"});
+    }
+
+    @Override
+    public void getColumns(EventColumns<TradeETH> columns, int row, RecordCursor cursor) {
+        columns.getLongColumn(0)[row] = TimeSequenceUtil.getTimeMillisFromTimeSequence(cursor.getEventTimeSequence());
+        columns.getLongColumn(1)[row] = (((long) m.getTimeSeconds(cursor)) << 32) | (m.getSequence(cursor) & 0xFFFFFFFFL);
+        columns.getIntColumn(0)[row] = m.getTimeNanoPart(cursor);
+        columns.getIntColumn(1)[row] = m.getExchangeCode(cursor);
+        columns.getLongColumn(2)[row] = m.getTradeId(cursor);
+        columns.getDoubleColumn(0)[row] = m.getPrice(cursor);
+        columns.getDoubleColumn(1)[row] = m.getSizeDouble(cursor);
+        columns.getDoubleColumn(2)[row] = m.getChange(cursor);
+        columns.getIntColumn(2)[row] = m.getDayId(cursor);
+        columns.getDoubleColumn(3)[row] = m.getDayVolumeDouble(cursor);
+        columns.getDoubleColumn(4)[row] = m.getDayTurnover(cursor);
+        columns.getIntColumn(3)[row] = m.getFlags(cursor);
+    }
+
     @Override
     public RecordCursor putEvent(TradeETH event, RecordBuffer buf) {
         RecordCursor cursor = super.putEvent(event, buf);
@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2021 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -15,6 +15,8 @@ import com.devexperts.qd.DataRecord;
 import com.devexperts.qd.QDContract;
 import com.devexperts.qd.ng.RecordBuffer;
 import com.devexperts.qd.ng.RecordCursor;
+import com.devexperts.qd.util.TimeSequenceUtil;
+import com.dxfeed.api.EventColumns;
 import com.dxfeed.api.impl.EventDelegate;
 import com.dxfeed.api.impl.EventDelegateFlags;
 import com.dxfeed.event.misc.impl.MessageMapping;
@@ -47,6 +49,19 @@ public final class MessageDelegate extends EventDelegate<Message> {
         return event;
     }
 
+    @Override
+    public EventColumns<Message> createColumns() {
+        return new EventColumns<>(Message.class,
+            new String[0],
+            new String[] {"EventTime"},
+            new String[0]);
+    }
+
+    @Override
+    public void getColumns(EventColumns<Message> columns, int row, RecordCursor cursor) {
+        columns.getLongColumn(0)[row] = TimeSequenceUtil.getTimeMillisFromTimeSequence(cursor.getEventTimeSequence());
+    }
+
     @Override
     public RecordCursor putEvent(Message event, RecordBuffer buf) {
         RecordCursor cursor = super.putEvent(event, buf);
@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2024 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -15,6 +15,8 @@ import com.devexperts.qd.DataRecord;
 import com.devexperts.qd.QDContract;
 import com.devexperts.qd.ng.RecordBuffer;
 import com.devexperts.qd.ng.RecordCursor;
+import com.devexperts.qd.util.TimeSequenceUtil;
+import com.dxfeed.api.EventColumns;
 import com.dxfeed.api.impl.EventDelegate;
 import com.dxfeed.api.impl.EventDelegateFlags;
 import com.dxfeed.event.misc.impl.TextMessageMapping;
@@ -48,6 +50,20 @@ public final class TextMessageDelegate extends EventDelegate<TextMessage> {
         return event;
     }
 
+    @Override
+    public EventColumns<TextMessage> createColumns() {
+        return new EventColumns<>(TextMessage.class,
+            new String[0],
+            new String[] {"EventTime", "TimeSequence"},
+            new String[0]);
+    }
+
+    @Override
+    public void getColumns(EventColumns<TextMessage> columns, int row, RecordCursor cursor) {
+        columns.getLongColumn(0)[row] = TimeSequenceUtil.getTimeMillisFromTimeSequence(cursor.getEventTimeSequence());
+        columns.getLongColumn(1)[row] = (((long) m.getTimeSeconds(cursor)) << 32) | (m.getSequence(cursor) & 0xFFFFFFFFL);
+    }
+
     @Override
     public RecordCursor putEvent(TextMessage event, RecordBuffer buf) {
         RecordCursor cursor = super.putEvent(event, buf);
@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2021 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -15,6 +15,8 @@ import com.devexperts.qd.DataRecord;
 import com.devexperts.qd.QDContract;
 import com.devexperts.qd.ng.RecordBuffer;
 import com.devexperts.qd.ng.RecordCursor;
+import com.devexperts.qd.util.TimeSequenceUtil;
+import com.dxfeed.api.EventColumns;
 import com.dxfeed.api.impl.EventDelegate;
 import com.dxfeed.api.impl.EventDelegateFlags;
 import com.dxfeed.event.option.impl.GreeksMapping;
@@ -55,6 +57,28 @@ public final class GreeksDelegate extends EventDelegate<Greeks> {
         return event;
     }
 
+    @Override
+    public EventColumns<Greeks> createColumns() {
+        return new EventColumns<>(Greeks.class,
+            new String[] {"Price", "Volatility", "Delta", "Gamma", "Theta", "Rho", "Vega"},
+            new String[] {"EventTime", "Index"},
+            new String[] {"EventFlags"});
+    }
+
+    @Override
+    public void getColumns(EventColumns<Greeks> columns, int row, RecordCursor cursor) {
+        columns.getLongColumn(0)[row] = TimeSequenceUtil.getTimeMillisFromTimeSequence(cursor.getEventTimeSequence());
+        columns.getIntColumn(0)[row] = cursor.getEventFlags();
+        columns.getLongColumn(1)[row] = (((long) m.getTimeSeconds(cursor)) << 32) | (m.getSequence(cursor) & 0xFFFFFFFFL);
+        columns.getDoubleColumn(0)[row] = m.getPrice(cursor);
+        columns.getDoubleColumn(1)[row] = m.getVolatility(cursor);
+        columns.getDoubleColumn(2)[row] = m.getDelta(cursor);
+        columns.getDoubleColumn(3)[row] = m.getGamma(cursor);
+        columns.getDoubleColumn(4)[row] = m.getTheta(cursor);
+        columns.getDoubleColumn(5)[row] = m.getRho(cursor);
+        columns.getDoubleColumn(6)[row] = m.getVega(cursor);
+    }
+
     @Override
     public RecordCursor putEvent(Greeks event, RecordBuffer buf) {
         RecordCursor cursor = super.putEvent(event, buf);
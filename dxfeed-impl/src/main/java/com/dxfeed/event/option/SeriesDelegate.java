@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2021 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -15,6 +15,8 @@ import com.devexperts.qd.DataRecord;
 import com.devexperts.qd.QDContract;
 import com.devexperts.qd.ng.RecordBuffer;
 import com.devexperts.qd.ng.RecordCursor;
+import com.devexperts.qd.util.TimeSequenceUtil;
+import com.dxfeed.api.EventColumns;
 import com.dxfeed.api.impl.EventDelegate;
 import com.dxfeed.api.impl.EventDelegateFlags;
 import com.dxfeed.event.option.impl.SeriesMapping;
@@ -57,6 +59,31 @@ public final class SeriesDelegate extends EventDelegate<Series> {
         return event;
     }
 
+    @Override
+    public EventColumns<Series> createColumns() {
+        return new EventColumns<>(Series.class,
+            new String[] {"Volatility", "CallVolume", "PutVolume", "PutCallRatio", "ForwardPrice", "Dividend",
+                "Interest"},
+            new String[] {"EventTime", "Index", "TimeSequence"},
+            new String[] {"EventFlags", "Expiration"});
+    }
+
+    @Override
+    public void getColumns(EventColumns<Series> columns, int row, RecordCursor cursor) {
+        columns.getLongColumn(0)[row] = TimeSequenceUtil.getTimeMillisFromTimeSequence(cursor.getEventTimeSequence());
+        columns.getIntColumn(0)[row] = cursor.getEventFlags();
+        columns.getLongColumn(1)[row] = ((long) m.getIndex(cursor));
+        columns.getLongColumn(2)[row] = (((long) m.getTimeSeconds(cursor)) << 32) | (m.getSequence(cursor) & 0xFFFFFFFFL);
+        columns.getIntColumn(1)[row] = m.getExpiration(cursor);
+        columns.getDoubleColumn(0)[row] = m.getVolatility(cursor);
+        columns.getDoubleColumn(1)[row] = m.getCallVolume(cursor);
+        columns.getDoubleColumn(2)[row] = m.getPutVolume(cursor);
+        columns.getDoubleColumn(3)[row] = m.getPutCallRatio(cursor);
+        columns.getDoubleColumn(4)[row] = m.getForwardPrice(cursor);
+        columns.getDoubleColumn(5)[row] = m.getDividend(cursor);
+        columns.getDoubleColumn(6)[row] = m.getInterest(cursor);
+    }
+
     @Override
     public RecordCursor putEvent(Series event, RecordBuffer buf) {
         RecordCursor cursor = super.putEvent(event, buf);
@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2021 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -15,6 +15,8 @@ import com.devexperts.qd.DataRecord;
 import com.devexperts.qd.QDContract;
 import com.devexperts.qd.ng.RecordBuffer;
 import com.devexperts.qd.ng.RecordCursor;
+import com.devexperts.qd.util.TimeSequenceUtil;
+import com.dxfeed.api.EventColumns;
 import com.dxfeed.api.impl.EventDelegate;
 import com.dxfeed.api.impl.EventDelegateFlags;
 import com.dxfeed.event.option.impl.TheoPriceMapping;
@@ -54,6 +56,27 @@ public final class TheoPriceDelegate extends EventDelegate<TheoPrice> {
         return event;
     }
 
+    @Override
+    public EventColumns<TheoPrice> createColumns() {
+        return new EventColumns<>(TheoPrice.class,
+            new String[] {"Price", "UnderlyingPrice", "Delta", "Gamma", "Dividend", "Interest"},
+            new String[] {"EventTime", "Index"},
+            new String[] {"EventFlags"});
+    }
+
+    @Override
+    public void getColumns(EventColumns<TheoPrice> columns, int row, RecordCursor cursor) {
+        columns.getLongColumn(0)[row] = TimeSequenceUtil.getTimeMillisFromTimeSequence(cursor.getEventTimeSequence());
+        columns.getIntColumn(0)[row] = cursor.getEventFlags();
+        columns.getLongColumn(1)[row] = (((long) m.getTimeSeconds(cursor)) << 32) | (m.getSequence(cursor) & 0xFFFFFFFFL);
+        columns.getDoubleColumn(0)[row] = m.getPrice(cursor);
+        columns.getDoubleColumn(1)[row] = m.getUnderlyingPrice(cursor);
+        columns.getDoubleColumn(2)[row] = m.getDelta(cursor);
+        columns.getDoubleColumn(3)[row] = m.getGamma(cursor);
+        columns.getDoubleColumn(4)[row] = m.getDividend(cursor);
+        columns.getDoubleColumn(5)[row] = m.getInterest(cursor);
+    }
+
     @Override
     public RecordCursor putEvent(TheoPrice event, RecordBuffer buf) {
         RecordCursor cursor = super.putEvent(event, buf);
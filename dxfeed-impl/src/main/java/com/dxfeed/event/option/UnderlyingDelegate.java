@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2021 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -15,6 +15,8 @@ import com.devexperts.qd.DataRecord;
 import com.devexperts.qd.QDContract;
 import com.devexperts.qd.ng.RecordBuffer;
 import com.devexperts.qd.ng.RecordCursor;
+import com.devexperts.qd.util.TimeSequenceUtil;
+import com.dxfeed.api.EventColumns;
 import com.dxfeed.api.impl.EventDelegate;
 import com.dxfeed.api.impl.EventDelegateFlags;
 import com.dxfeed.event.option.impl.UnderlyingMapping;
@@ -54,6 +56,28 @@ public final class UnderlyingDelegate extends EventDelegate<Underlying> {
         return event;
     }
 
+    @Override
+    public EventColumns<Underlying> createColumns() {
+        return new EventColumns<>(Underlying.class,
+            new String[] {"Volatility", "FrontVolatility", "BackVolatility", "CallVolume", "PutVolume",
+                "PutCallRatio"},
+            new String[] {"EventTime", "Index"},
+            new String[] {"EventFlags"});
+    }
+
+    @Override
+    public void getColumns(EventColumns<Underlying> columns, int row, RecordCursor cursor) {
+        columns.getLongColumn(0)[row] = TimeSequenceUtil.getTimeMillisFromTimeSequence(cursor.getEventTimeSequence());
+        columns.getIntColumn(0)[row] = cursor.getEventFlags();
+        columns.getLongColumn(1)[row] = (((long) m.getTimeSeconds(cursor)) << 32) | (m.getSequence(cursor) & 0xFFFFFFFFL);
+        columns.getDoubleColumn(0)[row] = m.getVolatility(cursor);
+        columns.getDoubleColumn(1)[row] = m.getFrontVolatility(cursor);
+        columns.getDoubleColumn(2)[row] = m.getBackVolatility(cursor);
+        columns.getDoubleColumn(3)[row] = m.getCallVolume(cursor);
+        columns.getDoubleColumn(4)[row] = m.getPutVolume(cursor);
+        columns.getDoubleColumn(5)[row] = m.getPutCallRatio(cursor);
+    }
+
     @Override
     public RecordCursor putEvent(Underlying event, RecordBuffer buf) {
         RecordCursor cursor = super.putEvent(event, buf);
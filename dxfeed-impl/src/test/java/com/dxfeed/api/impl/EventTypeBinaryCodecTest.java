@@ -0,0 +1,141 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.dxfeed.api.impl;
+
+import com.devexperts.io.Marshalled;
+import com.devexperts.io.Marshaller;
+import com.devexperts.io.MarshallingException;
+import com.dxfeed.event.EventType;
+import com.dxfeed.event.IndexedEvent;
+import com.dxfeed.event.candle.Candle;
+import com.dxfeed.event.candle.CandleSymbol;
+import com.dxfeed.event.market.Order;
+import com.dxfeed.event.market.OrderSource;
+import com.dxfeed.event.market.Quote;
+import com.dxfeed.event.market.Side;
+import com.dxfeed.event.market.TimeAndSale;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class EventTypeBinaryCodecTest {
+
+    @Test
+    public void testEvents() {
+        Quote quote = new Quote("IBM");
+        quote.setBidPrice(123.25);
+        quote.setBidSize(100);
+        quote.setAskPrice(123.5);
+        quote.setBidTime(1_700_000_000_000L);
+        Quote regional = new Quote("IBM&Q");
+        regional.setAskExchangeCode('Q'); // regional records always carry their exchange code
+        regional.setBidExchangeCode('Q');
+        regional.setAskSize(5);
+        Order order = new Order("MSFT");
+        order.setSource(OrderSource.NTV);
+        order.setIndex(12345);
+        order.setOrderSide(Side.SELL);
+        order.setPrice(410.1);
+        order.setSize(3);
+        order.setEventFlags(IndexedEvent.SNAPSHOT_BEGIN);
+        TimeAndSale sale = new TimeAndSale("GOOG");
+        sale.setTime(1_700_000_001_000L);
+        sale.setSequence(7);
+        sale.setPrice(140.5);
+        sale.setExchangeSaleConditions("TI");
+        Candle candle = new Candle(CandleSymbol.valueOf("AAPL{=1d}"));
+        candle.setTime(1_700_006_400_000L);
+        candle.setOpen(1);
+        candle.setClose(2);
+        candle.setVolume(1000);
+        List<EventType<?>> events = Arrays.asList(quote, regional, order, sale, candle, new CustomQuote("IBM"));
+
+        List<EventType<?>> result = checkReadWrite(events);
+        assertEquals(CustomQuote.class, result.get(5).getClass()); // written with serialization
+    }
+
+    @Test
+    public void testSmallerThanSerialization() {
+        List<EventType<?>> events = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Quote quote = new Quote(i % 2 == 0 ? "IBM" : "MSFT");
+            // prices are representable in decimal fields of QTP records
+            quote.setBidPrice(100 + i / 4.0);
+            quote.setAskPrice(100.5 + i / 4.0);
+            quote.setBidSize(i);
+            quote.setAskSize(i + 1);
+            events.add(quote);
+        }
+        int binaryLength = Marshalled.forObject(events, Marshaller.binaryForClass(List.class)).getBytes().length;
+        int typedLength = Marshalled.forObject(events, Marshaller.forClass(List.class)).getBytes().length;
+        assertTrue(binaryLength + " < " + typedLength, binaryLength < typedLength / 2);
+        checkReadWrite(events);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Test
+    public void testDifferentScheme() {
+        Marshaller<List<EventType<?>>> marshaller = (Marshaller) Marshaller.binaryForClass(List.class);
+        byte[] bytes = Marshalled.forObject(Arrays.asList(new Quote("IBM")), marshaller).getBytes();
+        // replace the first character of scheme digest to emulate a different scheme on the writing side
+        byte[] digest = DXFeedScheme.getInstance().getDigest().getBytes(StandardCharsets.UTF_8);
+        int position = indexOf(bytes, digest);
+        assertTrue(position >= 0);
+        bytes[position] = (byte) (bytes[position] == 'A' ? 'B' : 'A');
+        try {
+            Marshalled.forBytes(bytes, marshaller).getObject();
+            fail();
+        } catch (MarshallingException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("different scheme"));
+        }
+    }
+
+    private static int indexOf(byte[] bytes, byte[] part) {
+        search:
+        for (int i = 0; i + part.length <= bytes.length; i++) {
+            for (int j = 0; j < part.length; j++) {
+                if (bytes[i + j] != part[j])
+                    continue search;
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static List<EventType<?>> checkReadWrite(List<EventType<?>> events) {
+        Marshaller<List<EventType<?>>> marshaller = (Marshaller) Marshaller.binaryForClass(List.class);
+        byte[] bytes = Marshalled.forObject(events, marshaller).getBytes();
+        List<EventType<?>> result = Marshalled.forBytes(bytes, marshaller).getObject();
+        assertEquals(events.size(), result.size());
+        for (int i = 0; i < events.size(); i++) {
+            assertEquals(events.get(i).getClass(), result.get(i).getClass());
+            assertEquals(events.get(i).toString(), result.get(i).toString());
+        }
+        return result;
+    }
+
+    private static class CustomQuote extends Quote {
+        private static final long serialVersionUID = 0;
+
+        CustomQuote(String symbol) {
+            super(symbol);
+        }
+    }
+}
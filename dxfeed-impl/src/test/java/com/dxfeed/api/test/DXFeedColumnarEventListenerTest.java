@@ -0,0 +1,164 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.dxfeed.api.test;
+
+import com.devexperts.test.ThreadCleanCheck;
+import com.dxfeed.api.DXEndpoint;
+import com.dxfeed.api.DXFeedColumnarEventListener;
+import com.dxfeed.api.DXFeedSubscription;
+import com.dxfeed.api.DXPublisher;
+import com.dxfeed.api.EventColumns;
+import com.dxfeed.event.market.MarketEvent;
+import com.dxfeed.event.market.Quote;
+import com.dxfeed.event.market.Trade;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class DXFeedColumnarEventListenerTest {
+    private DXEndpoint endpoint;
+    private DXPublisher publisher;
+
+    private final Map<Class<?>, List<Object>> symbols = new HashMap<>();
+    private final Map<Class<?>, List<Double>> prices = new HashMap<>();
+    private final List<Quote> events = new ArrayList<>();
+
+    @Before
+    public void setUp() throws Exception {
+        ThreadCleanCheck.before();
+        endpoint = DXEndpoint.create(DXEndpoint.Role.LOCAL_HUB);
+        endpoint.executor(Runnable::run);
+        publisher = endpoint.getPublisher();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        endpoint.close();
+        ThreadCleanCheck.after();
+    }
+
+    @Test
+    public void testColumns() {
+        DXFeedSubscription<MarketEvent> sub = new DXFeedSubscription<>(Quote.class, Trade.class);
+        sub.addColumnarEventListener(this::receive);
+        sub.attach(endpoint.getFeed());
+        sub.addSymbols("IBM", "MSFT");
+
+        publishQuotes(1);
+        Trade trade = new Trade("IBM");
+        trade.setPrice(10);
+        trade.setSize(100);
+        publisher.publishEvents(Arrays.asList(trade));
+
+        assertEquals(Arrays.asList("IBM", "MSFT"), symbols.get(Quote.class));
+        assertEquals(Arrays.asList(1.0, 2.0), prices.get(Quote.class));
+        assertEquals(Arrays.asList("IBM"), symbols.get(Trade.class));
+        assertEquals(Arrays.asList(10.0), prices.get(Trade.class));
+        sub.close();
+    }
+
+    @Test
+    public void testColumnsWithEventListener() {
+        DXFeedSubscription<Quote> sub = new DXFeedSubscription<>(Quote.class);
+        DXFeedColumnarEventListener<Quote> listener = this::receive;
+        sub.addColumnarEventListener(listener);
+        sub.addEventListener(events::addAll);
+        sub.attach(endpoint.getFeed());
+        sub.addSymbols("IBM", "MSFT");
+
+        publishQuotes(1);
+        assertEquals(2, events.size());
+        assertEquals(Arrays.asList(1.0, 2.0), prices.get(Quote.class));
+
+        sub.removeColumnarEventListener(listener);
+        publishQuotes(3);
+        assertEquals(4, events.size());
+        assertEquals(Arrays.asList(1.0, 2.0), prices.get(Quote.class));
+        sub.close();
+    }
+
+    @Test
+    public void testEventTimeColumn() {
+        // properties of base event class are in columns, too
+        DXEndpoint endpoint = DXEndpoint.newBuilder()
+            .withRole(DXEndpoint.Role.LOCAL_HUB)
+            .withProperty(DXEndpoint.DXENDPOINT_EVENT_TIME_PROPERTY, "true")
+            .build();
+        endpoint.executor(Runnable::run);
+        List<Long> eventTimes = new ArrayList<>();
+        DXFeedSubscription<Quote> sub = new DXFeedSubscription<>(Quote.class);
+        sub.addColumnarEventListener(list -> {
+            for (EventColumns<? extends Quote> columns : list) {
+                long[] eventTime = columns.getLongColumn("EventTime");
+                for (int i = 0; i < columns.size(); i++) {
+                    eventTimes.add(eventTime[i]);
+                }
+            }
+        });
+        sub.attach(endpoint.getFeed());
+        sub.addSymbols("IBM");
+        Quote quote = new Quote("IBM");
+        quote.setBidPrice(1);
+        quote.setEventTime(1234567000L);
+        endpoint.getPublisher().publishEvents(Arrays.asList(quote));
+        assertEquals(Arrays.asList(1234567000L), eventTimes);
+        sub.close();
+        endpoint.close();
+    }
+
+    @Test
+    public void testColumnNames() {
+        EventColumns<Quote> columns = new EventColumns<>(Quote.class,
+            new String[] {"BidPrice", "AskPrice"}, new String[] {"Time"}, new String[] {"Sequence"});
+        assertEquals(0, columns.size());
+        for (int i = 0; i < 100; i++) {
+            int row = columns.addRow("S" + i);
+            columns.getDoubleColumn("AskPrice")[row] = i;
+        }
+        assertEquals(100, columns.size());
+        assertEquals("S99", columns.getSymbols()[99]);
+        assertEquals(99.0, columns.getDoubleColumn(1)[99], 0.0);
+        assertEquals(Arrays.asList("BidPrice", "AskPrice"), columns.getDoubleColumnNames());
+        assertArrayEquals(columns.getLongColumn(0), columns.getLongColumn("Time"));
+        assertTrue(columns.getIntColumn("Sequence").length >= 100);
+        columns.clear();
+        assertEquals(0, columns.size());
+    }
+
+    private <E extends MarketEvent> void receive(List<EventColumns<? extends E>> list) {
+        for (EventColumns<? extends E> columns : list) {
+            double[] price = columns.getDoubleColumn(columns.getEventType() == Quote.class ? "BidPrice" : "Price");
+            for (int i = 0; i < columns.size(); i++) {
+                symbols.computeIfAbsent(columns.getEventType(), k -> new ArrayList<>()).add(columns.getSymbols()[i]);
+                prices.computeIfAbsent(columns.getEventType(), k -> new ArrayList<>()).add(price[i]);
+            }
+        }
+    }
+
+    private void publishQuotes(double bidPrice) {
+        Quote ibm = new Quote("IBM");
+        ibm.setBidPrice(bidPrice);
+        Quote msft = new Quote("MSFT");
+        msft.setBidPrice(bidPrice + 1);
+        publisher.publishEvents(Arrays.asList(ibm, msft));
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.dxfeed.api.test;
+
+import com.devexperts.test.ThreadCleanCheck;
+import com.dxfeed.api.DXEndpoint;
+import com.dxfeed.api.DXFeedEventListener;
+import com.dxfeed.api.DXFeedSubscription;
+import com.dxfeed.api.DXFeedTransientEventListener;
+import com.dxfeed.api.DXPublisher;
+import com.dxfeed.event.market.Quote;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class DXFeedTransientEventListenerTest {
+    private DXEndpoint endpoint;
+    private DXPublisher publisher;
+    private DXFeedSubscription<Quote> sub;
+
+    private final List<Quote> received = new ArrayList<>();
+    private final List<Double> bidPrices = new ArrayList<>();
+
+    @Before
+    public void setUp() throws Exception {
+        ThreadCleanCheck.before();
+        endpoint = DXEndpoint.create(DXEndpoint.Role.LOCAL_HUB);
+        endpoint.executor(Runnable::run);
+        publisher = endpoint.getPublisher();
+        sub = new DXFeedSubscription<>(Quote.class);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        sub.close();
+        endpoint.close();
+        ThreadCleanCheck.after();
+    }
+
+    @Test
+    public void testEventsAreReused() {
+        sub.addEventListener((DXFeedTransientEventListener<Quote>) this::receive);
+        sub.attach(endpoint.getFeed());
+        sub.addSymbols("IBM", "MSFT");
+
+        publish(1);
+        assertEquals(Arrays.asList(1.0, 2.0), bidPrices);
+        List<Quote> first = new ArrayList<>(received);
+        clear();
+
+        publish(3);
+        assertEquals(Arrays.asList(3.0, 4.0), bidPrices);
+        for (int i = 0; i < first.size(); i++) {
+            assertSame(first.get(i), received.get(i));
+        }
+    }
+
+    @Test
+    public void testEventsAreNotReusedWithRegularListener() {
+        sub.addEventListener((DXFeedTransientEventListener<Quote>) this::receive);
+        sub.addEventListener((DXFeedEventListener<Quote>) events -> {});
+        sub.attach(endpoint.getFeed());
+        sub.addSymbols("IBM", "MSFT");
+
+        publish(1);
+        List<Quote> first = new ArrayList<>(received);
+        clear();
+
+        publish(3);
+        assertEquals(Arrays.asList(3.0, 4.0), bidPrices);
+        for (int i = 0; i < first.size(); i++) {
+            assertNotSame(first.get(i), received.get(i));
+            assertEquals(i + 1.0, first.get(i).getBidPrice(), 0.0); // not overwritten
+        }
+    }
+
+    private void receive(List<Quote> events) {
+        for (Quote quote : events) {
+            received.add(quote);
+            bidPrices.add(quote.getBidPrice()); // copy data during the callback
+        }
+    }
+
+    private void clear() {
+        received.clear();
+        bidPrices.clear();
+    }
+
+    private void publish(double bidPrice) {
+        Quote ibm = new Quote("IBM");
+        ibm.setBidPrice(bidPrice);
+        Quote msft = new Quote("MSFT");
+        msft.setBidPrice(bidPrice + 1);
+        publisher.publishEvents(Arrays.asList(ibm, msft));
+    }
+}
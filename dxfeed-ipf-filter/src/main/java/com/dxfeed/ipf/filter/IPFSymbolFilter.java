@@ -21,6 +21,7 @@ import com.devexperts.qd.SymbolCodec;
 import com.devexperts.qd.kit.FilterSyntaxException;
 import com.devexperts.qd.util.QDConfig;
 import com.devexperts.qd.util.SymbolSet;
+import com.devexperts.qd.util.SymbolSetDelta;
 import com.devexperts.util.LogUtil;
 import com.devexperts.util.TimeFormat;
 import com.devexperts.util.TimePeriod;
@@ -99,6 +100,8 @@ public class IPFSymbolFilter extends QDFilter {
 
     private Future<?> updateTask;
 
+    private SymbolSetDelta delta; // change from the previous instance, assigned before this instance is published
+
     // --- instance code ---
 
     IPFSymbolFilter(DataScheme scheme, String address, Config config, QDFilter source) {
@@ -254,19 +257,37 @@ public class IPFSymbolFilter extends QDFilter {
             log.error("Failed to update IPF filter: " + e.getMessage(), e);
             return; // will try again
         }
-        if (hasSameContents(other)) {
+        SymbolSetDelta delta = computeDelta(other);
+        if (delta.isEmpty() && tradingHours.equals(other.tradingHours)) {
             log.info("Symbols in IPF has not changed");
             // update last modified time and keep this instance
             lastModified = other.lastModified;
             lastChecked = System.currentTimeMillis();
             return;
         }
-        // send change notification and drop this instance
+        log.info("Symbols in IPF have changed: " + delta);
+        // send change notification with the delta and drop this instance
+        other.delta = delta;
         fireFilterUpdated(IPFRegistry.registerUpdate(other));
     }
 
-    private boolean hasSameContents(IPFSymbolFilter other) {
-        return set.equals(other.set) && tradingHours.equals(other.tradingHours);
+    private SymbolSetDelta computeDelta(IPFSymbolFilter other) {
+        SymbolSet added = SymbolSet.createInstance();
+        SymbolSet removed = SymbolSet.createInstance();
+        other.set.examine((cipher, symbol) -> {
+            if (!set.contains(cipher, symbol))
+                added.add(cipher, symbol);
+        });
+        set.examine((cipher, symbol) -> {
+            if (!other.set.contains(cipher, symbol))
+                removed.add(cipher, symbol);
+        });
+        return new Delta(this, other, added, removed);
+    }
+
+    @Override
+    public SymbolSetDelta getSymbolSetDelta() {
+        return delta;
     }
 
     public long getUpdateMillis() {
@@ -347,6 +368,21 @@ public class IPFSymbolFilter extends QDFilter {
         return FILTER_NAME_PREFIX + "[" + QDConfig.escape(address) + config.suffixString() + "]";
     }
 
+    // accept method also accepts symbols with "{...}" suffix, so removal is checked with the updated filter itself
+    private static class Delta extends SymbolSetDelta {
+        private final IPFSymbolFilter target;
+
+        Delta(IPFSymbolFilter source, IPFSymbolFilter target, SymbolSet addedSymbols, SymbolSet removedSymbols) {
+            super(source, addedSymbols, removedSymbols);
+            this.target = target;
+        }
+
+        @Override
+        public boolean isRemoved(int cipher, String symbol) {
+            return !getRemovedSymbols().isEmpty() && !target.accept(null, null, cipher, symbol);
+        }
+    }
+
     public static class Config {
         TimePeriod update;
         String schedule;
@@ -0,0 +1,91 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.dxfeed.ipf.filter.test;
+
+import com.devexperts.qd.QDFactory;
+import com.devexperts.qd.QDFilter;
+import com.devexperts.qd.SymbolCodec;
+import com.devexperts.qd.util.SymbolSet;
+import com.devexperts.qd.util.SymbolSetDelta;
+import com.devexperts.test.ThreadCleanCheck;
+import com.devexperts.test.TraceRunner;
+import com.dxfeed.ipf.filter.IPFSymbolFilter;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(TraceRunner.class)
+public class IPFFilterDeltaTest {
+    private static final File FILE = new File("IPFFilterDeltaTest.ipf");
+
+    @Before
+    public void setUp() {
+        ThreadCleanCheck.before();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        assertTrue(FILE.delete());
+        ThreadCleanCheck.after();
+    }
+
+    @Test
+    public void testDelta() throws IOException {
+        IPFWriter writer = new IPFWriter(FILE);
+        writer.writeIPFFile("A", "B", "C");
+        IPFSymbolFilter filter = IPFSymbolFilter.create(QDFactory.getDefaultScheme(), "ipf[" + FILE + ",update=1h]");
+        assertNull(filter.getSymbolSetDelta());
+
+        // no change -- same instance
+        writer.writeIPFFile("C", "B", "A");
+        filter.forceUpdate();
+        assertSame(filter, filter.getUpdatedFilter());
+
+        writer.writeIPFFile("B", "C", "D");
+        filter.forceUpdate();
+        QDFilter updated = filter.getUpdatedFilter();
+        assertNotSame(filter, updated);
+        SymbolSetDelta delta = updated.getSymbolSetDelta();
+        assertSame(filter, delta.getSource());
+        SymbolCodec codec = QDFactory.getDefaultScheme().getCodec();
+        assertEquals(1, delta.getAddedSymbols().size());
+        assertTrue(contains(delta.getAddedSymbols(), codec, "D"));
+        assertEquals(1, delta.getRemovedSymbols().size());
+        assertTrue(contains(delta.getRemovedSymbols(), codec, "A"));
+
+        assertTrue(isRemoved(delta, codec, "A"));
+        assertTrue(isRemoved(delta, codec, "A{=d}"));
+        assertFalse(isRemoved(delta, codec, "B"));
+        assertFalse(isRemoved(delta, codec, "B{=d}"));
+    }
+
+    private static boolean contains(SymbolSet set, SymbolCodec codec, String symbol) {
+        int cipher = codec.encode(symbol);
+        return set.contains(cipher, cipher == 0 ? symbol : null);
+    }
+
+    private static boolean isRemoved(SymbolSetDelta delta, SymbolCodec codec, String symbol) {
+        int cipher = codec.encode(symbol);
+        return delta.isRemoved(cipher, cipher == 0 ? symbol : null);
+    }
+}
@@ -0,0 +1,367 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.dxfeed.ondemand.impl;
+
+import com.devexperts.util.TimeUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Append-only file store of cached segments that is mapped into memory.
+ * Block bodies are appended to the data file and each segment is described by an entry in the index file,
+ * so that the index is loaded on restart without reading block bodies. Bodies are read from the data file
+ * only when their segments are needed for replay.
+ *
+ * <p>Index file starts with a header that keeps committed sizes of both files, anything beyond them is ignored.
+ * Entries of removed segments are marked in place and their space is reclaimed by {@link #compact compaction}
+ * that moves the remaining entries and bodies towards the start of their files.
+ * Changes survive termination of the process as soon as they are made, but they are forced
+ * to the storage device only when the store is closed.
+ * Index file is locked while the store is open, so it is used by a single cache at a time.
+ *
+ * <p>SYNC: Cache instance.
+ */
+class BlockStore {
+    static final String INDEX_FILE_NAME = "mdrcache.index";
+    static final String DATA_FILE_NAME = "mdrcache.data";
+
+    private static final long INDEX_HEADER = 0x4D44524964783031L; // "MDRIdx01"
+    private static final long DATA_HEADER = 0x4D44524461743031L; // "MDRDat01"
+
+    private static final int DATA_SIZE_POSITION = 8;
+    private static final int INDEX_SIZE_POSITION = 16;
+    private static final int INDEX_START = 24;
+    private static final int DATA_START = 8;
+
+    // Entry: length, usage, download time, start time, end time, data position, body length, exchange, type, symbol
+    private static final int USAGE_OFFSET = 4;
+    private static final int DOWNLOAD_TIME_OFFSET = 12;
+    private static final int START_TIME_OFFSET = 20;
+    private static final int END_TIME_OFFSET = 28;
+    private static final int DATA_POSITION_OFFSET = 36;
+    private static final int BODY_LENGTH_OFFSET = 44;
+    private static final int EXCHANGE_OFFSET = 48;
+    private static final int TYPE_OFFSET = 50;
+    private static final int SYMBOL_OFFSET = 52;
+
+    private static final long REMOVED = -1; // usage of removed entries
+
+    // to wait for a store that is being closed by the previous cache with the same path
+    private static final long LOCK_TIMEOUT = 2 * TimeUtil.SECOND;
+    private static final long LOCK_RETRY_PERIOD = 50;
+
+    private static final int MIN_CAPACITY = 1 << 16;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE;
+
+    private static final Comparator<Segment> POSITION_COMPARATOR =
+        (segment1, segment2) -> Integer.compare(segment1.storePosition, segment2.storePosition);
+
+    private final RandomAccessFile indexFile;
+    private final RandomAccessFile dataFile;
+    private MappedByteBuffer index;
+    private MappedByteBuffer data;
+    private int indexSize;
+    private int dataSize;
+    private long removedSize; // length of removed bodies
+
+    /**
+     * Opens store in the specified directory or creates an empty one.
+     * @param dir directory of the store, {@code null} for the current one.
+     */
+    static BlockStore open(File dir) throws IOException {
+        RandomAccessFile indexFile = new RandomAccessFile(new File(dir, INDEX_FILE_NAME), "rw");
+        try {
+            lock(indexFile);
+            RandomAccessFile dataFile = new RandomAccessFile(new File(dir, DATA_FILE_NAME), "rw");
+            try {
+                return new BlockStore(indexFile, dataFile);
+            } catch (IOException | RuntimeException e) {
+                dataFile.close();
+                throw e;
+            }
+        } catch (IOException | RuntimeException e) {
+            indexFile.close();
+            throw e;
+        }
+    }
+
+    private BlockStore(RandomAccessFile indexFile, RandomAccessFile dataFile) throws IOException {
+        this.indexFile = indexFile;
+        this.dataFile = dataFile;
+        index = map(indexFile, capacity(indexFile.length()));
+        data = map(dataFile, capacity(dataFile.length()));
+        if (indexFile.length() >= INDEX_START && index.getLong(0) == INDEX_HEADER &&
+            dataFile.length() >= DATA_START && data.getLong(0) == DATA_HEADER)
+        {
+            dataSize = (int) Math.min(index.getLong(DATA_SIZE_POSITION), dataFile.length());
+            indexSize = (int) Math.min(index.getLong(INDEX_SIZE_POSITION), indexFile.length());
+        }
+        if (dataSize < DATA_START || indexSize < INDEX_START) {
+            index.putLong(0, INDEX_HEADER);
+            data.putLong(0, DATA_HEADER);
+            clear();
+        }
+    }
+
+    private static void lock(RandomAccessFile file) throws IOException {
+        long deadline = System.currentTimeMillis() + LOCK_TIMEOUT;
+        while (true) {
+            try {
+                FileLock lock = file.getChannel().tryLock();
+                if (lock != null)
+                    return; // released when the file is closed
+            } catch (OverlappingFileLockException e) {
+                // locked by another cache in this process
+            }
+            if (System.currentTimeMillis() >= deadline)
+                throw new IOException("File cache is used by another cache");
+            try {
+                Thread.sleep(LOCK_RETRY_PERIOD);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException();
+            }
+        }
+    }
+
+    int getDataSize() {
+        return dataSize;
+    }
+
+    long getRemovedSize() {
+        return removedSize;
+    }
+
+    /**
+     * Reads all segments of the store without their bodies.
+     * @throws IOException if the index is corrupted.
+     */
+    List<Segment> readSegments() throws IOException {
+        List<Segment> segments = new ArrayList<>();
+        int position = INDEX_START;
+        while (position < indexSize) {
+            int length = indexSize - position < SYMBOL_OFFSET ? 0 : index.getInt(position);
+            if (length < SYMBOL_OFFSET || length > indexSize - position)
+                throw new IOException("Corrupted index entry at " + position);
+            long usage = index.getLong(position + USAGE_OFFSET);
+            if (usage != REMOVED) {
+                long dataPosition = index.getLong(position + DATA_POSITION_OFFSET);
+                int bodyLength = index.getInt(position + BODY_LENGTH_OFFSET);
+                if (dataPosition < DATA_START || bodyLength < 0 || dataPosition + bodyLength > dataSize)
+                    throw new IOException("Corrupted index entry at " + position);
+                Block block = new Block();
+                block.setSymbol(readSymbol(position + SYMBOL_OFFSET, length - SYMBOL_OFFSET));
+                block.setExchange(index.getChar(position + EXCHANGE_OFFSET));
+                block.setType(index.getChar(position + TYPE_OFFSET));
+                block.setStartTime(index.getLong(position + START_TIME_OFFSET));
+                block.setEndTime(index.getLong(position + END_TIME_OFFSET));
+                block.setData(null, 0, bodyLength);
+                Segment segment = new Segment(block, index.getLong(position + DOWNLOAD_TIME_OFFSET));
+                segment.usage = usage;
+                segment.storePosition = position;
+                segments.add(segment);
+            } else {
+                removedSize += index.getInt(position + BODY_LENGTH_OFFSET);
+            }
+            position += length;
+        }
+        return segments;
+    }
+
+    /**
+     * Reads body of the specified stored segment from the data file.
+     */
+    void load(Segment segment) {
+        int position = segment.storePosition;
+        int dataPosition = (int) index.getLong(position + DATA_POSITION_OFFSET);
+        int bodyLength = index.getInt(position + BODY_LENGTH_OFFSET);
+        byte[] body = new byte[bodyLength];
+        ByteBuffer dup = data.duplicate();
+        dup.position(dataPosition);
+        dup.get(body);
+        segment.block.setData(body, 0, bodyLength);
+    }
+
+    /**
+     * Appends the specified segment with its body to the store.
+     * @return {@code false} if the store has no room for the segment.
+     */
+    boolean append(Segment segment) {
+        Block block = segment.block;
+        byte[] symbol = block.getSymbol().getBytes(UTF_8);
+        int entryLength = SYMBOL_OFFSET + symbol.length;
+        int bodyLength = block.getBodyLength();
+        if ((long) indexSize + entryLength > MAX_CAPACITY || (long) dataSize + bodyLength > MAX_CAPACITY)
+            return false;
+        ensureCapacity(indexSize + entryLength, dataSize + bodyLength);
+        ByteBuffer dup = data.duplicate();
+        dup.position(dataSize);
+        dup.put(block.body, block.bodyOffset, bodyLength);
+        writeEntry(indexSize, segment, dataSize, symbol);
+        segment.storePosition = indexSize;
+        indexSize += entryLength;
+        dataSize += bodyLength;
+        return true;
+    }
+
+    /**
+     * Marks entry of the specified segment as removed.
+     */
+    void remove(Segment segment) {
+        if (segment.storePosition < 0)
+            return;
+        index.putLong(segment.storePosition + USAGE_OFFSET, REMOVED);
+        removedSize += segment.block.getBodyLength();
+        segment.storePosition = Segment.UNSTORED;
+    }
+
+    void updateUsage(Segment segment) {
+        index.putLong(segment.storePosition + USAGE_OFFSET, segment.usage);
+    }
+
+    /**
+     * Makes appended and compacted entries visible on the next {@link #open}.
+     */
+    void commit() {
+        index.putLong(DATA_SIZE_POSITION, dataSize);
+        index.putLong(INDEX_SIZE_POSITION, indexSize);
+    }
+
+    /**
+     * Removes all segments from the store.
+     */
+    void clear() {
+        indexSize = INDEX_START;
+        dataSize = DATA_START;
+        removedSize = 0;
+        commit();
+    }
+
+    /**
+     * Leaves only the specified stored segments in the store and moves them towards the start of the files.
+     * Other segments shall be already marked as {@link Segment#UNSTORED unstored} by the caller.
+     */
+    void compact(Collection<Segment> segments) {
+        Segment[] sorted = segments.toArray(new Segment[segments.size()]);
+        Arrays.sort(sorted, POSITION_COMPARATOR);
+        // entries and bodies are in the same order in both files, so they only move backwards
+        int oldIndexSize = indexSize;
+        int oldDataSize = dataSize;
+        clear(); // the store is empty if the process terminates in the middle of compaction
+        for (Segment segment : sorted) {
+            int position = segment.storePosition;
+            if (position < INDEX_START || position >= oldIndexSize)
+                continue; // was not stored
+            int entryLength = index.getInt(position);
+            int dataPosition = (int) index.getLong(position + DATA_POSITION_OFFSET);
+            int bodyLength = index.getInt(position + BODY_LENGTH_OFFSET);
+            if (dataPosition + bodyLength > oldDataSize) {
+                segment.storePosition = Segment.UNSTORED;
+                continue;
+            }
+            if (dataPosition != dataSize) {
+                byte[] body = new byte[bodyLength];
+                ByteBuffer dup = data.duplicate();
+                dup.position(dataPosition);
+                dup.get(body);
+                dup.position(dataSize);
+                dup.put(body);
+            }
+            byte[] symbol = new byte[entryLength - SYMBOL_OFFSET];
+            for (int i = 0; i < symbol.length; i++) {
+                symbol[i] = index.get(position + SYMBOL_OFFSET + i);
+            }
+            writeEntry(indexSize, segment, dataSize, symbol);
+            segment.storePosition = indexSize;
+            indexSize += entryLength;
+            dataSize += bodyLength;
+        }
+        commit();
+    }
+
+    void close() {
+        index.force();
+        data.force();
+        try {
+            indexFile.close();
+        } catch (IOException e) {
+            Log.log.error("Cannot close " + INDEX_FILE_NAME, e);
+        }
+        try {
+            dataFile.close();
+        } catch (IOException e) {
+            Log.log.error("Cannot close " + DATA_FILE_NAME, e);
+        }
+    }
+
+    private void writeEntry(int position, Segment segment, int dataPosition, byte[] symbol) {
+        Block block = segment.block;
+        index.putInt(position, SYMBOL_OFFSET + symbol.length);
+        index.putLong(position + USAGE_OFFSET, segment.usage);
+        index.putLong(position + DOWNLOAD_TIME_OFFSET, segment.downloadTime);
+        index.putLong(position + START_TIME_OFFSET, block.getStartTime());
+        index.putLong(position + END_TIME_OFFSET, block.getEndTime());
+        index.putLong(position + DATA_POSITION_OFFSET, dataPosition);
+        index.putInt(position + BODY_LENGTH_OFFSET, block.getBodyLength());
+        index.putChar(position + EXCHANGE_OFFSET, block.getExchange());
+        index.putChar(position + TYPE_OFFSET, block.getType());
+        for (int i = 0; i < symbol.length; i++) {
+            index.put(position + SYMBOL_OFFSET + i, symbol[i]);
+        }
+    }
+
+    private String readSymbol(int position, int length) {
+        byte[] symbol = new byte[length];
+        for (int i = 0; i < length; i++) {
+            symbol[i] = index.get(position + i);
+        }
+        return new String(symbol, UTF_8);
+    }
+
+    private void ensureCapacity(int indexCapacity, int dataCapacity) {
+        try {
+            if (indexCapacity > index.capacity())
+                index = map(indexFile, capacity(indexCapacity));
+            if (dataCapacity > data.capacity())
+                data = map(dataFile, capacity(dataCapacity));
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot grow file cache", e);
+        }
+    }
+
+    private static int capacity(long size) {
+        long capacity = MIN_CAPACITY;
+        while (capacity < size)
+            capacity *= 2;
+        return (int) Math.min(capacity, MAX_CAPACITY);
+    }
+
+    private static MappedByteBuffer map(RandomAccessFile file, int capacity) throws IOException {
+        // the mapping extends the file, previous mappings stay valid until they are garbage collected
+        return file.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+    }
+}
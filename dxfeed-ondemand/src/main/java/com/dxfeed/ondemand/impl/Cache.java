@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2021 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -12,7 +12,6 @@
 package com.dxfeed.ondemand.impl;
 
 import com.devexperts.io.BufferedInput;
-import com.devexperts.io.ByteArrayOutput;
 import com.devexperts.io.StreamInput;
 import com.devexperts.qd.ng.RecordBuffer;
 import com.devexperts.util.IndexedSet;
@@ -20,11 +19,9 @@ import com.devexperts.util.SynchronizedIndexedSet;
 import com.devexperts.util.TimeFormat;
 import com.devexperts.util.TimeUtil;
 
-import java.io.BufferedOutputStream;
 import java.io.EOFException;
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -33,13 +30,19 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 import java.util.concurrent.locks.LockSupport;
 
+/**
+ * Cache of segments that is shared by replays with the same configuration.
+ * Segments are persisted in {@link BlockStore} by a writer thread, segments that exceed the cache limit
+ * are unloaded from memory and are loaded back from the store when they become current.
+ */
 class Cache implements Runnable {
+    // legacy file cache that was rewritten as a whole, it is imported into BlockStore and deleted
     private static final String FILE_CACHE_NAME = "mdrcache";
-    private static final String FILE_CACHE_NAME_SUFFIX = ".tmp";
     private static final long FILE_HEADER = 0x4D44524361636865L; // "MDRCache"
 
     private static final long MIN_CACHE_INTERVAL = 60 * TimeUtil.SECOND;
@@ -74,7 +77,9 @@ class Cache implements Runnable {
     private volatile long usage; // incs on any operation
 
     private long writtenUsage;
+    private boolean hasPending; // has segments to append to the store
     private long cacheSize;
+    private BlockStore store; // null if file cache cannot be used
 
     private final IndexedSet<Segment, Segment> segments = new IndexedSet<Segment, Segment>();
 
@@ -105,7 +110,7 @@ class Cache implements Runnable {
 
     private void startFileCacheWriter() {
         try {
-            readCache();
+            openStore();
         } catch (Throwable t) {
             Log.log.error("Unexpected error", t);
         }
@@ -132,15 +137,22 @@ class Cache implements Runnable {
         return upd;
     }
 
-    public synchronized void checkRequestKeys(Current current, long requestTime, IndexedSet<Key, Key> presentKeys, IndexedSet<Key, Key> expiredKeys) {
+    /**
+     * Collects subscribed keys that have segments containing request time and
+     * returns the earliest end time of present segments or {@link Long#MAX_VALUE} if there are none.
+     */
+    public synchronized long checkRequestKeys(Current current, long requestTime, IndexedSet<Key, Key> presentKeys, IndexedSet<Key, Key> expiredKeys) {
         long millis = System.currentTimeMillis();
+        long endTime = Long.MAX_VALUE;
         for (Segment segment : segments)
             if (current.subscription.containsKey(segment.block) && segment.block.containsTime(requestTime)) {
-                if (Math.abs(segment.downloadTime - millis) < config.timeToLive)
+                if (Math.abs(segment.downloadTime - millis) < config.timeToLive) {
                     presentKeys.put(segment.block);
-                else
+                    endTime = Math.min(endTime, segment.block.getEndTime());
+                } else
                     expiredKeys.put(segment.block);
             }
+        return endTime;
     }
 
     public long getVersion() {
@@ -175,7 +187,7 @@ class Cache implements Runnable {
             boolean replace = false;
             for (Segment seg : segs)
                 if (segment.intersects(seg)) {
-                    if (segment.block.isIdentical(seg.block)) {
+                    if (segment.isLoaded() && segment.block.isIdentical(seg.block)) {
                         identicalSize += segment.size();
                         identicalSegments++;
                         if (Math.abs(segment.downloadTime - seg.downloadTime) < config.timeToLive)
@@ -190,6 +202,8 @@ class Cache implements Runnable {
                 replacedSegments++;
                 it.remove();
                 cacheSize -= segment.size();
+                if (store != null)
+                    store.remove(segment);
             }
         }
         for (ArrayList<Segment> segs : map.values())
@@ -197,6 +211,7 @@ class Cache implements Runnable {
                 segments.put(seg);
                 cacheSize += seg.size();
             }
+        hasPending = true;
         Log.log.info("addData: " + Log.mb(newSize) + " in " + newSegments.size() + " segments (" + multiples + " multiples)" +
             ", replaced " + Log.mb(replacedSize) + " in " + replacedSegments + " segments" +
             ", identical " + Log.mb(identicalSize) + " in " + identicalSegments + " segments");
@@ -242,7 +257,7 @@ class Cache implements Runnable {
         current.resetInterval();
         // add/replace new current segments
         for (Segment segment : segments) {
-            if (isCurrentSegment(segment, current, current.time)) {
+            if (isCurrentSegment(segment, current, current.time) && loadSegment(segment)) {
                 segment.usage = usage;
                 current.size += segment.size();
                 current.startTime = Math.max(current.startTime, segment.block.getStartTime());
@@ -312,17 +327,44 @@ class Cache implements Runnable {
         return segment.block.containsTime(time) && current.subscription.containsKey(segment.block);
     }
 
+    // SYNC(this)
+    private boolean loadSegment(Segment segment) {
+        if (segment.isLoaded())
+            return true;
+        if (store == null)
+            return false;
+        try {
+            cacheSize -= segment.size();
+            store.load(segment);
+            cacheSize += segment.size();
+            return true;
+        } catch (RuntimeException e) {
+            cacheSize += segment.size();
+            Log.log.error("Cannot load " + segment + " from file cache", e);
+            return false;
+        }
+    }
+
     // SYNC(this)
     private void checkCacheLimit(Current current) {
         long oldCacheSize = cacheSize;
         int oldSegments = segments.size();
+        int unloadedSegments = 0;
         if (cacheSize > config.cacheLimit && current.size < cacheSize * CACHE_LIMIT_FACTOR) {
             Segment[] sorted = segments.toArray(new Segment[segments.size()]);
             Arrays.sort(sorted, Segment.USAGE_COMPARATOR);
             for (Segment segment : sorted)
-                if (segment.currentCounter == 0) {
-                    segments.remove(segment);
+                if (segment.currentCounter == 0 && segment.isLoaded() &&
+                    !(store != null && segment.storePosition == Segment.PENDING)) // will be stored soon
+                {
                     cacheSize -= segment.size();
+                    if (segment.isStored()) {
+                        // will be loaded from file cache when needed
+                        segment.unload();
+                        cacheSize += segment.size();
+                        unloadedSegments++;
+                    } else
+                        segments.remove(segment);
                     if (cacheSize <= config.cacheLimit * CACHE_LIMIT_FACTOR)
                         break;
                 }
@@ -332,87 +374,138 @@ class Cache implements Runnable {
             Log.log.info("Cache: limit " + Log.mb(config.cacheLimit) +
                 ", used " + Log.mb(cacheSize) + " in " + segments.size() + " segments" +
                 ", current " + Log.mb(current.size) + " in " + current.segments.size() + " segments" +
-                ", removed " + Log.mb(oldCacheSize - cacheSize) + " in " + (oldSegments - segments.size()) + " segments");
+                ", removed " + Log.mb(oldCacheSize - cacheSize) + " in " + (oldSegments - segments.size()) + " segments" +
+                ", unloaded " + unloadedSegments + " segments");
     }
 
     private synchronized boolean needsWriteCache() {
-        return writtenUsage != usage;
+        return writtenUsage != usage || hasPending;
     }
 
-    private synchronized void updateWrittenUsage(long writeUsage) {
+    // appends new segments to the store, updates usage of stored segments and compacts the store if needed
+    private synchronized void writeCache() {
+        long millis = System.currentTimeMillis();
+        long writeUsage = usage;
+        if (store == null) {
+            writtenUsage = writeUsage;
+            hasPending = false;
+            return;
+        }
+        long appendedSize = 0;
+        int appendedSegments = 0;
+        for (Segment segment : segments) {
+            if (segment.isStored()) {
+                store.updateUsage(segment);
+            } else if (segment.storePosition == Segment.PENDING && segment.isLoaded()) {
+                if (store.append(segment)) {
+                    appendedSize += segment.block.getBodyLength();
+                    appendedSegments++;
+                } else
+                    segment.storePosition = Segment.UNSTORED;
+            }
+        }
+        String compacted = "";
+        if (store.getDataSize() > config.fileCacheLimit) {
+            long oldSize = store.getDataSize();
+            int oldSegments = segments.size();
+            compactStore();
+            compacted = ", compacted " + Log.mb(oldSize - store.getDataSize()) +
+                " and removed " + (oldSegments - segments.size()) + " segments";
+        }
+        store.commit();
         writtenUsage = writeUsage;
+        hasPending = false;
+        if (appendedSegments > 0 || !compacted.isEmpty())
+            Log.log.info("writeCache: appended " + Log.mb(appendedSize) + " in " + appendedSegments + " segments" +
+                compacted + ", file cache " + Log.mb(store.getDataSize() - store.getRemovedSize()) +
+                " in " + (System.currentTimeMillis() - millis) / 1000.0 + " seconds");
     }
 
-    // returns written usage
-    private long writeCache() {
-        long millis = System.currentTimeMillis();
-        long writeUsage;
-        Segment[] sorted;
-        synchronized (this) {
-            writeUsage = usage;
-            sorted = segments.toArray(new Segment[segments.size()]);
-        }
+    // SYNC(this)
+    private void compactStore() {
+        Segment[] sorted = segments.toArray(new Segment[segments.size()]);
         Arrays.sort(sorted, Segment.USAGE_COMPARATOR);
-        FileOutputStream fos = null;
-        try {
-            File tmp = File.createTempFile(FILE_CACHE_NAME, FILE_CACHE_NAME_SUFFIX, getCacheFileParent());
-            if (tmp.getParentFile() != null)
-                tmp.getParentFile().mkdirs();
-            fos = new FileOutputStream(tmp);
-            BufferedOutputStream bos = new BufferedOutputStream(fos, 1000000);
-            ByteArrayOutput bao = new ByteArrayOutput(100000);
-            long writeSize = 0;
-            long size = 0;
-            int count = 0;
-            bao.writeLong(FILE_HEADER);
-            bao.writeCompactLong(writeUsage);
-            bao.writeCompactLong(millis);
-            for (int i = sorted.length; --i >= 0;) { // Write most recent first
-                Segment segment = sorted[i];
-                size += segment.size();
-                count++;
-                segment.block.writeBlock(bao);
-                bao.writeCompactLong(segment.downloadTime);
-                bao.writeCompactLong(segment.usage);
-                bos.write(bao.getBuffer(), 0, bao.getPosition());
-                writeSize += bao.getPosition();
-                bao.setPosition(0);
-                if (writeSize > config.fileCacheLimit)
-                    break;
+        List<Segment> kept = new ArrayList<Segment>();
+        long size = 0;
+        boolean full = false;
+        for (int i = sorted.length; --i >= 0;) { // Keep most recent first
+            Segment segment = sorted[i];
+            if (!segment.isStored())
+                continue;
+            full = full || size + segment.block.getBodyLength() > config.fileCacheLimit * CACHE_LIMIT_FACTOR;
+            if (!full) {
+                size += segment.block.getBodyLength();
+                kept.add(segment);
+                continue;
+            }
+            segment.storePosition = Segment.UNSTORED;
+            if (!segment.isLoaded()) {
+                // segments that are not loaded are not current and are kept only by the store
+                segments.remove(segment);
+                cacheSize -= segment.size();
             }
-            bos.write(bao.getBuffer(), 0, bao.getPosition());
-            writeSize += bao.getPosition();
-            bos.close();
-            File file = new File(getCacheFileParent(), FILE_CACHE_NAME);
-            file.delete();
-            tmp.renameTo(file);
-            Log.log.info("writeCache: written " + Log.mb(writeSize) + " as " + Log.mb(size) + " in " + count + " segments" +
-                " out of " + Log.mb(cacheSize) + " in " + segments.size() + " segments at " + TimeFormat.DEFAULT.withMillis().format(millis) +
-                " in " + (System.currentTimeMillis() - millis) / 1000.0 + " seconds");
-        } catch (Throwable t) {
-            Log.log.error("Unexpected error writing cache", t);
-        } finally {
-            if (fos != null)
-                try {
-                    fos.close();
-                } catch (IOException ignored) {
-                }
         }
-        return writeUsage;
+        store.compact(kept);
     }
 
-    private void readCache() {
-        if (!segments.isEmpty())
+    private synchronized void openStore() {
+        if (store != null || !segments.isEmpty())
+            return;
+        long millis = System.currentTimeMillis();
+        File parent = getCacheFileParent();
+        try {
+            if (parent != null)
+                parent.mkdirs();
+            store = BlockStore.open(parent);
+        } catch (IOException e) {
+            Log.log.error("Cannot open file cache", e);
             return;
+        }
+        List<Segment> storedSegments;
+        try {
+            storedSegments = store.readSegments();
+        } catch (IOException e) {
+            Log.log.error("Clearing corrupted file cache", e);
+            store.clear();
+            storedSegments = Collections.emptyList();
+        }
+        long size = 0;
+        for (Segment segment : storedSegments) {
+            segments.put(segment);
+            cacheSize += segment.size();
+            size += segment.block.getBodyLength();
+            usage = Math.max(usage, segment.usage);
+        }
+        writtenUsage = usage; // we've just read cache, so no need to write it again
+        Log.log.info("openStore: indexed " + Log.mb(size) + " in " + storedSegments.size() + " segments" +
+            " in " + (System.currentTimeMillis() - millis) / 1000.0 + " seconds");
+        importLegacyCache();
+    }
+
+    private synchronized void closeStore() {
+        if (store != null) {
+            store.close();
+            store = null;
+        }
+    }
+
+    // SYNC(this)
+    private void importLegacyCache() {
         File f = new File(getCacheFileParent(), FILE_CACHE_NAME);
-        if (!f.isFile() || f.length() < 16)
+        if (!f.isFile())
             return;
+        if (f.length() >= 16)
+            readLegacyCache(f);
+        if (!f.delete())
+            Log.log.warn("Cannot delete legacy file cache " + f);
+    }
+
+    // SYNC(this)
+    private void readLegacyCache(File f) {
         long millis = System.currentTimeMillis();
         FileInputStream fis = null;
         try {
             fis = new FileInputStream(f);
-            final FileInputStream fileInput = fis;
-            final long[] readSize = new long[1];
             BufferedInput in = new StreamInput(fis);
             if (in.readLong() != FILE_HEADER)
                 throw new IOException("Unknown file header");
@@ -432,21 +525,19 @@ class Cache implements Runnable {
                 }
             } catch (EOFException ignored) {
             } catch (Throwable t) {
-                Log.log.error("Unexpected error reading cache at " + (readSize[0] - in.available()), t);
+                Log.log.error("Unexpected error reading legacy cache", t);
             }
-            Log.log.info("readCache: read " + Log.mb(readSize[0]) + " ouf of " + Log.mb(f.length()) +
+            Log.log.info("readLegacyCache: read " + Log.mb(f.length()) +
                 ", " + Log.mb(size) + " in " + newSegments.size() + " segments at " + TimeFormat.DEFAULT.withMillis().format(readMillis) +
                 " in " + (System.currentTimeMillis() - millis) / 1000.0 + " seconds");
-            synchronized (this) {
-                for (Segment segment : newSegments) {
-                    segments.put(segment);
-                    cacheSize += segment.size();
-                }
-                usage = Math.max(usage, readUsage);
-                writtenUsage = usage; // we've just read cache, so no need to write it again
+            for (Segment segment : newSegments) {
+                segments.put(segment);
+                cacheSize += segment.size();
             }
+            usage = Math.max(usage, readUsage);
+            hasPending = true; // will be appended to the store
         } catch (Throwable t) {
-            Log.log.error("Unexpected error reading cache", t);
+            Log.log.error("Unexpected error reading legacy cache", t);
         } finally {
             if (fis != null)
                 try {
@@ -467,10 +558,11 @@ class Cache implements Runnable {
             try {
                 LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(config.fileCacheDumpPeriod));
                 if (needsWriteCache())
-                    updateWrittenUsage(writeCache());
+                    writeCache();
             } catch (Throwable t) {
                 Log.log.error("Unexpected error", t);
             }
         } while (Thread.currentThread() == cacheWriter);
+        closeStore();
     }
 }
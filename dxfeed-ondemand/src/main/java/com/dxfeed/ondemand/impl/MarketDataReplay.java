@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2023 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -41,6 +41,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
@@ -53,6 +54,8 @@ import java.util.concurrent.locks.LockSupport;
  * Thread-safe.
  */
 public class MarketDataReplay implements Runnable {
+    private static final double MAX_REPLAY_SPEED = 1000;
+    private static final int MIN_PREFETCH_KEYS = 50; // per parallel request for the same time range
 
     // ------------------------ instance ------------------------
 
@@ -69,6 +72,9 @@ public class MarketDataReplay implements Runnable {
     private final Current current = new Current();
 
     private long prefetchInterval = 59 * TimeUtil.SECOND;
+    private int prefetchThreads = 4;
+    private long prefetchAhead = TimeUtil.MINUTE; // in wall-clock time at the replay speed
+    private Prefetcher prefetcher; // exists while started
 
     private final AtomicLong sentBytes = new AtomicLong();
     private final AtomicLong receivedBytes = new AtomicLong();
@@ -77,7 +83,7 @@ public class MarketDataReplay implements Runnable {
     private long prevReplayTime;
     private long prevReplayMillis;
 
-    private final Thread[] stoppedThreads = new Thread[2];
+    private volatile Thread[] stoppedThreads = new Thread[0];
 
     public long getCacheLimit() {
         return config.cacheLimit;
@@ -121,6 +127,30 @@ public class MarketDataReplay implements Runnable {
         config.timeToLive = timeToLive;
     }
 
+    public synchronized int getPrefetchThreads() {
+        return prefetchThreads;
+    }
+
+    /**
+     * Sets number of threads that fetch upcoming time ranges in parallel, takes effect on the next {@link #start()}.
+     */
+    public synchronized void setPrefetchThreads(int prefetchThreads) {
+        if (prefetchThreads < 1)
+            throw new IllegalArgumentException("prefetchThreads=" + prefetchThreads);
+        this.prefetchThreads = prefetchThreads;
+    }
+
+    public synchronized long getPrefetchAhead() {
+        return prefetchAhead;
+    }
+
+    /**
+     * Sets wall-clock time to prefetch upcoming time ranges ahead for at the current replay speed.
+     */
+    public synchronized void setPrefetchAhead(long prefetchAhead) {
+        this.prefetchAhead = prefetchAhead;
+    }
+
     public synchronized void setTime(long time) {
         if (time == current.time)
             return; // nothing changes
@@ -129,6 +159,9 @@ public class MarketDataReplay implements Runnable {
             segment.restart();
         }
         current.time = time;
+        // restart measurement of replay speed
+        prevReplayTime = time;
+        prevReplayMillis = System.currentTimeMillis();
         if (!current.isCurrentInterval(time) && cache != null)
             cache.rebuildCurrentSegments(current);
         awaken();
@@ -234,7 +267,7 @@ public class MarketDataReplay implements Runnable {
         return token == badToken;
     }
 
-    private void awaken() {
+    void awaken() {
         LockSupport.unpark(worker);
     }
 
@@ -245,6 +278,9 @@ public class MarketDataReplay implements Runnable {
         worker = new Thread(this, "MarketDataReplay-Worker");
         worker.setDaemon(true);
         worker.start();
+        if (prefetcher != null)
+            prefetcher.stop();
+        prefetcher = new Prefetcher(this, prefetchThreads);
     }
 
     // will be called from worker thread as a first action
@@ -278,23 +314,76 @@ public class MarketDataReplay implements Runnable {
         this.worker = null;
         if (worker != null)
             LockSupport.unpark(worker);
-        stoppedThreads[0] = worker;
-        stoppedThreads[1] = releaseCacheInstance(current);
+        Thread[] prefetchers = prefetcher == null ? new Thread[0] : prefetcher.stop();
+        prefetcher = null;
+        Thread[] stoppedThreads = Arrays.copyOf(prefetchers, prefetchers.length + 2);
+        stoppedThreads[prefetchers.length] = worker;
+        stoppedThreads[prefetchers.length + 1] = releaseCacheInstance(current);
+        this.stoppedThreads = stoppedThreads;
     }
 
     public Thread[] getStoppedThreads() {
         return stoppedThreads;
     }
 
-    private synchronized ReplayRequest prepareRequest(MarketDataToken token, boolean prefetch) throws IOException {
-        long requestTime = prefetch ? current.endTime : current.time;
+    private synchronized ReplayRequest prepareRequest(MarketDataToken token) throws IOException {
+        if (prefetcher != null && prefetcher.isFetching(current.time))
+            return null; // will be received soon
+        ArrayList<Key> requestKeys = new ArrayList<Key>();
+        boolean urgent = collectRequestKeys(current.time, requestKeys);
+        return requestKeys.isEmpty() ? null : createRequest(token, current.time, requestKeys, urgent);
+    }
+
+    /**
+     * Submits requests for upcoming time ranges up to the prefetch horizon to the prefetcher.
+     * Ranges are found from the end time of cached blocks, ranges that are not received yet are assumed
+     * to have the same duration as the preceding one.
+     */
+    private synchronized void schedulePrefetch(MarketDataToken token) throws IOException {
+        if (cache == null || prefetcher == null || current.subscription.isEmpty() || current.endTime == Long.MAX_VALUE)
+            return;
+        long horizon = current.time + Math.max(prefetchInterval, (long) (prefetchAhead * current.replaySpeed));
+        long time = current.endTime;
+        long duration = 0; // of the last range, unknown yet
+        int ranges = 0; // that are not received yet
+        while (time < horizon && ranges < prefetchThreads) {
+            ArrayList<Key> requestKeys = new ArrayList<Key>();
+            boolean urgent = collectRequestKeys(time, requestKeys);
+            if (requestKeys.isEmpty()) {
+                long endTime = cache.checkRequestKeys(current, time, new IndexedSet<Key, Key>(), new IndexedSet<Key, Key>());
+                duration = endTime - time;
+                time = endTime;
+                continue;
+            }
+            ranges++;
+            int freeThreads = prefetcher.getFreeThreads();
+            if (freeThreads == 0)
+                break;
+            if (!prefetcher.isRequested(time)) {
+                // split keys of a large subscription into parallel requests
+                int count = Math.max(1, Math.min(freeThreads, requestKeys.size() / MIN_PREFETCH_KEYS));
+                List<ReplayRequest> requests = new ArrayList<ReplayRequest>();
+                for (int i = 0; i < count; i++) {
+                    List<Key> keys = requestKeys.subList(
+                        requestKeys.size() * i / count, requestKeys.size() * (i + 1) / count);
+                    requests.add(createRequest(token, time, keys, urgent));
+                }
+                prefetcher.submit(duration > 0 ? time + duration : Long.MAX_VALUE, requests);
+            }
+            if (duration <= 0)
+                break; // next range is not known until this one is received
+            time += duration;
+        }
+    }
+
+    // SYNC(this), returns true if some keys are missing rather than expired
+    private boolean collectRequestKeys(long requestTime, ArrayList<Key> requestKeys) {
         IndexedSet<Key, Key> presentKeys = new IndexedSet<Key, Key>();
         IndexedSet<Key, Key> expiredKeys = new IndexedSet<Key, Key>();
         if (cache != null)
             cache.checkRequestKeys(current, requestTime, presentKeys, expiredKeys);
 
         boolean urgent = false;
-        ArrayList<Key> requestKeys = new ArrayList<Key>();
         for (Key key : current.subscription) {
             if (!presentKeys.containsKey(key)) {
                 requestKeys.add(key);
@@ -302,10 +391,14 @@ public class MarketDataReplay implements Runnable {
                     urgent = true;
             }
         }
-        if (requestKeys.isEmpty())
-            return null;
         Collections.sort(requestKeys, Key.COMPARATOR);
+        return urgent;
+    }
 
+    // SYNC(this)
+    private ReplayRequest createRequest(MarketDataToken token, long requestTime, List<Key> requestKeys, boolean urgent)
+        throws IOException
+    {
         ReplayRequest request = new ReplayRequest();
         request.setToken(token);
         request.setAllowedDelay(
@@ -511,6 +604,29 @@ public class MarketDataReplay implements Runnable {
             cache.addData(newSegments);
     }
 
+    // fetches blocks for the request and adds them to the cache, may be invoked concurrently
+    void fetch(ReplayRequest request) throws IOException {
+        long millis = System.currentTimeMillis();
+        long oldSent = sentBytes.longValue();
+        long oldReceived = receivedBytes.longValue();
+        ByteArrayInput response = doRequest(request);
+        if (response != null) {
+            ArrayList<Segment> newSegments = unpackResponse(response);
+            long size = 0;
+            for (Segment segment : newSegments) {
+                size += segment.size();
+            }
+            Log.log.info("Response: " + Log.mb(size) + " in " + newSegments.size() + " segments" +
+                " at " + TimeFormat.DEFAULT.format(request.getRequestTime()) +
+                ", sent " + Log.mb(sentBytes.longValue() - oldSent) +
+                " received " + Log.mb(receivedBytes.longValue() - oldReceived) +
+                " in " + (System.currentTimeMillis() - millis) / 1000.0 + " seconds" +
+                ", total sent " + Log.mb(sentBytes.longValue()) +
+                ", total received " + Log.mb(receivedBytes.longValue()));//todo compression stats, etc
+            addData(newSegments);
+        }
+    }
+
     public long getSentBytes() {
         return sentBytes.longValue();
     }
@@ -564,12 +680,12 @@ public class MarketDataReplay implements Runnable {
     private void updateReplaySpeed(long time) {
         long dt = time - prevReplayTime;
         long dm = System.currentTimeMillis() - prevReplayMillis;
-        if (dt <= 0 || dt > 59000 || dm <= 0 || dm > 59000) {
+        if (dt <= 0 || dm <= 0 || dm > 59000 || dt > dm * MAX_REPLAY_SPEED) {
             prevReplayTime += dt;
             prevReplayMillis += dm;
         } else if (dt >= 1000 && dm >= 1000) {
             current.replaySpeed =
-                Math.floor((current.replaySpeed + Math.min(Math.max(0.1, (double) dt / dm), 10)) * 50 + 0.5) / 100;
+                Math.floor((current.replaySpeed + Math.min(Math.max(0.1, (double) dt / dm), MAX_REPLAY_SPEED)) * 50 + 0.5) / 100;
             prevReplayTime += dt;
             prevReplayMillis += dm;
         }
@@ -596,36 +712,13 @@ public class MarketDataReplay implements Runnable {
                 if (testMode != null)
                     currentToken = MarketDataAccess.getInstance().createToken("test");
                 if (currentToken != badToken) {
-                    ReplayRequest request = prepareRequest(currentToken, false);
-                    //todo prefetch in separate thread, only when current is not fetching and only
-                    // if current set is defined (i.e. remember Long.MAX_VALUE)
-                    if (current.time >= current.endTime - prefetchInterval) {
-                        if (request == null) {
-                            request = prepareRequest(currentToken, true);
-                        } else {
-                            awaken();
-                        }
-                    }
+                    // upcoming ranges are fetched by prefetcher threads while this one fetches current data
+                    schedulePrefetch(currentToken);
+                    ReplayRequest request = prepareRequest(currentToken);
                     if (request != null) {
-                        long millis = System.currentTimeMillis();
-                        long oldSent = sentBytes.longValue();
-                        long oldReceived = receivedBytes.longValue();
-                        ByteArrayInput response = doRequest(request);
-                        if (response != null) {
-                            ArrayList<Segment> newSegments = unpackResponse(response);
-                            long size = 0;
-                            for (Segment segment : newSegments) {
-                                size += segment.size();
-                            }
-                            Log.log.info("Response: " + Log.mb(size) + " in " + newSegments.size() + " segments" +
-                                ", sent " + Log.mb(sentBytes.longValue() - oldSent) +
-                                " received " + Log.mb(receivedBytes.longValue() - oldReceived) +
-                                " in " + (System.currentTimeMillis() - millis) / 1000.0 + " seconds" +
-                                ", total sent " + Log.mb(sentBytes.longValue()) +
-                                ", total received " + Log.mb(receivedBytes.longValue()));//todo compression stats, etc
-                            addData(newSegments);
-                        }
+                        fetch(request);
                         Thread.sleep(1000); // Unconditional wait to prevent DOS due to bugs, etc.
+                        schedulePrefetch(currentToken);
                     }
                 }
                 LockSupport.parkNanos(TimeUnit.SECONDS.toNanos(10));
@@ -0,0 +1,154 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.dxfeed.ondemand.impl;
+
+import com.devexperts.util.TimeUtil;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fetches blocks for upcoming time ranges of {@link MarketDataReplay} in parallel threads,
+ * so that replay at high speed does not wait for them.
+ * Requests are prepared by the worker thread of replay and are remembered by their request time,
+ * so that the same time range is not requested again while it is being fetched and shortly after that.
+ *
+ * <p>Thread-safe.
+ */
+class Prefetcher implements Runnable {
+    private static final long RETRY_PERIOD = 10 * TimeUtil.SECOND;
+
+    private final MarketDataReplay replay;
+    private final Thread[] threads;
+
+    // SYNC(this)
+    private final ArrayDeque<ReplayRequest> queue = new ArrayDeque<>();
+    private final Map<Long, Range> ranges = new HashMap<>(); // by request time
+    private int pendingRequests; // queued or being fetched
+    private boolean stopped;
+
+    Prefetcher(MarketDataReplay replay, int threadCount) {
+        this.replay = replay;
+        threads = new Thread[threadCount];
+        for (int i = 0; i < threadCount; i++) {
+            threads[i] = new Thread(this, "MarketDataReplay-Prefetcher-" + i);
+            threads[i].setDaemon(true);
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+    }
+
+    /**
+     * Returns number of requests that can be submitted without waiting.
+     */
+    synchronized int getFreeThreads() {
+        return Math.max(0, threads.length - pendingRequests);
+    }
+
+    /**
+     * Returns {@code true} if the range starting at the specified time was requested recently.
+     */
+    synchronized boolean isRequested(long time) {
+        long millis = System.currentTimeMillis();
+        for (Iterator<Range> it = ranges.values().iterator(); it.hasNext();) {
+            Range range = it.next();
+            if (range.requests == 0 && millis - range.completedMillis >= RETRY_PERIOD)
+                it.remove();
+        }
+        return ranges.containsKey(time);
+    }
+
+    /**
+     * Returns {@code true} if the specified time is within a range that is being fetched.
+     */
+    synchronized boolean isFetching(long time) {
+        for (Map.Entry<Long, Range> entry : ranges.entrySet()) {
+            if (entry.getValue().requests > 0 && entry.getKey() <= time && time < entry.getValue().endTime)
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Submits requests for the range starting at their request time.
+     * @param endTime expected end time of the range.
+     */
+    synchronized void submit(long endTime, List<ReplayRequest> requests) {
+        if (stopped || requests.isEmpty())
+            return;
+        Range range = new Range(endTime, requests.size());
+        ranges.put(requests.get(0).getRequestTime(), range);
+        queue.addAll(requests);
+        pendingRequests += requests.size();
+        notifyAll();
+    }
+
+    /**
+     * Stops prefetching and returns threads that will terminate after their current requests.
+     */
+    synchronized Thread[] stop() {
+        stopped = true;
+        queue.clear();
+        notifyAll();
+        return threads.clone();
+    }
+
+    private synchronized ReplayRequest take() throws InterruptedException {
+        while (!stopped && queue.isEmpty())
+            wait();
+        return stopped ? null : queue.poll();
+    }
+
+    private synchronized void complete(ReplayRequest request) {
+        pendingRequests--;
+        Range range = ranges.get(request.getRequestTime());
+        if (range != null && --range.requests == 0)
+            range.completedMillis = System.currentTimeMillis();
+    }
+
+    // Prefetcher thread main method
+    public void run() {
+        while (true) {
+            ReplayRequest request;
+            try {
+                request = take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (request == null)
+                return;
+            try {
+                replay.fetch(request);
+            } catch (Throwable t) {
+                Log.log.error("Unexpected error", t);
+            } finally {
+                complete(request);
+            }
+            replay.awaken(); // to prefetch the next range
+        }
+    }
+
+    private static class Range {
+        final long endTime;
+        int requests;
+        long completedMillis;
+
+        Range(long endTime, int requests) {
+            this.endTime = endTime;
+            this.requests = requests;
+        }
+    }
+}
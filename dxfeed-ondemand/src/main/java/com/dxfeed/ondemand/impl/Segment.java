@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2021 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -23,12 +23,16 @@ class Segment {
 
     private static final AtomicLongFieldUpdater<Segment> USAGE_UPDATER = AtomicLongFieldUpdater.newUpdater(Segment.class, "usage");
 
+    static final int PENDING = -1; // storePosition of segments that shall be appended to BlockStore
+    static final int UNSTORED = -2; // storePosition of segments that shall not be stored
+
     // ------------------------ instance ------------------------
 
     final Block block;
     final long downloadTime;
     volatile long usage; // SYNC(Cache instance) on write, unsync read for Cache.writeCache
     int currentCounter; // SYNC(Cache instance)
+    int storePosition = PENDING; // position of entry in BlockStore, SYNC(Cache instance)
 
     Segment(Block block) {
         this(block, System.currentTimeMillis());
@@ -45,9 +49,23 @@ class Segment {
     }
 
     int size() {
-        // IndexedSet overhead=8, segment=40, block=48, block.symbol=0 (shared), block.body=16+length, event=0/48, input=0/24
+        // IndexedSet overhead=8, segment=48, block=48, block.symbol=0 (shared), block.body=16+length, event=0/48, input=0/24
         // event and input are null for passive segments and non-null for current segments: (48+24)*currentSegments.size()
-        return 8 + 40 + 48 + 0 + 16 + block.getBodyLength();
+        // block.body is null for segments that are not loaded from BlockStore
+        return 8 + 48 + 48 + 0 + (isLoaded() ? 16 + block.getBodyLength() : 0);
+    }
+
+    boolean isStored() {
+        return storePosition >= 0;
+    }
+
+    boolean isLoaded() {
+        return block.body != null;
+    }
+
+    // SYNC(Cache instance), only for stored segments that are not current
+    void unload() {
+        block.setData(null, 0, block.getBodyLength());
     }
 
     boolean intersects(Segment segment) {
@@ -0,0 +1,185 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.dxfeed.ondemand.impl;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class BlockStoreTest {
+    private static final long TIME0 = 1767277800000L; // 2026-01-01 14:30:00 GMT
+    private static final long DURATION = 60_000;
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    @Test
+    public void testAppendAndReopen() throws IOException {
+        File dir = tempFolder.getRoot();
+        BlockStore store = BlockStore.open(dir);
+        List<Segment> segments = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Segment segment = createSegment("SYM" + i, i, 1000 * i + 1);
+            assertTrue(store.append(segment));
+            assertTrue(segment.isStored());
+            segments.add(segment);
+        }
+        store.remove(segments.get(1));
+        assertFalse(segments.get(1).isStored());
+        segments.get(2).usage = 100;
+        store.updateUsage(segments.get(2));
+        store.commit();
+        store.close();
+
+        store = BlockStore.open(dir);
+        List<Segment> read = store.readSegments();
+        assertEquals(2, read.size());
+        checkSegment(store, segments.get(0), read.get(0));
+        checkSegment(store, segments.get(2), read.get(1));
+        assertEquals(100, read.get(1).usage);
+        assertEquals(segments.get(1).block.getBodyLength(), store.getRemovedSize());
+        store.close();
+    }
+
+    @Test
+    public void testUncommittedChangesAreIgnored() throws IOException {
+        File dir = tempFolder.getRoot();
+        BlockStore store = BlockStore.open(dir);
+        assertTrue(store.append(createSegment("A", 0, 100)));
+        store.commit();
+        assertTrue(store.append(createSegment("B", 1, 100)));
+        store.close();
+
+        store = BlockStore.open(dir);
+        List<Segment> read = store.readSegments();
+        assertEquals(1, read.size());
+        assertEquals("A", read.get(0).block.getSymbol());
+        store.close();
+    }
+
+    @Test
+    public void testCompact() throws IOException {
+        File dir = tempFolder.getRoot();
+        BlockStore store = BlockStore.open(dir);
+        List<Segment> segments = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Segment segment = createSegment("SYM" + i, i, 10_000);
+            assertTrue(store.append(segment));
+            segments.add(segment);
+        }
+        store.commit();
+        int oldSize = store.getDataSize();
+        List<Segment> kept = new ArrayList<>();
+        for (int i = 0; i < segments.size(); i++) {
+            if (i % 3 == 2)
+                kept.add(segments.get(i));
+            else
+                segments.get(i).storePosition = Segment.UNSTORED;
+        }
+        store.compact(kept);
+        assertEquals(oldSize - (segments.size() - kept.size()) * 10_000, store.getDataSize());
+        store.close();
+
+        store = BlockStore.open(dir);
+        List<Segment> read = store.readSegments();
+        assertEquals(kept.size(), read.size());
+        for (int i = 0; i < kept.size(); i++) {
+            checkSegment(store, kept.get(i), read.get(i));
+        }
+        store.close();
+    }
+
+    @Test
+    public void testStoreGrows() throws IOException {
+        File dir = tempFolder.getRoot();
+        BlockStore store = BlockStore.open(dir);
+        List<Segment> segments = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Segment segment = createSegment("SYM" + i, i, 100_000);
+            assertTrue(store.append(segment));
+            segments.add(segment);
+        }
+        store.commit();
+        for (Segment segment : segments) {
+            segment.unload();
+            store.load(segment);
+        }
+        store.close();
+
+        store = BlockStore.open(dir);
+        List<Segment> read = store.readSegments();
+        assertEquals(segments.size(), read.size());
+        for (int i = 0; i < segments.size(); i++) {
+            checkSegment(store, segments.get(i), read.get(i));
+        }
+        store.close();
+    }
+
+    @Test
+    public void testOpenedOnce() throws IOException {
+        File dir = tempFolder.getRoot();
+        BlockStore store = BlockStore.open(dir);
+        try {
+            BlockStore.open(dir);
+            fail();
+        } catch (IOException expected) {
+        }
+        store.close();
+        BlockStore.open(dir).close();
+    }
+
+    private static Segment createSegment(String symbol, int index, int bodyLength) {
+        Block block = new Block();
+        block.setSymbol(symbol);
+        block.setType('Q');
+        block.setStartTime(TIME0 + index * DURATION);
+        block.setEndTime(TIME0 + (index + 1) * DURATION);
+        byte[] body = new byte[bodyLength];
+        for (int i = 0; i < bodyLength; i++) {
+            body[i] = (byte) (i * 31 + index);
+        }
+        block.setData(body, 0, bodyLength);
+        Segment segment = new Segment(block, TIME0 + index);
+        segment.usage = index + 1;
+        return segment;
+    }
+
+    private static void checkSegment(BlockStore store, Segment expected, Segment actual) {
+        assertFalse(actual.isLoaded());
+        assertEquals(expected.block.toString(), actual.block.toString());
+        assertEquals(expected.downloadTime, actual.downloadTime);
+        assertEquals(expected.block.getBodyLength(), actual.block.getBodyLength());
+        assertEquals(expected.usage, actual.usage);
+        assertTrue(actual.isStored());
+        assertEquals(expected.storePosition, actual.storePosition);
+        store.load(actual);
+        assertTrue(actual.isLoaded());
+        assertArrayEquals(body(expected), body(actual));
+    }
+
+    private static byte[] body(Segment segment) {
+        Block block = segment.block;
+        return Arrays.copyOfRange(block.body, block.bodyOffset, block.bodyOffset + block.bodyLength);
+    }
+}
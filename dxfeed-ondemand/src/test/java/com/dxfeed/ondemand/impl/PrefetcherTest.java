@@ -0,0 +1,216 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.dxfeed.ondemand.impl;
+
+import com.devexperts.io.ByteArrayInput;
+import com.devexperts.io.ByteArrayOutput;
+import com.devexperts.qd.DataRecord;
+import com.devexperts.qd.ng.RecordBuffer;
+import com.devexperts.qd.ng.RecordMode;
+import com.dxfeed.ondemand.impl.event.MDREventUtil;
+import com.dxfeed.ondemand.impl.event.MDRQuote;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests prefetching of upcoming time ranges and file cache of {@link MarketDataReplay}
+ * with a local stand-in of the replay service.
+ */
+public class PrefetcherTest {
+    private static final long TIME0 = 1767277800000L; // 2026-01-01 14:30:00 GMT
+    private static final long BLOCK_DURATION = 60_000;
+    private static final long EVENT_OFFSET = 10_000; // of the only event in each block
+    private static final int SYMBOL_COUNT = 200;
+    private static final long RESPONSE_DELAY = 100;
+    private static final double SPEED = 100;
+    private static final long TIMEOUT = 30_000;
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private HttpServer server;
+    private final Set<Long> requestedTimes = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger activeRequests = new AtomicInteger();
+    private final AtomicInteger maxActiveRequests = new AtomicInteger();
+
+    private final RecordBuffer subscription = RecordBuffer.getInstance(RecordMode.SUBSCRIPTION);
+
+    @Before
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getByName("127.0.0.1"), 0), 0);
+        server.createContext("/MarketDataReplay", this::handle);
+        server.setExecutor(executor);
+        server.start();
+        DataRecord record = MDREventUtil.SCHEME.findRecordByName("Quote");
+        for (int i = 0; i < SYMBOL_COUNT; i++) {
+            String symbol = "SYM" + i;
+            subscription.add(record, MDREventUtil.CODEC.encode(symbol), symbol);
+        }
+    }
+
+    @After
+    public void tearDown() {
+        server.stop(0);
+        executor.shutdown();
+        subscription.release();
+    }
+
+    @Test
+    public void testPrefetchAhead() throws InterruptedException {
+        MarketDataReplay replay = startReplay();
+        waitAvailable(replay, TIME0);
+        // replay at high speed until horizon of prefetching is well ahead of the replay time
+        long startMillis = System.currentTimeMillis();
+        long time = TIME0;
+        long stalls = 0;
+        while (time < TIME0 + 20 * BLOCK_DURATION) {
+            Thread.sleep(10);
+            if (replay.getAvailableData(time) < 1) {
+                stalls++;
+                continue;
+            }
+            replay.getUpdate(time).release();
+            time = TIME0 + (long) ((System.currentTimeMillis() - startMillis - stalls * 10) * SPEED);
+            assertTrue("timeout", System.currentTimeMillis() - startMillis < TIMEOUT);
+        }
+        waitAvailable(replay, time + 5 * BLOCK_DURATION);
+        assertTrue("parallel requests " + maxActiveRequests.get(), maxActiveRequests.get() > 1);
+        stopReplay(replay);
+    }
+
+    @Test
+    public void testRestartFromFileCache() throws InterruptedException {
+        MarketDataReplay replay = startReplay();
+        waitAvailable(replay, TIME0);
+        assertEquals(SYMBOL_COUNT, countRecords(replay, TIME0 + EVENT_OFFSET));
+        stopReplay(replay);
+
+        requestedTimes.clear();
+        replay = startReplay();
+        waitAvailable(replay, TIME0);
+        assertEquals(SYMBOL_COUNT, countRecords(replay, TIME0 + EVENT_OFFSET));
+        assertFalse(requestedTimes.contains(TIME0));
+        stopReplay(replay);
+    }
+
+    private MarketDataReplay startReplay() {
+        MarketDataReplay replay = new MarketDataReplay();
+        replay.setFileCachePath(tempFolder.getRoot().getPath());
+        replay.setToken(MarketDataToken.fromUserPassword("test", "test",
+            "http://127.0.0.1:" + server.getAddress().getPort() + "/MarketDataReplay"));
+        replay.setSubscription(subscription);
+        subscription.rewind();
+        replay.setTime(TIME0);
+        replay.start();
+        return replay;
+    }
+
+    private static void stopReplay(MarketDataReplay replay) throws InterruptedException {
+        replay.stop();
+        for (Thread thread : replay.getStoppedThreads()) {
+            if (thread != null)
+                thread.join();
+        }
+    }
+
+    private static void waitAvailable(MarketDataReplay replay, long time) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT;
+        while (replay.getAvailableData(time) < 1) {
+            assertTrue("timeout", System.currentTimeMillis() < deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private static int countRecords(MarketDataReplay replay, long time) {
+        RecordBuffer buffer = replay.getSnapshot(time);
+        int count = buffer.size();
+        buffer.release();
+        return count;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        int active = activeRequests.incrementAndGet();
+        maxActiveRequests.accumulateAndGet(active, Math::max);
+        try {
+            ReplayRequest request = new ReplayRequest();
+            request.read(new ByteArrayInput(readFully(exchange.getRequestBody())));
+            long startTime = request.getRequestTime() / BLOCK_DURATION * BLOCK_DURATION;
+            requestedTimes.add(startTime);
+            ReplayResponse response = new ReplayResponse();
+            ByteArrayInput keys = request.getRequestKeysInput();
+            while (keys.available() > 0) {
+                Key key = new Key();
+                key.readKey(keys);
+                createBlock(key, startTime).writeBlock(response.getResponseBlocksOutput());
+            }
+            Thread.sleep(RESPONSE_DELAY);
+            ByteArrayOutput out = response.write();
+            exchange.sendResponseHeaders(200, out.getPosition());
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(out.getBuffer(), 0, out.getPosition());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            activeRequests.decrementAndGet();
+            exchange.close();
+        }
+    }
+
+    private static Block createBlock(Key key, long startTime) throws IOException {
+        MDRQuote quote = new MDRQuote();
+        quote.init(startTime);
+        MDRQuote next = new MDRQuote();
+        next.setFrom(quote);
+        next.setEventTime(startTime + EVENT_OFFSET);
+        ByteArrayOutput body = new ByteArrayOutput();
+        quote.write(body, next);
+        Block block = new Block();
+        block.setSymbol(key.getSymbol());
+        block.setExchange(key.getExchange());
+        block.setType(key.getType());
+        block.setStartTime(startTime);
+        block.setEndTime(startTime + BLOCK_DURATION);
+        block.setData(body.getBuffer(), 0, body.getPosition());
+        return block;
+    }
+
+    private static byte[] readFully(InputStream in) throws IOException {
+        ByteArrayOutput out = new ByteArrayOutput();
+        byte[] buf = new byte[8192];
+        for (int n; (n = in.read(buf)) > 0; ) {
+            out.write(buf, 0, n);
+        }
+        return out.toByteArray();
+    }
+}
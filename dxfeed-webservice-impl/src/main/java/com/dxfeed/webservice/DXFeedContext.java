@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2023 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -11,6 +11,7 @@
  */
 package com.dxfeed.webservice;
 
+import com.devexperts.management.Management;
 import com.devexperts.qd.QDFilter;
 import com.dxfeed.api.DXEndpoint;
 import com.dxfeed.api.DXFeed;
@@ -28,6 +29,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import javax.naming.InitialContext;
 import javax.naming.NamingException;
 
@@ -65,6 +67,9 @@ public class DXFeedContext {
     private DXEndpoint endpoint;
     private DXFeed feed;
     private Map<String, DXFeedImpl> filteredFeeds = new ConcurrentHashMap<>();
+    private final Map<String, EventSnapshotCache> snapshotCaches = new ConcurrentHashMap<>();
+    private final EventSnapshotCache.Stats snapshotCacheStats = new EventSnapshotCache.Stats(snapshotCaches.values());
+    private Management.Registration snapshotCacheRegistration;
 
     private DXFeedContext() {}
 
@@ -101,9 +106,18 @@ public class DXFeedContext {
         for (Class<? extends EventType<?>> eventType : endpoint.getEventTypes()) {
             eventTypes.put(eventType.getSimpleName(), eventType);
         }
+        snapshotCacheRegistration = Management.registerMBean(snapshotCacheStats, EventSnapshotCacheMXBean.class,
+            "com.devexperts.qd.monitoring:type=EventSnapshotCache");
+        snapshotCacheStats.start(getExecutor());
     }
 
     private void shutdown() {
+        snapshotCacheRegistration.unregister();
+        snapshotCacheStats.stop();
+        for (EventSnapshotCache cache : snapshotCaches.values()) {
+            cache.close();
+        }
+        snapshotCaches.clear();
         for (DXFeedImpl feed : filteredFeeds.values()) {
             feed.closeImpl();
         }
@@ -144,6 +158,15 @@ public class DXFeedContext {
         return feed;
     }
 
+    /**
+     * Returns executor of the shared endpoint that is used to notify its subscriptions.
+     */
+    public Executor getExecutor() {
+        if (!(endpoint instanceof DXEndpointImpl))
+            throw new IllegalStateException("Unsupported DXEndpoint implementation!");
+        return ((DXEndpointImpl) endpoint).getOrCreateExecutor();
+    }
+
     @Deprecated
     @SuppressWarnings("deprecation")
     public DXFeed getFeed(QDFilter filter) {
@@ -155,6 +178,15 @@ public class DXFeedContext {
             (key) -> new DXFeedImpl((DXEndpointImpl) endpoint, filter));
     }
 
+    /**
+     * Returns shared cache of last events and their serialized forms for the specified filter.
+     */
+    @SuppressWarnings("deprecation")
+    public EventSnapshotCache getSnapshotCache(QDFilter filter) {
+        return snapshotCaches.computeIfAbsent(filter.toString(),
+            (key) -> new EventSnapshotCache((DXEndpointImpl) endpoint, getFeed(filter), snapshotCacheStats));
+    }
+
     public DXEndpoint.Builder newBuilder() {
         DXEndpoint.Builder builder = DXEndpoint.newBuilder();
         // use properties file path from the context
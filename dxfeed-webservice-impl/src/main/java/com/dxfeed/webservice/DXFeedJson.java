@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2022 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -18,6 +18,7 @@ import com.dxfeed.event.candle.CandleSymbol;
 import com.dxfeed.webservice.comet.DataMessage;
 import com.dxfeed.webservice.rest.Events;
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -228,6 +229,8 @@ public class DXFeedJson {
         @Override
         public void serialize(Events events, JsonGenerator jgen, SerializerProvider provider) throws IOException {
             Map<String, Map<Object, List<EventType<?>>>> typeMap = toEventsMap(events.getEvents());
+            // cached fragments are not indented
+            EventSnapshotCache cache = jgen.getPrettyPrinter() == null ? events.getSnapshotCache() : null;
             jgen.writeStartObject();
             jgen.writeObjectField("status", events.getStatus());
             for (Map.Entry<String, Map<Object, List<EventType<?>>>> typeEntry : typeMap.entrySet()) {
@@ -241,16 +244,27 @@ public class DXFeedJson {
                     if (array) {
                         jgen.writeArrayFieldStart(symbolString);
                         for (EventType<?> event : list)
-                            jgen.writeObject(event);
+                            writeEvent(jgen, cache, event);
                         jgen.writeEndArray();
                     } else {
-                        jgen.writeObjectField(symbolString, event0);
+                        jgen.writeFieldName(symbolString);
+                        writeEvent(jgen, cache, event0);
                     }
                 }
                 jgen.writeEndObject();
             }
             jgen.writeEndObject();
         }
+
+        private static void writeEvent(JsonGenerator jgen, EventSnapshotCache cache, EventType<?> event)
+            throws IOException
+        {
+            SerializableString json = cache == null ? null : cache.getJson(event);
+            if (json != null)
+                jgen.writeRawValue(json);
+            else
+                jgen.writeObject(event);
+        }
     }
 
     static class NullSafeCharSerializer extends JsonSerializer<Character> {
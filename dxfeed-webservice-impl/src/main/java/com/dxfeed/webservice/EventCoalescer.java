@@ -0,0 +1,315 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.dxfeed.webservice;
+
+import com.devexperts.logging.Logging;
+import com.devexperts.qd.util.DxTimer;
+import com.devexperts.util.SystemProperties;
+import com.devexperts.util.TimePeriod;
+import com.dxfeed.event.EventType;
+import com.dxfeed.event.IndexedEvent;
+import com.dxfeed.event.LastingEvent;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import javax.annotation.concurrent.GuardedBy;
+
+/**
+ * Coalesces events that are written to a single web service client into larger writes.
+ * Events are accumulated for up to {@link #PERIOD} or until their estimated size reaches {@link #MAX_BYTES}
+ * and are written with a single {@link Sink#write} invocation.
+ * Events are also accumulated while the client is slow (as reported by {@link Sink#isReady})
+ * or while the previous write is still in progress.
+ *
+ * <p>While events are accumulated, {@link LastingEvent lasting} events that are not {@link IndexedEvent indexed}
+ * are conflated: a new event replaces the pending event of the same type and symbol, so only the latest value
+ * of each symbol is written. With the default zero period events of a fast client are written right away
+ * and nothing is conflated.
+ *
+ * <p>Estimated size of pending events is limited by {@link #MAX_PENDING_BYTES}. When the limit is reached,
+ * new events that do not replace pending ones are dropped until pending events are written.
+ *
+ * <p>At most one write is in progress at any time, so the sink needs no additional synchronization of its writes.
+ *
+ * @param <T> the type of events.
+ */
+public class EventCoalescer<T extends EventType<?>> {
+    private static final Logging log = Logging.getLogging(EventCoalescer.class);
+
+    /**
+     * Coalescing period, events are written immediately when it is zero.
+     */
+    public static final long PERIOD = TimePeriod.valueOf(
+        SystemProperties.getProperty(EventCoalescer.class, "period", "0")).getTime();
+
+    /**
+     * Estimated size of pending events in bytes that triggers a write before the end of the coalescing period.
+     */
+    public static final int MAX_BYTES = SystemProperties.getIntProperty(
+        EventCoalescer.class, "maxBytes", 64 * 1024, 1, Integer.MAX_VALUE);
+
+    /**
+     * Estimated size of pending events in bytes when new events are dropped.
+     */
+    public static final int MAX_PENDING_BYTES = SystemProperties.getIntProperty(
+        EventCoalescer.class, "maxPendingBytes", 16 * 1024 * 1024, 1, Integer.MAX_VALUE);
+
+    /**
+     * Period to check if a slow client is ready to accept more events.
+     */
+    public static final long SLOW_RETRY_PERIOD = TimePeriod.valueOf(
+        SystemProperties.getProperty(EventCoalescer.class, "slowRetryPeriod", "0.1s")).getTime();
+
+    /**
+     * Estimation of event size in bytes when nothing was written yet.
+     */
+    public static final int DEFAULT_EVENT_BYTES = 100;
+
+    /**
+     * Destination of coalesced events.
+     */
+    public interface Sink<T> {
+        /**
+         * Returns {@code false} when the client is slow and events shall be accumulated and conflated.
+         */
+        boolean isReady();
+
+        /**
+         * Writes events to the client. It is never invoked concurrently.
+         */
+        void write(List<T> events);
+
+        /**
+         * Returns average size of a single written event in bytes.
+         */
+        int getAverageEventBytes();
+
+        /**
+         * Invoked when pending events were replaced with newer ones.
+         */
+        void eventsConflated(int count);
+
+        /**
+         * Invoked when new events were dropped, because there are too many pending events.
+         */
+        void eventsDropped(int count);
+    }
+
+    private enum State { IDLE, WAITING, FLUSHING }
+
+    private enum AddResult { ADDED, CONFLATED, DROPPED }
+
+    private final Sink<T> sink;
+    private final Executor executor;
+    private final long period;
+    private final int maxBytes;
+    private final int maxPendingBytes;
+
+    @GuardedBy("this")
+    private State state = State.IDLE;
+    @GuardedBy("this")
+    private boolean slow;
+    @GuardedBy("this")
+    private boolean overflow; // true when events are dropped until pending events are written
+    @GuardedBy("this")
+    private DxTimer.Cancellable timer;
+    @GuardedBy("this")
+    private ArrayList<T> pending = new ArrayList<>();
+    @GuardedBy("this")
+    private final Map<Class<?>, Map<Object, Integer>> positions = new HashMap<>();
+
+    public EventCoalescer(Sink<T> sink, Executor executor) {
+        this(sink, executor, PERIOD, MAX_BYTES, MAX_PENDING_BYTES);
+    }
+
+    public EventCoalescer(Sink<T> sink, Executor executor, long period, int maxBytes, int maxPendingBytes) {
+        this.sink = sink;
+        this.executor = executor;
+        this.period = period;
+        this.maxBytes = maxBytes;
+        this.maxPendingBytes = maxPendingBytes;
+    }
+
+    /**
+     * Returns average size of an event in bytes given total written bytes and events.
+     */
+    public static int averageEventBytes(long bytes, long events) {
+        return bytes <= 0 || events <= 0 ? DEFAULT_EVENT_BYTES : (int) Math.max(1, Math.min(bytes / events, 1 << 20));
+    }
+
+    public synchronized int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Adds events to be written. Events may be written in the calling thread.
+     */
+    public void addEvents(List<? extends T> events) {
+        int conflated = 0;
+        int dropped = 0;
+        boolean overflowStarted = false;
+        boolean flush;
+        synchronized (this) {
+            int maxPending = Math.max(1, maxPendingBytes / sink.getAverageEventBytes());
+            // events that are going to be written right away are not conflated
+            boolean conflate = period > 0 || state != State.IDLE;
+            for (T event : events) {
+                switch (addSync(event, maxPending, conflate)) {
+                case CONFLATED:
+                    conflated++;
+                    break;
+                case DROPPED:
+                    dropped++;
+                    break;
+                }
+            }
+            if (dropped > 0 && !overflow) {
+                overflow = true;
+                overflowStarted = true;
+            }
+            flush = startFlushSync();
+        }
+        if (conflated > 0)
+            sink.eventsConflated(conflated);
+        if (dropped > 0)
+            sink.eventsDropped(dropped);
+        if (overflowStarted)
+            log.warn("Too many pending events for " + sink + ", new events are dropped until they are written");
+        if (flush)
+            flush();
+    }
+
+    /**
+     * Drops pending events and cancels scheduled write.
+     */
+    public synchronized void clear() {
+        pending = new ArrayList<>();
+        positions.clear();
+        overflow = false;
+        if (state == State.WAITING) {
+            cancelTimerSync();
+            state = State.IDLE;
+        }
+    }
+
+    @GuardedBy("this")
+    private AddResult addSync(T event, int maxPending, boolean conflate) {
+        if (!(event instanceof LastingEvent) || event instanceof IndexedEvent) {
+            if (pending.size() >= maxPending)
+                return AddResult.DROPPED;
+            pending.add(event);
+            return AddResult.ADDED;
+        }
+        Map<Object, Integer> symbols = positions.computeIfAbsent(event.getClass(), k -> new HashMap<>());
+        if (conflate) {
+            Integer position = symbols.get(event.getEventSymbol());
+            if (position != null) {
+                pending.set(position, event);
+                return AddResult.CONFLATED;
+            }
+        }
+        if (pending.size() >= maxPending)
+            return AddResult.DROPPED;
+        symbols.put(event.getEventSymbol(), pending.size());
+        pending.add(event);
+        return AddResult.ADDED;
+    }
+
+    // returns true when the caller shall flush pending events
+    @GuardedBy("this")
+    private boolean startFlushSync() {
+        switch (state) {
+        case FLUSHING:
+            return false; // will be written by the current flush
+        case WAITING:
+            if (slow || !isFullSync())
+                return false;
+            cancelTimerSync();
+            break;
+        case IDLE:
+            if (pending.isEmpty())
+                return false;
+            if (period > 0 && !isFullSync()) {
+                waitSync(period, false);
+                return false;
+            }
+        }
+        state = State.FLUSHING;
+        return true;
+    }
+
+    @GuardedBy("this")
+    private boolean isFullSync() {
+        return (long) pending.size() * sink.getAverageEventBytes() >= maxBytes;
+    }
+
+    @GuardedBy("this")
+    private void waitSync(long delay, boolean slow) {
+        state = State.WAITING;
+        this.slow = slow;
+        timer = DxTimer.getInstance().runOnce(() -> executor.execute(this::timerExpired), delay);
+    }
+
+    @GuardedBy("this")
+    private void cancelTimerSync() {
+        if (timer != null) {
+            timer.cancel();
+            timer = null;
+        }
+    }
+
+    private void timerExpired() {
+        synchronized (this) {
+            if (state != State.WAITING)
+                return;
+            timer = null;
+            state = State.FLUSHING;
+        }
+        flush();
+    }
+
+    private void flush() {
+        while (true) {
+            boolean ready = sink.isReady();
+            List<T> events;
+            synchronized (this) {
+                if (pending.isEmpty()) {
+                    state = State.IDLE;
+                    return;
+                }
+                if (!ready) {
+                    waitSync(SLOW_RETRY_PERIOD, true);
+                    return;
+                }
+                events = pending;
+                pending = new ArrayList<>();
+                positions.clear();
+                overflow = false;
+            }
+            try {
+                sink.write(events);
+            } catch (RuntimeException e) {
+                log.error("Failed to write events", e);
+            }
+            synchronized (this) {
+                // give events that came during the write the time to coalesce
+                if (period > 0 && !pending.isEmpty() && !isFullSync()) {
+                    waitSync(period, false);
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,461 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.dxfeed.webservice;
+
+import com.devexperts.qd.ng.RecordBuffer;
+import com.devexperts.qd.ng.RecordCursor;
+import com.devexperts.qd.ng.RecordMode;
+import com.devexperts.qd.util.DxTimer;
+import com.devexperts.util.SystemProperties;
+import com.devexperts.util.TimePeriod;
+import com.dxfeed.api.DXFeed;
+import com.dxfeed.api.DXFeedEventListener;
+import com.dxfeed.api.DXFeedSubscription;
+import com.dxfeed.api.impl.DXEndpointImpl;
+import com.dxfeed.api.impl.EventDelegate;
+import com.dxfeed.api.impl.EventDelegateSet;
+import com.dxfeed.event.EventType;
+import com.dxfeed.event.LastingEvent;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.concurrent.GuardedBy;
+
+/**
+ * Shared cache of the last {@link LastingEvent lasting events} with their pre-serialized JSON fragments.
+ * There is one cache per filter (see {@link DXFeedContext#getSnapshotCache}), so that all web requests with
+ * the same filter share it.
+ *
+ * <p>The cache keeps its own subscription for all {@link #register registered} symbols, so its snapshots are
+ * replaced by live updates. Snapshots are kept as record data, snapshot requests for registered symbols are answered
+ * with new event instances that are created from this data, and their events are serialized at most once per update.
+ * Events that were received by other subscriptions reuse cached fragments when their record data is the same
+ * as the record data of the cached event.
+ *
+ * <p>Entries that were not accessed during {@link #EXPIRATION_PERIOD} are periodically removed from the cache
+ * together with their subscription. All caches of {@link DXFeedContext} keep at most {@link #MAX_SIZE} entries
+ * in total, the caches are disabled when this size is zero.
+ */
+public class EventSnapshotCache implements DXFeedEventListener<EventType<?>> {
+    public static final int MAX_SIZE = SystemProperties.getIntProperty(
+        EventSnapshotCache.class, "maxSize", 10000, 0, Integer.MAX_VALUE);
+    public static final long EXPIRATION_PERIOD = TimePeriod.valueOf(
+        SystemProperties.getProperty(EventSnapshotCache.class, "expirationPeriod", "1m")).getTime();
+
+    // event time is kept in records even if it is not a part of the scheme
+    private static final ThreadLocal<RecordBuffer> LOCAL_BUFFER =
+        ThreadLocal.withInitial(() -> new RecordBuffer(RecordMode.TIMESTAMPED_DATA));
+
+    private final DXEndpointImpl endpoint;
+    private final DXFeed feed;
+    private final Stats stats;
+
+    private final Map<Class<?>, Map<Object, Entry>> entries = new ConcurrentHashMap<>();
+
+    @GuardedBy("this")
+    private final Map<Class<?>, DXFeedSubscription<EventType<?>>> subscriptions = new HashMap<>();
+    @GuardedBy("this")
+    private boolean closed;
+
+    EventSnapshotCache(DXEndpointImpl endpoint, DXFeed feed, Stats stats) {
+        this.endpoint = endpoint;
+        this.feed = feed;
+        this.stats = stats;
+    }
+
+    /**
+     * Returns new instance of the last event for the specified lasting event type and symbol or {@code null}
+     * if the symbol is not {@link #register registered} or its event was not received yet.
+     */
+    public EventType<?> getLastEvent(Class<?> eventType, Object symbol) {
+        Entry entry = getEntry(eventType, symbol);
+        Snapshot snapshot = entry == null ? null : entry.snapshot;
+        if (snapshot == null) {
+            stats.snapshotMisses.increment();
+            return null;
+        }
+        stats.snapshotHits.increment();
+        return entry.delegate.createEvent(snapshot.event.getEventSymbol(), snapshot.cursor);
+    }
+
+    /**
+     * Subscribes the cache to the specified symbols of lasting event type, so that further
+     * {@link #getLastEvent} requests for them are answered from the cache.
+     */
+    public void register(Class<?> eventType, Collection<?> symbols) {
+        if (stats.maxSize == 0 || !LastingEvent.class.isAssignableFrom(eventType))
+            return;
+        Map<Object, Entry> typeEntries = entries.get(eventType);
+        if (typeEntries != null && typeEntries.keySet().containsAll(symbols))
+            return;
+        registerSync(eventType, symbols);
+    }
+
+    /**
+     * Returns pre-serialized JSON of the specified event or {@code null}
+     * if the cache has no event with the same record data.
+     */
+    public SerializableString getJson(EventType<?> event) throws IOException {
+        Snapshot snapshot = getSnapshot(event);
+        if (snapshot == null)
+            return null;
+        SerializableString json = snapshot.json;
+        if (json == null) {
+            SerializedString s = new SerializedString(DXFeedJson.MAPPER.writeValueAsString(snapshot.event));
+            s.asUnquotedUTF8(); // encode once and keep the bytes
+            snapshot.json = json = s;
+        }
+        return json;
+    }
+
+    @Override
+    public void eventsReceived(List<EventType<?>> events) {
+        for (EventType<?> event : events) {
+            Map<Object, Entry> typeEntries = entries.get(event.getClass());
+            Entry entry = typeEntries == null ? null : typeEntries.get(event.getEventSymbol());
+            if (entry == null)
+                continue; // was expired
+            RecordBuffer buf = LOCAL_BUFFER.get();
+            RecordCursor cursor = putEvent(entry.delegate, event, buf);
+            Snapshot snapshot = entry.snapshot;
+            if (snapshot == null || !sameData(snapshot.cursor, cursor)) {
+                // keep own copy of record data, so that scratch buffer can be reused
+                RecordCursor copy = RecordCursor.allocate(cursor.getRecord(), cursor.getCipher(), cursor.getSymbol(),
+                    RecordMode.TIMESTAMPED_DATA);
+                copy.copyFrom(cursor);
+                entry.snapshot = new Snapshot(event, copy);
+                if (snapshot != null)
+                    stats.updates.increment();
+            } // otherwise keep serialized fragments
+            buf.clear();
+        }
+    }
+
+    synchronized void close() {
+        closed = true;
+        for (DXFeedSubscription<EventType<?>> sub : subscriptions.values()) {
+            sub.close();
+        }
+        subscriptions.clear();
+        int size = 0;
+        for (Map<Object, Entry> typeEntries : entries.values()) {
+            size += typeEntries.size();
+        }
+        entries.clear();
+        stats.size.addAndGet(-size);
+    }
+
+    long fragmentBytes() {
+        long bytes = 0;
+        for (Map<Object, Entry> typeEntries : entries.values()) {
+            for (Entry entry : typeEntries.values()) {
+                Snapshot snapshot = entry.snapshot;
+                SerializableString json = snapshot == null ? null : snapshot.json;
+                if (json != null)
+                    bytes += json.asUnquotedUTF8().length;
+            }
+        }
+        return bytes;
+    }
+
+    private Entry getEntry(Class<?> eventType, Object symbol) {
+        Map<Object, Entry> typeEntries = entries.get(eventType);
+        Entry entry = typeEntries == null ? null : typeEntries.get(symbol);
+        if (entry != null)
+            entry.lastAccessTime = System.currentTimeMillis();
+        return entry;
+    }
+
+    private Snapshot getSnapshot(EventType<?> event) {
+        Entry entry = getEntry(event.getClass(), event.getEventSymbol());
+        Snapshot snapshot = entry == null ? null : entry.snapshot;
+        if (snapshot == null || snapshot.event != event && !sameData(entry.delegate, snapshot, event)) {
+            stats.fragmentMisses.increment();
+            return null;
+        }
+        stats.fragmentHits.increment();
+        return snapshot;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private synchronized void registerSync(Class<?> eventType, Collection<?> symbols) {
+        if (closed)
+            return;
+        EventDelegateSet delegateSet = endpoint.getDelegateSetByEventType(eventType);
+        if (delegateSet == null)
+            return;
+        Map<Object, Entry> typeEntries = entries.computeIfAbsent(eventType, type -> new ConcurrentHashMap<>());
+        long time = System.currentTimeMillis();
+        List<Object> added = new ArrayList<>();
+        for (Object symbol : symbols) {
+            if (typeEntries.containsKey(symbol))
+                continue;
+            EventDelegate<?> delegate = delegateSet.getLastingDelegateByEventSymbol(delegateSet.convertSymbol(symbol));
+            if (delegate == null)
+                continue;
+            if (!stats.reserve())
+                break; // caches are full of recently accessed entries until they expire
+            typeEntries.put(symbol, new Entry(delegate, time));
+            added.add(symbol);
+        }
+        if (added.isEmpty())
+            return;
+        DXFeedSubscription<EventType<?>> sub = subscriptions.get(eventType);
+        if (sub == null) {
+            sub = new DXFeedSubscription<>((Class<? extends EventType<?>>) eventType);
+            sub.addEventListener(this);
+            subscriptions.put(eventType, sub);
+            feed.attachSubscription(sub);
+        }
+        sub.addSymbols(added);
+    }
+
+    synchronized void expire(long time) {
+        if (closed)
+            return;
+        List<Object> expired = new ArrayList<>();
+        for (Map.Entry<Class<?>, Map<Object, Entry>> typeEntry : entries.entrySet()) {
+            for (Iterator<Map.Entry<Object, Entry>> it = typeEntry.getValue().entrySet().iterator(); it.hasNext();) {
+                Map.Entry<Object, Entry> e = it.next();
+                if (time - e.getValue().lastAccessTime >= EXPIRATION_PERIOD) {
+                    it.remove();
+                    expired.add(e.getKey());
+                }
+            }
+            if (expired.isEmpty())
+                continue;
+            stats.size.addAndGet(-expired.size());
+            stats.expirations.add(expired.size());
+            subscriptions.get(typeEntry.getKey()).removeSymbols(expired);
+            expired.clear();
+        }
+    }
+
+    private static boolean sameData(EventDelegate<?> delegate, Snapshot snapshot, EventType<?> event) {
+        RecordBuffer buf = LOCAL_BUFFER.get();
+        boolean same = sameData(snapshot.cursor, putEvent(delegate, event, buf));
+        buf.clear();
+        return same;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static RecordCursor putEvent(EventDelegate delegate, EventType<?> event, RecordBuffer buf) {
+        return delegate.putEvent(event, buf);
+    }
+
+    // Compares record data of events with the same symbol, events from the feed are completely defined by it
+    static boolean sameData(RecordCursor a, RecordCursor b) {
+        if (a.getRecord() != b.getRecord() || a.getEventTimeSequence() != b.getEventTimeSequence())
+            return false;
+        for (int i = 0; i < a.getIntCount(); i++) {
+            if (a.getInt(i) != b.getInt(i))
+                return false;
+        }
+        for (int i = 0; i < a.getObjCount(); i++) {
+            if (!a.getRecord().getObjField(i).equals(a.getObj(i), b.getObj(i)))
+                return false;
+        }
+        return true;
+    }
+
+    private static class Entry {
+        final EventDelegate<?> delegate;
+        volatile Snapshot snapshot;
+        volatile long lastAccessTime;
+
+        Entry(EventDelegate<?> delegate, long time) {
+            this.delegate = delegate;
+            lastAccessTime = time;
+        }
+    }
+
+    // Fragments are serialized lazily, concurrent requests may serialize the same event, but it is harmless
+    private static class Snapshot {
+        final EventType<?> event; // is serialized, but never returned to callers
+        final RecordCursor cursor;
+        volatile SerializableString json;
+
+        Snapshot(EventType<?> event, RecordCursor cursor) {
+            this.event = event;
+            this.cursor = cursor;
+        }
+    }
+
+    /**
+     * Statistics of all snapshot caches of {@link DXFeedContext}.
+     */
+    static class Stats implements EventSnapshotCacheMXBean {
+        // expiration is checked twice per expiration period, but not too often
+        private static final long EXPIRATION_CHECK_PERIOD = Math.max(EXPIRATION_PERIOD / 2, 1000);
+
+        private final Collection<EventSnapshotCache> caches;
+        private final int maxSize;
+
+        final AtomicInteger size = new AtomicInteger();
+        final LongAdder snapshotHits = new LongAdder();
+        final LongAdder snapshotMisses = new LongAdder();
+        final LongAdder fragmentHits = new LongAdder();
+        final LongAdder fragmentMisses = new LongAdder();
+        final LongAdder updates = new LongAdder();
+        final LongAdder expirations = new LongAdder();
+
+        @GuardedBy("this")
+        private Executor executor;
+        @GuardedBy("this")
+        private DxTimer.Cancellable timer;
+
+        Stats(Collection<EventSnapshotCache> caches) {
+            this(caches, MAX_SIZE);
+        }
+
+        Stats(Collection<EventSnapshotCache> caches, int maxSize) {
+            this.caches = Collections.unmodifiableCollection(caches);
+            this.maxSize = maxSize;
+        }
+
+        /**
+         * Starts periodic expiration of all caches in the specified executor.
+         */
+        synchronized void start(Executor executor) {
+            this.executor = executor;
+            scheduleExpiration();
+        }
+
+        synchronized void stop() {
+            executor = null;
+            if (timer != null)
+                timer.cancel();
+            timer = null;
+        }
+
+        void expire(long time) {
+            for (EventSnapshotCache cache : caches) {
+                cache.expire(time);
+            }
+        }
+
+        // reserves space for one entry in all caches
+        boolean reserve() {
+            while (true) {
+                int n = size.get();
+                if (n >= maxSize)
+                    return false;
+                if (size.compareAndSet(n, n + 1))
+                    return true;
+            }
+        }
+
+        private synchronized void scheduleExpiration() {
+            Executor executor = this.executor;
+            if (executor == null)
+                return; // stopped
+            timer = DxTimer.getInstance().runOnce(() -> executor.execute(this::expirationTimerExpired),
+                EXPIRATION_CHECK_PERIOD);
+        }
+
+        private void expirationTimerExpired() {
+            expire(System.currentTimeMillis());
+            scheduleExpiration();
+        }
+
+        @Override
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        @Override
+        public int getSize() {
+            return size.get();
+        }
+
+        @Override
+        public int getFilterCount() {
+            return caches.size();
+        }
+
+        @Override
+        public long getFragmentBytes() {
+            long bytes = 0;
+            for (EventSnapshotCache cache : caches) {
+                bytes += cache.fragmentBytes();
+            }
+            return bytes;
+        }
+
+        @Override
+        public long getSnapshotHits() {
+            return snapshotHits.sum();
+        }
+
+        @Override
+        public long getSnapshotMisses() {
+            return snapshotMisses.sum();
+        }
+
+        @Override
+        public double getSnapshotHitRate() {
+            return hitRate(snapshotHits.sum(), snapshotMisses.sum());
+        }
+
+        @Override
+        public long getFragmentHits() {
+            return fragmentHits.sum();
+        }
+
+        @Override
+        public long getFragmentMisses() {
+            return fragmentMisses.sum();
+        }
+
+        @Override
+        public double getFragmentHitRate() {
+            return hitRate(fragmentHits.sum(), fragmentMisses.sum());
+        }
+
+        @Override
+        public long getUpdates() {
+            return updates.sum();
+        }
+
+        @Override
+        public long getExpirations() {
+            return expirations.sum();
+        }
+
+        @Override
+        public void resetCounters() {
+            snapshotHits.reset();
+            snapshotMisses.reset();
+            fragmentHits.reset();
+            fragmentMisses.reset();
+            updates.reset();
+            expirations.reset();
+        }
+
+        private static double hitRate(long hits, long misses) {
+            long total = hits + misses;
+            return total == 0 ? 0 : hits * 100.0 / total;
+        }
+    }
+}
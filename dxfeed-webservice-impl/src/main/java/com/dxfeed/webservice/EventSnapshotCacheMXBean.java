@@ -0,0 +1,56 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.dxfeed.webservice;
+
+import com.devexperts.annotation.Description;
+
+public interface EventSnapshotCacheMXBean {
+
+    @Description("Maximal number of cached events of all filters")
+    public int getMaxSize();
+
+    @Description("Current number of cached events")
+    public int getSize();
+
+    @Description("Number of filters with separate caches")
+    public int getFilterCount();
+
+    @Description("Size of pre-serialized JSON fragments in bytes")
+    public long getFragmentBytes();
+
+    @Description("Number of snapshot requests answered from the cache")
+    public long getSnapshotHits();
+
+    @Description("Number of snapshot requests that were not answered from the cache")
+    public long getSnapshotMisses();
+
+    @Description("Percentage of snapshot requests answered from the cache")
+    public double getSnapshotHitRate();
+
+    @Description("Number of events written with pre-serialized fragments")
+    public long getFragmentHits();
+
+    @Description("Number of events that were serialized without the cache")
+    public long getFragmentMisses();
+
+    @Description("Percentage of events written with pre-serialized fragments")
+    public double getFragmentHitRate();
+
+    @Description("Number of cached events that were replaced by live updates")
+    public long getUpdates();
+
+    @Description("Number of cached events that were removed because they were not accessed")
+    public long getExpirations();
+
+    @Description("Reset hit, miss, update and expiration counters")
+    public void resetCounters();
+}
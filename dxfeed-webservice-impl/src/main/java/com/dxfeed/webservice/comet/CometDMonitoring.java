@@ -164,7 +164,7 @@ public class CometDMonitoring implements CometDMonitoringMXBean {
         String message = "sort: " + sortColumn + "; limit: " + ((limit != Integer.MAX_VALUE) ? limit : "max") + "; ";
         message += currentTotals.getTotalRated(1, period) + buff.toString();
         // Total sum is calculated - replace units
-        message = message.replaceAll("mps", "msg").replaceAll("pps", "pkt");
+        message = message.replaceAll("mps", "msg").replaceAll("pps", "pkt").replaceAll("Bps", "B");
 
         log.info("\bDump Sessions Total {" + name + "} " + message);
         return message;
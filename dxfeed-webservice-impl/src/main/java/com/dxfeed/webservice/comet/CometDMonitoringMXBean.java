@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2021 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -28,7 +28,8 @@ public interface CometDMonitoringMXBean {
 
     @Description("Dump sessions statistics averaged by total running time")
     public String dumpSessionsAverage(
-        @Description("Order by column (id, queue, read_mps, read, write_mps, write, time, inactivity, send_inactivity)")
+        @Description("Order by column (id, queue, read_mps, read, write_mps, write, write_bytes, conflated, dropped, " +
+            "time, inactivity, send_inactivity)")
         String sortColumn,
         @Description("Limit number of sessions")
         int limit);
@@ -38,7 +39,8 @@ public interface CometDMonitoringMXBean {
 
     @Description("Dump sessions statistics (total values)")
     public String dumpSessionsTotal(
-        @Description("Order by column (id, queue, read_mps, read, write_mps, write, time, inactivity, send_inactivity)")
+        @Description("Order by column (id, queue, read_mps, read, write_mps, write, write_bytes, conflated, dropped, " +
+            "time, inactivity, send_inactivity)")
         String sortColumn,
         @Description("Limit number of sessions")
         int limit);
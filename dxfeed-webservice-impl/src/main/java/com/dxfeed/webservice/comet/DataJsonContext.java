@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2021 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -13,7 +13,6 @@ package com.dxfeed.webservice.comet;
 
 import com.dxfeed.webservice.DXFeedJson;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import org.cometd.bayeux.Message;
 import org.cometd.bayeux.server.ServerMessage;
 import org.cometd.common.JSONContext;
 import org.cometd.server.JSONContextServer;
@@ -81,11 +80,43 @@ public class DataJsonContext implements JSONContextServer, JSONContext.Parser, J
 
     @Override
     public String generate(ServerMessage.Mutable mutable) {
-        return generate((Object) mutable);
+        String json = generate((Object) mutable);
+        if (mutable.getData() instanceof DataMessage)
+            ((DataMessage) mutable.getData()).bytesGenerated(utf8Length(json));
+        return json;
+    }
+
+    // JSON is written in UTF-8
+    private static int utf8Length(String s) {
+        int length = s.length();
+        int bytes = length;
+        for (int i = 0; i < length; i++) {
+            char c = s.charAt(i);
+            if (c >= 0x80) {
+                if (c < 0x800) {
+                    bytes++;
+                } else if (Character.isHighSurrogate(c) && i + 1 < length &&
+                    Character.isLowSurrogate(s.charAt(i + 1)))
+                {
+                    bytes += 2; // 4 bytes for 2 chars of surrogate pair
+                    i++;
+                } else {
+                    bytes += 2;
+                }
+            }
+        }
+        return bytes;
     }
 
     @Override
     public String generate(List<ServerMessage.Mutable> messages) {
-        return generate(messages.toArray(new Message.Mutable[messages.size()]));
+        // generate messages one by one to account written bytes of data messages
+        StringBuilder sb = new StringBuilder().append('[');
+        for (int i = 0; i < messages.size(); i++) {
+            if (i > 0)
+                sb.append(',');
+            sb.append(generate(messages.get(i)));
+        }
+        return sb.append(']').toString();
     }
 }
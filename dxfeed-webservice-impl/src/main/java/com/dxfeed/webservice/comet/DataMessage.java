@@ -21,12 +21,20 @@ public class DataMessage {
     private final Class<?> eventType;
     private final List<? extends EventType<?>> events;
     private final EventSymbolMap symbolMap;
+    private final SessionStats stats;
 
     DataMessage(boolean sendScheme, Class<?> eventType, List<? extends EventType<?>> events, EventSymbolMap symbolMap) {
+        this(sendScheme, eventType, events, symbolMap, null);
+    }
+
+    DataMessage(boolean sendScheme, Class<?> eventType, List<? extends EventType<?>> events, EventSymbolMap symbolMap,
+        SessionStats stats)
+    {
         this.sendScheme = sendScheme;
         this.eventType = eventType;
         this.events = events;
         this.symbolMap = symbolMap;
+        this.stats = stats;
     }
 
     public boolean isSendScheme() {
@@ -44,4 +52,9 @@ public class DataMessage {
     public EventSymbolMap getSymbolMap() {
         return symbolMap;
     }
+
+    void bytesGenerated(int length) {
+        if (stats != null)
+            stats.writeBytes += length;
+    }
 }
@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2021 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -21,11 +21,13 @@ import com.dxfeed.api.DXFeedEventListener;
 import com.dxfeed.api.DXFeedSubscription;
 import com.dxfeed.api.impl.DXEndpointImpl;
 import com.dxfeed.api.impl.DXFeedImpl;
+import com.dxfeed.api.osub.ObservableSubscriptionChangeListener;
 import com.dxfeed.api.osub.TimeSeriesSubscriptionSymbol;
 import com.dxfeed.event.EventType;
 import com.dxfeed.event.TimeSeriesEvent;
 import com.dxfeed.ondemand.OnDemandService;
 import com.dxfeed.webservice.DXFeedContext;
+import com.dxfeed.webservice.EventCoalescer;
 import com.dxfeed.webservice.EventSymbolMap;
 import org.cometd.annotation.Listener;
 import org.cometd.annotation.Service;
@@ -46,6 +48,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.function.Consumer;
@@ -66,6 +69,11 @@ public class DataService {
     private int messageBatchSize = SystemProperties.getIntProperty(
         DataService.class, "messageBatchSize", DEFAULT_BATCH_SIZE, 1, 10_000);
 
+    // session is considered slow and its events are coalesced while its outgoing queue is longer than this
+    private static final int DEFAULT_SLOW_QUEUE_SIZE = 10;
+    private int slowQueueSize = SystemProperties.getIntProperty(
+        DataService.class, "slowQueueSize", DEFAULT_SLOW_QUEUE_SIZE, 0, Integer.MAX_VALUE);
+
     // ------------------------ static shared ------------------------
 
     private static final String ONDEMAND_NAME_PREFIX = "onDemand";
@@ -290,14 +298,18 @@ public class DataService {
             });
         }
 
-        private class Listener<T extends EventType<?>> implements DXFeedEventListener<T> {
+        private class Listener<T extends EventType<?>>
+            implements DXFeedEventListener<T>, ObservableSubscriptionChangeListener, EventCoalescer.Sink<T>
+        {
             private final Class<T> eventType;
             private final boolean timeSeries;
+            private final EventCoalescer<T> coalescer;
             private boolean sendScheme = true; // send on the first list of events
 
             private Listener(Class<T> eventType, boolean timeSeries) {
                 this.eventType = eventType;
                 this.timeSeries = timeSeries;
+                this.coalescer = new EventCoalescer<>(this, task -> sharedEndpoint.getOrCreateExecutor().execute(task));
             }
 
             @Override
@@ -308,17 +320,62 @@ public class DataService {
                     removed(sessionImpl, false);
                     return;
                 }
+                coalescer.addEvents(events);
+            }
+
+            @Override
+            public boolean isReady() {
+                if (sessionImpl == null)
+                    return true;
+                synchronized (sessionImpl.getLock()) {
+                    return sessionImpl.getQueue().size() <= slowQueueSize;
+                }
+            }
+
+            @Override
+            public void write(List<T> events) {
+                if (closed)
+                    return;
                 int length = events.size();
                 for (int i = 0; i < length; i += messageBatchSize) {
                     // Break list of events into smaller batches
                     List<T> eventsBatch = events.subList(i, Math.min(length, i + messageBatchSize));
 
                     remote.deliver(server, timeSeries ? TIME_SERIES_DATA_CHANNEL : DATA_CHANNEL,
-                        new DataMessage(sendScheme, eventType, eventsBatch, symbolMap), Promise.noop());
+                        new DataMessage(sendScheme, eventType, eventsBatch, symbolMap, stats), Promise.noop());
 
                     sendScheme = false; // don't need to send afterwards
                 }
             }
+
+            @Override
+            public int getAverageEventBytes() {
+                return EventCoalescer.averageEventBytes(stats.writeBytes, stats.writeEvents);
+            }
+
+            @Override
+            public void eventsConflated(int count) {
+                stats.conflatedEvents += count;
+            }
+
+            @Override
+            public void eventsDropped(int count) {
+                stats.droppedEvents += count;
+            }
+
+            @Override
+            public String toString() {
+                return "session " + remote.getId() + " " + eventType.getSimpleName();
+            }
+
+            @Override
+            public void symbolsAdded(Set<?> symbols) {}
+
+            @Override
+            public void subscriptionClosed() {
+                // drop events that are pending for the closed subscription
+                coalescer.clear();
+            }
         }
 
         @SuppressWarnings("unchecked")
@@ -504,7 +561,9 @@ public class DataService {
             DXFeedSubscription<Object> sub = subscriptions.get(eventType);
             if (sub == null) {
                 sub = feed.createSubscription(eventType);
-                sub.addEventListener(new Listener(eventType, timeSeries));
+                Listener listener = new Listener(eventType, timeSeries);
+                sub.addEventListener(listener);
+                sub.addChangeListener(listener);
                 sub.setExecutor(new DelayableExecutor(sharedEndpoint::getOrCreateExecutor));
                 subscriptions.put(eventType, sub);
             }
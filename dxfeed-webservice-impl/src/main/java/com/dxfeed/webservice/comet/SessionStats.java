@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2021 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -32,6 +32,9 @@ class SessionStats implements Cloneable {
     public volatile long writeEvents;
     public volatile long write;
     public volatile long writeMeta;
+    public volatile long writeBytes;
+    public volatile long conflatedEvents;
+    public volatile long droppedEvents;
     public volatile long readEvents;
     public volatile long read;
     public volatile long readMeta;
@@ -48,6 +51,12 @@ class SessionStats implements Cloneable {
             return Comparator.comparing((SessionStats stats) -> stats.writeEvents).reversed();
         case "write":
             return Comparator.comparing((SessionStats stats) -> stats.write + stats.writeMeta).reversed();
+        case "write_bytes":
+            return Comparator.comparing((SessionStats stats) -> stats.writeBytes).reversed();
+        case "conflated":
+            return Comparator.comparing((SessionStats stats) -> stats.conflatedEvents).reversed();
+        case "dropped":
+            return Comparator.comparing((SessionStats stats) -> stats.droppedEvents).reversed();
         case "queue":
             return Comparator.comparing((SessionStats stats) -> stats.queueSize).reversed();
         case "time":
@@ -86,6 +95,9 @@ class SessionStats implements Cloneable {
         writeEvents = 0;
         write = 0;
         writeMeta = 0;
+        writeBytes = 0;
+        conflatedEvents = 0;
+        droppedEvents = 0;
         readEvents = 0;
         read = 0;
         readMeta = 0;
@@ -120,6 +132,9 @@ class SessionStats implements Cloneable {
         writeEvents += other.writeEvents * multiplier;
         write += other.write * multiplier;
         writeMeta += other.writeMeta * multiplier;
+        writeBytes += other.writeBytes * multiplier;
+        conflatedEvents += other.conflatedEvents * multiplier;
+        droppedEvents += other.droppedEvents * multiplier;
         readEvents += other.readEvents * multiplier;
         read += other.read * multiplier;
         readMeta += other.readMeta * multiplier;
@@ -131,7 +146,9 @@ class SessionStats implements Cloneable {
             + " SubTs: " + getRated(subTimeSeriesSize, sessions) + ";"
             + " Queue: " + getRated(queueSize, sessions) + ", max " + maxQueueSize + ";"
             + " Write: " + getRated(writeEvents, period) + " mps, "
-            + getRated(write, period) + " pps, meta " + getRated(writeMeta, period) + " pps;"
+            + getRated(write, period) + " pps, meta " + getRated(writeMeta, period) + " pps, "
+            + getRated(writeBytes, period) + " Bps, conflated " + getRated(conflatedEvents, period) + " mps,"
+            + " dropped " + getRated(droppedEvents, period) + " mps;"
             + " Read: " + getRated(readEvents, period) + " mps, "
             + getRated(read, period) + " pps, meta " + getRated(readMeta, period) + " pps;";
     }
@@ -141,7 +158,9 @@ class SessionStats implements Cloneable {
             + " SubTs: " + subTimeSeriesSize + ";"
             + " Queue: " + queueSize + ", max " + maxQueueSize + ";"
             + " Write: " + getRated(writeEvents, period) + " mps, "
-            + getRated(write, period) + " pps, meta " + getRated(writeMeta, period) + " pps;"
+            + getRated(write, period) + " pps, meta " + getRated(writeMeta, period) + " pps, "
+            + getRated(writeBytes, period) + " Bps, conflated " + getRated(conflatedEvents, period) + " mps,"
+            + " dropped " + getRated(droppedEvents, period) + " mps;"
             + " Read: " + getRated(readEvents, period) + " mps, "
             + getRated(read, period) + " pps, meta " + getRated(readMeta, period) + " pps;";
     }
@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2021 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -12,6 +12,7 @@
 package com.dxfeed.webservice.rest;
 
 import com.dxfeed.event.EventType;
+import com.dxfeed.webservice.EventSnapshotCache;
 import com.dxfeed.webservice.EventSymbolMap;
 
 import java.util.List;
@@ -28,6 +29,7 @@ public class Events {
     private Status status;
     private List<EventType<?>> events;
     private EventSymbolMap symbolMap;
+    private EventSnapshotCache snapshotCache;
 
     public Status getStatus() {
         return status;
@@ -54,4 +56,16 @@ public class Events {
     public void setSymbolMap(EventSymbolMap symbolMap) {
         this.symbolMap = symbolMap;
     }
+
+    /**
+     * Returns cache with pre-serialized events that are used to write events or {@code null}.
+     */
+    @XmlTransient
+    public EventSnapshotCache getSnapshotCache() {
+        return snapshotCache;
+    }
+
+    public void setSnapshotCache(EventSnapshotCache snapshotCache) {
+        this.snapshotCache = snapshotCache;
+    }
 }
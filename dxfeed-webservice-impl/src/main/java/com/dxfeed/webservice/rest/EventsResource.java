@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2023 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -30,6 +30,8 @@ import com.dxfeed.promise.Promise;
 import com.dxfeed.promise.PromiseHandler;
 import com.dxfeed.promise.Promises;
 import com.dxfeed.webservice.DXFeedContext;
+import com.dxfeed.webservice.EventCoalescer;
+import com.dxfeed.webservice.EventSnapshotCache;
 import com.dxfeed.webservice.EventSymbolMap;
 
 import java.io.EOFException;
@@ -202,14 +204,15 @@ public class EventsResource {
         // request events
         List<Promise<?>> promiseList = new ArrayList<>(eventList.size() * symbolList.size());
         EventSymbolMap symbolMap = new EventSymbolMap();
-        buildPromisesList(toTime, promiseList, symbolMap);
+        EventSnapshotCache snapshotCache = getSnapshotCache();
+        buildPromisesList(toTime, promiseList, symbolMap, snapshotCache);
         // handle asynchronously
         AsyncContext async = req.startAsync();
         // defer response creation to async handler
         Promise<Void> allPromises = Promises.allOf(promiseList);
         long timeoutMillis = timeout == null ? DEFAULT_TIMEOUT : timeout.getTime();
         EventRequestHandler requestHandler = new EventRequestHandler(async,
-            promiseList, allPromises, symbolMap, timeoutMillis);
+            promiseList, allPromises, symbolMap, snapshotCache, timeoutMillis);
         log.info("Processing " + requestHandler);
         // configure timeout
         async.addListener(requestHandler);
@@ -219,8 +222,8 @@ public class EventsResource {
     }
 
     @SuppressWarnings("unchecked")
-    private void buildPromisesList(Date toTime, List<Promise<?>> promiseList, EventSymbolMap symbolMap)
-        throws HttpErrorException
+    private void buildPromisesList(Date toTime, List<Promise<?>> promiseList, EventSymbolMap symbolMap,
+        EventSnapshotCache snapshotCache) throws HttpErrorException
     {
         DXFeed feed = getFeed(getFilter());
         List<OrderSource> sourceList = resolveSourceList(Collections.singletonList(OrderSource.DEFAULT));
@@ -236,8 +239,19 @@ public class EventsResource {
                         symbolMap.resolveEventSymbolMapping(et, sym), fromTimeL, toTimeL));
                 }
             } else if (LastingEvent.class.isAssignableFrom(et)) {
-                promiseList.addAll(feed.getLastEventsPromises((Class<LastingEvent<?>>) et,
-                    symbolMap.resolveEventSymbolMappings(et, symbolList)));
+                // take cached events and request others, so that they are cached for next requests
+                List<Object> uncachedSymbols = new ArrayList<>();
+                for (Object symbol : symbolMap.resolveEventSymbolMappings(et, symbolList)) {
+                    EventType<?> event = snapshotCache.getLastEvent(et, symbol);
+                    if (event != null)
+                        promiseList.add(Promise.completed(event));
+                    else
+                        uncachedSymbols.add(symbol);
+                }
+                if (!uncachedSymbols.isEmpty()) {
+                    snapshotCache.register(et, uncachedSymbols);
+                    promiseList.addAll(feed.getLastEventsPromises((Class<LastingEvent<?>>) et, uncachedSymbols));
+                }
             } else if (IndexedEvent.class.isAssignableFrom(et)) {
                 for (String sym : symbolList) {
                     for (OrderSource src : sourceList) {
@@ -263,11 +277,13 @@ public class EventsResource {
         int requestSize = eventList.size() * symbolList.size();
         List<EventType<?>> eventsList = new ArrayList<>(requestSize);
         EventSymbolMap symbolMap = new EventSymbolMap();
-        boolean ok = buildEventsList(toTime, eventsList, symbolMap);
+        EventSnapshotCache snapshotCache = getSnapshotCache();
+        boolean ok = buildEventsList(toTime, eventsList, symbolMap, snapshotCache);
         Events result = new Events();
         result.setStatus(ok ? Events.Status.OK : Events.Status.NOT_SUBSCRIBED);
         result.setEvents(eventsList);
         result.setSymbolMap(symbolMap);
+        result.setSnapshotCache(snapshotCache);
         String logRespReason = "event request [size=" + requestSize + ", timeout=0] " +
             "with " + eventsList.size() + " events (" + result.getStatus() + ")";
         if (writeResponse(result, logRespReason))
@@ -275,8 +291,8 @@ public class EventsResource {
     }
 
     @SuppressWarnings("unchecked")
-    private boolean buildEventsList(Date toTime, List<EventType<?>> eventsList, EventSymbolMap symbolMap)
-        throws HttpErrorException
+    private boolean buildEventsList(Date toTime, List<EventType<?>> eventsList, EventSymbolMap symbolMap,
+        EventSnapshotCache snapshotCache) throws HttpErrorException
     {
         boolean ok = true;
         DXFeed feed = getFeed(getFilter());
@@ -298,8 +314,10 @@ public class EventsResource {
                 }
             } else if (LastingEvent.class.isAssignableFrom(et)) {
                 for (String sym : symbolList) {
-                    LastingEvent<?> event = feed.getLastEventIfSubscribed((Class<LastingEvent<?>>) et,
-                        symbolMap.resolveEventSymbolMapping(et, sym));
+                    Object symbol = symbolMap.resolveEventSymbolMapping(et, sym);
+                    EventType<?> event = snapshotCache.getLastEvent(et, symbol);
+                    if (event == null)
+                        event = feed.getLastEventIfSubscribed((Class<LastingEvent<?>>) et, symbol);
                     if (event == null)
                         ok = false;
                     else
@@ -376,7 +394,7 @@ public class EventsResource {
                 throw sessionNotFound("no connection " + name);
             }
         } else {
-            conn = new EventConnection(getFeed(filter), filter);
+            conn = new EventConnection(getFeed(filter), filter, getSnapshotCache());
         }
         // update subscription
         updateSubscription(SubOp.ADD_SUB, conn);
@@ -456,6 +474,9 @@ public class EventsResource {
                 }
             } else if (LastingEvent.class.isAssignableFrom(et)) {
                 symbols.addAll(conn.symbolMap.resolveEventSymbolMappings(et, symbolList));
+                // share serialized events with other connections
+                if (subOp == SubOp.ADD_SUB)
+                    conn.snapshotCache.register(et, symbols);
             } else if (IndexedEvent.class.isAssignableFrom(et)) {
                 if (sourceList.isEmpty()) {
                     symbols.addAll(symbolList);
@@ -521,6 +542,10 @@ public class EventsResource {
         return DXFeedContext.INSTANCE.getFeed(filter);
     }
 
+    private EventSnapshotCache getSnapshotCache() {
+        return DXFeedContext.INSTANCE.getSnapshotCache(getFilter());
+    }
+
     // ============================== helper classes  ==============================
 
     private static final AtomicLong REQUEST_ID = new AtomicLong();
@@ -534,16 +559,18 @@ public class EventsResource {
         private final List<Promise<?>> promiseList;
         private final Promise<Void> allPromises;
         private final EventSymbolMap symbolMap;
+        private final EventSnapshotCache snapshotCache;
         private final long timeoutMillis;
         private final AtomicBoolean responded = new AtomicBoolean();
 
         EventRequestHandler(AsyncContext async, List<Promise<?>> promiseList, Promise<Void> allPromises,
-            EventSymbolMap symbolMap, long timeoutMillis)
+            EventSymbolMap symbolMap, EventSnapshotCache snapshotCache, long timeoutMillis)
         {
             this.async = async;
             this.promiseList = promiseList;
             this.allPromises = allPromises;
             this.symbolMap = symbolMap;
+            this.snapshotCache = snapshotCache;
             this.timeoutMillis = timeoutMillis;
         }
 
@@ -570,6 +597,7 @@ public class EventsResource {
                 result.setStatus(ok ? Events.Status.OK : Events.Status.TIMED_OUT);
                 result.setEvents(eventsList);
                 result.setSymbolMap(symbolMap);
+                result.setSnapshotCache(snapshotCache);
                 // provide result
                 String logRespReason = this + " with " + eventsList.size() + " events (" + result.getStatus() + ") on " + reason;
                 if (writeResponse(result, logRespReason))
@@ -621,7 +649,9 @@ public class EventsResource {
     /**
      * Class for "/eventSource" connection.
      */
-    private static class EventConnection extends SSEConnection implements DXFeedEventListener<EventType<?>> {
+    private static class EventConnection extends SSEConnection
+        implements DXFeedEventListener<EventType<?>>, EventCoalescer.Sink<EventType<?>>
+    {
         private static final long serialVersionUID = 0;
 
         private final Map<Class<? extends EventType<?>>, DXFeedSubscription<EventType<?>>> subscriptions =
@@ -630,6 +660,12 @@ public class EventsResource {
 
         private final QDFilter filter;
         private final DXFeed feed;
+        private final EventSnapshotCache snapshotCache;
+        private final EventCoalescer<EventType<?>> coalescer;
+
+        private transient volatile long writeEvents;
+        private transient volatile long conflatedEvents;
+        private transient volatile long droppedEvents;
 
         @GuardedBy("this")
         private Format format;
@@ -637,9 +673,13 @@ public class EventsResource {
         private String indent;
 
         @SuppressWarnings("deprecation")
-        public EventConnection(@Nonnull DXFeed feed, @Nonnull QDFilter filter) {
+        public EventConnection(@Nonnull DXFeed feed, @Nonnull QDFilter filter,
+            @Nonnull EventSnapshotCache snapshotCache)
+        {
             this.feed = feed;
             this.filter = filter;
+            this.snapshotCache = snapshotCache;
+            this.coalescer = new EventCoalescer<>(this, task -> DXFeedContext.INSTANCE.getExecutor().execute(task));
         }
 
         // returns null if it is already closed and cannot add anything more
@@ -676,6 +716,7 @@ public class EventsResource {
             // close subscriptions
             for (DXFeedSubscription<EventType<?>> sub : subscriptions.values())
                 feed.detachSubscription(sub);
+            coalescer.clear();
         }
 
         @Override
@@ -685,7 +726,35 @@ public class EventsResource {
 
         @Override
         public void eventsReceived(List<EventType<?>> eventsList) {
-            writeEvents(eventsList);
+            if (isActive())
+                coalescer.addEvents(eventsList);
+        }
+
+        @Override
+        public boolean isReady() {
+            // writes are blocking, events that come during a write of a slow client are coalesced
+            return true;
+        }
+
+        @Override
+        public void write(List<EventType<?>> events) {
+            writeEvents(events);
+            writeEvents += events.size();
+        }
+
+        @Override
+        public int getAverageEventBytes() {
+            return EventCoalescer.averageEventBytes(writeBytes, writeEvents);
+        }
+
+        @Override
+        public void eventsConflated(int count) {
+            conflatedEvents += count;
+        }
+
+        @Override
+        public void eventsDropped(int count) {
+            droppedEvents += count;
         }
 
         private void writeEvents(List<EventType<?>> eventsList) {
@@ -695,6 +764,7 @@ public class EventsResource {
             result.setStatus(Events.Status.OK);
             result.setEvents(eventsList);
             result.setSymbolMap(symbolMap);
+            result.setSnapshotCache(snapshotCache);
             try {
                 if (!writeObject(result))
                     return; // already closed
@@ -734,6 +804,11 @@ public class EventsResource {
                 sb.append(entry.getValue().getSymbols().size());
             }
             sb.append(']');
+            sb.append(", writes=").append(writes);
+            sb.append(", writeBytes=").append(writeBytes);
+            sb.append(", writeEvents=").append(writeEvents);
+            sb.append(", conflatedEvents=").append(conflatedEvents);
+            sb.append(", droppedEvents=").append(droppedEvents);
             return sb.toString();
         }
 
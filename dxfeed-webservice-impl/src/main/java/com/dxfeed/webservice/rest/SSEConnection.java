@@ -11,6 +11,7 @@
  */
 package com.dxfeed.webservice.rest;
 
+import com.devexperts.io.ByteArrayOutput;
 import com.devexperts.logging.Logging;
 import com.devexperts.util.IndexedSet;
 import com.devexperts.util.SynchronizedIndexedSet;
@@ -61,6 +62,8 @@ public abstract class SSEConnection implements AsyncListener, Serializable {
     @GuardedBy("this") protected transient AsyncContext async;
 
     protected transient volatile long lastMessageTime;
+    protected transient volatile long writes;
+    protected transient volatile long writeBytes;
 
     protected SSEConnection() {
         this.id = CONNECTION_ID.incrementAndGet();
@@ -144,7 +147,12 @@ public abstract class SSEConnection implements AsyncListener, Serializable {
         }
     }
 
+    /**
+     * Output that accumulates a single message and writes it to the underlying stream with one write on
+     * {@link #endMessage()}.
+     */
     protected class Output extends FilterOutputStream {
+        private final ByteArrayOutput message = new ByteArrayOutput(1024);
         boolean inLine;
         boolean crSeen;
 
@@ -155,14 +163,14 @@ public abstract class SSEConnection implements AsyncListener, Serializable {
         private void startLine() throws IOException {
             if (!inLine) {
                 inLine = true;
-                super.write(LINE_START);
+                message.write(LINE_START);
             }
         }
 
         private void endLine() throws IOException {
             if (inLine) {
                 inLine = false;
-                super.write(LINE_END);
+                message.write(LINE_END);
             }
         }
 
@@ -185,7 +193,29 @@ public abstract class SSEConnection implements AsyncListener, Serializable {
             default:
                 crSeen = false;
                 startLine();
-                super.write(b);
+                message.write(b);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            int start = off;
+            int end = off + len;
+            for (int i = off; i < end; i++) {
+                if (b[i] == 0x0d || b[i] == 0x0a) {
+                    writeRun(b, start, i);
+                    write(b[i]);
+                    start = i + 1;
+                }
+            }
+            writeRun(b, start, end);
+        }
+
+        private void writeRun(byte[] b, int start, int end) throws IOException {
+            if (start < end) {
+                crSeen = false;
+                startLine();
+                message.write(b, start, end - start);
             }
         }
 
@@ -201,8 +231,16 @@ public abstract class SSEConnection implements AsyncListener, Serializable {
 
         public void endMessage() throws IOException {
             endLine();
-            super.write(MESSAGE_END);
-            super.flush();
+            message.write(MESSAGE_END);
+            int size = message.getPosition();
+            try {
+                out.write(message.getBuffer(), 0, size);
+                out.flush();
+            } finally {
+                message.clear();
+            }
+            writes++;
+            writeBytes += size;
             lastMessageTime = System.currentTimeMillis();
         }
     }
@@ -0,0 +1,178 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.dxfeed.webservice;
+
+import com.dxfeed.event.EventType;
+import com.dxfeed.event.market.Order;
+import com.dxfeed.event.market.Quote;
+import com.dxfeed.event.market.TimeAndSale;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class EventCoalescerTest {
+    private final TestSink sink = new TestSink();
+
+    @Test
+    public void testImmediateWrite() {
+        EventCoalescer<EventType<?>> coalescer = new EventCoalescer<>(sink, Runnable::run, 0, 1000, 1_000_000);
+        Quote quote = quote("IBM", 1);
+        coalescer.addEvents(Collections.singletonList(quote));
+        assertEquals(1, sink.writes.size());
+        assertSame(quote, sink.writes.poll().get(0));
+        coalescer.addEvents(Arrays.asList(quote("IBM", 2), quote("IBM", 3)));
+        // fast client gets all events without conflation
+        assertEquals(2, sink.writes.poll().size());
+        assertEquals(0, coalescer.getPendingCount());
+        assertEquals(0, sink.conflated);
+    }
+
+    @Test
+    public void testPeriod() throws InterruptedException {
+        EventCoalescer<EventType<?>> coalescer = new EventCoalescer<>(sink, Runnable::run, 100, 1_000_000, 1_000_000);
+        coalescer.addEvents(Collections.singletonList(quote("IBM", 1)));
+        coalescer.addEvents(Collections.singletonList(quote("MSFT", 1)));
+        coalescer.addEvents(Collections.singletonList(quote("IBM", 2)));
+        assertNull(sink.writes.poll());
+        List<EventType<?>> events = sink.writes.poll(10, TimeUnit.SECONDS);
+        assertNotNull(events);
+        assertEquals(2, events.size());
+        assertEquals(2, ((Quote) events.get(0)).getBidPrice(), 0);
+        assertEquals("MSFT", events.get(1).getEventSymbol());
+        assertEquals(1, sink.conflated);
+    }
+
+    @Test
+    public void testMaxBytes() {
+        // 10 events of default size fill the buffer
+        EventCoalescer<EventType<?>> coalescer = new EventCoalescer<>(sink, Runnable::run,
+            1_000_000, 10 * EventCoalescer.DEFAULT_EVENT_BYTES, 1_000_000);
+        for (int i = 0; i < 9; i++)
+            coalescer.addEvents(Collections.singletonList(quote("S" + i, i)));
+        assertNull(sink.writes.poll());
+        coalescer.addEvents(Collections.singletonList(quote("S9", 9)));
+        assertEquals(10, sink.writes.poll().size());
+        coalescer.clear();
+    }
+
+    @Test
+    public void testSlowClient() throws InterruptedException {
+        EventCoalescer<EventType<?>> coalescer = new EventCoalescer<>(sink, Runnable::run, 0, 1000, 1_000_000);
+        sink.ready = false;
+        coalescer.addEvents(Arrays.asList(quote("IBM", 1), timeAndSale("IBM", 1), order("IBM", 1)));
+        coalescer.addEvents(Arrays.asList(quote("IBM", 2), timeAndSale("IBM", 2), order("IBM", 2)));
+        assertNull(sink.writes.poll());
+        // quotes are conflated, time and sales and orders are not
+        assertEquals(5, coalescer.getPendingCount());
+        assertEquals(1, sink.conflated);
+        sink.ready = true;
+        List<EventType<?>> events = sink.writes.poll(10, TimeUnit.SECONDS);
+        assertNotNull(events);
+        assertEquals(5, events.size());
+        assertEquals(2, ((Quote) events.get(0)).getBidPrice(), 0);
+    }
+
+    @Test
+    public void testMaxPendingBytes() throws InterruptedException {
+        // 4 events of default size are pending at most
+        EventCoalescer<EventType<?>> coalescer = new EventCoalescer<>(sink, Runnable::run,
+            0, 1000, 4 * EventCoalescer.DEFAULT_EVENT_BYTES);
+        sink.ready = false;
+        coalescer.addEvents(Arrays.asList(quote("IBM", 1), timeAndSale("IBM", 1), timeAndSale("IBM", 2)));
+        coalescer.addEvents(Arrays.asList(timeAndSale("IBM", 3), timeAndSale("IBM", 4), quote("MSFT", 1)));
+        // the latest quote for pending symbol replaces pending one even when there are too many pending events
+        coalescer.addEvents(Collections.singletonList(quote("IBM", 2)));
+        assertEquals(4, coalescer.getPendingCount());
+        assertEquals(2, sink.dropped);
+        assertEquals(1, sink.conflated);
+        sink.ready = true;
+        List<EventType<?>> events = sink.writes.poll(10, TimeUnit.SECONDS);
+        assertNotNull(events);
+        assertEquals(4, events.size());
+        assertEquals(2, ((Quote) events.get(0)).getBidPrice(), 0);
+        assertEquals(3, ((TimeAndSale) events.get(3)).getPrice(), 0);
+        // new events are accepted again after pending ones are written
+        coalescer.addEvents(Collections.singletonList(quote("MSFT", 2)));
+        assertEquals(1, sink.writes.poll(10, TimeUnit.SECONDS).size());
+        assertEquals(2, sink.dropped);
+    }
+
+    @Test
+    public void testClear() throws InterruptedException {
+        EventCoalescer<EventType<?>> coalescer = new EventCoalescer<>(sink, Runnable::run, 100, 1_000_000, 1_000_000);
+        coalescer.addEvents(Collections.singletonList(quote("IBM", 1)));
+        coalescer.clear();
+        assertEquals(0, coalescer.getPendingCount());
+        assertNull(sink.writes.poll(300, TimeUnit.MILLISECONDS));
+    }
+
+    private static Quote quote(String symbol, double bid) {
+        Quote quote = new Quote(symbol);
+        quote.setBidPrice(bid);
+        return quote;
+    }
+
+    private static TimeAndSale timeAndSale(String symbol, double price) {
+        TimeAndSale timeAndSale = new TimeAndSale(symbol);
+        timeAndSale.setPrice(price);
+        return timeAndSale;
+    }
+
+    private static Order order(String symbol, long index) {
+        Order order = new Order(symbol);
+        order.setIndex(index);
+        return order;
+    }
+
+    private static class TestSink implements EventCoalescer.Sink<EventType<?>> {
+        final BlockingQueue<List<EventType<?>>> writes = new LinkedBlockingQueue<>();
+        volatile boolean ready = true;
+        volatile int conflated;
+        volatile int dropped;
+
+        @Override
+        public boolean isReady() {
+            return ready;
+        }
+
+        @Override
+        public void write(List<EventType<?>> events) {
+            writes.add(new ArrayList<>(events));
+        }
+
+        @Override
+        public int getAverageEventBytes() {
+            return EventCoalescer.DEFAULT_EVENT_BYTES;
+        }
+
+        @Override
+        public void eventsConflated(int count) {
+            conflated += count;
+        }
+
+        @Override
+        public void eventsDropped(int count) {
+            dropped += count;
+        }
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.dxfeed.webservice;
+
+import com.devexperts.io.ByteArrayOutput;
+import com.dxfeed.api.DXEndpoint;
+import com.dxfeed.api.impl.DXEndpointImpl;
+import com.dxfeed.event.EventType;
+import com.dxfeed.event.market.Quote;
+import com.dxfeed.event.market.Trade;
+import com.dxfeed.webservice.rest.Events;
+import com.fasterxml.jackson.core.SerializableString;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class EventSnapshotCacheTest {
+    private static final int MAX_SIZE = 3;
+
+    private DXEndpoint endpoint;
+    private final List<EventSnapshotCache> caches = new ArrayList<>();
+    private EventSnapshotCache.Stats stats;
+    private EventSnapshotCache cache;
+
+    @Before
+    public void setUp() {
+        endpoint = DXEndpoint.newBuilder().withRole(DXEndpoint.Role.LOCAL_HUB).build().executor(Runnable::run);
+        stats = new EventSnapshotCache.Stats(caches, MAX_SIZE);
+        cache = newCache();
+    }
+
+    @After
+    public void tearDown() {
+        for (EventSnapshotCache cache : caches) {
+            cache.close();
+        }
+        assertEquals(0, stats.getSize());
+        endpoint.close();
+    }
+
+    @Test
+    public void testLastEvent() throws InterruptedException {
+        assertNull(cache.getLastEvent(Quote.class, "IBM"));
+        cache.register(Quote.class, Collections.singletonList("IBM"));
+        assertEquals(1, stats.getSize());
+        publish(quote("IBM", 100.5));
+        Quote quote = (Quote) awaitLastEvent(Quote.class, "IBM", 100.5);
+        assertEquals("IBM", quote.getEventSymbol());
+        assertEquals(100.5, quote.getBidPrice(), 0.0);
+        assertEquals(101.5, quote.getAskPrice(), 0.0);
+        assertEquals(100, quote.getBidSizeAsDouble(), 0.0);
+        // each request gets its own instance
+        Quote other = (Quote) cache.getLastEvent(Quote.class, "IBM");
+        assertNotSame(quote, other);
+        assertEquals(quote.toString(), other.toString());
+        // not registered symbols and types are not cached
+        assertNull(cache.getLastEvent(Quote.class, "MSFT"));
+        assertNull(cache.getLastEvent(Trade.class, "IBM"));
+        assertTrue(stats.getSnapshotHits() >= 2);
+        assertTrue(stats.getSnapshotMisses() >= 3);
+
+        publish(quote("IBM", 101.5));
+        assertEquals(101.5, ((Quote) awaitLastEvent(Quote.class, "IBM", 101.5)).getBidPrice(), 0.0);
+        assertEquals(1, stats.getUpdates());
+    }
+
+    @Test
+    public void testFragments() throws IOException, InterruptedException {
+        cache.register(Quote.class, Collections.singletonList("IBM"));
+        publish(quote("IBM", 100.5));
+        Quote quote = (Quote) awaitLastEvent(Quote.class, "IBM", 100.5);
+
+        SerializableString json = cache.getJson(quote);
+        assertNotNull(json);
+        assertEquals(DXFeedJson.MAPPER.writeValueAsString(quote), json.getValue());
+        assertSame(json, cache.getJson(quote));
+        // events with the same state that were received by other subscriptions reuse the same fragment
+        assertSame(json, cache.getJson(quote("IBM", 100.5)));
+        assertNull(cache.getJson(quote("IBM", 100.25)));
+        assertNull(cache.getJson(quote("MSFT", 100.5)));
+        assertEquals(json.asUnquotedUTF8().length, stats.getFragmentBytes());
+        assertEquals(3, stats.getFragmentHits());
+        assertEquals(2, stats.getFragmentMisses());
+
+        // live update with the same state keeps the fragment, other updates replace it
+        publish(quote("IBM", 100.5));
+        assertSame(json, cache.getJson(quote("IBM", 100.5)));
+        publish(quote("IBM", 100.75));
+        awaitLastEvent(Quote.class, "IBM", 100.75);
+        assertNull(cache.getJson(quote("IBM", 100.5)));
+        assertEquals(0, stats.getFragmentBytes());
+    }
+
+    @Test
+    public void testEventsJson() throws IOException, InterruptedException {
+        cache.register(Quote.class, Arrays.asList("IBM", "MSFT"));
+        publish(quote("IBM", 100.5));
+        publish(quote("MSFT", 200.5));
+        List<EventType<?>> events = new ArrayList<>();
+        events.add(awaitLastEvent(Quote.class, "IBM", 100.5));
+        events.add(awaitLastEvent(Quote.class, "MSFT", 200.5));
+        events.add(quote("AAPL", 300.5)); // not cached
+        Events result = new Events();
+        result.setStatus(Events.Status.OK);
+        result.setEvents(events);
+        result.setSymbolMap(new EventSymbolMap());
+        String expected = toJson(result, null);
+        result.setSnapshotCache(cache);
+        assertEquals(expected, toJson(result, null));
+        assertEquals(expected, toJson(result, null));
+        assertEquals(4, stats.getFragmentHits());
+        // indented output does not use cached fragments
+        assertFalse(toJson(result, "  ").equals(expected));
+        assertEquals(4, stats.getFragmentHits());
+    }
+
+    @Test
+    public void testSameData() throws IOException, InterruptedException {
+        cache.register(Quote.class, Collections.singletonList("IBM"));
+        Quote quote = quote("IBM", 100.5);
+        quote.setAskPrice(Double.NaN);
+        publish(quote);
+        awaitLastEvent(Quote.class, "IBM", 100.5);
+        Quote same = quote("IBM", 100.5);
+        same.setAskPrice(Double.NaN);
+        assertNotNull(cache.getJson(same));
+        same.setEventTime(1);
+        assertNull(cache.getJson(same));
+        assertNull(cache.getJson(new Trade("IBM")));
+    }
+
+    @Test
+    public void testExpiration() throws InterruptedException {
+        cache.register(Quote.class, Arrays.asList("IBM", "MSFT"));
+        publish(quote("IBM", 100.5));
+        awaitLastEvent(Quote.class, "IBM", 100.5);
+        stats.expire(System.currentTimeMillis() + EventSnapshotCache.EXPIRATION_PERIOD / 2);
+        assertEquals(2, stats.getSize());
+        stats.expire(System.currentTimeMillis() + EventSnapshotCache.EXPIRATION_PERIOD);
+        assertEquals(0, stats.getSize());
+        assertEquals(2, stats.getExpirations());
+        assertNull(cache.getLastEvent(Quote.class, "IBM"));
+    }
+
+    @Test
+    public void testMaxSize() {
+        // size is limited for all filters together
+        EventSnapshotCache other = newCache();
+        cache.register(Quote.class, Arrays.asList("IBM", "MSFT"));
+        other.register(Quote.class, Arrays.asList("IBM", "MSFT"));
+        assertEquals(MAX_SIZE, stats.getSize());
+        other.register(Trade.class, Collections.singletonList("IBM"));
+        assertEquals(MAX_SIZE, stats.getSize());
+        stats.expire(System.currentTimeMillis() + EventSnapshotCache.EXPIRATION_PERIOD);
+        assertEquals(0, stats.getSize());
+        other.register(Trade.class, Collections.singletonList("IBM"));
+        assertEquals(1, stats.getSize());
+        other.close();
+        assertEquals(0, stats.getSize());
+    }
+
+    private EventSnapshotCache newCache() {
+        EventSnapshotCache cache = new EventSnapshotCache((DXEndpointImpl) endpoint, endpoint.getFeed(), stats);
+        caches.add(cache);
+        return cache;
+    }
+
+    private void publish(EventType<?> event) {
+        endpoint.getPublisher().publishEvents(Collections.singletonList(event));
+    }
+
+    private EventType<?> awaitLastEvent(Class<?> eventType, Object symbol, double bidPrice)
+        throws InterruptedException
+    {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (true) {
+            EventType<?> event = cache.getLastEvent(eventType, symbol);
+            if (event != null && ((Quote) event).getBidPrice() == bidPrice)
+                return event;
+            assertTrue("event is not received", System.currentTimeMillis() < deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private static Quote quote(String symbol, double bidPrice) {
+        Quote quote = new Quote(symbol);
+        quote.setBidPrice(bidPrice);
+        quote.setAskPrice(bidPrice + 1);
+        quote.setBidSizeAsDouble(100);
+        return quote;
+    }
+
+    private static String toJson(Events result, String indent) throws IOException {
+        ByteArrayOutput out = new ByteArrayOutput();
+        DXFeedJson.writeTo(result, out, indent);
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.devexperts.qd.jcstress;
+
+import com.devexperts.qd.DataIntField;
+import com.devexperts.qd.DataObjField;
+import com.devexperts.qd.DataRecord;
+import com.devexperts.qd.DataScheme;
+import com.devexperts.qd.QDCollector;
+import com.devexperts.qd.QDDistributor;
+import com.devexperts.qd.QDFactory;
+import com.devexperts.qd.QDTicker;
+import com.devexperts.qd.kit.CompactIntField;
+import com.devexperts.qd.kit.DefaultRecord;
+import com.devexperts.qd.kit.DefaultScheme;
+import com.devexperts.qd.kit.PentaCodec;
+import com.devexperts.qd.ng.AbstractRecordSink;
+import com.devexperts.qd.ng.RecordBuffer;
+import com.devexperts.qd.ng.RecordCursor;
+import com.devexperts.qd.stats.QDStats;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.II_Result;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * These tests check that readers of a ticker in {@link QDCollector.Builder#withSingleWriter single-writer} mode
+ * never observe a partially updated record while it is being concurrently updated by the distributing thread.
+ *
+ * <p>All tests share one ticker, because creating a collector per state is too expensive. Each state writes
+ * its own unique value into all fields of the record, so the reader either sees some consistent value
+ * (the previous one or the new one) or a torn record with different values in its fields.
+ *
+ * <pre>
+ *   java -jar dxlib-jcstress.jar -v -t SingleWriterTicker
+ * </pre>
+ */
+public class SingleWriterTickerJCStressTest {
+
+    private static final int FIELDS = 6;
+    private static final String SYMBOL = "SYMBOL_SYMBOL"; // not encodeable by cipher
+
+    private static final DataRecord RECORD = new DefaultRecord(0, "Test", false, createIntFields(), new DataObjField[0]);
+    private static final DataScheme SCHEME = new DefaultScheme(PentaCodec.INSTANCE, RECORD);
+
+    private static final QDTicker TICKER = QDFactory.getDefaultFactory().tickerBuilder()
+        .withScheme(SCHEME)
+        .withStats(QDStats.VOID)
+        .withStoreEverything(true)
+        .withSingleWriter(true)
+        .build();
+
+    private static final QDDistributor DISTRIBUTOR = TICKER.distributorBuilder().build();
+
+    private static final AtomicInteger VALUES = new AtomicInteger();
+
+    private static DataIntField[] createIntFields() {
+        DataIntField[] fields = new DataIntField[FIELDS];
+        for (int i = 0; i < FIELDS; i++) {
+            fields[i] = new CompactIntField(i, "Test.Int" + i);
+        }
+        return fields;
+    }
+
+    // Returns 1 if all fields have the same value and 0 otherwise
+    private static int consistent(RecordCursor cursor) {
+        int value = cursor.getInt(0);
+        for (int i = 1; i < FIELDS; i++) {
+            if (cursor.getInt(i) != value)
+                return 0;
+        }
+        return 1;
+    }
+
+    @State
+    public static class MyState {
+        final RecordBuffer buf = new RecordBuffer();
+        final RecordCursor.Owner owner = RecordCursor.allocateOwner();
+
+        public MyState() {
+            RecordCursor cursor = buf.add(RECORD, 0, SYMBOL);
+            int value = VALUES.incrementAndGet();
+            for (int i = 0; i < FIELDS; i++) {
+                cursor.setInt(i, value);
+            }
+        }
+
+        void write() {
+            buf.rewind();
+            DISTRIBUTOR.process(buf);
+        }
+    }
+
+    @JCStressTest
+    @Description("Consistent getData")
+    @Outcome(id = "0, 0", expect = Expect.ACCEPTABLE, desc = "Not written yet")
+    @Outcome(id = "1, 1", expect = Expect.ACCEPTABLE, desc = "Consistent record")
+    @Outcome(id = "1, 0", expect = Expect.FORBIDDEN, desc = "Torn record")
+    @Outcome(expect = Expect.FORBIDDEN)
+    public static class ConsistentGetData {
+        @Actor
+        public void writer(MyState s, II_Result r) {
+            s.write();
+        }
+
+        @Actor
+        public void reader(MyState s, II_Result r) {
+            if (TICKER.getDataIfAvailable(s.owner, RECORD, 0, SYMBOL)) {
+                r.r1 = 1;
+                r.r2 = consistent(s.owner.cursor());
+            }
+        }
+    }
+
+    @JCStressTest
+    @Description("Consistent examineData")
+    @Outcome(id = "0, 0", expect = Expect.ACCEPTABLE, desc = "Not written yet")
+    @Outcome(id = "1, 1", expect = Expect.ACCEPTABLE, desc = "Consistent record")
+    @Outcome(id = "1, 0", expect = Expect.FORBIDDEN, desc = "Torn record")
+    @Outcome(expect = Expect.FORBIDDEN)
+    public static class ConsistentExamineData {
+        @Actor
+        public void writer(MyState s, II_Result r) {
+            s.write();
+        }
+
+        @Actor
+        public void reader(MyState s, II_Result r) {
+            TICKER.examineData(new AbstractRecordSink() {
+                @Override
+                public void append(RecordCursor cursor) {
+                    r.r1 = 1;
+                    r.r2 = consistent(cursor);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,451 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.devexperts.io;
+
+import com.devexperts.services.Service;
+import com.devexperts.services.Services;
+
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+
+/**
+ * Strategy that writes and reads objects of a specific type in the binary form of
+ * {@link Marshaller#binaryForClasses(Class[]) binary marshallers}.
+ * Codecs are extension points that are found with {@link Services#createServices(Class, ClassLoader)}.
+ * The first codec in {@link com.devexperts.services.ServiceProvider#order() order} whose
+ * {@link #getType() type} is assignable from the class of an object is used to write it.
+ *
+ * <p>Objects without a codec are written by binary marshallers as follows:
+ * <ul>
+ * <li>primitive wrappers and strings are written with compact encodings;
+ * <li>primitive and string arrays are written as described in {@link IOUtil};
+ * <li>other arrays are written element by element;
+ * <li>lists, sets and maps from {@code java.util} package are written element by element and are read
+ *     as {@link ArrayList}, {@link LinkedHashSet} and {@link LinkedHashMap};
+ * <li>enums are written by name;
+ * <li>all other objects are written with Java Object Serialization.
+ * </ul>
+ * Classes of arrays and enums are checked with {@link SerialClassContext} on reading like classes of serialized
+ * objects, and lengths of arrays and collections are validated against the length of marshalled object.
+ *
+ * @param <T> the type of objects.
+ */
+@Service
+public abstract class BinaryCodec<T> {
+    /**
+     * Returns the type of objects that are written and read by this codec.
+     * The name of the type identifies the codec in binary form, so it shall be
+     * the same on writing and reading sides.
+     *
+     * @return the type of objects.
+     */
+    public abstract Class<T> getType();
+
+    /**
+     * Writes the object into the specified output.
+     *
+     * @param out the output.
+     * @param object the object, never null.
+     * @throws IOException if object cannot be written.
+     */
+    public abstract void writeObject(Output out, T object) throws IOException;
+
+    /**
+     * Reads the object from the specified input.
+     *
+     * @param in the input.
+     * @return the object.
+     * @throws IOException if object cannot be read.
+     */
+    public abstract T readObject(Input in) throws IOException;
+
+    // ========== implementation of tagged values ==========
+
+    private static final int NULL = 0;
+    private static final int FALSE = 1;
+    private static final int TRUE = 2;
+    private static final int BYTE = 3;
+    private static final int SHORT = 4;
+    private static final int CHAR = 5;
+    private static final int INT = 6;
+    private static final int LONG = 7;
+    private static final int FLOAT = 8;
+    private static final int DOUBLE = 9;
+    private static final int STRING = 10;
+    private static final int COMPACT_ARRAY = 11;
+    private static final int OBJECT_ARRAY = 12;
+    private static final int LIST = 13;
+    private static final int SET = 14;
+    private static final int MAP = 15;
+    private static final int ENUM = 16;
+    private static final int CODEC = 17;
+    private static final int SERIALIZED = 18;
+
+    private static final ClassValue<BinaryCodec<?>> CODECS_BY_CLASS = new ClassValue<BinaryCodec<?>>() {
+        @Override
+        protected BinaryCodec<?> computeValue(Class<?> clazz) {
+            for (BinaryCodec<?> codec : Codecs.LIST) {
+                if (codec.getType().isAssignableFrom(clazz))
+                    return codec;
+            }
+            return null;
+        }
+    };
+
+    private static class Codecs {
+        static final List<BinaryCodec<?>> LIST = new ArrayList<>();
+        static final Map<String, BinaryCodec<?>> BY_NAME = new HashMap<>();
+
+        static {
+            for (BinaryCodec<?> codec : Services.createServices(BinaryCodec.class, null)) {
+                LIST.add(codec);
+                BY_NAME.putIfAbsent(codec.getType().getName(), codec);
+            }
+        }
+    }
+
+    /**
+     * Output for binary form of objects. An instance of this class is used for a single marshalled object,
+     * so names that are written via {@link #writeName(String) writeName} are written only once.
+     */
+    public static final class Output {
+        private final BufferedOutput out;
+        private final Map<String, Integer> names = new HashMap<>();
+
+        Output(BufferedOutput out) {
+            this.out = out;
+        }
+
+        /**
+         * Returns the underlying output.
+         * @return the underlying output.
+         */
+        public BufferedOutput getOutput() {
+            return out;
+        }
+
+        /**
+         * Writes a name, so that repeated names are written as indices of previously written names.
+         *
+         * @param name the name.
+         * @throws IOException if an I/O error occurs.
+         */
+        public void writeName(String name) throws IOException {
+            Integer index = names.get(name);
+            if (index != null) {
+                out.writeCompactInt(index + 1);
+                return;
+            }
+            names.put(name, names.size());
+            out.writeCompactInt(0);
+            out.writeUTFString(name);
+        }
+
+        /**
+         * Writes an arbitrary object with its type tag.
+         *
+         * @param value the object, may be null.
+         * @throws IOException if an I/O error occurs or object cannot be written.
+         */
+        public void writeValue(Object value) throws IOException {
+            writeValue(value, Object.class);
+        }
+
+        // declared type is used to check that collection can be read back as a declared type
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        void writeValue(Object value, Class<?> declaredType) throws IOException {
+            if (value == null) {
+                out.writeByte(NULL);
+                return;
+            }
+            Class<?> clazz = value.getClass();
+            BinaryCodec codec = CODECS_BY_CLASS.get(clazz);
+            if (codec != null) {
+                out.writeByte(CODEC);
+                writeName(codec.getType().getName());
+                codec.writeObject(this, value);
+            } else if (clazz == String.class) {
+                out.writeByte(STRING);
+                out.writeUTFString((String) value);
+            } else if (clazz == Integer.class) {
+                out.writeByte(INT);
+                out.writeCompactInt((Integer) value);
+            } else if (clazz == Long.class) {
+                out.writeByte(LONG);
+                out.writeCompactLong((Long) value);
+            } else if (clazz == Double.class) {
+                out.writeByte(DOUBLE);
+                out.writeDouble((Double) value);
+            } else if (clazz == Boolean.class) {
+                out.writeByte((Boolean) value ? TRUE : FALSE);
+            } else if (clazz == Byte.class) {
+                out.writeByte(BYTE);
+                out.writeByte((Byte) value);
+            } else if (clazz == Short.class) {
+                out.writeByte(SHORT);
+                out.writeShort((Short) value);
+            } else if (clazz == Character.class) {
+                out.writeByte(CHAR);
+                out.writeChar((Character) value);
+            } else if (clazz == Float.class) {
+                out.writeByte(FLOAT);
+                out.writeFloat((Float) value);
+            } else if (clazz.isArray() && CompactSerializer.isCompact(clazz)) {
+                out.writeByte(COMPACT_ARRAY);
+                writeName(clazz.getName());
+                CompactSerializer.writeCompact(out, clazz, value);
+            } else if (clazz.isArray() && !clazz.getComponentType().isPrimitive()) {
+                Object[] array = (Object[]) value;
+                out.writeByte(OBJECT_ARRAY);
+                writeName(clazz.getComponentType().getName());
+                out.writeCompactInt(array.length);
+                for (Object element : array) {
+                    writeValue(element);
+                }
+            } else if (value instanceof List && isStandard(clazz) && declaredType.isAssignableFrom(ArrayList.class)) {
+                out.writeByte(LIST);
+                writeElements((Collection<?>) value);
+            } else if (value instanceof Set && !(value instanceof SortedSet) && isStandard(clazz) &&
+                declaredType.isAssignableFrom(LinkedHashSet.class))
+            {
+                out.writeByte(SET);
+                writeElements((Collection<?>) value);
+            } else if (value instanceof Map && !(value instanceof SortedMap) && isStandard(clazz) &&
+                declaredType.isAssignableFrom(LinkedHashMap.class))
+            {
+                Map<?, ?> map = (Map<?, ?>) value;
+                out.writeByte(MAP);
+                out.writeCompactInt(map.size());
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    writeValue(entry.getKey());
+                    writeValue(entry.getValue());
+                }
+            } else if (value instanceof Enum) {
+                out.writeByte(ENUM);
+                writeName(((Enum<?>) value).getDeclaringClass().getName());
+                writeName(((Enum<?>) value).name());
+            } else {
+                out.writeByte(SERIALIZED);
+                IOUtil.writeByteArray(out, ObjectSerializer.toBytes(value));
+            }
+        }
+
+        private void writeElements(Collection<?> collection) throws IOException {
+            out.writeCompactInt(collection.size());
+            for (Object element : collection) {
+                writeValue(element);
+            }
+        }
+
+        private static boolean isStandard(Class<?> clazz) {
+            return clazz.getName().startsWith("java.util.");
+        }
+    }
+
+    /**
+     * Input for binary form of objects. An instance of this class is used for a single marshalled object.
+     */
+    public static final class Input {
+        private final BufferedInput in;
+        private final SerialClassContext serialContext;
+        private final long endPosition; // total position of the end of marshalled object
+        private final List<String> names = new ArrayList<>();
+
+        Input(BufferedInput in, SerialClassContext serialContext, long endPosition) {
+            this.in = in;
+            this.serialContext = serialContext;
+            this.endPosition = endPosition;
+        }
+
+        /**
+         * Returns the underlying input.
+         * @return the underlying input.
+         */
+        public BufferedInput getInput() {
+            return in;
+        }
+
+        /**
+         * Returns serial class context that is used to resolve classes.
+         * @return serial class context.
+         */
+        public SerialClassContext getSerialClassContext() {
+            return serialContext;
+        }
+
+        /**
+         * Reads a name that was written with {@link Output#writeName(String) Output.writeName}.
+         *
+         * @return the name.
+         * @throws IOException if an I/O error occurs.
+         */
+        public String readName() throws IOException {
+            int index = in.readCompactInt();
+            if (index == 0) {
+                String name = in.readUTFString();
+                if (name == null)
+                    throw new IOException("Null name");
+                names.add(name);
+                return name;
+            }
+            if (index < 0 || index > names.size())
+                throw new IOException("Invalid name index " + index);
+            return names.get(index - 1);
+        }
+
+        /**
+         * Reads an object that was written with {@link Output#writeValue(Object) Output.writeValue}.
+         *
+         * @return the object.
+         * @throws IOException if an I/O error occurs or object cannot be read.
+         */
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        public Object readValue() throws IOException {
+            int tag = in.readUnsignedByte();
+            switch (tag) {
+            case NULL:
+                return null;
+            case FALSE:
+                return Boolean.FALSE;
+            case TRUE:
+                return Boolean.TRUE;
+            case BYTE:
+                return in.readByte();
+            case SHORT:
+                return in.readShort();
+            case CHAR:
+                return in.readChar();
+            case INT:
+                return in.readCompactInt();
+            case LONG:
+                return in.readCompactLong();
+            case FLOAT:
+                return in.readFloat();
+            case DOUBLE:
+                return in.readDouble();
+            case STRING:
+                return in.readUTFString();
+            case COMPACT_ARRAY:
+            {
+                Class<?> clazz = resolveClass(readName());
+                if (!clazz.isArray() || !CompactSerializer.isCompact(clazz))
+                    throw new InvalidClassException(clazz.getName(), "Not a compact array");
+                return CompactSerializer.readCompact(in, clazz, endPosition);
+            }
+            case OBJECT_ARRAY: {
+                Class<?> componentType = resolveClass(readName());
+                if (componentType.isPrimitive())
+                    throw new InvalidClassException(componentType.getName(), "Not an object type");
+                Object[] array = (Object[]) Array.newInstance(componentType, readLength(1));
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = checkType(readValue(), componentType);
+                }
+                return array;
+            }
+            case LIST:
+                return readElements(new ArrayList<>());
+            case SET:
+                return readElements(new LinkedHashSet<>());
+            case MAP: {
+                int size = readLength(2);
+                Map<Object, Object> map = new LinkedHashMap<>();
+                for (int i = 0; i < size; i++) {
+                    Object key = readValue();
+                    map.put(key, readValue());
+                }
+                return map;
+            }
+            case ENUM: {
+                Class<?> enumClass = resolveClass(readName());
+                if (!enumClass.isEnum())
+                    throw new InvalidClassException(enumClass.getName(), "Not an enum");
+                return Enum.valueOf((Class) enumClass, readName());
+            }
+            case CODEC: {
+                String type = readName();
+                BinaryCodec<?> codec = Codecs.BY_NAME.get(type);
+                if (codec == null)
+                    throw new InvalidClassException(type, "No binary codec");
+                return codec.readObject(this);
+            }
+            case SERIALIZED:
+                return IOUtil.bytesToObject(IOUtil.readByteArray(in), serialContext);
+            default:
+                throw new IOException("Unknown tag " + tag);
+            }
+        }
+
+        Object readValue(Class<?> declaredType) throws IOException {
+            return checkType(readValue(), declaredType);
+        }
+
+        private <C extends Collection<Object>> C readElements(C collection) throws IOException {
+            int size = readLength(1);
+            for (int i = 0; i < size; i++) {
+                collection.add(readValue());
+            }
+            return collection;
+        }
+
+        // each element takes at least elementBytes, so length is bounded by the rest of marshalled object
+        private int readLength(int elementBytes) throws IOException {
+            int length = in.readCompactInt();
+            if (length < 0 || length > (endPosition - in.totalPosition()) / elementBytes)
+                throw new IOException("Illegal length " + length);
+            return length;
+        }
+
+        private Class<?> resolveClass(String name) throws IOException {
+            if (!ClassUtil.isPrimitiveType(name)) {
+                try {
+                    serialContext.check(getElementClassName(name));
+                } catch (ClassNotFoundException e) {
+                    throw new InvalidClassException(e.getMessage());
+                }
+            }
+            try {
+                return ClassUtil.getTypeClass(name, ClassUtil.resolveContextClassLoader(serialContext.getClassLoader()));
+            } catch (ClassNotFoundException e) {
+                throw new InvalidClassException("Class not found: " + e.getMessage());
+            }
+        }
+
+        // converts array class names like "[[Lcom.acme.Foo;" to "com.acme.Foo" to check the class of elements,
+        // names of primitive arrays like "[I" are returned as is and are accepted by serial class context
+        private static String getElementClassName(String name) {
+            int dims = 0;
+            while (dims < name.length() && name.charAt(dims) == '[') {
+                dims++;
+            }
+            if (dims > 0 && name.length() > dims + 2 && name.charAt(dims) == 'L' && name.endsWith(";"))
+                return name.substring(dims + 1, name.length() - 1);
+            return name;
+        }
+
+        private static Object checkType(Object value, Class<?> type) throws IOException {
+            if (value != null && !type.isInstance(value))
+                throw new InvalidClassException("Invalid type " + value.getClass().getName() + ", expected " + type.getName());
+            return value;
+        }
+    }
+}
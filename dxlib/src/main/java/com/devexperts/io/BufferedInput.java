@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2025 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -695,6 +695,46 @@ public abstract class BufferedInput extends InputStream implements ObjectInput {
         }
     }
 
+    /**
+     * Returns the byte array that currently buffers bytes of this input.
+     * Bytes from {@link #directPosition() directPosition} (inclusive) to {@link #directLimit() directLimit}
+     * (exclusive) are the next bytes to be read from this input.
+     * This method is intended for parsers that decode data directly from the buffer and then
+     * {@link #directSeek(int) advance} the position to skip decoded bytes. The result is valid only until
+     * the next invocation of any other method of this input.
+     */
+    public final byte[] directBuffer() {
+        return buffer;
+    }
+
+    /**
+     * Returns position of the next byte to be read in {@link #directBuffer() directBuffer}.
+     */
+    public final int directPosition() {
+        return position;
+    }
+
+    /**
+     * Returns the limit of bytes that can be read from {@link #directBuffer() directBuffer} without refilling it.
+     * Note, that more bytes may be {@link #available() available} from this input beyond this limit.
+     */
+    public final int directLimit() {
+        return limit;
+    }
+
+    /**
+     * Sets position in {@link #directBuffer() directBuffer} after bytes were decoded directly from it.
+     *
+     * @param directPosition new position that is not less than {@link #directPosition() directPosition} and not
+     *        greater than {@link #directLimit() directLimit}.
+     * @throws IllegalArgumentException if new position is out of range.
+     */
+    public final void directSeek(int directPosition) {
+        if (directPosition < position || directPosition > limit)
+            throw new IllegalArgumentException();
+        position = directPosition;
+    }
+
     /**
      * All BufferedInput implementations support {@link #mark() mark} and {@link #reset() reset},
      * so this method always returns true.
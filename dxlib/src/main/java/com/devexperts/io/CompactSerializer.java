@@ -129,7 +129,22 @@ class CompactSerializer {
      * @throws IOException if an I/O error occurs
      */
     static Object readCompact(BufferedInput in, Class<?> clazz) throws IOException {
-        return readCompact(in, clazz, getCompactType(clazz));
+        return readCompact(in, clazz, getCompactType(clazz), Long.MAX_VALUE);
+    }
+
+    /**
+     * Reads a value from the input in a compact format, so that lengths of arrays are bounded by
+     * the number of bytes before the specified end position.
+     *
+     * @param in the source to read from
+     * @param clazz the exact {@link Class} of a value
+     * @param endPosition the {@link BufferedInput#totalPosition() total position} of the end of data
+     * @return the value read
+     * @throws IllegalArgumentException if clazz is not a compactly serializable class
+     * @throws IOException if an I/O error occurs or array length exceeds the number of remaining bytes
+     */
+    static Object readCompact(BufferedInput in, Class<?> clazz, long endPosition) throws IOException {
+        return readCompact(in, clazz, getCompactType(clazz), endPosition);
     }
 
     // ========== Implementation Details ==========
@@ -163,10 +178,13 @@ class CompactSerializer {
         }
     }
 
-    private static Object readCompact(BufferedInput in, Class<?> clazz, CompactType type) throws IOException {
+    private static Object readCompact(BufferedInput in, Class<?> clazz, CompactType type, long endPosition)
+        throws IOException
+    {
         if (clazz.isArray()) {
             long length = in.readCompactLong();
-            if (length < -1 || length > Integer.MAX_VALUE)
+            // each element takes at least one byte
+            if (length < -1 || length > Integer.MAX_VALUE || length > endPosition - in.totalPosition())
                 throw new IOException("Illegal length.");
             if (length == -1)
                 return null;
@@ -174,7 +192,7 @@ class CompactSerializer {
             if (componentType.isArray()) {
                 Object[] array = (Object[]) Array.newInstance(componentType, (int) length);
                 for (int i = 0; i < length; i++)
-                    array[i] = readCompact(in, componentType, type);
+                    array[i] = readCompact(in, componentType, type, endPosition);
                 return array;
             } else {
                 return readPrimitiveArray(in, type, (int) length);
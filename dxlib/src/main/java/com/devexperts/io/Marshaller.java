@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2021 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -31,6 +31,10 @@ import java.io.ObjectOutputStream;
  * <li>Typed marshaller that uses compact serialization of primitive data types and arrays is
  * available via {@link #forClasses(Class[])} and {@link #forTypes(String)} methods.
  * The corresponding byte array always starts with 0xE8 byte or with ZLIB compression header.
+ * <li>Binary typed marshaller that also uses compact binary form of strings, collections and other objects
+ * supported by {@link BinaryCodec} instead of Java Object Serialization is available via
+ * {@link #binaryForClasses(Class[])} and {@link #binaryForTypes(String)} methods.
+ * The corresponding byte array always starts with 0xE9 byte.
  * </ul>
  *
  * @param <T> the marshalled object's type.
@@ -151,6 +155,59 @@ public abstract class Marshaller<T> {
         return new TypedMarshallerImpl<>(false, types);
     }
 
+    /**
+     * Returns binary typed marshaller for the given class.
+     * If the class corresponds to primitive type
+     * or array, then the object is converted to byte array in the compact form described in {@link IOUtil}.
+     * Otherwise, the object is written in the binary form that is described in {@link BinaryCodec}.
+     * Binary typed marshallers are not compatible on a byte-array level with {@link #forClass(Class) typed}
+     * marshallers for the same types. The same exact marshaller shall be used for writing and for reading.
+     *
+     * @param clazz the class.
+     * @return binary typed marshaller.
+     */
+    public static <T> Typed<T> binaryForClass(Class<? extends T> clazz) {
+        return new TypedMarshallerImpl<>(true, true, clazz);
+    }
+
+    /**
+     * Returns binary typed marshaller for the given array of classes.
+     * If the class corresponds to primitive type
+     * or array, then the object is converted to byte array in the compact form described in {@link IOUtil}.
+     * Otherwise, the object is written in the binary form that is described in {@link BinaryCodec}.
+     * Binary typed marshallers are not compatible on a byte-array level with {@link #forClasses(Class[]) typed}
+     * marshallers for the same types. The same exact marshaller shall be used for writing and for reading.
+     *
+     * @param classes the array of classes.
+     * @return binary typed marshaller.
+     */
+    @SafeVarargs
+    public static <T> Typed<T[]> binaryForClasses(Class<? extends T>... classes) {
+        return new TypedMarshallerImpl<>(false, true, classes);
+    }
+
+    /**
+     * Returns binary typed marshaller for the given type name.
+     * See {@link #binaryForClass(Class)} for details.
+     *
+     * @param type the type name.
+     * @return binary typed marshaller.
+     */
+    public static Typed<?> binaryForType(String type) {
+        return new TypedMarshallerImpl<>(true, true, type);
+    }
+
+    /**
+     * Returns binary typed marshaller for the given comma-separated list of type names.
+     * See {@link #binaryForClasses(Class[])} for details.
+     *
+     * @param types the comma-separated list of type names.
+     * @return binary typed marshaller.
+     */
+    public static Typed<Object[]> binaryForTypes(String types) {
+        return new TypedMarshallerImpl<>(false, true, types);
+    }
+
     /**
      * Writes the length of an object in serialized form to the output according to this marshalling strategy.
      * This implementation uses {@link BufferedOutput#writeCompactInt(int) writeCompactInt}.
@@ -343,8 +400,8 @@ public abstract class Marshaller<T> {
 
         /**
          * Indicates whether some other object is "equal to" this one.
-         * Typed marshallers are equal when their {@link #getTypes() types} are the same and
-         * they were both produced by
+         * Typed marshallers are equal when their {@link #getTypes() types} are the same,
+         * they are both binary or both not binary and they were both produced by
          * {@link Marshaller#forTypes(String) Marshaller.forTypes} and
          * {@link Marshaller#forClasses(Class[]) Marshaller.forClasses} or by
          * {@link Marshaller#forType(String) Marshaller.forType} and
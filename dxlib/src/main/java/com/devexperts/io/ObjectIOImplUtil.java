@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2021 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -55,4 +55,16 @@ class ObjectIOImplUtil {
             hash = hash * 239 + type.getName().hashCode();
         return 0xE8000000 | hash & 0x00FFFFFF;
     }
+
+    /**
+     * Computes signature for specified declared types to be used as magic in binary streams.
+     * It is the same as {@link #getDeclaredTypesSignature(Class[])}, but has fixed high byte value
+     * <code>0xE9</code>, so binary streams are never confused with serial streams.
+     *
+     * @param types the declared types to compute signature
+     * @return the signature for specified declared types
+     */
+    static int getBinaryTypesSignature(Class<?>[] types) {
+        return getDeclaredTypesSignature(types) & 0x00FFFFFF | 0xE9000000;
+    }
 }
@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2021 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -20,6 +20,8 @@ import java.util.ArrayList;
  * A typed implementation of {@link Marshaller}.
  * The types can be stored in the following ways as an array of classes or a comma-separated list of type names.
  * It resolves class names into classes only when needed, but not earlier.
+ * Binary typed marshaller writes non-primitive objects with {@link BinaryCodec} tagged values instead of
+ * Java Object Serialization.
  * <b>This class is thread-safe.</b>
  */
 final class TypedMarshallerImpl<T> extends Marshaller.Typed<T> {
@@ -27,17 +29,23 @@ final class TypedMarshallerImpl<T> extends Marshaller.Typed<T> {
     // ================== private instance fields ==================
 
     private final boolean single; // true to marshal a single object, false to marshall an array of objects
+    private final boolean binary; // true to use binary form instead of serialization for non-primitive objects
     private final String types;
     private volatile Class<?>[] classes;
 
     // ================== constructor & methods ==================
 
     TypedMarshallerImpl(boolean single, Class<?>... classes) {
+        this(single, false, classes);
+    }
+
+    TypedMarshallerImpl(boolean single, boolean binary, Class<?>... classes) {
         if (classes == null)
             throw new NullPointerException();
         if (single && classes.length != 1)
             throw new IllegalArgumentException();
         this.single = single;
+        this.binary = binary;
         StringBuilder sb = new StringBuilder();
         for (Class<?> clazz : classes) {
             if (sb.length() > 0)
@@ -49,9 +57,14 @@ final class TypedMarshallerImpl<T> extends Marshaller.Typed<T> {
     }
 
     TypedMarshallerImpl(boolean single, String types) {
+        this(single, false, types);
+    }
+
+    TypedMarshallerImpl(boolean single, boolean binary, String types) {
         if (types == null)
             throw new NullPointerException();
         this.single = single;
+        this.binary = binary;
         this.types = types;
     }
 
@@ -133,7 +146,10 @@ final class TypedMarshallerImpl<T> extends Marshaller.Typed<T> {
     public void writeObjectTo(BufferedOutput out, T object) throws IOException {
         // wrap to an array of objects when single or cast to use IOUtil methods that are array-based
         Object[] objects = single ? new Object[]{object} : (Object[]) object;
-        ObjectSerializer.writeBodiesWithTypes(out, getClassesWithImplicitLoader(objects), objects);
+        if (binary)
+            writeBinaryBodies(out, getClassesWithImplicitLoader(objects), objects);
+        else
+            ObjectSerializer.writeBodiesWithTypes(out, getClassesWithImplicitLoader(objects), objects);
     }
 
     @SuppressWarnings("unchecked")
@@ -141,11 +157,67 @@ final class TypedMarshallerImpl<T> extends Marshaller.Typed<T> {
     public T readObjectFrom(BufferedInput in, int length, SerialClassContext serialContext) throws IOException {
         if (serialContext == null)
             throw new NullPointerException();
-        Object[] objects = ObjectDeserializer.readBodiesWithTypes(in, length, getClasses(serialContext.getClassLoader()), serialContext);
+        Class<?>[] classes = getClasses(serialContext.getClassLoader());
+        Object[] objects = binary ? readBinaryBodies(in, length, classes, serialContext) :
+            ObjectDeserializer.readBodiesWithTypes(in, length, classes, serialContext);
         // unwrap from an array of object when single
         return single ? (T) objects[0] : (T) objects;
     }
 
+    private static void writeBinaryBodies(BufferedOutput out, Class<?>[] types, Object[] objects) throws IOException {
+        if (types.length != objects.length)
+            throw new IOException("Number of objects does not match number of types");
+        out.writeInt(ObjectIOImplUtil.getBinaryTypesSignature(types));
+        BinaryCodec.Output binaryOut = null;
+        for (int i = 0; i < types.length; i++) {
+            Object object = objects[i];
+            if (CompactSerializer.isCompact(types[i])) {
+                CompactSerializer.writeCompact(out, types[i], object);
+                continue;
+            }
+            if (object instanceof Marshalled) {
+                try {
+                    object = ((Marshalled<?>) object).getObject();
+                } catch (MarshallingException e) {
+                    throw e.getCause();
+                }
+            }
+            if (object != null && !types[i].isInstance(object))
+                throw new IOException("Invalid type " + object.getClass().getName() + ", expected " + types[i]);
+            if (binaryOut == null)
+                binaryOut = new BinaryCodec.Output(out);
+            binaryOut.writeValue(object, types[i]);
+        }
+    }
+
+    private static Object[] readBinaryBodies(BufferedInput in, int length, Class<?>[] types,
+        SerialClassContext serialContext) throws IOException
+    {
+        long start = in.totalPosition();
+        long end = start + length;
+        int expectedSignature = ObjectIOImplUtil.getBinaryTypesSignature(types);
+        int actualSignature = in.readInt();
+        if (actualSignature != expectedSignature)
+            throw new IOException(actualSignature >>> 24 != expectedSignature >>> 24 ?
+                "Not a binary declared types stream." :
+                "Wrong binary declared types signature, expected: " + Integer.toHexString(expectedSignature) +
+                    ", got " + Integer.toHexString(actualSignature));
+        Object[] objects = new Object[types.length];
+        BinaryCodec.Input binaryIn = null;
+        for (int i = 0; i < types.length; i++) {
+            if (CompactSerializer.isCompact(types[i])) {
+                objects[i] = CompactSerializer.readCompact(in, types[i], end);
+                continue;
+            }
+            if (binaryIn == null)
+                binaryIn = new BinaryCodec.Input(in, serialContext, end);
+            objects[i] = binaryIn.readValue(types[i]);
+        }
+        if (in.totalPosition() - start != length)
+            throw new IOException("Binary declared types stream length mismatch");
+        return objects;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o)
@@ -153,18 +225,19 @@ final class TypedMarshallerImpl<T> extends Marshaller.Typed<T> {
         if (!(o instanceof TypedMarshallerImpl))
             return false;
         TypedMarshallerImpl<?> that = (TypedMarshallerImpl<?>) o;
-        return single == that.single && types.equals(that.types);
+        return single == that.single && binary == that.binary && types.equals(that.types);
     }
 
     @Override
     public int hashCode() {
-        return (single ? 1 : 0) + 2 * types.hashCode();
+        return (single ? 1 : 0) + (binary ? 2 : 0) + 4 * types.hashCode();
     }
 
     @Override
     public String toString() {
         return "TypedMarshaller{" +
             "single=" + single +
+            ", binary=" + binary +
             ", types='" + types + '\'' +
             '}';
     }
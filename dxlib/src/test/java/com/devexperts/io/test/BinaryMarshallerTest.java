@@ -0,0 +1,189 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.devexperts.io.test;
+
+import com.devexperts.io.Marshalled;
+import com.devexperts.io.Marshaller;
+import com.devexperts.io.MarshallingException;
+import com.devexperts.io.SerialClassContext;
+import org.junit.Test;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class BinaryMarshallerTest {
+
+    @Test
+    public void testPrimitivesAndStrings() {
+        checkReadWrite(new Object[] {42, "abc", 1.5, true, 'x', null},
+            int.class, String.class, double.class, boolean.class, char.class, String.class);
+        checkReadWrite(new Object[] {42, 123456789012L, 1.5, 2.5f, (short) 7, (byte) -1, true, 'q', "s"},
+            Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class,
+            Object.class, Object.class);
+    }
+
+    @Test
+    public void testArraysAndCollections() {
+        Map<String, Object> map = new HashMap<>();
+        map.put("a", 1);
+        map.put("b", Arrays.asList("x", null, 2L));
+        checkReadWrite(new Object[] {
+            new int[] {1, 2, 3},
+            new String[] {"a", null},
+            new Object[] {1, "two", new double[] {3.0}},
+            Arrays.asList(1, 2, 3),
+            new HashSet<>(Arrays.asList("a", "b")),
+            map,
+            Collections.emptyList(),
+        }, int[].class, String[].class, Object[].class, List.class, Object.class, Map.class, Object.class);
+    }
+
+    @Test
+    public void testEnumsAndSerializable() {
+        TreeMap<String, Integer> sorted = new TreeMap<>(Collections.reverseOrder());
+        sorted.put("a", 1);
+        sorted.put("b", 2);
+        Object[] result = checkReadWrite(new Object[] {
+            TimeUnit.SECONDS, new BigDecimal("1.25"), new Dto("x", 1), sorted, new LinkedList<>(Arrays.asList(1, 2)),
+        }, TimeUnit.class, Number.class, Serializable.class, Map.class, LinkedList.class);
+        assertEquals(TreeMap.class, result[3].getClass()); // sorted map is serialized with comparator
+        assertEquals(LinkedList.class, result[4].getClass()); // declared type is preserved
+    }
+
+    @Test
+    public void testCompatibility() {
+        Marshaller.Typed<Object[]> binary = Marshaller.binaryForClasses(String.class, List.class);
+        Marshaller.Typed<Object[]> typed = Marshaller.forClasses(String.class, List.class);
+        assertEquals(binary, Marshaller.binaryForTypes("java.lang.String,java.util.List"));
+        assertNotEquals(binary, typed);
+        assertEquals(typed.getTypes(), binary.getTypes());
+
+        byte[] bytes = Marshalled.forObject(new Object[] {"a", Arrays.asList(1, 2)}, binary).getBytes();
+        assertEquals(0xE9, bytes[0] & 0xFF);
+        try {
+            Marshalled.forBytes(bytes, typed).getObject();
+            fail();
+        } catch (MarshallingException e) {
+            assertTrue(e.getMessage().contains("Not a declared types stream"));
+        }
+    }
+
+    @Test
+    public void testSerialClassContext() {
+        SerialClassContext context = SerialClassContext.createSerialClassContext(null, null,
+            Collections.singletonList("java.util.concurrent.TimeUnit"));
+        checkRejected(TimeUnit.SECONDS, context);
+        checkRejected(new TimeUnit[] {TimeUnit.SECONDS}, context);
+        checkRejected(new TimeUnit[][] {{TimeUnit.SECONDS}}, context);
+        Marshaller.Typed<Object[]> marshaller = Marshaller.binaryForClasses(Object.class);
+        byte[] bytes = Marshalled.forObject(new Object[] {new String[] {"a"}}, marshaller).getBytes();
+        Object[] result = Marshalled.forBytes(bytes, marshaller, context).getObject();
+        ObjectUtilTest.assertDeepEquals(new Object[] {new String[] {"a"}}, result);
+    }
+
+    @Test
+    public void testIllegalLength() {
+        checkIllegalLength(Arrays.asList("a", "b"));
+        Map<String, String> map = new HashMap<>();
+        map.put("a", "x");
+        map.put("b", "y");
+        checkIllegalLength(map);
+        checkIllegalLength(new Object[] {"a", "b"});
+        checkIllegalLength(new long[] {5, 7});
+    }
+
+    @Test
+    public void testSmallerThanSerialization() {
+        Object[] args = {Arrays.asList("IBM", "MSFT", "GOOG"), 100, "request"};
+        int binaryLength = Marshalled.forObject(args,
+            Marshaller.binaryForClasses(List.class, Integer.class, String.class)).getBytes().length;
+        int typedLength = Marshalled.forObject(args,
+            Marshaller.forClasses(List.class, Integer.class, String.class)).getBytes().length;
+        assertTrue(binaryLength + " < " + typedLength, binaryLength < typedLength / 2);
+    }
+
+    private static void checkRejected(Object value, SerialClassContext context) {
+        Marshaller.Typed<Object[]> marshaller = Marshaller.binaryForClasses(Object.class);
+        byte[] bytes = Marshalled.forObject(new Object[] {value}, marshaller).getBytes();
+        try {
+            Marshalled.forBytes(bytes, marshaller, context).getObject();
+            fail();
+        } catch (MarshallingException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("blacklist"));
+        }
+    }
+
+    // replaces the length of the value (the last byte equal to 2) with a huge one that does not fit into the rest of bytes
+    private static void checkIllegalLength(Object value) {
+        Marshaller.Typed<Object[]> marshaller = Marshaller.binaryForClasses(Object.class);
+        byte[] bytes = Marshalled.forObject(new Object[] {value}, marshaller).getBytes();
+        int lengthPosition = bytes.length - 1;
+        while (bytes[lengthPosition] != 2)
+            lengthPosition--;
+        byte[] huge = {(byte) 0xF0, 0x7F, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF}; // Integer.MAX_VALUE
+        byte[] tampered = new byte[bytes.length + huge.length - 1];
+        System.arraycopy(bytes, 0, tampered, 0, lengthPosition);
+        System.arraycopy(huge, 0, tampered, lengthPosition, huge.length);
+        System.arraycopy(bytes, lengthPosition + 1, tampered, lengthPosition + huge.length,
+            bytes.length - lengthPosition - 1);
+        try {
+            Marshalled.forBytes(tampered, marshaller).getObject();
+            fail();
+        } catch (MarshallingException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("Illegal length"));
+        }
+    }
+
+    private static Object[] checkReadWrite(Object[] values, Class<?>... types) {
+        Marshaller.Typed<Object[]> marshaller = Marshaller.binaryForClasses(types);
+        byte[] bytes = Marshalled.forObject(values, marshaller).getBytes();
+        Object[] result = Marshalled.forBytes(bytes, marshaller).getObject();
+        ObjectUtilTest.assertDeepEquals(values, result);
+        return result;
+    }
+
+    private static class Dto implements Serializable {
+        private static final long serialVersionUID = 0;
+
+        final String name;
+        final int value;
+
+        Dto(String name, int value) {
+            this.name = name;
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Dto && ((Dto) o).name.equals(name) && ((Dto) o).value == value;
+        }
+
+        @Override
+        public int hashCode() {
+            return name.hashCode() * 31 + value;
+        }
+    }
+}
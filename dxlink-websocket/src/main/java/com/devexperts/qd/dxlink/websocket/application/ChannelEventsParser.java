@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2023 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -32,10 +32,11 @@ class ChannelEventsParser implements DxLinkClientReceiver.EventsParser {
 
     private final QDContract contract;
     private final Delegates delegates;
-    private final DataParser compactDataParser;
+    private final CompactDataParser compactDataParser;
     private final DataParser fullDataParser;
     private DataParser dataParser;
     private JsonParser json;
+    private DxLinkCompactReader reader;
 
     ChannelEventsParser(QDContract contract, Delegates delegates) {
         this.contract = contract;
@@ -55,14 +56,33 @@ class ChannelEventsParser implements DxLinkClientReceiver.EventsParser {
         dataParser.updateConfig(eventFields);
     }
 
+    boolean isCompact() {
+        return dataParser == compactDataParser;
+    }
+
     DxLinkClientReceiver.EventsParser init(JsonParser json) {
         this.json = json;
+        this.reader = null;
+        return this;
+    }
+
+    /**
+     * Initializes this parser to read data in {@link DxLinkJsonMessageParser#COMPACT COMPACT} format
+     * directly from the message bytes, see {@link #isCompact()}.
+     */
+    DxLinkClientReceiver.EventsParser init(DxLinkCompactReader reader) {
+        this.json = null;
+        this.reader = reader;
         return this;
     }
 
     @Override
     public void parse(RecordBuffer recordBuffer) throws IOException {
-        dataParser.parse(json, contract, recordBuffer);
+        if (reader != null) {
+            compactDataParser.readEvents(reader, recordBuffer);
+        } else {
+            dataParser.parse(json, contract, recordBuffer);
+        }
     }
 
     @Override
@@ -83,7 +103,9 @@ class ChannelEventsParser implements DxLinkClientReceiver.EventsParser {
     }
 
     private class CompactDataParser extends DataParser {
-        private final Map<String, Buffer> buffers = new HashMap<>();
+        private final Map<String, CompactBuffer> buffers = new HashMap<>();
+        // buffers by raw bytes of event types in messages
+        private DxLinkCompactReader.ValueCache buffersByBytes = newBuffersCache();
 
         protected void extractEvents(JsonParser json, Consumer<EventType<?>> recordBuffer) throws IOException {
             skipToken(json, JsonToken.START_ARRAY);
@@ -98,19 +120,55 @@ class ChannelEventsParser implements DxLinkClientReceiver.EventsParser {
             skipToken(json, JsonToken.END_ARRAY);
         }
 
+        void readEvents(DxLinkCompactReader reader, RecordBuffer recordBuffer) throws IOException {
+            reader.beginArray();
+            while (reader.hasNext()) {
+                CompactBuffer buffer = (CompactBuffer) reader.readCached(buffersByBytes);
+                if (!reader.hasNext())
+                    throw new IllegalStateException("Expected events of type '" + buffer.eventType + "'.");
+                reader.beginArray();
+                buffer.readEvents(reader, recordBuffer);
+            }
+        }
+
         @Override
         void updateConfig(Map<String, List<String>> eventFields) {
             eventFields.forEach((eventType, fieldNames) -> buffers.put(eventType,
-                new BufferImpl(delegates.getEventBuilder(eventType, fieldNames))));
+                new BufferImpl(eventType, delegates.getEventBuilder(eventType, fieldNames))));
+            buffersByBytes = newBuffersCache();
         }
 
-        private class BufferImpl implements Buffer {
+        private DxLinkCompactReader.ValueCache newBuffersCache() {
+            return new DxLinkCompactReader.ValueCache(eventType ->
+                buffers.computeIfAbsent(eventType, EmptyBuffer::new));
+        }
+
+        private abstract class CompactBuffer implements Buffer {
+            final String eventType;
+
+            CompactBuffer(String eventType) {
+                this.eventType = eventType;
+            }
+
+            // reads events from the array of values after its opening bracket till the closing one
+            abstract void readEvents(DxLinkCompactReader reader, RecordBuffer recordBuffer) throws IOException;
+        }
+
+        private class BufferImpl extends CompactBuffer {
             private final EventType<?> event;
             private final LinkedHashMap<String, Delegates.Setter> setters;
+            private final Delegates.Setter[] setterArray;
+            private final DxLinkCompactReader.ValueCache[] caches;
 
-            private BufferImpl(Delegates.EventBuilder eventBuilder) {
+            private BufferImpl(String eventType, Delegates.EventBuilder eventBuilder) {
+                super(eventType);
                 this.event = eventBuilder.factory.get();
                 this.setters = eventBuilder.setters;
+                this.setterArray = setters.values().toArray(new Delegates.Setter[0]);
+                this.caches = new DxLinkCompactReader.ValueCache[setterArray.length];
+                for (int i = 0; i < setterArray.length; i++) {
+                    caches[i] = setterArray[i].createValueCache();
+                }
             }
 
             public void readEvent(Consumer<EventType<?>> recordBuffer) throws IOException {
@@ -124,13 +182,28 @@ class ChannelEventsParser implements DxLinkClientReceiver.EventsParser {
                         recordBuffer.accept(event);
                 }
             }
-        }
 
-        private class EmptyBuffer implements Buffer {
-            private final String eventType;
+            @Override
+            void readEvents(DxLinkCompactReader reader, RecordBuffer recordBuffer) throws IOException {
+                while (reader.hasNext()) {
+                    if (setterArray.length == 0) {
+                        reader.skipValue();
+                        continue;
+                    }
+                    for (int i = 0; i < setterArray.length; i++) {
+                        if (i > 0 && !reader.hasNext())
+                            throw new IllegalStateException("Unexpected end of '" + eventType + "' values.");
+                        setterArray[i].readValue(event, reader, caches[i]);
+                    }
+                    if (event != null)
+                        delegates.putEventToRecordBuffer(event, contract, recordBuffer);
+                }
+            }
+        }
 
+        private class EmptyBuffer extends CompactBuffer {
             private EmptyBuffer(String eventType) {
-                this.eventType = eventType;
+                super(eventType);
             }
 
             public void readEvent(Consumer<EventType<?>> recordBuffer) throws IOException {
@@ -140,6 +213,14 @@ class ChannelEventsParser implements DxLinkClientReceiver.EventsParser {
                     json.nextToken();
                 }
             }
+
+            @Override
+            void readEvents(DxLinkCompactReader reader, RecordBuffer recordBuffer) throws IOException {
+                log.warn(String.format("Unknown event type: '%s'.", eventType));
+                while (reader.hasNext()) {
+                    reader.skipValue();
+                }
+            }
         }
     }
 
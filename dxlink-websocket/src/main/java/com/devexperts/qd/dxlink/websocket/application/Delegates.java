@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2024 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -32,6 +32,9 @@ import com.googlecode.openbeans.Introspector;
 import com.googlecode.openbeans.PropertyDescriptor;
 
 import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
@@ -182,8 +185,13 @@ final class Delegates {
 
     abstract static class Setter {
         private final Method setter;
+        // setter adapted to (EventType, value) for allocation-free invocation from the compact reader
+        final MethodHandle handle;
 
-        private Setter(Method setter) { this.setter = setter; }
+        private Setter(Method setter, Class<?> valueType) {
+            this.setter = setter;
+            this.handle = setter == null ? null : toHandle(setter, valueType);
+        }
 
         // TODO Current implementation is based on reflection, it would be better to convert a MethodHandle
         //  to a functional interface implementation using the same feature, Java 8’s lambda expressions
@@ -197,10 +205,39 @@ final class Delegates {
         }
 
         protected abstract Object value(JsonParser parser) throws IOException;
+
+        /**
+         * Reads the value directly from the message bytes and sets it to the event.
+         *
+         * @param cache cache that was created by {@link #createValueCache()} for this setter.
+         */
+        abstract void readValue(EventType<?> event, DxLinkCompactReader reader, DxLinkCompactReader.ValueCache cache)
+            throws IOException;
+
+        DxLinkCompactReader.ValueCache createValueCache() {
+            return null;
+        }
+
+        private static MethodHandle toHandle(Method setter, Class<?> valueType) {
+            try {
+                return MethodHandles.publicLookup().unreflect(setter)
+                    .asType(MethodType.methodType(void.class, EventType.class, valueType));
+            } catch (IllegalAccessException e) {
+                throw new IllegalArgumentException(e);
+            }
+        }
+
+        static IOException invocationFailed(Throwable t) {
+            if (t instanceof RuntimeException)
+                throw (RuntimeException) t;
+            if (t instanceof Error)
+                throw (Error) t;
+            return t instanceof IOException ? (IOException) t : new IOException(t);
+        }
     }
 
     static final class VoidSetter extends Setter {
-        VoidSetter() { super(null); }
+        VoidSetter() { super(null, null); }
 
         @Override
         public void setValue(EventType<?> event, JsonParser fieldIterator) {}
@@ -209,10 +246,46 @@ final class Delegates {
         protected Object value(JsonParser parser) {
             throw new IllegalStateException();
         }
+
+        @Override
+        void readValue(EventType<?> event, DxLinkCompactReader reader, DxLinkCompactReader.ValueCache cache)
+            throws IOException
+        {
+            reader.skipValue();
+        }
+    }
+
+    /**
+     * Setter of values that are converted from strings. Converted values are cached by the compact reader.
+     */
+    private abstract static class ObjectSetter extends Setter {
+        private ObjectSetter(Method setter) { super(setter, Object.class); }
+
+        protected abstract Object convert(String value);
+
+        @Override
+        protected Object value(JsonParser parser) throws IOException { return convert(parser.getValueAsString()); }
+
+        @Override
+        void readValue(EventType<?> event, DxLinkCompactReader reader, DxLinkCompactReader.ValueCache cache)
+            throws IOException
+        {
+            Object value = reader.readCached(cache);
+            try {
+                handle.invokeExact((EventType) event, value);
+            } catch (Throwable t) {
+                throw invocationFailed(t);
+            }
+        }
+
+        @Override
+        DxLinkCompactReader.ValueCache createValueCache() {
+            return new DxLinkCompactReader.ValueCache(this::convert);
+        }
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
-    private static final class EnumSetter extends Setter {
+    private static final class EnumSetter extends ObjectSetter {
         private final Class<? extends Enum> enumClazz;
 
         private EnumSetter(Method setter, Class<? extends Enum> enumClazz) {
@@ -221,72 +294,132 @@ final class Delegates {
         }
 
         @Override
-        protected Object value(JsonParser parser) throws IOException {
-            return Enum.valueOf(this.enumClazz, parser.getValueAsString());
+        protected Object convert(String value) {
+            return Enum.valueOf(this.enumClazz, value);
         }
     }
 
-    private static final class CandleSymbolSetter extends Setter {
+    private static final class CandleSymbolSetter extends ObjectSetter {
         private CandleSymbolSetter(Method setter) { super(setter); }
 
         @Override
-        protected Object value(JsonParser parser) throws IOException {
-            return CandleSymbol.valueOf(parser.getValueAsString());
+        protected Object convert(String value) {
+            return CandleSymbol.valueOf(value);
         }
     }
 
-    private static final class OrderSourceSetter extends Setter {
+    private static final class OrderSourceSetter extends ObjectSetter {
         private OrderSourceSetter(Method setter) { super(setter); }
 
         @Override
-        protected Object value(JsonParser parser) throws IOException {
-            return OrderSource.valueOf(parser.getValueAsString());
+        protected Object convert(String value) {
+            return OrderSource.valueOf(value);
         }
     }
 
-    private static final class StringSetter extends Setter {
+    private static final class StringSetter extends ObjectSetter {
         private StringSetter(Method setter) { super(setter); }
 
         @Override
-        protected Object value(JsonParser parser) throws IOException { return parser.getValueAsString(); }
+        protected Object convert(String value) { return value; }
     }
 
     private static final class BooleanSetter extends Setter {
-        private BooleanSetter(Method setter) { super(setter); }
+        private BooleanSetter(Method setter) { super(setter, boolean.class); }
 
         @Override
         protected Object value(JsonParser parser) throws IOException { return parser.getValueAsBoolean(); }
+
+        @Override
+        void readValue(EventType<?> event, DxLinkCompactReader reader, DxLinkCompactReader.ValueCache cache)
+            throws IOException
+        {
+            boolean value = reader.readBoolean();
+            try {
+                handle.invokeExact((EventType) event, value);
+            } catch (Throwable t) {
+                throw invocationFailed(t);
+            }
+        }
     }
 
     private static final class CharSetter extends Setter {
-        private CharSetter(Method setter) { super(setter); }
+        private CharSetter(Method setter) { super(setter, char.class); }
 
         @Override
         protected Object value(JsonParser parser) throws IOException {
             final String stringValue = parser.getValueAsString();
             return stringValue.isEmpty() ? '\0' : stringValue.charAt(0);
         }
+
+        @Override
+        void readValue(EventType<?> event, DxLinkCompactReader reader, DxLinkCompactReader.ValueCache cache)
+            throws IOException
+        {
+            char value = reader.readChar();
+            try {
+                handle.invokeExact((EventType) event, value);
+            } catch (Throwable t) {
+                throw invocationFailed(t);
+            }
+        }
     }
 
     private static final class IntegerSetter extends Setter {
-        private IntegerSetter(Method setter) { super(setter); }
+        private IntegerSetter(Method setter) { super(setter, int.class); }
 
         @Override
         protected Object value(JsonParser parser) throws IOException { return parser.getValueAsInt(); }
+
+        @Override
+        void readValue(EventType<?> event, DxLinkCompactReader reader, DxLinkCompactReader.ValueCache cache)
+            throws IOException
+        {
+            int value = reader.readInt();
+            try {
+                handle.invokeExact((EventType) event, value);
+            } catch (Throwable t) {
+                throw invocationFailed(t);
+            }
+        }
     }
 
     private static final class LongSetter extends Setter {
-        private LongSetter(Method setter) { super(setter); }
+        private LongSetter(Method setter) { super(setter, long.class); }
 
         @Override
         protected Object value(JsonParser parser) throws IOException { return parser.getValueAsLong(); }
+
+        @Override
+        void readValue(EventType<?> event, DxLinkCompactReader reader, DxLinkCompactReader.ValueCache cache)
+            throws IOException
+        {
+            long value = reader.readLong();
+            try {
+                handle.invokeExact((EventType) event, value);
+            } catch (Throwable t) {
+                throw invocationFailed(t);
+            }
+        }
     }
 
     private static final class DoubleSetter extends Setter {
-        private DoubleSetter(Method setter) { super(setter); }
+        private DoubleSetter(Method setter) { super(setter, double.class); }
 
         @Override
         protected Object value(JsonParser parser) throws IOException { return parser.getValueAsDouble(); }
+
+        @Override
+        void readValue(EventType<?> event, DxLinkCompactReader reader, DxLinkCompactReader.ValueCache cache)
+            throws IOException
+        {
+            double value = reader.readDouble();
+            try {
+                handle.invokeExact((EventType) event, value);
+            } catch (Throwable t) {
+                throw invocationFailed(t);
+            }
+        }
     }
 
     static class EventBuilder {
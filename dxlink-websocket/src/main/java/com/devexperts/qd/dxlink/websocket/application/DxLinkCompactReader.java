@@ -0,0 +1,514 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.devexperts.qd.dxlink.websocket.application;
+
+import io.netty.buffer.ByteBuf;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * Reads dxLink JSON messages directly from UTF-8 bytes of WebSocket frames. It is used to parse event data
+ * in {@link DxLinkJsonMessageParser#COMPACT COMPACT} format, where values of events are laid out in flat arrays:
+ * numbers are parsed in place without intermediate strings and string values are resolved with {@link ValueCache},
+ * so parsing of events with already seen symbols does not allocate.
+ *
+ * <p>Conversions of values follow the {@code getValueAsXXX} methods of Jackson {@code JsonParser}
+ * that are used to parse messages in other formats. The reader is lenient to the placement of commas
+ * and assumes that frames are well-formed JSON.
+ */
+final class DxLinkCompactReader {
+    // the largest mantissa that is represented by double exactly
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+    private static final int MAX_FAST_DIGITS = 18;
+
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private static final byte[] NULL = bytes("null");
+    private static final byte[] TRUE = bytes("true");
+    private static final byte[] FALSE = bytes("false");
+    private static final byte[] NAN = bytes("NaN");
+    private static final byte[] INFINITY = bytes("Infinity");
+    private static final byte[] NEGATIVE_INFINITY = bytes("-Infinity");
+
+    private byte[] copy = new byte[0]; // copy of the message when it is not backed by an array
+    private byte[] data;
+    private int pos;
+    private int limit;
+
+    // last scalar token (without quotes for strings)
+    private int tokenStart;
+    private int tokenEnd;
+    private boolean tokenString;
+    private boolean tokenEscaped;
+
+    static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+
+    DxLinkCompactReader reset(ByteBuf message) {
+        int length = message.readableBytes();
+        if (message.hasArray()) {
+            data = message.array();
+            pos = message.arrayOffset() + message.readerIndex();
+        } else {
+            if (copy.length < length)
+                copy = new byte[Math.max(length, copy.length * 2)];
+            message.getBytes(message.readerIndex(), copy, 0, length);
+            data = copy;
+            pos = 0;
+        }
+        limit = pos + length;
+        return this;
+    }
+
+    void beginObject() throws IOException {
+        expect('{');
+    }
+
+    void beginArray() throws IOException {
+        expect('[');
+    }
+
+    /**
+     * Moves to the next element of the current array or object.
+     * Returns {@code false} and consumes the closing bracket when there are no more elements.
+     */
+    boolean hasNext() throws IOException {
+        byte b = nextNonSpace();
+        if (b == ']' || b == '}') {
+            pos++;
+            return false;
+        }
+        if (b == ',') {
+            pos++;
+            nextNonSpace();
+        }
+        return true;
+    }
+
+    /**
+     * Reads the name of the next field of the current object into the last token,
+     * or returns {@code false} at the end of the object.
+     */
+    boolean nextField() throws IOException {
+        if (!hasNext())
+            return false;
+        readToken();
+        if (!tokenString)
+            throw new IOException("Field name expected at " + tokenStart);
+        expect(':');
+        return true;
+    }
+
+    /**
+     * Returns {@code true} when the last token is equal to the specified UTF-8 bytes (as is, without unescaping).
+     */
+    boolean tokenEquals(byte[] bytes) {
+        return equals(bytes, data, tokenStart, tokenEnd);
+    }
+
+    /**
+     * Reads the next scalar value into the last token.
+     */
+    void readToken() throws IOException {
+        byte b = nextNonSpace();
+        if (b == '"') {
+            int i = ++pos;
+            boolean escaped = false;
+            while (true) {
+                if (i >= limit)
+                    throw new IOException("Unexpected end of json.");
+                b = data[i];
+                if (b == '"')
+                    break;
+                if (b == '\\') {
+                    escaped = true;
+                    i++;
+                }
+                i++;
+            }
+            tokenStart = pos;
+            tokenEnd = i;
+            tokenString = true;
+            tokenEscaped = escaped;
+            pos = i + 1;
+        } else if (b == '{' || b == '[' || b == '}' || b == ']' || b == ',' || b == ':') {
+            throw new IOException("Expected scalar value, but was '" + (char) b + "' at " + pos);
+        } else {
+            int i = pos;
+            while (i < limit && !isDelimiter(data[i])) {
+                i++;
+            }
+            tokenStart = pos;
+            tokenEnd = i;
+            tokenString = false;
+            tokenEscaped = false;
+            pos = i;
+        }
+    }
+
+    /**
+     * Skips the next value including nested arrays and objects.
+     */
+    void skipValue() throws IOException {
+        byte b = nextNonSpace();
+        if (b != '{' && b != '[') {
+            readToken();
+            return;
+        }
+        int depth = 0;
+        do {
+            b = nextNonSpace();
+            if (b == '"') {
+                readToken();
+            } else {
+                if (b == '{' || b == '[') {
+                    depth++;
+                } else if (b == '}' || b == ']') {
+                    depth--;
+                }
+                pos++;
+            }
+        } while (depth > 0);
+    }
+
+    double readDouble() throws IOException {
+        readToken();
+        if (tokenString) {
+            if (tokenEscaped)
+                return parseDoubleSlow(tokenToString().trim(), 0.0);
+            return parseDouble(tokenStart, tokenEnd, 0.0);
+        }
+        if (tokenEquals(TRUE))
+            return 1.0;
+        if (tokenEquals(FALSE) || tokenEquals(NULL))
+            return 0.0;
+        return parseNumber();
+    }
+
+    long readLong() throws IOException {
+        readToken();
+        if (tokenString) {
+            if (tokenEscaped)
+                return parseLongSlow(tokenToString().trim());
+            return parseLong(tokenStart, tokenEnd);
+        }
+        if (tokenEquals(TRUE))
+            return 1;
+        if (tokenEquals(FALSE) || tokenEquals(NULL))
+            return 0;
+        checkNumber();
+        return parseLong(tokenStart, tokenEnd);
+    }
+
+    int readInt() throws IOException {
+        return (int) readLong();
+    }
+
+    boolean readBoolean() throws IOException {
+        readToken();
+        if (tokenString)
+            return tokenToString().trim().equals("true");
+        if (tokenEquals(TRUE))
+            return true;
+        if (tokenEquals(FALSE) || tokenEquals(NULL))
+            return false;
+        checkNumber();
+        return isInteger(tokenStart, tokenEnd) && parseLong(tokenStart, tokenEnd) != 0;
+    }
+
+    char readChar() throws IOException {
+        readToken();
+        if (tokenStart == tokenEnd || !tokenString && tokenEquals(NULL))
+            return '\0';
+        byte b = data[tokenStart];
+        return b >= 0 && b != '\\' ? (char) b : tokenToString().charAt(0);
+    }
+
+    /**
+     * Reads the next scalar value as a string converted with the specified cache.
+     */
+    Object readCached(ValueCache cache) throws IOException {
+        readToken();
+        if (!tokenString && tokenEquals(NULL))
+            return cache.converter.apply(null);
+        return cache.get(this);
+    }
+
+    String tokenToString() {
+        String s = new String(data, tokenStart, tokenEnd - tokenStart, StandardCharsets.UTF_8);
+        return tokenEscaped ? unescape(s) : s;
+    }
+
+    private void expect(char c) throws IOException {
+        byte b = nextNonSpace();
+        if (b != c)
+            throw new IOException("Expected '" + c + "', but was '" + (char) b + "' at " + pos);
+        pos++;
+    }
+
+    private byte nextNonSpace() throws IOException {
+        while (pos < limit) {
+            byte b = data[pos];
+            if (b != ' ' && b != '\n' && b != '\r' && b != '\t')
+                return b;
+            pos++;
+        }
+        throw new IOException("Unexpected end of json.");
+    }
+
+    private void checkNumber() throws IOException {
+        byte b = data[tokenStart];
+        if (b != '-' && (b < '0' || b > '9'))
+            throw new IOException("Unexpected token '" + tokenToString() + "' at " + tokenStart);
+    }
+
+    private double parseNumber() throws IOException {
+        checkNumber();
+        double value = parseDouble(tokenStart, tokenEnd, Double.NaN);
+        if (Double.isNaN(value))
+            throw new IOException("Invalid number '" + tokenToString() + "' at " + tokenStart);
+        return value;
+    }
+
+    // Parses decimal numbers with mantissas up to 2^53 (15 significant digits at least) and up to 22 fractional
+    // digits exactly and without allocation, other numbers are parsed with Double.parseDouble.
+    private double parseDouble(int start, int end, double defValue) {
+        if (equals(NAN, data, start, end))
+            return Double.NaN;
+        if (equals(INFINITY, data, start, end))
+            return Double.POSITIVE_INFINITY;
+        if (equals(NEGATIVE_INFINITY, data, start, end))
+            return Double.NEGATIVE_INFINITY;
+        int i = start;
+        boolean negative = i < end && data[i] == '-';
+        if (negative)
+            i++;
+        long mantissa = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean hasDigits = false;
+        for (; i < end && isDigit(data[i]); i++) {
+            hasDigits = true;
+            if (mantissa != 0 || data[i] != '0') {
+                if (++digits > MAX_FAST_DIGITS)
+                    return parseDoubleSlow(start, end, defValue);
+                mantissa = mantissa * 10 + (data[i] - '0');
+            }
+        }
+        if (i < end && data[i] == '.') {
+            for (i++; i < end && isDigit(data[i]); i++) {
+                hasDigits = true;
+                if (mantissa != 0 || data[i] != '0') {
+                    if (++digits > MAX_FAST_DIGITS)
+                        return parseDoubleSlow(start, end, defValue);
+                    mantissa = mantissa * 10 + (data[i] - '0');
+                }
+                exponent--;
+            }
+        }
+        if (i < end && (data[i] == 'e' || data[i] == 'E'))
+            return parseDoubleSlow(start, end, defValue);
+        if (i != end || !hasDigits)
+            return parseDoubleSlow(start, end, defValue);
+        if (mantissa == 0)
+            return negative ? -0.0 : 0.0;
+        if (mantissa > MAX_EXACT_MANTISSA || exponent < -POWERS_OF_TEN.length + 1)
+            return parseDoubleSlow(start, end, defValue);
+        // both mantissa and power of ten are exact, so there is a single correctly rounded operation
+        double value = exponent == 0 ? mantissa : mantissa / POWERS_OF_TEN[-exponent];
+        return negative ? -value : value;
+    }
+
+    private double parseDoubleSlow(int start, int end, double defValue) {
+        return parseDoubleSlow(new String(data, start, end - start, StandardCharsets.ISO_8859_1).trim(), defValue);
+    }
+
+    private static double parseDoubleSlow(String s, double defValue) {
+        try {
+            return s.isEmpty() ? defValue : Double.parseDouble(s);
+        } catch (NumberFormatException e) {
+            return defValue;
+        }
+    }
+
+    private long parseLong(int start, int end) {
+        if (!isInteger(start, end))
+            return (long) parseDouble(start, end, 0.0);
+        if (end - start > MAX_FAST_DIGITS)
+            return parseLongSlow(new String(data, start, end - start, StandardCharsets.ISO_8859_1).trim());
+        int i = start;
+        boolean negative = data[i] == '-';
+        if (negative)
+            i++;
+        long value = 0;
+        for (; i < end; i++) {
+            value = value * 10 + (data[i] - '0');
+        }
+        return negative ? -value : value;
+    }
+
+    private static long parseLongSlow(String s) {
+        try {
+            return Long.parseLong(s);
+        } catch (NumberFormatException e) {
+            return (long) parseDoubleSlow(s, 0.0);
+        }
+    }
+
+    private boolean isInteger(int start, int end) {
+        int i = start < end && data[start] == '-' ? start + 1 : start;
+        if (i == end)
+            return false;
+        for (; i < end; i++) {
+            if (!isDigit(data[i]))
+                return false;
+        }
+        return true;
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    private static boolean isDelimiter(byte b) {
+        return b == ',' || b == ']' || b == '}' || b == ':' || b == ' ' || b == '\n' || b == '\r' || b == '\t';
+    }
+
+    private static boolean equals(byte[] bytes, byte[] data, int start, int end) {
+        if (bytes.length != end - start)
+            return false;
+        for (int i = 0; i < bytes.length; i++) {
+            if (bytes[i] != data[start + i])
+                return false;
+        }
+        return true;
+    }
+
+    private static String unescape(String s) {
+        StringBuilder sb = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c != '\\' || i + 1 >= s.length()) {
+                sb.append(c);
+                continue;
+            }
+            c = s.charAt(++i);
+            switch (c) {
+            case 'b':
+                sb.append('\b');
+                break;
+            case 'f':
+                sb.append('\f');
+                break;
+            case 'n':
+                sb.append('\n');
+                break;
+            case 'r':
+                sb.append('\r');
+                break;
+            case 't':
+                sb.append('\t');
+                break;
+            case 'u':
+                if (i + 4 < s.length()) {
+                    sb.append((char) Integer.parseInt(s.substring(i + 1, i + 5), 16));
+                    i += 4;
+                }
+                break;
+            default:
+                sb.append(c); // '"', '\\' and '/'
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Cache of values converted from strings that is keyed by raw bytes of the strings in messages.
+     * The cache is cleared when it reaches its maximal size to keep memory bounded for long-lived connections.
+     */
+    static final class ValueCache {
+        private static final int INITIAL_CAPACITY = 16;
+        private static final int MAX_SIZE = 8192;
+
+        final Function<String, ?> converter;
+        private byte[][] keys = new byte[INITIAL_CAPACITY][];
+        private int[] hashes = new int[INITIAL_CAPACITY];
+        private Object[] values = new Object[INITIAL_CAPACITY];
+        private int size;
+
+        ValueCache(Function<String, ?> converter) {
+            this.converter = converter;
+        }
+
+        Object get(DxLinkCompactReader reader) {
+            byte[] data = reader.data;
+            int start = reader.tokenStart;
+            int end = reader.tokenEnd;
+            int hash = 0;
+            for (int i = start; i < end; i++) {
+                hash = hash * 31 + data[i];
+            }
+            int mask = keys.length - 1;
+            for (int i = index(hash, mask); keys[i] != null; i = (i + 1) & mask) {
+                if (hashes[i] == hash && DxLinkCompactReader.equals(keys[i], data, start, end))
+                    return values[i];
+            }
+            Object value = converter.apply(reader.tokenToString());
+            if (size >= MAX_SIZE) {
+                Arrays.fill(keys, null);
+                Arrays.fill(values, null);
+                size = 0;
+            } else if (2 * size >= keys.length) {
+                rehash();
+            }
+            put(Arrays.copyOfRange(data, start, end), hash, value);
+            return value;
+        }
+
+        private void put(byte[] key, int hash, Object value) {
+            int mask = keys.length - 1;
+            int i = index(hash, mask);
+            while (keys[i] != null) {
+                i = (i + 1) & mask;
+            }
+            keys[i] = key;
+            hashes[i] = hash;
+            values[i] = value;
+            size++;
+        }
+
+        private void rehash() {
+            byte[][] oldKeys = keys;
+            int[] oldHashes = hashes;
+            Object[] oldValues = values;
+            keys = new byte[oldKeys.length * 2][];
+            hashes = new int[oldKeys.length * 2];
+            values = new Object[oldKeys.length * 2];
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != null)
+                    put(oldKeys[i], oldHashes[i], oldValues[i]);
+            }
+        }
+
+        private static int index(int hash, int mask) {
+            return (hash ^ (hash >>> 16)) & mask;
+        }
+    }
+}
@@ -21,6 +21,7 @@ import io.netty.buffer.PooledByteBufAllocator;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -220,6 +221,70 @@ class DxLinkJsonMessageFactory {
         }
     }
 
+    private static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+
+    // Writes JSON string with the same escaping as JsonGenerator does by default.
+    private static void writeString(ByteBuf buf, String s) {
+        buf.writeByte('"');
+        int start = 0;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c >= 0x20 && c != '"' && c != '\\')
+                continue;
+            if (i > start)
+                buf.writeCharSequence(s.subSequence(start, i), StandardCharsets.UTF_8);
+            start = i + 1;
+            buf.writeByte('\\');
+            switch (c) {
+            case '"':
+            case '\\':
+                buf.writeByte(c);
+                break;
+            case '\b':
+                buf.writeByte('b');
+                break;
+            case '\f':
+                buf.writeByte('f');
+                break;
+            case '\n':
+                buf.writeByte('n');
+                break;
+            case '\r':
+                buf.writeByte('r');
+                break;
+            case '\t':
+                buf.writeByte('t');
+                break;
+            default:
+                buf.writeByte('u').writeByte('0').writeByte('0');
+                buf.writeByte(Character.toUpperCase(Character.forDigit(c >> 4, 16)));
+                buf.writeByte(Character.toUpperCase(Character.forDigit(c & 0xf, 16)));
+            }
+        }
+        buf.writeCharSequence(start == 0 ? s : s.subSequence(start, s.length()), StandardCharsets.UTF_8);
+        buf.writeByte('"');
+    }
+
+    private static void writeLong(ByteBuf buf, long value) {
+        if (value == Long.MIN_VALUE) {
+            buf.writeCharSequence(Long.toString(value), StandardCharsets.US_ASCII);
+            return;
+        }
+        if (value < 0) {
+            buf.writeByte('-');
+            value = -value;
+        }
+        long divisor = 1;
+        while (divisor <= value / 10) {
+            divisor *= 10;
+        }
+        for (; divisor > 0; divisor /= 10) {
+            buf.writeByte('0' + (int) (value / divisor % 10));
+        }
+    }
+
     private static void closeQuietly(JsonGenerator gen, ByteBufOutputStream out) {
         if (gen != null) {
             try {
@@ -344,25 +409,38 @@ class DxLinkJsonMessageFactory {
      * {@link DxLinkJsonMessageFactory#openFeedSubscription}) already opened either the
      * {@code add} or {@code remove} array; {@link #appendSubscription} writes items into it,
      * and {@link #close()} writes the closing {@code ]} and {@code }}.
+     *
+     * <p>Items are written directly into the buffer bypassing the generator, which has nothing buffered
+     * after the flushed prologue, so that composing of large subscriptions does not allocate per item.
      */
     static final class FeedSubscriptionJsonMessage extends JsonMessage {
+        private static final byte[] TYPE_PREFIX = bytes("{\"" + FIELD_NAME_TYPE + "\":");
+        private static final byte[] SYMBOL_PREFIX = bytes(",\"symbol\":");
+        private static final byte[] SOURCE_PREFIX = bytes(",\"source\":");
+        private static final byte[] FROM_TIME_PREFIX = bytes(",\"fromTime\":");
+
+        private int count;
+
         FeedSubscriptionJsonMessage(ByteBuf buf, JsonGenerator gen) {
             super(buf, gen);
         }
 
         // Writes one subscription entry into the open {@code add} or {@code remove} array.
-        void appendSubscription(DxLinkSubscription s) throws IOException {
-            gen.writeStartObject();
-            gen.writeStringField(FIELD_NAME_TYPE, s.type);
-            gen.writeStringField("symbol", s.symbol);
+        void appendSubscription(DxLinkSubscription s) {
+            if (count++ > 0)
+                buf.writeByte(',');
+            buf.writeBytes(TYPE_PREFIX);
+            writeString(buf, s.type);
+            buf.writeBytes(SYMBOL_PREFIX);
+            writeString(buf, s.symbol);
             if (s.source != null) {
-                gen.writeStringField("source", s.source);
+                buf.writeBytes(SOURCE_PREFIX);
+                writeString(buf, s.source);
             } else if (s.fromTime != null) {
-                gen.writeNumberField("fromTime", s.fromTime);
+                buf.writeBytes(FROM_TIME_PREFIX);
+                writeLong(buf, s.fromTime);
             }
-            gen.writeEndObject();
-            // Flush per append so payloadSize() / hasCapacity() see the running on-wire size.
-            gen.flush();
+            buf.writeByte('}');
         }
 
         @Override
@@ -18,8 +18,10 @@ import com.devexperts.util.TimePeriod;
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
+import io.netty.buffer.ByteBuf;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -33,11 +35,19 @@ class DxLinkJsonMessageParser {
     private static final long WARN_TIMEOUT_NANOS = TimePeriod.valueOf(
         SystemProperties.getProperty("com.devexperts.qd.qtp.socket.readerWarnTimeout", "15s")
     ).getNanos();
+    private static final boolean DIRECT_COMPACT_PARSING =
+        SystemProperties.getBooleanProperty("com.devexperts.qd.dxlink.directCompactParsing", true);
     private static final Logging log = Logging.getLogging(DxLinkJsonMessageParser.class);
 
+    private static final byte[] TYPE_FIELD = DxLinkCompactReader.bytes("type");
+    private static final byte[] CHANNEL_FIELD = DxLinkCompactReader.bytes("channel");
+    private static final byte[] DATA_FIELD = DxLinkCompactReader.bytes("data");
+    private static final byte[] FEED_DATA_TYPE = DxLinkCompactReader.bytes("FEED_DATA");
+
     private final JsonFactory factory = JsonFactory.builder().build();
     private final Map<String, MessageParsingStrategy> strategies = new HashMap<>();
     private final Map<Integer, ChannelEventsParser> channelParsers = new HashMap<>();
+    private final DxLinkCompactReader compactReader = new DxLinkCompactReader();
     private final DxLinkClientReceiver receiver;
     private final Delegates delegates;
 
@@ -120,6 +130,46 @@ class DxLinkJsonMessageParser {
             log.warn("processChunks took " + deltaTimeNanos + " ns");
     }
 
+    /**
+     * Reads the message from UTF-8 bytes of a WebSocket frame. Event data in {@link #COMPACT} format
+     * is parsed directly from the bytes, other messages are decoded to strings and parsed with {@link #read(String)}.
+     */
+    void read(ByteBuf message) throws IOException {
+        if (!DIRECT_COMPACT_PARSING || !readCompactFeedData(message))
+            read(message.toString(StandardCharsets.UTF_8));
+    }
+
+    // returns false without side effects when the message is not FEED_DATA for a channel with compact data format
+    private boolean readCompactFeedData(ByteBuf message) throws IOException {
+        long timeNanos = System.nanoTime();
+        DxLinkCompactReader reader = compactReader.reset(message);
+        reader.beginObject();
+        boolean feedData = false;
+        int channel = -1;
+        while (reader.nextField()) {
+            if (reader.tokenEquals(TYPE_FIELD)) {
+                reader.readToken();
+                if (!reader.tokenEquals(FEED_DATA_TYPE))
+                    return false;
+                feedData = true;
+            } else if (reader.tokenEquals(CHANNEL_FIELD)) {
+                channel = reader.readInt();
+            } else if (feedData && reader.tokenEquals(DATA_FIELD)) {
+                ChannelEventsParser parser = channelParsers.get(channel);
+                if (parser == null || !parser.isCompact())
+                    return false;
+                receiver.receiveFeedData(parser.init(reader));
+                long deltaTimeNanos = System.nanoTime() - timeNanos;
+                if (deltaTimeNanos > WARN_TIMEOUT_NANOS)
+                    log.warn("processChunks took " + deltaTimeNanos + " ns");
+                return true;
+            } else {
+                reader.skipValue();
+            }
+        }
+        return false;
+    }
+
     void createChannelParser(int channel, String contract) {
         channelParsers.put(channel, new ChannelEventsParser(QDContract.valueOf(contract), delegates));
     }
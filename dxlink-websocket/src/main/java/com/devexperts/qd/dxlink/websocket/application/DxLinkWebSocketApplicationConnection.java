@@ -108,6 +108,15 @@ public class DxLinkWebSocketApplicationConnection
         nextDisconnectTime = heartbeatProcessor.calculateNextDisconnectTime();
     }
 
+    /**
+     * Processes the message from UTF-8 bytes of a WebSocket frame.
+     * Event data is parsed directly from the bytes without decoding the message into a string.
+     */
+    public void processMessage(ByteBuf message) {
+        parser.parse(message, adapter);
+        nextDisconnectTime = heartbeatProcessor.calculateNextDisconnectTime();
+    }
+
     @Override
     public void messagesAvailable(MessageProvider provider) {
         notifyChunksAvailable();
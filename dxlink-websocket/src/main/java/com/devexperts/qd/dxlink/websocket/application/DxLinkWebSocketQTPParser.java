@@ -21,8 +21,10 @@ import com.devexperts.qd.qtp.ProtocolDescriptor;
 import com.devexperts.qd.qtp.RuntimeQTPException;
 import com.devexperts.qd.qtp.fieldreplacer.FieldReplacersCache;
 import com.devexperts.util.TimePeriodInfo;
+import io.netty.buffer.ByteBuf;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -80,6 +82,19 @@ class DxLinkWebSocketQTPParser extends AbstractQTPParser {
         }
     }
 
+    public void parse(ByteBuf message, MessageConsumer consumer) {
+        try {
+            currentConsumer = consumer;
+            messageParser.read(message);
+        } catch (IOException e) {
+            throw new RuntimeException(
+                String.format("Can't parse the message: '%s'", message.toString(StandardCharsets.UTF_8)), e);
+        } finally {
+            processPending(consumer);
+            currentConsumer = null;
+        }
+    }
+
     private class DxLinkClientReceiverImpl implements DxLinkClientReceiver {
         @Override
         public void receiveError(int channel, String error, String message) { log.error(message); }
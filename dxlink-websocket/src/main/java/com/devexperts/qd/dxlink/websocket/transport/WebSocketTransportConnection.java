@@ -568,7 +568,7 @@ class WebSocketTransportConnection extends AbstractTransportConnection implement
                 TextWebSocketFrame textFrame = (TextWebSocketFrame) frame;
                 if (verbose && log.debugEnabled())
                     log.debug("RCVD: " + textFrame.text());
-                session.application.processMessage(textFrame.text());
+                session.application.processMessage(textFrame.content());
             } else if (frame instanceof CloseWebSocketFrame) {
                 // WebSocket Client received closing
                 ctx.channel().close();
@@ -0,0 +1,193 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.devexperts.qd.dxlink.websocket.application;
+
+import com.devexperts.qd.ng.RecordBuffer;
+import com.devexperts.qd.ng.RecordCursor;
+import com.dxfeed.api.impl.DXFeedScheme;
+import io.netty.buffer.Unpooled;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Verifies that parsing of event data in COMPACT format directly from message bytes
+ * produces the same records as parsing with Jackson.
+ */
+public class DxLinkCompactParsingTest {
+    private static final String FEED_CONFIG = "{\"type\":\"FEED_CONFIG\",\"channel\":1,\"dataFormat\":\"COMPACT\"," +
+        "\"eventFields\":{" +
+        "\"Quote\":[\"eventSymbol\",\"eventTime\",\"bidTime\",\"bidExchangeCode\",\"bidPrice\",\"bidSize\"," +
+        "\"askTime\",\"askExchangeCode\",\"askPrice\",\"askSize\"]," +
+        "\"Trade\":[\"eventSymbol\",\"time\",\"exchangeCode\",\"price\",\"size\",\"dayVolume\",\"tickDirection\"," +
+        "\"extendedTradingHours\",\"unknownField\"]," +
+        "\"Order\":[\"eventSymbol\",\"eventFlags\",\"index\",\"time\",\"source\",\"price\",\"size\",\"side\"," +
+        "\"scope\",\"exchangeCode\",\"marketMaker\"]," +
+        "\"Candle\":[\"eventSymbol\",\"eventFlags\",\"index\",\"time\",\"count\",\"open\",\"high\",\"low\",\"close\"," +
+        "\"volume\"]}}";
+
+    private final Delegates delegates = new Delegates(DXFeedScheme.getInstance());
+    private RecordBuffer buffer = new RecordBuffer();
+    private final DxLinkJsonMessageParser parser = new DxLinkJsonMessageParser(new Receiver(), delegates);
+    private int keepalives;
+
+    @Test
+    public void testSameAsJackson() throws IOException {
+        open("TICKER");
+        assertSameAsJackson(feedData("[\"Quote\",[\"AAPL\",0,1700000000000,\"Q\",123.45,100,1700000000001,\"Z\"," +
+            "\"NaN\",\"Infinity\",\"IBM\",1,0,\"\",-0.5,1e3,0,\"\\u0051\"," +
+            "1.23456789012345678901,12345678901234567890]," +
+            "\"Trade\",[\"MSFT\",1700000000000,\"Q\",0.0001,\"-Infinity\",1.5E-7,\"UP\",true,\"skip\"," +
+            "\"MSFT\",1700000000000,\"N\",null,-1,\"12.5\",\"ZERO\",false,\"skip\"]]"));
+    }
+
+    @Test
+    public void testIndexedEvents() throws IOException {
+        open("HISTORY");
+        assertSameAsJackson(feedData("[\"Order\",[\"AAPL\",4,12345,1700000000000,\"NTV\",10.25,5,\"BUY\"," +
+            "\"ORDER\",\"Q\",\"MM\\\"1\\\"\",\"AAPL\",0,12346,1700000000000,\"ntv\",\"NaN\",0,\"SELL\",\"AGGREGATE\"," +
+            "\"\\u0000\",null],\"Candle\",[\"AAPL{=d}\",0,7300000000000000000,1700000000000,10,1,2,0.5,1.5,1000000]]"));
+    }
+
+    @Test
+    public void testUnknownEventType() throws IOException {
+        open("TICKER");
+        RecordBuffer actual = assertSameAsJackson(feedData("[\"Unknown\",[1,\"a]\",2.5,null]," +
+            "\"Quote\",[\"AAPL\",0,0,\"Q\",1,2,0,\"Q\",3,4]]"));
+        assertEquals(1, actual.size());
+    }
+
+    @Test
+    public void testOtherMessages() throws IOException {
+        parser.read(Unpooled.wrappedBuffer(bytes("{\"type\":\"KEEPALIVE\",\"channel\":0}")));
+        assertEquals(1, keepalives);
+        open("STREAM");
+        // field order and unknown fields do not matter
+        parser.read(Unpooled.wrappedBuffer(bytes("{\"channel\":1,\"type\":\"FEED_DATA\",\"extra\":{\"x\":[1]}," +
+            "\"data\":[\"Quote\",[\"AAPL\",0,0,\"Q\",1,2,0,\"Q\",3,4]]}")));
+        assertEquals(1, buffer.size());
+    }
+
+    @Test
+    public void testNumbers() throws IOException {
+        Random rnd = new Random(20261017);
+        DxLinkCompactReader reader = new DxLinkCompactReader();
+        for (int i = 0; i < 100_000; i++) {
+            double value;
+            switch (i % 4) {
+            case 0:
+                value = Double.longBitsToDouble(rnd.nextLong());
+                break;
+            case 1:
+                value = rnd.nextInt(10_000_000) / 100.0;
+                break;
+            case 2:
+                value = rnd.nextDouble() * Math.pow(10, rnd.nextInt(40) - 20);
+                break;
+            default:
+                value = -rnd.nextInt(1000) / 1000.0;
+            }
+            if (Double.isNaN(value) || Double.isInfinite(value))
+                continue;
+            for (String s : new String[] {Double.toString(value), new BigDecimal(value).toPlainString()}) {
+                reader.reset(Unpooled.wrappedBuffer(bytes("[" + s + "," + s + "]")));
+                reader.beginArray();
+                assertTrue(reader.hasNext());
+                assertEquals(s, Double.parseDouble(s), reader.readDouble(), 0.0);
+                assertTrue(reader.hasNext());
+                long longValue = reader.readLong();
+                if (Math.abs(value) < 1e15)
+                    assertEquals(s, new BigDecimal(s).longValue(), longValue);
+            }
+        }
+    }
+
+    private void open(String contract) throws IOException {
+        parser.read(Unpooled.wrappedBuffer(bytes("{\"type\":\"CHANNEL_OPENED\",\"channel\":1,\"service\":\"FEED\"," +
+            "\"parameters\":{\"contract\":\"" + contract + "\"}}")));
+        parser.read(Unpooled.wrappedBuffer(bytes(FEED_CONFIG)));
+    }
+
+    private static String feedData(String data) {
+        return "{\"type\":\"FEED_DATA\",\"channel\":1,\"data\":" + data + "}";
+    }
+
+    private RecordBuffer assertSameAsJackson(String message) throws IOException {
+        RecordBuffer expected = buffer = new RecordBuffer();
+        parser.read(message);
+        RecordBuffer actual = buffer = new RecordBuffer();
+        parser.read(Unpooled.wrappedBuffer(bytes(message)));
+        assertEquals(expected.size(), actual.size());
+        RecordCursor ec;
+        while ((ec = expected.next()) != null) {
+            RecordCursor ac = actual.next();
+            assertEquals(ec.getRecord(), ac.getRecord());
+            assertEquals(ec.getDecodedSymbol(), ac.getDecodedSymbol());
+            for (int i = 0; i < ec.getIntCount(); i++) {
+                assertEquals(ec.getRecord().getIntField(i).getName(), ec.getInt(i), ac.getInt(i));
+            }
+            for (int i = 0; i < ec.getObjCount(); i++) {
+                assertEquals(ec.getRecord().getObjField(i).getName(), ec.getObj(i), ac.getObj(i));
+            }
+        }
+        return actual;
+    }
+
+    private static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private class Receiver implements DxLinkClientReceiver {
+        @Override
+        public void receiveSetup(String version, Long keepaliveTimeout, Long acceptKeepaliveTimeout) {}
+
+        @Override
+        public void receiveError(int channel, String error, String message) {}
+
+        @Override
+        public void receiveAuthState(int channel, String state) {}
+
+        @Override
+        public void receiveKeepalive(int channel) {
+            keepalives++;
+        }
+
+        @Override
+        public void receiveChannelOpened(int channel, String service, String contract) {
+            parser.createChannelParser(channel, contract);
+        }
+
+        @Override
+        public void receiveFeedConfig(int channel, Long aggregationPeriod, String dataFormat,
+            Map<String, List<String>> eventFields)
+        {
+            parser.updateConfigChannelParser(channel, dataFormat, eventFields);
+        }
+
+        @Override
+        public void receiveFeedData(EventsParser eventsParser) {
+            try {
+                eventsParser.parse(buffer);
+            } catch (IOException e) {
+                throw new AssertionError(e);
+            }
+        }
+    }
+}
@@ -217,6 +217,16 @@ public class DxLinkJsonMessageFactoryTest {
             + ",{\"type\":\"Candle\",\"symbol\":\"AAPL{=d}\",\"fromTime\":100}]}", m.close());
     }
 
+    @Test
+    public void testFeedSubscription_escapedSymbol() throws IOException {
+        FeedSubscriptionJsonMessage m = factory.openFeedSubscription(1, false);
+        m.appendSubscription(sub("Quote", "A\"B\\C\n\u0001é"));
+        m.appendSubscription(sub("Candle", "-", -1L));
+        assertJson("{\"type\":\"FEED_SUBSCRIPTION\",\"channel\":1,\"reset\":false"
+            + ",\"add\":[{\"type\":\"Quote\",\"symbol\":\"A\\\"B\\\\C\\n\\u0001é\"}"
+            + ",{\"type\":\"Candle\",\"symbol\":\"-\",\"fromTime\":-1}]}", m.close());
+    }
+
     // ---- liveness of readableBytes() during streaming
 
     @Test
@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2021 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -11,6 +11,7 @@
  */
 package com.devexperts.connector.proto;
 
+import com.devexperts.transport.stats.ConnectionStats;
 import com.devexperts.util.TypedKey;
 import com.devexperts.util.TypedMap;
 
@@ -35,6 +36,12 @@ public interface TransportConnection {
      */
     public static TypedKey<Object> SUBJECT_KEY = new TypedKey<>();
 
+    /**
+     * A key for statistics of this connection, so that codecs can report their own counters.
+     * @see #variables()
+     */
+    public static TypedKey<ConnectionStats> CONNECTION_STATS_KEY = new TypedKey<>();
+
     /**
      * Returns a map with connection-local variables.
      */
@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2021 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -12,6 +12,8 @@
 package com.devexperts.transport.stats;
 
 import java.io.Serializable;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Statistics for a connection.
@@ -22,17 +24,37 @@ public class ConnectionStats implements Serializable {
     private volatile long readBytes;
     private volatile long writtenBytes;
 
+    // counters of compress codec
+    private volatile long compressionInBytes;
+    private volatile long compressionOutBytes;
+    private volatile long compressionElapsedNanos;
+    private volatile long decompressionInBytes;
+    private volatile long decompressionOutBytes;
+    private volatile long decompressionElapsedNanos;
+
     public ConnectionStats() {
     }
 
     public ConnectionStats(ConnectionStats other) {
         readBytes = other.readBytes;
         writtenBytes = other.writtenBytes;
+        compressionInBytes = other.compressionInBytes;
+        compressionOutBytes = other.compressionOutBytes;
+        compressionElapsedNanos = other.compressionElapsedNanos;
+        decompressionInBytes = other.decompressionInBytes;
+        decompressionOutBytes = other.decompressionOutBytes;
+        decompressionElapsedNanos = other.decompressionElapsedNanos;
     }
 
     public ConnectionStats(ConnectionStats cur, ConnectionStats old) {
         readBytes = cur.readBytes - old.readBytes;
         writtenBytes = cur.writtenBytes - old.writtenBytes;
+        compressionInBytes = cur.compressionInBytes - old.compressionInBytes;
+        compressionOutBytes = cur.compressionOutBytes - old.compressionOutBytes;
+        compressionElapsedNanos = cur.compressionElapsedNanos - old.compressionElapsedNanos;
+        decompressionInBytes = cur.decompressionInBytes - old.decompressionInBytes;
+        decompressionOutBytes = cur.decompressionOutBytes - old.decompressionOutBytes;
+        decompressionElapsedNanos = cur.decompressionElapsedNanos - old.decompressionElapsedNanos;
     }
 
     public long getReadBytes() {
@@ -59,12 +81,106 @@ public class ConnectionStats implements Serializable {
         this.writtenBytes += writtenBytes;
     }
 
+    /**
+     * Returns number of outgoing bytes before compression.
+     */
+    public long getCompressionInBytes() {
+        return compressionInBytes;
+    }
+
+    /**
+     * Returns number of outgoing bytes after compression.
+     */
+    public long getCompressionOutBytes() {
+        return compressionOutBytes;
+    }
+
+    /**
+     * Returns wall-clock time elapsed during compression of outgoing bytes in nanoseconds.
+     */
+    public long getCompressionElapsedNanos() {
+        return compressionElapsedNanos;
+    }
+
+    /**
+     * Adds results of compression of outgoing bytes.
+     * @param inBytes number of bytes before compression.
+     * @param outBytes number of bytes after compression.
+     * @param nanos wall-clock time elapsed during compression in nanoseconds.
+     */
+    public void addCompression(long inBytes, long outBytes, long nanos) {
+        this.compressionInBytes += inBytes;
+        this.compressionOutBytes += outBytes;
+        this.compressionElapsedNanos += nanos;
+    }
+
+    /**
+     * Returns number of incoming bytes before decompression.
+     */
+    public long getDecompressionInBytes() {
+        return decompressionInBytes;
+    }
+
+    /**
+     * Returns number of incoming bytes after decompression.
+     */
+    public long getDecompressionOutBytes() {
+        return decompressionOutBytes;
+    }
+
+    /**
+     * Returns wall-clock time elapsed during decompression of incoming bytes in nanoseconds.
+     */
+    public long getDecompressionElapsedNanos() {
+        return decompressionElapsedNanos;
+    }
+
+    /**
+     * Adds results of decompression of incoming bytes.
+     * @param inBytes number of bytes before decompression.
+     * @param outBytes number of bytes after decompression.
+     * @param nanos wall-clock time elapsed during decompression in nanoseconds.
+     */
+    public void addDecompression(long inBytes, long outBytes, long nanos) {
+        this.decompressionInBytes += inBytes;
+        this.decompressionOutBytes += outBytes;
+        this.decompressionElapsedNanos += nanos;
+    }
+
+    /**
+     * Returns ratio of outgoing bytes before and after compression or {@code 1} if nothing was compressed.
+     */
+    public double getCompressionRatio() {
+        long out = compressionOutBytes;
+        return out == 0 ? 1 : (double) compressionInBytes / out;
+    }
+
+    /**
+     * Returns ratio of incoming bytes after and before decompression or {@code 1} if nothing was decompressed.
+     */
+    public double getDecompressionRatio() {
+        long in = decompressionInBytes;
+        return in == 0 ? 1 : (double) decompressionOutBytes / in;
+    }
+
     public void addConnectionStats(ConnectionStats stats) {
         this.readBytes += stats.readBytes;
         this.writtenBytes += stats.writtenBytes;
+        this.compressionInBytes += stats.compressionInBytes;
+        this.compressionOutBytes += stats.compressionOutBytes;
+        this.compressionElapsedNanos += stats.compressionElapsedNanos;
+        this.decompressionInBytes += stats.decompressionInBytes;
+        this.decompressionOutBytes += stats.decompressionOutBytes;
+        this.decompressionElapsedNanos += stats.decompressionElapsedNanos;
     }
 
     public String toString() {
-        return "read " + readBytes + ", written " + writtenBytes;
+        String s = "read " + readBytes + ", written " + writtenBytes;
+        if (compressionInBytes != 0 || decompressionInBytes != 0) {
+            s += String.format(Locale.US, ", compression %.2f in %d ms, decompression %.2f in %d ms",
+                getCompressionRatio(), TimeUnit.NANOSECONDS.toMillis(compressionElapsedNanos),
+                getDecompressionRatio(), TimeUnit.NANOSECONDS.toMillis(decompressionElapsedNanos));
+        }
+        return s;
     }
 }
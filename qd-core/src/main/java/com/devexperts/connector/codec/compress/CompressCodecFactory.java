@@ -0,0 +1,37 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.devexperts.connector.codec.compress;
+
+import com.devexperts.connector.codec.CodecFactory;
+import com.devexperts.connector.proto.ApplicationConnectionFactory;
+
+/**
+ * This codec compresses binary QTP connections with streaming deflate. Data is flushed at the boundaries
+ * of composed messages, so compression does not add latency.
+ *
+ * <p>Compression is negotiated: each side starts with a {@link com.devexperts.qd.qtp.ProtocolDescriptor
+ * ProtocolDescriptor} in a reserved message that is ignored by peers without this codec. The descriptor offers
+ * all supported methods starting with the configured one, and each side compresses with the first method of its
+ * own offer that the peer also offers. When the peer does not send such a descriptor or there is no common method,
+ * the connection falls back to plain uncompressed data. Outgoing data is held
+ * until the first message from the peer is received, which is always the case for QTP peers that describe
+ * their protocol right after connection.
+ *
+ * <p>Usage: {@code compress[method=fast]+<host>:<port>}. See {@link CompressConnectionFactory} for options.
+ */
+public class CompressCodecFactory implements CodecFactory {
+    public ApplicationConnectionFactory createCodec(String name, ApplicationConnectionFactory delegate) {
+        if (name.equalsIgnoreCase("compress"))
+            return new CompressConnectionFactory(delegate);
+        return delegate;
+    }
+}
@@ -0,0 +1,360 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.devexperts.connector.codec.compress;
+
+import com.devexperts.connector.codec.CodecConnection;
+import com.devexperts.connector.proto.ApplicationConnectionFactory;
+import com.devexperts.connector.proto.TransportConnection;
+import com.devexperts.io.ByteArrayInput;
+import com.devexperts.io.ByteArrayOutput;
+import com.devexperts.io.Chunk;
+import com.devexperts.io.ChunkList;
+import com.devexperts.io.ChunkPool;
+import com.devexperts.qd.qtp.MessageType;
+import com.devexperts.qd.qtp.ProtocolDescriptor;
+import com.devexperts.transport.stats.ConnectionStats;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.Adler32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compressing connection. It sends a "hello" message with its compression offer first, holds all outgoing data
+ * until the first incoming message is received and then either compresses both directions (when the first
+ * incoming message is the peer's "hello" that offers some of our methods) or falls back to plain data.
+ */
+class CompressConnection extends CodecConnection<CompressConnectionFactory> {
+    // "hello" from peer is small, so bigger reserved message means that peer does not compress
+    private static final int MAX_HELLO_LENGTH = 1024;
+
+    private enum Mode { HANDSHAKE, PLAIN, COMPRESSED }
+
+    private final ChunkPool chunkPool;
+    private final ConnectionStats connectionStats; // may be null
+    private final byte[] dictionary; // may be null
+    private final String dictionaryId; // null when there is no dictionary
+
+    private volatile Mode mode = Mode.HANDSHAKE;
+    private volatile boolean peerDictionary; // written before mode
+    private String method; // written before mode, method of outgoing data that was chosen from the offers
+
+    // ---------- writing (SYNC: retrieveChunks is never invoked concurrently) ----------
+    private boolean helloSent;
+    private final Object deflaterLock = new Object(); // deflater is used and ended under this lock
+    private Deflater deflater;
+    private boolean deflaterEnded;
+
+    // ---------- reading (SYNC: processChunks is never invoked concurrently) ----------
+    private ByteArrayOutput handshakeBytes = new ByteArrayOutput(64);
+    private final Object inflaterLock = new Object(); // inflater is used and ended under this lock
+    private Inflater inflater;
+    private boolean inflaterEnded;
+
+    CompressConnection(ApplicationConnectionFactory delegateFactory, CompressConnectionFactory factory,
+        TransportConnection transportConnection) throws IOException
+    {
+        super(delegateFactory, factory, transportConnection);
+        chunkPool = factory.getChunkPool();
+        connectionStats = transportConnection.variables().get(TransportConnection.CONNECTION_STATS_KEY);
+        dictionary = factory.getDictionaryBytes();
+        if (dictionary != null) {
+            Adler32 adler = new Adler32();
+            adler.update(dictionary, 0, dictionary.length);
+            dictionaryId = Long.toHexString(adler.getValue());
+        } else {
+            dictionaryId = null;
+        }
+    }
+
+    @Override
+    protected void startImpl() {
+        super.startImpl();
+        notifyChunksAvailable(); // to send hello
+    }
+
+    @Override
+    protected void closeImpl() {
+        super.closeImpl();
+        // native memory is released after writing and reading threads are done with deflater and inflater
+        synchronized (deflaterLock) {
+            deflaterEnded = true;
+            if (deflater != null) {
+                deflater.end();
+                deflater = null;
+            }
+        }
+        synchronized (inflaterLock) {
+            inflaterEnded = true;
+            if (inflater != null) {
+                inflater.end();
+                inflater = null;
+            }
+        }
+    }
+
+    // ========== Writing ==========
+
+    @Override
+    public ChunkList retrieveChunks(Object owner) {
+        try {
+            ChunkList result = null;
+            if (!helloSent) {
+                helloSent = true;
+                result = composeHello();
+            }
+            Mode mode = this.mode; // atomic read
+            if (mode != Mode.HANDSHAKE) {
+                ChunkList chunks = delegate.retrieveChunks(this);
+                if (chunks != null && mode == Mode.COMPRESSED) {
+                    synchronized (deflaterLock) {
+                        chunks = deflate(chunks);
+                    }
+                }
+                if (chunks != null) {
+                    if (result == null) {
+                        result = chunks;
+                    } else {
+                        result.addAll(chunks, this);
+                    }
+                }
+            }
+            if (result != null)
+                result.handOver(this, owner);
+            return result;
+        } catch (Throwable t) {
+            log.error("Failed to compress outgoing data", t);
+            close();
+            return null;
+        }
+    }
+
+    private ChunkList composeHello() throws IOException {
+        ProtocolDescriptor desc = ProtocolDescriptor.newEmptyProtocolDescriptor();
+        desc.setProperty(ProtocolDescriptor.COMPRESSION_PROPERTY, factory.getOffer());
+        if (dictionaryId != null)
+            desc.setProperty(ProtocolDescriptor.COMPRESSION_DICTIONARY_PROPERTY, dictionaryId);
+        ByteArrayOutput body = new ByteArrayOutput(64);
+        body.writeCompactInt(MessageType.DESCRIBE_RESERVED.getId());
+        desc.composeTo(body);
+        ByteArrayOutput message = new ByteArrayOutput(body.getPosition() + 5);
+        message.writeCompactInt(body.getPosition());
+        message.write(body.getBuffer(), 0, body.getPosition());
+        return chunkPool.copyToChunkList(message.getBuffer(), 0, message.getPosition(), this);
+    }
+
+    // SYNC: deflaterLock
+    private ChunkList deflate(ChunkList inChunks) {
+        if (deflaterEnded) {
+            inChunks.recycle(this);
+            return null; // connection is closed
+        }
+        if (inChunks.getTotalLength() == 0)
+            return inChunks;
+        long startTime = System.nanoTime();
+        if (deflater == null) {
+            deflater = new Deflater(CompressConnectionFactory.getLevel(method));
+            if (peerDictionary)
+                deflater.setDictionary(dictionary);
+        }
+        long inBytes = inChunks.getTotalLength();
+        ChunkList outChunks = chunkPool.getChunkList(this);
+        Chunk outChunk = chunkPool.getChunk(this);
+        int outLength = 0;
+        for (Chunk chunk : inChunks) {
+            deflater.setInput(chunk.getBytes(), chunk.getOffset(), chunk.getLength());
+            while (!deflater.needsInput()) {
+                if (outLength == outChunk.getLength()) {
+                    outChunks.add(outChunk, this);
+                    outChunk = chunkPool.getChunk(this);
+                    outLength = 0;
+                }
+                outLength += deflater.deflate(outChunk.getBytes(), outChunk.getOffset() + outLength,
+                    outChunk.getLength() - outLength, Deflater.NO_FLUSH);
+            }
+        }
+        // flush at the end of composed messages, so that peer can parse everything we've got so far
+        while (true) {
+            if (outLength == outChunk.getLength()) {
+                outChunks.add(outChunk, this);
+                outChunk = chunkPool.getChunk(this);
+                outLength = 0;
+            }
+            int space = outChunk.getLength() - outLength;
+            int n = deflater.deflate(outChunk.getBytes(), outChunk.getOffset() + outLength, space,
+                Deflater.SYNC_FLUSH);
+            outLength += n;
+            if (n < space)
+                break;
+        }
+        inChunks.recycle(this);
+        if (outLength == 0) {
+            outChunk.recycle(this);
+        } else {
+            outChunk.setLength(outLength, this);
+            outChunks.add(outChunk, this);
+        }
+        if (connectionStats != null)
+            connectionStats.addCompression(inBytes, outChunks.getTotalLength(), System.nanoTime() - startTime);
+        return outChunks;
+    }
+
+    // ========== Reading ==========
+
+    @Override
+    public boolean processChunks(ChunkList chunks, Object owner) {
+        if (chunks == null)
+            throw new NullPointerException();
+        try {
+            switch (mode) {
+            case PLAIN:
+                return delegate.processChunks(chunks, owner);
+            case COMPRESSED:
+                ChunkList inflated;
+                synchronized (inflaterLock) {
+                    inflated = inflate(chunks, owner);
+                }
+                return inflated != null && delegate.processChunks(inflated, this);
+            default:
+                return processHandshake(chunks, owner);
+            }
+        } catch (Throwable t) {
+            log.error("Failed to decompress incoming data", t);
+            close();
+            return false;
+        }
+    }
+
+    private boolean processHandshake(ChunkList chunks, Object owner) throws IOException, DataFormatException {
+        for (Chunk chunk : chunks) {
+            handshakeBytes.write(chunk.getBytes(), chunk.getOffset(), chunk.getLength());
+        }
+        chunks.recycle(owner);
+        byte[] bytes = handshakeBytes.getBuffer();
+        int length = handshakeBytes.getPosition();
+        ByteArrayInput in = new ByteArrayInput(bytes, 0, length);
+        Mode newMode;
+        try {
+            newMode = parseHello(in);
+        } catch (EOFException e) {
+            return true; // wait for more bytes
+        }
+        handshakeBytes = null;
+        int offset = newMode == Mode.COMPRESSED ? in.getPosition() : 0; // skip hello from peer
+        this.mode = newMode;
+        log.info(newMode == Mode.COMPRESSED ?
+            "Compressing connection with " + method + (peerDictionary ? " and dictionary" : "") :
+            "Peer does not support compression with any of " + factory.getOffer() + ", using plain data");
+        notifyChunksAvailable(); // release outgoing data
+        if (offset == length)
+            return true;
+        ChunkList rest = chunkPool.copyToChunkList(bytes, offset, length - offset, this);
+        if (newMode == Mode.COMPRESSED) {
+            synchronized (inflaterLock) {
+                rest = inflate(rest, this);
+            }
+        }
+        return rest != null && delegate.processChunks(rest, this);
+    }
+
+    private Mode parseHello(ByteArrayInput in) throws IOException {
+        long messageLength = in.readCompactLong();
+        if (messageLength <= 0 || messageLength > MAX_HELLO_LENGTH)
+            return Mode.PLAIN;
+        int messageStart = in.getPosition();
+        if (in.readCompactInt() != MessageType.DESCRIBE_RESERVED.getId())
+            return Mode.PLAIN;
+        if (in.getLimit() - messageStart < messageLength)
+            throw new EOFException();
+        ProtocolDescriptor desc = ProtocolDescriptor.newEmptyProtocolDescriptor();
+        try {
+            desc.parseFrom(in);
+        } catch (IOException e) {
+            return Mode.PLAIN; // some other reserved message
+        }
+        in.setPosition(messageStart + (int) messageLength);
+        String peerOffer = desc.getProperty(ProtocolDescriptor.COMPRESSION_PROPERTY);
+        if (peerOffer == null)
+            return Mode.PLAIN;
+        method = chooseMethod(factory.getOffer(), peerOffer);
+        if (method == null)
+            return Mode.PLAIN; // there is no common method, peer comes to the same conclusion
+        peerDictionary = dictionaryId != null &&
+            dictionaryId.equals(desc.getProperty(ProtocolDescriptor.COMPRESSION_DICTIONARY_PROPERTY));
+        return Mode.COMPRESSED;
+    }
+
+    /**
+     * Returns the first method from our offer that is also offered by peer or {@code null} if there is none.
+     * Both sides compress only when there is a common method, since the decision depends only on both offers.
+     */
+    static String chooseMethod(String offer, String peerOffer) {
+        List<String> peerMethods = new ArrayList<>();
+        for (String m : peerOffer.split(",")) {
+            peerMethods.add(m.trim());
+        }
+        for (String m : offer.split(",")) {
+            if (peerMethods.contains(m.trim()))
+                return m.trim();
+        }
+        return null;
+    }
+
+    // SYNC: inflaterLock
+    private ChunkList inflate(ChunkList inChunks, Object owner) throws DataFormatException {
+        if (inflaterEnded) {
+            inChunks.recycle(owner);
+            return null; // connection is closed
+        }
+        long startTime = System.nanoTime();
+        if (inflater == null)
+            inflater = new Inflater();
+        long inBytes = inChunks.getTotalLength();
+        ChunkList outChunks = chunkPool.getChunkList(this);
+        Chunk outChunk = chunkPool.getChunk(this);
+        int outLength = 0;
+        for (Chunk chunk : inChunks) {
+            inflater.setInput(chunk.getBytes(), chunk.getOffset(), chunk.getLength());
+            while (true) {
+                if (outLength == outChunk.getLength()) {
+                    outChunks.add(outChunk, this);
+                    outChunk = chunkPool.getChunk(this);
+                    outLength = 0;
+                }
+                int n = inflater.inflate(outChunk.getBytes(), outChunk.getOffset() + outLength,
+                    outChunk.getLength() - outLength);
+                outLength += n;
+                if (n > 0)
+                    continue;
+                if (!inflater.needsDictionary())
+                    break;
+                if (!peerDictionary)
+                    throw new DataFormatException("Unexpected dictionary");
+                inflater.setDictionary(dictionary);
+            }
+        }
+        inChunks.recycle(owner);
+        if (outLength == 0) {
+            outChunk.recycle(this);
+        } else {
+            outChunk.setLength(outLength, this);
+            outChunks.add(outChunk, this);
+        }
+        if (connectionStats != null)
+            connectionStats.addDecompression(inBytes, outChunks.getTotalLength(), System.nanoTime() - startTime);
+        return outChunks;
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.devexperts.connector.codec.compress;
+
+import com.devexperts.connector.codec.CodecConnectionFactory;
+import com.devexperts.connector.proto.ApplicationConnection;
+import com.devexperts.connector.proto.ApplicationConnectionFactory;
+import com.devexperts.connector.proto.Configurable;
+import com.devexperts.connector.proto.TransportConnection;
+import com.devexperts.qd.DataField;
+import com.devexperts.qd.DataRecord;
+import com.devexperts.qd.DataScheme;
+import com.devexperts.qd.QDFactory;
+import com.devexperts.qd.qtp.MessageAdapterConnectionFactory;
+import com.devexperts.qd.qtp.QDEndpoint;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+
+public class CompressConnectionFactory extends CodecConnectionFactory {
+    /**
+     * Deflate with default compression level.
+     */
+    public static final String DEFLATE = "deflate";
+
+    /**
+     * Deflate with the fastest compression level that uses only greedy LZ77 matching.
+     * It is several times faster than {@link #DEFLATE} with a slightly worse compression ratio.
+     */
+    public static final String FAST = "fast";
+
+    // all supported methods, streams of any of them are decompressed in the same way
+    private static final String[] METHODS = { DEFLATE, FAST };
+
+    // deflate can refer only to the last 32K of the dictionary
+    private static final int MAX_DICTIONARY_SIZE = 32 * 1024;
+
+    private String method = DEFLATE;
+    private boolean dictionary = true;
+
+    private byte[] dictionaryBytes; // SYNC: this, lazily built
+
+    CompressConnectionFactory(ApplicationConnectionFactory delegate) {
+        super(delegate);
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    @Configurable(description = "preferred compression method: \"deflate\" (default) or \"fast\"")
+    public void setMethod(String method) {
+        if (!method.equals(DEFLATE) && !method.equals(FAST))
+            throw new IllegalArgumentException("\"" + DEFLATE + "\" or \"" + FAST + "\" expected");
+        this.method = method;
+    }
+
+    public boolean isDictionary() {
+        return dictionary;
+    }
+
+    @Configurable(description = "use preset dictionary built from the data scheme (true by default)")
+    public synchronized void setDictionary(boolean dictionary) {
+        this.dictionary = dictionary;
+        dictionaryBytes = null;
+    }
+
+    /**
+     * Returns comma-separated list of supported methods that is offered to peer, starting with the configured one.
+     */
+    String getOffer() {
+        StringBuilder sb = new StringBuilder(method);
+        for (String m : METHODS) {
+            if (!m.equals(method))
+                sb.append(',').append(m);
+        }
+        return sb.toString();
+    }
+
+    static int getLevel(String method) {
+        return method.equals(FAST) ? Deflater.BEST_SPEED : Deflater.DEFAULT_COMPRESSION;
+    }
+
+    synchronized byte[] getDictionaryBytes() {
+        if (!dictionary)
+            return null;
+        if (dictionaryBytes == null) {
+            try {
+                dictionaryBytes = buildDictionary(findScheme());
+            } catch (IllegalArgumentException e) {
+                // default scheme is not found, work without dictionary
+                dictionaryBytes = new byte[0];
+            }
+        }
+        return dictionaryBytes.length == 0 ? null : dictionaryBytes;
+    }
+
+    @Override
+    public ApplicationConnection<?> createConnection(TransportConnection transportConnection) throws IOException {
+        return new CompressConnection(getDelegate(), this, transportConnection);
+    }
+
+    @Override
+    public synchronized CompressConnectionFactory clone() {
+        CompressConnectionFactory clone = (CompressConnectionFactory) super.clone();
+        clone.dictionaryBytes = null; // delegate may be reconfigured with another scheme
+        return clone;
+    }
+
+    public String toString() {
+        return "compress+" + getDelegate().toString();
+    }
+
+    private DataScheme findScheme() {
+        ApplicationConnectionFactory factory = getDelegate();
+        while (factory instanceof CodecConnectionFactory) {
+            factory = ((CodecConnectionFactory) factory).getDelegate();
+        }
+        if (factory instanceof MessageAdapterConnectionFactory) {
+            QDEndpoint endpoint = ((MessageAdapterConnectionFactory) factory).getEndpoint(QDEndpoint.class);
+            if (endpoint != null)
+                return endpoint.getScheme();
+        }
+        return QDFactory.getDefaultScheme();
+    }
+
+    /**
+     * Builds a dictionary from names of records and fields that are repeated in the beginning of each connection
+     * in describe records messages. Peers use the dictionary only when it is the same on both sides.
+     */
+    static byte[] buildDictionary(DataScheme scheme) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < scheme.getRecordCount(); i++) {
+            DataRecord record = scheme.getRecord(i);
+            sb.append(record.getName());
+            for (int j = 0; j < record.getIntFieldCount(); j++) {
+                appendField(sb, record.getIntField(j));
+            }
+            for (int j = 0; j < record.getObjFieldCount(); j++) {
+                appendField(sb, record.getObjField(j));
+            }
+        }
+        byte[] bytes = sb.toString().getBytes(StandardCharsets.UTF_8);
+        return bytes.length <= MAX_DICTIONARY_SIZE ? bytes :
+            Arrays.copyOfRange(bytes, bytes.length - MAX_DICTIONARY_SIZE, bytes.length);
+    }
+
+    private static void appendField(StringBuilder sb, DataField field) {
+        sb.append(field.getPropertyName());
+    }
+}
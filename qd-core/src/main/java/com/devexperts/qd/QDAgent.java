@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2025 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -276,7 +276,23 @@ public interface QDAgent extends RecordProvider, SubscriptionContainer, QDStatsC
          * {@link Thread#interrupt() interrupted}, in which case data processing aborts leaving
          * the interrupt flag set.
          */
-        BLOCK
+        BLOCK,
+
+        /**
+         * Conflate buffered records when buffer overflows.
+         * Older pending records for the same record and symbol are removed from the buffer
+         * when there is a later record for them, so that only the latest values are retrieved.
+         * Records with {@link EventFlag event flags} (parts of transactions and snapshots) are never conflated.
+         * Conflated records are counted in {@link com.devexperts.qd.stats.QDStats.SType#CONFLATED_DATA CONFLATED_DATA} stats.
+         * When records cannot be conflated, the oldest records are dropped as with {@link #DROP_OLDEST}
+         * to keep the buffer within its maximal size.
+         *
+         * <p>This strategy is supported by {@link QDStream stream} agents only.
+         * {@link QDTicker Ticker} agents always keep only the latest values, and
+         * {@link QDHistory history} agents use {@link #DROP_OLDEST} instead of this strategy
+         * (with a warning in log).
+         */
+        CONFLATE
     }
 
     /**
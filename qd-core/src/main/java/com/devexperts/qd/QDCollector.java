@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2025 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -318,6 +318,53 @@ public interface QDCollector extends SubscriptionContainer, QDStatsContainer {
          */
         public SubscriptionFilter getStoreEverythingFilter();
 
+        /**
+         * Specifies filter for {@link QDContract#HISTORY HISTORY} collector that selects records (and symbols)
+         * whose history is stored off heap in direct memory, so that deep history does not increase heap size
+         * and GC pause time. By default, the filter is taken from
+         * {@code com.devexperts.qd.impl.matrix.History.offHeapFilter} system property and
+         * all history is stored on heap when this property is not set.
+         */
+        public Builder<T> withOffHeapHistoryFilter(SubscriptionFilter filter);
+
+        /**
+         * Returns filter for history that is stored off heap or {@code null} if no filter is specified.
+         */
+        public SubscriptionFilter getOffHeapHistoryFilter();
+
+        /**
+         * Specifies that {@link QDContract#TICKER TICKER} collector keeps a version for each stored record
+         * and updates it with a seqlock protocol on the (single) distributing thread, so that
+         * {@link QDTicker#getData getData}, {@link QDTicker#examineData examineData} and data retrieval
+         * by agents never observe partially updated records and never block the writer.
+         * Data is processed without the global lock of the collector unless subscription is being changed
+         * concurrently, so only one thread shall process data at any time in this mode.
+         * It is turned off by default.
+         */
+        public Builder<T> withSingleWriter(boolean singleWriter);
+
+        /**
+         * Returns true if {@link QDContract#TICKER TICKER} collector keeps versioned records for consistent reads.
+         */
+        public boolean isSingleWriter();
+
+        /**
+         * Specifies number of lock stripes for {@link QDContract#TICKER TICKER} collector.
+         * When it is more than one, the stored records are partitioned by symbol hash into the
+         * corresponding number of independently locked segments (it is rounded up to a power of two),
+         * so that data for different symbols is processed concurrently, while subscription changes
+         * still lock the whole collector. Data is processed under the lock of the whole collector
+         * in {@link #withStoreEverything(boolean) store everything} mode.
+         * It is {@code 1} (no striping) by default.
+         * @throws IllegalArgumentException if lockStripes is not positive.
+         */
+        public Builder<T> withLockStripes(int lockStripes);
+
+        /**
+         * Returns number of lock stripes for {@link QDContract#TICKER TICKER} collector.
+         */
+        public int getLockStripes();
+
         /**
          * Specifies symbol striper to be used for collector.
          */
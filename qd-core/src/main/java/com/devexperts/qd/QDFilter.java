@@ -18,6 +18,7 @@ import com.devexperts.qd.ng.RecordCursor;
 import com.devexperts.qd.ng.RecordFilter;
 import com.devexperts.qd.spi.QDFilterFactory;
 import com.devexperts.qd.util.SymbolSet;
+import com.devexperts.qd.util.SymbolSetDelta;
 
 import java.util.ArrayList;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -330,6 +331,18 @@ public abstract class QDFilter implements SubscriptionFilter, StableSubscription
         return updated;
     }
 
+    /**
+     * Returns change of symbols accepted by this updated instance of {@link #isDynamic() dynamic} filter
+     * compared to the instance it was updated from ({@link SymbolSetDelta#getSource() source} of the delta),
+     * or {@code null} if the change is not known. Consumers that keep subscription filtered with the source instance
+     * can unsubscribe only the removed symbols instead of re-filtering all subscription.
+     *
+     * <p>This implementation returns {@code null} and is designed for override.
+     */
+    public SymbolSetDelta getSymbolSetDelta() {
+        return null;
+    }
+
     /**
      * Returns new value of this filter if this is a {@link #isDynamic() dynamic} filter that has updated.
      * Returns {@code this} if this filter has not updated. This method always returns {@code this} when this filter
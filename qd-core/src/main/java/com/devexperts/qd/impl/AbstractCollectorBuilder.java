@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2025 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -38,6 +38,9 @@ public abstract class AbstractCollectorBuilder<T extends QDCollector> implements
     private boolean withEventTimeSequence;
     private boolean storeEverything;
     private SubscriptionFilter storeEverythingFilter;
+    private SubscriptionFilter offHeapHistoryFilter;
+    private boolean singleWriter;
+    private int lockStripes = 1;
     private SymbolStriper striper;
     private TimePeriod stickySubscriptionPeriod;
 
@@ -56,6 +59,9 @@ public abstract class AbstractCollectorBuilder<T extends QDCollector> implements
         withEventTimeSequence = other.hasEventTimeSequence();
         storeEverything = other.isStoreEverything();
         storeEverythingFilter = other.getStoreEverythingFilter();
+        offHeapHistoryFilter = other.getOffHeapHistoryFilter();
+        singleWriter = other.isSingleWriter();
+        lockStripes = other.getLockStripes();
         stickySubscriptionPeriod = other.getStickySubscriptionPeriod();
         striper = other.getStriper();
         return this;
@@ -136,6 +142,41 @@ public abstract class AbstractCollectorBuilder<T extends QDCollector> implements
         return storeEverythingFilter;
     }
 
+    @Override
+    public QDCollector.Builder<T> withOffHeapHistoryFilter(SubscriptionFilter filter) {
+        offHeapHistoryFilter = filter;
+        return this;
+    }
+
+    @Override
+    public SubscriptionFilter getOffHeapHistoryFilter() {
+        return offHeapHistoryFilter;
+    }
+
+    @Override
+    public QDCollector.Builder<T> withSingleWriter(boolean singleWriter) {
+        this.singleWriter = singleWriter;
+        return this;
+    }
+
+    @Override
+    public boolean isSingleWriter() {
+        return singleWriter;
+    }
+
+    @Override
+    public QDCollector.Builder<T> withLockStripes(int lockStripes) {
+        if (lockStripes <= 0)
+            throw new IllegalArgumentException("Invalid number of lock stripes: " + lockStripes);
+        this.lockStripes = lockStripes;
+        return this;
+    }
+
+    @Override
+    public int getLockStripes() {
+        return lockStripes;
+    }
+
     @Override
     public QDCollector.Builder<T> withStriper(SymbolStriper striper) {
         this.striper = striper;
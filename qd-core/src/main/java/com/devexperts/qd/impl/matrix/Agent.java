@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2025 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -86,6 +86,7 @@ final class Agent extends AbstractAgent {
     int nSnapshotHistoryRem; // SYNC: rc(local) -- history only, the remaining size of snapshot batch for next retrieve
     int nSnapshotRetrieved; // SYNC: rc(local) -- balance counter for Ticker & History: last no retrieved from snapshot
     int nRetrieved; // SYNC: rw(local) -- total number of records retrieved from monitoring purposes
+    LatencyTrackingSink latencySink; // SYNC: rw(retrieve) -- created on first retrieve when latencies are tracked
 
     /**
      * Index of the second phase of the ongoing {@code setSubscription} operation or zero.
@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2025 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -14,12 +14,15 @@ package com.devexperts.qd.impl.matrix;
 import com.devexperts.logging.Logging;
 import com.devexperts.qd.DataRecord;
 import com.devexperts.qd.QDAgent;
+import com.devexperts.qd.ng.EventFlag;
 import com.devexperts.qd.ng.RecordBuffer;
 import com.devexperts.qd.ng.RecordCursor;
 import com.devexperts.qd.ng.RecordFilter;
 import com.devexperts.qd.ng.RecordSink;
 import com.devexperts.qd.stats.QDStats;
 
+import java.util.HashMap;
+
 // extensible for test purposes
 class AgentBuffer implements RecordFilter {
     public static final int BASE = 1;
@@ -47,6 +50,10 @@ class AgentBuffer implements RecordFilter {
     private String lastDroppedSymbol = null;
     private DataRecord lastDroppedRecord = null;
 
+    private volatile long conflatedRecords; // volatile to guarantee atomicity of unsynchronized read
+    private int addedSinceConflation; // number of records added since the last conflation
+    private ConflationFilter conflationFilter; // lazily created and reused
+
     AgentBuffer(Agent agent) {
         this.agent = agent;
         this.stats = agent.stats.create(QDStats.SType.AGENT_DATA);
@@ -64,6 +71,12 @@ class AgentBuffer implements RecordFilter {
     }
 
     public void setBufferOverflowStrategyLLocked(QDAgent.BufferOverflowStrategy overflowStrategy) {
+        // linked buffers (History) cannot be conflated and drop oldest records instead
+        if (overflowStrategy == QDAgent.BufferOverflowStrategy.CONFLATE && buffer.getMode().hasLink()) {
+            log.warn(agent.collector.getContract() + " agent [" + agent.getStats().getFullKeyProperties() + "]" +
+                " cannot conflate records, " + QDAgent.BufferOverflowStrategy.DROP_OLDEST + " is used instead");
+            overflowStrategy = QDAgent.BufferOverflowStrategy.DROP_OLDEST;
+        }
         this.overflowStrategy = overflowStrategy;
     }
 
@@ -145,6 +158,8 @@ class AgentBuffer implements RecordFilter {
 
     public RecordCursor addDataAndCompactIfNeeded(RecordCursor cursor) {
         stats.updateAdded(cursor.getRecord().getId());
+        if (overflowStrategy == QDAgent.BufferOverflowStrategy.CONFLATE)
+            addedSinceConflation++;
         return buffer.addDataAndCompactIfNeeded(cursor);
     }
 
@@ -214,8 +229,11 @@ class AgentBuffer implements RecordFilter {
     }
 
     public void dropOldRecords() {
-        if (overflowStrategy != QDAgent.BufferOverflowStrategy.DROP_OLDEST)
-            return;
+        if (overflowStrategy == QDAgent.BufferOverflowStrategy.DROP_OLDEST)
+            dropOldestRecords();
+    }
+
+    private void dropOldestRecords() {
         while (buffer.size() > maxBufferSize) {
             long originalPosition = buffer.getPosition();
             RecordCursor cursor = buffer.next();
@@ -227,6 +245,24 @@ class AgentBuffer implements RecordFilter {
         }
     }
 
+    public void conflateRecords() {
+        if (overflowStrategy != QDAgent.BufferOverflowStrategy.CONFLATE)
+            return;
+        if (buffer.size() <= maxBufferSize)
+            return;
+        // don't rescan until a quarter of the buffer is added to amortize the cost of scan
+        if (addedSinceConflation >= Math.max(1, maxBufferSize / 4)) {
+            addedSinceConflation = 0;
+            if (conflationFilter == null)
+                conflationFilter = new ConflationFilter();
+            conflationFilter.scan();
+            buffer.compact(conflationFilter);
+            conflationFilter.clear();
+        }
+        // records that cannot be conflated are dropped like with DROP_OLDEST strategy to keep buffer size
+        dropOldestRecords();
+    }
+
     private void makeDropped(RecordCursor cursor) {
         lastDroppedCipher = cursor.getCipher();
         lastDroppedSymbol = cursor.getSymbol();
@@ -260,6 +296,10 @@ class AgentBuffer implements RecordFilter {
         return droppedRecords;
     }
 
+    public long getConflatedRecords() {
+        return conflatedRecords;
+    }
+
     public void clear() {
         buffer.clear();
     }
@@ -268,4 +308,102 @@ class AgentBuffer implements RecordFilter {
         stats.close();
     }
 
+    /**
+     * Filter that removes pending records which are superseded by later records with the same record and symbol.
+     * Only records without event flags are conflated. The record without event flags that follows
+     * a {@link EventFlag#TX_PENDING TX_PENDING} one for the same key ends the transaction and is retained, too.
+     */
+    private class ConflationFilter implements RecordFilter {
+        private final HashMap<ConflationKey, ConflationKey> keys = new HashMap<>();
+        private final ConflationKey lookupKey = new ConflationKey();
+
+        // counts conflatable records for each key
+        void scan() {
+            long originalPosition = buffer.getPosition();
+            RecordCursor cursor;
+            while ((cursor = buffer.next()) != null) {
+                ConflationKey key = key(cursor);
+                if (key.isConflatable(cursor.getEventFlags()))
+                    key.count++;
+            }
+            buffer.setPosition(originalPosition);
+            for (ConflationKey key : keys.values()) {
+                key.inTx = false;
+            }
+        }
+
+        @Override
+        public boolean accept(RecordCursor cursor) {
+            ConflationKey key = key(cursor);
+            // all records were counted by scan, so the key is always found
+            if (!key.isConflatable(cursor.getEventFlags()) || --key.count == 0)
+                return true;
+            int rid = cursor.getRecord().getId();
+            stats.updateRemoved(rid);
+            agent.collector.statsConflated.updateAdded(rid);
+            conflatedRecords++;
+            return false;
+        }
+
+        void clear() {
+            keys.clear();
+        }
+
+        private ConflationKey key(RecordCursor cursor) {
+            lookupKey.set(cursor.getRecord(), cursor.getCipher(), cursor.getSymbol());
+            ConflationKey key = keys.get(lookupKey);
+            if (key == null) {
+                key = new ConflationKey();
+                key.set(lookupKey.record, lookupKey.cipher, lookupKey.symbol);
+                keys.put(key, key);
+            }
+            return key;
+        }
+    }
+
+    private static class ConflationKey {
+        DataRecord record;
+        int cipher;
+        String symbol;
+        int hash;
+
+        int count; // number of conflatable records
+        boolean inTx; // true after TX_PENDING record
+
+        void set(DataRecord record, int cipher, String symbol) {
+            this.record = record;
+            this.cipher = cipher;
+            this.symbol = symbol;
+            this.hash = 31 * record.getId() + (cipher != 0 ? cipher : symbol.hashCode());
+        }
+
+        // SIDE EFFECT: tracks transaction state for this key
+        boolean isConflatable(int eventFlags) {
+            if (eventFlags != 0) {
+                if ((eventFlags & EventFlag.TX_PENDING.flag()) != 0)
+                    inTx = true;
+                return false;
+            }
+            if (inTx) {
+                inTx = false; // this record ends transaction
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof ConflationKey))
+                return false;
+            ConflationKey other = (ConflationKey) o;
+            return record == other.record && cipher == other.cipher &&
+                (cipher != 0 || symbol.equals(other.symbol));
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
 }
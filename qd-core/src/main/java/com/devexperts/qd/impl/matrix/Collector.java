@@ -231,6 +231,8 @@ public abstract class Collector extends AbstractCollector implements RecordsCont
     final QDStats stats;
     final QDStats statsStorage;
     final QDStats statsDropped;
+    final QDStats statsConflated;
+    final QDStats statsLatency; // null when latencies are not tracked
 
     final Agent total; // The special agent which contains total subscription and list heads.
 
@@ -264,7 +266,7 @@ public abstract class Collector extends AbstractCollector implements RecordsCont
 
     //======================================= constructor =======================================
 
-    Collector(Builder<?> builder, boolean hasTime, boolean has_storage, boolean has_dropped) {
+    Collector(Builder<?> builder, boolean hasTime, boolean has_storage, boolean has_dropped, boolean has_conflated) {
         super(builder);
         this.management = CollectorManagement.getInstance(builder.getScheme(), getContract(), builder.getStats().getFullKeyProperties());
         this.counters = management.createCounters();
@@ -279,6 +281,8 @@ public abstract class Collector extends AbstractCollector implements RecordsCont
         this.stats = builder.getStats();
         this.statsStorage = has_storage ? stats.create(QDStats.SType.STORAGE_DATA) : null;
         this.statsDropped = has_dropped ? stats.create(QDStats.SType.DROPPED_DATA) : null;
+        this.statsConflated = has_conflated ? stats.create(QDStats.SType.CONFLATED_DATA) : null;
+        this.statsLatency = QDStats.isLatencyTracked() ? stats.create(QDStats.SType.LATENCY) : null;
 
         mapper.incMaxCounter(scheme.getRecordCount());
         QDStats unique_sub_stats = stats.create(QDStats.SType.UNIQUE_SUB);
@@ -416,6 +420,8 @@ public abstract class Collector extends AbstractCollector implements RecordsCont
 
     // returns true if some records still remains in the agent, false if all accumulated records were retrieved.
     boolean retrieveData(Agent agent, RecordSink sink, boolean snapshotOnly) {
+        if (statsLatency != null)
+            return retrieveDataWithLatency(agent, sink, snapshotOnly);
         try {
             return retrieveDataImpl(agent, sink, snapshotOnly);
         } catch (final Throwable error) {
@@ -424,6 +430,22 @@ public abstract class Collector extends AbstractCollector implements RecordsCont
         }
     }
 
+    // SYNC: none (retrieve is not invoked concurrently for the same agent)
+    private boolean retrieveDataWithLatency(Agent agent, RecordSink sink, boolean snapshotOnly) {
+        LatencyTrackingSink latencySink = agent.latencySink;
+        if (latencySink == null)
+            agent.latencySink = latencySink = new LatencyTrackingSink(statsLatency);
+        latencySink.setSink(sink);
+        try {
+            return retrieveDataImpl(agent, latencySink, snapshotOnly);
+        } catch (final Throwable error) {
+            management.setFatalError(error);
+            throw error;
+        } finally {
+            latencySink.setSink(null);
+        }
+    }
+
     // returns true if some records still remains in the agent, false if all accumulated records were retrieved.
     // Ticker, Stream & History override with concrete implementations
     abstract boolean retrieveDataImpl(Agent agent, RecordSink sink, boolean snapshotOnly);
@@ -1479,7 +1501,7 @@ public abstract class Collector extends AbstractCollector implements RecordsCont
 
     // This method can try to allocate memory and die due to OutOfMemoryError.
     // SYNC: none
-    private boolean processRecordSource(Distributor distributor, Distribution dist, RecordSource source) {
+    boolean processRecordSource(Distributor distributor, Distribution dist, RecordSource source) {
         globalLock.lock(CollectorOperation.PROCESS_DATA);
         try {
             return processRecordSourceGLocked(distributor, dist, source);
@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2023 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -22,6 +22,15 @@ import java.util.concurrent.locks.AbstractQueuedSynchronizer;
 /**
  * Specialized exclusive nonreentrant lock for QD global data structures
  * that supports management and "priority" lockers.
+ *
+ * <p>The lock can be also acquired in shared mode with {@link #lockShared(CollectorOperation) lockShared}
+ * by data processing of a striped {@link Ticker}, which protects its storage segments with their own locks.
+ * Shared lockers never barge ahead of queued lockers, so that exclusive lockers are not starved.
+ *
+ * <p>The single writer of a ticker in
+ * {@link com.devexperts.qd.QDCollector.Builder#withSingleWriter single-writer} mode enters the lock with {@link #tryLockWriter() tryLockWriter} that does not touch the synchronizer at all.
+ * It announces itself with a volatile flag and backs off when the lock is taken, while exclusive lockers
+ * wait for the writer to leave after taking the lock, so that they still exclude the writer.
  */
 final class GlobalLock {
     private static final boolean TRACE_LOG = GlobalLock.class.desiredAssertionStatus();
@@ -38,12 +47,14 @@ final class GlobalLock {
     private final Sync sync = new Sync();
 
     /*
-     * last_owner and last_op are read with a data race for debugging purposes only
-     * (to report who holds the lock and for what reason, if entering the lock took too long).
+     * last_owner and last_op are written under exclusive lock and are read with a data race for debugging purposes
+     * only (to report who holds the lock and for what reason, if entering the lock took too long).
      */
     private Thread last_owner;
     private CollectorOperation last_op;
 
+    private volatile boolean writerActive; // SYNC: none, written by the single writer only
+
     private final ThreadLocal<LockedThreadState> state = new ThreadLocal<LockedThreadState>();
 
     GlobalLock(CollectorManagement management, CollectorCounters counters, RecordCursorKeeper keeper) {
@@ -64,31 +75,47 @@ final class GlobalLock {
     }
 
     void lock(CollectorOperation op) {
+        lockImpl(op, false);
+    }
+
+    // SYNC: global shared, data structures that are modified under it shall have their own locks
+    void lockShared(CollectorOperation op) {
+        lockImpl(op, true);
+    }
+
+    private void lockImpl(CollectorOperation op, boolean shared) {
         LockedThreadState state = getLockedThreadState();
         state.checkLevel(LockedThreadState.LOCK_GLOBAL);
         int arg = MANAGED && !management.useLockPriority(op) ? 0 : 1;
         if (MANAGED && management.useLockCounters(op)) {
             state.countEnterGlobal(op);
-            if (sync.tryAcquire(arg))
+            if (shared ? sync.tryAcquireShared(arg) >= 0 : sync.tryAcquire(arg))
                 state.countAcquiredUncontendedGlobal(); // acquires without contention
             else {
-                acquireContended(arg, op);
+                acquireContended(arg, op, shared);
                 state.countAcquiredContendedGlobal();
             }
-        } else
+        } else if (shared)
+            sync.acquireShared(arg);
+        else
             sync.acquire(arg);
-        last_owner = Thread.currentThread();
-        last_op = op;
+        if (!shared) {
+            awaitWriter();
+            // shared lockers run concurrently, so only exclusive lockers record themselves
+            last_owner = Thread.currentThread();
+            last_op = op;
+        }
         state.makeAcquired(LockedThreadState.LOCK_GLOBAL);
         if (TRACE_LOG)
-            log.trace(management.getContract() + " global lock locked for " + op);
+            log.trace(management.getContract() + " global lock locked " + (shared ? "shared " : "") + "for " + op);
     }
 
-    private void acquireContended(int arg, CollectorOperation op) {
+    private void acquireContended(int arg, CollectorOperation op, boolean shared) {
         boolean interrupted = false;
         while (true) {
             try {
-                if (sync.tryAcquireNanos(arg, management.getLockWaitLogIntervalNanos()))
+                long nanos = management.getLockWaitLogIntervalNanos();
+                if (shared ? sync.tryAcquireSharedNanos(arg, nanos) : sync.tryAcquireNanos(arg, nanos))
                     break;
                 /*
                  * Racy read below. Its correctness is based on the fact, that attempt to
@@ -105,6 +132,31 @@ final class GlobalLock {
             Thread.currentThread().interrupt();
     }
 
+    /**
+     * Enters the lock by the single writer without contention with other writers.
+     * Returns false when the lock is held or requested by anybody, so the writer shall use {@link #lock} instead.
+     */
+    // SYNC: none, shall be used by the single writer only
+    boolean tryLockWriter() {
+        writerActive = true;
+        // volatile write above and read of the state below pair with the opposite order in lockImpl and awaitWriter
+        if (sync.isFree())
+            return true;
+        writerActive = false;
+        return false;
+    }
+
+    // SYNC: writer, see tryLockWriter
+    void unlockWriter() {
+        keeper.reset();
+        writerActive = false;
+    }
+
+    private void awaitWriter() {
+        while (writerActive)
+            Thread.yield();
+    }
+
     void unlock() {
         if (TRACE_LOG)
             log.trace(management.getContract() + " global lock unlocking after " + last_op);
@@ -116,6 +168,16 @@ final class GlobalLock {
             state.updateCountersGlobal(counters);
     }
 
+    void unlockShared() {
+        if (TRACE_LOG)
+            log.trace(management.getContract() + " global lock unlocking shared");
+        sync.releaseShared(0);
+        LockedThreadState state = getLockedThreadState();
+        state.makeReleased(LockedThreadState.LOCK_GLOBAL);
+        if (MANAGED)
+            state.updateCountersGlobal(counters);
+    }
+
     void warnTooLong(String type, CollectorOperation op, Thread lastOwner, CollectorOperation last_op) {
         Exception exception = null;
         if (lastOwner != null) {
@@ -129,20 +191,27 @@ final class GlobalLock {
     }
 
     private static final class Sync extends AbstractQueuedSynchronizer {
+        // state is 0 when unlocked, EXCLUSIVE when locked exclusively, or a number of shared lockers
+        private static final int EXCLUSIVE = -1;
+
         Sync() {}
 
+        boolean isFree() {
+            return getState() == 0 && !hasQueuedThreads();
+        }
+
         @Override
         protected boolean tryAcquire(int arg) {
             if (getState() != 0)
                 return false;
             if (arg != 0) {
                 // priority acquire
-                if (compareAndSetState(0, 1))
+                if (compareAndSetState(0, EXCLUSIVE))
                     return true;
             } else {
                 // non-priority (fair) acquire
                 Thread first = getFirstQueuedThread();
-                if ((first == null || first == Thread.currentThread()) && compareAndSetState(0, 1))
+                if ((first == null || first == Thread.currentThread()) && compareAndSetState(0, EXCLUSIVE))
                     return true;
             }
             return false;
@@ -151,10 +220,36 @@ final class GlobalLock {
         @Override
         protected boolean tryRelease(int releases) {
             // paranoia
-            if (getState() == 0)
+            if (getState() != EXCLUSIVE)
                 throw new IllegalStateException("Not locked!!!");
             setState(0);
             return true;
         }
+
+        @Override
+        protected int tryAcquireShared(int arg) {
+            // shared acquire is always fair (regardless of priority) to let exclusive lockers in
+            if (hasQueuedPredecessors())
+                return -1;
+            while (true) {
+                int state = getState();
+                if (state == EXCLUSIVE)
+                    return -1;
+                if (compareAndSetState(state, state + 1))
+                    return 1;
+            }
+        }
+
+        @Override
+        protected boolean tryReleaseShared(int releases) {
+            while (true) {
+                int state = getState();
+                // paranoia
+                if (state <= 0)
+                    throw new IllegalStateException("Not locked shared!!!");
+                if (compareAndSetState(state, state - 1))
+                    return state == 1;
+            }
+        }
     }
 }
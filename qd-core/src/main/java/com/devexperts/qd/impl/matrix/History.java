@@ -19,6 +19,7 @@ import com.devexperts.qd.QDFilter;
 import com.devexperts.qd.QDHistory;
 import com.devexperts.qd.SymbolCodec;
 import com.devexperts.qd.impl.matrix.management.CollectorOperation;
+import com.devexperts.qd.kit.CompositeFilters;
 import com.devexperts.qd.kit.RecordOnlyFilter;
 import com.devexperts.qd.ng.EventFlag;
 import com.devexperts.qd.ng.RecordBuffer;
@@ -58,6 +59,8 @@ public class History extends Collector implements QDHistory {
     // By default, all records except Order are conflated.
     static final String CONFLATE_FILTER = SystemProperties.getProperty(History.class, "conflateFilter",
         FOB_FLAG ? "!(:Order*,:OptionSale)" : "!:OptionSale");
+    // By default, all history buffers are stored on heap.
+    static final String OFF_HEAP_FILTER = SystemProperties.getProperty(History.class, "offHeapFilter", "");
 
     /*
      * Event flags.
@@ -170,6 +173,12 @@ public class History extends Collector implements QDHistory {
     // Filter specifying records to conflate in "unconflated" mode
     private final QDFilter conflateFilter;
 
+    // Filter specifying history buffers that store int fields off heap, null when all are stored on heap
+    private final QDFilter offHeapFilter;
+
+    // Allocator of direct memory for off-heap history buffers, null when all are stored on heap
+    private final OffHeapIntAllocator offHeapAllocator;
+
     private ProcessVersionTracker processVersion = new ProcessVersionTracker();
 
     //======================================= constructor =======================================
@@ -179,7 +188,7 @@ public class History extends Collector implements QDHistory {
     }
 
     protected History(Builder<?> builder, RecordOnlyFilter conflateFilter) {
-        super(builder, true, true, true);
+        super(builder, true, true, true, false);
         HistorySubscriptionFilter historyFilter = builder.getHistoryFilter();
         // If history filter is not specified in builder get it as service.
         if (historyFilter == null)
@@ -188,6 +197,11 @@ public class History extends Collector implements QDHistory {
         if (conflateFilter == null)
             conflateFilter = RecordOnlyFilter.valueOf(CONFLATE_FILTER, builder.getScheme());
         this.conflateFilter = conflateFilter;
+        QDFilter offHeapFilter = builder.getOffHeapHistoryFilter() != null ?
+            QDFilter.fromFilter(builder.getOffHeapHistoryFilter(), builder.getScheme()) :
+            OFF_HEAP_FILTER.isEmpty() ? QDFilter.NOTHING : CompositeFilters.valueOf(OFF_HEAP_FILTER, builder.getScheme());
+        this.offHeapFilter = offHeapFilter == QDFilter.NOTHING ? null : offHeapFilter;
+        this.offHeapAllocator = this.offHeapFilter == null ? null : new OffHeapIntAllocator();
     }
 
     //======================================= methods =======================================
@@ -326,6 +340,7 @@ public class History extends Collector implements QDHistory {
         if (hb != null) {
             statsStorage.updateRemoved(rid, hb.size());
             tsub.setObj(tindex, HISTORY_BUFFER, null); // Let GC clean up HistoryBuffer
+            hb.release(); // but off-heap memory is reused explicitly
         }
     }
 
@@ -682,7 +697,9 @@ public class History extends Collector implements QDHistory {
              */
             HistoryBuffer hb = (HistoryBuffer) tsub.getObj(tindex, HISTORY_BUFFER);
             if (hb == null) { // no history buffer for this symbol+record yet -- create one
-                hb = new HistoryBuffer(record, hasEventTimeSequence());
+                hb = new HistoryBuffer(record, hasEventTimeSequence(),
+                    offHeapFilter != null && offHeapFilter.accept(contract, record, cipher, symbol) ?
+                        offHeapAllocator : null);
                 tsub.setObj(tindex, HISTORY_BUFFER, hb);
             }
 
@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2025 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -32,6 +32,8 @@ import static com.devexperts.qd.impl.matrix.History.TX_PENDING;
 
 /**
  * The <code>HistoryBuffer</code> stores historic values for certain data record and symbol.
+ * Int fields are stored either on heap or off heap in the direct memory managed by {@link OffHeapIntAllocator}
+ * (when the latter is specified), while obj fields are always stored on heap.
  */
 public final class HistoryBuffer {
     private static final Logging log = Logging.getLogging(HistoryBuffer.class);
@@ -53,8 +55,11 @@ public final class HistoryBuffer {
     private final int intStep;
     private final int objStep;
 
+    private final OffHeapIntAllocator allocator; // null when int values are stored on heap
+    private final int[] rowBuffer; // a copy of a single off-heap row for cursors, null when stored on heap
+
     private int mask;
-    private int[] intValues;
+    private HistoryIntArray intValues;
     private Object[] objValues;
 
     private int min;
@@ -154,6 +159,10 @@ public final class HistoryBuffer {
     // ========== constructor ==========
 
     HistoryBuffer(DataRecord record, boolean withEventTimeSequence) {
+        this(record, withEventTimeSequence, null);
+    }
+
+    HistoryBuffer(DataRecord record, boolean withEventTimeSequence, OffHeapIntAllocator allocator) {
         if (!record.hasTime() || record.getIntFieldCount() < 2)
             throw new IllegalArgumentException("Record does not contain time.");
 
@@ -163,18 +172,35 @@ public final class HistoryBuffer {
         intStep = record.getIntFieldCount() + intOffset;
         objStep = record.getObjFieldCount() + objOffset;
 
+        this.allocator = allocator;
+        rowBuffer = allocator == null ? null : new int[intStep];
+
         allocInitial();
     }
 
     private void allocInitial() {
+        HistoryIntArray intValuesNew = HistoryIntArray.allocate(allocator, intStep * INIT_CAPACITY);
+        if (intValues != null)
+            intValues.release();
         min = 0;
         max = 0;
         payloadSize = 0;
         mask = INIT_CAPACITY - 1;
-        intValues = new int[intStep * INIT_CAPACITY];
+        intValues = intValuesNew;
         objValues = objStep == 0 ? null : new Object[objStep * INIT_CAPACITY];
     }
 
+    /**
+     * Releases memory that is held by this buffer outside of heap. This buffer shall not be used afterwards.
+     */
+    void release() {
+        intValues.release();
+    }
+
+    boolean isOffHeap() {
+        return allocator != null;
+    }
+
     // ========== Internal ==========
 
     // checks time invariant
@@ -184,37 +210,31 @@ public final class HistoryBuffer {
     }
 
     private long time(int index) {
-        int place = index * intStep + intOffset;
-        return (((long) intValues[place]) << 32) | (intValues[place + 1] & 0xffffffffL);
+        return intValues.getLong(index * intStep + intOffset);
     }
 
     private boolean isPayload(int index) {
-        return intValues[index * intStep] == PAYLOAD_MARKER;
+        return intValues.get(index * intStep) == PAYLOAD_MARKER;
     }
 
     private void setMarker(int index, int marker) {
-        intValues[index * intStep] = marker;
+        intValues.set(index * intStep, marker);
     }
 
     private void setTime(int index, long time) {
-        int place = index * intStep + intOffset;
-        intValues[place] = (int) (time >>> 32);
-        intValues[place + 1] = (int) time;
+        intValues.setLong(index * intStep + intOffset, time);
     }
 
     private long eventTimeSequence(int index) {
         if (!withEventTimeSequence)
             return 0;
-        int place = index * intStep;
-        return (((long) intValues[place + 1]) << 32) | (intValues[place + 2] & 0xffffffffL);
+        return intValues.getLong(index * intStep + 1);
     }
 
     private void setEventTimeSequence(int index, long eventTimeSequence) {
         if (!withEventTimeSequence)
             return;
-        int place = index * intStep;
-        intValues[place + 1] = (int) (eventTimeSequence >> 32);
-        intValues[place + 2] = (int) eventTimeSequence;
+        intValues.setLong(index * intStep + 1, eventTimeSequence);
     }
 
     /**
@@ -323,6 +343,18 @@ public final class HistoryBuffer {
         }
     }
 
+    /**
+     * Same as {@link #copy(Object, Object, int, int, int)}, but for int values storage.
+     */
+    private static void copy(HistoryIntArray src, HistoryIntArray dst, int head, int tail, int length) {
+        if (tail < head) {
+            src.copyTo(head, dst, 0, length - head);
+            src.copyTo(0, dst, length - head, tail);
+        } else {
+            src.copyTo(head, dst, 0, tail - head);
+        }
+    }
+
     // This method can try to allocate memory and die due to OutOfMemoryError.
     private void ensureFreeSpace(int space) {
         assert space <= mask;
@@ -330,8 +362,9 @@ public final class HistoryBuffer {
         if (mask - overallSize < space) {
             int length = mask + 1;
             int newLength = length << 1;
-            int[] intValuesNew = new int[newLength * intStep];
+            HistoryIntArray intValuesNew = HistoryIntArray.allocate(allocator, newLength * intStep);
             copy(intValues, intValuesNew, min * intStep, max * intStep, length * intStep);
+            intValues.release();
             intValues = intValuesNew;
             if (objStep != 0) {
                 Object[] objValuesNew = new Object[newLength * objStep];
@@ -420,7 +453,7 @@ public final class HistoryBuffer {
      * Moves data through the contiguous range in cyclic array from [index,index+len) to [dest,dest+len).
      */
     private void moveData(int index, int dest, int len) {
-        System.arraycopy(intValues, index * intStep, intValues, dest * intStep, len * intStep);
+        intValues.move(index * intStep, dest * intStep, len * intStep);
         if (objStep != 0) {
             System.arraycopy(objValues, index * objStep, objValues, dest * objStep, len * objStep);
         }
@@ -627,9 +660,7 @@ public final class HistoryBuffer {
 
     private void clearAt(int index) {
         int place = index * intStep;
-        for (int i = 0; i < intStep; i++) {
-            intValues[place + i] = 0;
-        }
+        intValues.clear(place, place + intStep);
         if (objStep != 0) {
             place = index * objStep;
             for (int i = 0; i < objStep; i++) {
@@ -648,13 +679,13 @@ public final class HistoryBuffer {
      */
     private void clear(int start, int end) {
         if (end >= start) {
-            Arrays.fill(intValues, start * intStep, end * intStep, 0);
+            intValues.clear(start * intStep, end * intStep);
             if (objStep != 0) {
                 Arrays.fill(objValues, start * objStep, end * objStep, null);
             }
         } else {
-            Arrays.fill(intValues, start * intStep, intValues.length, 0);
-            Arrays.fill(intValues, 0, end * intStep, 0);
+            intValues.clear(start * intStep, intValues.length());
+            intValues.clear(0, end * intStep);
             if (objStep != 0) {
                 Arrays.fill(objValues, start * objStep, objValues.length, null);
                 Arrays.fill(objValues, 0, end * objStep, null);
@@ -991,7 +1022,7 @@ public final class HistoryBuffer {
             return true;
         }
         // update existing record
-        boolean changed = cursor.updateIntsTo(2, intValues, index * intStep + intOffset + 2, intStep - intOffset - 2);
+        boolean changed = updateIntsFrom(cursor, 2, index * intStep + intOffset + 2, intStep - intOffset - 2);
         if (objStep != 0)
             changed |= cursor.updateObjsTo(0, objValues, index * objStep + objOffset, objStep - objOffset);
         if (changed) {
@@ -1036,13 +1067,34 @@ public final class HistoryBuffer {
      */
     private void putAt(int index, RecordCursor cursor) {
         setMarker(index, PAYLOAD_MARKER);
-        cursor.getIntsTo(0, intValues, index * intStep + intOffset, intStep - intOffset);
+        getIntsFrom(cursor, 0, index * intStep + intOffset, intStep - intOffset);
         if (objStep != 0) {
             cursor.getObjsTo(0, objValues, index * objStep + objOffset, objStep - objOffset);
         }
         setEventTimeSequence(index, cursor.getEventTimeSequence());
     }
 
+    private void getIntsFrom(RecordCursor cursor, int intFieldIndex, int place, int length) {
+        if (rowBuffer == null) {
+            cursor.getIntsTo(intFieldIndex, intValues.array(), place, length);
+            return;
+        }
+        length = Math.min(length, cursor.getIntCount() - intFieldIndex);
+        cursor.getIntsTo(intFieldIndex, rowBuffer, 0, length);
+        intValues.setInts(rowBuffer, 0, place, length);
+    }
+
+    private boolean updateIntsFrom(RecordCursor cursor, int intFieldIndex, int place, int length) {
+        if (rowBuffer == null)
+            return cursor.updateIntsTo(intFieldIndex, intValues.array(), place, length);
+        length = Math.min(length, cursor.getIntCount() - intFieldIndex);
+        intValues.getInts(place, rowBuffer, 0, length);
+        if (!cursor.updateIntsTo(intFieldIndex, rowBuffer, 0, length))
+            return false;
+        intValues.setInts(rowBuffer, 0, place, length);
+        return true;
+    }
+
     // (9) is invoked from processRecordSource
     void enforceMaxRecordCount(int maxRecordCount, QDStats stats, int rid) {
         if (payloadSize <= maxRecordCount) {
@@ -1357,7 +1409,8 @@ public final class HistoryBuffer {
         owner.setReadOnly(true);
         owner.setRecord(record, withEventTimeSequence ? RecordMode.TIMESTAMPED_DATA : RecordMode.DATA);
         owner.setSymbol(cipher, symbol);
-        owner.setArrays(intValues, objValues);
+        // off-heap rows are copied into rowBuffer by examineOne before they are read via cursor
+        owner.setArrays(rowBuffer != null ? rowBuffer : intValues.array(), objValues);
     }
 
     private boolean examineOne(RecordSink sink, Object attachment, RecordCursor.Owner owner, int index,
@@ -1365,7 +1418,12 @@ public final class HistoryBuffer {
     {
         if (!sink.hasCapacity())
             return true;
-        owner.setOffsets(index * intStep + intOffset, index * objStep + objOffset);
+        int intPlace = index * intStep;
+        if (rowBuffer != null) {
+            intValues.getInts(intPlace, rowBuffer, 0, intStep);
+            intPlace = 0;
+        }
+        owner.setOffsets(intPlace + intOffset, index * objStep + objOffset);
         owner.setAttachment(attachment);
         owner.setEventFlags(eventFlags);
         sink.append(owner.cursor());
@@ -1376,6 +1434,7 @@ public final class HistoryBuffer {
     @Override
     public String toString() {
         return "HistoryBuffer{size=" + payloadSize +
+            (allocator != null ? ", offHeap" : "") +
             ", snapshotTime=" + snapshotTime +
             ", everSnapshotTime=" + everSnapshotTime +
             ", snipSnapshotTime=" + snipSnapshotTime +
@@ -1392,7 +1451,7 @@ public final class HistoryBuffer {
      */
     @Internal
     void selfValidate() {
-        assert intValues.length == (mask + 1) * intStep;
+        assert intValues.length() == (mask + 1) * intStep;
         assert objStep == 0 || objValues.length == (mask + 1) * objStep;
         assert min >= 0 && min <= mask;
         assert max >= 0 && max <= mask;
@@ -1416,7 +1475,7 @@ public final class HistoryBuffer {
             // do not check assert time(i) == 0; because of sometimes method `examineSnapshotTime`
             // can write time outside range [min, max)
             for (int j = 3; j < intStep; j++) {
-                assert intValues[i * intStep + j] == 0;
+                assert intValues.get(i * intStep + j) == 0;
             }
 
             if (objStep != 0) {
@@ -0,0 +1,139 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.devexperts.qd.impl.matrix;
+
+import java.util.Arrays;
+
+/**
+ * Storage for int fields of {@link HistoryBuffer}. There are two implementations:
+ * {@link Heap} that is backed by a regular {@code int[]} array and {@link OffHeapIntArray}
+ * that is backed by a chunk of direct memory that is managed by {@link OffHeapIntAllocator}.
+ *
+ * <p>All indices are measured in ints.
+ */
+abstract class HistoryIntArray {
+
+    static HistoryIntArray allocate(OffHeapIntAllocator allocator, int length) {
+        return allocator == null ? new Heap(length) : allocator.allocate(length);
+    }
+
+    abstract int length();
+
+    abstract int get(int index);
+
+    abstract void set(int index, int value);
+
+    final long getLong(int index) {
+        return (((long) get(index)) << 32) | (get(index + 1) & 0xffffffffL);
+    }
+
+    final void setLong(int index, long value) {
+        set(index, (int) (value >>> 32));
+        set(index + 1, (int) value);
+    }
+
+    /**
+     * Copies data inside this array as {@link System#arraycopy} does, ranges may overlap.
+     */
+    abstract void move(int srcPos, int destPos, int length);
+
+    /**
+     * Copies data from this array to another (different) array.
+     */
+    abstract void copyTo(int srcPos, HistoryIntArray dest, int destPos, int length);
+
+    /**
+     * Fills the specified range with zeroes.
+     */
+    abstract void clear(int fromIndex, int toIndex);
+
+    /**
+     * Bulk copy of data from this array into a regular {@code int[]} array.
+     */
+    abstract void getInts(int srcPos, int[] dest, int destPos, int length);
+
+    /**
+     * Bulk copy of data from a regular {@code int[]} array into this array.
+     */
+    abstract void setInts(int[] src, int srcPos, int destPos, int length);
+
+    /**
+     * Returns backing {@code int[]} array for on-heap storage or {@code null} when data is stored off-heap.
+     */
+    abstract int[] array();
+
+    /**
+     * Releases resources held by this array. It shall not be used afterwards.
+     */
+    abstract void release();
+
+    /**
+     * Regular on-heap storage.
+     */
+    static final class Heap extends HistoryIntArray {
+        private final int[] a;
+
+        Heap(int length) {
+            a = new int[length];
+        }
+
+        @Override
+        int length() {
+            return a.length;
+        }
+
+        @Override
+        int get(int index) {
+            return a[index];
+        }
+
+        @Override
+        void set(int index, int value) {
+            a[index] = value;
+        }
+
+        @Override
+        void move(int srcPos, int destPos, int length) {
+            System.arraycopy(a, srcPos, a, destPos, length);
+        }
+
+        @Override
+        void copyTo(int srcPos, HistoryIntArray dest, int destPos, int length) {
+            dest.setInts(a, srcPos, destPos, length);
+        }
+
+        @Override
+        void clear(int fromIndex, int toIndex) {
+            Arrays.fill(a, fromIndex, toIndex, 0);
+        }
+
+        @Override
+        void getInts(int srcPos, int[] dest, int destPos, int length) {
+            System.arraycopy(a, srcPos, dest, destPos, length);
+        }
+
+        @Override
+        void setInts(int[] src, int srcPos, int destPos, int length) {
+            System.arraycopy(src, srcPos, a, destPos, length);
+        }
+
+        @Override
+        int[] array() {
+            return a;
+        }
+
+        @Override
+        void release() {
+            // nothing to do -- let GC clean up
+        }
+    }
+}
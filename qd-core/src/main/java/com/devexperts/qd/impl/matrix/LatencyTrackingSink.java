@@ -0,0 +1,55 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.devexperts.qd.impl.matrix;
+
+import com.devexperts.qd.ng.AbstractRecordSink;
+import com.devexperts.qd.ng.RecordCursor;
+import com.devexperts.qd.ng.RecordSink;
+import com.devexperts.qd.stats.QDStats;
+import com.devexperts.qd.util.TimeMarkUtil;
+
+/**
+ * Sink that tracks latencies of a sample of retrieved records and passes them to the actual sink.
+ * It is reused by its agent for each retrieval.
+ */
+final class LatencyTrackingSink extends AbstractRecordSink {
+    private final QDStats stats;
+    private RecordSink sink;
+
+    LatencyTrackingSink(QDStats stats) {
+        this.stats = stats;
+    }
+
+    void setSink(RecordSink sink) {
+        this.sink = sink;
+    }
+
+    @Override
+    public boolean hasCapacity() {
+        return sink.hasCapacity();
+    }
+
+    @Override
+    public void append(RecordCursor cursor) {
+        int timeMark = cursor.getTimeMark();
+        if (QDStats.isLatencySampled(timeMark)) {
+            stats.updateLatency(QDStats.LatencyPoint.RETRIEVE, cursor.getRecord().getId(),
+                TimeMarkUtil.signedDeltaMark(TimeMarkUtil.currentTimeMark() - timeMark));
+        }
+        sink.append(cursor);
+    }
+
+    @Override
+    public void flush() {
+        sink.flush();
+    }
+}
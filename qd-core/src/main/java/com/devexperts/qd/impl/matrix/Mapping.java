@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2021 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -57,7 +57,7 @@ final class Mapping {
     private final int[] keys; // [index] -> key; used for hashing by key.
     private final int[] counters; // [index] -> counter;
     private final String[] symbols; // [index] -> symbol;
-    private final int[] indices; // [position] -> index; used for hashing by symbol.
+    private final long[] indices; // [position] -> (symbol hash << 32) | index; used for hashing by symbol.
 
     private int overall_size;
     private int payload_size;
@@ -74,7 +74,7 @@ final class Mapping {
         keys = new int[length];
         counters = new int[length];
         symbols = new String[length];
-        indices = new int[length];
+        indices = new long[length];
     }
 
     // ========== Internal ==========
@@ -94,12 +94,31 @@ final class Mapping {
         return index;
     }
 
+    // SYNC: none
+    private static long entry(int hash, int index) {
+        return ((long) hash << 32) | index;
+    }
+
+    // SYNC: none
+    private static int index(long entry) {
+        return (int) entry;
+    }
+
+    // Symbol hash is kept next to the index, so that colliding positions are skipped
+    // without touching symbols and their chars which are scattered across the heap.
+    // SYNC: none
+    private static boolean hashEquals(long entry, int hash) {
+        return (int) (entry >>> 32) == hash;
+    }
+
     // SYNC: none
     private int getPosition(String symbol, int miss_mask) {
-        int position = (symbol.hashCode() * magic) >>> shift;
+        int hash = symbol.hashCode();
+        int position = (hash * magic) >>> shift;
+        long test_entry;
         int test_index;
-        while ((test_index = indices[position]) != 0 || position == 0) {
-            if (symbol.equals(symbols[test_index]))
+        while ((test_index = index(test_entry = indices[position])) != 0 || position == 0) {
+            if (hashEquals(test_entry, hash) && symbol.equals(symbols[test_index]))
                 return position;
             if (position == 0)
                 position = indices.length;
@@ -112,9 +131,10 @@ final class Mapping {
     private int getPosition(char[] chars, int offset, int length, int miss_mask) {
         int hash = StringUtil.hashCode(chars, offset, length);
         int position = (hash * magic) >>> shift;
+        long test_entry;
         int test_index;
-        while ((test_index = indices[position]) != 0 || position == 0) {
-            if (StringUtil.equals(symbols[test_index], chars, offset, length, hash))
+        while ((test_index = index(test_entry = indices[position])) != 0 || position == 0) {
+            if (hashEquals(test_entry, hash) && StringUtil.equals(symbols[test_index], chars, offset, length))
                 return position;
             if (position == 0)
                 position = indices.length;
@@ -130,7 +150,7 @@ final class Mapping {
      */
     // SYNC: none
     int getKey(String symbol) {
-        return keys[indices[getPosition(symbol, 0)]];
+        return keys[index(indices[getPosition(symbol, 0)])];
     }
 
     /**
@@ -138,7 +158,7 @@ final class Mapping {
      */
     // SYNC: none
     int getKey(char[] chars, int offset, int length) {
-        return keys[indices[getPosition(chars, offset, length, 0)]];
+        return keys[index(indices[getPosition(chars, offset, length, 0)])];
     }
 
     /*
@@ -177,10 +197,11 @@ final class Mapping {
     String getSymbolIfPresent(char[] chars, int offset, int length) {
         int hash = StringUtil.hashCode(chars, offset, length);
         int position = (hash * magic) >>> shift;
+        long test_entry;
         int test_index;
-        while ((test_index = indices[position]) != 0 || position == 0) {
+        while ((test_index = index(test_entry = indices[position])) != 0 || position == 0) {
             String symbol = symbols[test_index];
-            if (StringUtil.equals(symbol, chars, offset, length, hash))
+            if (hashEquals(test_entry, hash) && StringUtil.equals(symbol, chars, offset, length))
                 return symbol;
             if (position == 0)
                 position = indices.length;
@@ -198,7 +219,7 @@ final class Mapping {
     // SYNC: global
     int addKey(String symbol) {
         int position = getPosition(symbol, -1);
-        int key = keys[indices[position]];
+        int key = keys[index(indices[position])];
         if (key != 0)
             return key;
         return addKey(symbol, position);
@@ -211,7 +232,7 @@ final class Mapping {
     // SYNC: global
     int addKey(char[] chars, int offset, int length) {
         int position = getPosition(chars, offset, length, -1);
-        int key = keys[indices[position]];
+        int key = keys[index(indices[position])];
         if (key != 0)
             return key;
         return addKey(new String(chars, offset, length), position);
@@ -231,7 +252,7 @@ final class Mapping {
             throw FatalError.fatal(owner, "Dirty counter for key=" + key + ", symbol=" + symbol);
         keys[index] = key;
         symbols[index] = symbol;
-        indices[position] = index;
+        indices[position] = entry(symbol.hashCode(), index);
         overall_size++;
         return last_assigned_key = key;
     }
@@ -315,12 +336,12 @@ final class Mapping {
             if (dest.keys[dest_index] != 0)
                 throw FatalError.fatal(owner, "Repeated key=" + key + ", symbol=" + symbols[index]);
             int dest_position = dest.getPosition(symbol, -1);
-            if (dest.indices[dest_position] != 0)
+            if (index(dest.indices[dest_position]) != 0)
                 throw FatalError.fatal(owner, "Repeated symbol=" + symbols[index] + ", key=" + key);
             dest.keys[dest_index] = key;
             dest.counters[dest_index] = counter;
             dest.symbols[dest_index] = symbol;
-            dest.indices[dest_position] = dest_index;
+            dest.indices[dest_position] = entry(symbol.hashCode(), dest_index);
             copied++;
         }
         if (copied != payload_size)
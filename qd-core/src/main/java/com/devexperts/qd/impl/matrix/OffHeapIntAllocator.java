@@ -0,0 +1,110 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.devexperts.qd.impl.matrix;
+
+import com.devexperts.util.SystemProperties;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Slab allocator of direct memory for {@link OffHeapIntArray} instances.
+ * Memory is reserved from the OS in large slabs and carved into chunks of exact requested size.
+ * Released chunks are kept in per-size free lists and are reused for subsequent allocations of the same size.
+ * {@link HistoryBuffer} capacities are always powers of 2 multiplied by record-specific step, so the number
+ * of distinct sizes is small and free lists are reused efficiently.
+ *
+ * <p>Slabs are never returned to the OS while the allocator is alive. They are released by GC together
+ * with the allocator when the owning collector is no longer reachable.
+ *
+ * <p><b>SYNC:</b> global lock of the owning collector. The allocator is used only by {@link HistoryBuffer}
+ * instances of the collector storage, which are allocated, grown and released under global lock.
+ */
+final class OffHeapIntAllocator {
+    static final int DEFAULT_SLAB_SIZE = SystemProperties.getIntProperty(
+        OffHeapIntAllocator.class, "slabSize", 16 << 20, 1 << 12, 1 << 30);
+
+    private final int slabSize; // in bytes
+    private final Map<Integer, ArrayDeque<IntBuffer>> freeChunks = new HashMap<>();
+
+    private ByteBuffer slab; // current slab for new chunks, null when there is none yet
+    private long reservedBytes; // total size of all slabs and dedicated chunks
+    private long usedBytes; // total size of all allocated and not released chunks
+
+    OffHeapIntAllocator() {
+        this(DEFAULT_SLAB_SIZE);
+    }
+
+    OffHeapIntAllocator(int slabSize) {
+        this.slabSize = slabSize & ~3; // keep int alignment
+    }
+
+    OffHeapIntArray allocate(int length) {
+        if (length <= 0 || length > Integer.MAX_VALUE >> 2)
+            throw new IllegalArgumentException("Invalid length: " + length);
+        ArrayDeque<IntBuffer> free = freeChunks.get(length);
+        IntBuffer chunk = free == null ? null : free.pollFirst();
+        boolean recycled = chunk != null;
+        if (!recycled)
+            chunk = newChunk(length << 2).asIntBuffer();
+        OffHeapIntArray result = new OffHeapIntArray(this, chunk);
+        if (recycled)
+            result.clear(0, length); // recycled memory has to be zeroed, fresh direct memory is already zeroed
+        usedBytes += (long) length << 2;
+        return result;
+    }
+
+    void free(IntBuffer chunk) {
+        usedBytes -= (long) chunk.capacity() << 2;
+        freeChunks.computeIfAbsent(chunk.capacity(), k -> new ArrayDeque<>()).addFirst(chunk);
+    }
+
+    long getReservedBytes() {
+        return reservedBytes;
+    }
+
+    long getUsedBytes() {
+        return usedBytes;
+    }
+
+    // This method can try to allocate memory and die due to OutOfMemoryError.
+    private ByteBuffer newChunk(int bytes) {
+        if (bytes > slabSize >> 2) {
+            // large chunks are allocated directly so that they do not waste slab tails
+            reservedBytes += bytes;
+            return ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+        }
+        if (slab == null || slab.remaining() < bytes) {
+            // the rest of the current slab (if any) is wasted, but it is at most 1/4 of the slab
+            slab = ByteBuffer.allocateDirect(slabSize).order(ByteOrder.nativeOrder());
+            reservedBytes += slabSize;
+        }
+        int position = slab.position();
+        slab.limit(position + bytes);
+        ByteBuffer chunk = slab.slice().order(ByteOrder.nativeOrder());
+        slab.limit(slab.capacity());
+        slab.position(position + bytes);
+        return chunk;
+    }
+
+    @Override
+    public String toString() {
+        return "OffHeapIntAllocator{" +
+            "reserved=" + reservedBytes +
+            ", used=" + usedBytes +
+            '}';
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.devexperts.qd.impl.matrix;
+
+import com.devexperts.util.UnsafeHolder;
+import sun.misc.Unsafe;
+
+import java.nio.Buffer;
+import java.nio.IntBuffer;
+
+/**
+ * Off-heap storage for int fields of {@link HistoryBuffer} that is backed by a chunk of direct memory.
+ * Chunks are allocated and recycled by {@link OffHeapIntAllocator}.
+ */
+final class OffHeapIntArray extends HistoryIntArray {
+    private static final int[] ZEROES = new int[1024];
+
+    private static final Unsafe UNSAFE = UnsafeHolder.UNSAFE;
+    private static final long ADDRESS_OFFSET;
+
+    static {
+        try {
+            ADDRESS_OFFSET = UNSAFE.objectFieldOffset(Buffer.class.getDeclaredField("address"));
+        } catch (NoSuchFieldException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final OffHeapIntAllocator allocator;
+    private final long address; // address of the first int of the chunk
+    private IntBuffer buf; // null when released
+
+    OffHeapIntArray(OffHeapIntAllocator allocator, IntBuffer buf) {
+        this.allocator = allocator;
+        this.address = UNSAFE.getLong(buf, ADDRESS_OFFSET);
+        this.buf = buf;
+    }
+
+    @Override
+    int length() {
+        return buf.capacity();
+    }
+
+    @Override
+    int get(int index) {
+        return buf.get(index);
+    }
+
+    @Override
+    void set(int index, int value) {
+        buf.put(index, value);
+    }
+
+    @Override
+    void move(int srcPos, int destPos, int length) {
+        // memory is not checked by Unsafe, so bounds are checked here
+        int capacity = buf.capacity();
+        if ((srcPos | destPos | length) < 0 || srcPos > capacity - length || destPos > capacity - length)
+            throw new IndexOutOfBoundsException("srcPos=" + srcPos + ", destPos=" + destPos + ", length=" + length);
+        // copyMemory works for overlapping regions like System.arraycopy
+        UNSAFE.copyMemory(address + ((long) srcPos << 2), address + ((long) destPos << 2), (long) length << 2);
+    }
+
+    @Override
+    void copyTo(int srcPos, HistoryIntArray dest, int destPos, int length) {
+        if (dest instanceof OffHeapIntArray) {
+            IntBuffer destBuf = ((OffHeapIntArray) dest).buf;
+            buf.limit(srcPos + length);
+            buf.position(srcPos);
+            destBuf.position(destPos);
+            destBuf.put(buf);
+            buf.clear();
+            destBuf.clear();
+        } else {
+            getInts(srcPos, dest.array(), destPos, length);
+        }
+    }
+
+    @Override
+    void clear(int fromIndex, int toIndex) {
+        buf.position(fromIndex);
+        for (int remaining = toIndex - fromIndex; remaining > 0; remaining -= ZEROES.length) {
+            buf.put(ZEROES, 0, Math.min(remaining, ZEROES.length));
+        }
+        buf.clear();
+    }
+
+    @Override
+    void getInts(int srcPos, int[] dest, int destPos, int length) {
+        buf.position(srcPos);
+        buf.get(dest, destPos, length);
+        buf.clear();
+    }
+
+    @Override
+    void setInts(int[] src, int srcPos, int destPos, int length) {
+        buf.position(destPos);
+        buf.put(src, srcPos, length);
+        buf.clear();
+    }
+
+    @Override
+    int[] array() {
+        return null;
+    }
+
+    @Override
+    void release() {
+        if (buf != null) {
+            allocator.free(buf);
+            buf = null;
+        }
+    }
+}
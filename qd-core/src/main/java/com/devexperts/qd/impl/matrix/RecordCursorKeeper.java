@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2021 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -14,6 +14,8 @@ package com.devexperts.qd.impl.matrix;
 import com.devexperts.qd.DataRecord;
 import com.devexperts.qd.ng.RecordCursor;
 
+import java.util.Arrays;
+
 /**
  * Pools one record cursor for usage during distribution and retrieval of data.
  * <b>This class is not thread-safe.</b>
@@ -22,6 +24,12 @@ final class RecordCursorKeeper {
     private final RecordCursor.Owner owner = RecordCursor.allocateOwner();
     private Object lastObject;
 
+    // scratch copy of a record for versioned TickerMatrix, allocated on first use
+    private RecordCursor.Owner snapshotOwner;
+    private TickerMatrix lastSnapshotMatrix;
+    private int[] snapshotInts;
+    private Object[] snapshotObjs;
+
     RecordCursor.Owner getForTickerMatrix(TickerMatrix matrix, boolean readOnly) {
         if (lastObject != matrix) {
             lastObject = matrix;
@@ -38,11 +46,40 @@ final class RecordCursorKeeper {
         return owner;
     }
 
+    RecordCursor.Owner getSnapshotForTickerMatrix(TickerMatrix matrix, int intCount, int objCount) {
+        if (lastSnapshotMatrix != matrix) {
+            lastSnapshotMatrix = matrix;
+            if (snapshotOwner == null)
+                snapshotOwner = RecordCursor.allocateOwner();
+            if (snapshotInts == null || snapshotInts.length < intCount)
+                snapshotInts = new int[intCount];
+            if (objCount != 0 && (snapshotObjs == null || snapshotObjs.length < objCount))
+                snapshotObjs = new Object[objCount];
+            matrix.setupOwner(snapshotOwner, true);
+            snapshotOwner.setArrays(snapshotInts, snapshotObjs);
+        }
+        return snapshotOwner;
+    }
+
+    int[] getSnapshotInts() {
+        return snapshotInts;
+    }
+
+    Object[] getSnapshotObjs() {
+        return snapshotObjs;
+    }
+
     // Automatically invoked from GlobalLock.unlock()
     void reset() {
         if (lastObject != null) {
             lastObject = null;
             owner.reset();
         }
+        if (lastSnapshotMatrix != null) {
+            lastSnapshotMatrix = null;
+            snapshotOwner.reset();
+            if (snapshotObjs != null)
+                Arrays.fill(snapshotObjs, null); // don't retain references to data objects
+        }
     }
 }
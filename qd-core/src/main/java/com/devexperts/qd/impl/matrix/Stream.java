@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2024 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -30,7 +30,7 @@ class Stream extends Collector implements QDStream {
     private final int wildcardCipher;
 
     Stream(Builder<?> builder) {
-        super(builder, false, false, true);
+        super(builder, false, false, true, true);
         wildcardCipher = scheme.getCodec().getWildcardCipher();
     }
 
@@ -164,6 +164,7 @@ class Stream extends Collector implements QDStream {
             }
         }
         agent.buffer.dropOldRecords();
+        agent.buffer.conflateRecords();
         agent.buffer.logDrops(agent);
         return 0;
     }
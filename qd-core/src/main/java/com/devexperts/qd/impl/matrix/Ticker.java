@@ -25,17 +25,57 @@ import com.devexperts.util.SystemProperties;
 
 /**
  * The <code>Ticker</code> is a matrix-based implementation of {@link QDTicker}.
+ *
+ * <p>When it is built with more than one {@link Builder#withLockStripes lock stripes},
+ * the storage is partitioned by key hash into segments, so that incoming data is processed under
+ * shared global lock and a lock of the corresponding segment (unless it stores everything). All agents and total subscription are
+ * modified only under exclusive global lock, so they stay unchanged while data is processed, and
+ * {@link Mapper} is modified by data processing only on insertion of a new record or on rehash
+ * of the storage that are synchronized on {@link #mapperLock}.
+ *
+ * <p>When it is built {@link Builder#withSingleWriter with single writer}, incoming data is processed
+ * without global lock (see {@link GlobalLock#tryLockWriter()}) unless subscription is being changed.
  */
 class Ticker extends Collector implements QDTicker {
 
     protected static final int RETRIEVE_BATCH_SIZE = SystemProperties.getIntProperty(
         Ticker.class, "retrieveBatchSize", 100, 1, Integer.MAX_VALUE);
 
-    private final TickerStorage storage; // SYNC: global
+    private static final int SEGMENT_MAGIC = 0x9E3779B9; // golden ratio to spread keys between segments
+    private static final int MAX_SEGMENTS = 1 << 16;
+
+    private final boolean singleWriter;
+    private final Segment[] segments; // SYNC: global or global shared + segment
+    private final int segmentShift;
+    private final Object mapperLock = new Object(); // SYNC: global shared + segment
 
     Ticker(Builder<?> builder) {
-        super(builder, false, true, false);
-        storage = new TickerStorage(scheme, mapper, statsStorage, builder.hasEventTimeSequence());
+        super(builder, false, true, false, false);
+        singleWriter = builder.isSingleWriter();
+        // round up to a power of two
+        int stripes = Integer.highestOneBit(Math.min(builder.getLockStripes(), MAX_SEGMENTS) * 2 - 1);
+        segments = new Segment[stripes];
+        for (int i = 0; i < stripes; i++) {
+            segments[i] = new Segment(new TickerStorage(scheme, mapper, statsStorage,
+                builder.hasEventTimeSequence(), singleWriter));
+        }
+        segmentShift = 32 - Integer.numberOfTrailingZeros(stripes);
+    }
+
+    private boolean isStriped() {
+        return segments.length > 1;
+    }
+
+    private Segment getSegment(int key) {
+        return segments.length == 1 ? segments[0] : segments[(key * SEGMENT_MAGIC) >>> segmentShift];
+    }
+
+    private TickerStorage getStorage(int key) {
+        return getSegment(key).storage;
+    }
+
+    private TickerMatrix getMatrix(DataRecord record, int cipher, String symbol) {
+        return getStorage(isStriped() ? getKey(cipher, symbol) : 0).getMatrix(getRid(record));
     }
 
     @Override
@@ -112,7 +152,7 @@ class Ticker extends Collector implements QDTicker {
      */
     // SYNC: local (it is invoked from retrieve(Snapshot/Data)LLocked
     boolean getRecordData(Agent agent, RecordSink sink, int key, int rid, int mark, Object attachment) {
-        return storage.getMatrix(rid).getRecordData(key, sink, agent.retrievalKeeper, mark, attachment);
+        return getStorage(key).getMatrix(rid).getRecordData(key, sink, agent.retrievalKeeper, mark, attachment);
     }
 
     // This method can try to allocate a lot of memory for rehash and die due to OutOfMemoryError.
@@ -121,7 +161,7 @@ class Ticker extends Collector implements QDTicker {
     boolean totalRecordRemoved(int key, int rid, SubMatrix tsub, int tindex) {
         super.totalRecordRemoved(key, rid, tsub, tindex);
         if (!shouldStoreEverything(key, rid))
-            storage.removeRecord(key, rid);
+            getStorage(key).removeRecord(key, rid);
         return true;
     }
 
@@ -138,7 +178,7 @@ class Ticker extends Collector implements QDTicker {
         // check data in storage
         int key = asub.getInt(aindex + KEY);
         int rid = asub.getInt(aindex + RID);
-        if (!storage.getMatrix(rid).hasRecord(key))
+        if (!getStorage(key).getMatrix(rid).hasRecord(key))
             return;  // don't have any data in storage -- we'll be waiting
         if (agent.snapshotQueue.linkToQueue(agent, aindex, SNAPSHOT_QUEUE, true))
             subNotifyAccumulator |= NOTIFY_SUB_SNAPSHOT_AVAILABLE; // added first entry -- notify listener when done
@@ -195,7 +235,7 @@ class Ticker extends Collector implements QDTicker {
             } else if (nagent <= 0 && nagent != NO_NEXT_AGENT_STICKY_DELAY) {
                 continue; // No subscription -- ignore incoming event (unless storing everything or sticky subscription)
             }
-            if (!storage.putRecordCursor(key, rid, cursor, keeper))
+            if (!getStorage(key).putRecordCursor(key, rid, cursor, keeper))
                 continue;
             processor.processAgentsList(nagent, tsub.getInt(tindex + NEXT_INDEX), cursor.getTimeMark(), rid);
             if (!dist.hasCapacity())
@@ -205,6 +245,72 @@ class Ticker extends Collector implements QDTicker {
         return cursor != null;
     }
 
+    // This method can try to allocate memory and die due to OutOfMemoryError.
+    // SYNC: none
+    @Override
+    boolean processRecordSource(Distributor distributor, Distribution dist, RecordSource source) {
+        // single writer excludes subscription changes without global lock unless they are in progress
+        if (singleWriter && globalLock.tryLockWriter()) {
+            try {
+                return processRecordSourceGLocked(distributor, dist, source);
+            } finally {
+                globalLock.unlockWriter();
+            }
+        }
+        // store everything adds new keys to mapper, so it needs exclusive global lock
+        if (!isStriped() || storeEverything)
+            return super.processRecordSource(distributor, dist, source);
+        globalLock.lockShared(CollectorOperation.PROCESS_DATA);
+        try {
+            return processRecordSourceSLocked(dist, source);
+        } finally {
+            globalLock.unlockShared();
+        }
+    }
+
+    // This method can try to allocate memory and die due to OutOfMemoryError.
+    // SYNC: global shared
+    private boolean processRecordSourceSLocked(Distribution dist, RecordSource source) {
+        AgentProcessor processor = dist.getProcessor(management.getInterleave());
+        SubMatrix tsub = total.sub;
+        RecordCursor cursor;
+        while ((cursor = source.next()) != null) {
+            int rid = getRid(cursor.getRecord());
+            dist.countIncomingRecord(rid);
+            // keys are stable, because mapper is not rehashed in shared mode (there is no store everything)
+            int key = getKey(cursor.getCipher(), cursor.getSymbol());
+            int tindex = tsub.getIndex(key, rid, 0);
+            int nagent = tsub.getInt(tindex + NEXT_AGENT);
+            if (nagent <= 0 && nagent != NO_NEXT_AGENT_STICKY_DELAY)
+                continue; // No subscription -- ignore incoming event (unless sticky subscription)
+            if (!putRecordCursorSLocked(key, rid, cursor))
+                continue;
+            processor.processAgentsList(nagent, tsub.getInt(tindex + NEXT_INDEX), cursor.getTimeMark(), rid);
+            if (!dist.hasCapacity())
+                break;
+        }
+        processor.flush();
+        return cursor != null;
+    }
+
+    // This method can try to allocate a lot of memory for rehash and die due to OutOfMemoryError.
+    // SYNC: global shared
+    private boolean putRecordCursorSLocked(int key, int rid, RecordCursor cursor) {
+        Segment segment = getSegment(key);
+        synchronized (segment) {
+            try {
+                if (segment.storage.needsMapperUpdate(key, rid)) {
+                    synchronized (mapperLock) {
+                        return segment.storage.putRecordCursor(key, rid, cursor, segment.keeper);
+                    }
+                }
+                return segment.storage.putRecordCursor(key, rid, cursor, segment.keeper);
+            } finally {
+                segment.keeper.reset();
+            }
+        }
+    }
+
     // SYNC: local
     @Override
     int processAgentDataUpdate(Distribution dist, RecordSource buffer, Agent agent) {
@@ -243,14 +349,14 @@ class Ticker extends Collector implements QDTicker {
         int key = asub.getInt(aindex + KEY);
         int rid = asub.getInt(aindex + RID);
         Object attachment = agent.hasAttachmentStrategy() ? asub.getObj(aindex, ATTACHMENT) : null;
-        storage.getMatrix(rid).examineDataAlways(key, getCipher(key), getSymbol(key), sink, keeper, attachment);
+        getStorage(key).getMatrix(rid).examineDataAlways(key, getCipher(key), getSymbol(key), sink, keeper, attachment);
     }
 
     // ========== QDTicker Implementation ==========
 
     @Override
     public boolean isAvailable(DataRecord record, int cipher, String symbol) {
-        return storage.getMatrix(getRid(record)).isAvailable(cipher, symbol);
+        return getMatrix(record, cipher, symbol).isAvailable(cipher, symbol);
     }
 
     @Override
@@ -268,41 +374,45 @@ class Ticker extends Collector implements QDTicker {
         while ((cur = source.next()) != null) {
             int rid = getRid(cur.getRecord());
             int key = getKey(cur.getCipher(), cur.getSymbol());
-            storage.removeRecord(key, rid);
+            getStorage(key).removeRecord(key, rid);
         }
     }
 
     @Override
     public int getInt(DataIntField field, int cipher, String symbol) {
-        return storage.getMatrix(getRid(field.getRecord())).getInt(cipher, symbol, field.getIndex());
+        return getMatrix(field.getRecord(), cipher, symbol).getInt(cipher, symbol, field.getIndex());
     }
 
     @Override
     public Object getObj(DataObjField field, int cipher, String symbol) {
-        return storage.getMatrix(getRid(field.getRecord())).getObj(cipher, symbol, field.getIndex());
+        return getMatrix(field.getRecord(), cipher, symbol).getObj(cipher, symbol, field.getIndex());
     }
 
     @Override
     public void getData(RecordCursor.Owner owner, DataRecord record, int cipher, String symbol) {
-        storage.getMatrix(getRid(record)).getData(owner, cipher, symbol);
+        getMatrix(record, cipher, symbol).getData(owner, cipher, symbol);
     }
 
     @Override
     public boolean getDataIfAvailable(RecordCursor.Owner owner, DataRecord record, int cipher, String symbol) {
-        return storage.getMatrix(getRid(record)).getDataIfAvailable(owner, cipher, symbol);
+        return getMatrix(record, cipher, symbol).getDataIfAvailable(owner, cipher, symbol);
     }
 
     @Override
     public boolean getDataIfSubscribed(RecordCursor.Owner owner, DataRecord record, int cipher, String symbol) {
         if (!total.isSubscribed(record, cipher, symbol, 0))
             return false;
-        storage.getMatrix(getRid(record)).getData(owner, cipher, symbol);
+        getMatrix(record, cipher, symbol).getData(owner, cipher, symbol);
         return true;
     }
 
     @Override
     public boolean examineData(RecordSink sink) {
-        return storage.examineData(sink);
+        for (Segment segment : segments) {
+            if (segment.storage.examineData(sink))
+                return true;
+        }
+        return false;
     }
 
     @Override
@@ -334,8 +444,18 @@ class Ticker extends Collector implements QDTicker {
     @Override
     <T extends CollectorDebug.SymbolReferenceVisitor> T visitSymbols(T srv, CollectorDebug.RehashCrashInfo rci) {
         super.visitSymbols(srv, rci);
-        storage.visitStorageSymbols(srv);
+        for (Segment segment : segments) {
+            segment.storage.visitStorageSymbols(srv);
+        }
         return srv;
     }
 
+    private static final class Segment {
+        final TickerStorage storage;
+        final RecordCursorKeeper keeper = new RecordCursorKeeper(); // SYNC: global shared + segment
+
+        Segment(TickerStorage storage) {
+            this.storage = storage;
+        }
+    }
 }
@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2021 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -17,6 +17,7 @@ import com.devexperts.qd.ng.RecordCursor;
 import com.devexperts.qd.ng.RecordMode;
 import com.devexperts.qd.ng.RecordSink;
 import com.devexperts.qd.stats.QDStats;
+import com.devexperts.util.UnsafeHolder;
 
 /**
  * The <code>TickerMatrix</code> stores current values of certain data record
@@ -28,19 +29,40 @@ import com.devexperts.qd.stats.QDStats;
  * inherited from appropriate structural global lock of QD. For convenience
  * and maintainability, all write access must be performed only via corresponding
  * {@link TickerStorage} instance.
+ * <p>
+ * In versioned mode each record has an additional {@link #VERSION} word that is updated by the writer
+ * with a seqlock protocol: it is odd while the record is being updated and even otherwise. Readers copy
+ * the record and retry when the version was odd or has changed during the copy, so they never observe
+ * partially updated records. This protocol requires a single writer at a time, which is guaranteed by
+ * the global lock or by {@link GlobalLock#tryLockWriter()}.
  */
 final class TickerMatrix extends AbstractMatrix {
     private final DataRecord record;
+    private static final int VERSION = 1; // offset of version word in versioned mode
+    private static final int SPIN_ATTEMPTS = 100;
+
     private final boolean withEventTimeSequence;
+    private final boolean versioned;
     private final int intOffset;
     private final int objOffset;
+    private final int[] emptyInts; // data of missing records in versioned mode, never written
+    private final Object[] emptyObjs;
 
-    TickerMatrix(DataRecord record, Mapper mapper, int capacity, int prev_magic, boolean withEventTimeSequence) {
-        super(mapper, record.getIntFieldCount() + 1 + (withEventTimeSequence ? 2 : 0), record.getObjFieldCount(), capacity, prev_magic, Hashing.MAX_SHIFT);
+    TickerMatrix(DataRecord record, Mapper mapper, int capacity, int prev_magic, boolean withEventTimeSequence,
+        boolean versioned)
+    {
+        super(mapper, record.getIntFieldCount() + intOffset(withEventTimeSequence, versioned), record.getObjFieldCount(), capacity, prev_magic, Hashing.MAX_SHIFT);
         this.record = record;
         this.withEventTimeSequence = withEventTimeSequence;
-        this.intOffset = 1 + (withEventTimeSequence ? 2 : 0);
+        this.versioned = versioned;
+        this.intOffset = intOffset(withEventTimeSequence, versioned);
         this.objOffset = 0;
+        emptyInts = versioned ? new int[step] : null;
+        emptyObjs = versioned && obj_step != 0 ? new Object[obj_step] : null;
+    }
+
+    private static int intOffset(boolean withEventTimeSequence, boolean versioned) {
+        return 1 + (versioned ? 1 : 0) + (withEventTimeSequence ? 2 : 0);
     }
 
     // ========== Maintenance ==========
@@ -49,7 +71,7 @@ final class TickerMatrix extends AbstractMatrix {
     // This method can try to allocate a lot of memory for rehash and die due to OutOfMemoryError.
     TickerMatrix rehash() {
         // allocate memory first -- leave structure untouched if crashes due to OOM
-        TickerMatrix dest = new TickerMatrix(record, mapper, payloadSize, magic, withEventTimeSequence);
+        TickerMatrix dest = new TickerMatrix(record, mapper, payloadSize, magic, withEventTimeSequence, versioned);
         startRehash();
         for (int index = matrix.length; (index -= step) > 0;) {
             int key = matrix[index];
@@ -81,14 +103,23 @@ final class TickerMatrix extends AbstractMatrix {
     // SYNC: global
     boolean putRecordCursor(int key, int rid, RecordCursor cursor, RecordCursorKeeper keeper, QDStats stats) {
         int index = getOrReuseIndex(key);
-        boolean inserted = addIndex(key, index);
-        RecordCursor.Owner owner = keeper.getForTickerMatrix(this, false);
-        owner.setSymbol(cursor.getCipher(), cursor.getSymbol());
-        owner.setOffsets(index + intOffset, obj_step == 0 ? 0 : index / step * obj_step + objOffset);
-        RecordCursor to = owner.cursor();
-        boolean changed = record.update(cursor, to);
-        if (changed)
-            to.setEventTimeSequence(cursor.getEventTimeSequence());
+        if (versioned)
+            beginWrite(index);
+        boolean inserted;
+        boolean changed;
+        try {
+            inserted = addIndex(key, index);
+            RecordCursor.Owner owner = keeper.getForTickerMatrix(this, false);
+            owner.setSymbol(cursor.getCipher(), cursor.getSymbol());
+            owner.setOffsets(index + intOffset, obj_step == 0 ? 0 : index / step * obj_step + objOffset);
+            RecordCursor to = owner.cursor();
+            changed = record.update(cursor, to);
+            if (changed)
+                to.setEventTimeSequence(cursor.getEventTimeSequence());
+        } finally {
+            if (versioned)
+                endWrite(index);
+        }
         if (inserted)
             stats.updateAdded(rid);
         else if (changed)
@@ -158,8 +189,7 @@ final class TickerMatrix extends AbstractMatrix {
         int index = getIndex(key, 0);
         if (index == 0)
             return false;
-        getRecordInternal(index, cipher, symbol, sink, keeper, mark, attachment);
-        return true;
+        return getRecordInternal(index, key, cipher, symbol, sink, keeper, mark, attachment);
     }
 
     void setupOwner(RecordCursor.Owner owner, boolean readOnly) {
@@ -168,15 +198,62 @@ final class TickerMatrix extends AbstractMatrix {
         owner.setArrays(matrix, obj_matrix);
     }
 
-    private void getRecordInternal(int index, int cipher, String symbol, RecordSink sink, RecordCursorKeeper keeper,
-        int mark, Object attachment)
+    private boolean getRecordInternal(int index, int key, int cipher, String symbol, RecordSink sink,
+        RecordCursorKeeper keeper, int mark, Object attachment)
     {
-        RecordCursor.Owner owner = keeper.getForTickerMatrix(this, true);
+        RecordCursor.Owner owner;
+        if (versioned) {
+            owner = keeper.getSnapshotForTickerMatrix(this, step, obj_step);
+            if (!readRecord(index, key, keeper.getSnapshotInts(), keeper.getSnapshotObjs()))
+                return false; // was removed concurrently
+            owner.setOffsets(intOffset, objOffset);
+        } else {
+            owner = keeper.getForTickerMatrix(this, true);
+            owner.setOffsets(index + intOffset, obj_step == 0 ? 0 : index / step * obj_step + objOffset);
+        }
         owner.setSymbol(cipher, symbol);
-        owner.setOffsets(index + intOffset, obj_step == 0 ? 0 : index / step * obj_step + objOffset);
         owner.setTimeMark(mark);
         owner.setAttachment(attachment);
         sink.append(owner.cursor());
+        return true;
+    }
+
+    // ========== Versioned Records ==========
+
+    // SYNC: global
+    private void beginWrite(int index) {
+        setVolatileInt(index + VERSION, matrix[index + VERSION] + 1);
+        // data writes below shall not be reordered before version becomes odd
+        UnsafeHolder.UNSAFE.storeFence();
+    }
+
+    // SYNC: global
+    private void endWrite(int index) {
+        // volatile write publishes all data writes before version becomes even again
+        setVolatileInt(index + VERSION, matrix[index + VERSION] + 1);
+    }
+
+    /**
+     * Copies consistent state of the record at the specified index into the given arrays
+     * and returns false if the record no longer has the specified key.
+     */
+    // SYNC: none
+    private boolean readRecord(int index, int key, int[] ints, Object[] objs) {
+        int objIndex = index / step * obj_step;
+        for (int attempt = 0;; attempt++) {
+            int version = getVolatileInt(index + VERSION);
+            if ((version & 1) == 0) {
+                System.arraycopy(matrix, index, ints, 0, step);
+                if (obj_step != 0)
+                    System.arraycopy(obj_matrix, objIndex, objs, 0, obj_step);
+                // data reads above shall not be reordered after the version check
+                UnsafeHolder.UNSAFE.loadFence();
+                if (matrix[index + VERSION] == version)
+                    return ints[0] == key;
+            }
+            if (attempt >= SPIN_ATTEMPTS)
+                Thread.yield(); // writer was preempted in the middle of update
+        }
     }
 
     void removeRecord(int key, int rid, QDStats stats) {
@@ -185,9 +262,13 @@ final class TickerMatrix extends AbstractMatrix {
             return;
         if (--payloadSize < 0)
             throw new IllegalStateException("Payload size underflow");
+        if (versioned)
+            beginWrite(index);
         matrix[index] = (key & SymbolCodec.VALID_CIPHER) != 0 ?
             Mapping.DELETED_CIPHER : key & ~Mapping.VALID_KEY;
-        clearIndexData(index, 1);
+        clearIndexData(index, versioned ? VERSION + 1 : 1); // keep version of the removed record
+        if (versioned)
+            endWrite(index);
         stats.updateRemoved(rid);
     }
 
@@ -219,16 +300,30 @@ final class TickerMatrix extends AbstractMatrix {
         int index = getIndex(cipher, symbol);
         if (index == 0)
             return false;
-        getDataAt(index, owner, cipher, symbol);
-        return true;
+        return getDataAt(index, owner, cipher, symbol);
     }
 
-    private void getDataAt(int index, RecordCursor.Owner owner, int cipher, String symbol) {
+    private boolean getDataAt(int index, RecordCursor.Owner owner, int cipher, String symbol) {
         owner.setReadOnly(true);
         owner.setSymbol(cipher, symbol);
         owner.setRecord(record, withEventTimeSequence ? RecordMode.TIMESTAMPED_DATA : RecordMode.DATA);
+        if (versioned) {
+            // owner is retained by the caller, so it gets its own copy of the record
+            int[] ints = new int[step];
+            Object[] objs = obj_step == 0 ? null : new Object[obj_step];
+            if (index == 0 || !readRecord(index, matrix[index], ints, objs)) {
+                // read-only cursor of a missing record points to the empty arrays that are never written
+                owner.setArrays(emptyInts, emptyObjs);
+                owner.setOffsets(intOffset, objOffset);
+                return false;
+            }
+            owner.setArrays(ints, objs);
+            owner.setOffsets(intOffset, objOffset);
+            return true;
+        }
         owner.setArrays(matrix, obj_matrix);
         owner.setOffsets(index + intOffset, obj_step == 0 ? 0 : index / step * obj_step + objOffset);
+        return true;
     }
 
     // returns -1 when sink has no more capacity or number of records examined in next batch so far
@@ -250,7 +345,8 @@ final class TickerMatrix extends AbstractMatrix {
                         sink.flush();
                     return -1;
                 }
-                getRecordInternal(index, cipher, symbol, sink, keeper, 0, null);
+                if (!getRecordInternal(index, key, cipher, symbol, sink, keeper, 0, null))
+                    continue;
                 nExaminedInBatch++;
                 if (nExaminedInBatch >= Collector.EXAMINE_BATCH_SIZE) {
                     sink.flush();
@@ -265,7 +361,7 @@ final class TickerMatrix extends AbstractMatrix {
     {
         int index = getIndex(key, 0);
         if (index != 0)
-            getRecordInternal(index, cipher, symbol, sink, keeper, 0, attachment);
+            getRecordInternal(index, key, cipher, symbol, sink, keeper, 0, attachment);
     }
 
     private void addPayload() {
@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2021 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -12,6 +12,7 @@
 package com.devexperts.qd.impl.matrix;
 
 import com.devexperts.qd.DataScheme;
+import com.devexperts.qd.SymbolCodec;
 import com.devexperts.qd.ng.RecordCursor;
 import com.devexperts.qd.ng.RecordSink;
 import com.devexperts.qd.stats.QDStats;
@@ -21,18 +22,21 @@ import com.devexperts.qd.stats.QDStats;
  * It maintains a set of {@link TickerMatrix} - one for each data record -
  * to actually store current values of corresponding data records.
  *
- * <p><b>TickerStorage is modified only under global lock.</b>
+ * <p><b>TickerStorage is modified only under global lock</b>, or under shared global lock and
+ * a lock of its segment when {@link Ticker} is striped.
  */
 final class TickerStorage {
 
     private final TickerMatrix[] matrices;
     private final QDStats stats;
 
-    TickerStorage(DataScheme scheme, Mapper mapper, QDStats stats, boolean withEventTimeSequence) {
+    TickerStorage(DataScheme scheme, Mapper mapper, QDStats stats, boolean withEventTimeSequence,
+        boolean versioned)
+    {
         mapper.incMaxCounter(scheme.getRecordCount());
         matrices = new TickerMatrix[scheme.getRecordCount()];
         for (int i = matrices.length; --i >= 0;)
-            matrices[i] = new TickerMatrix(scheme.getRecord(i), mapper, 0, 0, withEventTimeSequence);
+            matrices[i] = new TickerMatrix(scheme.getRecord(i), mapper, 0, 0, withEventTimeSequence, versioned);
         this.stats = stats;
     }
 
@@ -48,9 +52,20 @@ final class TickerStorage {
         return matrix;
     }
 
+    /**
+     * Returns true if {@link #putRecordCursor putRecordCursor} for the specified key may modify {@link Mapper}
+     * by insertion of a new key or by rehash, so it shall be synchronized with other writers of the mapper.
+     */
+    // SYNC: global or segment
+    boolean needsMapperUpdate(int key, int rid) {
+        TickerMatrix matrix = matrices[rid];
+        return Hashing.needRehash(matrix.shift, matrix.overallSize, matrix.payloadSize, Hashing.MAX_SHIFT) ||
+            (key & SymbolCodec.VALID_CIPHER) == 0 && !matrix.hasRecord(key);
+    }
+
     // NOTE: There is a similar method called "putRecord"
     // This method can try to allocate a lot of memory for rehash and die due to OutOfMemoryError.
-    // SYNC: global
+    // SYNC: global or segment
     boolean putRecordCursor(int key, int rid, RecordCursor cursor, RecordCursorKeeper keeper) {
         return rehashMatrixIfNeeded(rid).putRecordCursor(key, rid, cursor, keeper, stats);
     }
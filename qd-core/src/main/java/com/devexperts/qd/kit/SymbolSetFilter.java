@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2023 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -17,6 +17,7 @@ import com.devexperts.qd.QDContract;
 import com.devexperts.qd.QDFilter;
 import com.devexperts.qd.spi.QDFilterContext;
 import com.devexperts.qd.util.SymbolSet;
+import com.devexperts.qd.util.SymbolSetDelta;
 
 /**
  * Fast filter based on {@link SymbolSet}.
@@ -53,6 +54,7 @@ public final class SymbolSetFilter extends QDFilter implements QDFilter.UpdateLi
     private final SymbolSet set;
     private final QDFilter delegate;
     private final boolean negated;
+    private final SymbolSetDelta delta;
 
     public SymbolSetFilter(DataScheme scheme, SymbolSet set) {
         this(scheme, set, null);
@@ -75,6 +77,14 @@ public final class SymbolSetFilter extends QDFilter implements QDFilter.UpdateLi
         this.set = delegate.getSymbolSet().unmodifiable();
         this.delegate = delegate;
         this.negated = source.negated;
+        // delegate's delta is reused when delegate has updated from the delegate of the source
+        SymbolSetDelta delegateDelta = delegate.getSymbolSetDelta();
+        if (delegateDelta == null || delegateDelta.getSource() != source.delegate)
+            this.delta = null;
+        else if (negated)
+            this.delta = new SymbolSetDelta(source, delegateDelta.getRemovedSymbols(), delegateDelta.getAddedSymbols());
+        else
+            this.delta = new SymbolSetDelta(source, delegateDelta.getAddedSymbols(), delegateDelta.getRemovedSymbols());
     }
 
     private SymbolSetFilter(DataScheme scheme, SymbolSet set, QDFilter delegate, boolean negated) {
@@ -83,6 +93,7 @@ public final class SymbolSetFilter extends QDFilter implements QDFilter.UpdateLi
         this.set = set.unmodifiable();
         this.delegate = delegate;
         this.negated = negated;
+        this.delta = null;
     }
 
     // symbol set with a single wildcard symbol
@@ -94,6 +105,7 @@ public final class SymbolSetFilter extends QDFilter implements QDFilter.UpdateLi
         this.set = set.unmodifiable();
         this.delegate = null;
         this.negated = false;
+        this.delta = null;
     }
 
     @Override
@@ -133,6 +145,11 @@ public final class SymbolSetFilter extends QDFilter implements QDFilter.UpdateLi
         return delegate != null ? delegate.isDynamic() : false;
     }
 
+    @Override
+    public SymbolSetDelta getSymbolSetDelta() {
+        return delta;
+    }
+
     @Override
     protected QDFilter produceUpdatedFilter() {
         return new SymbolSetFilter(delegate.getUpdatedFilter(), this);
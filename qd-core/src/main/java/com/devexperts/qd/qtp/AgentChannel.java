@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2025 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -35,6 +35,7 @@ import com.devexperts.qd.ng.RecordSink;
 import com.devexperts.qd.ng.RecordSource;
 import com.devexperts.qd.util.LegacyAdapter;
 import com.devexperts.qd.util.RateLimiter;
+import com.devexperts.qd.util.SymbolSetDelta;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
@@ -551,10 +552,18 @@ class AgentChannel implements RecordListener {
             return null; // nothing more to do
         }
         // Figure out what is the next phase
+        // When dynamic filter has incrementally updated from the filter that is used by the agent,
+        // we can keep the agent even if it does filtering inside (it checks new sub with the updated filter),
+        // and just find sub of removed symbols on agent to go to phase2 to change it
+        SymbolSetDelta delta = collectorChanged ? null : getSymbolSetDelta(oldConfig, a.config);
+        if (delta != null) {
+            reconfigurePhase1Light(a, delta);
+            return null;
+        }
         // When filtering is not inside agent and collector is still the same,
         // so we can just find filtered out sub on agent and go to phase2 to change it
         if (!collectorChanged && oldConfig.subFilterMode != SUB_FILTER_AGENT && a.config.subFilterMode != SUB_FILTER_AGENT) {
-            reconfigurePhase1Light(a);
+            reconfigurePhase1Light(a, null);
             return null;
         }
         // Radical change -- will need to create agent from scratch in phase 3 and addSub on it in phase 4
@@ -600,30 +609,43 @@ class AgentChannel implements RecordListener {
         return a;
     }
 
-    private void reconfigurePhase1Light(final SubAction a) {
+    private static SymbolSetDelta getSymbolSetDelta(Config oldConfig, Config newConfig) {
+        if (oldConfig.subFilterMode != newConfig.subFilterMode)
+            return null;
+        SymbolSetDelta delta = newConfig.completeSubscriptionFilter.getSymbolSetDelta();
+        return delta != null && delta.getSource() == oldConfig.completeSubscriptionFilter ? delta : null;
+    }
+
+    // delta is null when subscription shall be re-filtered with the new filter
+    private void reconfigurePhase1Light(final SubAction a, final SymbolSetDelta delta) {
         // The same agent is kept, so update its aggregation right here
         updateAgentAggregation(a.config);
         // Create subscription snapshot and filter it in-place into a chain of buffers for removeSub in phase2
         // Optimization here -- put sub change into capacity-limited chunks
         final List<RecordBuffer> changeSubList = new ArrayList<>();
-        // figure out which sub items need to be removed
-        agentConfig.agent.examineSubscription(new AbstractRecordSink() {
-            RecordBuffer sub; // current buffer
-            QDContract contract = shaper.getContract();
-            @Override
-            public void append(RecordCursor cur) {
-                if (a.config.completeSubscriptionFilter.accept(contract, cur.getRecord(), cur.getCipher(), cur.getSymbol()))
-                    return; // the record is still accepted by the filter -- nothing to do
-                if (sub == null) {
-                    sub = RecordBuffer.getInstance(RecordMode.addedSubscriptionFor(contract).withEventFlags());
-                    sub.setCapacityLimited(true);
-                    changeSubList.add(sub);
+        // figure out which sub items need to be removed (there are none when no symbols were removed)
+        if (delta == null || !delta.getRemovedSymbols().isEmpty()) {
+            agentConfig.agent.examineSubscription(new AbstractRecordSink() {
+                RecordBuffer sub; // current buffer
+                QDContract contract = shaper.getContract();
+                @Override
+                public void append(RecordCursor cur) {
+                    if (delta != null ? !delta.isRemoved(cur.getCipher(), cur.getSymbol()) :
+                        a.config.completeSubscriptionFilter.accept(contract, cur.getRecord(), cur.getCipher(), cur.getSymbol()))
+                    {
+                        return; // the record is still accepted by the filter -- nothing to do
+                    }
+                    if (sub == null) {
+                        sub = RecordBuffer.getInstance(RecordMode.addedSubscriptionFor(contract).withEventFlags());
+                        sub.setCapacityLimited(true);
+                        changeSubList.add(sub);
+                    }
+                    sub.add(cur).setEventFlags(EventFlag.REMOVE_SYMBOL.flag()); // flag to remove sub
+                    if (!sub.hasCapacity())
+                        sub = null; // add nothing more to this buffer
                 }
-                sub.add(cur).setEventFlags(EventFlag.REMOVE_SYMBOL.flag()); // flag to remove sub
-                if (!sub.hasCapacity())
-                    sub = null; // add nothing more to this buffer
-            }
-        });
+            });
+        }
         if (shaper.isKeepRejected())
             processReconfigurePhase1LightRejectedAgent(a, changeSubList);
         if (!changeSubList.isEmpty())
@@ -26,6 +26,7 @@ import com.devexperts.qd.ng.RecordBuffer;
 import com.devexperts.qd.ng.RecordCursor;
 import com.devexperts.util.IndexedSet;
 import com.devexperts.util.IndexerFunction;
+import com.devexperts.util.SystemProperties;
 
 import java.io.EOFException;
 import java.io.IOException;
@@ -55,6 +56,9 @@ public class BinaryQTPParser extends AbstractQTPParser {
 
     private static final Logging log = Logging.getLogging(BinaryQTPParser.class);
 
+    private static final boolean DIRECT_DECODE =
+        SystemProperties.getBooleanProperty(BinaryQTPParser.class, "directDecode", true);
+
     // ======================== protected instance fields ========================
 
     protected final SymbolCodec.Reader symbolReader;
@@ -69,6 +73,7 @@ public class BinaryQTPParser extends AbstractQTPParser {
     private Set<String> unknownRecordNames;
 
     private IndexedSet<Long, PartitionedMessage> partitionedMessages;
+    private boolean directDecode = DIRECT_DECODE;
 
     // ======================== constructor and instance methods ========================
 
@@ -84,6 +89,17 @@ public class BinaryQTPParser extends AbstractQTPParser {
 
     // ------------------------ configuration methods ------------------------
 
+    /**
+     * Turns on or off decoding of CompactInt fields of data records directly from the bytes of input chunks,
+     * bypassing per-byte {@link BufferedInput} calls. It is on by default and can be turned off with
+     * {@code com.devexperts.qd.qtp.BinaryQTPParser.directDecode=false} system property.
+     * Records with other field types and records that span chunk boundaries are always parsed via {@link BufferedInput}.
+     * @param directDecode {@code true} to decode fields directly from input bytes.
+     */
+    public void setDirectDecode(boolean directDecode) {
+        this.directDecode = directDecode;
+    }
+
     // extension point to parse binary data without record description messages
     protected boolean isSchemeKnown() {
         return false;
@@ -424,7 +440,7 @@ public class BinaryQTPParser extends AbstractQTPParser {
                 if (rr == null)
                     throw new IOException("Unknown record #" + id);
                 RecordCursor cur = rr.readRecord(msg, buf, symbolReader.getCipher(), symbolReader.getSymbol(),
-                    symbolReader.getEventFlags());
+                    symbolReader.getEventFlags(), directDecode);
                 setEventTimeSequenceIfNeeded(cur);
                 replaceFieldIfNeeded(cur);
                 long position = msg.totalPosition();
@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2021 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -146,6 +146,7 @@ public class BinaryRecordDesc {
     protected final int[] descs; // packed DESC bits according to documentation above
     protected final int nDesc; // number of fields from desc array in a regular record
     protected final int nDescEventFields; // number of builtin EventXXX fields from desc array (used for events marked with REMOVE_EVENT flag)
+    protected final boolean compactOnly; // true when all fields from desc array are serialized as CompactInt
 
     // --------------------------- constructors ---------------------------
 
@@ -157,6 +158,7 @@ public class BinaryRecordDesc {
         this.descs = desc.descs;
         this.nDesc = desc.nDesc;
         this.nDescEventFields = desc.nDescEventFields;
+        this.compactOnly = desc.compactOnly;
     }
 
     protected BinaryRecordDesc(DataRecord record, boolean eventTimeSequence, int dir, boolean wideDecimalSupported) throws InvalidDescException {
@@ -215,6 +217,7 @@ public class BinaryRecordDesc {
         this.descs = descs;
         this.nDesc = nDesc;
         this.nDescEventFields = countEventFields();
+        this.compactOnly = checkCompactOnly();
     }
 
     // dir == DIR_READ  conversion flags are set for reading specified types and converting them from types[i] to record field serial type
@@ -276,6 +279,7 @@ public class BinaryRecordDesc {
         this.descs = descs;
         this.nDesc = nDesc;
         this.nDescEventFields = countEventFields();
+        this.compactOnly = checkCompactOnly();
     }
 
     private int countEventFields() {
@@ -285,6 +289,14 @@ public class BinaryRecordDesc {
         return i;
     }
 
+    private boolean checkCompactOnly() {
+        for (int i = 0; i < nDesc; i++) {
+            if (((descs[i] >> SER_SHIFT) & SER_MASK) != SER_COMPACT_INT)
+                return false;
+        }
+        return true;
+    }
+
     // --------------------------- instance methods - general ---------------------------
 
     /**
@@ -311,6 +323,18 @@ public class BinaryRecordDesc {
      * @return the cursor to the record that was just read or {@code null} if nothing was read (the record was skipped).
      */
     public RecordCursor readRecord(BufferedInput msg, RecordBuffer buffer, int cipher, String symbol, int eventFlags) throws IOException {
+        return readRecord(msg, buffer, cipher, symbol, eventFlags, false);
+    }
+
+    /**
+     * Reads record from the specified input and adds it to the specified cursor.
+     * When {@code direct} is {@code true} and all fields are serialized as CompactInt, then fields are decoded
+     * straight from the {@link BufferedInput#directBuffer() buffer} of the input if the whole record is there.
+     * @return the cursor to the record that was just read or {@code null} if nothing was read (the record was skipped).
+     */
+    public RecordCursor readRecord(BufferedInput msg, RecordBuffer buffer, int cipher, String symbol, int eventFlags,
+        boolean direct) throws IOException
+    {
         RecordCursor cur = null;
         if (record != null) {
             cur = buffer.add(record, cipher, symbol);
@@ -318,11 +342,83 @@ public class BinaryRecordDesc {
         }
         if (EventFlag.REMOVE_EVENT.in(eventFlags)) {
             readRemoveEventFields(msg, cur);
-        } else
+        } else if (!direct || !canReadDirectly() || !readFieldsDirectly(msg, cur))
             readFields(msg, cur, nDesc);
         return cur;
     }
 
+    /**
+     * Returns true when fields can be decoded directly from the buffer of the input.
+     * This method shall be overridden to return false by subclasses that override {@link #readFields},
+     * {@link #beforeField} or field setters to track positions of the input.
+     */
+    protected boolean canReadDirectly() {
+        return compactOnly;
+    }
+
+    /**
+     * Decodes CompactInt fields from the buffer of the input when the whole record is in the buffer.
+     * @return true when fields were read, false when nothing was read.
+     */
+    private boolean readFieldsDirectly(BufferedInput msg, RecordCursor cur) {
+        byte[] bytes = msg.directBuffer();
+        int pos = msg.directPosition();
+        int limit = msg.directLimit();
+        for (int i = 0; i < nDesc; i++) {
+            if (pos >= limit)
+                return false; // the rest of the record is not in the buffer, fields will be re-read from the start
+            int n = bytes[pos] & 0xFF;
+            long iVal;
+            // The ((n << k) >> k) expression performs two's complement, see BufferedInput.readCompactLong
+            if (n < 0x80) {
+                iVal = (n << 25) >> 25;
+                pos++;
+            } else if (n < 0xC0) {
+                if (pos + 2 > limit)
+                    return false;
+                iVal = (((n << 8) | (bytes[pos + 1] & 0xFF)) << 18) >> 18;
+                pos += 2;
+            } else if (n < 0xE0) {
+                if (pos + 3 > limit)
+                    return false;
+                iVal = (((n << 16) | ((bytes[pos + 1] & 0xFF) << 8) | (bytes[pos + 2] & 0xFF)) << 11) >> 11;
+                pos += 3;
+            } else if (n < 0xF0) {
+                if (pos + 4 > limit)
+                    return false;
+                iVal = (((n << 24) | ((bytes[pos + 1] & 0xFF) << 16) | ((bytes[pos + 2] & 0xFF) << 8) |
+                    (bytes[pos + 3] & 0xFF)) << 4) >> 4;
+                pos += 4;
+            } else {
+                int len = n < 0xF8 ? 5 : n < 0xFC ? 6 : n < 0xFE ? 7 : n < 0xFF ? 8 : 9;
+                if (pos + len > limit)
+                    return false;
+                int hi;
+                if (n < 0xF8) {
+                    hi = (n << 29) >> 29;
+                } else if (n < 0xFC) {
+                    hi = (((n << 8) | (bytes[pos + 1] & 0xFF)) << 22) >> 22;
+                } else if (n < 0xFE) {
+                    hi = (((n << 16) | ((bytes[pos + 1] & 0xFF) << 8) | (bytes[pos + 2] & 0xFF)) << 15) >> 15;
+                } else if (n < 0xFF) {
+                    hi = (bytes[pos + 1] << 16) | ((bytes[pos + 2] & 0xFF) << 8) | (bytes[pos + 3] & 0xFF);
+                } else {
+                    hi = getInt(bytes, pos + 1);
+                }
+                pos += len;
+                iVal = ((long) hi << 32) | (getInt(bytes, pos - 4) & 0xFFFFFFFFL);
+            }
+            setField(cur, descs[i], iVal, null, msg);
+        }
+        msg.directSeek(pos);
+        return true;
+    }
+
+    private static int getInt(byte[] bytes, int pos) {
+        return (bytes[pos] << 24) | ((bytes[pos + 1] & 0xFF) << 16) | ((bytes[pos + 2] & 0xFF) << 8) |
+            (bytes[pos + 3] & 0xFF);
+    }
+
     // Read only event fields and time
     private void readRemoveEventFields(BufferedInput msg, RecordCursor cur) throws IOException {
         readFields(msg, cur, nDescEventFields);
@@ -375,66 +471,69 @@ public class BinaryRecordDesc {
             default:
                 throw new AssertionError();
             }
-            // figure out what to do
-            switch (d >>> FLD_SHIFT) {
-            case FLD_SKIP:
-                break; // just skip
-            case FLD_INT:
-                setIntValue(cur, d & INDEX_MASK, (int) iVal, msg);
-                break;
-            case FLD_LONG:
-                setLongValue(cur, d & INDEX_MASK, iVal, msg);
-                break;
-            case FLD_OBJ: // regular obj field without conversion
-                setObjValue(cur, d & INDEX_MASK, oVal, msg);
-                break;
-            case FLD_DECIMAL_TO_INT:
-                setIntValue(cur, d & INDEX_MASK, (int) Decimal.toDouble((int) iVal), msg);
-                break;
-            case FLD_INT_TO_DECIMAL:
-            case FLD_LONG_TO_DECIMAL:
-                setIntValue(cur, d & INDEX_MASK, Decimal.composeDecimal(iVal, 0), msg);
-                break;
-            case FLD_WIDE_DECIMAL_TO_INT:
-                setIntValue(cur, d & INDEX_MASK, (int) WideDecimal.toLong(iVal), msg);
-                break;
-            case FLD_INT_TO_WIDE_DECIMAL:
-            case FLD_LONG_TO_WIDE_DECIMAL:
-                setLongValue(cur, d & INDEX_MASK, WideDecimal.composeWide(iVal, 0), msg);
-                break;
-            case FLD_WIDE_DECIMAL_TO_DECIMAL:
-                setIntValue(cur, d & INDEX_MASK, Decimal.wideToTiny(iVal), msg);
-                break;
-            case FLD_DECIMAL_TO_WIDE_DECIMAL:
-                setLongValue(cur, d & INDEX_MASK, Decimal.tinyToWide((int) iVal), msg);
-                break;
-            case FLD_SHARES_TO_DECIMAL:
-                setIntValue(cur, d & INDEX_MASK, Decimal.compose(Decimal.toDouble((int) iVal) * 1000.0), msg);
-                break;
-            case FLD_SHARES_TO_WIDE_DECIMAL:
-                setLongValue(cur, d & INDEX_MASK, WideDecimal.composeWide(Decimal.toDouble((int) iVal) * 1000.0), msg);
-                break;
-            case FLD_EVENT_TIME:
-                cur.setEventTimeSeconds((int) iVal);
-                break;
-            case FLD_EVENT_SEQUENCE:
-                cur.setEventSequence((int) iVal);
-                break;
-            case FLD_DECIMAL_TO_LONG:
-                setLongValue(cur, d & INDEX_MASK, (long) Decimal.toDouble((int) iVal), msg);
-                break;
-            case FLD_WIDE_DECIMAL_TO_LONG:
-                setLongValue(cur, d & INDEX_MASK, WideDecimal.toLong(iVal), msg);
-                break;
-            case FLD_TIME_MILLIS_TO_TIME_SECONDS:
-                setIntValue(cur, d & INDEX_MASK, TimeUtil.getSecondsFromTime(iVal), msg);
-                break;
-            case FLD_TIME_SECONDS_TO_TIME_MILLIS:
-                setLongValue(cur, d & INDEX_MASK, iVal * 1000L, msg);
-                break;
-            default:
-                throw new AssertionError();
-            }
+            setField(cur, d, iVal, oVal, msg);
+        }
+    }
+
+    private void setField(RecordCursor cur, int d, long iVal, Object oVal, BufferedInput msg) {
+        switch (d >>> FLD_SHIFT) {
+        case FLD_SKIP:
+            break; // just skip
+        case FLD_INT:
+            setIntValue(cur, d & INDEX_MASK, (int) iVal, msg);
+            break;
+        case FLD_LONG:
+            setLongValue(cur, d & INDEX_MASK, iVal, msg);
+            break;
+        case FLD_OBJ: // regular obj field without conversion
+            setObjValue(cur, d & INDEX_MASK, oVal, msg);
+            break;
+        case FLD_DECIMAL_TO_INT:
+            setIntValue(cur, d & INDEX_MASK, (int) Decimal.toDouble((int) iVal), msg);
+            break;
+        case FLD_INT_TO_DECIMAL:
+        case FLD_LONG_TO_DECIMAL:
+            setIntValue(cur, d & INDEX_MASK, Decimal.composeDecimal(iVal, 0), msg);
+            break;
+        case FLD_WIDE_DECIMAL_TO_INT:
+            setIntValue(cur, d & INDEX_MASK, (int) WideDecimal.toLong(iVal), msg);
+            break;
+        case FLD_INT_TO_WIDE_DECIMAL:
+        case FLD_LONG_TO_WIDE_DECIMAL:
+            setLongValue(cur, d & INDEX_MASK, WideDecimal.composeWide(iVal, 0), msg);
+            break;
+        case FLD_WIDE_DECIMAL_TO_DECIMAL:
+            setIntValue(cur, d & INDEX_MASK, Decimal.wideToTiny(iVal), msg);
+            break;
+        case FLD_DECIMAL_TO_WIDE_DECIMAL:
+            setLongValue(cur, d & INDEX_MASK, Decimal.tinyToWide((int) iVal), msg);
+            break;
+        case FLD_SHARES_TO_DECIMAL:
+            setIntValue(cur, d & INDEX_MASK, Decimal.compose(Decimal.toDouble((int) iVal) * 1000.0), msg);
+            break;
+        case FLD_SHARES_TO_WIDE_DECIMAL:
+            setLongValue(cur, d & INDEX_MASK, WideDecimal.composeWide(Decimal.toDouble((int) iVal) * 1000.0), msg);
+            break;
+        case FLD_EVENT_TIME:
+            cur.setEventTimeSeconds((int) iVal);
+            break;
+        case FLD_EVENT_SEQUENCE:
+            cur.setEventSequence((int) iVal);
+            break;
+        case FLD_DECIMAL_TO_LONG:
+            setLongValue(cur, d & INDEX_MASK, (long) Decimal.toDouble((int) iVal), msg);
+            break;
+        case FLD_WIDE_DECIMAL_TO_LONG:
+            setLongValue(cur, d & INDEX_MASK, WideDecimal.toLong(iVal), msg);
+            break;
+        case FLD_TIME_MILLIS_TO_TIME_SECONDS:
+            setIntValue(cur, d & INDEX_MASK, TimeUtil.getSecondsFromTime(iVal), msg);
+            break;
+        case FLD_TIME_SECONDS_TO_TIME_MILLIS:
+            setLongValue(cur, d & INDEX_MASK, iVal * 1000L, msg);
+            break;
+        default:
+            throw new AssertionError();
         }
     }
 
@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2021 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -114,8 +114,12 @@ class ConnectionQTPComposer extends BinaryQTPComposer {
         if (currentMessageType.isData()) {
             countDataRecords++;
             int timeMark = cursor.getTimeMark();
-            if (timeMark != 0)
-                sumTimeMarks += TimeMarkUtil.signedDeltaMark(composingTimeMark - timeMark);
+            if (timeMark != 0) {
+                int lagMark = TimeMarkUtil.signedDeltaMark(composingTimeMark - timeMark);
+                sumTimeMarks += lagMark;
+                if (QDStats.isLatencySampled(timeMark))
+                    stats.updateLatency(QDStats.LatencyPoint.WRITE, cursor.getRecord().getId(), lagMark);
+            }
         }
     }
 
@@ -464,7 +464,8 @@ public class MessageConnectors {
 
         if (address.startsWith("nio:"))
             throw new AddressSyntaxException("Address starting with \"nio:\" is considered ambiguous: use " +
-                "\"nio::<port>\" to create NIO server socket connector or use \"" + CLIENT_SOCKET_PREFIX +
+                "\"nio::<port>\" to create NIO server socket connector, \"nio:<host>:<port>\" to create " +
+                "NIO client socket connector or use \"" + CLIENT_SOCKET_PREFIX +
                 "nio:<port>\" to create client socket connector to the host named \"nio\".");
 
         if (address.startsWith(SERVER_SOCKET_PREFIX)) {
@@ -123,6 +123,19 @@ public final class ProtocolDescriptor {
      * JSON string: {@code {"min":1.5,"max":2.0}} (seconds with decimals).
      */
     public static final String AGGREGATION_PERIOD_INFO_PROPERTY = "aggregationPeriodInfo";
+    /**
+     * Comma-separated list of compression methods offered by the "compress" codec in the order of preference
+     * (see {@link com.devexperts.connector.codec.compress.CompressCodecFactory CompressCodecFactory}).
+     * Sent by the codec in a separate descriptor that precedes all other messages of the connection.
+     * Each side compresses with the first method of its own list that is also offered by the peer,
+     * and both sides fall back to plain data when there is no such method.
+     */
+    public static final String COMPRESSION_PROPERTY = "compression";
+    /**
+     * Adler-32 checksum (hex) of the preset compression dictionary offered by the "compress" codec.
+     * The dictionary is used only when both sides offer the same one.
+     */
+    public static final String COMPRESSION_DICTIONARY_PROPERTY = "compressionDictionary";
 
     private final Map<String, String> properties = new LinkedHashMap<>();
     private final IndexedMap<Integer, MessageDescriptor> send = IndexedMap.createInt(MessageDescriptor::getId);
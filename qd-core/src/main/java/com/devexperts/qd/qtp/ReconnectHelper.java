@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2024 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -34,15 +34,32 @@ public final class ReconnectHelper {
     }
 
     public void sleepBeforeConnection() throws InterruptedException {
-        long startTime = this.startTime; // atomic read
-        long delay = this.delay; // atomic read
-        long worked = System.currentTimeMillis() - startTime;
-        long sleepTime = worked >= delay ? 0 : (long) ((delay - worked) * (1.0 + Math.random()));
+        long sleepTime = computeSleepTime(System.currentTimeMillis());
         if (sleepTime > 0)
             Thread.sleep(sleepTime);
         this.startTime = System.currentTimeMillis();
     }
 
+    /**
+     * Non-blocking version of {@link #sleepBeforeConnection()} for connectors that schedule connection
+     * attempts instead of sleeping in a dedicated thread. Returns a delay before the next connection attempt
+     * and assumes that the attempt starts exactly after this delay.
+     * @return delay before the next connection attempt (millis)
+     */
+    public long nextConnectionDelay() {
+        long now = System.currentTimeMillis();
+        long sleepTime = computeSleepTime(now);
+        this.startTime = now + sleepTime;
+        return sleepTime;
+    }
+
+    private long computeSleepTime(long now) {
+        long startTime = this.startTime; // atomic read
+        long delay = this.delay; // atomic read
+        long worked = now - startTime;
+        return worked >= delay ? 0 : (long) ((delay - worked) * (1.0 + Math.random()));
+    }
+
     public void reset() {
         startTime = 0;
     }
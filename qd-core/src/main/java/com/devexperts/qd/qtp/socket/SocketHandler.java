@@ -275,6 +275,7 @@ class SocketHandler extends AbstractTransportConnection implements AbstractMessa
         variables().set(MessageConnectors.SOCKET_KEY, socket);
         variables().set(REMOTE_HOST_ADDRESS_KEY, socketInfo.getSocketAddress().host);
         ConnectionStats connectionStats = new ConnectionStats();
+        variables().set(CONNECTION_STATS_KEY, connectionStats);
 
         // Create stats
         QDStats stats;
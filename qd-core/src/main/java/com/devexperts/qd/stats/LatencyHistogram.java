@@ -0,0 +1,130 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.devexperts.qd.stats;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histogram of latencies in microseconds with logarithmic buckets.
+ * Each power of two range is split into {@value #SUB_BUCKET_COUNT} linear buckets,
+ * so the relative error of reported values is at most 1/{@value #SUB_BUCKET_COUNT}.
+ * Values can be recorded concurrently from multiple threads.
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (32 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT; // all non-negative ints
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+    /**
+     * Records the given latency. Negative latencies are recorded as zero.
+     * @param micros latency in microseconds.
+     */
+    public void record(int micros) {
+        counts.incrementAndGet(bucket(Math.max(micros, 0)));
+    }
+
+    /**
+     * Adds all values from the other histogram to this one.
+     */
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long count = other.counts.get(i);
+            if (count != 0)
+                counts.addAndGet(i, count);
+        }
+    }
+
+    /**
+     * Returns a histogram with values recorded in this histogram after the given previous copy of it was made.
+     * @param prev the previous copy of this histogram, may be {@code null}.
+     */
+    public LatencyHistogram delta(LatencyHistogram prev) {
+        LatencyHistogram result = new LatencyHistogram();
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            // counts may go down when aggregated stats are removed
+            result.counts.set(i, Math.max(0, counts.get(i) - (prev == null ? 0 : prev.counts.get(i))));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the total number of recorded values.
+     */
+    public long getCount() {
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            count += counts.get(i);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the latency in microseconds such that the given percentage of recorded values are not greater
+     * than it or 0 if nothing was recorded.
+     * @param percentile percentile in range from 0 to 100.
+     */
+    public long getValueAtPercentile(double percentile) {
+        long[] snapshot = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            total += snapshot[i] = counts.get(i);
+        }
+        if (total == 0)
+            return 0;
+        long threshold = Math.max(1, (long) Math.ceil(total * Math.min(percentile, 100) / 100));
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            count += snapshot[i];
+            if (count >= threshold)
+                return highestValue(i);
+        }
+        return highestValue(BUCKET_COUNT - 1);
+    }
+
+    /**
+     * Returns the maximal recorded latency in microseconds (within the histogram precision) or 0 if nothing
+     * was recorded.
+     */
+    public long getMaxValue() {
+        for (int i = BUCKET_COUNT; --i >= 0;) {
+            if (counts.get(i) != 0)
+                return highestValue(i);
+        }
+        return 0;
+    }
+
+    @Override
+    public String toString() {
+        return "count=" + getCount() +
+            ", p50=" + getValueAtPercentile(50) +
+            ", p99=" + getValueAtPercentile(99) +
+            ", p999=" + getValueAtPercentile(99.9) +
+            ", max=" + getMaxValue() + " us";
+    }
+
+    static int bucket(int value) {
+        if (value < SUB_BUCKET_COUNT)
+            return value;
+        int shift = 31 - Integer.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKET_COUNT + ((value >>> shift) & (SUB_BUCKET_COUNT - 1));
+    }
+
+    static long highestValue(int bucket) {
+        if (bucket < SUB_BUCKET_COUNT)
+            return bucket;
+        int shift = bucket / SUB_BUCKET_COUNT - 1;
+        long lowest = (long) (SUB_BUCKET_COUNT + bucket % SUB_BUCKET_COUNT) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
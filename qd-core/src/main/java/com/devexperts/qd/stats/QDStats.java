@@ -12,15 +12,18 @@
 package com.devexperts.qd.stats;
 
 import com.devexperts.qd.DataScheme;
+import com.devexperts.qd.util.TimeMarkUtil;
 import com.devexperts.util.ArrayUtil;
 import com.devexperts.util.AtomicArrays;
 import com.devexperts.util.IndexedSet;
 import com.devexperts.util.JMXNameBuilder;
+import com.devexperts.util.SystemProperties;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Statistics gathering delegate.
@@ -54,6 +57,17 @@ import java.util.Objects;
  * Boxes inside a box represent the "same" type hierarchy, so no sum node is needed and if either "Box1" or
  * "box2" would be closed then its stats would be accumulated in the "BigBox".
  *
+ * <p>Counters of {@link SType#isIOType() IO} types are updated from reader and writer threads of all connections.
+ * When {@code com.devexperts.qd.stats.QDStats.stripeCount} system property is set to a value greater than one,
+ * these counters are kept in several stripes on different cache lines, each thread updates its own stripe,
+ * and stripes are summed up on retrieval. The number of stripes can be also specified for each tree of stats
+ * with {@link #initRoot(SType, DataScheme, int)}.
+ *
+ * <p>Latencies of data records from their ingest into a connection to their {@link LatencyPoint points}
+ * of delivery are tracked in {@link LatencyHistogram histograms} for a sample of records when
+ * {@code com.devexperts.qd.stats.QDStats.latencySampling} system property is set to N &gt; 0,
+ * so that approximately one in N records is sampled (N is rounded up to a power of 2).
+ *
  * <p><b>Use with caution!</b> This API is old and has contradictory contract due to backward compatibility
  * and therefore is subject to change in the future.
  */
@@ -63,6 +77,20 @@ public class QDStats {
 
     protected static final QDStats[] EMPTY_CHILDREN = new QDStats[0];
 
+    // Default number of stripes for IO stats, 1 when striping is turned off
+    private static final int STRIPE_COUNT = SystemProperties.getIntProperty(QDStats.class, "stripeCount", 1, 1, 1024);
+
+    // Padding between stripes in longs, so that they do not share a cache line
+    private static final int STRIPE_PADDING = 8;
+
+    // Mask of random bits that must be zero for the record to be sampled, -1 when latencies are not tracked
+    private static final int LATENCY_SAMPLE_MASK = latencySampleMask(
+        SystemProperties.getIntProperty(QDStats.class, "latencySampling", 0, 0, 1 << 20));
+
+    private static int latencySampleMask(int sampling) {
+        return sampling == 0 ? -1 : Integer.highestOneBit(sampling * 2 - 1) - 1;
+    }
+
     /**
      * The instance of QDStats that is always empty.
      */
@@ -116,6 +144,31 @@ public class QDStats {
     public static final int FLAG_COLLECTION_OF_SELF = 16;
     public static final int FLAG_COUNT = 32;
 
+    /**
+     * Defines a point of data records delivery where their latencies are tracked.
+     */
+    public enum LatencyPoint {
+        /**
+         * Retrieval of data records from collector agents.
+         */
+        RETRIEVE("Retrieve"),
+
+        /**
+         * Composing of data records for writing into connections.
+         */
+        WRITE("Write");
+
+        private final String name;
+
+        LatencyPoint(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
     /**
      * Defines specific statistic value, including its name and address.
      */
@@ -216,7 +269,9 @@ public class QDStats {
         public static final SType UNIQUE_SUB = new SType("UniqueSub", FLAG_RID | FLAG_MEM);
         public static final SType STORAGE_DATA = new SType("StorageData", FLAG_RID | FLAG_MEM);
         public static final SType DROPPED_DATA = new SType("DroppedData", FLAG_RID | FLAG_MEM);
+        public static final SType CONFLATED_DATA = new SType("ConflatedData", FLAG_RID | FLAG_MEM);
         public static final SType STICKY_SUB = new SType("StickySub", FLAG_RID | FLAG_MEM);
+        public static final SType LATENCY = new SType("Latency", FLAG_RID);
 
         public static final SType AGENT = new SType("Agent");
         public static final SType AGENT_DATA = new SType("AgentData", FLAG_RID | FLAG_MEM);
@@ -347,6 +402,7 @@ public class QDStats {
     private QDStats parent; // (parent == null) for root only.
     private QDStats uncle; // separate sum node; (uncle == null) for root or when parent is sum node
     private StatsLock lock; // (lock != null && lock == parent.lock) always.
+    private int stripeCount; // (stripeCount == parent.stripeCount) always, power of 2.
     private int ridCount; // (ridCount == 0 || ridCount == parent.ridCount) always.
     private DataScheme scheme;  // (scheme == null || scheme == parent.scheme) always.
 
@@ -356,7 +412,11 @@ public class QDStats {
     private boolean isSum;
 
     private int ridStride; // How many counters per RID are kept
+    private int stripeLength; // How many counters per stripe are kept (including padding)
+    private int stripeMask; // (stripeMask + 1) is a number of stripes, 0 when not striped
     private long[] stats;
+    // [point.ordinal() * (ridCount + 1) + rid + 1] -> histogram, created on first use
+    private volatile LatencyHistogram[] latencies;
 
     private volatile QDStats[] children = EMPTY_CHILDREN;
     private IndexedSet<SType, QDStats> sumRefs = null;
@@ -393,6 +453,13 @@ public class QDStats {
         return scheme;
     }
 
+    /**
+     * Returns the number of stripes for IO stats in this tree.
+     */
+    public int getStripeCount() {
+        return stripeCount;
+    }
+
     protected QDStats[] getChildren() { // :todo: May not be modified!!! Requires atomic reads!!!
         return children;
     }
@@ -433,7 +500,9 @@ public class QDStats {
 
     // ----- Stats Management: SYNC is required (or single-use during construction).
 
-    private void initStats(QDStats parent, StatsLock lock, SType type, int ridCount, DataScheme scheme) {
+    private void initStats(QDStats parent, StatsLock lock, SType type, int ridCount, DataScheme scheme,
+        int stripeCount)
+    {
         if (this.parent != null && this.parent != parent)
             throw new IllegalStateException("parent is already initialized");
         if (this.lock != null)
@@ -444,6 +513,8 @@ public class QDStats {
             throw new NullPointerException("type is null");
         if (ridCount < 0)
             throw new IllegalArgumentException("ridCount is out of range");
+        if (stripeCount <= 0)
+            throw new IllegalArgumentException("stripeCount is out of range");
         if (parent != null && lock != parent.lock)
             throw new IllegalArgumentException("lock does not match parent.lock");
         if (parent != null && (scheme != null && scheme != parent.scheme))
@@ -459,47 +530,71 @@ public class QDStats {
         this.type = type;
         this.ridCount = count;
         this.scheme = scheme;
+        this.stripeCount = Integer.highestOneBit(stripeCount * 2 - 1); // round up to power of 2
 
         ridStride = type.isRidType() && count > 0 ? type.getStride() : 0;
 
         if (type == SType.VOID && parent != null) {
             stats = parent.stats; // void does not allocate extra arrays
+            stripeLength = parent.stripeLength;
+            stripeMask = parent.stripeMask;
+        } else if (type.isIOType() && this.stripeCount > 1) {
+            stripeLength = type.getExtra() + type.getStride() + count * ridStride + STRIPE_PADDING;
+            stripeMask = this.stripeCount - 1;
+            stats = new long[this.stripeCount * stripeLength];
         } else {
-            stats = new long[type.getExtra() + type.getStride() + count * ridStride];
+            stripeLength = type.getExtra() + type.getStride() + count * ridStride;
+            stripeMask = 0;
+            stats = new long[stripeLength];
         }
     }
 
     @Deprecated
     protected void initStats(QDStats parent, StatsLock lock, SType type, DataScheme scheme) {
-        initStats(parent, lock, type, 0, scheme);
+        initStats(parent, lock, type, 0, scheme, parent == null ? STRIPE_COUNT : parent.stripeCount);
     }
 
     // "Closes" this stats object (e.g. updates it to 'garbage').
     protected void closeStats() {
         // :TODO: Maybe we shall report error (or ignore) if stats are not actually closed?
         if (type.isMemType() && type.isRidType()) {
-            for (int i = 0; i <= ridCount; i++) {
-                stats[i * ridStride + KIND_REMOVED] = stats[i * ridStride + KIND_ADDED];
+            for (int s = 0; s <= stripeMask; s++) {
+                for (int i = 0; i <= ridCount; i++) {
+                    int index = s * stripeLength + i * ridStride;
+                    stats[index + KIND_REMOVED] = stats[index + KIND_ADDED];
+                }
             }
         }
     }
 
     protected void addClosedStats(QDStats child) {
+        LatencyHistogram[] childLatencies = child.latencies;
+        if (childLatencies != null && child.ridCount == ridCount) {
+            for (int i = 0; i < childLatencies.length; i++) {
+                if (childLatencies[i] != null)
+                    getOrCreateLatencyHistogram(i).add(childLatencies[i]);
+            }
+        }
         if ((type.flag & (FLAG_IO | FLAG_MEM)) != (child.type.flag & (FLAG_IO | FLAG_MEM)))
             return; // incompatible types
 
         long[] childStats = child.stats;
-        // add common non-rid parts
         int typeExtra = type.getExtra();
         int typeStride = type.getStride();
-        for (int i = 0; i < typeExtra + typeStride; i++) {
-            stats[i] += childStats[i];
-        }
-        // add rid parts
-        if (child.ridStride > 0) {
-            for (int i = 0; i < child.ridCount; i++) {
-                for (int j = 0; j < child.ridStride; j++) {
-                    stats[typeExtra + (i + 1) * ridStride + j] += childStats[typeExtra + (i + 1) * child.ridStride + j];
+        // all stripes of child are added to the first stripe of this stats
+        for (int s = 0; s <= child.stripeMask; s++) {
+            int childOffset = s * child.stripeLength;
+            // add common non-rid parts
+            for (int i = 0; i < typeExtra + typeStride; i++) {
+                stats[i] += childStats[childOffset + i];
+            }
+            // add rid parts
+            if (child.ridStride > 0) {
+                for (int i = 0; i < child.ridCount; i++) {
+                    for (int j = 0; j < child.ridStride; j++) {
+                        stats[typeExtra + (i + 1) * ridStride + j] +=
+                            childStats[childOffset + typeExtra + (i + 1) * child.ridStride + j];
+                    }
                 }
             }
         }
@@ -625,85 +720,195 @@ public class QDStats {
     protected void initChild(QDStats child, SType type, String keyProperties, int ridCount, DataScheme scheme) {
         JMXNameBuilder.validateKeyProperties(keyProperties);
         child.keyProperties = keyProperties;
-        child.initStats(this, lock, type, ridCount, scheme);
+        child.initStats(this, lock, type, ridCount, scheme, stripeCount);
     }
 
     // ========== Gathering API ==========
 
+    // Returns offset of the stripe for the current thread, threads keep using the same stripe
+    private int stripeOffset() {
+        if (stripeMask == 0)
+            return 0;
+        long id = Thread.currentThread().getId();
+        return ((int) ((id * 0x9E3779B97F4A7C15L) >>> 32) & stripeMask) * stripeLength;
+    }
+
     // invoked for each parsed packet
     public void updateIOReadBytes(long bytes) {
-        stats[KIND_IO_READ_BYTES] += bytes;
+        stats[stripeOffset() + KIND_IO_READ_BYTES] += bytes;
     }
 
     public void updateIOReadRecordBytes(int rid, long bytes) {
-        stats[KIND_IO_READ_BYTES + (rid + 1) * ridStride] += bytes;
-        stats[KIND_IO_READ_BYTES] -= bytes; // to prevent double accounting of record bytes
+        int offset = stripeOffset();
+        stats[offset + KIND_IO_READ_BYTES + (rid + 1) * ridStride] += bytes;
+        stats[offset + KIND_IO_READ_BYTES] -= bytes; // to prevent double accounting of record bytes
     }
 
     public void updateIOReadSubRecord() {
-        stats[KIND_IO_SUB_READ_RECORDS]++;
+        stats[stripeOffset() + KIND_IO_SUB_READ_RECORDS]++;
     }
 
     public void updateIOReadDataRecord() {
-        stats[KIND_IO_DATA_READ_RECORDS]++;
+        stats[stripeOffset() + KIND_IO_DATA_READ_RECORDS]++;
     }
 
     public void updateIOReadRtts(int rtt) {
-        stats[KIND_IO_READ_RTTS] += rtt;
+        stats[stripeOffset() + KIND_IO_READ_RTTS] += rtt;
     }
 
     public void updateIOReadDataLags(long sumLag) {
-        stats[KIND_IO_DATA_READ_LAGS] += sumLag;
+        stats[stripeOffset() + KIND_IO_DATA_READ_LAGS] += sumLag;
     }
 
     // invoked for each composed packet
     public void updateIOWriteBytes(long bytes) {
-        stats[KIND_IO_WRITE_BYTES] += bytes;
+        stats[stripeOffset() + KIND_IO_WRITE_BYTES] += bytes;
     }
 
     public void updateIOWriteRecordBytes(int rid, long bytes) {
-        stats[KIND_IO_WRITE_BYTES + (rid + 1) * ridStride] += bytes;
-        stats[KIND_IO_WRITE_BYTES] -= bytes; // to prevent double accounting of record bytes
+        int offset = stripeOffset();
+        stats[offset + KIND_IO_WRITE_BYTES + (rid + 1) * ridStride] += bytes;
+        stats[offset + KIND_IO_WRITE_BYTES] -= bytes; // to prevent double accounting of record bytes
     }
 
     public void updateIOWriteSubRecord() {
-        stats[KIND_IO_SUB_WRITE_RECORDS]++;
+        stats[stripeOffset() + KIND_IO_SUB_WRITE_RECORDS]++;
     }
 
     public void updateIOWriteDataRecord() {
-        stats[KIND_IO_DATA_WRITE_RECORDS]++;
+        stats[stripeOffset() + KIND_IO_DATA_WRITE_RECORDS]++;
     }
 
     public void updateIOWriteRtts(int rtt) {
-        stats[KIND_IO_WRITE_RTTS] += rtt;
+        stats[stripeOffset() + KIND_IO_WRITE_RTTS] += rtt;
     }
 
     public void updateIOWriteDataLags(long sumLag) {
-        stats[KIND_IO_DATA_WRITE_LAGS] += sumLag;
+        stats[stripeOffset() + KIND_IO_DATA_WRITE_LAGS] += sumLag;
     }
 
     public void updateAdded(int rid) {
-        stats[KIND_ADDED + (rid + 1) * ridStride]++;
+        stats[stripeOffset() + KIND_ADDED + (rid + 1) * ridStride]++;
     }
 
     public void updateChanged(int rid) {
-        stats[KIND_CHANGED + (rid + 1) * ridStride]++;
+        stats[stripeOffset() + KIND_CHANGED + (rid + 1) * ridStride]++;
     }
 
     public void updateFiltered(int rid) {
-        stats[KIND_FILTERED + (rid + 1) * ridStride]++;
+        stats[stripeOffset() + KIND_FILTERED + (rid + 1) * ridStride]++;
     }
 
     public void updateRemoved(int rid) {
-        stats[KIND_REMOVED + (rid + 1) * ridStride]++;
+        stats[stripeOffset() + KIND_REMOVED + (rid + 1) * ridStride]++;
     }
 
     public void updateRemoved(int rid, int count) {
-        stats[KIND_REMOVED + (rid + 1) * ridStride] += count;
+        stats[stripeOffset() + KIND_REMOVED + (rid + 1) * ridStride] += count;
+    }
+
+    /**
+     * Returns {@code true} if latency of a data record with a given time mark shall be tracked
+     * with {@link #updateLatency}. It shall be invoked once per record, because each invocation
+     * makes an independent random decision.
+     * @param timeMark time mark of a record in {@link TimeMarkUtil#TIME_MARK_UNIT} units.
+     */
+    public static boolean isLatencySampled(int timeMark) {
+        // records of one batch share their time mark, so each record is sampled with its own random draw
+        return LATENCY_SAMPLE_MASK >= 0 && timeMark != 0 &&
+            (ThreadLocalRandom.current().nextInt() & LATENCY_SAMPLE_MASK) == 0;
+    }
+
+    /**
+     * Returns {@code true} if latencies of data records are tracked.
+     */
+    public static boolean isLatencyTracked() {
+        return LATENCY_SAMPLE_MASK >= 0;
+    }
+
+    public void updateLatency(LatencyPoint point, int rid, int micros) {
+        if (rid < 0 || rid >= ridCount)
+            rid = -1; // unknown record
+        getOrCreateLatencyHistogram(point.ordinal() * (ridCount + 1) + rid + 1).record(micros);
+    }
+
+    private LatencyHistogram getOrCreateLatencyHistogram(int index) {
+        LatencyHistogram[] latencies = this.latencies; // Atomic read.
+        LatencyHistogram histogram = latencies == null ? null : latencies[index];
+        if (histogram != null)
+            return histogram;
+        synchronized (lock) {
+            if (this.latencies == null)
+                this.latencies = new LatencyHistogram[LatencyPoint.values().length * (ridCount + 1)];
+            histogram = this.latencies[index];
+            if (histogram == null) {
+                histogram = new LatencyHistogram();
+                // array element is published with a volatile write of the array reference
+                LatencyHistogram[] copy = this.latencies.clone();
+                copy[index] = histogram;
+                this.latencies = copy;
+            }
+            return histogram;
+        }
     }
 
     // ========== Retrieval API ==========
 
+    /**
+     * Returns histogram of latencies at the given point for all records.
+     * @param point the point of delivery.
+     * @param localOnly when {@code true} children stats are not included.
+     */
+    public LatencyHistogram getLatencyHistogram(LatencyPoint point, boolean localOnly) {
+        LatencyHistogram result = new LatencyHistogram();
+        addLatencyHistogramsImpl(point, localOnly ? 0 : 2, result, null);
+        return result;
+    }
+
+    /**
+     * Returns histograms of latencies at the given point for each record.
+     * Elements for records without tracked latencies are {@code null}.
+     * @param point the point of delivery.
+     * @param localOnly when {@code true} children stats are not included.
+     */
+    public LatencyHistogram[] getLatencyHistograms(LatencyPoint point, boolean localOnly) {
+        LatencyHistogram[] result = new LatencyHistogram[ridCount];
+        addLatencyHistogramsImpl(point, localOnly ? 0 : 2, null, result);
+        return result;
+    }
+
+    // See getValueImpl() method for traverse flag meaning
+    private void addLatencyHistogramsImpl(LatencyPoint point, int traverse, LatencyHistogram total,
+        LatencyHistogram[] byRid)
+    {
+        LatencyHistogram[] latencies = this.latencies; // Atomic read.
+        if (latencies != null) {
+            int offset = point.ordinal() * (ridCount + 1);
+            for (int i = 0; i <= ridCount; i++) {
+                LatencyHistogram histogram = latencies[offset + i];
+                if (histogram == null)
+                    continue;
+                if (total != null)
+                    total.add(histogram);
+                if (byRid != null && i > 0 && i <= byRid.length) {
+                    if (byRid[i - 1] == null)
+                        byRid[i - 1] = new LatencyHistogram();
+                    byRid[i - 1].add(histogram);
+                }
+            }
+        }
+        if (traverse == 0)
+            return;
+
+        QDStats[] children = this.children; // Atomic read.
+        for (QDStats child : children) {
+            // Child is processed recursively (for sum nodes) or if it is of the "same" type as this node.
+            if (child != null && (traverse == 2 || (traverse == 1 && isSumFor(child)))) {
+                child.addLatencyHistogramsImpl(point, child.isSum() ? 2 : 1, total, byRid);
+            }
+        }
+    }
+
     public long getValue(SValue value) {
         return getValue(value, false);
     }
@@ -760,6 +965,14 @@ public class QDStats {
     }
 
     private long getSingleValue(SValue value, int index) {
+        long v = 0;
+        for (int s = 0; s <= stripeMask; s++) {
+            v += getSingleStripeValue(value, s * stripeLength + index);
+        }
+        return v;
+    }
+
+    private long getSingleStripeValue(SValue value, int index) {
         // Special handling for virtual KIND_SIZE which is defined as KIND_ADDED - KIND_REMOVED
         if (value.getKind() == KIND_SIZE) {
             // Read removed first to avoid negative sizes
@@ -809,14 +1022,23 @@ public class QDStats {
      */
     @Deprecated
     public void initRoot(SType type, int ridCount) {
-        initStats(null, new StatsLock(), type, ridCount, null);
+        initStats(null, new StatsLock(), type, ridCount, null, STRIPE_COUNT);
     }
 
     /**
      * Initializes root statistics after instantiation using no-arg constructor.
      */
     public void initRoot(SType type, DataScheme scheme) {
-        initStats(null, new StatsLock(), type, 0, scheme);
+        initStats(null, new StatsLock(), type, 0, scheme, STRIPE_COUNT);
+    }
+
+    /**
+     * Initializes root statistics after instantiation using no-arg constructor
+     * with a given number of stripes for IO stats in this tree.
+     * The number of stripes is rounded up to a power of 2, 1 turns striping off.
+     */
+    public void initRoot(SType type, DataScheme scheme, int stripeCount) {
+        initStats(null, new StatsLock(), type, 0, scheme, stripeCount);
     }
 
     /**
@@ -969,6 +1191,9 @@ public class QDStats {
         @Override
         public void updateIOReadBytes(long bytes) {}
 
+        @Override
+        public void updateLatency(LatencyPoint point, int rid, int micros) {}
+
         @Override
         public void updateIOReadRecordBytes(int rid, long bytes) {}
 
@@ -0,0 +1,71 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.devexperts.qd.util;
+
+import com.devexperts.qd.QDFilter;
+
+/**
+ * Change of symbols that are accepted by an updated instance of {@link QDFilter#isDynamic() dynamic} filter
+ * compared to its {@link #getSource() source} instance. See {@link QDFilter#getSymbolSetDelta()}.
+ */
+public class SymbolSetDelta {
+    private final QDFilter source;
+    private final SymbolSet addedSymbols;
+    private final SymbolSet removedSymbols;
+
+    /**
+     * Creates delta.
+     * @param source the instance of the filter that the change is relative to.
+     * @param addedSymbols symbols that were not accepted by the source filter and are accepted now.
+     * @param removedSymbols symbols that were accepted by the source filter and are not accepted now.
+     */
+    public SymbolSetDelta(QDFilter source, SymbolSet addedSymbols, SymbolSet removedSymbols) {
+        this.source = source;
+        this.addedSymbols = addedSymbols.unmodifiable();
+        this.removedSymbols = removedSymbols.unmodifiable();
+    }
+
+    /**
+     * Returns the instance of the filter that this change is relative to.
+     */
+    public QDFilter getSource() {
+        return source;
+    }
+
+    public SymbolSet getAddedSymbols() {
+        return addedSymbols;
+    }
+
+    public SymbolSet getRemovedSymbols() {
+        return removedSymbols;
+    }
+
+    public boolean isEmpty() {
+        return addedSymbols.isEmpty() && removedSymbols.isEmpty();
+    }
+
+    /**
+     * Returns {@code true} if the specified symbol that was accepted by the source filter is not accepted anymore.
+     * The result is unspecified for symbols that were not accepted by the source filter.
+     *
+     * <p>This implementation checks if the symbol is contained in {@link #getRemovedSymbols() removed symbols}
+     * and is designed for override by filters that accept symbols derived from their symbol sets.
+     */
+    public boolean isRemoved(int cipher, String symbol) {
+        return removedSymbols.contains(cipher, symbol);
+    }
+
+    @Override
+    public String toString() {
+        return "+" + addedSymbols.size() + " -" + removedSymbols.size() + " symbols";
+    }
+}
@@ -0,0 +1,283 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.devexperts.connector.codec.compress;
+
+import com.devexperts.connector.proto.ApplicationConnection;
+import com.devexperts.connector.proto.ApplicationConnectionFactory;
+import com.devexperts.connector.proto.TransportConnection;
+import com.devexperts.io.Chunk;
+import com.devexperts.io.ChunkList;
+import com.devexperts.io.ChunkPool;
+import com.devexperts.transport.stats.ConnectionStats;
+import com.devexperts.util.TypedMap;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class CompressConnectionTest {
+    private static final byte[] DICTIONARY = "QuoteBid.PriceAsk.PriceBid.SizeAsk.Size".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    public void testCompressedBothWays() throws IOException {
+        checkCompressedBothWays(CompressConnectionFactory.DEFLATE, false);
+    }
+
+    @Test
+    public void testFastWithDictionary() throws IOException {
+        checkCompressedBothWays(CompressConnectionFactory.FAST, true);
+    }
+
+    private void checkCompressedBothWays(String method, boolean dictionary) throws IOException {
+        Side a = new Side(method, dictionary);
+        Side b = new Side(method, dictionary);
+        byte[] dataA = data("Quote\tIBM\t123.45\t100\t123.50\t200\n", 1000);
+        byte[] dataB = data("addSubscription\tQuote\tIBM\n", 100);
+        a.app.send(dataA);
+        b.app.send(dataB);
+        pump(a, b);
+        assertArrayEquals(dataA, b.app.received.toByteArray());
+        assertArrayEquals(dataB, a.app.received.toByteArray());
+        // second portion after handshake
+        a.app.send(dataB);
+        pump(a, b);
+        assertArrayEquals(dataB, Arrays.copyOfRange(b.app.received.toByteArray(), dataA.length,
+            dataA.length + dataB.length));
+
+        assertEquals(dataA.length + dataB.length, a.stats.getCompressionInBytes());
+        assertEquals(a.stats.getCompressionOutBytes(), b.stats.getDecompressionInBytes());
+        assertEquals(dataA.length + dataB.length, b.stats.getDecompressionOutBytes());
+        assertTrue(a.stats.getCompressionRatio() > 10);
+        assertTrue(a.stats.getCompressionElapsedNanos() > 0);
+    }
+
+    @Test
+    public void testClose() throws IOException {
+        Side a = new Side(CompressConnectionFactory.DEFLATE, false);
+        Side b = new Side(CompressConnectionFactory.DEFLATE, false);
+        byte[] dataA = data("Quote\tIBM\t123.45\t100\t123.50\t200\n", 100);
+        a.app.send(dataA);
+        b.app.send(dataA);
+        pump(a, b);
+        assertArrayEquals(dataA, a.app.received.toByteArray());
+        // deflater and inflater are ended on close and are not used after that
+        a.transport.connection.close();
+        a.app.send(dataA);
+        assertNull(a.transport.connection.retrieveChunks(this));
+        b.app.send(dataA);
+        assertFalse(a.transport.connection.processChunks(b.transport.connection.retrieveChunks(this), this));
+        assertArrayEquals(dataA, a.app.received.toByteArray());
+    }
+
+    @Test
+    public void testFallbackToPlain() throws IOException {
+        Side a = new Side(CompressConnectionFactory.DEFLATE, true);
+        PlainSide b = new PlainSide();
+        byte[] dataA = data("Quote\tIBM\t123.45\t100\t123.50\t200\n", 100);
+        byte[] dataB = data("addSubscription\tQuote\tIBM\n", 10);
+        a.app.send(dataA);
+        b.app.send(dataB);
+        // nothing but hello is sent before anything is received
+        ChunkList hello = a.transport.connection.retrieveChunks(this);
+        assertTrue(hello.getTotalLength() < 100);
+        assertEquals(null, a.transport.connection.retrieveChunks(this));
+        b.transport.connection.processChunks(hello, this);
+        a.transport.connection.processChunks(b.transport.connection.retrieveChunks(this), this);
+        assertArrayEquals(dataB, a.app.received.toByteArray());
+        b.transport.connection.processChunks(a.transport.connection.retrieveChunks(this), this);
+        byte[] received = b.app.received.toByteArray();
+        assertArrayEquals(dataA, Arrays.copyOfRange(received, received.length - dataA.length, received.length));
+        assertEquals(0, a.stats.getCompressionInBytes());
+        assertEquals(0, a.stats.getDecompressionInBytes());
+    }
+
+    @Test
+    public void testChooseMethod() {
+        assertEquals("fast", CompressConnection.chooseMethod("fast,deflate", "deflate,fast"));
+        assertEquals("deflate", CompressConnection.chooseMethod("deflate,fast", "fast,deflate"));
+        assertEquals("deflate", CompressConnection.chooseMethod("zstd,deflate", "deflate, zstd2"));
+        assertNull(CompressConnection.chooseMethod("deflate,fast", "zstd"));
+    }
+
+    @Test
+    public void testNoCommonMethod() throws IOException {
+        Side a = new Side(CompressConnectionFactory.DEFLATE, false);
+        Side b = new Side(CompressConnectionFactory.DEFLATE, false, "zstd");
+        byte[] dataA = data("Quote\tIBM\t123.45\t100\t123.50\t200\n", 100);
+        byte[] dataB = data("addSubscription\tQuote\tIBM\n", 10);
+        a.app.send(dataA);
+        b.app.send(dataB);
+        pump(a, b);
+        // both sides fall back to plain data, hello is passed to application as a reserved message
+        byte[] receivedA = a.app.received.toByteArray();
+        byte[] receivedB = b.app.received.toByteArray();
+        assertArrayEquals(dataB, Arrays.copyOfRange(receivedA, receivedA.length - dataB.length, receivedA.length));
+        assertArrayEquals(dataA, Arrays.copyOfRange(receivedB, receivedB.length - dataA.length, receivedB.length));
+        assertEquals(0, a.stats.getCompressionInBytes());
+        assertEquals(0, b.stats.getCompressionInBytes());
+    }
+
+    private void pump(Side a, Side b) {
+        TestTransport[] transports = { a.transport, b.transport };
+        boolean moved = true;
+        while (moved) {
+            moved = false;
+            for (int i = 0; i < 2; i++) {
+                TestTransport from = transports[i];
+                TestTransport to = transports[1 - i];
+                ChunkList chunks = from.connection.retrieveChunks(this);
+                if (chunks != null) {
+                    // deliver in small pieces to check incremental parsing
+                    for (Chunk chunk : chunks) {
+                        for (int offset = 0; offset < chunk.getLength(); offset += 7) {
+                            int length = Math.min(7, chunk.getLength() - offset);
+                            to.connection.processChunks(ChunkPool.DEFAULT.copyToChunkList(
+                                chunk.getBytes(), chunk.getOffset() + offset, length, this), this);
+                        }
+                    }
+                    chunks.recycle(this);
+                    moved = true;
+                }
+            }
+        }
+    }
+
+    private static byte[] data(String line, int count) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            sb.append(line);
+        }
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static class Side {
+        final ConnectionStats stats = new ConnectionStats();
+        final TestTransport transport = new TestTransport(stats);
+        final TestApp app;
+
+        Side(String method, boolean dictionary) throws IOException {
+            this(method, dictionary, null);
+        }
+
+        Side(String method, boolean dictionary, String offer) throws IOException {
+            TestAppFactory appFactory = new TestAppFactory();
+            CompressConnectionFactory factory = new CompressConnectionFactory(appFactory) {
+                @Override
+                synchronized byte[] getDictionaryBytes() {
+                    return dictionary ? DICTIONARY : null;
+                }
+
+                @Override
+                String getOffer() {
+                    return offer != null ? offer : super.getOffer();
+                }
+            };
+            factory.setMethod(method);
+            transport.connection = factory.createConnection(transport);
+            app = appFactory.app;
+            transport.connection.start();
+        }
+    }
+
+    private static class PlainSide {
+        final TestTransport transport = new TestTransport(null);
+        final TestApp app;
+
+        PlainSide() throws IOException {
+            TestAppFactory appFactory = new TestAppFactory();
+            transport.connection = appFactory.createConnection(transport);
+            app = appFactory.app;
+            transport.connection.start();
+        }
+    }
+
+    private static class TestTransport implements TransportConnection {
+        final TypedMap variables = new TypedMap();
+        ApplicationConnection<?> connection;
+
+        TestTransport(ConnectionStats stats) {
+            if (stats != null)
+                variables.set(CONNECTION_STATS_KEY, stats);
+        }
+
+        @Override
+        public TypedMap variables() {
+            return variables;
+        }
+
+        @Override
+        public void markForImmediateRestart() {}
+
+        @Override
+        public void connectionClosed() {}
+
+        @Override
+        public void chunksAvailable() {}
+
+        @Override
+        public void readyToProcessChunks() {}
+    }
+
+    private static class TestAppFactory extends ApplicationConnectionFactory {
+        TestApp app;
+
+        @Override
+        public ApplicationConnection<?> createConnection(TransportConnection transportConnection) {
+            return app = new TestApp(this, transportConnection);
+        }
+
+        @Override
+        public String toString() {
+            return "Test";
+        }
+    }
+
+    private static class TestApp extends ApplicationConnection<TestAppFactory> {
+        final ByteArrayOutputStream received = new ByteArrayOutputStream();
+        ChunkList toSend;
+
+        TestApp(TestAppFactory factory, TransportConnection transportConnection) {
+            super(factory, transportConnection);
+        }
+
+        void send(byte[] bytes) {
+            toSend = ChunkPool.DEFAULT.copyToChunkList(bytes, 0, bytes.length, this);
+            notifyChunksAvailable();
+        }
+
+        @Override
+        public ChunkList retrieveChunks(Object owner) {
+            ChunkList result = toSend;
+            toSend = null;
+            if (result != null)
+                result.handOver(this, owner);
+            return result;
+        }
+
+        @Override
+        public boolean processChunks(ChunkList chunks, Object owner) {
+            for (Chunk chunk : chunks) {
+                received.write(chunk.getBytes(), chunk.getOffset(), chunk.getLength());
+            }
+            chunks.recycle(owner);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.devexperts.qd.impl.matrix;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class MapperTest {
+    private static final int SYMBOL_COUNT = 10_000;
+
+    @Test
+    public void testLookupAcrossRehash() {
+        Mapper mapper = new Mapper(this);
+        List<String> symbols = new ArrayList<>();
+        int[] keys = new int[SYMBOL_COUNT];
+        for (int i = 0; i < SYMBOL_COUNT; i++) {
+            String symbol = ".S" + i + "C" + (i * 7 % 1000);
+            symbols.add(symbol);
+            mapper.incMaxCounter(1);
+            keys[i] = mapper.addKey(symbol);
+            mapper.incCounter(keys[i]);
+        }
+        Mapping mapping = mapper.getMapping();
+        for (int i = 0; i < SYMBOL_COUNT; i++) {
+            String symbol = new String(symbols.get(i)); // not the same instance
+            char[] chars = ("#" + symbol + "#").toCharArray();
+            assertEquals(keys[i], mapping.getKey(symbol));
+            assertEquals(keys[i], mapping.getKey(chars, 1, symbol.length()));
+            assertSame(symbols.get(i), mapping.getSymbolIfPresent(chars, 1, symbol.length()));
+            assertSame(symbols.get(i), mapping.getSymbol(keys[i]));
+        }
+        assertEquals(0, mapping.getKey("UNKNOWN"));
+        assertNull(mapping.getSymbolIfPresent("UNKNOWN".toCharArray(), 0, 7));
+    }
+
+    @Test
+    public void testHashCollisions() {
+        // all these symbols have the same hash code
+        String[] symbols = {"AaAa", "AaBB", "BBAa", "BBBB"};
+        assertEquals(symbols[0].hashCode(), symbols[3].hashCode());
+        Mapper mapper = new Mapper(this);
+        int[] keys = new int[symbols.length];
+        for (int i = 0; i < symbols.length; i++) {
+            mapper.incMaxCounter(1);
+            keys[i] = mapper.addKey(symbols[i].toCharArray(), 0, symbols[i].length());
+            mapper.incCounter(keys[i]);
+        }
+        for (int i = 0; i < symbols.length; i++) {
+            assertTrue(keys[i] != 0);
+            assertEquals(keys[i], mapper.addKey(symbols[i]));
+            assertEquals(keys[i], mapper.getMapping().getKey(symbols[i]));
+            assertEquals(symbols[i], mapper.getMapping().getSymbol(keys[i]));
+        }
+        assertEquals(0, mapper.getMapping().getKey("AaAb"));
+        assertEquals(0, mapper.getMapping().getKey("AaA"));
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.devexperts.qd.impl.matrix;
+
+import com.devexperts.qd.DataIntField;
+import com.devexperts.qd.DataObjField;
+import com.devexperts.qd.DataRecord;
+import com.devexperts.qd.DataScheme;
+import com.devexperts.qd.QDAgent;
+import com.devexperts.qd.QDDistributor;
+import com.devexperts.qd.QDFactory;
+import com.devexperts.qd.QDFilter;
+import com.devexperts.qd.QDHistory;
+import com.devexperts.qd.kit.CompactIntField;
+import com.devexperts.qd.kit.DefaultRecord;
+import com.devexperts.qd.kit.DefaultScheme;
+import com.devexperts.qd.kit.MarshalledObjField;
+import com.devexperts.qd.kit.PentaCodec;
+import com.devexperts.qd.kit.TimeMillisField;
+import com.devexperts.qd.ng.RecordBuffer;
+import com.devexperts.qd.ng.RecordCursor;
+import com.devexperts.qd.ng.RecordMode;
+import com.devexperts.qd.stats.QDStats;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Verifies that {@link HistoryBuffer} with int values stored off heap behaves exactly as the on-heap one.
+ */
+public class OffHeapHistoryBufferTest {
+    private static final DataRecord RECORD = new DefaultRecord(0, "Test_Record", true,
+        new DataIntField[] {
+            new TimeMillisField(0, "Test_Record.Time"),
+            new CompactIntField(1, "Test_Record.Int0"),
+            new CompactIntField(2, "Test_Record.Int1")},
+        new DataObjField[] {
+            new MarshalledObjField(0, "Test_Record.Obj0")}
+    );
+
+    private static final DataScheme SCHEME = new DefaultScheme(PentaCodec.INSTANCE, RECORD);
+
+    private final Random rnd = new Random(20261017);
+
+    @Test
+    public void testRandomUpdates() throws Exception {
+        for (boolean withEventTimeSequence : new boolean[] {false, true}) {
+            OffHeapIntAllocator allocator = new OffHeapIntAllocator(1 << 12);
+            HistoryBuffer heap = new HistoryBuffer(RECORD, withEventTimeSequence);
+            HistoryBuffer offHeap = new HistoryBuffer(RECORD, withEventTimeSequence, allocator);
+            assertFalse(heap.isOffHeap());
+            assertTrue(offHeap.isOffHeap());
+            // just only to pass validation
+            HistoryBufferTest.setFieldValue(heap, "everSnapshotTime", Long.MIN_VALUE);
+            HistoryBufferTest.setFieldValue(offHeap, "everSnapshotTime", Long.MIN_VALUE);
+            for (int i = 0; i < 50_000; i++) {
+                long time = rnd.nextInt(3000);
+                boolean remove = rnd.nextInt(3) == 0;
+                RecordCursor cursor = createCursor(time, rnd.nextInt(4));
+                assertEquals(
+                    heap.putRecord(time, cursor, remove, QDStats.VOID, 0),
+                    offHeap.putRecord(time, cursor, remove, QDStats.VOID, 0));
+                if (i % 5000 == 0) {
+                    offHeap.selfValidate();
+                    compare(heap, offHeap);
+                }
+            }
+            heap.enforceMaxRecordCount(100, QDStats.VOID, 0);
+            offHeap.enforceMaxRecordCount(100, QDStats.VOID, 0);
+            compare(heap, offHeap);
+            heap.removeOldRecords(2900, QDStats.VOID, 0);
+            offHeap.removeOldRecords(2900, QDStats.VOID, 0);
+            compare(heap, offHeap);
+            offHeap.clearAllRecords(QDStats.VOID, 0);
+            offHeap.release();
+            assertEquals(0, allocator.getUsedBytes());
+        }
+    }
+
+    @Test
+    public void testMemoryReuse() {
+        OffHeapIntAllocator allocator = new OffHeapIntAllocator(1 << 16);
+        for (int i = 0; i < 100; i++) {
+            HistoryBuffer hb = new HistoryBuffer(RECORD, false, allocator);
+            for (int time = 0; time < 1000; time++) {
+                hb.putRecord(time, createCursor(time, 0), false, QDStats.VOID, 0);
+            }
+            hb.selfValidate();
+            hb.release();
+        }
+        assertEquals(0, allocator.getUsedBytes());
+        // all buffers reuse the memory of the first one
+        long reserved = allocator.getReservedBytes();
+        HistoryBuffer hb = new HistoryBuffer(RECORD, false, allocator);
+        for (int time = 0; time < 1000; time++) {
+            hb.putRecord(time, createCursor(time, 0), false, QDStats.VOID, 0);
+        }
+        assertEquals(reserved, allocator.getReservedBytes());
+        hb.selfValidate(); // recycled memory is clean
+    }
+
+    @Test
+    public void testMove() {
+        OffHeapIntAllocator allocator = new OffHeapIntAllocator(1 << 16);
+        for (int i = 0; i < 1000; i++) {
+            int length = 1 + rnd.nextInt(100);
+            HistoryIntArray heap = HistoryIntArray.allocate(null, length);
+            HistoryIntArray offHeap = HistoryIntArray.allocate(allocator, length);
+            for (int j = 0; j < length; j++) {
+                int value = rnd.nextInt();
+                heap.set(j, value);
+                offHeap.set(j, value);
+            }
+            // overlapping moves in both directions
+            int moveLength = rnd.nextInt(length + 1);
+            int srcPos = rnd.nextInt(length - moveLength + 1);
+            int destPos = rnd.nextInt(length - moveLength + 1);
+            heap.move(srcPos, destPos, moveLength);
+            offHeap.move(srcPos, destPos, moveLength);
+            for (int j = 0; j < length; j++) {
+                assertEquals(heap.get(j), offHeap.get(j));
+            }
+            offHeap.release();
+        }
+    }
+
+    @Test
+    public void testOffHeapHistoryCollector() {
+        QDHistory history = QDFactory.getDefaultFactory().historyBuilder()
+            .withScheme(SCHEME)
+            .withOffHeapHistoryFilter(QDFilter.ANYTHING)
+            .build();
+        QDAgent agent = history.agentBuilder().build();
+        RecordBuffer sub = new RecordBuffer(RecordMode.HISTORY_SUBSCRIPTION);
+        sub.add(RECORD, 0, "IBM").setTime(0);
+        agent.setSubscription(sub);
+        QDDistributor distributor = history.distributorBuilder().build();
+        RecordBuffer data = new RecordBuffer();
+        for (int time = 1; time <= 1000; time++) {
+            RecordCursor cursor = data.add(RECORD, 0, "IBM");
+            cursor.setTime(time);
+            cursor.setInt(2, time * 10);
+            cursor.setObj(0, "obj" + time);
+        }
+        distributor.process(data);
+        RecordBuffer examined = new RecordBuffer();
+        history.examineData(RECORD, 0, "IBM", 1000, 1, examined);
+        assertEquals(1000, examined.size());
+        for (int time = 1000; time >= 1; time--) {
+            RecordCursor cursor = examined.next();
+            assertEquals(time, cursor.getTime());
+            assertEquals(time * 10, cursor.getInt(2));
+            assertEquals("obj" + time, cursor.getObj(0));
+        }
+        history.close();
+    }
+
+    private static void compare(HistoryBuffer expected, HistoryBuffer actual) {
+        assertEquals(expected.size(), actual.size());
+        assertEquals(expected.getMinAvailableTime(), actual.getMinAvailableTime());
+        assertEquals(expected.getMaxAvailableTime(), actual.getMaxAvailableTime());
+        RecordBuffer expectedSink = RecordBuffer.getInstance(RecordMode.TIMESTAMPED_DATA.withEventTimeSequence());
+        RecordBuffer actualSink = RecordBuffer.getInstance(RecordMode.TIMESTAMPED_DATA.withEventTimeSequence());
+        expected.examineDataRangeLTR(RECORD, 0, "TEST", Long.MIN_VALUE, Long.MAX_VALUE, expectedSink,
+            new RecordCursorKeeper(), null);
+        actual.examineDataRangeLTR(RECORD, 0, "TEST", Long.MIN_VALUE, Long.MAX_VALUE, actualSink,
+            new RecordCursorKeeper(), null);
+        assertEquals(expectedSink.size(), actualSink.size());
+        while (expectedSink.hasNext()) {
+            RecordCursor e = expectedSink.next();
+            RecordCursor a = actualSink.next();
+            for (int i = 0; i < RECORD.getIntFieldCount(); i++) {
+                assertEquals(e.getInt(i), a.getInt(i));
+            }
+            assertEquals(e.getObj(0), a.getObj(0));
+            assertEquals(e.getEventTimeSequence(), a.getEventTimeSequence());
+        }
+    }
+
+    private static RecordCursor createCursor(long time, int version) {
+        RecordBuffer buf = new RecordBuffer(RecordMode.TIMESTAMPED_DATA.withEventTimeSequence());
+        RecordCursor cursor = buf.add(RECORD, 0, "TEST");
+        cursor.setEventTimeSequence(time * 10 + version);
+        cursor.setTime(time);
+        cursor.setInt(2, (int) time + version);
+        cursor.setObj(0, time + ":" + version);
+        return cursor;
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.devexperts.qd.impl.matrix;
+
+import com.devexperts.qd.DataIntField;
+import com.devexperts.qd.DataObjField;
+import com.devexperts.qd.DataRecord;
+import com.devexperts.qd.DataScheme;
+import com.devexperts.qd.QDAgent;
+import com.devexperts.qd.QDDistributor;
+import com.devexperts.qd.QDFactory;
+import com.devexperts.qd.QDTicker;
+import com.devexperts.qd.kit.CompactIntField;
+import com.devexperts.qd.kit.DefaultRecord;
+import com.devexperts.qd.kit.DefaultScheme;
+import com.devexperts.qd.kit.MarshalledObjField;
+import com.devexperts.qd.kit.PentaCodec;
+import com.devexperts.qd.ng.AbstractRecordSink;
+import com.devexperts.qd.ng.RecordBuffer;
+import com.devexperts.qd.ng.RecordCursor;
+import com.devexperts.qd.ng.RecordMode;
+import com.devexperts.qd.stats.QDStats;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Runs {@link TickerConflationTest} for the ticker in single-writer mode and checks that concurrent readers
+ * never observe partially updated records.
+ */
+public class SingleWriterTickerTest extends TickerConflationTest {
+    private static final int FIELDS = 4;
+    private static final String[] SYMBOLS = {"IBM", "MSFT_MSFT_MSFT", "AAPL_AAPL_AAPL"};
+
+    private static final DataRecord WIDE_RECORD = new DefaultRecord(0, "Wide", false,
+        new DataIntField[] {
+            new CompactIntField(0, "Wide.Int0"),
+            new CompactIntField(1, "Wide.Int1"),
+            new CompactIntField(2, "Wide.Int2"),
+            new CompactIntField(3, "Wide.Int3")},
+        new DataObjField[] {
+            new MarshalledObjField(0, "Wide.Obj0")}
+    );
+    private static final DataScheme WIDE_SCHEME = new DefaultScheme(PentaCodec.INSTANCE, WIDE_RECORD);
+
+    @Before
+    @Override
+    public void setUp() throws Exception {
+        setUp(QDFactory.getDefaultFactory().tickerBuilder()
+            .withScheme(SCHEME)
+            .withStats(QDStats.VOID)
+            .withSingleWriter(true)
+            .build());
+    }
+
+    @Test
+    public void testRemove() {
+        QDTicker ticker = (QDTicker) collector;
+        collector.setStoreEverything(true);
+        process(distributor::process, SYMBOL, 100, 1);
+        assertTrue(ticker.isAvailable(RECORD, 0, SYMBOL));
+        RecordCursor.Owner owner = RecordCursor.allocateOwner();
+        assertTrue(ticker.getDataIfAvailable(owner, RECORD, 0, SYMBOL));
+        assertEquals(100, owner.cursor().getInt(VALUE_INDEX));
+        RecordBuffer buf = new RecordBuffer();
+        buf.add(RECORD, 0, SYMBOL);
+        ticker.remove(buf);
+        assertFalse(ticker.isAvailable(RECORD, 0, SYMBOL));
+        assertFalse(ticker.getDataIfAvailable(owner, RECORD, 0, SYMBOL));
+        // data copied before removal stays intact
+        assertEquals(100, owner.cursor().getInt(VALUE_INDEX));
+        process(distributor::process, SYMBOL, 200, 2);
+        assertTrue(ticker.getDataIfAvailable(owner, RECORD, 0, SYMBOL));
+        assertEquals(200, owner.cursor().getInt(VALUE_INDEX));
+    }
+
+    @Test
+    public void testConsistentReads() throws InterruptedException {
+        QDTicker ticker = QDFactory.getDefaultFactory().tickerBuilder()
+            .withScheme(WIDE_SCHEME)
+            .withStats(QDStats.VOID)
+            .withSingleWriter(true)
+            .build();
+        ticker.setStoreEverything(true);
+        QDDistributor writer = ticker.distributorBuilder().build();
+        QDAgent agent = ticker.agentBuilder().build();
+        RecordBuffer sub = RecordBuffer.getInstance(RecordMode.SUBSCRIPTION);
+        for (String symbol : SYMBOLS) {
+            sub.add(WIDE_RECORD, 0, symbol);
+        }
+        agent.setSubscription(sub);
+
+        AtomicBoolean stop = new AtomicBoolean();
+        AtomicReference<String> failure = new AtomicReference<>();
+        AtomicInteger reads = new AtomicInteger();
+        AbstractRecordSink checker = new AbstractRecordSink() {
+            @Override
+            public void append(RecordCursor cursor) {
+                String error = checkConsistent(cursor);
+                if (error != null)
+                    failure.compareAndSet(null, error);
+                reads.incrementAndGet();
+            }
+        };
+        Thread getter = new Thread(() -> {
+            RecordCursor.Owner owner = RecordCursor.allocateOwner();
+            while (!stop.get()) {
+                for (String symbol : SYMBOLS) {
+                    if (ticker.getDataIfAvailable(owner, WIDE_RECORD, 0, symbol))
+                        checker.append(owner.cursor());
+                }
+            }
+        });
+        Thread examiner = new Thread(() -> {
+            while (!stop.get()) {
+                ticker.examineData(checker);
+            }
+        });
+        Thread retriever = new Thread(() -> {
+            while (!stop.get()) {
+                agent.retrieve(checker);
+            }
+        });
+        getter.start();
+        examiner.start();
+        retriever.start();
+        RecordBuffer buf = new RecordBuffer();
+        long deadline = System.currentTimeMillis() + 500;
+        for (int value = 1; System.currentTimeMillis() < deadline || reads.get() == 0; value++) {
+            buf.clear();
+            for (String symbol : SYMBOLS) {
+                RecordCursor cursor = buf.add(WIDE_RECORD, 0, symbol);
+                for (int i = 0; i < FIELDS; i++) {
+                    cursor.setInt(i, value);
+                }
+                cursor.setObj(0, value);
+            }
+            writer.process(buf);
+            if (value % 1000 == 0) {
+                // exercise slot removal and reuse, too
+                buf.rewind();
+                ticker.remove(buf);
+            }
+        }
+        stop.set(true);
+        getter.join();
+        examiner.join();
+        retriever.join();
+        agent.close();
+        writer.close();
+        ticker.close();
+        assertNull(failure.get());
+    }
+
+    @Test
+    public void testConcurrentSubscriptionChanges() throws InterruptedException {
+        QDTicker ticker = QDFactory.getDefaultFactory().tickerBuilder()
+            .withScheme(WIDE_SCHEME)
+            .withStats(QDStats.VOID)
+            .withSingleWriter(true)
+            .build();
+        QDDistributor writer = ticker.distributorBuilder().build();
+        QDAgent agent = ticker.agentBuilder().build();
+        RecordBuffer sub = RecordBuffer.getInstance(RecordMode.SUBSCRIPTION);
+        for (String symbol : SYMBOLS) {
+            sub.add(WIDE_RECORD, 0, symbol);
+        }
+
+        AtomicBoolean stop = new AtomicBoolean();
+        AtomicInteger lastValue = new AtomicInteger();
+        Thread publisher = new Thread(() -> {
+            RecordBuffer buf = new RecordBuffer();
+            for (int value = 1; !stop.get(); value++) {
+                buf.clear();
+                for (String symbol : SYMBOLS) {
+                    RecordCursor cursor = buf.add(WIDE_RECORD, 0, symbol);
+                    for (int i = 0; i < FIELDS; i++) {
+                        cursor.setInt(i, value);
+                    }
+                    cursor.setObj(0, value);
+                }
+                writer.process(buf);
+                lastValue.set(value);
+            }
+        });
+        publisher.start();
+        // subscription changes take global lock while the writer processes data without it
+        long deadline = System.currentTimeMillis() + 500;
+        while (System.currentTimeMillis() < deadline || lastValue.get() == 0) {
+            sub.rewind();
+            agent.setSubscription(sub);
+            sub.rewind();
+            agent.removeSubscription(sub);
+        }
+        sub.rewind();
+        agent.setSubscription(sub);
+        // let the publisher process data for the final subscription at least once
+        int subscribedValue = lastValue.get();
+        while (lastValue.get() < subscribedValue + 2) {
+            Thread.yield();
+        }
+        stop.set(true);
+        publisher.join();
+        // the last value is stored and delivered after the publisher has stopped
+        RecordCursor.Owner owner = RecordCursor.allocateOwner();
+        for (String symbol : SYMBOLS) {
+            assertTrue(ticker.getDataIfAvailable(owner, WIDE_RECORD, 0, symbol));
+            assertEquals(lastValue.get(), owner.cursor().getInt(0));
+            assertNull(checkConsistent(owner.cursor()));
+        }
+        RecordBuffer data = new RecordBuffer();
+        agent.retrieve(data);
+        assertEquals(SYMBOLS.length, data.size());
+        agent.close();
+        writer.close();
+        ticker.close();
+    }
+
+    private static String checkConsistent(RecordCursor cursor) {
+        int value = cursor.getInt(0);
+        for (int i = 1; i < FIELDS; i++) {
+            if (cursor.getInt(i) != value)
+                return "Torn read of " + cursor;
+        }
+        if (value != 0 && !Integer.valueOf(value).equals(cursor.getObj(0)))
+            return "Torn read of " + cursor + ": " + cursor.getObj(0);
+        return null;
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.devexperts.qd.impl.matrix;
+
+import com.devexperts.qd.DataIntField;
+import com.devexperts.qd.DataObjField;
+import com.devexperts.qd.DataRecord;
+import com.devexperts.qd.DataScheme;
+import com.devexperts.qd.QDAgent;
+import com.devexperts.qd.QDDistributor;
+import com.devexperts.qd.QDFactory;
+import com.devexperts.qd.QDStream;
+import com.devexperts.qd.kit.CompactIntField;
+import com.devexperts.qd.kit.DefaultRecord;
+import com.devexperts.qd.kit.DefaultScheme;
+import com.devexperts.qd.kit.PentaCodec;
+import com.devexperts.qd.ng.EventFlag;
+import com.devexperts.qd.ng.RecordBuffer;
+import com.devexperts.qd.ng.RecordCursor;
+import com.devexperts.qd.ng.RecordMode;
+import com.devexperts.qd.stats.QDStats;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class StreamConflationTest {
+    private static final DataRecord RECORD = new DefaultRecord(0, "Conflated", false,
+        new DataIntField[] {
+            new CompactIntField(0, "Conflated.Value"),
+        },
+        new DataObjField[0]);
+    private static final DataScheme SCHEME = new DefaultScheme(PentaCodec.INSTANCE, RECORD);
+
+    private static final int MAX_BUFFER_SIZE = 10;
+    private static final String[] SYMBOLS = {"IBM", "MSFT", "AAPL"};
+
+    private final QDStats stats = new QDStats(QDStats.SType.ANY);
+    private QDStream stream;
+    private QDDistributor distributor;
+    private QDAgent agent;
+
+    @Before
+    public void setUp() {
+        stream = QDFactory.getDefaultFactory().streamBuilder()
+            .withScheme(SCHEME)
+            .withStats(stats)
+            .build();
+        distributor = stream.distributorBuilder().build();
+        agent = stream.agentBuilder().withHistorySnapshot(true).build(); // to keep event flags
+        agent.setMaxBufferSize(MAX_BUFFER_SIZE);
+        agent.setBufferOverflowStrategy(QDAgent.BufferOverflowStrategy.CONFLATE);
+        RecordBuffer sub = RecordBuffer.getInstance(RecordMode.SUBSCRIPTION);
+        for (String symbol : SYMBOLS) {
+            sub.add(RECORD, 0, symbol);
+        }
+        agent.setSubscription(sub);
+    }
+
+    @After
+    public void tearDown() {
+        agent.close();
+        distributor.close();
+        stream.close();
+    }
+
+    @Test
+    public void testLatestValuesAreKept() {
+        for (int value = 1; value <= 100; value++) {
+            for (String symbol : SYMBOLS) {
+                process(symbol, value, 0);
+            }
+        }
+        RecordBuffer result = retrieve();
+        // each symbol has its latest value
+        for (String symbol : SYMBOLS) {
+            assertEquals(100, lastValue(result, symbol));
+        }
+        assertEquals(0, agent.getDroppedRecords());
+        assertEquals(300 - result.size(), conflatedRecords());
+    }
+
+    @Test
+    public void testNoConflationWithinBufferSize() {
+        for (int value = 1; value <= MAX_BUFFER_SIZE; value++) {
+            process("IBM", value, 0);
+        }
+        assertEquals(MAX_BUFFER_SIZE, retrieve().size());
+        assertEquals(0, conflatedRecords());
+    }
+
+    @Test
+    public void testTransactionsAreKept() {
+        int tx = EventFlag.TX_PENDING.flag();
+        for (int value = 1; value <= 20; value++) {
+            process("IBM", value, 0);
+        }
+        process("IBM", 21, tx);
+        process("IBM", 22, tx);
+        process("IBM", 23, 0); // ends transaction
+        process("MSFT", 1, EventFlag.SNAPSHOT_BEGIN.flag());
+        for (int value = 24; value <= 41; value++) {
+            process("IBM", value, 0);
+        }
+        RecordBuffer result = retrieve();
+        StringBuilder sb = new StringBuilder();
+        RecordCursor cursor;
+        while ((cursor = result.next()) != null) {
+            sb.append(cursor.getDecodedSymbol()).append(':').append(cursor.getInt(0))
+                .append(':').append(cursor.getEventFlags()).append(' ');
+        }
+        assertEquals("IBM:21:1 IBM:22:1 IBM:23:0 MSFT:1:4 IBM:41:0 ", sb.toString());
+    }
+
+    @Test
+    public void testBufferSizeIsBounded() {
+        int tx = EventFlag.TX_PENDING.flag();
+        for (int value = 1; value <= 3 * MAX_BUFFER_SIZE; value++) {
+            process("IBM", value, tx);
+        }
+        RecordBuffer result = retrieve();
+        assertEquals(MAX_BUFFER_SIZE, result.size());
+        assertEquals(3 * MAX_BUFFER_SIZE, lastValue(result, "IBM"));
+        assertEquals(2 * MAX_BUFFER_SIZE, agent.getDroppedRecords());
+        assertEquals(0, conflatedRecords());
+    }
+
+    private void process(String symbol, int value, int eventFlags) {
+        RecordBuffer buf = RecordBuffer.getInstance(RecordMode.FLAGGED_DATA);
+        RecordCursor cursor = buf.add(RECORD, 0, symbol);
+        cursor.setInt(0, value);
+        cursor.setEventFlags(eventFlags);
+        distributor.process(buf);
+        buf.release();
+    }
+
+    private RecordBuffer retrieve() {
+        RecordBuffer result = new RecordBuffer(RecordMode.FLAGGED_DATA);
+        agent.retrieve(result);
+        assertNull(agent.retrieve(result) ? "more data" : null);
+        return result;
+    }
+
+    private static int lastValue(RecordBuffer buf, String symbol) {
+        int value = 0;
+        buf.rewind();
+        RecordCursor cursor;
+        while ((cursor = buf.next()) != null) {
+            if (cursor.getDecodedSymbol().equals(symbol))
+                value = cursor.getInt(0);
+        }
+        return value;
+    }
+
+    private long conflatedRecords() {
+        return stats.getOrVoid(QDStats.SType.CONFLATED_DATA).getValue(QDStats.SValue.RID_SIZE);
+    }
+}
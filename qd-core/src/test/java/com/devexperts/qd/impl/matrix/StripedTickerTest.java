@@ -0,0 +1,143 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.devexperts.qd.impl.matrix;
+
+import com.devexperts.qd.QDAgent;
+import com.devexperts.qd.QDDistributor;
+import com.devexperts.qd.QDFactory;
+import com.devexperts.qd.QDTicker;
+import com.devexperts.qd.ng.AbstractRecordSink;
+import com.devexperts.qd.ng.RecordBuffer;
+import com.devexperts.qd.ng.RecordCursor;
+import com.devexperts.qd.ng.RecordMode;
+import com.devexperts.qd.ng.RecordSink;
+import com.devexperts.qd.stats.QDStats;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Runs {@link TickerConflationTest} for the ticker with lock striping and checks that data from concurrent
+ * publishers is stored and distributed while subscription changes.
+ */
+public class StripedTickerTest extends TickerConflationTest {
+    private static final int STRIPES = 4;
+    private static final int THREADS = 4;
+    private static final int SYMBOLS_PER_THREAD = 100;
+    private static final int UPDATES = 200;
+
+    @Before
+    @Override
+    public void setUp() throws Exception {
+        setUp(QDFactory.getDefaultFactory().tickerBuilder()
+            .withScheme(SCHEME)
+            .withStats(QDStats.VOID)
+            .withLockStripes(STRIPES)
+            .build());
+    }
+
+    @Test
+    public void testConcurrentPublishers() throws InterruptedException {
+        QDTicker ticker = (QDTicker) collector;
+        RecordBuffer sub = RecordBuffer.getInstance(RecordMode.SUBSCRIPTION);
+        for (int i = 0; i < THREADS * SYMBOLS_PER_THREAD; i++) {
+            sub.add(RECORD, 0, symbol(i));
+        }
+        agent.setSubscription(sub);
+        sub.release();
+
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread[] publishers = new Thread[THREADS];
+        for (int t = 0; t < THREADS; t++) {
+            int base = t * SYMBOLS_PER_THREAD;
+            publishers[t] = new Thread(() -> {
+                QDDistributor publisher = collector.distributorBuilder().build();
+                try {
+                    RecordBuffer buf = new RecordBuffer();
+                    for (int value = 1; value <= UPDATES; value++) {
+                        buf.clear();
+                        for (int i = 0; i < SYMBOLS_PER_THREAD; i++) {
+                            buf.add(RECORD, 0, symbol(base + i)).setInt(VALUE_INDEX, value);
+                        }
+                        publisher.process(buf);
+                    }
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                } finally {
+                    publisher.close();
+                }
+            });
+        }
+        // subscription changes go through exclusive global lock concurrently with publishers
+        Thread subscriber = new Thread(() -> {
+            try {
+                RecordBuffer other = RecordBuffer.getInstance(RecordMode.SUBSCRIPTION);
+                for (int i = 0; i < UPDATES; i++) {
+                    QDAgent temp = collector.agentBuilder().build();
+                    other.clear();
+                    other.add(RECORD, 0, symbol(i % (THREADS * SYMBOLS_PER_THREAD)));
+                    temp.setSubscription(other);
+                    temp.retrieve(RecordSink.VOID);
+                    temp.close();
+                }
+                other.release();
+            } catch (Throwable e) {
+                failure.compareAndSet(null, e);
+            }
+        });
+        for (Thread publisher : publishers) {
+            publisher.start();
+        }
+        subscriber.start();
+        for (Thread publisher : publishers) {
+            publisher.join();
+        }
+        subscriber.join();
+        assertNull(failure.get());
+
+        RecordCursor.Owner owner = RecordCursor.allocateOwner();
+        for (int i = 0; i < THREADS * SYMBOLS_PER_THREAD; i++) {
+            assertTrue(ticker.getDataIfAvailable(owner, RECORD, 0, symbol(i)));
+            assertEquals(UPDATES, owner.cursor().getInt(VALUE_INDEX));
+        }
+        Map<String, Integer> retrieved = new HashMap<>();
+        agent.retrieve(new AbstractRecordSink() {
+            @Override
+            public void append(RecordCursor cursor) {
+                retrieved.put(cursor.getDecodedSymbol(), cursor.getInt(VALUE_INDEX));
+            }
+        });
+        assertEquals(THREADS * SYMBOLS_PER_THREAD, retrieved.size());
+        for (int value : retrieved.values()) {
+            assertEquals(UPDATES, value);
+        }
+        int[] examined = new int[1];
+        ticker.examineData(new AbstractRecordSink() {
+            @Override
+            public void append(RecordCursor cursor) {
+                examined[0]++;
+            }
+        });
+        assertEquals(THREADS * SYMBOLS_PER_THREAD, examined[0]);
+    }
+
+    private static String symbol(int i) {
+        return "SYMBOL_" + i;
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.devexperts.qd.qtp;
+
+import com.devexperts.io.Chunk;
+import com.devexperts.io.ChunkList;
+import com.devexperts.io.ChunkPool;
+import com.devexperts.io.ChunkedInput;
+import com.devexperts.io.ChunkedOutput;
+import com.devexperts.qd.DataIntField;
+import com.devexperts.qd.DataIterator;
+import com.devexperts.qd.DataObjField;
+import com.devexperts.qd.DataRecord;
+import com.devexperts.qd.DataScheme;
+import com.devexperts.qd.kit.CompactIntField;
+import com.devexperts.qd.kit.DecimalField;
+import com.devexperts.qd.kit.DefaultRecord;
+import com.devexperts.qd.kit.DefaultScheme;
+import com.devexperts.qd.kit.LongField;
+import com.devexperts.qd.kit.PentaCodec;
+import com.devexperts.qd.kit.StringField;
+import com.devexperts.qd.kit.TimeSecondsField;
+import com.devexperts.qd.kit.VoidIntField;
+import com.devexperts.qd.ng.RecordBuffer;
+import com.devexperts.qd.ng.RecordCursor;
+import com.devexperts.qd.ng.RecordMode;
+import com.devexperts.qd.ng.RecordSource;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class BinaryQTPParserDirectDecodeTest {
+    private static final DataRecord COMPACT_RECORD = new DefaultRecord(0, "Compact", false,
+        new DataIntField[] {
+            new CompactIntField(0, "Compact.Int"),
+            new DecimalField(1, "Compact.Price"),
+            new LongField(2, "Compact.Long"),
+            new VoidIntField(3, "Compact.LongTail"),
+            new TimeSecondsField(4, "Compact.Time"),
+        },
+        new DataObjField[0]);
+
+    private static final DataRecord MIXED_RECORD = new DefaultRecord(1, "Mixed", false,
+        new DataIntField[] {
+            new CompactIntField(0, "Mixed.Int"),
+        },
+        new DataObjField[] {
+            new StringField(0, "Mixed.String"),
+        });
+
+    private static final DataScheme SCHEME = new DefaultScheme(PentaCodec.INSTANCE, COMPACT_RECORD, MIXED_RECORD);
+
+    private static final int RECORD_COUNT = 1000;
+
+    private final Random rnd = new Random(20261017);
+
+    @Test
+    public void testDirectDecode() {
+        RecordBuffer data = generateData();
+        byte[] bytes = compose(data);
+        for (int pieceSize : new int[] {1, 7, 100, bytes.length}) {
+            for (boolean direct : new boolean[] {false, true}) {
+                RecordBuffer parsed = parse(bytes, pieceSize, direct);
+                assertSame(data, parsed, "pieceSize=" + pieceSize + ", direct=" + direct);
+            }
+        }
+    }
+
+    private RecordBuffer generateData() {
+        RecordBuffer buf = new RecordBuffer();
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            boolean mixed = i % 10 == 9;
+            RecordCursor cur = buf.add(mixed ? MIXED_RECORD : COMPACT_RECORD, 0, "SYM" + rnd.nextInt(100));
+            cur.setInt(0, randomInt());
+            if (mixed) {
+                cur.setObj(0, "S" + i);
+            } else {
+                cur.setInt(1, randomInt());
+                cur.setLong(2, randomLong());
+                cur.setInt(4, randomInt());
+            }
+        }
+        return buf;
+    }
+
+    // values of all CompactInt lengths
+    private int randomInt() {
+        switch (rnd.nextInt(4)) {
+        case 0:
+            return rnd.nextInt(100) - 50;
+        case 1:
+            return rnd.nextInt(1 << 20) - (1 << 19);
+        case 2:
+            return rnd.nextBoolean() ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+        default:
+            return rnd.nextInt();
+        }
+    }
+
+    private long randomLong() {
+        int shift = rnd.nextInt(64);
+        return rnd.nextLong() >> shift;
+    }
+
+    private static byte[] compose(RecordBuffer data) {
+        BinaryQTPComposer composer = new BinaryQTPComposer(SCHEME, true);
+        ChunkedOutput output = new ChunkedOutput();
+        composer.setOutput(output);
+        data.rewind();
+        while (composer.visitData(data, MessageType.TICKER_DATA)) {
+            // compose all data
+        }
+        ChunkList chunks = output.getOutput(BinaryQTPParserDirectDecodeTest.class);
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        for (Chunk chunk : chunks) {
+            result.write(chunk.getBytes(), chunk.getOffset(), chunk.getLength());
+        }
+        chunks.recycle(BinaryQTPParserDirectDecodeTest.class);
+        return result.toByteArray();
+    }
+
+    private static RecordBuffer parse(byte[] bytes, int pieceSize, boolean direct) {
+        BinaryQTPParser parser = new BinaryQTPParser(SCHEME);
+        parser.setDirectDecode(direct);
+        ChunkedInput input = new ChunkedInput();
+        parser.setInput(input);
+        RecordBuffer result = new RecordBuffer(RecordMode.DATA);
+        MessageConsumerAdapter consumer = new MessageConsumerAdapter() {
+            @Override
+            public void processTickerData(DataIterator iterator) {
+                result.process((RecordSource) iterator);
+            }
+        };
+        for (int offset = 0; offset < bytes.length; offset += pieceSize) {
+            int length = Math.min(pieceSize, bytes.length - offset);
+            input.addAllToInput(ChunkPool.DEFAULT.copyToChunkList(bytes, offset, length, parser), parser);
+            parser.parse(consumer);
+        }
+        return result;
+    }
+
+    private static void assertSame(RecordBuffer expected, RecordBuffer actual, String message) {
+        assertEquals(message, expected.size(), actual.size());
+        expected.rewind();
+        RecordCursor ec;
+        while ((ec = expected.next()) != null) {
+            RecordCursor ac = actual.next();
+            assertEquals(message, ec.getRecord(), ac.getRecord());
+            assertEquals(message, ec.getDecodedSymbol(), ac.getDecodedSymbol());
+            for (int i = 0; i < ec.getIntCount(); i++) {
+                assertEquals(message, ec.getInt(i), ac.getInt(i));
+            }
+            for (int i = 0; i < ec.getObjCount(); i++) {
+                assertEquals(message, ec.getObj(i), ac.getObj(i));
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.devexperts.qd.stats;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void testBuckets() {
+        int prevBucket = -1;
+        for (long value = 0; value <= Integer.MAX_VALUE; value = value < 1000 ? value + 1 : value * 3 / 2) {
+            int bucket = LatencyHistogram.bucket((int) value);
+            assertTrue(bucket >= prevBucket);
+            long highest = LatencyHistogram.highestValue(bucket);
+            assertTrue(value + " <= " + highest, value <= highest);
+            // relative error is at most 1/8
+            assertTrue(value + " ~ " + highest, highest - value <= value / 8);
+            prevBucket = bucket;
+        }
+        assertEquals(Integer.MAX_VALUE, LatencyHistogram.highestValue(LatencyHistogram.bucket(Integer.MAX_VALUE)));
+    }
+
+    @Test
+    public void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getValueAtPercentile(99));
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i);
+        }
+        histogram.record(-5); // recorded as zero
+        assertEquals(1001, histogram.getCount());
+        assertEquals(0, histogram.getValueAtPercentile(0));
+        assertApproximately(500, histogram.getValueAtPercentile(50));
+        assertApproximately(990, histogram.getValueAtPercentile(99));
+        assertApproximately(1000, histogram.getMaxValue());
+    }
+
+    @Test
+    public void testAddAndDelta() {
+        LatencyHistogram a = new LatencyHistogram();
+        LatencyHistogram b = new LatencyHistogram();
+        a.record(10);
+        b.record(10_000);
+        LatencyHistogram sum = new LatencyHistogram();
+        sum.add(a);
+        LatencyHistogram prev = sum.delta(null);
+        sum.add(b);
+        assertEquals(2, sum.getCount());
+        LatencyHistogram delta = sum.delta(prev);
+        assertEquals(1, delta.getCount());
+        assertApproximately(10_000, delta.getValueAtPercentile(50));
+    }
+
+    private static void assertApproximately(long expected, long actual) {
+        assertTrue(expected + " ~ " + actual, actual >= expected && actual - expected <= expected / 8);
+    }
+}
@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2024 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -670,6 +670,70 @@ public class QDStatsTest {
         assertEquals(1, root.get(APPLE).getValue(VALUE));
     }
 
+    @Test
+    public void testStriped() throws InterruptedException {
+        // Any
+        //   Box0
+        //     Box1
+        QDStats root = new QDStats();
+        root.initRoot(QDStats.SType.ANY, null, 3);
+        assertEquals(4, root.getStripeCount());
+        QDStats box0 = root.create(BOX);
+        QDStats box1 = box0.create(BOX);
+        assertEquals(4, box1.getStripeCount());
+
+        // update from different threads to use different stripes
+        for (int i = 0; i < 8; i++) {
+            Thread thread = new Thread(() -> {
+                updateValue(box0, 1);
+                updateValue(box1, 2);
+            });
+            thread.start();
+            thread.join();
+        }
+        assertEquals(8, box0.getValue(VALUE, true));
+        assertEquals(24, box0.getValue(VALUE));
+        assertEquals(24, root.getValue(VALUE));
+
+        // values of all stripes are kept on close
+        box1.close();
+        assertEquals(24, box0.getValue(VALUE));
+        assertEquals(24, root.getValue(VALUE));
+    }
+
+    @Test
+    public void testLatency() {
+        // Any
+        //   Box0
+        //     Box1
+        //   #Box (sum)
+        //     Apple
+        QDStats root = new QDStats();
+        //noinspection deprecation
+        root.initRoot(QDStats.SType.ANY, 2);
+        QDStats box0 = root.create(BOX);
+        QDStats box1 = box0.create(BOX);
+        QDStats apple = box1.create(APPLE);
+
+        box0.updateLatency(QDStats.LatencyPoint.WRITE, 0, 100);
+        box1.updateLatency(QDStats.LatencyPoint.WRITE, 1, 200);
+        apple.updateLatency(QDStats.LatencyPoint.WRITE, 1, 300);
+        apple.updateLatency(QDStats.LatencyPoint.RETRIEVE, 5, 400); // unknown record
+
+        assertEquals(1, box0.getLatencyHistogram(QDStats.LatencyPoint.WRITE, true).getCount());
+        assertEquals(3, box0.getLatencyHistogram(QDStats.LatencyPoint.WRITE, false).getCount());
+        assertEquals(1, root.getLatencyHistogram(QDStats.LatencyPoint.RETRIEVE, false).getCount());
+        LatencyHistogram[] byRid = root.getLatencyHistograms(QDStats.LatencyPoint.WRITE, false);
+        assertEquals(1, byRid[0].getCount());
+        assertEquals(2, byRid[1].getCount());
+        assertNull(root.getLatencyHistograms(QDStats.LatencyPoint.RETRIEVE, false)[0]);
+
+        // latencies are kept on close
+        box1.close();
+        assertEquals(3, box0.getLatencyHistogram(QDStats.LatencyPoint.WRITE, false).getCount());
+        assertEquals(3, root.getLatencyHistogram(QDStats.LatencyPoint.WRITE, false).getCount());
+    }
+
     private void updateValue(QDStats stats, long value) {
         stats.updateIOReadBytes(value);
     }
@@ -0,0 +1,53 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.devexperts.qd.qtp.nio;
+
+import com.devexperts.qd.qtp.socket.SocketAddress;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.nio.channels.SocketChannel;
+
+/**
+ * Outgoing connection of {@link NioClientConnector} that schedules reconnection when closed.
+ */
+class NioClientConnection extends NioConnection {
+
+    final NioClientConnector clientConnector;
+    final SocketAddress address;
+
+    NioClientConnection(NioCore core, NioClientConnector connector, SocketChannel channel, SocketAddress address)
+        throws IOException
+    {
+        super(core, connector, channel);
+        this.clientConnector = connector;
+        this.address = address;
+    }
+
+    @Override
+    public void markForImmediateRestart() {
+        clientConnector.markForImmediateRestart();
+    }
+
+    @Override
+    void examine(long time) {
+        // non-blocking reads ignore SO_TIMEOUT, so read timeout is checked here
+        int timeout = clientConnector.getSocketTimeout();
+        if (timeout > 0 && time - lastReadTime > timeout)
+            closeBecauseOf(new SocketTimeoutException("Nothing was read for " + timeout + "ms"));
+    }
+
+    @Override
+    void closed(Throwable reason) {
+        clientConnector.connectionClosed(this);
+    }
+}
@@ -0,0 +1,279 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.devexperts.qd.qtp.nio;
+
+import com.devexperts.connector.proto.ApplicationConnectionFactory;
+import com.devexperts.qd.QDFactory;
+import com.devexperts.qd.qtp.AbstractMessageConnector;
+import com.devexperts.qd.qtp.MessageAdapter;
+import com.devexperts.qd.qtp.MessageConnector;
+import com.devexperts.qd.qtp.MessageConnectorState;
+import com.devexperts.qd.qtp.MessageConnectors;
+import com.devexperts.qd.qtp.ReconnectHelper;
+import com.devexperts.qd.qtp.help.MessageConnectorProperty;
+import com.devexperts.qd.qtp.help.MessageConnectorSummary;
+import com.devexperts.qd.qtp.socket.SocketAddress;
+import com.devexperts.qd.qtp.socket.SocketUtil;
+import com.devexperts.qd.stats.QDStats;
+import com.devexperts.qd.util.QDConfig;
+import com.devexperts.transport.stats.EndpointStats;
+import com.devexperts.util.LogUtil;
+
+import java.io.IOException;
+import java.net.Socket;
+import java.nio.channels.SocketChannel;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Client socket connector that uses scalable non-blocking socket API (java.nio).
+ * Unlike {@link com.devexperts.qd.qtp.socket.ClientSocketConnector ClientSocketConnector} that uses
+ * a pair of blocking threads per connection, all instances of this connector share the same reader and writer
+ * threads and a single thread for establishing connections.
+ */
+@MessageConnectorSummary(
+    info = "Connects to some host using TCP/IP client socket with scalable non-blocking API.",
+    addressFormat = "nio:<host>:<port>"
+)
+public class NioClientConnector extends AbstractMessageConnector implements NioClientConnectorMBean {
+
+    private volatile String address;
+    private volatile List<SocketAddress> socketAddresses;
+    private volatile int socketTimeout = Math.toIntExact(TimeUnit.MINUTES.toMillis(5));
+
+    private volatile boolean active;
+    private volatile NioClientCore core;
+    private volatile NioClientConnection connection;
+
+    private ReconnectHelper reconnectHelper; // SYNC: this
+    private int nextAddress; // SYNC: this
+
+    /**
+     * Creates new NIO client socket connector.
+     *
+     * @param factory application connection factory to use
+     * @param address list of addresses in "host:port" format
+     * @throws NullPointerException if {@code factory} or {@code address} is {@code null}
+     */
+    public NioClientConnector(ApplicationConnectionFactory factory, String address) {
+        super(factory);
+        Objects.requireNonNull(address, "address");
+        this.socketAddresses = Collections.unmodifiableList(SocketUtil.parseAddressList(address));
+        this.address = address;
+        QDConfig.setDefaultProperties(this, NioClientConnectorMBean.class, MessageConnector.class.getName());
+        QDConfig.setDefaultProperties(this, NioClientConnectorMBean.class, NioClientConnector.class.getName());
+    }
+
+    @Override
+    public String getAddress() {
+        return address;
+    }
+
+    @Override
+    public synchronized void setAddress(String address) {
+        if (!address.equals(this.address)) {
+            log.info("Setting address=" + LogUtil.hideCredentials(address));
+            this.socketAddresses = Collections.unmodifiableList(SocketUtil.parseAddressList(address));
+            this.address = address;
+            reconfigure();
+        }
+    }
+
+    @Override
+    public String getCurrentAddress() {
+        NioClientConnection connection = this.connection; // Atomic read.
+        return connection == null ? null : connection.address.toString();
+    }
+
+    @Override
+    public int getSocketTimeout() {
+        return socketTimeout;
+    }
+
+    @Override
+    @MessageConnectorProperty("Read timeout in milliseconds (0 for none), also used as a connect timeout")
+    public synchronized void setSocketTimeout(int socketTimeout) {
+        if (this.socketTimeout != socketTimeout) {
+            log.info("Setting socketTimeout=" + socketTimeout);
+            this.socketTimeout = socketTimeout;
+            reconfigure();
+        }
+    }
+
+    @Override
+    public NioPoolCounters getReaderPoolCounters() {
+        NioCore core = this.core; // Atomic read.
+        return core != null && !core.isClosed() ? core.getReaderPoolCounters() : NioPoolCounters.EMPTY;
+    }
+
+    @Override
+    public NioPoolCounters getWriterPoolCounters() {
+        NioCore core = this.core; // Atomic read.
+        return core != null && !core.isClosed() ? core.getWriterPoolCounters() : NioPoolCounters.EMPTY;
+    }
+
+    /**
+     * Sets stats for this connector. Stats should be of type {@link QDStats.SType#CLIENT_SOCKET_CONNECTOR} or
+     * a suitable substitute. This method may be invoked only once.
+     * @throws IllegalStateException if already set.
+     */
+    @Override
+    public void setStats(QDStats stats) {
+        super.setStats(stats);
+        stats.addMBean("NIOClientConnector", this);
+    }
+
+    @Override
+    public boolean isActive() {
+        return active; // Atomic read.
+    }
+
+    @Override
+    public MessageConnectorState getState() {
+        if (!isActive())
+            return MessageConnectorState.DISCONNECTED;
+        NioClientConnection connection = this.connection; // Atomic read.
+        return connection != null && !connection.isClosed() ?
+            MessageConnectorState.CONNECTED : MessageConnectorState.CONNECTING;
+    }
+
+    @Override
+    public int getConnectionCount() {
+        NioClientConnection connection = this.connection; // Atomic read.
+        return connection != null && !connection.isClosed() ? 1 : 0;
+    }
+
+    @Override
+    public EndpointStats retrieveCompleteEndpointStats() {
+        EndpointStats stats = super.retrieveCompleteEndpointStats();
+        NioClientConnection connection = this.connection; // Atomic read.
+        if (connection != null && !connection.isClosed()) {
+            stats.addActiveConnectionCount(1);
+            stats.addConnectionStats(connection.connectionStats);
+        }
+        return stats;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (isActive() || isClosed())
+            return;
+        log.info("Starting NioClientConnector to " + LogUtil.hideCredentials(getAddress()));
+        // create default stats instance if specific one was not provided.
+        if (getStats() == null)
+            setStats(QDFactory.createStats(QDStats.SType.CLIENT_SOCKET_CONNECTOR, null));
+        try {
+            core = NioClientCore.acquire(getFactory().getChunkPool(), getThreadPriority());
+        } catch (IOException e) {
+            log.error("Failed to start connector", e);
+            return;
+        }
+        reconnectHelper = new ReconnectHelper(getReconnectDelay());
+        nextAddress = 0;
+        active = true;
+        scheduleConnect();
+    }
+
+    @Override
+    protected synchronized Joinable stopImpl() {
+        if (!isActive())
+            return null;
+        log.info("Stopping NioClientConnector");
+        active = false;
+        NioClientCore core = this.core;
+        core.connectThread.cancel(this);
+        NioClientConnection connection = this.connection;
+        this.connection = null;
+        if (connection != null)
+            connection.close();
+        this.core = null;
+        return core.release();
+    }
+
+    @Override
+    protected List<MessageAdapter> getMessageAdapters() {
+        NioClientConnection connection = this.connection; // Atomic read.
+        if (connection == null)
+            return Collections.emptyList();
+        MessageAdapter adapter = MessageConnectors.extractAdapter(connection.applicationConnection);
+        return adapter == null ? Collections.emptyList() : Collections.singletonList(adapter);
+    }
+
+    synchronized void markForImmediateRestart() {
+        if (reconnectHelper != null)
+            reconnectHelper.reset();
+    }
+
+    // ==================== Callbacks from NioConnectThread ====================
+
+    synchronized SocketAddress nextAddress() {
+        if (!isActive())
+            return null;
+        List<SocketAddress> socketAddresses = this.socketAddresses;
+        if (nextAddress >= socketAddresses.size())
+            nextAddress = 0;
+        return socketAddresses.get(nextAddress++);
+    }
+
+    void connected(SocketChannel channel, SocketAddress address) {
+        NioClientConnection connection;
+        synchronized (this) {
+            if (!isActive() || this.connection != null) {
+                closeChannel(channel); // stopped or restarted concurrently
+                return;
+            }
+            try {
+                Socket socket = channel.socket();
+                SocketUtil.configureSocket(socket);
+                connection = new NioClientConnection(core, this, channel, address);
+            } catch (Throwable t) {
+                log.error("Failed to configure client socket " + LogUtil.hideCredentials(address), t);
+                closeChannel(channel);
+                scheduleConnect();
+                return;
+            }
+            this.connection = connection;
+        }
+        log.info("Connected to " + LogUtil.hideCredentials(address));
+        connection.core.registerConnection(connection);
+    }
+
+    synchronized void connectFailed(SocketAddress address, Throwable reason) {
+        if (!isActive())
+            return;
+        log.error("Failed to connect to " + LogUtil.hideCredentials(address), reason);
+        scheduleConnect();
+    }
+
+    synchronized void connectionClosed(NioClientConnection connection) {
+        if (this.connection != connection)
+            return;
+        this.connection = null;
+        if (isActive())
+            scheduleConnect();
+    }
+
+    // SYNC: this
+    private void scheduleConnect() {
+        core.connectThread.schedule(this, reconnectHelper.nextConnectionDelay());
+    }
+
+    private void closeChannel(SocketChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.error("Failed to close client socket", e);
+        }
+    }
+}
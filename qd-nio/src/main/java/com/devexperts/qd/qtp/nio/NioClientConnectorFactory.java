@@ -0,0 +1,37 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.devexperts.qd.qtp.nio;
+
+import com.devexperts.connector.proto.ApplicationConnectionFactory;
+import com.devexperts.qd.qtp.MessageConnector;
+import com.devexperts.qd.qtp.MessageConnectorFactory;
+import com.devexperts.util.InvalidFormatException;
+
+public class NioClientConnectorFactory implements MessageConnectorFactory {
+    private static final String NIO_PREFIX = "nio:";
+
+    public NioClientConnector createMessageConnector(ApplicationConnectionFactory applicationConnectionFactory, String address)
+        throws InvalidFormatException
+    {
+        if (!address.startsWith(NIO_PREFIX) || address.startsWith(NioConnectorFactory.NIO_PREFIX))
+            return null;
+        String hostAddress = address.substring(NIO_PREFIX.length());
+        // "nio:<port>" without host is ambiguous and is reported by MessageConnectors
+        if (hostAddress.lastIndexOf(':') <= 0)
+            return null;
+        return new NioClientConnector(applicationConnectionFactory, hostAddress);
+    }
+
+    public Class<? extends MessageConnector> getResultingClass() {
+        return NioClientConnector.class;
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.devexperts.qd.qtp.nio;
+
+import com.devexperts.qd.qtp.MessageConnectorMBean;
+
+/**
+ * Management interface for {@link NioClientConnector}.
+ *
+ * @dgen.annotate method {}
+ */
+public interface NioClientConnectorMBean extends MessageConnectorMBean {
+
+    public void setAddress(String address);
+
+    /**
+     * Address (host:port) of the current connection
+     */
+    public String getCurrentAddress();
+
+    /**
+     * Read timeout in milliseconds (0 for none), also used as a connect timeout.
+     * Connection is closed when nothing is read from it for this time
+     */
+    public int getSocketTimeout();
+
+    public void setSocketTimeout(int socketTimeout);
+
+    /**
+     * Reader thread pool counters (shared by all NIO client connectors)
+     */
+    public NioPoolCounters getReaderPoolCounters();
+
+    /**
+     * Writer thread pool counters (shared by all NIO client connectors)
+     */
+    public NioPoolCounters getWriterPoolCounters();
+}
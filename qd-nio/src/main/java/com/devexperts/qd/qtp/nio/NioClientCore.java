@@ -0,0 +1,92 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.devexperts.qd.qtp.nio;
+
+import com.devexperts.io.ChunkPool;
+import com.devexperts.qd.qtp.AbstractMessageConnector;
+import com.devexperts.util.SystemProperties;
+
+import java.io.IOException;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Core without an acceptor that serves connections of all {@link NioClientConnector} instances
+ * with the same {@link ChunkPool}. Reader and writer threads are shared, so the number of threads does not
+ * grow with the number of client connectors. The core is reference-counted: it is started by the first
+ * connector that acquires it and is closed when the last connector releases it.
+ */
+class NioClientCore extends NioCore {
+    // We need at least two threads, because one of the threads is used to wait on selector if needed.
+    private static final int MIN_THREAD_COUNT = 2;
+
+    private static final int THREAD_COUNT = // defaults to #processors + 1
+        SystemProperties.getIntProperty(NioClientCore.class, "threadCount",
+            Runtime.getRuntime().availableProcessors() + 1, MIN_THREAD_COUNT, Integer.MAX_VALUE);
+
+    // SYNC: on CORES
+    private static final Map<ChunkPool, NioClientCore> CORES = new IdentityHashMap<>();
+
+    static NioClientCore acquire(ChunkPool chunkPool, int threadPriority) throws IOException {
+        synchronized (CORES) {
+            NioClientCore core = CORES.get(chunkPool);
+            if (core == null) {
+                core = new NioClientCore(chunkPool, threadPriority);
+                core.start();
+                CORES.put(chunkPool, core);
+            }
+            core.references++;
+            return core;
+        }
+    }
+
+    final NioConnectThread connectThread;
+
+    private int references; // SYNC: on CORES
+
+    private NioClientCore(ChunkPool chunkPool, int threadPriority) throws IOException {
+        super("NioClientConnector", chunkPool, THREAD_COUNT, threadPriority);
+        connectThread = new NioConnectThread(this);
+    }
+
+    /**
+     * Releases this core by a connector and closes it when it is no longer used.
+     * @return joinable that waits for termination of core threads or a no-op one if the core is still in use.
+     */
+    AbstractMessageConnector.Joinable release() {
+        synchronized (CORES) {
+            if (--references > 0)
+                return () -> {};
+            CORES.remove(chunkPool);
+        }
+        close();
+        return this;
+    }
+
+    @Override
+    void start() {
+        super.start();
+        connectThread.start();
+    }
+
+    @Override
+    void close() {
+        super.close();
+        connectThread.wakeup();
+    }
+
+    @Override
+    public void join() throws InterruptedException {
+        super.join();
+        connectThread.join();
+    }
+}
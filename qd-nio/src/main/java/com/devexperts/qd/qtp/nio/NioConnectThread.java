@@ -0,0 +1,231 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.devexperts.qd.qtp.nio;
+
+import com.devexperts.qd.qtp.socket.SocketAddress;
+import com.devexperts.util.LogUtil;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Thread that establishes outgoing connections of all {@link NioClientConnector} instances served by
+ * the {@link NioClientCore}. Connection attempts are scheduled with a delay computed by
+ * {@link com.devexperts.qd.qtp.ReconnectHelper#nextConnectionDelay() ReconnectHelper} and are completed
+ * via non-blocking connect, so that no thread sleeps or blocks per connector.
+ */
+class NioConnectThread extends NioWorkerThread {
+
+    private static class Attempt {
+        final NioClientConnector connector;
+        final long time;
+
+        Attempt(NioClientConnector connector, long time) {
+            this.connector = connector;
+            this.time = time;
+        }
+    }
+
+    private static class PendingConnect {
+        final NioClientConnector connector;
+        final SocketAddress address;
+        final long deadline;
+
+        PendingConnect(NioClientConnector connector, SocketAddress address, long deadline) {
+            this.connector = connector;
+            this.address = address;
+            this.deadline = deadline;
+        }
+    }
+
+    private final Selector selector;
+
+    // SYNC: on this
+    private final PriorityQueue<Attempt> attempts = new PriorityQueue<>(Comparator.comparingLong(a -> a.time));
+    private final Map<NioClientConnector, SocketChannel> pending = new HashMap<>();
+
+    NioConnectThread(NioCore core) throws IOException {
+        super(core, "Connector");
+        selector = Selector.open();
+    }
+
+    /**
+     * Schedules connection attempt for the specified connector after the specified delay.
+     */
+    void schedule(NioClientConnector connector, long delay) {
+        synchronized (this) {
+            attempts.add(new Attempt(connector, System.currentTimeMillis() + delay));
+        }
+        selector.wakeup();
+    }
+
+    /**
+     * Cancels scheduled and pending connection attempts of the specified connector.
+     */
+    void cancel(NioClientConnector connector) {
+        SocketChannel channel;
+        synchronized (this) {
+            attempts.removeIf(a -> a.connector == connector);
+            channel = pending.remove(connector);
+        }
+        if (channel != null)
+            closeChannel(channel);
+    }
+
+    void wakeup() {
+        selector.wakeup();
+    }
+
+    @Override
+    public void run() {
+        try {
+            super.run();
+        } finally {
+            List<SocketChannel> channels;
+            synchronized (this) {
+                attempts.clear();
+                channels = new ArrayList<>(pending.values());
+                pending.clear();
+            }
+            for (SocketChannel channel : channels) {
+                closeChannel(channel);
+            }
+            try {
+                selector.close();
+            } catch (IOException e) {
+                log.error("Failed to close selector", e);
+            }
+        }
+    }
+
+    @Override
+    protected void makeIteration() throws IOException {
+        long now = System.currentTimeMillis();
+        long timeout = Math.min(NioCore.SELECT_TIMEOUT, nextAttemptTime() - now);
+        if (timeout > 0)
+            selector.select(timeout);
+        else
+            selector.selectNow();
+        if (isClosed())
+            return;
+        for (SelectionKey key : selector.selectedKeys()) {
+            finishConnect(key);
+        }
+        selector.selectedKeys().clear();
+        now = System.currentTimeMillis();
+        checkTimeouts(now);
+        startAttempts(now);
+    }
+
+    private synchronized long nextAttemptTime() {
+        Attempt attempt = attempts.peek();
+        return attempt == null ? Long.MAX_VALUE : attempt.time;
+    }
+
+    private void startAttempts(long now) {
+        while (true) {
+            Attempt attempt;
+            synchronized (this) {
+                attempt = attempts.peek();
+                if (attempt == null || attempt.time > now)
+                    return;
+                attempts.poll();
+            }
+            NioClientConnector connector = attempt.connector;
+            SocketAddress address = connector.nextAddress();
+            if (address == null)
+                continue; // connector was stopped
+            log.info("Connecting to " + LogUtil.hideCredentials(address));
+            SocketChannel channel = null;
+            try {
+                InetSocketAddress socketAddress = new InetSocketAddress(address.host, address.port);
+                if (socketAddress.isUnresolved())
+                    throw new UnknownHostException(address.host);
+                channel = SocketChannel.open();
+                channel.configureBlocking(false);
+                if (channel.connect(socketAddress)) {
+                    connector.connected(channel, address);
+                    continue;
+                }
+                int timeout = connector.getSocketTimeout();
+                long deadline = timeout > 0 ? now + timeout : Long.MAX_VALUE;
+                synchronized (this) {
+                    pending.put(connector, channel);
+                }
+                channel.register(selector, SelectionKey.OP_CONNECT, new PendingConnect(connector, address, deadline));
+            } catch (Throwable t) {
+                if (channel != null)
+                    closePending(connector, channel);
+                connector.connectFailed(address, t);
+            }
+        }
+    }
+
+    private void finishConnect(SelectionKey key) {
+        SocketChannel channel = (SocketChannel) key.channel();
+        PendingConnect pc = (PendingConnect) key.attachment();
+        key.cancel();
+        if (!removePending(pc.connector, channel))
+            return; // cancelled concurrently
+        try {
+            channel.finishConnect();
+        } catch (Throwable t) {
+            closeChannel(channel);
+            pc.connector.connectFailed(pc.address, t);
+            return;
+        }
+        pc.connector.connected(channel, pc.address);
+    }
+
+    private void checkTimeouts(long now) {
+        for (SelectionKey key : selector.keys()) {
+            PendingConnect pc = (PendingConnect) key.attachment();
+            if (!key.isValid() || pc.deadline > now)
+                continue;
+            key.cancel();
+            SocketChannel channel = (SocketChannel) key.channel();
+            if (closePending(pc.connector, channel)) {
+                pc.connector.connectFailed(pc.address,
+                    new SocketTimeoutException("Connection timed out after " + pc.connector.getSocketTimeout() + "ms"));
+            }
+        }
+    }
+
+    private synchronized boolean removePending(NioClientConnector connector, SocketChannel channel) {
+        return pending.remove(connector, channel);
+    }
+
+    private boolean closePending(NioClientConnector connector, SocketChannel channel) {
+        boolean removed = removePending(connector, channel);
+        closeChannel(channel);
+        return removed;
+    }
+
+    private void closeChannel(SocketChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.error("Failed to close client socket", e);
+        }
+    }
+}
@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2024 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -17,6 +17,7 @@ import com.devexperts.io.ChunkList;
 import com.devexperts.io.ChunkedInput;
 import com.devexperts.io.ChunkedOutput;
 import com.devexperts.logging.Logging;
+import com.devexperts.qd.qtp.AbstractMessageConnector;
 import com.devexperts.qd.qtp.MessageConnectors;
 import com.devexperts.qd.qtp.QTPConstants;
 import com.devexperts.qd.qtp.socket.SocketUtil;
@@ -50,6 +51,7 @@ class NioConnection extends AbstractTransportConnection implements Closeable {
     private static final Logging log = Logging.getLogging(NioConnection.class);
 
     final NioCore core;
+    final AbstractMessageConnector connector;
     final SocketChannel channel;
     final QDStats stats;
     final ConnectionStats connectionStats;
@@ -57,11 +59,14 @@ class NioConnection extends AbstractTransportConnection implements Closeable {
 
     private final AtomicBoolean closed = new AtomicBoolean();
 
+    volatile long lastReadTime = System.currentTimeMillis(); // written by reader thread
+
     /**
      * For {@link NioReader#SELECT_TASK} only.
      */
     NioConnection() {
         core = null;
+        connector = null;
         channel = null;
         stats = null;
         connectionStats = null;
@@ -79,13 +84,27 @@ class NioConnection extends AbstractTransportConnection implements Closeable {
      * @throws IOException            if failed to create.
      */
     NioConnection(NioCore core, SocketChannel channel) throws IOException {
+        this(core, core.connector, channel);
+    }
+
+    /**
+     * Creates connection of specified <tt>channel</tt> that belongs to the specified <tt>connector</tt>
+     * and is served by threads of the specified <tt>core</tt>.
+     *
+     * @param core core that serves the connection.
+     * @param connector connector that owns the connection.
+     * @param channel SocketChannel to create info.
+     * @throws IOException if failed to create.
+     */
+    NioConnection(NioCore core, AbstractMessageConnector connector, SocketChannel channel) throws IOException {
         this.core = core;
+        this.connector = connector;
         this.channel = channel;
 
         Socket socket = channel.socket();
         variables().set(MessageConnectors.SOCKET_KEY, socket);
         variables().set(REMOTE_HOST_ADDRESS_KEY, socket.getInetAddress().getHostAddress());
-        stats = core.connector.getStats().getOrCreate(QDStats.SType.CONNECTIONS).create(QDStats.SType.CONNECTION,
+        stats = connector.getStats().getOrCreate(QDStats.SType.CONNECTIONS).create(QDStats.SType.CONNECTION,
             "host=" + JMXNameBuilder.quoteKeyPropertyValue(socket.getInetAddress().getHostAddress()) +
                 ",port=" + socket.getPort() + ",localPort=" + socket.getLocalPort()
         );
@@ -93,8 +112,9 @@ class NioConnection extends AbstractTransportConnection implements Closeable {
             throw new IOException("Failed to create QDStats.");
         variables().set(MessageConnectors.STATS_KEY, stats);
         connectionStats = new ConnectionStats();
+        variables().set(CONNECTION_STATS_KEY, connectionStats);
 
-        applicationConnection = core.connector.getFactory().createConnection(this);
+        applicationConnection = connector.getFactory().createConnection(this);
         applicationConnection.start();
     }
 
@@ -116,7 +136,7 @@ class NioConnection extends AbstractTransportConnection implements Closeable {
             log.error("Unexpected error while closing application connection", t);
         }
         stats.close();
-        core.connector.addClosedConnectionStats(connectionStats);
+        connector.addClosedConnectionStats(connectionStats);
         String address = SocketUtil.getAcceptedSocketAddress(channel.socket());
         try {
             channel.close();
@@ -125,6 +145,27 @@ class NioConnection extends AbstractTransportConnection implements Closeable {
         } catch (Throwable t) {
             log.error("Error occurred while disconnecting from " + LogUtil.hideCredentials(address), t);
         }
+        closed(reason);
+    }
+
+    /**
+     * This method is periodically invoked by {@link NioValidator} for open connections.
+     * This implementation does nothing.
+     *
+     * @param time current time in milliseconds.
+     */
+    void examine(long time) {
+        // nothing to do on server-side
+    }
+
+    /**
+     * This method is invoked once after the connection was closed.
+     * This implementation does nothing.
+     *
+     * @param reason the reason of closing or {@code null}.
+     */
+    void closed(Throwable reason) {
+        // nothing to do on server-side
     }
 
     boolean isClosed() {
@@ -229,6 +270,8 @@ class NioConnection extends AbstractTransportConnection implements Closeable {
             break;
         }
         readingChunks = chunkedOutput.getOutput(this);
+        if (totalLength > 0)
+            lastReadTime = System.currentTimeMillis();
         //##### INVARIANT: we've read the data and marked oneself as processing
         assert readingStateMatches(0, 1, -1);
         return false;
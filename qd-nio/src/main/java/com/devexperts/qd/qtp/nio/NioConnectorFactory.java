@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2021 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -17,7 +17,7 @@ import com.devexperts.qd.qtp.MessageConnectorFactory;
 import com.devexperts.util.InvalidFormatException;
 
 public class NioConnectorFactory implements MessageConnectorFactory {
-    private static final String NIO_PREFIX = "nio::";
+    static final String NIO_PREFIX = "nio::";
 
     public NioServerConnector createMessageConnector(ApplicationConnectionFactory applicationConnectionFactory, String address)
         throws InvalidFormatException
@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2024 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -20,25 +20,29 @@ import java.io.Closeable;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Main class consolidating NIO server connection logic.
+ * Main class consolidating NIO connection logic.
  * <p/>
- * A new instance of this class is created each time the connector is started.
+ * For {@link NioServerConnector} a new instance of this class is created each time the connector is started.
+ * All {@link NioClientConnector} instances share one instance of this class without an acceptor
+ * (see {@link NioClientCore}), so that outgoing connections are served by a common pool of threads.
  */
 class NioCore implements AbstractMessageConnector.Joinable {
     static long SELECT_TIMEOUT = TimePeriod.valueOf(
         SystemProperties.getProperty(NioCore.class, "selectTimeout", ".1s")).getTime();
 
-    final NioServerConnector connector;
+    final NioServerConnector connector; // null for client core
     final ChunkPool chunkPool;
-    final InetSocketAddress bindSocketAddress;
+    final InetSocketAddress bindSocketAddress; // null for client core
     final String address;
+    final int threadPriority;
 
-    private NioAcceptor acceptor;
+    private NioAcceptor acceptor; // null for client core
     private final NioReader reader;
     private final NioWriter writer;
     private final NioValidator validator;
@@ -52,6 +56,7 @@ class NioCore implements AbstractMessageConnector.Joinable {
         bindSocketAddress = new InetSocketAddress(connector.getBindInetAddress(), connector.getLocalPort());
         chunkPool = connector.getFactory().getChunkPool();
         address = connector.getAddress();
+        threadPriority = connector.getThreadPriority();
 
         reader = new NioReader(this, connector.getReaderThreads());
         writer = new NioWriter(this, connector.getWriterThreads());
@@ -59,12 +64,24 @@ class NioCore implements AbstractMessageConnector.Joinable {
         validator = new NioValidator(this);
     }
 
+    NioCore(String name, ChunkPool chunkPool, int threads, int threadPriority) throws IOException {
+        this.connector = null;
+        this.chunkPool = chunkPool;
+        this.bindSocketAddress = null;
+        this.address = name;
+        this.threadPriority = threadPriority;
+
+        reader = new NioReader(this, threads);
+        writer = new NioWriter(this, threads);
+        validator = new NioValidator(this);
+    }
+
     boolean isConnected() {
-        return acceptor.isConnected();
+        return acceptor != null && acceptor.isConnected();
     }
 
     boolean isAccepting() {
-        return acceptor.isConnected() || acceptor.isConnecting();
+        return acceptor != null && (acceptor.isConnected() || acceptor.isConnecting());
     }
 
     void start() {
@@ -77,7 +94,8 @@ class NioCore implements AbstractMessageConnector.Joinable {
         closed = true;
         reader.close();
         writer.close();
-        acceptor.close();
+        if (acceptor != null)
+            acceptor.close();
         validator.interrupt();
     }
 
@@ -85,7 +103,8 @@ class NioCore implements AbstractMessageConnector.Joinable {
     public void join() throws InterruptedException {
         reader.join();
         writer.join();
-        acceptor.join();
+        if (acceptor != null)
+            acceptor.join();
         validator.join();
     }
 
@@ -111,10 +130,16 @@ class NioCore implements AbstractMessageConnector.Joinable {
     }
 
     void closeConnections() {
+        Set<AbstractMessageConnector> connectors = new HashSet<>();
         for (NioConnection connection : connections) {
             connection.close();
+            connectors.add(connection.connector);
+        }
+        if (connector != null)
+            connectors.add(connector);
+        for (AbstractMessageConnector connector : connectors) {
+            connector.notifyMessageConnectorListeners();
         }
-        connector.notifyMessageConnectorListeners();
     }
 
     List<Closeable> getConnections() {
@@ -156,7 +181,7 @@ class NioCore implements AbstractMessageConnector.Joinable {
         if (closed) {
             connection.close();
         }
-        connector.notifyMessageConnectorListeners();
+        connection.connector.notifyMessageConnectorListeners();
     }
 
     void removeConnection(NioConnection connection) {
@@ -181,6 +206,8 @@ class NioCore implements AbstractMessageConnector.Joinable {
 
     @Override
     public String toString() {
+        if (connector == null)
+            return address;
         return connector.getName() + "-:" + bindSocketAddress.getPort() +
             (bindSocketAddress.getAddress().isAnyLocalAddress() ? "" :
                 "[bindaddr=" + bindSocketAddress.getAddress().getHostAddress() + "]");
@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2024 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -11,6 +11,11 @@
  */
 package com.devexperts.qd.qtp.nio;
 
+import com.devexperts.qd.qtp.AbstractMessageConnector;
+
+import java.util.HashSet;
+import java.util.Set;
+
 /**
  * Thread that periodically validates existing client connections.
  */
@@ -22,21 +27,27 @@ class NioValidator extends NioWorkerThread {
 
     protected void makeIteration() throws InterruptedException {
         sleep(100);
-        boolean closed = false;
+        Set<AbstractMessageConnector> closedConnectors = null;
         long time = System.currentTimeMillis();
         for (NioConnection connection : core.connections) {
             if (connection.isClosed()) {
                 core.removeConnection(connection);
-                closed = true;
+                if (closedConnectors == null)
+                    closedConnectors = new HashSet<>();
+                closedConnectors.add(connection.connector);
                 continue;
             }
             try {
+                connection.examine(time);
                 connection.applicationConnection.examine(time);
             } catch (Throwable t) {
                 log.error("unexpected error while examining connection", t);
             }
         }
-        if (closed)
-            core.connector.notifyMessageConnectorListeners();
+        if (closedConnectors != null) {
+            for (AbstractMessageConnector connector : closedConnectors) {
+                connector.notifyMessageConnectorListeners();
+            }
+        }
     }
 }
@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2024 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -26,7 +26,7 @@ abstract class NioWorkerThread extends Thread {
         this.core = core;
         setName(core + "-" + name);
         setDaemon(true);
-        setPriority(core.connector.getThreadPriority());
+        setPriority(core.threadPriority);
     }
 
     @Override
@@ -0,0 +1,135 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.devexperts.qd.qtp.nio.test;
+
+import com.devexperts.qd.qtp.MessageConnectorState;
+import com.devexperts.qd.qtp.nio.NioClientConnector;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class NioClientConnectorTest {
+    private static final long TIMEOUT = 10_000;
+
+    private ServerSocket serverSocket;
+
+    @Before
+    public void setUp() throws IOException {
+        serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        serverSocket.setSoTimeout((int) TIMEOUT);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        serverSocket.close();
+    }
+
+    @Test
+    public void testConnectAndReconnect() throws Exception {
+        NioClientConnector connector = createConnector();
+        connector.setReconnectDelay(10);
+        connector.start();
+        Socket socket = serverSocket.accept();
+        waitForState(connector, MessageConnectorState.CONNECTED);
+        assertEquals(1, connector.getConnectionCount());
+
+        // connector shall reconnect when the server closes connection
+        socket.close();
+        socket = serverSocket.accept();
+        waitForState(connector, MessageConnectorState.CONNECTED);
+
+        connector.stopAndWait();
+        assertEquals(MessageConnectorState.DISCONNECTED, connector.getState());
+        assertEquals(-1, socket.getInputStream().read());
+        socket.close();
+    }
+
+    @Test
+    public void testSharedThreads() throws Exception {
+        NioClientConnector[] connectors = new NioClientConnector[10];
+        Socket[] sockets = new Socket[connectors.length];
+        for (int i = 0; i < connectors.length; i++) {
+            connectors[i] = createConnector();
+            connectors[i].start();
+            sockets[i] = serverSocket.accept();
+        }
+        for (NioClientConnector connector : connectors) {
+            waitForState(connector, MessageConnectorState.CONNECTED);
+        }
+        // stopping one connector does not affect the others that share the same threads
+        connectors[0].stopAndWait();
+        assertEquals(-1, sockets[0].getInputStream().read());
+        for (int i = 1; i < connectors.length; i++) {
+            assertEquals(MessageConnectorState.CONNECTED, connectors[i].getState());
+            connectors[i].stopAndWait();
+        }
+        for (Socket socket : sockets) {
+            socket.close();
+        }
+    }
+
+    @Test
+    public void testReadTimeout() throws Exception {
+        NioClientConnector connector = createConnector();
+        connector.setReconnectDelay(10);
+        connector.setSocketTimeout(300);
+        connector.start();
+        Socket socket = serverSocket.accept();
+        waitForState(connector, MessageConnectorState.CONNECTED);
+
+        // connector shall close connection when server does not send anything and then reconnect
+        long time = System.currentTimeMillis();
+        assertEquals(-1, socket.getInputStream().read());
+        assertTrue(System.currentTimeMillis() - time >= 200);
+        socket.close();
+        socket = serverSocket.accept();
+        waitForState(connector, MessageConnectorState.CONNECTED);
+
+        connector.stopAndWait();
+        socket.close();
+    }
+
+    @Test
+    public void testStopWhileConnecting() throws Exception {
+        int port = serverSocket.getLocalPort();
+        serverSocket.close(); // nobody listens there
+        NioClientConnector connector = new NioClientConnector(new TestApplicationConnectionFactory(),
+            "127.0.0.1:" + port);
+        connector.start();
+        assertEquals(MessageConnectorState.CONNECTING, connector.getState());
+        connector.stopAndWait();
+        assertEquals(MessageConnectorState.DISCONNECTED, connector.getState());
+    }
+
+    private NioClientConnector createConnector() {
+        return new NioClientConnector(new TestApplicationConnectionFactory(),
+            "127.0.0.1:" + serverSocket.getLocalPort());
+    }
+
+    private static void waitForState(NioClientConnector connector, MessageConnectorState state)
+        throws InterruptedException
+    {
+        long deadline = System.currentTimeMillis() + TIMEOUT;
+        while (connector.getState() != state && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(state, connector.getState());
+    }
+}
@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2024 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -29,6 +29,12 @@ import java.lang.reflect.Type;
  *      <li>Result type</li>
  * </ul>
  * From these four components an unique operation {@link #getSignature() signature} is composed.
+ *
+ * <p>Parameters and result of an operation are marshalled with {@link Marshaller#forClasses(Class[]) typed}
+ * marshallers by default. An operation {@link #withBinaryMarshalling() with binary marshalling} uses
+ * {@link Marshaller#binaryForClasses(Class[]) binary typed} marshallers instead. The choice of marshalling
+ * is sent to the remote side together with the operation, so that both request and response are
+ * marshalled in the same way. Binary marshalling requires both sides to support it.
  */
 public final class RMIOperation<T> {
     // ========== private static fields ==========
@@ -44,6 +50,9 @@ public final class RMIOperation<T> {
     private final String methodName;
     private final Marshaller.Typed<Object[]> parametersMarshaller;
     private final Marshaller.Typed<T> resultMarshaller;
+    private final boolean binaryMarshalling;
+    private final Class<?>[] parameterClasses; // null when constructed by signature
+    private final Class<T> resultClass; // null when constructed by signature
 
     // ========== Constructing methods ==========
 
@@ -72,7 +81,9 @@ public final class RMIOperation<T> {
         RMIServiceMethod methodAnnotation = method.getAnnotation(RMIServiceMethod.class);
         String name = methodAnnotation != null && !methodAnnotation.name().isEmpty() ? methodAnnotation.name() :
             method.getName();
-        return valueOf(serviceName, (Class<T>) resultClass, name, method.getParameterTypes());
+        RMIOperation<T> operation = valueOf(serviceName, (Class<T>) resultClass, name, method.getParameterTypes());
+        return methodAnnotation != null && methodAnnotation.binaryMarshalling() ?
+            operation.withBinaryMarshalling() : operation;
     }
 
     private static Class<?> extractPromiseReturnType(Method method) {
@@ -132,6 +143,16 @@ public final class RMIOperation<T> {
         return new RMIOperation<>(signature);
     }
 
+    /**
+     * Returns an operation with the same signature that marshals its parameters and result with
+     * {@link Marshaller#binaryForClasses(Class[]) binary typed} marshallers.
+     * Both sides of a connection must support binary marshalling to use this operation.
+     * @return an operation with binary marshalling.
+     */
+    public RMIOperation<T> withBinaryMarshalling() {
+        return binaryMarshalling ? this : new RMIOperation<>(this);
+    }
+
     // ========== Getters ==========
 
     /**
@@ -192,16 +213,27 @@ public final class RMIOperation<T> {
         return resultMarshaller;
     }
 
+    /**
+     * Returns {@code true} if this operation marshals its parameters and result with
+     * {@link Marshaller#binaryForClasses(Class[]) binary typed} marshallers.
+     * @return {@code true} if this operation uses binary marshalling.
+     * @see #withBinaryMarshalling()
+     */
+    public boolean isBinaryMarshalling() {
+        return binaryMarshalling;
+    }
+
     // ========== Implementation ==========
 
     /**
      * Indicates whether some other object is "equal to" this one.
      * Two RMIOperation objects are equal when their
-     * {@link #getSignature() signature} is equal.
+     * {@link #getSignature() signature} is equal and they use the same {@link #isBinaryMarshalling() marshalling}.
      * @return  {@code true} if this object is the same as the other argument; {@code false} otherwise.
      */
     public boolean equals(Object other) {
-        return other instanceof RMIOperation<?> && ((RMIOperation<?>) other).signature.equals(signature);
+        return other instanceof RMIOperation<?> && ((RMIOperation<?>) other).signature.equals(signature) &&
+            ((RMIOperation<?>) other).binaryMarshalling == binaryMarshalling;
     }
 
     /**
@@ -231,6 +263,9 @@ public final class RMIOperation<T> {
         this.methodName = methodName;
         this.parametersMarshaller = Marshaller.forClasses(parameterClasses);
         this.resultMarshaller = Marshaller.forClass(resultClass);
+        this.binaryMarshalling = false;
+        this.parameterClasses = parameterClasses;
+        this.resultClass = resultClass;
         signature = serviceName +
             SIGNATURE_SERVICE_NAME_SEP + methodName +
             SIGNATURE_START_PARAMS_SEP + this.parametersMarshaller.getTypes() +
@@ -247,5 +282,25 @@ public final class RMIOperation<T> {
         this.methodName = signature.substring(i + 1, j);
         this.parametersMarshaller = Marshaller.forTypes(signature.substring(j + 1, k));
         this.resultMarshaller = (Marshaller.Typed<T>) Marshaller.forType(signature.substring(k + SIGNATURE_END_PARAMS_SEP.length()));
+        this.binaryMarshalling = false;
+        this.parameterClasses = null;
+        this.resultClass = null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private RMIOperation(RMIOperation<T> operation) {
+        this.signature = operation.signature;
+        this.serviceName = operation.serviceName;
+        this.methodName = operation.methodName;
+        this.parameterClasses = operation.parameterClasses;
+        this.resultClass = operation.resultClass;
+        if (resultClass != null) {
+            this.parametersMarshaller = Marshaller.binaryForClasses(parameterClasses);
+            this.resultMarshaller = Marshaller.binaryForClass(resultClass);
+        } else {
+            this.parametersMarshaller = Marshaller.binaryForTypes(operation.parametersMarshaller.getTypes());
+            this.resultMarshaller = (Marshaller.Typed<T>) Marshaller.binaryForType(operation.resultMarshaller.getTypes());
+        }
+        this.binaryMarshalling = true;
     }
 }
@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2021 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -42,4 +42,13 @@ public @interface RMIServiceMethod {
      * If not specified, then {@link RMIRequestType#DEFAULT DEFAULT} request type is used.
      */
     public RMIRequestType type() default RMIRequestType.DEFAULT;
+
+    /**
+     * Whether parameters and result of the method are marshalled with
+     * {@link com.devexperts.io.Marshaller#binaryForClasses(Class[]) binary typed} marshallers.
+     * If not specified, then Java Object Serialization is used for non-primitive parameters and result.
+     * Both sides of a connection must support binary marshalling.
+     * @see RMIOperation#withBinaryMarshalling()
+     */
+    public boolean binaryMarshalling() default false;
 }
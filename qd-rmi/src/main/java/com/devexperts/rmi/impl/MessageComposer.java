@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2025 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -558,6 +558,9 @@ class MessageComposer {
             try {
                 message.output().writeCompactInt(id);
                 message.output().writeUTFString(operation.getSignature());
+                // optional flags are ignored by peers that do not support them
+                if (operation.isBinaryMarshalling())
+                    message.output().writeCompactInt(RMIMessageConstants.OPERATION_BINARY_MARSHALLING);
             } catch (IOException e) {
                 throw new AssertionError("Unexpected IOException"); // should never happen
             }
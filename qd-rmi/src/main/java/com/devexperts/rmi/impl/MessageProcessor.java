@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2025 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -128,7 +128,12 @@ class MessageProcessor {
     void processDescribeOperationMessage(BufferedInput data) throws IOException {
         int operationId = data.readCompactInt();
         String signature = data.readUTFString();
-        operations.putOperation(operationId, RMIOperation.valueOf(signature));
+        RMIOperation<?> operation = RMIOperation.valueOf(signature);
+        // parse optional flags
+        int flags = data.hasAvailable(1) ? data.readCompactInt() : 0;
+        if ((flags & RMIMessageConstants.OPERATION_BINARY_MARSHALLING) != 0)
+            operation = operation.withBinaryMarshalling();
+        operations.putOperation(operationId, operation);
     }
 
     void processAdvertiseServicesMessage(BufferedInput data) throws IOException {
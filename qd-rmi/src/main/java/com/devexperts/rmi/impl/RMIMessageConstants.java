@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2021 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -17,6 +17,9 @@ class RMIMessageConstants {
     static final int REQUEST_WITH_TARGET = 0x10;
     static final int REQUEST = 0x30;
     static final int CHANNEL_REQUEST = 0x40;
+
+    // optional flags of describe operation message
+    static final int OPERATION_BINARY_MARSHALLING = 0x01;
 //  static final int
 
     private RMIMessageConstants() {} // do not create
@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2021 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -15,6 +15,7 @@ import com.devexperts.rmi.RMIExceptionType;
 import com.devexperts.rmi.task.RMIChannelType;
 import com.devexperts.util.IndexedSet;
 
+import java.util.ArrayList;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -56,7 +57,8 @@ class RunningTask {
     synchronized void remove(RMIChannelOwner owner, long channelId) {
         IndexedSet<Long, RMITaskImpl<?>> set = getMap(owner.getChannelType()).get(channelId);
         if (set != null && !set.isEmpty()) {
-            for (RMITaskImpl<?> runTask : set)
+            // completed tasks are removed from the set
+            for (RMITaskImpl<?> runTask : new ArrayList<>(set))
                 runTask.completeExceptionally(RMIExceptionType.CHANNEL_CLOSED, null);
         }
         if (owner.getChannelType() == RMIChannelType.SERVER_CHANNEL) {
@@ -0,0 +1,226 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.devexperts.rmi.task;
+
+import com.devexperts.rmi.RMIException;
+import com.devexperts.rmi.RMIExceptionType;
+import com.devexperts.rmi.RMIRequest;
+import com.devexperts.rmi.RMIRequestState;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.concurrent.GuardedBy;
+
+/**
+ * Receives the result of a {@link RMIRequest} as a stream of chunks that are sent with {@link RMIStreamSender}.
+ * Each chunk is acknowledged to the sender when it is consumed with {@link #take() take} method,
+ * granting the sender a credit for the next chunk, so received chunks are queued up to the window of the sender.
+ *
+ * <pre><tt>
+ * RMIRequest&lt;Long&gt; request = client.getClient().createRequest(null, HISTORY_OPERATION, symbol);
+ * RMIStreamReceiver&lt;Row[]&gt; receiver = RMIStreamReceiver.open(request, Row[].class);
+ * request.send();
+ * for (Row[] rows; (rows = receiver.take()) != null;) {
+ *     ... // process rows
+ * }
+ * long count = request.getBlocking();
+ * </tt></pre>
+ *
+ * @param <T> type of chunks.
+ */
+public final class RMIStreamReceiver<T> {
+
+    /**
+     * Opens stream of results for the specified request. This method shall be invoked before the request is sent.
+     *
+     * @param request the request.
+     * @param chunkType type of chunks.
+     * @param <T> type of chunks.
+     * @return stream receiver.
+     * @throws IllegalStateException if the request was already sent.
+     */
+    public static <T> RMIStreamReceiver<T> open(RMIRequest<?> request, Class<T> chunkType) {
+        if (request.getState() != RMIRequestState.NEW)
+            throw new IllegalStateException("Request was already sent: " + request);
+        RMIStreamReceiver<T> receiver = new RMIStreamReceiver<>(request, chunkType);
+        request.getChannel().addChannelHandler(receiver.new ChunkHandler());
+        request.getPromise().whenDone(promise -> receiver.requestCompleted());
+        return receiver;
+    }
+
+    private final RMIRequest<?> request;
+    private final Class<T> chunkType;
+
+    @GuardedBy("this")
+    private final ArrayDeque<T> chunks = new ArrayDeque<>();
+    // chunk tasks are completed when chunks are consumed or when the request is completed
+    @GuardedBy("this")
+    private final ArrayDeque<RMITask<Void>> chunkTasks = new ArrayDeque<>();
+    @GuardedBy("this")
+    private RMIStreamStats stats; // of the connection, known when the first chunk is received
+    @GuardedBy("this")
+    private boolean completed;
+
+    private RMIStreamReceiver(RMIRequest<?> request, Class<T> chunkType) {
+        this.request = request;
+        this.chunkType = chunkType;
+    }
+
+    /**
+     * Returns the request of this receiver.
+     */
+    public RMIRequest<?> getRequest() {
+        return request;
+    }
+
+    /**
+     * Returns the number of received chunks that are not consumed yet.
+     */
+    public synchronized int getQueued() {
+        return chunks.size();
+    }
+
+    /**
+     * Takes the next chunk of the result, waiting if necessary until it is received.
+     *
+     * @return the next chunk or {@code null} when the request is completed and all chunks are consumed.
+     * @throws RMIException if the request failed.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    public T take() throws RMIException, InterruptedException {
+        return poll(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Takes the next chunk of the result, waiting up to the specified timeout if necessary until it is received.
+     *
+     * @param timeout how long to wait before giving up.
+     * @param unit time unit of the timeout.
+     * @return the next chunk or {@code null} when the request is completed and all chunks are consumed
+     *     or the timeout elapses before the chunk is received.
+     * @throws RMIException if the request failed.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    public T poll(long timeout, TimeUnit unit) throws RMIException, InterruptedException {
+        T chunk;
+        RMITask<Void> chunkTask;
+        synchronized (this) {
+            boolean infinite = timeout == Long.MAX_VALUE;
+            long deadline = infinite ? 0 : System.nanoTime() + unit.toNanos(timeout);
+            while (chunks.isEmpty()) {
+                if (completed) {
+                    RMIException exception = request.getException();
+                    if (exception != null)
+                        throw exception;
+                    return null;
+                }
+                if (infinite) {
+                    wait();
+                    continue;
+                }
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0)
+                    return null;
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            }
+            chunk = chunks.poll();
+            chunkTask = chunkTasks.poll(); // null when the request is completed
+            stats.chunksConsumed(1);
+        }
+        if (chunkTask != null)
+            chunkTask.complete(null); // grants a credit to the sender
+        return chunk;
+    }
+
+    /**
+     * Cancels the request of this receiver and drops all received chunks.
+     */
+    public void cancel() {
+        request.cancelOrAbort();
+    }
+
+    @Override
+    public String toString() {
+        return "RMIStreamReceiver{" + request + "}";
+    }
+
+    private void requestCompleted() {
+        List<RMITask<Void>> pendingTasks;
+        boolean failed = request.getException() != null;
+        synchronized (this) {
+            completed = true;
+            if (failed) {
+                // received chunks are dropped, otherwise they still can be consumed
+                if (stats != null)
+                    stats.chunksConsumed(chunks.size());
+                chunks.clear();
+            }
+            pendingTasks = new ArrayList<>(chunkTasks);
+            chunkTasks.clear();
+            if (stats != null)
+                stats.streamClosed();
+            notifyAll();
+        }
+        // credits are not needed anymore, but chunk tasks shall not be left suspended
+        for (RMITask<Void> chunkTask : pendingTasks) {
+            if (failed)
+                chunkTask.cancel(RMIExceptionType.CANCELLED_DURING_EXECUTION);
+            else
+                chunkTask.complete(null);
+        }
+    }
+
+    private void chunkReceived(T chunk, RMITask<Void> chunkTask) {
+        synchronized (this) {
+            if (!completed) {
+                if (stats == null) {
+                    stats = RMIStreamStats.get(chunkTask.getConnectionVariables());
+                    stats.streamOpened();
+                }
+                chunks.add(chunk);
+                chunkTasks.add(chunkTask);
+                stats.chunkReceived();
+                notifyAll();
+                return;
+            }
+        }
+        // too late, drop it
+        chunkTask.cancel(RMIExceptionType.CANCELLED_DURING_EXECUTION);
+    }
+
+    private class ChunkHandler extends RMILocalService<Void> {
+        ChunkHandler() {
+            super(RMIStreamSender.STREAM_HANDLER_NAME, null);
+        }
+
+        @Override
+        public Void invoke(RMITask<Void> task) {
+            if (!task.getOperation().getMethodName().equals(RMIStreamSender.CHUNK_METHOD_NAME)) {
+                task.completeExceptionally(RMIExceptionType.OPERATION_NOT_PROVIDED, null);
+                return null;
+            }
+            T chunk;
+            try {
+                chunk = chunkType.cast(task.getRequestMessage().getParameters().getObject()[0]);
+            } catch (Throwable t) {
+                task.completeExceptionally(RMIExceptionType.PARAMETERS_UNMARSHALLING_ERROR, t);
+                return null;
+            }
+            // task is completed when the chunk is consumed and the next chunk task can be executed meanwhile
+            task.suspend(t -> {});
+            chunkReceived(chunk, task);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,355 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.devexperts.rmi.task;
+
+import com.devexperts.rmi.RMIOperation;
+import com.devexperts.rmi.RMIRequest;
+import com.devexperts.rmi.RMIRequestState;
+import com.devexperts.rmi.message.RMIRequestMessage;
+import com.devexperts.rmi.message.RMIRequestType;
+import com.dxfeed.promise.Promise;
+
+import java.util.concurrent.CancellationException;
+import javax.annotation.concurrent.GuardedBy;
+
+/**
+ * Sends the result of a {@link RMITask} as a stream of chunks that are received with {@link RMIStreamReceiver}.
+ * Chunks are sent as requests in the {@link RMIChannel channel} of the task and the receiver responds
+ * to each chunk request as it consumes the chunk, granting the sender a credit to send the next one.
+ * No more than a window of chunks is sent without being consumed, so memory that is used by the stream
+ * is bounded on both sides of the connection.
+ *
+ * <p>Execution threads of RMI tasks shall not be blocked while waiting for credits, so the task
+ * {@link RMITask#suspend(RMITaskCancelListener) suspends} when the sender has no {@link #getCredits() credits},
+ * resumes when {@link #whenCredited() credited} and is completed when all chunks are
+ * {@link #whenConsumed(Object) consumed}:
+ *
+ * <pre><tt>
+ * public long getHistory(String symbol) {
+ *     RMITask&lt;Long&gt; task = RMITask.current(long.class);
+ *     RMIStreamSender&lt;Row[]&gt; sender = RMIStreamSender.open(Row[].class, 16, true);
+ *     return sendRows(task, sender, query(symbol));
+ * }
+ *
+ * private long sendRows(RMITask&lt;Long&gt; task, RMIStreamSender&lt;Row[]&gt; sender, RowIterator rows) {
+ *     while (rows.hasNext()) {
+ *         if (!sender.trySend(rows.peek())) {
+ *             RMIContinuation&lt;Long&gt; continuation = task.suspend(t -&gt; {});
+ *             sender.whenCredited().whenDone(p -&gt; continuation.resume(() -&gt; sendRows(task, sender, rows)));
+ *             return 0; // result is ignored while the task is suspended
+ *         }
+ *         rows.next();
+ *     }
+ *     task.completePromise(sender.whenConsumed(rows.getCount()));
+ *     return 0;
+ * }</tt></pre>
+ *
+ * <p>Blocking {@link #send(Object) send} and {@link #close() close} methods can be used by other threads
+ * that produce the result of a suspended task, they cannot be invoked in RMI execution threads.
+ * The task shall not be completed before all chunks are consumed, otherwise
+ * its channel is closed and the chunks that are not consumed yet are lost.
+ * The {@link RMITask#setCancelListener(RMITaskCancelListener) cancel listener} of the task is used by the sender.
+ *
+ * @param <T> type of chunks.
+ */
+public final class RMIStreamSender<T> implements AutoCloseable {
+
+    static final String STREAM_HANDLER_NAME = "RMIStream";
+    static final String CHUNK_METHOD_NAME = "chunk";
+
+    /**
+     * Opens stream of the results for the {@link RMITask#current() current} task.
+     *
+     * @param chunkType type of chunks.
+     * @param window maximal number of chunks that are sent without being consumed by the receiver.
+     * @param binaryMarshalling {@code true} to send chunks with
+     *     {@link RMIOperation#withBinaryMarshalling() binary marshalling}.
+     * @param <T> type of chunks.
+     * @return stream sender.
+     * @throws IllegalStateException if invoked outside of the task execution.
+     * @throws IllegalArgumentException if window is not positive.
+     */
+    public static <T> RMIStreamSender<T> open(Class<T> chunkType, int window, boolean binaryMarshalling) {
+        return open(RMITask.current(), chunkType, window, binaryMarshalling);
+    }
+
+    /**
+     * Opens stream of the results for the specified task.
+     *
+     * @param task the task.
+     * @param chunkType type of chunks.
+     * @param window maximal number of chunks that are sent without being consumed by the receiver.
+     * @param binaryMarshalling {@code true} to send chunks with
+     *     {@link RMIOperation#withBinaryMarshalling() binary marshalling}.
+     * @param <T> type of chunks.
+     * @return stream sender.
+     * @throws IllegalStateException if the task already has a cancel listener.
+     * @throws IllegalArgumentException if window is not positive.
+     */
+    public static <T> RMIStreamSender<T> open(RMITask<?> task, Class<T> chunkType, int window,
+        boolean binaryMarshalling)
+    {
+        if (window <= 0)
+            throw new IllegalArgumentException("Window shall be positive: " + window);
+        RMIStreamSender<T> sender = new RMIStreamSender<>(task, chunkType, window, binaryMarshalling);
+        task.setCancelListener(t -> sender.taskCompletedOrCancelling());
+        sender.stats.streamOpened();
+        return sender;
+    }
+
+    private final RMITask<?> task;
+    private final Class<T> chunkType;
+    private final int window;
+    private final RMIOperation<Void> chunkOperation;
+    private final RMIStreamStats stats;
+
+    @GuardedBy("this")
+    private int pending; // chunks that are sent, but not consumed by the receiver yet
+    @GuardedBy("this")
+    private boolean done; // task completed or is being cancelled or chunk was not delivered
+    @GuardedBy("this")
+    private boolean closed; // stream is accounted as closed in stats
+    @GuardedBy("this")
+    private Promise<Void> creditPromise; // completed when credit is granted, created on demand
+    @GuardedBy("this")
+    private Promise<Void> consumedPromise; // completed when all chunks are consumed, created on demand
+
+    private RMIStreamSender(RMITask<?> task, Class<T> chunkType, int window, boolean binaryMarshalling) {
+        this.task = task;
+        this.chunkType = chunkType;
+        this.window = window;
+        RMIOperation<Void> operation =
+            RMIOperation.valueOf(STREAM_HANDLER_NAME, void.class, CHUNK_METHOD_NAME, chunkType);
+        this.chunkOperation = binaryMarshalling ? operation.withBinaryMarshalling() : operation;
+        this.stats = RMIStreamStats.get(task.getConnectionVariables());
+    }
+
+    /**
+     * Returns the number of chunks that can be sent without waiting for new credits.
+     */
+    public synchronized int getCredits() {
+        return window - pending;
+    }
+
+    /**
+     * Returns the number of sent chunks that were not consumed by the receiver yet.
+     */
+    public synchronized int getPending() {
+        return pending;
+    }
+
+    /**
+     * Sends the next chunk of the result if the sender has a credit for it.
+     * This method never blocks and can be invoked in RMI execution threads.
+     *
+     * @param chunk the chunk.
+     * @return {@code true} if the chunk was sent or {@code false} if there are no credits,
+     *     use {@link #whenCredited()} to wait for them.
+     * @throws CancellationException if the task was completed or cancelled or the chunk was not delivered.
+     */
+    public boolean trySend(T chunk) {
+        synchronized (this) {
+            checkActive();
+            if (pending >= window) {
+                stats.creditWait();
+                return false;
+            }
+            pending++;
+        }
+        sendChunk(chunk);
+        return true;
+    }
+
+    /**
+     * Returns promise that is completed when the sender has a credit for the next chunk.
+     * The promise is cancelled when the task is completed or cancelled or the chunk was not delivered.
+     */
+    public Promise<Void> whenCredited() {
+        Promise<Void> credited;
+        synchronized (this) {
+            if (done || pending < window) {
+                credited = done ? Promise.failed(new CancellationException("Stream was cancelled: " + task)) :
+                    Promise.completed(null);
+            } else {
+                if (creditPromise == null)
+                    creditPromise = new Promise<>();
+                credited = creditPromise;
+            }
+        }
+        return chain(credited, null);
+    }
+
+    /**
+     * Returns promise that is completed with the specified result when all sent chunks are consumed
+     * by the receiver, so it can be used to {@link RMITask#completePromise(Promise) complete} the task.
+     * The promise is cancelled when the task is completed or cancelled or the chunk was not delivered.
+     *
+     * @param result the result.
+     * @param <R> type of the result.
+     * @return promise of the result.
+     */
+    public <R> Promise<R> whenConsumed(R result) {
+        Promise<Void> consumed;
+        synchronized (this) {
+            if (done || pending == 0) {
+                consumed = done ? Promise.failed(new CancellationException("Stream was cancelled: " + task)) :
+                    Promise.completed(null);
+            } else {
+                if (consumedPromise == null)
+                    consumedPromise = new Promise<>();
+                consumed = consumedPromise;
+            }
+        }
+        return chain(consumed, result);
+    }
+
+    /**
+     * Sends the next chunk of the result, waiting for a credit from the receiver when needed.
+     *
+     * @param chunk the chunk.
+     * @throws CancellationException if the task was completed or cancelled, the chunk was not delivered
+     *     or the thread was interrupted.
+     * @throws IllegalStateException if invoked in RMI execution thread.
+     */
+    public void send(T chunk) {
+        checkNotExecutionThread();
+        synchronized (this) {
+            if (pending >= window) {
+                stats.creditWait();
+                while (pending >= window) {
+                    await();
+                }
+            }
+            checkActive();
+            pending++;
+        }
+        sendChunk(chunk);
+    }
+
+    /**
+     * Waits until all sent chunks are consumed by the receiver. The task can be completed after this method returns.
+     *
+     * @throws CancellationException if the task was completed or cancelled, the chunk was not delivered
+     *     or the thread was interrupted.
+     * @throws IllegalStateException if invoked in RMI execution thread.
+     */
+    @Override
+    public void close() {
+        checkNotExecutionThread();
+        synchronized (this) {
+            while (pending > 0) {
+                await();
+            }
+            checkActive();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "RMIStreamSender{" + task + "}";
+    }
+
+    @GuardedBy("this")
+    private void await() {
+        checkActive();
+        try {
+            wait();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while streaming " + task);
+        }
+    }
+
+    @GuardedBy("this")
+    private void checkActive() {
+        if (done)
+            throw new CancellationException("Stream was cancelled: " + task);
+    }
+
+    private void sendChunk(T chunk) {
+        stats.chunkSent();
+        RMIRequest<Void> request = task.getChannel().createRequest(
+            new RMIRequestMessage<>(RMIRequestType.DEFAULT, chunkOperation, chunkType.cast(chunk)));
+        request.setExecutor(Runnable::run); // credits are processed without executor threads
+        request.setListener(this::chunkConsumed);
+        request.send();
+    }
+
+    private void checkNotExecutionThread() {
+        if (RMITask.current() != null)
+            throw new IllegalStateException("RMI execution thread cannot wait for credits, use trySend: " + task);
+    }
+
+    private void chunkConsumed(RMIRequest<?> request) {
+        boolean failed = request.getState() != RMIRequestState.SUCCEEDED;
+        Promise<Void> credited = null;
+        Promise<Void> consumed = null;
+        synchronized (this) {
+            pending--;
+            stats.chunksAcknowledged(1);
+            notifyAll();
+            if (!failed) {
+                credited = creditPromise;
+                creditPromise = null;
+                if (pending == 0) {
+                    consumed = consumedPromise;
+                    consumedPromise = null;
+                }
+            }
+        }
+        if (failed)
+            cancel();
+        if (credited != null)
+            credited.complete(null);
+        if (consumed != null)
+            consumed.complete(null);
+    }
+
+    private void taskCompletedOrCancelling() {
+        cancel();
+        synchronized (this) {
+            if (closed)
+                return;
+            closed = true;
+        }
+        stats.streamClosed();
+    }
+
+    private void cancel() {
+        Promise<Void> credited;
+        Promise<Void> consumed;
+        synchronized (this) {
+            done = true;
+            notifyAll();
+            credited = creditPromise;
+            consumed = consumedPromise;
+            creditPromise = null;
+            consumedPromise = null;
+        }
+        if (credited != null)
+            credited.cancel();
+        if (consumed != null)
+            consumed.cancel();
+    }
+
+    // each caller gets its own promise, so cancelling it does not affect others
+    private static <R> Promise<R> chain(Promise<Void> promise, R result) {
+        Promise<R> chained = new Promise<>();
+        promise.whenDone(p -> {
+            if (p.hasResult())
+                chained.complete(result);
+            else
+                chained.completeExceptionally(p.getException());
+        });
+        return chained;
+    }
+}
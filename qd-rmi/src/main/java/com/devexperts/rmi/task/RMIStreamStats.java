@@ -0,0 +1,195 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.devexperts.rmi.task;
+
+import com.devexperts.management.Management;
+import com.devexperts.util.TypedKey;
+import com.devexperts.util.TypedMap;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-connection statistics of streamed results that are sent with {@link RMIStreamSender}
+ * and received with {@link RMIStreamReceiver}. Statistics are kept in
+ * {@link RMITask#getConnectionVariables() connection variables} and are available with
+ * <code>RMIStreamStats.{@link #get(TypedMap) get}(task.getConnectionVariables())</code>.
+ * Statistics of all connections are summed up in {@link #getTotal() total} statistics
+ * that are registered as JMX bean {@code com.devexperts.rmi.task:type=RMIStreamStats}.
+ */
+public final class RMIStreamStats implements RMIStreamStatsMXBean {
+    private static final TypedKey<RMIStreamStats> STATS_KEY = new TypedKey<>("RMIStreamStats");
+
+    private static final RMIStreamStats TOTAL = new RMIStreamStats(null);
+
+    private static Management.Registration registration;
+
+    /**
+     * Returns streaming statistics of all connections.
+     */
+    public static RMIStreamStats getTotal() {
+        return TOTAL;
+    }
+
+    /**
+     * Returns streaming statistics of the connection with the specified connection variables.
+     * @param connectionVariables connection variables.
+     * @return streaming statistics of the connection.
+     */
+    public static RMIStreamStats get(TypedMap connectionVariables) {
+        synchronized (connectionVariables) { // TypedMap is synchronized on itself
+            RMIStreamStats stats = connectionVariables.get(STATS_KEY);
+            if (stats == null) {
+                connectionVariables.set(STATS_KEY, stats = new RMIStreamStats(TOTAL));
+                registerTotal();
+            }
+            return stats;
+        }
+    }
+
+    private static synchronized void registerTotal() {
+        if (registration == null)
+            registration = Management.registerMBean(TOTAL, RMIStreamStatsMXBean.class,
+                Management.getMBeanNameForClass(RMIStreamStats.class));
+    }
+
+    private final AtomicInteger openStreams = new AtomicInteger();
+    private final AtomicLong sentChunks = new AtomicLong();
+    private final AtomicInteger pendingChunks = new AtomicInteger();
+    private final AtomicLong creditWaits = new AtomicLong();
+    private final AtomicLong receivedChunks = new AtomicLong();
+    private final AtomicInteger queuedChunks = new AtomicInteger();
+    private final AtomicInteger maxQueuedChunks = new AtomicInteger();
+
+    private final RMIStreamStats total; // null for total statistics
+
+    private RMIStreamStats(RMIStreamStats total) {
+        this.total = total;
+    }
+
+    /**
+     * Returns the number of streams of this connection that are currently open on either side.
+     */
+    @Override
+    public int getOpenStreams() {
+        return openStreams.get();
+    }
+
+    /**
+     * Returns the total number of chunks that were sent to this connection.
+     */
+    @Override
+    public long getSentChunks() {
+        return sentChunks.get();
+    }
+
+    /**
+     * Returns the number of chunks that were sent to this connection and were not consumed by the receiver yet.
+     */
+    @Override
+    public int getPendingChunks() {
+        return pendingChunks.get();
+    }
+
+    /**
+     * Returns the number of times senders had to wait for credits from this connection.
+     */
+    @Override
+    public long getCreditWaits() {
+        return creditWaits.get();
+    }
+
+    /**
+     * Returns the total number of chunks that were received from this connection.
+     */
+    @Override
+    public long getReceivedChunks() {
+        return receivedChunks.get();
+    }
+
+    /**
+     * Returns the number of chunks that were received from this connection and are queued for consumption.
+     */
+    @Override
+    public int getQueuedChunks() {
+        return queuedChunks.get();
+    }
+
+    /**
+     * Returns the maximal number of chunks that were queued for consumption from this connection at once.
+     */
+    @Override
+    public int getMaxQueuedChunks() {
+        return maxQueuedChunks.get();
+    }
+
+    @Override
+    public String toString() {
+        return "RMIStreamStats{" +
+            "openStreams=" + openStreams +
+            ", sentChunks=" + sentChunks +
+            ", pendingChunks=" + pendingChunks +
+            ", creditWaits=" + creditWaits +
+            ", receivedChunks=" + receivedChunks +
+            ", queuedChunks=" + queuedChunks +
+            ", maxQueuedChunks=" + maxQueuedChunks +
+            "}";
+    }
+
+    void streamOpened() {
+        openStreams.incrementAndGet();
+        if (total != null)
+            total.streamOpened();
+    }
+
+    void streamClosed() {
+        openStreams.decrementAndGet();
+        if (total != null)
+            total.streamClosed();
+    }
+
+    void chunkSent() {
+        sentChunks.incrementAndGet();
+        pendingChunks.incrementAndGet();
+        if (total != null)
+            total.chunkSent();
+    }
+
+    void chunksAcknowledged(int count) {
+        pendingChunks.addAndGet(-count);
+        if (total != null)
+            total.chunksAcknowledged(count);
+    }
+
+    void creditWait() {
+        creditWaits.incrementAndGet();
+        if (total != null)
+            total.creditWait();
+    }
+
+    void chunkReceived() {
+        receivedChunks.incrementAndGet();
+        int queued = queuedChunks.incrementAndGet();
+        maxQueuedChunks.accumulateAndGet(queued, Math::max);
+        if (total != null) {
+            total.receivedChunks.incrementAndGet();
+            total.queuedChunks.incrementAndGet();
+            total.maxQueuedChunks.accumulateAndGet(queued, Math::max); // per connection
+        }
+    }
+
+    void chunksConsumed(int count) {
+        queuedChunks.addAndGet(-count);
+        if (total != null)
+            total.chunksConsumed(count);
+    }
+}
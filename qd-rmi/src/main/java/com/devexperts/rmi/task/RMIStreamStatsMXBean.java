@@ -0,0 +1,41 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.devexperts.rmi.task;
+
+import com.devexperts.annotation.Description;
+
+/**
+ * Management interface for total statistics of streamed results of all connections.
+ */
+@Description("Statistics of streamed RMI results of all connections")
+public interface RMIStreamStatsMXBean {
+    @Description("Number of streams that are currently open on either side")
+    public int getOpenStreams();
+
+    @Description("Total number of sent chunks")
+    public long getSentChunks();
+
+    @Description("Number of sent chunks that were not consumed by receivers yet")
+    public int getPendingChunks();
+
+    @Description("Number of times senders had to wait for credits")
+    public long getCreditWaits();
+
+    @Description("Total number of received chunks")
+    public long getReceivedChunks();
+
+    @Description("Number of received chunks that are queued for consumption")
+    public int getQueuedChunks();
+
+    @Description("Maximal number of chunks that were queued for consumption from a connection at once")
+    public int getMaxQueuedChunks();
+}
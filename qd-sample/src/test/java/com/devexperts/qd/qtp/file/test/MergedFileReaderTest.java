@@ -0,0 +1,211 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.devexperts.qd.qtp.file.test;
+
+import com.devexperts.qd.DataIterator;
+import com.devexperts.qd.DataRecord;
+import com.devexperts.qd.DataScheme;
+import com.devexperts.qd.ng.RecordBuffer;
+import com.devexperts.qd.ng.RecordCursor;
+import com.devexperts.qd.ng.RecordSource;
+import com.devexperts.qd.qtp.HeartbeatPayload;
+import com.devexperts.qd.qtp.MessageConsumerAdapter;
+import com.devexperts.qd.qtp.MessageType;
+import com.devexperts.qd.qtp.file.FileFormat;
+import com.devexperts.qd.qtp.file.FileReaderParams;
+import com.devexperts.qd.qtp.file.FileWriterImpl;
+import com.devexperts.qd.qtp.file.FileWriterParams;
+import com.devexperts.qd.qtp.file.MergedFileReader;
+import com.devexperts.qd.qtp.file.TimestampsType;
+import com.devexperts.qd.test.TestDataScheme;
+import com.devexperts.transport.stats.ConnectionStats;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that {@link MergedFileReader} delivers messages of several tape files ordered by their time.
+ */
+@RunWith(Parameterized.class)
+public class MergedFileReaderTest {
+    private static final long SEED = 20260104;
+    private static final int SOURCE_CNT = 3;
+    private static final int BLOCK_CNT = 100;
+    private static final int RECORD_CNT = 10;
+    private static final long PERIOD = 30; // between heartbeats of each source
+    private static final long TIME0 = 1767225600000L; // 2026-01-01 00:00:00 GMT
+    private static final long NO_TIME = Long.MIN_VALUE;
+
+    private final DataScheme scheme = new TestDataScheme(SEED);
+    private final DataRecord record = findRecordWithIntField();
+
+    private final String extension;
+    private final TimestampsType time;
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    @Parameterized.Parameters(name = "extension={0}, time={1}")
+    public static Iterable<Object[]> params() {
+        return Arrays.asList(new Object[][] {
+            { ".qds", TimestampsType.MESSAGE },
+            { ".qds.gz", TimestampsType.MESSAGE },
+            { ".qds", TimestampsType.TEXT },
+        });
+    }
+
+    public MergedFileReaderTest(String extension, TimestampsType time) {
+        this.extension = extension;
+        this.time = time;
+    }
+
+    @Test
+    public void testMergeByTime() throws Exception {
+        String address = writeSources();
+        List<Long> times = new ArrayList<>();
+        List<String> result = read(address, FileReaderParams.MAX_SPEED, NO_TIME, NO_TIME, false, times, -1);
+        assertEquals(SOURCE_CNT * BLOCK_CNT * RECORD_CNT, result.size());
+        assertEquals(expected(NO_TIME, NO_TIME), result);
+        for (int i = 1; i < times.size(); i++) {
+            assertTrue(times.get(i - 1) < times.get(i));
+        }
+        assertEquals(SOURCE_CNT * BLOCK_CNT, times.size());
+    }
+
+    @Test
+    public void testStartAndStop() throws Exception {
+        String address = writeSources();
+        long start = TIME0 + BLOCK_CNT / 4 * PERIOD;
+        long stop = TIME0 + BLOCK_CNT / 2 * PERIOD + PERIOD / 2;
+        List<String> result = read(address, FileReaderParams.MAX_SPEED, start, stop, false, new ArrayList<>(), -1);
+        assertEquals(expected(start, stop), result);
+    }
+
+    @Test
+    public void testSpeed() throws Exception {
+        String address = writeSources();
+        long stop = TIME0 + BLOCK_CNT / 2 * PERIOD;
+        long startNanos = System.nanoTime();
+        List<String> result = read(address, 10, NO_TIME, stop, false, new ArrayList<>(), -1);
+        long elapsed = (System.nanoTime() - startNanos) / 1_000_000;
+        assertEquals(expected(NO_TIME, stop), result);
+        assertTrue("elapsed " + elapsed, elapsed >= (stop - TIME0) / 10);
+    }
+
+    @Test
+    public void testCycle() throws Exception {
+        String address = writeSources();
+        int total = SOURCE_CNT * BLOCK_CNT * RECORD_CNT;
+        List<String> result = read(address, FileReaderParams.MAX_SPEED, NO_TIME, NO_TIME, true,
+            new ArrayList<>(), 2 * total);
+        assertTrue(result.size() >= 2 * total);
+        assertEquals(result.subList(0, total), result.subList(total, 2 * total));
+    }
+
+    private String writeSources() {
+        StringBuilder address = new StringBuilder();
+        for (int s = 0; s < SOURCE_CNT; s++) {
+            File file = new File(tempFolder.getRoot(), "source" + s + extension);
+            FileWriterParams.Default params = new FileWriterParams.Default();
+            params.setFormat(FileFormat.BINARY);
+            params.setTime(time);
+            FileWriterImpl writer = new FileWriterImpl(file.getPath(), scheme, params).open();
+            writer.addSendMessageType(MessageType.STREAM_DATA);
+            HeartbeatPayload heartbeatPayload = new HeartbeatPayload();
+            RecordBuffer buf = new RecordBuffer();
+            for (int i = 0; i < BLOCK_CNT; i++) {
+                heartbeatPayload.setTimeMillis(sourceTime(s, i));
+                writer.visitHeartbeat(heartbeatPayload);
+                buf.clear();
+                for (int j = 0; j < RECORD_CNT; j++) {
+                    buf.add(record, 0, "S" + s).setInt(0, i * RECORD_CNT + j);
+                }
+                writer.visitData(buf, MessageType.STREAM_DATA);
+            }
+            writer.close();
+            if (s > 0)
+                address.append(MergedFileReader.SOURCE_SEPARATOR);
+            address.append(file.getPath());
+        }
+        return address.toString();
+    }
+
+    private static long sourceTime(int source, int block) {
+        return TIME0 + block * PERIOD + source * PERIOD / SOURCE_CNT;
+    }
+
+    private List<String> expected(long start, long stop) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < BLOCK_CNT; i++) {
+            for (int s = 0; s < SOURCE_CNT; s++) {
+                long t = sourceTime(s, i);
+                if (start != NO_TIME && t < start || stop != NO_TIME && t >= stop)
+                    continue;
+                for (int j = 0; j < RECORD_CNT; j++) {
+                    result.add("S" + s + ":" + (i * RECORD_CNT + j));
+                }
+            }
+        }
+        return result;
+    }
+
+    private List<String> read(String address, double speed, long start, long stop, boolean cycle, List<Long> times,
+        int closeAfter) throws Exception
+    {
+        FileReaderParams.Default params = new FileReaderParams.Default();
+        params.setSpeed(speed);
+        if (start != NO_TIME)
+            params.setStartTime(start);
+        if (stop != NO_TIME)
+            params.setStopTime(stop);
+        params.setCycle(cycle);
+        MergedFileReader reader = new MergedFileReader(address, new ConnectionStats(), params);
+        reader.setScheme(scheme);
+        List<String> result = new ArrayList<>();
+        reader.readInto(new MessageConsumerAdapter() {
+            @Override
+            public void processHeartbeat(HeartbeatPayload heartbeatPayload) {
+                if (heartbeatPayload.hasTimeMillis())
+                    times.add(heartbeatPayload.getTimeMillis());
+            }
+
+            @Override
+            protected void processData(DataIterator iterator, MessageType message) {
+                RecordSource source = (RecordSource) iterator;
+                for (RecordCursor cursor; (cursor = source.next()) != null; ) {
+                    result.add(cursor.getDecodedSymbol() + ":" + cursor.getInt(0));
+                }
+                if (closeAfter >= 0 && result.size() >= closeAfter)
+                    reader.close();
+            }
+        });
+        return result;
+    }
+
+    private DataRecord findRecordWithIntField() {
+        for (int i = 0; i < scheme.getRecordCount(); i++) {
+            if (scheme.getRecord(i).getIntFieldCount() > 0)
+                return scheme.getRecord(i);
+        }
+        throw new AssertionError("no record with int fields");
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.devexperts.qd.qtp.file.test;
+
+import com.devexperts.qd.DataIterator;
+import com.devexperts.qd.DataRecord;
+import com.devexperts.qd.DataScheme;
+import com.devexperts.qd.ng.RecordBuffer;
+import com.devexperts.qd.ng.RecordCursor;
+import com.devexperts.qd.ng.RecordSource;
+import com.devexperts.qd.qtp.HeartbeatPayload;
+import com.devexperts.qd.qtp.MessageConsumerAdapter;
+import com.devexperts.qd.qtp.MessageType;
+import com.devexperts.qd.qtp.file.FileFormat;
+import com.devexperts.qd.qtp.file.FileReader;
+import com.devexperts.qd.qtp.file.FileReaderParams;
+import com.devexperts.qd.qtp.file.FileWriterImpl;
+import com.devexperts.qd.qtp.file.FileWriterParams;
+import com.devexperts.qd.qtp.file.TimestampsType;
+import com.devexperts.qd.test.TestDataScheme;
+import com.devexperts.transport.stats.ConnectionStats;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests that pipelined reading of tape files at max speed delivers the same messages in the same order
+ * as reading at a regular speed.
+ */
+@RunWith(Parameterized.class)
+public class PipelinedReaderTest {
+    private static final long SEED = 20260103;
+    private static final int RECORD_CNT = 100;
+    private static final int BLOCK_CNT = 1000;
+    private static final long TIME0 = 1767225600000L; // 2026-01-01 00:00:00 GMT
+    private static final double HIGH_SPEED = 1e9; // not a max speed, but does not wait either
+    private static final long NO_STOP = Long.MIN_VALUE;
+
+    private final DataScheme scheme = new TestDataScheme(SEED);
+    private final DataRecord record = findRecordWithIntField();
+
+    private final String extension;
+    private final TimestampsType time;
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    @Parameterized.Parameters(name = "extension={0}, time={1}")
+    public static Iterable<Object[]> params() {
+        return Arrays.asList(new Object[][] {
+            { ".qds", TimestampsType.MESSAGE },
+            { ".qds.gz", TimestampsType.MESSAGE },
+            { ".qds", TimestampsType.TEXT },
+            { ".qds.gz", TimestampsType.TEXT },
+        });
+    }
+
+    public PipelinedReaderTest(String extension, TimestampsType time) {
+        this.extension = extension;
+        this.time = time;
+    }
+
+    @Test
+    public void testSameMessagesInSameOrder() throws InterruptedException {
+        File file = new File(tempFolder.getRoot(), "tape" + extension);
+        writeTape(file);
+        Thread thread = Thread.currentThread();
+        List<String> regular = new ArrayList<>();
+        readTape(file, HIGH_SPEED, NO_STOP, new RecordingConsumer(regular) {
+            @Override
+            void check() {
+                assertSame(thread, Thread.currentThread());
+            }
+        });
+        assertEquals(BLOCK_CNT * (RECORD_CNT + 1), regular.size());
+        List<String> pipelined = new ArrayList<>();
+        readTape(file, FileReaderParams.MAX_SPEED, NO_STOP, new RecordingConsumer(pipelined) {
+            @Override
+            void check() {
+                assertNotSame(thread, Thread.currentThread());
+            }
+        });
+        assertEquals(regular, pipelined);
+    }
+
+    @Test
+    public void testStopTime() throws InterruptedException {
+        File file = new File(tempFolder.getRoot(), "tape" + extension);
+        writeTape(file);
+        long stop = TIME0 + BLOCK_CNT / 2 * 1000;
+        List<String> regular = new ArrayList<>();
+        readTape(file, HIGH_SPEED, stop, new RecordingConsumer(regular));
+        assertEquals(BLOCK_CNT / 2 * (RECORD_CNT + 1), regular.size());
+        List<String> pipelined = new ArrayList<>();
+        readTape(file, FileReaderParams.MAX_SPEED, stop, new RecordingConsumer(pipelined));
+        assertEquals(regular, pipelined);
+    }
+
+    @Test
+    public void testAdapterExceptionIsRethrown() throws InterruptedException {
+        File file = new File(tempFolder.getRoot(), "tape" + extension);
+        writeTape(file);
+        List<String> result = new ArrayList<>();
+        try {
+            readTape(file, FileReaderParams.MAX_SPEED, NO_STOP, new RecordingConsumer(result) {
+                @Override
+                void check() {
+                    if (result.size() > RECORD_CNT * 10)
+                        throw new IllegalStateException("test");
+                }
+            });
+            fail();
+        } catch (IllegalStateException e) {
+            assertEquals("test", e.getMessage());
+        }
+    }
+
+    private void writeTape(File file) {
+        FileWriterParams.Default params = new FileWriterParams.Default();
+        params.setFormat(FileFormat.BINARY);
+        params.setTime(time);
+        FileWriterImpl writer = new FileWriterImpl(file.getPath(), scheme, params).open();
+        writer.addSendMessageType(MessageType.STREAM_DATA);
+        HeartbeatPayload heartbeatPayload = new HeartbeatPayload();
+        RecordBuffer buf = new RecordBuffer();
+        for (int i = 0; i < BLOCK_CNT; i++) {
+            heartbeatPayload.setTimeMillis(TIME0 + i * 1000);
+            writer.visitHeartbeat(heartbeatPayload);
+            buf.clear();
+            for (int j = 0; j < RECORD_CNT; j++) {
+                buf.add(record, 0, "S" + j % 10).setInt(0, i * RECORD_CNT + j);
+            }
+            writer.visitData(buf, MessageType.STREAM_DATA);
+        }
+        writer.close();
+    }
+
+    private void readTape(File file, double speed, long stop, MessageConsumerAdapter consumer)
+        throws InterruptedException
+    {
+        FileReaderParams.Default params = new FileReaderParams.Default();
+        params.setSpeed(speed);
+        if (stop != NO_STOP)
+            params.setStopTime(stop);
+        FileReader reader = new FileReader(file.getPath(), new ConnectionStats(), params);
+        reader.setScheme(scheme);
+        reader.setPipelined(true); // only at max speed
+        reader.readInto(consumer);
+    }
+
+    private DataRecord findRecordWithIntField() {
+        for (int i = 0; i < scheme.getRecordCount(); i++) {
+            if (scheme.getRecord(i).getIntFieldCount() > 0)
+                return scheme.getRecord(i);
+        }
+        throw new AssertionError("no record with int fields");
+    }
+
+    private static class RecordingConsumer extends MessageConsumerAdapter {
+        private final List<String> result;
+
+        RecordingConsumer(List<String> result) {
+            this.result = result;
+        }
+
+        void check() {}
+
+        @Override
+        public void processHeartbeat(HeartbeatPayload heartbeatPayload) {
+            check();
+            if (heartbeatPayload.hasTimeMillis())
+                result.add("heartbeat:" + heartbeatPayload.getTimeMillis());
+        }
+
+        @Override
+        protected void processData(DataIterator iterator, MessageType message) {
+            check();
+            RecordSource source = (RecordSource) iterator;
+            for (RecordCursor cursor; (cursor = source.next()) != null; ) {
+                result.add(message + ":" + cursor.getDecodedSymbol() + ":" + cursor.getInt(0));
+            }
+        }
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.devexperts.qd.qtp.file.test;
+
+import com.devexperts.qd.DataIterator;
+import com.devexperts.qd.DataRecord;
+import com.devexperts.qd.DataScheme;
+import com.devexperts.qd.QDAgent;
+import com.devexperts.qd.QDFactory;
+import com.devexperts.qd.QDStream;
+import com.devexperts.qd.ng.RecordBuffer;
+import com.devexperts.qd.ng.RecordCursor;
+import com.devexperts.qd.ng.RecordMode;
+import com.devexperts.qd.ng.RecordSource;
+import com.devexperts.qd.qtp.HeartbeatPayload;
+import com.devexperts.qd.qtp.MessageConsumerAdapter;
+import com.devexperts.qd.qtp.MessageType;
+import com.devexperts.qd.qtp.file.FileFormat;
+import com.devexperts.qd.qtp.file.FileReader;
+import com.devexperts.qd.qtp.file.FileReaderParams;
+import com.devexperts.qd.qtp.file.FileWriterImpl;
+import com.devexperts.qd.qtp.file.FileWriterParams;
+import com.devexperts.qd.qtp.file.SymbolIndex;
+import com.devexperts.qd.qtp.file.SymbolIndexBuilder;
+import com.devexperts.qd.qtp.file.TimestampsType;
+import com.devexperts.qd.test.TestDataScheme;
+import com.devexperts.transport.stats.ConnectionStats;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(Parameterized.class)
+public class SymbolIndexTest {
+    private static final long SEED = 20260102;
+    private static final int RECORD_CNT = 10;
+    private static final int BLOCK_CNT = 100;
+    private static final int SYMBOL_CNT = 10;
+    private static final long TIME0 = 1767225600000L; // 2026-01-01 00:00:00 GMT
+    private static final long NO_START = Long.MIN_VALUE;
+
+    private final DataScheme scheme = new TestDataScheme(SEED);
+    private final DataRecord record = findRecordWithIntField();
+
+    private final String extension;
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    @Parameterized.Parameters(name = "extension={0}")
+    public static Iterable<Object[]> params() {
+        return Arrays.asList(new Object[][] {
+            { ".qds" },
+            { ".qds.gz" },
+        });
+    }
+
+    public SymbolIndexTest(String extension) {
+        this.extension = extension;
+    }
+
+    @Test
+    public void testSkipUnsubscribedBlocks() throws IOException, InterruptedException {
+        File file = new File(tempFolder.getRoot(), "tape" + extension);
+        writeTape(file, 1);
+        File indexFile = SymbolIndex.getIndexFile(file.getPath());
+        assertEquals(new File(tempFolder.getRoot(), "tape.sidx"), indexFile);
+        assertTrue(indexFile.exists());
+        SymbolIndex index = SymbolIndex.read(indexFile);
+        assertTrue(index.size() >= BLOCK_CNT);
+
+        ConnectionStats fullStats = new ConnectionStats();
+        List<String> full = readTape(file, NO_START, null, fullStats);
+        assertEquals(BLOCK_CNT * RECORD_CNT, full.size());
+
+        ConnectionStats indexedStats = new ConnectionStats();
+        List<String> indexed = readTape(file, NO_START, "S3", indexedStats);
+        assertEquals(filter(full, "S3"), filter(indexed, "S3"));
+        assertEquals(BLOCK_CNT / SYMBOL_CNT * RECORD_CNT, filter(indexed, "S3").size());
+        assertTrue(indexedStats.getReadBytes() < fullStats.getReadBytes() / 2);
+
+        // start time is honored across skipped blocks
+        long start = TIME0 + BLOCK_CNT / 2 * 1000 + 500;
+        List<String> fromStart = filter(readTape(file, start, null, new ConnectionStats()), "S3");
+        assertEquals(BLOCK_CNT / SYMBOL_CNT / 2 * RECORD_CNT, fromStart.size());
+        assertEquals(fromStart, filter(readTape(file, start, "S3", new ConnectionStats()), "S3"));
+
+        // rebuild index offline
+        assertTrue(indexFile.delete());
+        SymbolIndexBuilder.build(file.getPath(), 1, scheme).write(indexFile);
+        ConnectionStats rebuiltStats = new ConnectionStats();
+        assertEquals(indexed, readTape(file, NO_START, "S3", rebuiltStats));
+        assertTrue(rebuiltStats.getReadBytes() < fullStats.getReadBytes() / 2);
+    }
+
+    @Test
+    public void testWildcardSubscriptionReadsEverything() throws IOException, InterruptedException {
+        File file = new File(tempFolder.getRoot(), "tape" + extension);
+        writeTape(file, 1);
+        ConnectionStats fullStats = new ConnectionStats();
+        List<String> full = readTape(file, NO_START, null, fullStats);
+        ConnectionStats wildcardStats = new ConnectionStats();
+        String wildcard = scheme.getCodec().decode(scheme.getCodec().getWildcardCipher());
+        assertEquals(full, readTape(file, NO_START, wildcard, wildcardStats));
+        assertEquals(fullStats.getReadBytes(), wildcardStats.getReadBytes());
+    }
+
+    @Test
+    public void testNoIndexByDefault() throws IOException {
+        File file = new File(tempFolder.getRoot(), "tape" + extension);
+        writeTape(file, 0);
+        assertTrue(file.exists());
+        assertFalse(SymbolIndex.getIndexFile(file.getPath()).exists());
+    }
+
+    private void writeTape(File file, long symbolIndex) {
+        FileWriterParams.Default params = new FileWriterParams.Default();
+        params.setFormat(FileFormat.BINARY);
+        params.setTime(TimestampsType.MESSAGE);
+        params.setSymbolIndex(symbolIndex);
+        FileWriterImpl writer = new FileWriterImpl(file.getPath(), scheme, params).open();
+        writer.addSendMessageType(MessageType.STREAM_DATA);
+        HeartbeatPayload heartbeatPayload = new HeartbeatPayload();
+        RecordBuffer buf = new RecordBuffer();
+        for (int i = 0; i < BLOCK_CNT; i++) {
+            heartbeatPayload.setTimeMillis(TIME0 + i * 1000);
+            writer.visitHeartbeat(heartbeatPayload);
+            buf.clear();
+            for (int j = 0; j < RECORD_CNT; j++) {
+                buf.add(record, 0, "S" + i % SYMBOL_CNT).setInt(0, j);
+            }
+            writer.visitData(buf, MessageType.STREAM_DATA);
+        }
+        writer.close();
+    }
+
+    private List<String> readTape(File file, long start, String symbol, ConnectionStats stats)
+        throws InterruptedException
+    {
+        FileReaderParams.Default params = new FileReaderParams.Default();
+        if (start != NO_START)
+            params.setStartTime(start);
+        params.setSpeed(FileReaderParams.MAX_SPEED);
+        FileReader reader = new FileReader(file.getPath(), stats, params);
+        reader.setScheme(scheme);
+        QDStream stream = QDFactory.getDefaultFactory().streamBuilder().withScheme(scheme).build();
+        stream.setEnableWildcards(true);
+        QDAgent agent = stream.agentBuilder().build();
+        if (symbol != null) {
+            RecordBuffer sub = new RecordBuffer(RecordMode.SUBSCRIPTION);
+            int cipher = scheme.getCodec().encode(symbol);
+            sub.add(record, cipher, cipher == 0 ? symbol : null);
+            agent.addSubscription(sub);
+            reader.setSubscription(Collections.singletonList(stream));
+        }
+        List<String> result = new ArrayList<>();
+        reader.readInto(new MessageConsumerAdapter() {
+            @Override
+            protected void processData(DataIterator iterator, MessageType message) {
+                RecordSource source = (RecordSource) iterator;
+                for (RecordCursor cursor; (cursor = source.next()) != null; ) {
+                    result.add(cursor.getDecodedSymbol() + ":" + cursor.getInt(0));
+                }
+            }
+        });
+        agent.close();
+        stream.close();
+        return result;
+    }
+
+    private DataRecord findRecordWithIntField() {
+        for (int i = 0; i < scheme.getRecordCount(); i++) {
+            if (scheme.getRecord(i).getIntFieldCount() > 0)
+                return scheme.getRecord(i);
+        }
+        throw new AssertionError("no record with int fields");
+    }
+
+    private static List<String> filter(List<String> result, String symbol) {
+        return result.stream().filter(s -> s.startsWith(symbol + ":")).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.devexperts.qd.qtp.file.test;
+
+import com.devexperts.qd.DataIterator;
+import com.devexperts.qd.DataScheme;
+import com.devexperts.qd.ng.RecordCursor;
+import com.devexperts.qd.ng.RecordSource;
+import com.devexperts.qd.qtp.HeartbeatPayload;
+import com.devexperts.qd.qtp.MessageConsumerAdapter;
+import com.devexperts.qd.qtp.MessageType;
+import com.devexperts.qd.qtp.file.FileFormat;
+import com.devexperts.qd.qtp.file.FileReader;
+import com.devexperts.qd.qtp.file.FileReaderParams;
+import com.devexperts.qd.qtp.file.FileWriterImpl;
+import com.devexperts.qd.qtp.file.FileWriterParams;
+import com.devexperts.qd.qtp.file.TimeIndex;
+import com.devexperts.qd.qtp.file.TimeIndexBuilder;
+import com.devexperts.qd.qtp.file.TimestampsType;
+import com.devexperts.qd.test.TestDataProvider;
+import com.devexperts.qd.test.TestDataScheme;
+import com.devexperts.transport.stats.ConnectionStats;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(Parameterized.class)
+public class TimeIndexTest {
+    private static final long SEED = 20260101;
+    private static final int RECORD_CNT = 10;
+    private static final int BLOCK_CNT = 100;
+    private static final long TIME0 = 1767225600000L; // 2026-01-01 00:00:00 GMT
+
+    private final DataScheme scheme = new TestDataScheme(SEED);
+
+    private final TimestampsType time;
+    private final String extension;
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    @Parameterized.Parameters(name = "time={0}, extension={1}")
+    public static Iterable<Object[]> params() {
+        return Arrays.asList(new Object[][] {
+            { TimestampsType.MESSAGE, ".qds" },
+            { TimestampsType.MESSAGE, ".qds.gz" },
+            { TimestampsType.LONG, ".qds" },
+            { TimestampsType.LONG, ".qds.gz" },
+        });
+    }
+
+    public TimeIndexTest(TimestampsType time, String extension) {
+        this.time = time;
+        this.extension = extension;
+    }
+
+    @Test
+    public void testSeekToStartTime() throws IOException, InterruptedException {
+        File file = new File(tempFolder.getRoot(), "tape" + extension);
+        writeTape(file);
+        File indexFile = TimeIndex.getIndexFile(file.getPath());
+        assertEquals(new File(tempFolder.getRoot(), "tape.tidx"), indexFile);
+        assertTrue(indexFile.exists());
+        TimeIndex index = TimeIndex.read(indexFile);
+        assertTrue(index.size() > 0);
+        long start = TIME0 + BLOCK_CNT / 2 * 1000;
+        int entry = index.findEntry(start);
+        assertTrue(entry >= 0);
+        assertTrue(index.getTime(entry) < start);
+
+        ConnectionStats indexedStats = new ConnectionStats();
+        List<String> indexed = readTape(file, start, indexedStats);
+        assertEquals(BLOCK_CNT / 2 * RECORD_CNT, indexed.size());
+
+        assertTrue(indexFile.delete());
+        ConnectionStats fullStats = new ConnectionStats();
+        assertEquals(indexed, readTape(file, start, fullStats));
+        assertTrue(indexedStats.getReadBytes() < fullStats.getReadBytes());
+
+        // rebuild index offline
+        TimeIndexBuilder.build(file.getPath(), 1).write(indexFile);
+        assertEquals(index.size(), TimeIndex.read(indexFile).size());
+        assertEquals(indexed, readTape(file, start, new ConnectionStats()));
+        // start before all data
+        assertEquals(-1, TimeIndex.read(indexFile).findEntry(TIME0));
+        assertEquals(BLOCK_CNT * RECORD_CNT, readTape(file, TIME0, new ConnectionStats()).size());
+    }
+
+    @Test
+    public void testNoIndexByDefault() throws IOException {
+        File file = new File(tempFolder.getRoot(), "tape" + extension);
+        FileWriterImpl writer = new FileWriterImpl(file.getPath(), scheme, new FileWriterParams.Default()).open();
+        writer.addSendMessageType(MessageType.STREAM_DATA);
+        writer.visitData(new TestDataProvider(scheme, SEED, RECORD_CNT, true), MessageType.STREAM_DATA);
+        writer.close();
+        assertTrue(file.exists());
+        assertFalse(TimeIndex.getIndexFile(file.getPath()).exists());
+    }
+
+    private void writeTape(File file) {
+        FileWriterParams.Default params = new FileWriterParams.Default();
+        params.setFormat(FileFormat.BINARY);
+        params.setTime(time);
+        params.setTimeIndex(1);
+        FileWriterImpl writer = new FileWriterImpl(file.getPath(), scheme, params).open();
+        writer.addSendMessageType(MessageType.STREAM_DATA);
+        HeartbeatPayload heartbeatPayload = new HeartbeatPayload();
+        for (int i = 0; i < BLOCK_CNT; i++) {
+            heartbeatPayload.setTimeMillis(TIME0 + i * 1000);
+            writer.visitHeartbeat(heartbeatPayload);
+            writer.visitData(new TestDataProvider(scheme, SEED + i, RECORD_CNT, true), MessageType.STREAM_DATA);
+        }
+        writer.close();
+    }
+
+    private List<String> readTape(File file, long start, ConnectionStats stats) throws InterruptedException {
+        FileReaderParams.Default params = new FileReaderParams.Default();
+        params.setStartTime(start);
+        params.setSpeed(FileReaderParams.MAX_SPEED);
+        FileReader reader = new FileReader(file.getPath(), stats, params);
+        reader.setScheme(scheme);
+        List<String> result = new ArrayList<>();
+        reader.readInto(new MessageConsumerAdapter() {
+            @Override
+            protected void processData(DataIterator iterator, MessageType message) {
+                RecordSource source = (RecordSource) iterator;
+                for (RecordCursor cursor; (cursor = source.next()) != null; ) {
+                    result.add(cursor.getRecord().getName() + ":" + cursor.getDecodedSymbol());
+                }
+            }
+        });
+        return result;
+    }
+}
@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2024 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -20,6 +20,7 @@ import com.devexperts.connector.proto.TransportConnection;
 import com.devexperts.qd.qtp.AddressSyntaxException;
 import com.devexperts.qd.qtp.MessageConnector;
 import com.devexperts.qd.qtp.MessageConnectors;
+import com.devexperts.qd.qtp.nio.NioClientConnector;
 import com.devexperts.qd.qtp.nio.NioServerConnector;
 import com.devexperts.qd.qtp.socket.ClientSocketConnector;
 import com.devexperts.qd.qtp.socket.ServerSocketConnector;
@@ -97,6 +98,12 @@ public class AddressFormatTest {
         assertEquals(ClientSocketConnector.class, clientConnector.getClass());
         assertEquals(clientConnector.getAddress(), "nio:7777");
         assertEquals(((ClientSocketConnector) clientConnector).getHost(), "nio");
+
+        connectors = MessageConnectors.createMessageConnectors(ACF, "nio:localhost:7777");
+        assertEquals(1, connectors.size());
+        MessageConnector nioClientConnector = connectors.get(0);
+        assertEquals(NioClientConnector.class, nioClientConnector.getClass());
+        assertEquals("localhost:7777", nioClientConnector.getAddress());
     }
 
     private final Field delegateField;
@@ -0,0 +1,144 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.devexperts.rmi.test;
+
+import com.devexperts.io.Marshalled;
+import com.devexperts.rmi.RMIEndpoint;
+import com.devexperts.rmi.RMIException;
+import com.devexperts.rmi.RMIOperation;
+import com.devexperts.rmi.RMIRequest;
+import com.devexperts.rmi.RMIServiceInterface;
+import com.devexperts.rmi.RMIServiceMethod;
+import com.devexperts.test.ThreadCleanCheck;
+import com.devexperts.test.TraceRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(TraceRunner.class)
+public class RMIBinaryMarshallingTest {
+    private static final int TIMEOUT_MS = 10000;
+
+    private RMIEndpoint server;
+    private RMIEndpoint client;
+
+    @Before
+    public void setUp() {
+        ThreadCleanCheck.before();
+    }
+
+    @After
+    public void tearDown() {
+        if (client != null)
+            client.close();
+        if (server != null)
+            server.close();
+        ThreadCleanCheck.after();
+    }
+
+    @Test
+    public void testOperation() throws NoSuchMethodException {
+        Method method = BService.class.getMethod("sum", long[].class);
+        RMIOperation<Long> typed = RMIOperation.valueOf("BService", Long.class, "sum", long[].class);
+        RMIOperation<Long> binary = typed.withBinaryMarshalling();
+        assertFalse(typed.isBinaryMarshalling());
+        assertTrue(binary.isBinaryMarshalling());
+        assertEquals(typed.getSignature(), binary.getSignature());
+        assertNotEquals(typed, binary);
+        assertEquals(binary, binary.withBinaryMarshalling());
+        assertEquals(binary, RMIOperation.valueOf("BService", method));
+        byte[] bytes = Marshalled.forObject(new Object[] {new long[] {1}}, binary.getParametersMarshaller()).getBytes();
+        assertEquals(0xE9, bytes[0] & 0xFF); // signature of binary typed marshaller
+    }
+
+    @Test
+    public void testBinaryMarshalling() throws RMIException {
+        server = RMIEndpoint.createEndpoint(RMIEndpoint.Side.SERVER);
+        client = RMIEndpoint.createEndpoint(RMIEndpoint.Side.CLIENT);
+        client.getClient().setRequestRunningTimeout(TIMEOUT_MS);
+        client.getClient().setRequestSendingTimeout(TIMEOUT_MS);
+        NTU.connectPair(server, client);
+        server.getServer().export(new BServiceImpl(), BService.class);
+        BService proxy = client.getClient().getProxy(BService.class);
+
+        assertEquals(Long.valueOf(6), proxy.sum(new long[] {1, 2, 3}));
+        List<String> names = new ArrayList<>(Arrays.asList("IBM", "MSFT", null, "IBM"));
+        Map<String, Integer> counts = proxy.count(names);
+        assertEquals(Arrays.asList("IBM", "MSFT", null), new ArrayList<>(counts.keySet()));
+        assertEquals(Integer.valueOf(2), counts.get("IBM"));
+        assertEquals(Integer.valueOf(1), counts.get(null));
+        assertArrayEquals(new Object[] {TestEnum.B, "x", 1.5, new int[] {1}},
+            proxy.echo(new Object[] {TestEnum.B, "x", 1.5, new int[] {1}}));
+
+        // operations with binary marshalling can be also created explicitly
+        RMIOperation<Long> sum = RMIOperation.valueOf("BService", Long.class, "sum", long[].class)
+            .withBinaryMarshalling();
+        RMIRequest<Long> request = client.getClient().createRequest(null, sum, (Object) new long[] {10, 20});
+        request.send();
+        assertEquals(Long.valueOf(30), request.getBlocking());
+
+        // and the same method is still available with typed marshalling
+        RMIOperation<Long> typedSum = RMIOperation.valueOf("BService", Long.class, "sum", long[].class);
+        request = client.getClient().createRequest(null, typedSum, (Object) new long[] {5, 5});
+        request.send();
+        assertEquals(Long.valueOf(10), request.getBlocking());
+    }
+
+    enum TestEnum { A, B }
+
+    @RMIServiceInterface(name = "BService")
+    interface BService {
+        @RMIServiceMethod(binaryMarshalling = true)
+        public Long sum(long[] values);
+
+        @RMIServiceMethod(binaryMarshalling = true)
+        public Map<String, Integer> count(List<String> names);
+
+        @RMIServiceMethod(binaryMarshalling = true)
+        public Object[] echo(Object[] values);
+    }
+
+    static class BServiceImpl implements BService {
+        @Override
+        public Long sum(long[] values) {
+            return Arrays.stream(values).sum();
+        }
+
+        @Override
+        public Map<String, Integer> count(List<String> names) {
+            Map<String, Integer> result = new LinkedHashMap<>();
+            for (String name : names) {
+                result.merge(name, 1, Integer::sum);
+            }
+            return result;
+        }
+
+        @Override
+        public Object[] echo(Object[] values) {
+            return values;
+        }
+    }
+}
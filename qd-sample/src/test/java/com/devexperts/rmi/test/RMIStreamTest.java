@@ -0,0 +1,182 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.devexperts.rmi.test;
+
+import com.devexperts.rmi.RMIEndpoint;
+import com.devexperts.rmi.RMIException;
+import com.devexperts.rmi.RMIOperation;
+import com.devexperts.rmi.RMIRequest;
+import com.devexperts.rmi.RMIServiceInterface;
+import com.devexperts.rmi.task.RMIContinuation;
+import com.devexperts.rmi.task.RMIStreamReceiver;
+import com.devexperts.rmi.task.RMIStreamSender;
+import com.devexperts.rmi.task.RMIStreamStats;
+import com.devexperts.rmi.task.RMITask;
+import com.devexperts.test.ThreadCleanCheck;
+import com.devexperts.test.TraceRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+@RunWith(TraceRunner.class)
+public class RMIStreamTest {
+    private static final int TIMEOUT_MS = 10000;
+    private static final int WINDOW = 4;
+
+    private static final RMIOperation<Long> HISTORY_OPERATION =
+        RMIOperation.valueOf(HistoryService.class, long.class, "history", int.class, int.class);
+
+    private RMIEndpoint server;
+    private RMIEndpoint client;
+    private final HistoryServiceImpl service = new HistoryServiceImpl();
+
+    @Before
+    public void setUp() {
+        ThreadCleanCheck.before();
+        server = RMIEndpoint.createEndpoint(RMIEndpoint.Side.SERVER);
+        client = RMIEndpoint.createEndpoint(RMIEndpoint.Side.CLIENT);
+        client.getClient().setRequestRunningTimeout(TIMEOUT_MS);
+        client.getClient().setRequestSendingTimeout(TIMEOUT_MS);
+        NTU.connectPair(server, client);
+        server.getServer().export(service, HistoryService.class);
+    }
+
+    @After
+    public void tearDown() {
+        client.close();
+        server.close();
+        ThreadCleanCheck.after();
+    }
+
+    @Test
+    public void testStream() throws RMIException, InterruptedException {
+        int rows = 10_000;
+        int chunkSize = 100;
+        RMIRequest<Long> request = client.getClient().createRequest(null, HISTORY_OPERATION, rows, chunkSize);
+        RMIStreamReceiver<long[]> receiver = RMIStreamReceiver.open(request, long[].class);
+        request.send();
+        long next = 0;
+        long[] chunk;
+        while ((chunk = receiver.take()) != null) {
+            assertTrue(receiver.getQueued() <= WINDOW);
+            for (long row : chunk) {
+                assertEquals(next++, row);
+            }
+        }
+        assertEquals(rows, next);
+        assertEquals(Long.valueOf(rows), request.getBlocking());
+        assertTrue(service.maxPending.get() <= WINDOW);
+
+        RMIStreamStats stats = service.stats;
+        assertNotNull(stats);
+        assertEquals(rows / chunkSize, stats.getSentChunks());
+        assertEquals(0, stats.getPendingChunks());
+        assertTrue(RMIStreamStats.getTotal().getSentChunks() >= rows / chunkSize);
+        assertTrue(service.blockingFailure instanceof IllegalStateException);
+    }
+
+    @Test
+    public void testSlowConsumer() throws RMIException, InterruptedException {
+        RMIRequest<Long> request = client.getClient().createRequest(null, HISTORY_OPERATION, 100, 1);
+        RMIStreamReceiver<long[]> receiver = RMIStreamReceiver.open(request, long[].class);
+        request.send();
+        // sender stops after the window is sent
+        assertTrue(service.waiting.await(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+        Thread.sleep(100);
+        assertEquals(WINDOW, service.maxPending.get());
+        int count = 0;
+        while (receiver.take() != null) {
+            count++;
+        }
+        assertEquals(100, count);
+        assertEquals(Long.valueOf(100), request.getBlocking());
+        assertTrue(service.stats.getCreditWaits() > 0);
+    }
+
+    @Test
+    public void testCancel() throws RMIException, InterruptedException {
+        RMIRequest<Long> request = client.getClient().createRequest(null, HISTORY_OPERATION, 1_000_000, 10);
+        RMIStreamReceiver<long[]> receiver = RMIStreamReceiver.open(request, long[].class);
+        request.send();
+        assertNotNull(receiver.take());
+        receiver.cancel();
+        try {
+            while (receiver.take() != null) {
+                // skip remaining chunks
+            }
+            fail();
+        } catch (RMIException expected) {
+            // request is cancelled
+        }
+        // sender is closed when the task is cancelled
+        long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (service.stats.getOpenStreams() > 0) {
+            assertTrue(System.currentTimeMillis() < deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    @RMIServiceInterface(name = "History")
+    interface HistoryService {
+        public long history(int rows, int chunkSize);
+    }
+
+    static class HistoryServiceImpl implements HistoryService {
+        final AtomicInteger maxPending = new AtomicInteger();
+        final CountDownLatch waiting = new CountDownLatch(1);
+        volatile RMIStreamStats stats;
+        volatile Throwable blockingFailure;
+
+        @Override
+        public long history(int rows, int chunkSize) {
+            RMITask<Long> task = RMITask.current(long.class);
+            stats = RMIStreamStats.get(task.getConnectionVariables());
+            RMIStreamSender<long[]> sender = RMIStreamSender.open(long[].class, WINDOW, true);
+            try {
+                sender.send(new long[0]);
+            } catch (IllegalStateException e) {
+                blockingFailure = e; // execution thread cannot wait for credits
+            }
+            return sendRows(task, sender, 0, rows, chunkSize);
+        }
+
+        private long sendRows(RMITask<Long> task, RMIStreamSender<long[]> sender, int from, int rows, int chunkSize) {
+            for (int i = from; i < rows; i += chunkSize) {
+                long[] chunk = new long[Math.min(chunkSize, rows - i)];
+                for (int j = 0; j < chunk.length; j++) {
+                    chunk[j] = i + j;
+                }
+                if (!sender.trySend(chunk)) {
+                    waiting.countDown();
+                    int next = i;
+                    RMIContinuation<Long> continuation = task.suspend(t -> {});
+                    sender.whenCredited().whenDone(p ->
+                        continuation.resume(() -> sendRows(task, sender, next, rows, chunkSize)));
+                    return 0;
+                }
+                maxPending.accumulateAndGet(sender.getPending(), Math::max);
+            }
+            task.completePromise(sender.whenConsumed((long) rows));
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.devexperts.qd.tools;
+
+import com.devexperts.qd.QDFactory;
+import com.devexperts.qd.qtp.file.SymbolIndex;
+import com.devexperts.qd.qtp.file.SymbolIndexBuilder;
+import com.devexperts.qd.qtp.file.TimeIndex;
+import com.devexperts.qd.qtp.file.TimeIndexBuilder;
+import com.devexperts.services.ServiceProvider;
+
+import java.io.File;
+import java.io.IOException;
+
+@ToolSummary(
+    info = "Builds time and symbol indices for existing tape files in binary format.",
+    argString = "<files>",
+    arguments = {
+        "<files> -- list of tape data files"
+    }
+)
+@ServiceProvider
+public class TapeIndex extends AbstractTool {
+    private final OptionInteger interval = new OptionInteger('i', "interval", "<bytes>",
+        "Minimal number of bytes between time index entries (1 MB by default).", 1, Integer.MAX_VALUE, 1 << 20);
+    private final OptionInteger symbols = new OptionInteger('s', "symbols", "<bytes>",
+        "Also build symbol index with the specified minimal number of bytes in a block.", 1, Integer.MAX_VALUE);
+
+    @Override
+    protected Option[] getOptions() {
+        return new Option[] { interval, symbols };
+    }
+
+    @Override
+    protected void executeImpl(String[] args) {
+        if (args.length == 0)
+            noArguments();
+        for (String file : args) {
+            try {
+                TimeIndex index = TimeIndexBuilder.build(file, interval.getValue());
+                File indexFile = TimeIndex.getIndexFile(file);
+                index.write(indexFile);
+                log.info("Written " + index + " to " + indexFile);
+            } catch (IOException e) {
+                log.error("Failed to build time index for " + file, e);
+            }
+            if (!symbols.isSet())
+                continue;
+            try {
+                SymbolIndex index = SymbolIndexBuilder.build(file, symbols.getValue(), QDFactory.getDefaultScheme());
+                File indexFile = SymbolIndex.getIndexFile(file);
+                index.write(indexFile);
+                log.info("Written " + index + " to " + indexFile);
+            } catch (IOException e) {
+                log.error("Failed to build symbol index for " + file, e);
+            }
+        }
+    }
+
+    public static void main(String[] args) {
+        Tools.executeSingleTool(TapeIndex.class, args);
+    }
+}
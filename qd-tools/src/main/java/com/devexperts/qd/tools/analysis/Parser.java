@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2021 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -194,6 +194,11 @@ class Parser extends BinaryFileQTPParser {
             super(desc);
         }
 
+        @Override
+        protected boolean canReadDirectly() {
+            return false; // positions of fields are tracked
+        }
+
         @Override
         protected void readFields(BufferedInput msg, RecordCursor cur, int nDesc) throws IOException {
             markPosition(msg, SLOT_PROTOCOL_ELEMENT);
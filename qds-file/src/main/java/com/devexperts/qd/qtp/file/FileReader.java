@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2022 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -13,6 +13,7 @@ package com.devexperts.qd.qtp.file;
 
 import com.devexperts.io.BufferedInput;
 import com.devexperts.io.BufferedInputPart;
+import com.devexperts.io.ByteArrayInput;
 import com.devexperts.io.Chunk;
 import com.devexperts.io.ChunkedInput;
 import com.devexperts.io.StreamCompression;
@@ -20,8 +21,11 @@ import com.devexperts.io.URLInputStream;
 import com.devexperts.logging.Logging;
 import com.devexperts.qd.DataIterator;
 import com.devexperts.qd.DataScheme;
+import com.devexperts.qd.QDCollector;
 import com.devexperts.qd.QDFactory;
+import com.devexperts.qd.SubscriptionContainer;
 import com.devexperts.qd.SubscriptionIterator;
+import com.devexperts.qd.ng.AbstractRecordSink;
 import com.devexperts.qd.ng.RecordCursor;
 import com.devexperts.qd.ng.RecordSource;
 import com.devexperts.qd.qtp.AbstractQTPParser;
@@ -39,10 +43,12 @@ import com.devexperts.transport.stats.ConnectionStats;
 import com.devexperts.util.InvalidFormatException;
 import com.devexperts.util.LogUtil;
 import com.devexperts.util.SystemProperties;
+import com.devexperts.util.TimeFormat;
 import com.devexperts.util.TimePeriod;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedReader;
+import java.io.EOFException;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
@@ -51,6 +57,7 @@ import java.io.InputStreamReader;
 import java.net.URL;
 import java.net.URLConnection;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 
@@ -61,6 +68,16 @@ public class FileReader implements MessageReader {
     private static final long SLEEP_DURATION = TimePeriod.valueOf(
         SystemProperties.getProperty(FileReader.class, "SleepDuration", "1s")).getTime();
 
+    // Symbol index is not used when total subscription is larger
+    private static final int SYMBOL_INDEX_MAX_SUBSCRIPTION =
+        SystemProperties.getIntProperty(FileReader.class, "symbolIndexMaxSubscription", 100_000);
+
+    // At max speed local files are read ahead and messages are delivered to adapter in separate threads
+    private static final boolean PIPELINED = SystemProperties.getBooleanProperty(FileReader.class, "pipelined",
+        Runtime.getRuntime().availableProcessors() > 1);
+    private static final int PIPELINE_QUEUE_SIZE =
+        SystemProperties.getIntProperty(FileReader.class, "pipelineQueueSize", 16, 1, 1024);
+
     // --- connection stats ---
 
     private final ConnectionStats connectionStats;
@@ -107,11 +124,16 @@ public class FileReader implements MessageReader {
     private String timeFileAddress; // current name of time file
     private InputStream dataIn;
     private BufferedReader timeIn;
+    private TimeIndex timeIndex; // != null when there is a time index to seek to start time in the current file
+    private SymbolIndex symbolIndex; // != null when there is a symbol index to skip blocks in the current file
+    private int symbolIndexBlock; // current block in symbol index
 
     // --- is needed only when read(adapter) is called
 
     private DataScheme scheme; // maybe null for default scheme
     private MessageConsumerAdapter adapter;
+    private List<? extends SubscriptionContainer> subscription; // maybe null when unknown
+    private boolean pipelined = PIPELINED;
 
     // --- parser, buffer and stats ---
 
@@ -127,6 +149,7 @@ public class FileReader implements MessageReader {
 
     private final Consumer consumer = new Consumer();
     private final HeartbeatPayload heartbeatPayload = new HeartbeatPayload();
+    private final SubscriptionKeys subscriptionKeys = new SubscriptionKeys();
 
     private class Consumer extends MessageConsumerAdapter implements RawDataConsumer {
         @Override
@@ -354,11 +377,54 @@ public class FileReader implements MessageReader {
         this.scheme = scheme;
     }
 
+    /**
+     * Sets containers with the total subscription of all consumers of the data from this reader.
+     * When it is set, blocks of data files that have no data for subscribed symbols according to their
+     * {@link SymbolIndex symbol index} are skipped without being parsed. Data of collectors that
+     * {@link QDCollector#isStoreEverything() store everything} or have wildcard subscription is never skipped.
+     * This method must be invoked before {@link #readInto(MessageConsumerAdapter) readInto}.
+     */
+    public void setSubscription(List<? extends SubscriptionContainer> subscription) {
+        this.subscription = subscription;
+    }
+
+    /**
+     * Enables or disables pipelined reading at max speed, when local files are read ahead and
+     * messages are delivered to adapter in a separate thread. By default it is enabled on multiprocessor machines.
+     * This method must be invoked before {@link #readInto(MessageConsumerAdapter) readInto}.
+     */
+    public void setPipelined(boolean pipelined) {
+        this.pipelined = pipelined;
+    }
+
     @Override
     public void readInto(MessageConsumerAdapter adapter) throws InterruptedException {
-        // init
-        this.adapter = adapter;
-        // work
+        if (!isPipelined()) {
+            this.adapter = adapter;
+            readFiles();
+            return;
+        }
+        // parse next messages while previous ones are processed by adapter
+        PipelinedMessageConsumer pipeline = new PipelinedMessageConsumer(adapter,
+            "Deliver-" + LogUtil.hideCredentials(dataFileAddress), PIPELINE_QUEUE_SIZE);
+        this.adapter = pipeline;
+        boolean completed = false;
+        try {
+            readFiles();
+            completed = true;
+        } finally {
+            if (completed && !closed)
+                pipeline.finish();
+            else
+                pipeline.abort();
+        }
+    }
+
+    private boolean isPipelined() {
+        return pipelined && hasMaxSpeed;
+    }
+
+    private void readFiles() throws InterruptedException {
         if (!initFileList())
             return;
         // This loop runs for several times only in case we are reading from timestamped files
@@ -425,9 +491,30 @@ public class FileReader implements MessageReader {
         TimestampedPosition next = TimestampedPosition.readFrom(timeIn);
         long position = 0;
         boolean firstBlock = true;
+        if (timeIndex != null) {
+            position = seekByTimeIndex();
+            if (position > 0) {
+                firstBlock = false;
+                // skip timestamps of skipped data
+                while (next != null && next.getPosition() < position)
+                    next = TimestampedPosition.readFrom(timeIn);
+            }
+        }
+        // read local file ahead unless symbol index is used to skip its data
+        boolean localFile = FileUtils.urlToFile(FileUtils.addressToURL(dataFileAddress)) != null;
+        if (isPipelined() && localFile && symbolIndex == null) {
+            dataIn = new ReadAheadInputStream(dataIn, "Read-Ahead-" + LogUtil.hideCredentials(dataFileAddress),
+                FileConstants.CHUNK_SIZE, PIPELINE_QUEUE_SIZE);
+        }
 
         while (!isClosed()) {
-            if (!waitAndReadChunk()) {
+            int readLimit = Integer.MAX_VALUE;
+            if (symbolIndex != null) {
+                if (!firstBlock)
+                    position = skipBySymbolIndex(position);
+                readLimit = getSymbolIndexReadLimit(position);
+            }
+            if (!waitAndReadChunk(readLimit)) {
                 // nothing more in this file, check that it was completely parsed
                 if (input.available() > 0) {
                     log.error("File was not completely parsed, " + input.available() + " bytes remaining");
@@ -468,6 +555,99 @@ public class FileReader implements MessageReader {
         }
     }
 
+    /**
+     * Skips data file to the last position in {@link #timeIndex} before which all data is earlier than start time.
+     * Parser is created and is given all describe messages before that position.
+     * @return position in data file or zero if nothing was skipped.
+     */
+    private long seekByTimeIndex() throws IOException {
+        TimeIndex index = timeIndex;
+        timeIndex = null;
+        int entry = index.findEntry(startTime);
+        if (entry < 0)
+            return 0;
+        long seekPosition = index.getPosition(entry);
+        initParser(FileFormat.BINARY);
+        for (byte[] describe : index.getDescribesBefore(seekPosition)) {
+            parser.setInput(new ByteArrayInput(describe));
+            parser.parse(consumer);
+        }
+        parser.setInput(input);
+        skipData(seekPosition, "time index");
+        log.info("Skipped " + seekPosition + " bytes of data using time index to start at " +
+            TimeFormat.DEFAULT.withMillis().format(startTime));
+        return seekPosition;
+    }
+
+    /**
+     * Skips consecutive blocks of data file starting at the specified position that have no data
+     * for the current subscription according to {@link #symbolIndex}.
+     * Parser is given all describe messages and the last heartbeats of skipped blocks.
+     * @return position in data file after skipped blocks.
+     */
+    private long skipBySymbolIndex(long position) throws IOException {
+        if (hasBytesOnHold || input.available() > 0)
+            return position; // not at message boundary
+        long skipPosition = position;
+        boolean subscriptionKnown = false;
+        while (true) {
+            advanceSymbolIndexBlock(position);
+            if (symbolIndexBlock == symbolIndex.size() || symbolIndex.getPosition(symbolIndexBlock) != position ||
+                symbolIndex.isAnySymbol(symbolIndexBlock))
+            {
+                break;
+            }
+            if (!subscriptionKnown) {
+                if (!subscriptionKeys.collect())
+                    break;
+                subscriptionKnown = true;
+            }
+            if (subscriptionKeys.mayBeContainedIn(symbolIndex, symbolIndexBlock))
+                break;
+            position = symbolIndex.getEndPosition(symbolIndexBlock);
+        }
+        if (position == skipPosition)
+            return position;
+        skipData(position - skipPosition, "symbol index");
+        for (byte[] message : symbolIndex.getMessages(skipPosition, position)) {
+            parser.setInput(new ByteArrayInput(message));
+            parser.parse(consumer);
+        }
+        parser.setInput(input);
+        return position;
+    }
+
+    /**
+     * Returns maximal number of bytes to read at the specified position, so that read does not cross
+     * the end of the current block of {@link #symbolIndex}.
+     */
+    private int getSymbolIndexReadLimit(long position) {
+        advanceSymbolIndexBlock(position);
+        if (symbolIndexBlock == symbolIndex.size())
+            return Integer.MAX_VALUE;
+        long limit = symbolIndex.getPosition(symbolIndexBlock) > position ?
+            symbolIndex.getPosition(symbolIndexBlock) - position : symbolIndex.getEndPosition(symbolIndexBlock) - position;
+        return (int) Math.min(limit, Integer.MAX_VALUE);
+    }
+
+    private void advanceSymbolIndexBlock(long position) {
+        while (symbolIndexBlock < symbolIndex.size() && symbolIndex.getEndPosition(symbolIndexBlock) <= position)
+            symbolIndexBlock++;
+    }
+
+    private void skipData(long length, String indexName) throws IOException {
+        long skipped = 0;
+        while (skipped < length) {
+            long n = dataIn.skip(length - skipped);
+            if (n <= 0) {
+                if (dataIn.read() < 0)
+                    throw new EOFException("Data file is shorter than its " + indexName);
+                n = 1;
+            }
+            skipped += n;
+        }
+    }
+
     private boolean advanceTime(long nextTime) {
         try {
             // define delay between current time and time when data was written (if undefined yet).
@@ -653,15 +833,16 @@ public class FileReader implements MessageReader {
     /**
      * Waits for data in file and reads a block of data into chunk.
      * Wait is aborted if there is a next file to read.
+     * @param maxLength maximal number of bytes to read.
      * @return true if something was read into chunk (ensures chunk != null and chunk.getLength() &gt; 0).
      */
-    private boolean waitAndReadChunk() throws IOException, InterruptedException {
+    private boolean waitAndReadChunk(int maxLength) throws IOException, InterruptedException {
         if (chunk == null)
             chunk = FileConstants.CHUNK_POOL.getChunk(this);
         int len;
         boolean loggedWaitingMessage = false;
         while (true) {
-            len = dataIn.read(chunk.getBytes(), chunk.getOffset(), chunk.getLength());
+            len = dataIn.read(chunk.getBytes(), chunk.getOffset(), Math.min(chunk.getLength(), maxLength));
             if (len > 0)
                 break; // read some bytes!
             if (isClosed())
@@ -715,8 +896,12 @@ public class FileReader implements MessageReader {
 
     private void createParserOnFirstChunk() {
         // always detected format on the first chunk, unless it was explicitly specified
-        FileFormat prevFormat = format;
-        format = params.getFormat() != null ? params.getFormat() : FileFormat.detectFormat(chunk.getBytes());
+        initParser(params.getFormat() != null ? params.getFormat() : FileFormat.detectFormat(chunk.getBytes()));
+    }
+
+    private void initParser(FileFormat format) {
+        FileFormat prevFormat = this.format;
+        this.format = format;
         if (parser == null || format != prevFormat) {
             // create new parser
             parser = createParser(format, scheme == null ? QDFactory.getDefaultScheme() : scheme);
@@ -790,16 +975,66 @@ public class FileReader implements MessageReader {
             InputStream in = tryOpenFile(true, timestampsType == null);
             if (in == null) {
                 timeIn = null;
-                if (timestampsType == null) // in timestamp autodetect mode...
-                    return true; // opened successfully without time
-                return false; // otherwise -- failed to find a required time file
+                if (timestampsType != null) // not in timestamp autodetect mode...
+                    return false; // failed to find a required time file
+            } else {
+                currentTimestampsType = TimestampsType.TEXT; // AUTODETECT TIME FORMAT: separate time file detected
+                timeIn = new BufferedReader(new InputStreamReader(in));
             }
-            currentTimestampsType = TimestampsType.TEXT; // AUTODETECT TIME FORMAT: separate time file detected
-            timeIn = new BufferedReader(new InputStreamReader(in));
         }
+        timeIndex = readTimeIndex();
+        symbolIndex = readSymbolIndex();
+        symbolIndexBlock = 0;
         return true;
     }
 
+    /**
+     * Reads time index of the current file when there is start time and time index can be used.
+     */
+    private TimeIndex readTimeIndex() {
+        if (startTime == FileConnector.NA_TIME || timestampsType == TimestampsType.NONE ||
+            timestampsType == TimestampsType.FIELD)
+        {
+            return null; // no start time or time index cannot be used for the explicitly set timestamps type
+        }
+        if (params.getFormat() != null && params.getFormat() != FileFormat.BINARY)
+            return null; // time index is supported only for binary format
+        File dataFile = FileUtils.urlToFile(FileUtils.addressToURL(dataFileAddress));
+        if (dataFile == null)
+            return null; // time index is supported only for local files
+        File indexFile = new File(FileUtils.getTimeIndexFilePath(dataFile.getPath()));
+        if (!indexFile.exists())
+            return null;
+        try {
+            return TimeIndex.read(indexFile);
+        } catch (IOException e) {
+            log.warn("Failed to read time index " + LogUtil.hideCredentials(indexFile), e);
+            return null;
+        }
+    }
+
+    /**
+     * Reads symbol index of the current file when subscription is known and symbol index can be used.
+     */
+    private SymbolIndex readSymbolIndex() {
+        if (subscription == null)
+            return null;
+        if (params.getFormat() != null && params.getFormat() != FileFormat.BINARY)
+            return null; // symbol index is supported only for binary format
+        File dataFile = FileUtils.urlToFile(FileUtils.addressToURL(dataFileAddress));
+        if (dataFile == null)
+            return null; // symbol index is supported only for local files
+        File indexFile = new File(FileUtils.getSymbolIndexFilePath(dataFile.getPath()));
+        if (!indexFile.exists())
+            return null;
+        try {
+            return SymbolIndex.read(indexFile);
+        } catch (IOException e) {
+            log.warn("Failed to read symbol index " + LogUtil.hideCredentials(indexFile), e);
+            return null;
+        }
+    }
+
     // extension point for FileReaderHandler
     protected void onConnected() {}
 
@@ -839,6 +1074,8 @@ public class FileReader implements MessageReader {
     private void closeFiles() {
         FileUtils.tryClose(timeIn, timeFileAddress);
         timeIn = null;
+        timeIndex = null;
+        symbolIndex = null;
         FileUtils.tryClose(dataIn, dataFileAddress);
         dataIn = null;
     }
@@ -861,6 +1098,57 @@ public class FileReader implements MessageReader {
         return delayActual;
     }
 
+    // collects keys of the total subscription for symbol index
+    private class SubscriptionKeys extends AbstractRecordSink {
+        private long[] keys = new long[16];
+        private int size;
+        private int wildcardCipher;
+        private boolean wildcard;
+
+        /**
+         * Collects keys of the current subscription.
+         * @return {@code false} if subscription cannot be used to skip data.
+         */
+        boolean collect() {
+            size = 0;
+            wildcard = false;
+            wildcardCipher = (scheme == null ? QDFactory.getDefaultScheme() : scheme).getCodec().getWildcardCipher();
+            long totalSize = 0;
+            for (SubscriptionContainer container : subscription) {
+                if (container instanceof QDCollector && ((QDCollector) container).isStoreEverything())
+                    return false;
+                totalSize += container.getSubscriptionSize();
+            }
+            if (totalSize > SYMBOL_INDEX_MAX_SUBSCRIPTION)
+                return false;
+            for (SubscriptionContainer container : subscription) {
+                container.examineSubscription(this);
+                if (wildcard)
+                    return false;
+            }
+            return true;
+        }
+
+        boolean mayBeContainedIn(SymbolIndex index, int block) {
+            for (int i = 0; i < size; i++) {
+                if (index.mayContain(block, keys[i]))
+                    return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void append(RecordCursor cursor) {
+            if (cursor.getCipher() == wildcardCipher) {
+                wildcard = true;
+                return;
+            }
+            if (size == keys.length)
+                keys = Arrays.copyOf(keys, size * 2);
+            keys[size++] = SymbolIndex.getSymbolKey(cursor.getRecord().getName(), cursor.getDecodedSymbol());
+        }
+    }
+
     static class CorruptedFileException extends RuntimeException {
         CorruptedFileException(String message) {
             super(message);
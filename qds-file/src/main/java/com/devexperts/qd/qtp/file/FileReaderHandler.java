@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2022 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -11,12 +11,19 @@
  */
 package com.devexperts.qd.qtp.file;
 
+import com.devexperts.qd.QDCollector;
+import com.devexperts.qd.QDContract;
 import com.devexperts.qd.qtp.AbstractConnectionHandler;
 import com.devexperts.qd.qtp.AbstractMessageConnector;
+import com.devexperts.qd.qtp.DistributorAdapter;
 import com.devexperts.qd.qtp.MessageAdapter;
 import com.devexperts.qd.qtp.MessageConnectors;
 import com.devexperts.qd.stats.QDStats;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
 public class FileReaderHandler extends AbstractConnectionHandler<AbstractMessageConnector> {
     // --------- factory class ---------
 
@@ -31,7 +38,7 @@ public class FileReaderHandler extends AbstractConnectionHandler<AbstractMessage
 
     // --------- instance ---------
 
-    private final FileReader reader;
+    private final MessageReader reader;
     private final MessageAdapter adapter;
 
     public FileReaderHandler(AbstractMessageConnector connector) {
@@ -40,19 +47,43 @@ public class FileReaderHandler extends AbstractConnectionHandler<AbstractMessage
         FileReaderParams params = connector instanceof FileReaderParams ?
             (FileReaderParams) connector : new FileReaderParams.Default();
         MessageAdapter.Factory factory = MessageConnectors.retrieveMessageAdapterFactory(connector.getFactory());
-        reader = new FileReader(connector.getAddress(), getConnectionStats(), params) {
-            @Override
-            protected void onConnected() {
-                makeConnected();
-            }
-        };
         adapter = factory.createAdapter(params.getStats().getOrCreate(QDStats.SType.CONNECTIONS));
         adapter.start();
-        reader.setScheme(adapter.getScheme());
+        // tape blocks without subscribed symbols can be skipped when there is a symbol index
+        List<QDCollector> subscription = null;
+        if (adapter instanceof DistributorAdapter) {
+            subscription = new ArrayList<>();
+            for (QDContract contract : QDContract.values()) {
+                QDCollector collector = ((DistributorAdapter) adapter).getCollector(contract);
+                if (collector != null)
+                    subscription.add(collector);
+            }
+        }
+        if (MergedFileReader.isMergedAddress(connector.getAddress())) {
+            MergedFileReader reader = new MergedFileReader(connector.getAddress(), getConnectionStats(), params) {
+                @Override
+                protected void onConnected() {
+                    makeConnected();
+                }
+            };
+            reader.setScheme(adapter.getScheme());
+            reader.setSubscription(subscription);
+            this.reader = reader;
+        } else {
+            FileReader reader = new FileReader(connector.getAddress(), getConnectionStats(), params) {
+                @Override
+                protected void onConnected() {
+                    makeConnected();
+                }
+            };
+            reader.setScheme(adapter.getScheme());
+            reader.setSubscription(subscription);
+            this.reader = reader;
+        }
     }
 
     @Override
-    protected void doWork() throws InterruptedException {
+    protected void doWork() throws InterruptedException, IOException {
         reader.readInto(adapter);
     }
 
@@ -73,7 +104,8 @@ public class FileReaderHandler extends AbstractConnectionHandler<AbstractMessage
     }
 
     public long getDelayActual() {
-        return reader.getDelayActual();
+        return reader instanceof MergedFileReader ?
+            ((MergedFileReader) reader).getDelayActual() : ((FileReader) reader).getDelayActual();
     }
 }
 
@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2023 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -11,6 +11,7 @@
  */
 package com.devexperts.qd.qtp.file;
 
+import com.devexperts.io.StreamCompression;
 import com.devexperts.io.URLInputStream;
 import com.devexperts.logging.Logging;
 import com.devexperts.util.LogUtil;
@@ -32,6 +33,8 @@ class FileUtils {
     private static final Logging log = Logging.getLogging(FileUtils.class);
 
     public static final String TIME_FILE_EXTENSION = ".time";
+    public static final String TIME_INDEX_FILE_EXTENSION = ".tidx";
+    public static final String SYMBOL_INDEX_FILE_EXTENSION = ".sidx";
     public static final String TIMESTAMP_MARKER = "~";
 
     private FileUtils() {} // utility class -- do not construct
@@ -61,6 +64,26 @@ class FileUtils {
         return dataFilePath.substring(0, dataFilePath.length() - fullExtension.length()) + TIME_FILE_EXTENSION + containerExtension;
     }
 
+    /**
+     * Returns path of the {@link TimeIndex time index} file for the specified data file.
+     * Index file is never compressed, because it is read with random access.
+     */
+    public static String getTimeIndexFilePath(String dataFilePath) {
+        return getIndexFilePath(dataFilePath, TIME_INDEX_FILE_EXTENSION);
+    }
+
+    /**
+     * Returns path of the {@link SymbolIndex symbol index} file for the specified data file.
+     */
+    public static String getSymbolIndexFilePath(String dataFilePath) {
+        return getIndexFilePath(dataFilePath, SYMBOL_INDEX_FILE_EXTENSION);
+    }
+
+    private static String getIndexFilePath(String dataFilePath, String indexFileExtension) {
+        String path = StreamCompression.detectCompressionByExtension(dataFilePath).stripExtension(dataFilePath);
+        return path.substring(0, path.length() - retrieveExtension(path).length()) + indexFileExtension;
+    }
+
     public static URL addressToURL(String address) {
         try {
             return URLInputStream.resolveURL(address);
@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2024 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -12,6 +12,7 @@
 package com.devexperts.qd.qtp.file;
 
 import com.devexperts.io.BufferedOutput;
+import com.devexperts.io.Chunk;
 import com.devexperts.io.ChunkList;
 import com.devexperts.io.ChunkedOutput;
 import com.devexperts.io.StreamCompression;
@@ -36,6 +37,8 @@ import com.devexperts.qd.qtp.ProtocolOption;
 import com.devexperts.qd.util.QDConfig;
 import com.devexperts.qd.util.TimeSequenceUtil;
 import com.devexperts.util.InvalidFormatException;
+import com.devexperts.util.LongHashSet;
+import com.devexperts.util.LongIterator;
 import com.devexperts.util.LogUtil;
 import com.devexperts.util.SystemProperties;
 import com.devexperts.util.TimePeriod;
@@ -83,6 +86,8 @@ public class FileWriterImpl extends AbstractMessageVisitor implements Closeable
     private final long storageTime;
     private final long storageSize;
     private final ProtocolOption.Set optSet;
+    private final long timeIndexInterval; // 0 when time index is not written
+    private final long symbolIndexBlockSize; // 0 when symbol index is not written
 
     // Computed from parameters
     private final String containerExtension;
@@ -101,6 +106,8 @@ public class FileWriterImpl extends AbstractMessageVisitor implements Closeable
     // Streams are non-null only while writing
     private volatile BufferedOutput dataOut;
     private PrintWriter timeOut;
+    private TimeIndexBuilder timeIndexBuilder;
+    private SymbolIndexBuilder symbolIndexBuilder;
 
     private final ChunkedOutput output = new ChunkedOutput(FileConstants.CHUNK_POOL); // output for composer
     private AbstractQTPComposer composer;
@@ -119,6 +126,12 @@ public class FileWriterImpl extends AbstractMessageVisitor implements Closeable
     private final HeartbeatPayload heartbeatPayload = new HeartbeatPayload();
     private final TimestampedSink timestampedSink = new TimestampedSink();
     private final TimestampedProvider timestampedProvider = new TimestampedProvider();
+    private final SymbolIndexSink symbolIndexSink = new SymbolIndexSink();
+    private final SymbolIndexProvider symbolIndexProvider = new SymbolIndexProvider();
+
+    // symbols of composed data that was not written yet, used only when symbol index is written
+    private final LongHashSet pendingSymbolKeys = new LongHashSet();
+    private boolean pendingAnySymbol;
 
     /**
      * Creates and opens file writer with parameters specified in the specified string of
@@ -175,6 +188,20 @@ public class FileWriterImpl extends AbstractMessageVisitor implements Closeable
         this.storageTime = params.getStorageTime().getTime();
         this.optSet = fromNullable(ProtocolOption.parseProtocolOptions(params.getOpt()), ProtocolOption.SUPPORTED_SET);
         this.protocolDescriptor.setProperty(ProtocolDescriptor.OPT_PROPERTY, optSet.isEmpty() ? null : params.getOpt());
+        if (params.getTimeIndex() < 0)
+            throw new InvalidFormatException("Time index interval must not be negative");
+        if (params.getTimeIndex() > 0 &&
+            (format != FileFormat.BINARY || time == TimestampsType.NONE || time == TimestampsType.FIELD))
+        {
+            throw new InvalidFormatException("Time index is supported only for binary format " +
+                "with timestamps in \"message\", \"long\" or \"text\" mode");
+        }
+        this.timeIndexInterval = params.getTimeIndex();
+        if (params.getSymbolIndex() < 0)
+            throw new InvalidFormatException("Symbol index block size must not be negative");
+        if (params.getSymbolIndex() > 0 && format != FileFormat.BINARY)
+            throw new InvalidFormatException("Symbol index is supported only for binary format");
+        this.symbolIndexBlockSize = params.getSymbolIndex();
         MessageType saveAs = params.getSaveAs();
         if (saveAs != null)
             this.protocolDescriptor.addSend(protocolDescriptor.newMessageDescriptor(saveAs));
@@ -300,6 +327,8 @@ public class FileWriterImpl extends AbstractMessageVisitor implements Closeable
         closeCurrentFiles(nextSplitTime); // close all previously open files
         position = 0;
         lastTime = 0; // have not written timestamp to the new file yet
+        timeIndexBuilder = timeIndexInterval > 0 ? new TimeIndexBuilder(timeIndexInterval) : null;
+        symbolIndexBuilder = symbolIndexBlockSize > 0 ? new SymbolIndexBuilder(symbolIndexBlockSize) : null;
 
         Runnable dataCloseHandler;
         this.dataFilePath = dataFilePath;
@@ -385,6 +414,10 @@ public class FileWriterImpl extends AbstractMessageVisitor implements Closeable
             totalSize += dataFile.length();
             if (time.isUsingTimeFile())
                 totalSize += new File(getTimeFilePath(dataFile.getPath())).length();
+            if (timeIndexInterval > 0)
+                totalSize += new File(FileUtils.getTimeIndexFilePath(dataFile.getPath())).length();
+            if (symbolIndexBlockSize > 0)
+                totalSize += new File(FileUtils.getSymbolIndexFilePath(dataFile.getPath())).length();
             if (totalSize > storageSize)
                 break;
             k--;
@@ -395,6 +428,10 @@ public class FileWriterImpl extends AbstractMessageVisitor implements Closeable
             // which cannot be deleted w/o data file on the next call to deleteOldFiles
             if (time.isUsingTimeFile())
                 tryDelete(new File(getTimeFilePath(dataFile.getPath())));
+            if (timeIndexInterval > 0)
+                tryDelete(new File(FileUtils.getTimeIndexFilePath(dataFile.getPath())));
+            if (symbolIndexBlockSize > 0)
+                tryDelete(new File(FileUtils.getSymbolIndexFilePath(dataFile.getPath())));
             tryDelete(dataFile);
         }
     }
@@ -446,6 +483,84 @@ public class FileWriterImpl extends AbstractMessageVisitor implements Closeable
             dataOut = null;
             FileUtils.tryClose(timeOut, currentTimeFilePath);
             timeOut = null;
+            writeTimeIndex();
+            writeSymbolIndex();
+        }
+    }
+
+    @GuardedBy("this")
+    private void writeTimeIndex() {
+        if (timeIndexBuilder == null)
+            return;
+        TimeIndex index = timeIndexBuilder.build();
+        timeIndexBuilder = null;
+        // index is written directly to the destination, it is used only when its data file is found
+        Path indexPath = Paths.get(FileUtils.getTimeIndexFilePath(dataFilePath));
+        try {
+            Path parentDirectory = indexPath.getParent();
+            if (parentDirectory != null)
+                FileUtils.checkOrCreateDirectory(parentDirectory);
+            index.write(indexPath.toFile());
+        } catch (IOException e) {
+            log.error("Failed to write time index " + LogUtil.hideCredentials(indexPath), e);
+        }
+    }
+
+    @GuardedBy("this")
+    private void writeSymbolIndex() {
+        if (symbolIndexBuilder == null)
+            return;
+        SymbolIndex index = symbolIndexBuilder.build();
+        symbolIndexBuilder = null;
+        Path indexPath = Paths.get(FileUtils.getSymbolIndexFilePath(dataFilePath));
+        try {
+            Path parentDirectory = indexPath.getParent();
+            if (parentDirectory != null)
+                FileUtils.checkOrCreateDirectory(parentDirectory);
+            index.write(indexPath.toFile());
+        } catch (IOException e) {
+            log.error("Failed to write symbol index " + LogUtil.hideCredentials(indexPath), e);
+        }
+    }
+
+    /**
+     * Appends written chunks to indices. Symbols of the pending data are attributed to these chunks
+     * only when they contain the data itself.
+     */
+    @GuardedBy("this")
+    private void appendToIndexes(ChunkList chunks, boolean hasPendingData) {
+        if (timeIndexBuilder != null) {
+            try {
+                for (Chunk chunk : chunks) {
+                    timeIndexBuilder.append(chunk.getBytes(), chunk.getOffset(), chunk.getLength());
+                }
+            } catch (IOException e) {
+                log.error("Failed to build time index, it will not be written for " +
+                    LogUtil.hideCredentials(dataFilePath), e);
+                timeIndexBuilder = null;
+            }
+        }
+        if (symbolIndexBuilder != null) {
+            if (hasPendingData) {
+                for (LongIterator it = pendingSymbolKeys.longIterator(); it.hasNext(); ) {
+                    symbolIndexBuilder.addSymbolKey(it.nextLong());
+                }
+                if (pendingAnySymbol)
+                    symbolIndexBuilder.addAnySymbol();
+            }
+            try {
+                for (Chunk chunk : chunks) {
+                    symbolIndexBuilder.append(chunk.getBytes(), chunk.getOffset(), chunk.getLength());
+                }
+            } catch (IOException e) {
+                log.error("Failed to build symbol index, it will not be written for " +
+                    LogUtil.hideCredentials(dataFilePath), e);
+                symbolIndexBuilder = null;
+            }
+        }
+        if (hasPendingData) {
+            pendingSymbolKeys.clear();
+            pendingAnySymbol = false;
         }
     }
 
@@ -495,6 +610,7 @@ public class FileWriterImpl extends AbstractMessageVisitor implements Closeable
         ChunkList chunks = output.getOutput(this);
         if (chunks != null) {
             position += chunks.getTotalLength();
+            appendToIndexes(chunks, false);
             dataOut.writeAllFromChunkList(chunks, this);
         }
     }
@@ -523,6 +639,10 @@ public class FileWriterImpl extends AbstractMessageVisitor implements Closeable
             }
             // increase position
             position += chunks.getTotalLength();
+            // all data in chunks has current time, heartbeats with time are also found by time index builder itself
+            if (timeIndexBuilder != null)
+                timeIndexBuilder.updateTime(curTime);
+            appendToIndexes(chunks, true);
             // submit chunks to parallel writer thread via "dataOut"
             dataOut.writeAllFromChunkList(chunks, this);
         } catch (IOException e) {
@@ -603,6 +723,14 @@ public class FileWriterImpl extends AbstractMessageVisitor implements Closeable
 
     private boolean visitRegularData(DataProvider provider, MessageType saveMessage) {
         updateCurTime();
+        if (symbolIndexBlockSize > 0) {
+            if (provider instanceof RecordProvider) {
+                symbolIndexProvider.provider = (RecordProvider) provider;
+                provider = symbolIndexProvider;
+            } else {
+                pendingAnySymbol = true; // cannot look at symbols of legacy data providers
+            }
+        }
         boolean result = composer.visitData(provider, saveMessage);
         writeData();
         return result;
@@ -611,6 +739,7 @@ public class FileWriterImpl extends AbstractMessageVisitor implements Closeable
     @Override
     public synchronized boolean visitSubscription(SubscriptionProvider provider, MessageType message) {
         updateCurTime();
+        pendingAnySymbol = true; // subscription is never skipped by symbol index
         MessageType saveMessage = saveAs != null && saveAs.isSubscription() ? saveAs : message;
         boolean result = composer.visitSubscription(provider, saveMessage);
         writeData();
@@ -660,6 +789,8 @@ public class FileWriterImpl extends AbstractMessageVisitor implements Closeable
                 composer.beginMessage(saveMessage);
             }
             first = false;
+            if (symbolIndexBlockSize > 0)
+                addPendingSymbol(cursor);
             sink.append(cursor);
         }
     }
@@ -680,6 +811,42 @@ public class FileWriterImpl extends AbstractMessageVisitor implements Closeable
         }
     }
 
+    private void addPendingSymbol(RecordCursor cursor) {
+        pendingSymbolKeys.add(SymbolIndex.getSymbolKey(cursor.getRecord().getName(), cursor.getDecodedSymbol()));
+    }
+
+    // it is used from visitRegularData when symbol index is written
+    private class SymbolIndexSink extends AbstractRecordSink {
+        RecordSink sink;
+
+        @Override
+        public boolean hasCapacity() {
+            return sink.hasCapacity();
+        }
+
+        @Override
+        public void append(RecordCursor cursor) {
+            addPendingSymbol(cursor);
+            sink.append(cursor);
+        }
+    }
+
+    // it is used from visitRegularData when symbol index is written
+    private class SymbolIndexProvider extends AbstractRecordProvider {
+        RecordProvider provider;
+
+        @Override
+        public RecordMode getMode() {
+            return provider.getMode();
+        }
+
+        @Override
+        public boolean retrieve(RecordSink sink) {
+            symbolIndexSink.sink = sink;
+            return provider.retrieve(symbolIndexSink);
+        }
+    }
+
     private class FlushThread extends Thread implements Closeable {
         private volatile boolean closed;
 
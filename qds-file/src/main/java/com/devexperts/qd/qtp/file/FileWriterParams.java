@@ -29,6 +29,8 @@ public interface FileWriterParams {
     long getStorageSize();
     String getOpt();
     String getTmpDir();
+    long getTimeIndex();
+    long getSymbolIndex();
 
     // setXXX methods are called via QDConfig#setProperties(...)
     public class Default implements FileWriterParams {
@@ -42,6 +44,8 @@ public interface FileWriterParams {
         private long storageSize = UNLIMITED_SIZE;
         private String opt = ProtocolOption.SUPPORTED_SET.toString();
         private String tmpDir;
+        private long timeIndex;
+        private long symbolIndex;
 
         @Override
         public TimePeriod getSplit() {
@@ -123,5 +127,23 @@ public interface FileWriterParams {
         public void setTmpDir(String tmpDir) {
             this.tmpDir = tmpDir;
         }
+
+        @Override
+        public long getTimeIndex() {
+            return timeIndex;
+        }
+
+        public void setTimeIndex(long timeIndex) {
+            this.timeIndex = timeIndex;
+        }
+
+        @Override
+        public long getSymbolIndex() {
+            return symbolIndex;
+        }
+
+        public void setSymbolIndex(long symbolIndex) {
+            this.symbolIndex = symbolIndex;
+        }
     }
 }
@@ -0,0 +1,58 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.devexperts.qd.qtp.file;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Complete binary message (with its header) that is kept in an index together with its position in the data file,
+ * so that it can be given to a parser instead of the skipped data.
+ */
+final class IndexedMessage {
+    final long position;
+    final byte[] bytes;
+
+    IndexedMessage(long position, byte[] bytes) {
+        this.position = position;
+        this.bytes = bytes;
+    }
+
+    static List<IndexedMessage> readList(DataInputStream data) throws IOException {
+        int count = data.readInt();
+        if (count < 0)
+            throw new IOException("Corrupted index");
+        List<IndexedMessage> messages = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long position = data.readLong();
+            int length = data.readInt();
+            if (position < 0 || length <= 0)
+                throw new IOException("Corrupted index");
+            byte[] bytes = new byte[length];
+            data.readFully(bytes);
+            messages.add(new IndexedMessage(position, bytes));
+        }
+        return messages;
+    }
+
+    static void writeList(DataOutputStream data, List<IndexedMessage> messages) throws IOException {
+        data.writeInt(messages.size());
+        for (IndexedMessage message : messages) {
+            data.writeLong(message.position);
+            data.writeInt(message.bytes.length);
+            data.write(message.bytes);
+        }
+    }
+}
@@ -0,0 +1,577 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.devexperts.qd.qtp.file;
+
+import com.devexperts.io.BufferedInput;
+import com.devexperts.io.ByteArrayInput;
+import com.devexperts.io.StreamCompression;
+import com.devexperts.logging.Logging;
+import com.devexperts.qd.DataIterator;
+import com.devexperts.qd.DataScheme;
+import com.devexperts.qd.SubscriptionContainer;
+import com.devexperts.qd.SubscriptionIterator;
+import com.devexperts.qd.ng.RecordBuffer;
+import com.devexperts.qd.ng.RecordCursor;
+import com.devexperts.qd.ng.RecordSource;
+import com.devexperts.qd.qtp.HeartbeatPayload;
+import com.devexperts.qd.qtp.MessageConsumerAdapter;
+import com.devexperts.qd.qtp.MessageType;
+import com.devexperts.qd.qtp.ProtocolDescriptor;
+import com.devexperts.qd.qtp.RawDataConsumer;
+import com.devexperts.qd.stats.QDStats;
+import com.devexperts.qd.util.TimeSequenceUtil;
+import com.devexperts.transport.stats.ConnectionStats;
+import com.devexperts.util.LogUtil;
+import com.devexperts.util.SystemProperties;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Reads several tape sources and merges their messages by time into a single adapter.
+ * Sources are listed in the address and are separated with {@link #SOURCE_SEPARATOR}, for example
+ * {@code "file:nyse~.qds|file:nasdaq~.qds"}. Each source is a file or a set of timestamped files
+ * (see {@link TimestampedFilenameFilter}).
+ *
+ * <p>Each source is read and parsed at max speed by its own {@link FileReader} in a separate thread.
+ * Time of each message comes from heartbeats, ".time" files or {@link RecordCursor#getEventTimeSequence()
+ * EventTimeSequence} of records depending on the source {@link TimestampsType timestamps type}.
+ * Messages are merged by time, messages with the same time are delivered in the order of sources in the address.
+ * Start and stop times are applied to each source, while speed and cycle are applied to the merged messages.
+ */
+public class MergedFileReader implements MessageReader {
+    private static final Logging log = Logging.getLogging(MergedFileReader.class);
+
+    public static final String SOURCE_SEPARATOR = "|";
+
+    // Number of merge units each source can parse ahead
+    private static final int SOURCE_QUEUE_SIZE =
+        SystemProperties.getIntProperty(MergedFileReader.class, "sourceQueueSize", 64, 1, 1 << 16);
+
+    private static final int DATA = 0;
+    private static final int DESCRIBE_PROTOCOL = 1;
+    private static final int OTHER_MESSAGE = 2;
+    private static final int CORRUPTED_STREAM = 3;
+    private static final int CORRUPTED_MESSAGE = 4;
+    private static final int UNKNOWN_MESSAGE = 5;
+    private static final int END = 6;
+
+    private static final Comparator<Source> HEAD_ORDER = (s1, s2) -> {
+        int cmp = Long.compare(s1.head.time, s2.head.time);
+        return cmp != 0 ? cmp : Integer.compare(s1.index, s2.index);
+    };
+
+    private final String[] addresses;
+    private final ConnectionStats connectionStats;
+    private final FileReaderParams params;
+    private final FileReaderParams sourceParams;
+
+    private final long startTime;
+    private final long stopTime;
+    private final boolean hasStart;
+    private final boolean hasStop;
+    private final boolean hasMaxSpeed;
+
+    private DataScheme scheme; // maybe null for default scheme
+    private List<? extends SubscriptionContainer> subscription; // maybe null when unknown
+
+    private volatile boolean closed;
+    private volatile Source[] sources; // sources of the current cycle
+
+    private long virtualTime0; // the first time of merged messages
+    private long wallTime0; // time moment when virtualTime0 was encountered by wall clock
+    private boolean hasTime0;
+    private long lastHeartbeatTime = FileConnector.NA_TIME;
+    private volatile long delayActual; // for monitoring purposes only
+
+    private final HeartbeatPayload heartbeatPayload = new HeartbeatPayload();
+
+    public MergedFileReader(String address, ConnectionStats connectionStats, FileReaderParams params) {
+        this.addresses = splitAddress(address);
+        this.connectionStats = connectionStats;
+        this.params = params;
+        this.sourceParams = new SourceParams(params);
+        this.startTime = params.getStartTime();
+        this.stopTime = params.getStopTime();
+        this.hasStart = startTime != FileConnector.NA_TIME;
+        this.hasStop = stopTime != FileConnector.NA_TIME;
+        this.hasMaxSpeed = params.getSpeed() == FileReaderParams.MAX_SPEED;
+        if (params.getDelayTime() != FileConnector.NA_TIME)
+            throw new IllegalArgumentException("Delay is not supported for merged sources");
+    }
+
+    /**
+     * Returns {@code true} when the specified address lists several sources to merge.
+     */
+    public static boolean isMergedAddress(String address) {
+        return address.contains(SOURCE_SEPARATOR);
+    }
+
+    private static String[] splitAddress(String address) {
+        List<String> result = new ArrayList<>();
+        int i = 0;
+        while (true) {
+            int j = address.indexOf(SOURCE_SEPARATOR, i);
+            String source = (j < 0 ? address.substring(i) : address.substring(i, j)).trim();
+            if (source.isEmpty())
+                throw new IllegalArgumentException("Empty source in " + LogUtil.hideCredentials(address));
+            result.add(source);
+            if (j < 0)
+                break;
+            i = j + SOURCE_SEPARATOR.length();
+        }
+        return result.toArray(new String[0]);
+    }
+
+    public void setScheme(DataScheme scheme) {
+        this.scheme = scheme;
+    }
+
+    /**
+     * Sets containers with the total subscription of all consumers of the data from this reader.
+     * It is used by each source as explained in {@link FileReader#setSubscription(List)}.
+     */
+    public void setSubscription(List<? extends SubscriptionContainer> subscription) {
+        this.subscription = subscription;
+    }
+
+    public long getDelayActual() {
+        return delayActual;
+    }
+
+    // extension point for FileReaderHandler
+    protected void onConnected() {}
+
+    @Override
+    public void readInto(MessageConsumerAdapter adapter) throws InterruptedException {
+        boolean connected = false;
+        while (!isClosed()) {
+            Source[] sources = startSources(adapter);
+            try {
+                if (!connected) {
+                    onConnected();
+                    connected = true;
+                }
+                merge(sources, adapter);
+            } finally {
+                stopSources(sources);
+            }
+            if (isClosed() || !params.isCycle())
+                return;
+            log.info("End of cycle. Starting from beginning");
+            hasTime0 = false;
+            lastHeartbeatTime = FileConnector.NA_TIME;
+        }
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed)
+                return;
+            closed = true;
+        }
+        // NOTE: This method can be called from the other thread concurrently with "readInto"
+        Source[] sources = this.sources;
+        if (sources != null) {
+            for (Source source : sources) {
+                source.reader.close();
+            }
+        }
+    }
+
+    private boolean isClosed() throws InterruptedException {
+        if (Thread.interrupted())
+            throw new InterruptedException();
+        return closed;
+    }
+
+    private Source[] startSources(MessageConsumerAdapter adapter) {
+        Source[] sources = new Source[addresses.length];
+        for (int i = 0; i < addresses.length; i++) {
+            ConnectionStats stats = new ConnectionStats();
+            FileReader reader = new FileReader(addresses[i], stats, sourceParams);
+            reader.setScheme(scheme);
+            reader.setSubscription(subscription);
+            reader.setPipelined(false); // each source is already read in its own thread
+            sources[i] = new Source(i, reader, stats, adapter);
+        }
+        this.sources = sources;
+        for (Source source : sources) {
+            source.thread.start();
+        }
+        return sources;
+    }
+
+    private void stopSources(Source[] sources) throws InterruptedException {
+        for (Source source : sources) {
+            source.reader.close();
+            source.thread.interrupt();
+        }
+        for (Source source : sources) {
+            source.thread.join();
+        }
+        this.sources = null;
+    }
+
+    private void merge(Source[] sources, MessageConsumerAdapter adapter) throws InterruptedException {
+        PriorityQueue<Source> queue = new PriorityQueue<>(sources.length, HEAD_ORDER);
+        for (Source source : sources) {
+            if (source.takeHead())
+                queue.add(source);
+        }
+        while (!queue.isEmpty() && !isClosed()) {
+            Source source = queue.poll();
+            Unit unit = source.head;
+            if (unit.time != FileConnector.NA_TIME && !advanceTime(unit.time))
+                return;
+            connectionStats.addReadBytes(unit.readBytes);
+            deliver(unit, adapter);
+            if (source.takeHead())
+                queue.add(source);
+        }
+    }
+
+    private void deliver(Unit unit, MessageConsumerAdapter adapter) {
+        switch (unit.kind) {
+        case DATA:
+            if (unit.heartbeatTime && unit.time != lastHeartbeatTime) {
+                lastHeartbeatTime = unit.time;
+                heartbeatPayload.setTimeMillis(unit.time);
+                adapter.processHeartbeat(heartbeatPayload);
+            }
+            adapter.processRecordSource(unit.buffer, unit.message);
+            break;
+        case DESCRIBE_PROTOCOL:
+            adapter.processDescribeProtocol(unit.descriptor, true);
+            break;
+        case OTHER_MESSAGE:
+            adapter.processOtherMessage(unit.messageTypeId, new ByteArrayInput(unit.bytes), unit.bytes.length);
+            break;
+        case CORRUPTED_STREAM:
+            adapter.handleCorruptedStream();
+            break;
+        case CORRUPTED_MESSAGE:
+            adapter.handleCorruptedMessage(unit.messageTypeId);
+            break;
+        case UNKNOWN_MESSAGE:
+            adapter.handleUnknownMessage(unit.messageTypeId);
+            break;
+        default:
+            throw new AssertionError();
+        }
+    }
+
+    private boolean advanceTime(long nextTime) throws InterruptedException {
+        initTime0(nextTime);
+        if (hasStop && nextTime >= stopTime) {
+            waitTillVirtualTime(stopTime); // wait until the actual stop time "reached"
+            return false;
+        }
+        waitTillVirtualTime(nextTime);
+        return true;
+    }
+
+    private void waitTillVirtualTime(long nextTime) throws InterruptedException {
+        if (!hasTime0 || hasMaxSpeed)
+            return; // never wait until start time and at max speed even if time goes backwards
+        long waitTillTime = (long) (wallTime0 + (nextTime - virtualTime0) / params.getSpeed());
+        long curTime = System.currentTimeMillis();
+        long sleepTime;
+        while ((sleepTime = waitTillTime - curTime) > 0) {
+            Thread.sleep(sleepTime);
+            curTime = System.currentTimeMillis();
+        }
+        delayActual = curTime - nextTime;
+    }
+
+    private void initTime0(long nextTime) {
+        if (hasTime0)
+            return; // already initialized
+        if (hasStart && nextTime < startTime)
+            return; // do not init yet -- wait until start time is encountered
+        wallTime0 = System.currentTimeMillis();
+        virtualTime0 = hasStart ? startTime : nextTime;
+        hasTime0 = true;
+    }
+
+    // Message or a part of data message with the same time from one source
+    private static class Unit {
+        final int kind;
+        long time = FileConnector.NA_TIME;
+        boolean heartbeatTime; // true when time came from heartbeat or ".time" file
+        long readBytes; // bytes read by source since its previous unit
+        RecordBuffer buffer;
+        MessageType message;
+        ProtocolDescriptor descriptor;
+        int messageTypeId;
+        byte[] bytes;
+
+        Unit(int kind) {
+            this.kind = kind;
+        }
+    }
+
+    // Receives messages from its reader in its own thread and queues them for merge
+    private class Source extends MessageConsumerAdapter implements RawDataConsumer, Runnable {
+        final int index;
+        final FileReader reader;
+        final MessageConsumerAdapter adapter;
+        final Thread thread;
+        final BlockingQueue<Unit> units = new ArrayBlockingQueue<>(SOURCE_QUEUE_SIZE);
+
+        // the following fields are used in source thread
+        final ConnectionStats stats;
+        long reportedBytes;
+        long time = FileConnector.NA_TIME; // the last heartbeat time
+        volatile Throwable throwable;
+
+        // the following field is used in merge thread
+        Unit head;
+
+        Source(int index, FileReader reader, ConnectionStats stats, MessageConsumerAdapter adapter) {
+            this.index = index;
+            this.reader = reader;
+            this.stats = stats;
+            this.adapter = adapter;
+            thread = new Thread(this, "Merge-" + LogUtil.hideCredentials(addresses[index]));
+            thread.setDaemon(true);
+        }
+
+        /**
+         * Takes next unit of this source into {@link #head}.
+         * @return {@code false} when this source is over.
+         */
+        boolean takeHead() throws InterruptedException {
+            head = units.take();
+            if (head.kind != END)
+                return true;
+            Throwable t = throwable;
+            if (t instanceof RuntimeException)
+                throw (RuntimeException) t;
+            if (t instanceof Error)
+                throw (Error) t;
+            return false;
+        }
+
+        @Override
+        public void run() {
+            try {
+                reader.readInto(this);
+            } catch (InterruptedException e) {
+                return; // merge was stopped
+            } catch (Throwable t) {
+                log.error("Failed to read " + LogUtil.hideCredentials(addresses[index]), t);
+                throwable = t;
+            }
+            put(new Unit(END));
+        }
+
+        @Override
+        public String getSymbol(char[] chars, int offset, int length) {
+            return adapter.getSymbol(chars, offset, length);
+        }
+
+        @Override
+        public void handleCorruptedStream() {
+            put(new Unit(CORRUPTED_STREAM));
+        }
+
+        @Override
+        public void handleCorruptedMessage(int messageTypeId) {
+            Unit unit = new Unit(CORRUPTED_MESSAGE);
+            unit.messageTypeId = messageTypeId;
+            put(unit);
+        }
+
+        @Override
+        public void handleUnknownMessage(int messageTypeId) {
+            Unit unit = new Unit(UNKNOWN_MESSAGE);
+            unit.messageTypeId = messageTypeId;
+            put(unit);
+        }
+
+        @Override
+        public void processDescribeProtocol(ProtocolDescriptor desc, boolean logDescriptor) {
+            Unit unit = new Unit(DESCRIBE_PROTOCOL);
+            unit.descriptor = desc;
+            put(unit);
+        }
+
+        @Override
+        public void processHeartbeat(HeartbeatPayload heartbeatPayload) {
+            if (heartbeatPayload.hasTimeMillis())
+                time = heartbeatPayload.getTimeMillis();
+        }
+
+        @Override
+        public void processData(DataIterator iterator, MessageType message) {
+            processRecordSourceMessage((RecordSource) iterator, message);
+        }
+
+        @Override
+        public void processSubscription(SubscriptionIterator iterator, MessageType message) {
+            processRecordSourceMessage((RecordSource) iterator, message);
+        }
+
+        @Override
+        public void processOtherMessage(int messageTypeId, BufferedInput data, int len) {
+            Unit unit = new Unit(OTHER_MESSAGE);
+            unit.messageTypeId = messageTypeId;
+            unit.bytes = new byte[len];
+            try {
+                data.readFully(unit.bytes);
+            } catch (IOException e) {
+                handleCorruptedMessage(messageTypeId);
+                return;
+            }
+            put(unit);
+        }
+
+        // splits records into units with the same time
+        private void processRecordSourceMessage(RecordSource source, MessageType message) {
+            Unit unit = null;
+            for (RecordCursor cursor; (cursor = source.next()) != null; ) {
+                long recordTime = time;
+                boolean heartbeatTime = true;
+                if (cursor.getEventTimeSequence() != 0 && (time == FileConnector.NA_TIME ||
+                    params.getTime() == TimestampsType.FIELD))
+                {
+                    recordTime = TimeSequenceUtil.getTimeMillisFromTimeSequence(cursor.getEventTimeSequence());
+                    heartbeatTime = false;
+                }
+                if (unit != null && unit.time != recordTime) {
+                    put(unit);
+                    unit = null;
+                }
+                if (unit == null) {
+                    unit = new Unit(DATA);
+                    unit.time = recordTime;
+                    unit.heartbeatTime = heartbeatTime && recordTime != FileConnector.NA_TIME;
+                    unit.buffer = new RecordBuffer(source.getMode());
+                    unit.message = message;
+                }
+                unit.buffer.append(cursor);
+            }
+            if (unit != null)
+                put(unit);
+        }
+
+        private void put(Unit unit) {
+            if (unit.kind != DATA && unit.kind != END)
+                unit.time = time;
+            long readBytes = stats.getReadBytes();
+            unit.readBytes = readBytes - reportedBytes;
+            reportedBytes = readBytes;
+            try {
+                units.put(unit);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt(); // reader checks it and stops
+            }
+        }
+    }
+
+    // Reads each source at max speed without cycle, speed and cycle are applied to merged messages
+    private static class SourceParams implements FileReaderParams {
+        private final FileReaderParams params;
+
+        SourceParams(FileReaderParams params) {
+            this.params = params;
+        }
+
+        @Override
+        public String getUser() {
+            return params.getUser();
+        }
+
+        @Override
+        public String getPassword() {
+            return params.getPassword();
+        }
+
+        @Override
+        public long getStartTime() {
+            return params.getStartTime();
+        }
+
+        @Override
+        public long getStopTime() {
+            return params.getStopTime();
+        }
+
+        @Override
+        public long getDelayTime() {
+            return FileConnector.NA_TIME;
+        }
+
+        @Override
+        public StreamCompression getCompression() {
+            return params.getCompression();
+        }
+
+        @Override
+        public FileFormat getFormat() {
+            return params.getFormat();
+        }
+
+        @Override
+        @SuppressWarnings("deprecation")
+        public boolean isIgnoreTime() {
+            return params.isIgnoreTime();
+        }
+
+        @Override
+        public TimestampsType getTime() {
+            return params.getTime();
+        }
+
+        @Override
+        public double getSpeed() {
+            return MAX_SPEED;
+        }
+
+        @Override
+        public boolean isCycle() {
+            return false;
+        }
+
+        @Override
+        public MessageType getReadAs() {
+            return params.getReadAs();
+        }
+
+        @Override
+        public boolean isSchemeKnown() {
+            return params.isSchemeKnown();
+        }
+
+        @Override
+        public MessageType getResyncOn() {
+            return params.getResyncOn();
+        }
+
+        @Override
+        public QDStats getStats() {
+            return params.getStats();
+        }
+
+        @Override
+        public String getFieldReplacer() {
+            return params.getFieldReplacer();
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.devexperts.qd.qtp.file;
+
+import com.devexperts.io.ByteArrayInput;
+import com.devexperts.io.ByteArrayOutput;
+import com.devexperts.qd.qtp.HeartbeatPayload;
+import com.devexperts.qd.qtp.MessageType;
+
+import java.io.EOFException;
+import java.io.IOException;
+
+/**
+ * Scans bytes of a tape file in binary format incrementally and reports message boundaries,
+ * heartbeats and describe messages. The data itself is not parsed.
+ */
+abstract class MessageScanner {
+    private static final int MAX_HEADER_LENGTH = 18; // two compact longs: message length and message type
+    private static final int HEARTBEAT = MessageType.HEARTBEAT.getId();
+    private static final int DESCRIBE_PROTOCOL = MessageType.DESCRIBE_PROTOCOL.getId();
+    private static final int DESCRIBE_RECORDS = MessageType.DESCRIBE_RECORDS.getId();
+    private static final int MAX_CAPTURED_LENGTH = 1 << 24; // describe and heartbeat messages are much smaller
+
+    private long position;
+
+    // state of the current message
+    private final byte[] header = new byte[MAX_HEADER_LENGTH];
+    private final ByteArrayInput headerInput = new ByteArrayInput();
+    private final HeartbeatPayload heartbeatPayload = new HeartbeatPayload();
+    private int headerLength;
+    private long messageStart;
+    private long bodyRemaining = -1; // -1 while reading header
+    private int messageType;
+    private ByteArrayOutput captured; // != null when message is captured
+
+    /**
+     * Returns number of bytes appended so far.
+     */
+    long getPosition() {
+        return position;
+    }
+
+    /**
+     * Returns {@code true} when all appended bytes form complete messages.
+     */
+    boolean isAtMessageBoundary() {
+        return headerLength == 0 && bodyRemaining < 0;
+    }
+
+    /**
+     * Appends the specified bytes of the data file.
+     * @throws IOException if data is not a valid binary QTP stream.
+     */
+    void append(byte[] bytes, int offset, int length) throws IOException {
+        while (length > 0) {
+            if (bodyRemaining < 0) {
+                if (headerLength == 0) {
+                    messageStart = position;
+                    messageStarted(position);
+                }
+                header[headerLength++] = bytes[offset++];
+                length--;
+                position++;
+                parseHeader();
+            } else {
+                int n = (int) Math.min(length, bodyRemaining);
+                if (captured != null)
+                    captured.write(bytes, offset, n);
+                offset += n;
+                length -= n;
+                position += n;
+                bodyRemaining -= n;
+                if (bodyRemaining == 0)
+                    endMessage();
+            }
+        }
+    }
+
+    /**
+     * Invoked before the first byte of each message.
+     */
+    protected void messageStarted(long position) {}
+
+    /**
+     * Invoked for each non-empty heartbeat message.
+     * @param message bytes of the whole message with its header.
+     */
+    protected void heartbeatScanned(long position, byte[] message, HeartbeatPayload payload) {}
+
+    /**
+     * Invoked for each describe protocol and describe records message.
+     * @param message bytes of the whole message with its header.
+     */
+    protected void describeScanned(long position, byte[] message) {}
+
+    private void parseHeader() throws IOException {
+        headerInput.setInput(header, 0, headerLength);
+        try {
+            long messageLength = headerInput.readCompactLong();
+            if (messageLength < 0)
+                throw new IOException("Invalid message length " + messageLength + " at position " + messageStart);
+            if (messageLength == 0) {
+                // zero-length messages are empty heartbeats
+                messageType = HEARTBEAT;
+                bodyRemaining = 0;
+                endMessage();
+                return;
+            }
+            long lengthSize = headerInput.getPosition();
+            long type = headerInput.readCompactLong();
+            bodyRemaining = messageLength - (headerInput.getPosition() - lengthSize);
+            if (bodyRemaining < 0 || type < 0 || type > Integer.MAX_VALUE)
+                throw new IOException("Invalid message header at position " + messageStart);
+            messageType = (int) type;
+        } catch (EOFException e) {
+            if (headerLength == MAX_HEADER_LENGTH)
+                throw new IOException("Invalid message header at position " + messageStart);
+            return; // need more bytes
+        }
+        if (messageType == HEARTBEAT || messageType == DESCRIBE_PROTOCOL || messageType == DESCRIBE_RECORDS) {
+            if (bodyRemaining > MAX_CAPTURED_LENGTH)
+                throw new IOException("Message is too long at position " + messageStart);
+            // messages are captured with their header to be parsed again
+            captured = new ByteArrayOutput(headerLength + (int) bodyRemaining);
+            captured.write(header, 0, headerLength);
+        }
+        if (bodyRemaining == 0)
+            endMessage();
+    }
+
+    private void endMessage() {
+        if (captured != null) {
+            byte[] message = captured.toByteArray();
+            if (messageType == HEARTBEAT) {
+                heartbeatPayload.clear();
+                try {
+                    heartbeatPayload.parseFrom(
+                        new ByteArrayInput(message, headerLength, message.length - headerLength));
+                    heartbeatScanned(messageStart, message, heartbeatPayload);
+                } catch (IOException e) {
+                    // ignore corrupted heartbeat -- it does not carry anything for the parser either
+                }
+            } else {
+                describeScanned(messageStart, message);
+            }
+        }
+        captured = null;
+        headerLength = 0;
+        bodyRemaining = -1;
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.devexperts.qd.qtp.file;
+
+import com.devexperts.io.BufferedInput;
+import com.devexperts.io.ByteArrayInput;
+import com.devexperts.qd.DataIterator;
+import com.devexperts.qd.SubscriptionIterator;
+import com.devexperts.qd.ng.RecordBuffer;
+import com.devexperts.qd.ng.RecordSource;
+import com.devexperts.qd.qtp.HeartbeatPayload;
+import com.devexperts.qd.qtp.MessageConsumerAdapter;
+import com.devexperts.qd.qtp.MessageType;
+import com.devexperts.qd.qtp.ProtocolDescriptor;
+import com.devexperts.qd.qtp.RawDataConsumer;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Message consumer that delivers messages to the target consumer in a separate thread in their original order,
+ * so that parsing of the next messages goes in parallel with processing of the previous ones.
+ * Record sources are copied into a bounded pool of record buffers, so the parser can reuse its own buffers.
+ * Symbols are resolved by the target consumer synchronously.
+ *
+ * <p>Messages are given to this consumer from a single thread that shall eventually invoke
+ * {@link #finish()} to wait until all messages are delivered or {@link #abort()} to drop them.
+ */
+class PipelinedMessageConsumer extends MessageConsumerAdapter implements RawDataConsumer {
+    private static final Task STOP = target -> {};
+
+    private final MessageConsumerAdapter target;
+    private final BlockingQueue<Task> tasks;
+    private final BlockingQueue<DataTask> freeDataTasks;
+    private final AtomicReference<Throwable> throwable = new AtomicReference<>();
+    private final Deliverer deliverer;
+
+    private volatile boolean aborted;
+    private boolean stopped;
+
+    PipelinedMessageConsumer(MessageConsumerAdapter target, String name, int queueSize) {
+        this.target = target;
+        tasks = new ArrayBlockingQueue<>(queueSize + 1); // room for STOP
+        freeDataTasks = new ArrayBlockingQueue<>(queueSize);
+        for (int i = 0; i < queueSize; i++) {
+            freeDataTasks.add(new DataTask());
+        }
+        deliverer = new Deliverer(name);
+        deliverer.start();
+    }
+
+    /**
+     * Waits until all messages are delivered to the target consumer and terminates delivery thread.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    void finish() throws InterruptedException {
+        if (stopped)
+            return;
+        stopped = true;
+        try {
+            tasks.put(STOP);
+            deliverer.join();
+        } catch (InterruptedException e) {
+            aborted = true;
+            tasks.clear();
+            tasks.offer(STOP);
+            throw e;
+        }
+        checkThrowable();
+    }
+
+    /**
+     * Drops all messages that were not delivered yet and terminates delivery thread.
+     */
+    void abort() {
+        if (stopped)
+            return;
+        stopped = true;
+        aborted = true;
+        tasks.clear();
+        tasks.add(STOP);
+        try {
+            deliverer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public String getSymbol(char[] chars, int offset, int length) {
+        return target.getSymbol(chars, offset, length);
+    }
+
+    @Override
+    public void handleCorruptedStream() {
+        submit(MessageConsumerAdapter::handleCorruptedStream);
+    }
+
+    @Override
+    public void handleCorruptedMessage(int messageTypeId) {
+        submit(target -> target.handleCorruptedMessage(messageTypeId));
+    }
+
+    @Override
+    public void handleUnknownMessage(int messageTypeId) {
+        submit(target -> target.handleUnknownMessage(messageTypeId));
+    }
+
+    @Override
+    public void processDescribeProtocol(ProtocolDescriptor desc, boolean logDescriptor) {
+        submit(target -> target.processDescribeProtocol(desc, logDescriptor));
+    }
+
+    @Override
+    public void processHeartbeat(HeartbeatPayload heartbeatPayload) {
+        // payload is reused by its producer
+        HeartbeatPayload copy = new HeartbeatPayload();
+        copy.updateFrom(heartbeatPayload);
+        submit(target -> target.processHeartbeat(copy));
+    }
+
+    @Override
+    public void processTimeProgressReport(long timeMillis) {
+        submit(target -> target.processTimeProgressReport(timeMillis));
+    }
+
+    @Override
+    public void processData(DataIterator iterator, MessageType message) {
+        processRecordSourceMessage((RecordSource) iterator, message);
+    }
+
+    @Override
+    public void processSubscription(SubscriptionIterator iterator, MessageType message) {
+        processRecordSourceMessage((RecordSource) iterator, message);
+    }
+
+    @Override
+    public void processOtherMessage(int messageTypeId, BufferedInput data, int len) {
+        byte[] bytes = new byte[len];
+        try {
+            data.readFully(bytes);
+        } catch (IOException e) {
+            handleCorruptedMessage(messageTypeId);
+            return;
+        }
+        submit(target -> target.processOtherMessage(messageTypeId, new ByteArrayInput(bytes), len));
+    }
+
+    private void processRecordSourceMessage(RecordSource source, MessageType message) {
+        DataTask task;
+        try {
+            task = freeDataTasks.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt(); // reader checks it and stops
+            return;
+        }
+        task.buffer.setMode(source.getMode());
+        task.buffer.process(source);
+        task.message = message;
+        submit(task);
+    }
+
+    private void submit(Task task) {
+        checkThrowable();
+        if (stopped)
+            throw new IllegalStateException("Delivery is stopped");
+        try {
+            tasks.put(task);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt(); // reader checks it and stops
+        }
+    }
+
+    private void checkThrowable() {
+        Throwable t = throwable.getAndSet(null);
+        if (t == null)
+            return;
+        if (t instanceof RuntimeException)
+            throw (RuntimeException) t;
+        if (t instanceof Error)
+            throw (Error) t;
+        throw new RuntimeException(t);
+    }
+
+    @FunctionalInterface
+    private interface Task {
+        void deliver(MessageConsumerAdapter target);
+    }
+
+    private class DataTask implements Task {
+        final RecordBuffer buffer = new RecordBuffer();
+        MessageType message;
+
+        @Override
+        public void deliver(MessageConsumerAdapter target) {
+            try {
+                target.processRecordSource(buffer, message);
+            } finally {
+                recycle();
+            }
+        }
+
+        void recycle() {
+            buffer.clear();
+            message = null;
+            freeDataTasks.add(this);
+        }
+    }
+
+    private class Deliverer extends Thread {
+        Deliverer(String name) {
+            super(name);
+            setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                Task task;
+                try {
+                    task = tasks.take();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                if (task == STOP)
+                    return;
+                if (aborted || throwable.get() != null) {
+                    if (task instanceof DataTask)
+                        ((DataTask) task).recycle(); // without delivery
+                    continue;
+                }
+                try {
+                    task.deliver(target);
+                } catch (Throwable t) {
+                    throwable.compareAndSet(null, t);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.devexperts.qd.qtp.file;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Input stream that reads (and thus decompresses) the underlying stream in a separate thread ahead of its consumer
+ * into a bounded number of blocks. When the underlying stream is over for the first time, the reading thread
+ * terminates and all further reads go directly to the underlying stream, so that a growing file can be followed.
+ *
+ * <p>This class is not thread-safe, its methods shall be invoked from a single thread.
+ */
+class ReadAheadInputStream extends InputStream {
+    private static final Block EOF = new Block(new byte[0]);
+
+    private final InputStream in;
+    private final BlockingQueue<Block> filled;
+    private final BlockingQueue<Block> free;
+    private final Reader reader;
+
+    private Block block; // current block or null
+    private int blockPosition;
+    private boolean readerDone; // true when reading thread has terminated
+    private boolean closed;
+
+    ReadAheadInputStream(InputStream in, String name, int blockSize, int blockCount) {
+        this.in = in;
+        filled = new ArrayBlockingQueue<>(blockCount + 1); // room for EOF
+        free = new ArrayBlockingQueue<>(blockCount);
+        for (int i = 0; i < blockCount; i++) {
+            free.add(new Block(new byte[blockSize]));
+        }
+        reader = new Reader(name);
+        reader.start();
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!nextBlock())
+            return in.read();
+        return block.bytes[blockPosition++] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0)
+            return 0;
+        if (!nextBlock())
+            return in.read(b, off, len);
+        int n = Math.min(len, block.length - blockPosition);
+        System.arraycopy(block.bytes, blockPosition, b, off, n);
+        blockPosition += n;
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        if (n <= 0)
+            return 0;
+        if (!nextBlock())
+            return in.skip(n);
+        int skipped = (int) Math.min(n, block.length - blockPosition);
+        blockPosition += skipped;
+        return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+        if (readerDone && (block == null || blockPosition == block.length))
+            return in.available();
+        return block == null ? 0 : block.length - blockPosition;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed)
+            return;
+        closed = true;
+        reader.interrupt();
+        try {
+            reader.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        in.close();
+    }
+
+    /**
+     * Makes sure that current block has bytes to read.
+     * @return {@code false} when all bytes read by the reading thread were consumed and it has terminated.
+     */
+    private boolean nextBlock() throws IOException {
+        if (closed)
+            throw new IOException("Stream closed");
+        if (block != null && blockPosition < block.length)
+            return true;
+        if (readerDone)
+            return false;
+        if (block != null)
+            free.add(block);
+        block = null;
+        Block next;
+        try {
+            next = filled.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        }
+        if (next.exception != null || next == EOF) {
+            readerDone = true;
+            if (next.exception != null)
+                throw next.exception;
+            return false;
+        }
+        block = next;
+        blockPosition = 0;
+        return true;
+    }
+
+    private static class Block {
+        final byte[] bytes;
+        int length;
+        IOException exception; // != null for the last block when reading failed
+
+        Block(byte[] bytes) {
+            this.bytes = bytes;
+        }
+    }
+
+    private class Reader extends Thread {
+        Reader(String name) {
+            super(name);
+            setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (true) {
+                    Block block = free.take();
+                    int length = 0;
+                    Block last = null;
+                    try {
+                        while (length < block.bytes.length) {
+                            int n = in.read(block.bytes, length, block.bytes.length - length);
+                            if (n <= 0)
+                                break;
+                            length += n;
+                        }
+                        if (length < block.bytes.length)
+                            last = EOF;
+                    } catch (IOException e) {
+                        last = new Block(EOF.bytes);
+                        last.exception = e;
+                    }
+                    if (length > 0) {
+                        block.length = length;
+                        filled.put(block);
+                    }
+                    if (last != null) {
+                        filled.put(last);
+                        return;
+                    }
+                }
+            } catch (InterruptedException e) {
+                // stream was closed
+            }
+        }
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.devexperts.qd.qtp.file;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Binary symbol index of a tape file in binary format. The index is stored in a separate ".sidx" file
+ * alongside the data file and is built with {@link SymbolIndexBuilder}.
+ *
+ * <p>The data file is split into consecutive blocks at message boundaries. For each block the index keeps
+ * a bloom filter of {@link #getSymbolKey(String, String) keys} of all (record, symbol) pairs in its data,
+ * so that a reader can skip blocks that have no data for the symbols it is interested in.
+ * Blocks with messages that cannot be filtered by symbol (like subscription) {@link #isAnySymbol(int) may contain
+ * any symbol}. The index also keeps all describe protocol and describe records messages and the last heartbeat message
+ * of each block, so that a parser can be brought into the state it would have after any block without parsing it.
+ *
+ * <p>The file starts with {@link #MAGIC} and {@link #VERSION} integers, followed by a number of kept messages
+ * with their positions, lengths and bytes, followed by a number of blocks with their positions and bloom filters
+ * (a number of longs or {@code -1} for any symbol, followed by the longs) and by the end position of the last block.
+ * All numbers are written in big-endian order.
+ */
+public class SymbolIndex {
+    static final int MAGIC = 0x51445349; // "QDSI"
+    static final int VERSION = 1;
+    static final int HASH_COUNT = 6;
+
+    private final List<IndexedMessage> messages;
+    private final long[] positions;
+    private final long[][] filters; // null element for any symbol
+    private final long endPosition;
+
+    SymbolIndex(List<IndexedMessage> messages, long[] positions, long[][] filters, long endPosition) {
+        this.messages = messages;
+        this.positions = positions;
+        this.filters = filters;
+        this.endPosition = endPosition;
+    }
+
+    /**
+     * Returns symbol index file for the specified data file. The index file has ".sidx" extension instead of
+     * the extension of the data file and its compression.
+     */
+    public static File getIndexFile(String dataFilePath) {
+        return new File(FileUtils.getSymbolIndexFilePath(dataFilePath));
+    }
+
+    /**
+     * Returns 64-bit key of the specified record and symbol that is used in bloom filters of blocks.
+     * The key depends only on the record name and on the chars of the symbol.
+     */
+    public static long getSymbolKey(String recordName, String symbol) {
+        long h = 0xcbf29ce484222325L; // FNV-1a
+        for (int i = 0; i < recordName.length(); i++) {
+            h = (h ^ recordName.charAt(i)) * 0x100000001b3L;
+        }
+        h = (h ^ 0xffff) * 0x100000001b3L; // separator that never occurs in record names
+        for (int i = 0; i < symbol.length(); i++) {
+            h = (h ^ symbol.charAt(i)) * 0x100000001b3L;
+        }
+        // final mix to spread bits for bloom filter probes
+        h = (h ^ (h >>> 33)) * 0xff51afd7ed558ccdL;
+        h = (h ^ (h >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return h ^ (h >>> 33);
+    }
+
+    /**
+     * Reads index from the specified file.
+     * @throws IOException if an I/O error occurs or the file is not a valid symbol index.
+     */
+    public static SymbolIndex read(File file) throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file.toPath()))) {
+            return read(in);
+        }
+    }
+
+    static SymbolIndex read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC)
+            throw new IOException("Not a symbol index file");
+        int version = data.readInt();
+        if (version != VERSION)
+            throw new IOException("Unsupported symbol index version " + version);
+        try {
+            List<IndexedMessage> messages = IndexedMessage.readList(data);
+            int size = data.readInt();
+            if (size < 0)
+                throw new IOException("Corrupted symbol index");
+            long[] positions = new long[size];
+            long[][] filters = new long[size][];
+            for (int i = 0; i < size; i++) {
+                positions[i] = data.readLong();
+                int length = data.readInt();
+                if (length < -1 || i > 0 && positions[i] <= positions[i - 1])
+                    throw new IOException("Corrupted symbol index");
+                if (length >= 0) {
+                    if (Integer.bitCount(length) != 1)
+                        throw new IOException("Corrupted symbol index");
+                    long[] filter = new long[length];
+                    for (int j = 0; j < length; j++) {
+                        filter[j] = data.readLong();
+                    }
+                    filters[i] = filter;
+                }
+            }
+            long endPosition = data.readLong();
+            if (size > 0 && endPosition <= positions[size - 1])
+                throw new IOException("Corrupted symbol index");
+            return new SymbolIndex(messages, positions, filters, endPosition);
+        } catch (EOFException e) {
+            throw new IOException("Symbol index is truncated", e);
+        }
+    }
+
+    /**
+     * Writes this index into the specified file. The file is written into a temporary file first
+     * and is atomically moved into place.
+     */
+    public void write(File file) throws IOException {
+        Path path = file.toPath();
+        Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tmp))) {
+            write(out);
+        }
+        FileUtils.tryAtomicFileMove(tmp, path, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    void write(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        IndexedMessage.writeList(data, messages);
+        data.writeInt(positions.length);
+        for (int i = 0; i < positions.length; i++) {
+            data.writeLong(positions[i]);
+            long[] filter = filters[i];
+            if (filter == null) {
+                data.writeInt(-1);
+            } else {
+                data.writeInt(filter.length);
+                for (long word : filter) {
+                    data.writeLong(word);
+                }
+            }
+        }
+        data.writeLong(endPosition);
+        data.flush();
+    }
+
+    /**
+     * Returns number of blocks in this index.
+     */
+    public int size() {
+        return positions.length;
+    }
+
+    public long getPosition(int index) {
+        return positions[index];
+    }
+
+    public long getEndPosition(int index) {
+        return index + 1 < positions.length ? positions[index + 1] : endPosition;
+    }
+
+    /**
+     * Returns {@code true} if the specified block has messages that may contain any symbol.
+     */
+    public boolean isAnySymbol(int index) {
+        return filters[index] == null;
+    }
+
+    /**
+     * Returns {@code false} if the specified block definitely has no data with the specified
+     * {@link #getSymbolKey(String, String) key}.
+     */
+    public boolean mayContain(int index, long key) {
+        long[] filter = filters[index];
+        return filter == null || mayContain(filter, key);
+    }
+
+    static boolean mayContain(long[] filter, long key) {
+        int mask = (filter.length << 6) - 1;
+        int h1 = (int) key;
+        int h2 = (int) (key >>> 32) | 1;
+        for (int i = 0; i < HASH_COUNT; i++) {
+            int bit = (h1 + i * h2) & mask;
+            if ((filter[bit >>> 6] & (1L << bit)) == 0)
+                return false;
+        }
+        return true;
+    }
+
+    static void add(long[] filter, long key) {
+        int mask = (filter.length << 6) - 1;
+        int h1 = (int) key;
+        int h2 = (int) (key >>> 32) | 1;
+        for (int i = 0; i < HASH_COUNT; i++) {
+            int bit = (h1 + i * h2) & mask;
+            filter[bit >>> 6] |= 1L << bit;
+        }
+    }
+
+    /**
+     * Returns kept messages at the specified range of positions in the data file in their original order.
+     */
+    List<byte[]> getMessages(long fromPosition, long toPosition) {
+        // binary search for the first message at or after fromPosition
+        int lo = 0;
+        int hi = messages.size();
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (messages.get(mid).position < fromPosition)
+                lo = mid + 1;
+            else
+                hi = mid;
+        }
+        List<byte[]> result = new ArrayList<>();
+        for (int i = lo; i < messages.size() && messages.get(i).position < toPosition; i++) {
+            result.add(messages.get(i).bytes);
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    public String toString() {
+        return "SymbolIndex{" + messages.size() + " messages, " + positions.length + " blocks}";
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.devexperts.qd.qtp.file;
+
+import com.devexperts.io.BufferedInput;
+import com.devexperts.io.ByteArrayInput;
+import com.devexperts.io.ByteArrayOutput;
+import com.devexperts.io.StreamInput;
+import com.devexperts.qd.DataIterator;
+import com.devexperts.qd.DataScheme;
+import com.devexperts.qd.SubscriptionIterator;
+import com.devexperts.qd.ng.RecordCursor;
+import com.devexperts.qd.ng.RecordSource;
+import com.devexperts.qd.qtp.AbstractQTPParser;
+import com.devexperts.qd.qtp.HeartbeatPayload;
+import com.devexperts.qd.qtp.MessageConsumerAdapter;
+import com.devexperts.qd.qtp.MessageType;
+import com.devexperts.util.LongHashSet;
+import com.devexperts.util.LongIterator;
+
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Builds {@link SymbolIndex} for a tape file in binary format. Keys of (record, symbol) pairs are given to the builder
+ * with {@link #addSymbol(String, String)} before the bytes of the messages with the corresponding data are
+ * {@link #append(byte[], int, int) appended}. A block is completed at the end of an append when it is at a message
+ * boundary and has at least the specified number of bytes.
+ *
+ * <p>This class is not thread-safe.
+ */
+public class SymbolIndexBuilder {
+    private static final int BITS_PER_KEY = 10;
+    private static final int MAX_FILTER_WORDS = 1 << 24;
+    private static final int DETECT_LENGTH = 16; // enough for text format prefixes
+
+    private final long blockSize;
+
+    private final List<IndexedMessage> messages = new ArrayList<>();
+    private long[] positions = new long[16];
+    private long[][] filters = new long[16][];
+    private int size;
+
+    private final LongHashSet keys = new LongHashSet();
+    private boolean anySymbol;
+    private long blockPosition;
+    private IndexedMessage lastHeartbeat; // of the current block
+
+    private final MessageScanner scanner = new MessageScanner() {
+        @Override
+        protected void heartbeatScanned(long position, byte[] message, HeartbeatPayload payload) {
+            lastHeartbeat = new IndexedMessage(position, message);
+        }
+
+        @Override
+        protected void describeScanned(long position, byte[] message) {
+            messages.add(new IndexedMessage(position, message));
+        }
+    };
+
+    /**
+     * Creates builder that splits data into blocks of at least the specified number of bytes.
+     * @param blockSize minimal number of bytes in a block.
+     */
+    public SymbolIndexBuilder(long blockSize) {
+        if (blockSize <= 0)
+            throw new IllegalArgumentException("blockSize must be positive");
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * Builds symbol index for the specified tape file in binary format by parsing all its messages.
+     *
+     * @param dataFilePath path to the data file.
+     * @param blockSize minimal number of bytes in a block.
+     * @param scheme data scheme to parse data with.
+     * @throws IOException if an I/O error occurs or the file is not in binary format.
+     */
+    public static SymbolIndex build(String dataFilePath, long blockSize, DataScheme scheme) throws IOException {
+        SymbolIndexBuilder builder = new SymbolIndexBuilder(blockSize);
+        AbstractQTPParser parser = FileFormat.BINARY.createQTPParser(scheme);
+        KeysConsumer consumer = new KeysConsumer(builder);
+        ByteArrayOutput message = new ByteArrayOutput();
+        try (InputStream in = new BufferedInputStream(TimeIndexBuilder.openFile(new File(dataFilePath)))) {
+            byte[] head = new byte[DETECT_LENGTH];
+            in.mark(head.length);
+            int headLength = Math.max(in.read(head), 0);
+            in.reset();
+            if (headLength > 0 && FileFormat.detectFormat(Arrays.copyOf(head, headLength)) != FileFormat.BINARY)
+                throw new IOException("Symbol index is supported only for tape files in binary format");
+            StreamInput input = new StreamInput(in);
+            while (true) {
+                long length;
+                try {
+                    length = input.readCompactLong();
+                } catch (EOFException e) {
+                    break; // end of file at message boundary
+                }
+                if (length < 0 || length > Integer.MAX_VALUE)
+                    throw new IOException("Invalid message length " + length + " at position " + builder.getPosition());
+                message.clear();
+                message.writeCompactLong(length);
+                message.ensureCapacity(message.getPosition() + (int) length);
+                input.readFully(message.getBuffer(), message.getPosition(), (int) length);
+                message.setPosition(message.getPosition() + (int) length);
+                // parse message to learn its symbols and append it afterwards
+                parser.setInput(new ByteArrayInput(message.getBuffer(), 0, message.getPosition()));
+                parser.parse(consumer);
+                builder.append(message.getBuffer(), 0, message.getPosition());
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns number of bytes appended so far.
+     */
+    public long getPosition() {
+        return scanner.getPosition();
+    }
+
+    /**
+     * Informs builder that the data that is appended after this invocation contains the specified record and symbol.
+     */
+    public void addSymbol(String recordName, String symbol) {
+        keys.add(SymbolIndex.getSymbolKey(recordName, symbol));
+    }
+
+    /**
+     * Informs builder that the data that is appended after this invocation
+     * contains the specified {@link SymbolIndex#getSymbolKey(String, String) key}.
+     */
+    public void addSymbolKey(long key) {
+        keys.add(key);
+    }
+
+    /**
+     * Informs builder that the data that is appended after this invocation may contain any symbol.
+     */
+    public void addAnySymbol() {
+        anySymbol = true;
+    }
+
+    /**
+     * Appends the specified bytes of the data file.
+     * @throws IOException if data is not a valid binary QTP stream.
+     */
+    public void append(byte[] bytes, int offset, int length) throws IOException {
+        scanner.append(bytes, offset, length);
+        if (scanner.isAtMessageBoundary() && scanner.getPosition() - blockPosition >= blockSize)
+            completeBlock();
+    }
+
+    /**
+     * Returns symbol index for all complete messages appended so far.
+     */
+    public SymbolIndex build() {
+        if (scanner.getPosition() > blockPosition && scanner.isAtMessageBoundary())
+            completeBlock();
+        long endPosition = size == 0 ? 0 : blockPosition;
+        return new SymbolIndex(new ArrayList<>(messages),
+            Arrays.copyOf(positions, size), Arrays.copyOf(filters, size), endPosition);
+    }
+
+    private void completeBlock() {
+        if (size == positions.length) {
+            positions = Arrays.copyOf(positions, size * 2);
+            filters = Arrays.copyOf(filters, size * 2);
+        }
+        positions[size] = blockPosition;
+        filters[size] = anySymbol ? null : createFilter();
+        size++;
+        if (lastHeartbeat != null) {
+            // keep messages ordered by position -- describes after the last heartbeat go after it
+            int i = messages.size();
+            while (i > 0 && messages.get(i - 1).position > lastHeartbeat.position)
+                i--;
+            messages.add(i, lastHeartbeat);
+            lastHeartbeat = null;
+        }
+        keys.clear();
+        anySymbol = false;
+        blockPosition = scanner.getPosition();
+    }
+
+    private long[] createFilter() {
+        long bits = (long) keys.size() * BITS_PER_KEY;
+        int words = 1;
+        while (words < MAX_FILTER_WORDS && (long) words << 6 < bits)
+            words <<= 1;
+        long[] filter = new long[words];
+        for (LongIterator it = keys.longIterator(); it.hasNext(); ) {
+            SymbolIndex.add(filter, it.nextLong());
+        }
+        return filter;
+    }
+
+    private static class KeysConsumer extends MessageConsumerAdapter {
+        private final SymbolIndexBuilder builder;
+
+        KeysConsumer(SymbolIndexBuilder builder) {
+            this.builder = builder;
+        }
+
+        @Override
+        protected void processData(DataIterator iterator, MessageType message) {
+            RecordSource source = (RecordSource) iterator;
+            for (RecordCursor cursor; (cursor = source.next()) != null; ) {
+                builder.addSymbol(cursor.getRecord().getName(), cursor.getDecodedSymbol());
+            }
+        }
+
+        @Override
+        protected void processSubscription(SubscriptionIterator iterator, MessageType message) {
+            builder.addAnySymbol();
+        }
+
+        @Override
+        public void processOtherMessage(int messageTypeId, BufferedInput data, int len) {
+            builder.addAnySymbol();
+        }
+    }
+}
@@ -42,6 +42,8 @@ public class TapeConnector extends AbstractMessageConnector implements TapeConne
     private long storageSize = UNLIMITED_SIZE;
     private String opt = ProtocolOption.SUPPORTED_SET.toString();
     private String tmpDir;
+    private long timeIndex;
+    private long symbolIndex;
 
     private volatile FileWriterHandler handler;
 
@@ -265,4 +267,36 @@ public class TapeConnector extends AbstractMessageConnector implements TapeConne
             reconfigure();
         }
     }
+
+    @Override
+    public synchronized long getTimeIndex() {
+        return timeIndex;
+    }
+
+    @Override
+    @MessageConnectorProperty("Writes time index with an entry per the specified number of bytes " +
+        "alongside tape files in binary format, 0 to disable")
+    public synchronized void setTimeIndex(long timeIndex) {
+        if (this.timeIndex != timeIndex) {
+            log.info("Setting timeIndex=" + timeIndex);
+            this.timeIndex = timeIndex;
+            reconfigure();
+        }
+    }
+
+    @Override
+    public synchronized long getSymbolIndex() {
+        return symbolIndex;
+    }
+
+    @Override
+    @MessageConnectorProperty("Writes symbol index with a block per the specified number of bytes " +
+        "alongside tape files in binary format, 0 to disable")
+    public synchronized void setSymbolIndex(long symbolIndex) {
+        if (this.symbolIndex != symbolIndex) {
+            log.info("Setting symbolIndex=" + symbolIndex);
+            this.symbolIndex = symbolIndex;
+            reconfigure();
+        }
+    }
 }
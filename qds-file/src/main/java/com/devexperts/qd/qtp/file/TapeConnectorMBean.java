@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2023 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -83,4 +83,18 @@ public interface TapeConnectorMBean extends MessageConnectorMBean, FileWriterPar
     @Override
     String getTmpDir();
     void setTmpDir(String tmpDir);
+
+    /**
+     * Number of bytes between time index entries, 0 when time index is not written
+     */
+    @Override
+    long getTimeIndex();
+    void setTimeIndex(long timeIndex);
+
+    /**
+     * Number of bytes in symbol index blocks, 0 when symbol index is not written
+     */
+    @Override
+    long getSymbolIndex();
+    void setSymbolIndex(long symbolIndex);
 }
@@ -0,0 +1,172 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.devexperts.qd.qtp.file;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Binary time index of a tape file in binary format. The index is stored in a separate ".tidx" file
+ * alongside the data file and is built with {@link TimeIndexBuilder}.
+ *
+ * <p>Each entry is a pair of time and position of a message boundary in the (uncompressed) data file,
+ * such that all data before this position has time that is not greater than the time of the entry.
+ * The index also keeps all describe protocol and describe records messages of the file, so that a parser
+ * can be brought into the state it would have at any indexed position without parsing the data before it.
+ *
+ * <p>The file starts with {@link #MAGIC} and {@link #VERSION} integers, followed by a number of describe
+ * messages with their positions, lengths and bytes, followed by a number of entries with their times and positions.
+ * All numbers are written in big-endian order.
+ */
+public class TimeIndex {
+    static final int MAGIC = 0x51445449; // "QDTI"
+    static final int VERSION = 1;
+
+    private final List<IndexedMessage> describes;
+    private final long[] times;
+    private final long[] positions;
+
+    TimeIndex(List<IndexedMessage> describes, long[] times, long[] positions) {
+        this.describes = describes;
+        this.times = times;
+        this.positions = positions;
+    }
+
+    /**
+     * Returns time index file for the specified data file. The index file has ".tidx" extension instead of
+     * the extension of the data file and its compression.
+     */
+    public static File getIndexFile(String dataFilePath) {
+        return new File(FileUtils.getTimeIndexFilePath(dataFilePath));
+    }
+
+    /**
+     * Reads index from the specified file.
+     * @throws IOException if an I/O error occurs or the file is not a valid time index.
+     */
+    public static TimeIndex read(File file) throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file.toPath()))) {
+            return read(in);
+        }
+    }
+
+    static TimeIndex read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC)
+            throw new IOException("Not a time index file");
+        int version = data.readInt();
+        if (version != VERSION)
+            throw new IOException("Unsupported time index version " + version);
+        List<IndexedMessage> describes = IndexedMessage.readList(data);
+        int size = data.readInt();
+        if (size < 0)
+            throw new IOException("Corrupted time index");
+        long[] times = new long[size];
+        long[] positions = new long[size];
+        try {
+            for (int i = 0; i < size; i++) {
+                times[i] = data.readLong();
+                positions[i] = data.readLong();
+            }
+        } catch (EOFException e) {
+            throw new IOException("Time index is truncated", e);
+        }
+        return new TimeIndex(describes, times, positions);
+    }
+
+    /**
+     * Writes this index into the specified file. The file is written into a temporary file first
+     * and is atomically moved into place.
+     */
+    public void write(File file) throws IOException {
+        Path path = file.toPath();
+        Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tmp))) {
+            write(out);
+        }
+        FileUtils.tryAtomicFileMove(tmp, path, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    void write(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        IndexedMessage.writeList(data, describes);
+        data.writeInt(times.length);
+        for (int i = 0; i < times.length; i++) {
+            data.writeLong(times[i]);
+            data.writeLong(positions[i]);
+        }
+        data.flush();
+    }
+
+    /**
+     * Returns number of entries in this index.
+     */
+    public int size() {
+        return times.length;
+    }
+
+    public long getTime(int index) {
+        return times[index];
+    }
+
+    public long getPosition(int index) {
+        return positions[index];
+    }
+
+    /**
+     * Returns index of the last entry before which all data has time less than the specified start time,
+     * or {@code -1} if there is no such entry.
+     */
+    public int findEntry(long startTime) {
+        int i = Arrays.binarySearch(times, startTime);
+        if (i >= 0) {
+            while (i > 0 && times[i - 1] == startTime)
+                i--;
+        } else {
+            i = -i - 1;
+        }
+        return i - 1;
+    }
+
+    /**
+     * Returns describe messages that precede the specified position in the data file in their original order.
+     */
+    List<byte[]> getDescribesBefore(long position) {
+        List<byte[]> result = new ArrayList<>();
+        for (IndexedMessage describe : describes) {
+            if (describe.position >= position)
+                break;
+            result.add(describe.bytes);
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    public String toString() {
+        return "TimeIndex{" + describes.size() + " describes, " + times.length + " entries}";
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * !++
+ * QDS - Quick Data Signalling Library
+ * !-
+ * Copyright (C) 2002 - 2026 Devexperts LLC
+ * !-
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+ * If a copy of the MPL was not distributed with this file, You can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ * !__
+ */
+package com.devexperts.qd.qtp.file;
+
+import com.devexperts.io.StreamCompression;
+import com.devexperts.qd.qtp.FileConstants;
+import com.devexperts.qd.qtp.HeartbeatPayload;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Builds {@link TimeIndex} for a tape file in binary format by scanning its bytes incrementally.
+ * Only message headers, heartbeats and describe messages are looked at, the data itself is not parsed.
+ * Times are learnt from heartbeat messages in the data and from the explicit invocations of {@link #updateTime(long)}.
+ *
+ * <p>This class is not thread-safe.
+ */
+public class TimeIndexBuilder {
+    private final long interval;
+
+    private final List<IndexedMessage> describes = new ArrayList<>();
+    private long[] times = new long[16];
+    private long[] positions = new long[16];
+    private int size;
+
+    private long maxTime = Long.MIN_VALUE;
+    private long lastEntryPosition;
+
+    private final MessageScanner scanner = new MessageScanner() {
+        @Override
+        protected void messageStarted(long position) {
+            addEntry(position);
+        }
+
+        @Override
+        protected void heartbeatScanned(long position, byte[] message, HeartbeatPayload payload) {
+            if (payload.hasTimeMillis())
+                updateTime(payload.getTimeMillis());
+        }
+
+        @Override
+        protected void describeScanned(long position, byte[] message) {
+            describes.add(new IndexedMessage(position, message));
+        }
+    };
+
+    /**
+     * Creates builder that adds an index entry at most once per the specified number of bytes.
+     * @param interval minimal number of bytes between index entries.
+     */
+    public TimeIndexBuilder(long interval) {
+        if (interval <= 0)
+            throw new IllegalArgumentException("interval must be positive");
+        this.interval = interval;
+    }
+
+    /**
+     * Builds time index for the specified tape file in binary format. Times are taken from the corresponding
+     * ".time" file if it exists and from heartbeat messages in the data file otherwise.
+     *
+     * @param dataFilePath path to the data file.
+     * @param interval minimal number of bytes between index entries.
+     * @throws IOException if an I/O error occurs or the file is not in binary format.
+     */
+    public static TimeIndex build(String dataFilePath, long interval) throws IOException {
+        StreamCompression compression = StreamCompression.detectCompressionByExtension(dataFilePath);
+        String containerExtension = compression.getExtension();
+        String dataFileExtension = FileUtils.retrieveExtension(compression.stripExtension(dataFilePath));
+        File timeFile = new File(FileUtils.getTimeFilePath(dataFilePath, dataFileExtension, containerExtension));
+        TimeIndexBuilder builder = new TimeIndexBuilder(interval);
+        try (InputStream in = openFile(new File(dataFilePath));
+            BufferedReader timeIn = timeFile.exists() ?
+                new BufferedReader(new InputStreamReader(openFile(timeFile))) : null)
+        {
+            TimestampedPosition next = timeIn == null ? null : TimestampedPosition.readFrom(timeIn);
+            byte[] buffer = new byte[FileConstants.CHUNK_SIZE];
+            boolean first = true;
+            int n;
+            while ((n = in.read(buffer)) > 0) {
+                if (first && FileFormat.detectFormat(Arrays.copyOf(buffer, n)) != FileFormat.BINARY)
+                    throw new IOException("Time index is supported only for tape files in binary format");
+                first = false;
+                int offset = 0;
+                while (offset < n) {
+                    while (next != null && next.getPosition() <= builder.getPosition()) {
+                        builder.updateTime(next.getTime());
+                        next = TimestampedPosition.readFrom(timeIn);
+                    }
+                    int length = next == null ? n - offset :
+                        (int) Math.min(n - offset, next.getPosition() - builder.getPosition());
+                    builder.append(buffer, offset, length);
+                    offset += length;
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    static InputStream openFile(File file) throws IOException {
+        InputStream in = new BufferedInputStream(Files.newInputStream(file.toPath()));
+        return StreamCompression.detectCompressionByHeader(in).decompress(in);
+    }
+
+    /**
+     * Returns number of bytes appended so far.
+     */
+    public long getPosition() {
+        return scanner.getPosition();
+    }
+
+    /**
+     * Informs builder that the data that is appended after this invocation has the specified time.
+     */
+    public void updateTime(long time) {
+        if (time > maxTime)
+            maxTime = time;
+    }
+
+    /**
+     * Appends the specified bytes of the data file.
+     * @throws IOException if data is not a valid binary QTP stream.
+     */
+    public void append(byte[] bytes, int offset, int length) throws IOException {
+        scanner.append(bytes, offset, length);
+    }
+
+    /**
+     * Returns time index for all bytes appended so far.
+     */
+    public TimeIndex build() {
+        return new TimeIndex(new ArrayList<>(describes), Arrays.copyOf(times, size), Arrays.copyOf(positions, size));
+    }
+
+    private void addEntry(long position) {
+        if (maxTime == Long.MIN_VALUE)
+            return; // nothing is known about time yet
+        if (size > 0 && times[size - 1] == maxTime) {
+            // move entry with the same time forward
+            positions[size - 1] = position;
+            lastEntryPosition = position;
+            return;
+        }
+        if (position - lastEntryPosition < interval)
+            return;
+        if (size == times.length) {
+            times = Arrays.copyOf(times, size * 2);
+            positions = Arrays.copyOf(positions, size * 2);
+        }
+        times[size] = maxTime;
+        positions[size] = position;
+        size++;
+        lastEntryPosition = position;
+    }
+}
@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2025 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -16,6 +16,7 @@ import com.devexperts.mars.common.MARSNode;
 import com.devexperts.mars.jvm.CpuCounter;
 import com.devexperts.qd.QDFactory;
 import com.devexperts.qd.qtp.MessageConnector;
+import com.devexperts.qd.stats.LatencyHistogram;
 import com.devexperts.qd.stats.QDStats;
 import com.devexperts.util.SystemProperties;
 import com.devexperts.util.TimeFormat;
@@ -60,6 +61,10 @@ public class ConnectorsMonitoringTask implements Runnable {
     private final MARSNode droppedNode;
     private final MARSNode droppedLogNode;
     private final MARSNode stickySubNode;
+    private final MARSNode retrieveLatencyNode; // null when latencies are not tracked
+    private final MARSNode writeLatencyNode; // null when latencies are not tracked
+    private LatencyHistogram prevRetrieveLatency;
+    private LatencyHistogram prevWriteLatency;
     private final Queue<String> queueDroppedLog = new ConcurrentLinkedQueue<>();
     private long prevDropped;
     private boolean closed;
@@ -146,6 +151,15 @@ public class ConnectorsMonitoringTask implements Runnable {
         this.bufferNode = node.subNode("buffer", "Total outgoing buffer size");
         this.droppedNode = node.subNode("dropped", "Total dropped records");
         this.droppedLogNode = node.subNode("dropped_log", "Last message about dropped records");
+        if (QDStats.isLatencyTracked()) {
+            this.retrieveLatencyNode = node.subNode("retrieve_latency",
+                "99th percentile of latency from ingest to agent retrieval in microseconds");
+            this.writeLatencyNode = node.subNode("write_latency",
+                "99th percentile of latency from ingest to connection write in microseconds");
+        } else {
+            this.retrieveLatencyNode = null;
+            this.writeLatencyNode = null;
+        }
 
         rootCounters = new IOCounters(null, node);
 
@@ -250,6 +264,26 @@ public class ConnectorsMonitoringTask implements Runnable {
             droppedLogNode.setValue(TimeFormat.GMT.withTimeZone().format(System.currentTimeMillis()) + " " + s);
         }
 
+        // latencies for the last period
+        LatencyHistogram retrieveLatency = null;
+        LatencyHistogram writeLatency = null;
+        if (QDStats.isLatencyTracked()) {
+            LatencyHistogram totalRetrieveLatency = new LatencyHistogram();
+            for (QDStats stats : rootStats) {
+                totalRetrieveLatency.add(stats.getLatencyHistogram(QDStats.LatencyPoint.RETRIEVE, false));
+            }
+            LatencyHistogram totalWriteLatency = new LatencyHistogram();
+            for (MessageConnector connector : connectors) {
+                totalWriteLatency.add(connector.getStats().getLatencyHistogram(QDStats.LatencyPoint.WRITE, false));
+            }
+            retrieveLatency = totalRetrieveLatency.delta(prevRetrieveLatency);
+            writeLatency = totalWriteLatency.delta(prevWriteLatency);
+            prevRetrieveLatency = totalRetrieveLatency;
+            prevWriteLatency = totalWriteLatency;
+            retrieveLatencyNode.setDoubleValue(retrieveLatency.getValueAtPercentile(99));
+            writeLatencyNode.setDoubleValue(writeLatency.getValueAtPercentile(99));
+        }
+
         rootCounters.beforeAggregate();
         snapshot.values().forEach(IOCounter::resetUnused);
         countersByName.values().forEach(IOCounters::beforeAggregate);
@@ -321,6 +355,13 @@ public class ConnectorsMonitoringTask implements Runnable {
             .append("; ");
         rootCounters.report(integerFormat, elapsedTime, buff);
         buff.append("; CPU: ").append(percentFormat.format(cpu.getCpuUsage()));
+        if (retrieveLatency != null) {
+            buff.append("; Latency p99/p999: retrieve ")
+                .append(integerFormat.format(retrieveLatency.getValueAtPercentile(99))).append("/")
+                .append(integerFormat.format(retrieveLatency.getValueAtPercentile(99.9))).append(" us, write ")
+                .append(integerFormat.format(writeLatency.getValueAtPercentile(99))).append("/")
+                .append(integerFormat.format(writeLatency.getValueAtPercentile(99.9))).append(" us");
+        }
 
         // Calculate string lengths for formatting
         int maxNameLen = 0;
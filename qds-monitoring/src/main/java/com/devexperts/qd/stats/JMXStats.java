@@ -2,7 +2,7 @@
  * !++
  * QDS - Quick Data Signalling Library
  * !-
- * Copyright (C) 2002 - 2024 Devexperts LLC
+ * Copyright (C) 2002 - 2026 Devexperts LLC
  * !-
  * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
  * If a copy of the MPL was not distributed with this file, You can obtain one at
@@ -55,6 +55,8 @@ public class JMXStats extends QDStats implements DynamicMBean, MBeanRegistration
 
     private static final String ARRAY_ATTR_SUFFIX = "Array*";
     private static final String TOP_ATTR_SUFFIX = "Top*";
+    private static final String LATENCY_ATTR_SUFFIX = "Latency";
+    private static final String LATENCY_BY_RECORD_ATTR_SUFFIX = "LatencyByRecord";
     private static final int TOP_COUNT = 5;
 
     private static final Map<String, MBeanAttributeInfo> ATTRIBUTE_MAP = new HashMap<>();
@@ -101,6 +103,21 @@ public class JMXStats extends QDStats implements DynamicMBean, MBeanRegistration
                 }
             }
         }
+        if (isLatencyTracked()) {
+            // latencies are tracked in connection stats and in per-collector latency stats
+            for (LatencyPoint point : LatencyPoint.values()) {
+                MBeanAttributeInfo latencyAttr =
+                    createJXMAttr(point.getName() + LATENCY_ATTR_SUFFIX, STRING_CLASS_NAME);
+                MBeanAttributeInfo byRecordAttr =
+                    createJXMAttr(point.getName() + LATENCY_BY_RECORD_ATTR_SUFFIX, STRING_CLASS_NAME);
+                for (int f = 0; f < FLAG_COUNT; f++) {
+                    if ((f & FLAG_RID) != 0 && (f & FLAG_MEM) == 0) {
+                        al[f].add(latencyAttr);
+                        al[f].add(byRecordAttr);
+                    }
+                }
+            }
+        }
         ArrayList<MBeanAttributeInfo> allAttributes = al[FLAG_COUNT - 1];
         for (MBeanAttributeInfo attr : allAttributes) {
             ATTRIBUTE_MAP.put(attr.getName(), attr);
@@ -332,6 +349,15 @@ public class JMXStats extends QDStats implements DynamicMBean, MBeanRegistration
                 addValues(SValue.valueOf(name.substring(0, name.length() - TOP_ATTR_SUFFIX.length())), false, v);
                 return findTop(v);
             }
+            if (name.endsWith(LATENCY_ATTR_SUFFIX)) {
+                return getLatencyHistogram(
+                    findLatencyPoint(name.substring(0, name.length() - LATENCY_ATTR_SUFFIX.length())), false)
+                    .toString();
+            }
+            if (name.endsWith(LATENCY_BY_RECORD_ATTR_SUFFIX)) {
+                return formatLatencies(getLatencyHistograms(
+                    findLatencyPoint(name.substring(0, name.length() - LATENCY_BY_RECORD_ATTR_SUFFIX.length())), false));
+            }
             throw new AttributeNotFoundException(attribute);
         } catch (RuntimeException e) {
             log.error("Unexpected JMX exception", e);
@@ -377,6 +403,27 @@ public class JMXStats extends QDStats implements DynamicMBean, MBeanRegistration
         return CollectorCountersImpl.reportCounters(getScheme(), counters, format, topSize);
     }
 
+    private static LatencyPoint findLatencyPoint(String name) {
+        for (LatencyPoint point : LatencyPoint.values()) {
+            if (point.getName().equals(name))
+                return point;
+        }
+        throw new IllegalArgumentException("Unknown latency point: " + name);
+    }
+
+    private String formatLatencies(LatencyHistogram[] histograms) {
+        StringBuilder sb = new StringBuilder();
+        for (int rid = 0; rid < histograms.length; rid++) {
+            if (histograms[rid] == null)
+                continue;
+            if (sb.length() > 0)
+                sb.append("; ");
+            sb.append(getScheme() == null ? String.valueOf(rid) : getScheme().getRecord(rid).getName())
+                .append(": ").append(histograms[rid]);
+        }
+        return sb.toString();
+    }
+
     private String findTop(long[] v) {
         if (v.length == 0)
             return "";